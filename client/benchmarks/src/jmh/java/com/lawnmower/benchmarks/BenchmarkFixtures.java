@@ -0,0 +1,107 @@
+package com.lawnmower.benchmarks;
+
+import lawnmower.Message;
+
+import java.util.Random;
+
+/**
+ * 基准测试用的确定性同步数据：同样的参数总是生成同样的消息，保证不同提交之间的数字可比
+ */
+public final class BenchmarkFixtures {
+
+    public static final int SELF_PLAYER_ID = 1;
+    public static final int ROOM_ID = 1;
+    public static final int PLAYER_COUNT = 4;
+    public static final float WORLD_WIDTH = 1280f;
+    public static final float WORLD_HEIGHT = 720f;
+
+    private static final long SEED = 20240601L;
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 全量快照：PLAYER_COUNT 个玩家 + enemyCount 个僵尸，敌人 ID 从 1 开始连续编号
+     */
+    public static Message.S2C_GameStateSync fullSync(int enemyCount, long serverTimeMs, int tick) {
+        Random random = new Random(SEED);
+        Message.S2C_GameStateSync.Builder builder = Message.S2C_GameStateSync.newBuilder()
+                .setSyncTime(timestamp(serverTimeMs, tick))
+                .setRoomId(ROOM_ID)
+                .setIsFullSnapshot(true);
+        for (int i = 0; i < PLAYER_COUNT; i++) {
+            builder.addPlayers(Message.PlayerState.newBuilder()
+                    .setPlayerId(SELF_PLAYER_ID + i)
+                    .setPosition(vector(WORLD_WIDTH / 2f + i * 40f, WORLD_HEIGHT / 2f))
+                    .setHealth(100)
+                    .setMaxHealth(100)
+                    .setLevel(1)
+                    .setIsAlive(true)
+                    .setIsFriendly(true)
+                    .setMoveSpeed(200f));
+        }
+        for (int i = 0; i < enemyCount; i++) {
+            builder.addEnemies(Message.EnemyState.newBuilder()
+                    .setEnemyId(i + 1)
+                    .setTypeId(1)
+                    .setPosition(vector(random.nextFloat() * WORLD_WIDTH, random.nextFloat() * WORLD_HEIGHT))
+                    .setHealth(100)
+                    .setMaxHealth(100)
+                    .setIsAlive(true)
+                    .setWaveId(1));
+        }
+        return builder.build();
+    }
+
+    /**
+     * 典型增量：所有僵尸位置变化，约 1/20 的僵尸血量变化；所有玩家位置 + 朝向变化，本地玩家带输入确认
+     */
+    public static Message.S2C_GameStateDeltaSync deltaSync(int enemyCount, long serverTimeMs, int tick,
+                                                           int lastProcessedInputSeq) {
+        Random random = new Random(SEED + tick);
+        Message.S2C_GameStateDeltaSync.Builder builder = Message.S2C_GameStateDeltaSync.newBuilder()
+                .setSyncTime(timestamp(serverTimeMs, tick))
+                .setRoomId(ROOM_ID);
+        for (int i = 0; i < PLAYER_COUNT; i++) {
+            int mask = Message.PlayerDeltaMask.PLAYER_DELTA_POSITION_VALUE
+                    | Message.PlayerDeltaMask.PLAYER_DELTA_ROTATION_VALUE;
+            Message.PlayerStateDelta.Builder player = Message.PlayerStateDelta.newBuilder()
+                    .setPlayerId(SELF_PLAYER_ID + i)
+                    .setPosition(vector(WORLD_WIDTH / 2f + i * 40f + tick, WORLD_HEIGHT / 2f))
+                    .setRotation(tick % 360);
+            if (i == 0) {
+                mask |= Message.PlayerDeltaMask.PLAYER_DELTA_LAST_PROCESSED_INPUT_SEQ_VALUE;
+                player.setLastProcessedInputSeq(lastProcessedInputSeq);
+            }
+            builder.addPlayers(player.setChangedMask(mask));
+        }
+        for (int i = 0; i < enemyCount; i++) {
+            int mask = Message.EnemyDeltaMask.ENEMY_DELTA_POSITION_VALUE;
+            Message.EnemyStateDelta.Builder enemy = Message.EnemyStateDelta.newBuilder()
+                    .setEnemyId(i + 1)
+                    .setPosition(vector(random.nextFloat() * WORLD_WIDTH, random.nextFloat() * WORLD_HEIGHT));
+            if (random.nextInt(20) == 0) {
+                mask |= Message.EnemyDeltaMask.ENEMY_DELTA_HEALTH_VALUE;
+                enemy.setHealth(50 + random.nextInt(50));
+            }
+            builder.addEnemies(enemy.setChangedMask(mask));
+        }
+        return builder.build();
+    }
+
+    public static byte[] encode(Message.MessageType type, com.google.protobuf.MessageLite payload) {
+        return Message.Packet.newBuilder()
+                .setMsgType(type)
+                .setPayload(payload.toByteString())
+                .build()
+                .toByteArray();
+    }
+
+    public static Message.Timestamp timestamp(long serverTimeMs, int tick) {
+        return Message.Timestamp.newBuilder().setServerTime(serverTimeMs).setTick(tick).build();
+    }
+
+    public static Message.Vector2 vector(float x, float y) {
+        return Message.Vector2.newBuilder().setX(x).setY(y).build();
+    }
+}
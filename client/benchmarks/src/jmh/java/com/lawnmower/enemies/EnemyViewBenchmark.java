@@ -0,0 +1,59 @@
+package com.lawnmower.enemies;
+
+import com.badlogic.gdx.math.Vector2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 单个僵尸的插值采样：快照缓冲保持在 30Hz 同步下的稳态长度（约 800ms）
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EnemyViewBenchmark {
+
+    private static final long SYNC_INTERVAL_MS = 33L;
+    private static final int SNAPSHOTS = 25;
+    private static final long FIRST_SERVER_TIME_MS = 10_000L;
+
+    private EnemyView view;
+    private long newestServerTimeMs;
+    private long cursor;
+
+    @Setup
+    public void setup() {
+        view = new EnemyView(1, 1280f, 720f);
+        Vector2 position = new Vector2(100f, 100f);
+        for (int i = 0; i < SNAPSHOTS; i++) {
+            long serverTime = FIRST_SERVER_TIME_MS + i * SYNC_INTERVAL_MS;
+            position.add(1.3f, 0.7f);
+            view.updateFromServer(1, true, 100, 100, position, serverTime, null, null, null);
+            newestServerTimeMs = serverTime;
+        }
+    }
+
+    /**
+     * 渲染时间落在缓冲中部（常规插值，约 100ms 渲染延迟）
+     */
+    @Benchmark
+    public Vector2 sampleInterpolated() {
+        cursor = (cursor + 7L) % SYNC_INTERVAL_MS;
+        return view.samplePosition(newestServerTimeMs - 100L - cursor);
+    }
+
+    /**
+     * 渲染时间超过最新快照（快照迟到时的外推路径，需要遍历整个缓冲）
+     */
+    @Benchmark
+    public Vector2 sampleExtrapolated() {
+        cursor = (cursor + 7L) % SYNC_INTERVAL_MS;
+        return view.samplePosition(newestServerTimeMs + 20L + cursor);
+    }
+}
@@ -0,0 +1,77 @@
+package com.lawnmower.network;
+
+import com.lawnmower.benchmarks.BenchmarkFixtures;
+import lawnmower.Message;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 上行输入的编码：模板直写复用缓冲区（UdpClient 的快路径）与构建 Packet 再序列化的回退路径，
+ * reliable = true 时带可靠层头部（已收到过下行数据报，头部含 ack / ack_bits / applied_tick）
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InputEncodeBenchmark {
+
+    @Param({"false", "true"})
+    public boolean reliable;
+
+    private final byte[] buffer = new byte[512];
+    private InputPacketTemplate template;
+    private ReliableUdpChannel reliability;
+    private Message.C2S_PlayerInput input;
+
+    @Setup
+    public void setup() {
+        template = new InputPacketTemplate(BenchmarkFixtures.SELF_PLAYER_ID, "benchmark-session-token");
+        input = Message.C2S_PlayerInput.newBuilder()
+                .setPlayerId(BenchmarkFixtures.SELF_PLAYER_ID)
+                .setMoveDirection(Message.Vector2.newBuilder().setX(0.70710677f).setY(-0.70710677f))
+                .setIsAttacking(true)
+                .setInputSeq(12_345)
+                .setDeltaMs(16)
+                .build();
+        if (reliable) {
+            reliability = new ReliableUdpChannel();
+            for (int seq = 1; seq <= 40; seq += 3) {
+                reliability.receive(Message.Packet.newBuilder()
+                        .setSeq(seq)
+                        .setEpoch(1)
+                        .setChannel(Message.UdpChannel.UDP_CHANNEL_UNRELIABLE_SEQUENCED)
+                        .setChannelSeq(seq)
+                        .build());
+            }
+            reliability.acknowledgeTick(10_000L);
+        }
+    }
+
+    @Benchmark
+    public int encodeTemplate() {
+        int length = template.encode(input, buffer);
+        if (reliability != null) {
+            length = reliability.writeHeader(buffer, length);
+        }
+        return length;
+    }
+
+    @Benchmark
+    public byte[] encodePacket() {
+        Message.Packet packet = Message.Packet.newBuilder()
+                .setMsgType(Message.MessageType.MSG_C2S_PLAYER_INPUT)
+                .setPayload(template.withSessionToken(input).toByteString())
+                .build();
+        if (reliability != null) {
+            packet = reliability.stamp(packet, Message.UdpChannel.UDP_CHANNEL_UNRELIABLE);
+        }
+        return packet.toByteArray();
+    }
+}
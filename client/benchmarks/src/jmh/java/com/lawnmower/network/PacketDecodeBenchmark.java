@@ -0,0 +1,48 @@
+package com.lawnmower.network;
+
+import com.lawnmower.benchmarks.BenchmarkFixtures;
+import lawnmower.Message;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 收包解码：Packet 外壳 + 按消息类型解析 payload，与网络线程上的路径一致
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PacketDecodeBenchmark {
+
+    @Param({"100", "1000", "5000"})
+    public int enemies;
+
+    private byte[] deltaPacket;
+    private byte[] fullSyncPacket;
+
+    @Setup
+    public void setup() {
+        deltaPacket = BenchmarkFixtures.encode(Message.MessageType.MSG_S2C_GAME_STATE_DELTA_SYNC,
+                BenchmarkFixtures.deltaSync(enemies, 10_000L, 300, 42));
+        fullSyncPacket = BenchmarkFixtures.encode(Message.MessageType.MSG_S2C_GAME_STATE_SYNC,
+                BenchmarkFixtures.fullSync(enemies, 10_000L, 300));
+    }
+
+    @Benchmark
+    public Object decodeDeltaSync() throws IOException {
+        return PacketHandler.parsePayload(Message.Packet.parseFrom(deltaPacket));
+    }
+
+    @Benchmark
+    public Object decodeFullSync() throws IOException {
+        return PacketHandler.parsePayload(Message.Packet.parseFrom(fullSyncPacket));
+    }
+}
@@ -0,0 +1,81 @@
+package com.lawnmower.screens;
+
+import com.lawnmower.Main;
+import com.lawnmower.benchmarks.BenchmarkFixtures;
+import com.lawnmower.headless.HeadlessEnvironment;
+import lawnmower.Message;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GameScreen 每次同步 / 每帧都会走到的世界状态热点：增量合并、最近目标查找、渲染延迟估算。
+ * 屏幕通过一次全量快照进入稳态，不调用 show()，因此不依赖 SpriteBatch。
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GameScreenBenchmark {
+
+    @Param({"100", "1000", "5000"})
+    public int enemies;
+
+    private GameScreen screen;
+    private List<Message.EnemyStateDelta> enemyDeltas;
+    private List<Message.PlayerStateDelta> playerDeltas;
+
+    @Setup
+    public void setup() {
+        HeadlessEnvironment.ensureInitialized();
+        Main game = new Main();
+        game.setPlayerId(BenchmarkFixtures.SELF_PLAYER_ID);
+        screen = new GameScreen(game);
+        screen.expectFullGameStateSync("benchmark");
+        screen.onGameStateReceived(BenchmarkFixtures.fullSync(enemies, 10_000L, 300));
+        Message.S2C_GameStateDeltaSync delta = BenchmarkFixtures.deltaSync(enemies, 10_033L, 301, 0);
+        enemyDeltas = delta.getEnemiesList();
+        playerDeltas = delta.getPlayersList();
+    }
+
+    @TearDown
+    public void tearDown() {
+        screen.dispose();
+    }
+
+    /**
+     * 一次增量同步中全部僵尸的合并（不含视图更新）
+     */
+    @Benchmark
+    public void mergeEnemyDeltas(Blackhole bh) {
+        for (int i = 0, n = enemyDeltas.size(); i < n; i++) {
+            bh.consume(screen.mergeEnemyDelta(enemyDeltas.get(i)));
+        }
+    }
+
+    @Benchmark
+    public void mergePlayerDeltas(Blackhole bh) {
+        for (int i = 0, n = playerDeltas.size(); i < n; i++) {
+            bh.consume(screen.mergePlayerDelta(playerDeltas.get(i)));
+        }
+    }
+
+    @Benchmark
+    public int findNearestEnemyId() {
+        return screen.findNearestEnemyId();
+    }
+
+    @Benchmark
+    public long computeRenderDelayMs() {
+        return screen.computeRenderDelayMs();
+    }
+}
@@ -0,0 +1,64 @@
+package com.lawnmower.screens;
+
+import com.badlogic.gdx.math.Vector2;
+import com.lawnmower.Main;
+import com.lawnmower.benchmarks.BenchmarkFixtures;
+import com.lawnmower.headless.HeadlessEnvironment;
+import com.lawnmower.players.PlayerStateSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 服务器校正 + 未确认输入重放。
+ * 快照确认的输入序号低于所有缓存输入，因此每次调用都会完整重放 pendingInputs 条输入且状态不被消耗。
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReconcileBenchmark {
+
+    private static final float FRAME_DELTA = 1f / 60f;
+
+    /** 60fps 下每帧换一次方向，每帧产生一条输入；上限受未确认输入的 1.5s 老化限制 */
+    @Param({"8", "32", "64"})
+    public int pendingInputs;
+
+    private GameScreen screen;
+    private PlayerStateSnapshot snapshot;
+
+    @Setup
+    public void setup() {
+        HeadlessEnvironment.ensureInitialized();
+        Main game = new Main();
+        game.setPlayerId(BenchmarkFixtures.SELF_PLAYER_ID);
+        screen = new GameScreen(game);
+        screen.expectFullGameStateSync("benchmark");
+        screen.onGameStateReceived(BenchmarkFixtures.fullSync(0, 10_000L, 300));
+        Vector2 dir = new Vector2();
+        for (int i = 0; i <= pendingInputs; i++) {
+            dir.set(1f, 0f).setAngleDeg(i * 45f);
+            screen.simulateFrame(FRAME_DELTA, dir, false);
+        }
+        snapshot = new PlayerStateSnapshot(
+                new Vector2(BenchmarkFixtures.WORLD_WIDTH / 2f, BenchmarkFixtures.WORLD_HEIGHT / 2f), 0f, -1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        screen.dispose();
+    }
+
+    @Benchmark
+    public void reconcileWithServer() {
+        screen.reconcileWithServer(snapshot);
+    }
+}
@@ -6,22 +6,42 @@ import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.MessageLite;
 import com.google.protobuf.UnknownFieldSet;
-
+import com.lawnmower.metrics.ClientMetrics;
+import com.lawnmower.metrics.HitchRecorder;
+import com.lawnmower.metrics.InputLatencyTracer;
+import com.lawnmower.metrics.MetricsRegistry;
+import com.lawnmower.metrics.MetricsSnapshotWriter;
+import com.lawnmower.metrics.jfr.PacketReceivedEvent;
+
+import com.lawnmower.network.LinkProfile;
+import com.lawnmower.network.LinkShaper;
+import com.lawnmower.network.ClientCapabilities;
+import com.lawnmower.network.InputPacketTemplate;
+import com.lawnmower.network.InterestArea;
+import com.lawnmower.network.JitterBufferEstimator;
+import com.lawnmower.network.FragmentAssembler;
+import com.lawnmower.network.PacketHandler;
+import com.lawnmower.network.ReconnectEngine;
+import com.lawnmower.network.ReliableUdpChannel;
+import com.lawnmower.network.SessionRecorder;
+import com.lawnmower.network.SessionReplayer;
 import com.lawnmower.network.TcpClient;
+import com.lawnmower.network.Transport;
 import com.lawnmower.network.UdpClient;
+import com.lawnmower.network.WorldStateModel;
 import com.lawnmower.screens.*;
 import com.lawnmower.ui.PvzSkin;
+import com.lawnmower.utils.ClientScheduler;
 
 import lawnmower.Message;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.net.SocketTimeoutException;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.net.Socket;
+import java.nio.file.Path;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class Main extends Game {
     private static final Logger log = LoggerFactory.getLogger(Main.class);
@@ -29,48 +49,261 @@ public class Main extends Game {
     // 客户端构建标识，用于确认版本
     private static final String CLIENT_BUILD_VERSION = "2026-01-24-rot-log";
     private static final long RECONNECT_GRACE_MS = 15_000L;
-    private static final long RECONNECT_RETRY_INTERVAL_MS = 1000L;
+    /** 重连期间 UDP 握手的发送时刻（相对重连开始），收到任意 UDP 数据后停止 */
+    private static final long[] UDP_REHELLO_DELAYS_MS = {0L, 50L, 100L, 200L, 400L, 800L};
+    private static final long DEFAULT_HITCH_THRESHOLD_MS = 100L;
+    /** 进入对局后 UDP 握手的最多发送次数，间隔 {@link Config#UDP_HELLO_RETRY_MS}，收到任意 UDP 数据后停止 */
+    private static final int UDP_HELLO_MAX_ATTEMPTS = 5;
     private enum ReconnectState {
         IDLE,
         RECONNECTING,
         AWAITING_SNAPSHOT
     }
+
+    /**
+     * 会话状态快照。网络线程、UDP 线程、调度线程和渲染线程都会读写，整体不可变并经 {@link #session} 以 CAS 发布，
+     * 一次 get 读到的玩家 / 房间 / 令牌 / 进度 / 重连阶段彼此一致，不必再靠 Main 上的锁
+     * @param reconnectBaseTick 断线时刻看到的服务器 tick：重连期间 UDP 可能先恢复并推进 serverTick，
+     *                          但增量续传必须从断线点算起，否则会漏掉其间被移除的实体
+     */
+    private record SessionState(int playerId, int roomId, String sessionToken, int confirmedInputSeq,
+                                long serverTick, ReconnectState reconnectState, long reconnectBaseTick) {
+
+        // 未登录时玩家 ID 为 -1
+        static final SessionState INITIAL = new SessionState(-1, 0, "", 0, -1L, ReconnectState.IDLE, -1L);
+
+        boolean hasToken() {
+            return !sessionToken.isBlank();
+        }
+
+        SessionState withPlayerId(int id) {
+            return new SessionState(id, roomId, sessionToken, confirmedInputSeq, serverTick, reconnectState,
+                    reconnectBaseTick);
+        }
+
+        SessionState withRoomId(int id) {
+            return new SessionState(playerId, id, sessionToken, confirmedInputSeq, serverTick, reconnectState,
+                    reconnectBaseTick);
+        }
+
+        SessionState withSessionToken(String token) {
+            return new SessionState(playerId, roomId, token == null ? "" : token, confirmedInputSeq, serverTick,
+                    reconnectState, reconnectBaseTick);
+        }
+
+        SessionState withConfirmedInputSeq(int seq) {
+            return new SessionState(playerId, roomId, sessionToken, seq, serverTick, reconnectState,
+                    reconnectBaseTick);
+        }
+
+        SessionState withServerTick(long tick) {
+            return new SessionState(playerId, roomId, sessionToken, confirmedInputSeq, tick, reconnectState,
+                    reconnectBaseTick);
+        }
+
+        SessionState withReconnectState(ReconnectState state) {
+            return new SessionState(playerId, roomId, sessionToken, confirmedInputSeq, serverTick, state,
+                    reconnectBaseTick);
+        }
+
+        /**
+         * 进入重连，同时记下断线点
+         */
+        SessionState beginReconnect() {
+            return new SessionState(playerId, roomId, sessionToken, confirmedInputSeq, serverTick,
+                    ReconnectState.RECONNECTING, serverTick);
+        }
+    }
+
     private Skin skin;
     private TcpClient tcpClient;
     private UdpClient udpClient;
     private String playerName = "Player";
-    private int playerId = -1; // 未登录时为 -1
-    private String sessionToken = "";
-    private long lastSocketWaitLogMs = 0L;
+    private final AtomicReference<SessionState> session = new AtomicReference<>(SessionState.INITIAL);
+    // 按当前玩家和会话令牌预编码的输入数据报模板，会话变化后下次发送时重建
+    private volatile InputPacketTemplate inputTemplate;
     private long lastUdpSyncTick = -1L;
     private long lastUdpServerTimeMs = -1L;
+    // GameScreen 确认的同步基线，UDP 客户端重建后补设
+    private volatile long acknowledgedSyncTick = 0L;
     private final AtomicBoolean roomReturnRequested = new AtomicBoolean(false);
     private volatile Message.S2C_RoomUpdate pendingRoomUpdate;
-    private int currentRoomId = 0;
-    private long lastServerTick = -1L;
-    private int lastConfirmedInputSeq = 0;
-    private volatile ReconnectState reconnectState = ReconnectState.IDLE;
-    private long reconnectStartMs = 0L;
-    private int reconnectAttempts = 0;
-    private ScheduledExecutorService reconnectExecutor;
+    // 本局增量同步的定点坐标精度（来自 SceneInfo），0 表示增量使用浮点坐标
+    private volatile int positionScale = 0;
+    // 本局服务器逻辑帧率（来自 SceneInfo），0 表示未知
+    private volatile int serverTickRate = 0;
+    private volatile float jitterPercentile = JitterBufferEstimator.DEFAULT_PERCENTILE;
+    // 当前 GameScreen 的世界状态，网络线程在投递增量前用它预合并
+    private volatile WorldStateModel worldStateModel;
+    private ReconnectEngine reconnectEngine;
+    private final ClientScheduler scheduler = new ClientScheduler("client-scheduler");
+    private ClientScheduler.Task udpHelloTask;
     private boolean allowReconnect = true;
 
     private final AtomicBoolean networkRunning = new AtomicBoolean(false);
     private final AtomicBoolean disposed = new AtomicBoolean(false);
     private Thread networkThread;
+    private Path recordPath;
+    private Path replayPath;
+    private float replaySpeed = 1f;
+    private volatile SessionRecorder sessionRecorder;
+    private SessionReplayer sessionReplayer;
+    // 录制的是原始 UDP 数据报（含分片和重传），回放时同样经过分片重组和可靠层去重 / 重排
+    private FragmentAssembler replayFragments;
+    private ReliableUdpChannel replayReliability;
+    private LinkProfile linkProfile;
+    private Path metricsPath;
+    private long metricsPeriodMs;
+    private MetricsSnapshotWriter metricsWriter;
+    private final InputLatencyTracer inputLatencyTracer = new InputLatencyTracer();
+    private Path hitchDirectory = Path.of("logs", "hitches");
+    private long hitchThresholdMs = DEFAULT_HITCH_THRESHOLD_MS;
+    private HitchRecorder hitchRecorder;
+
+    /**
+     * 录制本次会话收到的全部数据包，需在 create() 之前调用
+     */
+    public void configureRecording(Path file) {
+        this.recordPath = file;
+    }
+
+    /**
+     * 以回放模式启动：不连接服务器，按录制时间把数据包送入正常的分发路径，需在 create() 之前调用
+     * @param speed 回放倍速，1 为原速，小于等于 0 为不等待
+     */
+    public void configureReplay(Path file, float speed) {
+        this.replayPath = file;
+        this.replaySpeed = speed;
+    }
+
+    /**
+     * 本地网络模拟：TCP / UDP 的收发两个方向都按该链路整形，需在 create() 之前调用
+     */
+    public void configureLinkProfile(LinkProfile profile) {
+        this.linkProfile = profile;
+    }
+
+    /**
+     * 插值缓冲覆盖的快照到达间隔分位数（0~1），如 0.95 表示约 5% 的间隔允许短暂外推
+     */
+    public void configureJitterPercentile(float percentile) {
+        this.jitterPercentile = percentile;
+    }
+
+    public float getJitterPercentile() {
+        return jitterPercentile;
+    }
+
+    /**
+     * 按固定周期把指标快照追加写入 CSV 文件，需在 create() 之前调用；JMX 导出始终开启
+     */
+    public void configureMetricsSnapshot(Path file, long periodMs) {
+        this.metricsPath = file;
+        this.metricsPeriodMs = periodMs;
+    }
+
+    /**
+     * 卡顿报告目录与阈值，需在 create() 之前调用；阈值小于等于 0 时关闭
+     */
+    public void configureHitchRecorder(Path directory, long thresholdMs) {
+        this.hitchDirectory = directory;
+        this.hitchThresholdMs = thresholdMs;
+    }
+
+    /**
+     * @return 卡顿飞行记录仪，未启用时为 null
+     */
+    public HitchRecorder getHitchRecorder() {
+        return hitchRecorder;
+    }
+
+    /**
+     * 客户端统一定时器，Screen 在 show() 时登记周期任务、在 hide() / dispose() 时取消
+     */
+    public ClientScheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * @return 本局增量同步的定点坐标精度，0 表示未启用
+     */
+    public int getPositionScale() {
+        return positionScale;
+    }
+
+    /**
+     * GameScreen 创建时登记自己的世界状态，之后收到的增量在网络线程上预合并
+     */
+    public void attachWorldStateModel(WorldStateModel model) {
+        this.worldStateModel = model;
+    }
+
+    public void detachWorldStateModel(WorldStateModel model) {
+        if (this.worldStateModel == model) {
+            this.worldStateModel = null;
+        }
+    }
+
+    /**
+     * 在调用线程（线上为网络线程）把增量预合并到当前 GameScreen 的世界状态
+     * @return 没有登记的世界状态时返回 null，渲染线程按原地合并处理
+     */
+    public WorldStateModel.PreparedDelta prepareDelta(Message.S2C_GameStateDeltaSync delta) {
+        WorldStateModel model = worldStateModel;
+        return model == null ? null : model.prepare(delta, positionScale);
+    }
+
+    /**
+     * @return 本局服务器逻辑帧率，0 表示未知
+     */
+    public int getServerTickRate() {
+        return serverTickRate;
+    }
+
+    /**
+     * 构造登录请求，附带本客户端的能力位
+     */
+    public static Message.C2S_Login buildLoginRequest(String playerName) {
+        return Message.C2S_Login.newBuilder()
+                .setPlayerName(playerName)
+                .setCapabilities(ClientCapabilities.SUPPORTED)
+                .build();
+    }
+
+    public InputLatencyTracer getInputLatencyTracer() {
+        return inputLatencyTracer;
+    }
+
+    public boolean isReplaying() {
+        return replayPath != null;
+    }
 
     @Override
     public void create() {
         Gdx.app.log("ClientVersion", "客户端版本: " + CLIENT_BUILD_VERSION);
         //使用自定义 PVZ 风格皮肤
         skin = PvzSkin.create();
-        
+        startMetricsSnapshot();
+        if (hitchThresholdMs > 0L) {
+            hitchRecorder = new HitchRecorder(hitchDirectory, hitchThresholdMs);
+        }
+
+        if (replayPath != null) {
+            allowReconnect = false;
+            setScreen(new MainMenuScreen(Main.this, skin));
+            startReplay();
+            return;
+        }
+        openSessionRecorder();
+
         // 初始化 TCP 客户端（连接本地服务器）
         try {
             tcpClient = new TcpClient();
+            tcpClient.setInboundListener(sessionRecorder);
+            applyLinkShaping(tcpClient);
             tcpClient.connect(Config.SERVER_HOST, Config.SERVER_PORT);
             allowReconnect = true;
-            reconnectState = ReconnectState.IDLE;
+            setReconnectState(ReconnectState.IDLE);
             log.info("Connected to server {}:{}", Config.SERVER_HOST, Config.SERVER_PORT);
             startNetworkThread();
         } catch (IOException e) {
@@ -87,87 +320,11 @@ public class Main extends Game {
         networkThread = new Thread(() -> {
             while (networkRunning.get() && !Thread.currentThread().isInterrupted()) {
                 try {
-                    // 阻塞等待服务器消息
-                    long beforeRead = System.currentTimeMillis();
+                    // 阻塞等待服务器消息，不设读超时：定时工作都在 scheduler 上，关闭时由 close / interrupt 唤醒
                     Message.Packet packet = tcpClient.receivePacket();
-                    long afterRead = System.currentTimeMillis();
                     if (packet == null) break; // 连接关闭
 
-                    // 解析消息类型并分发
-                    Message.MessageType type = packet.getMsgType();
-                    Object payload = null;
-
-
-                    Gdx.app.log("当前接受",type.name());
-                    switch (type) {
-                        case MSG_S2C_LOGIN_RESULT:
-                            payload = Message.S2C_LoginResult.parseFrom(packet.getPayload());
-                            break;
-                        case MSG_S2C_RECONNECT_ACK:
-                            payload = Message.S2C_ReconnectAck.parseFrom(packet.getPayload());
-                            break;
-                        case MSG_S2C_ROOM_LIST:
-                            payload = Message.S2C_RoomList.parseFrom(packet.getPayload());
-                            break;
-                        case MSG_S2C_ROOM_UPDATE:
-                            payload = Message.S2C_RoomUpdate.parseFrom(packet.getPayload());
-                            break;
-                        case MSG_S2C_GAME_START:
-                            payload = Message.S2C_GameStart.parseFrom(packet.getPayload());
-                            break;
-                        case MSG_S2C_GAME_STATE_SYNC:
-                            payload = Message.S2C_GameStateSync.parseFrom(packet.getPayload());
-                            break;
-                        case MSG_S2C_GAME_STATE_DELTA_SYNC:
-                            payload = Message.S2C_GameStateDeltaSync.parseFrom(packet.getPayload());
-                            break;
-                        case MSG_S2C_PLAYER_HURT:
-                            payload = Message.S2C_PlayerHurt.parseFrom(packet.getPayload());
-                            break;
-                        case MSG_S2C_ENEMY_DIED:
-                            payload = Message.S2C_EnemyDied.parseFrom(packet.getPayload());
-                            break;
-                        case MSG_S2C_PLAYER_LEVEL_UP:
-                            payload = Message.S2C_PlayerLevelUp.parseFrom(packet.getPayload());
-                            break;
-                        case MSG_S2C_DROPPED_ITEM:
-                            payload = Message.S2C_DroppedItem.parseFrom(packet.getPayload());
-                            break;
-                        case MSG_S2C_GAME_OVER:
-                            payload = Message.S2C_GameOver.parseFrom(packet.getPayload());
-                            break;
-                        case MSG_S2C_PROJECTILE_SPAWN:
-                            payload = Message.S2C_ProjectileSpawn.parseFrom(packet.getPayload());
-                            break;
-        case MSG_S2C_PROJECTILE_DESPAWN:
-            payload = Message.S2C_ProjectileDespawn.parseFrom(packet.getPayload());
-            break;
-        case MSG_S2C_ENEMY_ATTACK_STATE_SYNC:
-            payload = Message.S2C_EnemyAttackStateSync.parseFrom(packet.getPayload());
-            break;
-        case MSG_S2C_UPGRADE_REQUEST:
-            payload = Message.S2C_UpgradeRequest.parseFrom(packet.getPayload());
-            break;
-        case MSG_S2C_UPGRADE_OPTIONS:
-            payload = Message.S2C_UpgradeOptions.parseFrom(packet.getPayload());
-            break;
-        case MSG_S2C_UPGRADE_SELECT_ACK:
-            payload = Message.S2C_UpgradeSelectAck.parseFrom(packet.getPayload());
-            break;
-                        // 其他未来消息可继续添加
-                        default:
-                            Gdx.app.log("NET", "Unknown message type: " + type);
-                            continue;
-                    }
-
-                    // 通知主线程处理（UI 操作必须在渲染线程）
-                    handleNetworkMessage(type, payload);
-                } catch (SocketTimeoutException e) {
-                    long now = System.currentTimeMillis();
-                    if (now - lastSocketWaitLogMs > 1000L) {
-                        lastSocketWaitLogMs = now;
-                    }
-                    continue;
+                    processTcpPacket(packet);
                 } catch (IOException e) {
                     if (networkRunning.get()) {
                         Gdx.app.log("NET", "Network error: " + e.getMessage());
@@ -189,28 +346,152 @@ public class Main extends Game {
         networkThread.start();
     }
 
+    private void applyLinkShaping(TcpClient client) {
+        if (linkProfile == null) {
+            return;
+        }
+        client.setLinkShapers(
+                new LinkShaper(linkProfile, LinkShaper.Delivery.STREAM, System.nanoTime()),
+                new LinkShaper(linkProfile, LinkShaper.Delivery.STREAM, System.nanoTime() + 1));
+        log.info("Simulating network link {}", linkProfile);
+    }
+
+    private void startMetricsSnapshot() {
+        if (metricsPath == null) {
+            return;
+        }
+        try {
+            metricsWriter = MetricsSnapshotWriter.start(MetricsRegistry.global(), metricsPath, metricsPeriodMs);
+        } catch (IOException e) {
+            log.error("Failed to open metrics snapshot file {}", metricsPath, e);
+        }
+    }
+
+    private void stopMetricsSnapshot() {
+        MetricsSnapshotWriter writer = metricsWriter;
+        metricsWriter = null;
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException e) {
+            log.warn("Failed to close metrics snapshot file", e);
+        }
+    }
+
+    private void openSessionRecorder() {
+        if (recordPath == null) {
+            return;
+        }
+        try {
+            sessionRecorder = SessionRecorder.open(recordPath);
+        } catch (IOException e) {
+            log.error("Failed to open session recording {}", recordPath, e);
+        }
+    }
+
+    private void closeSessionRecorder() {
+        SessionRecorder recorder = sessionRecorder;
+        sessionRecorder = null;
+        if (recorder == null) {
+            return;
+        }
+        try {
+            recorder.close();
+        } catch (IOException e) {
+            log.warn("Failed to close session recording", e);
+        }
+    }
+
+    private void startReplay() {
+        sessionReplayer = new SessionReplayer(replayPath, replaySpeed);
+        replayFragments = new FragmentAssembler();
+        replayReliability = new ReliableUdpChannel();
+        try {
+            sessionReplayer.start(this::processReplayedPacket, null);
+        } catch (IOException e) {
+            log.error("Failed to start replay of {}", replayPath, e);
+            sessionReplayer = null;
+        }
+    }
+
+    private void processReplayedPacket(Transport transport, Message.Packet packet) {
+        if (transport == Transport.UDP) {
+            if (FragmentAssembler.isFragment(packet)) {
+                byte[] whole = replayFragments.accept(packet, System.nanoTime());
+                if (whole == null) {
+                    return;
+                }
+                try {
+                    packet = Message.Packet.parseFrom(whole);
+                } catch (IOException e) {
+                    Gdx.app.log("REPLAY", "Failed to parse reassembled packet: " + e.getMessage());
+                    return;
+                }
+            }
+            for (Message.Packet ready : replayReliability.receive(packet)) {
+                processUdpPacket(ready);
+            }
+            return;
+        }
+        try {
+            processTcpPacket(packet);
+        } catch (IOException e) {
+            Gdx.app.log("REPLAY", "Failed to parse replayed packet: " + e.getMessage());
+        }
+    }
+
     // ———————— 公共访问方法 ————————
 
+    /**
+     * TCP 数据包分发入口，联机时由网络线程调用，回放时由回放线程调用
+     */
+    private void processTcpPacket(Message.Packet packet) throws IOException {
+        Message.MessageType type = packet.getMsgType();
+        Gdx.app.log("当前接受", type.name());
+        if (type == Message.MessageType.MSG_S2C_HEARTBEAT) {
+            inputLatencyTracer.onHeartbeatReply(System.nanoTime());
+        }
+        Object payload = parsePacketPayload(packet, type, Transport.TCP);
+        if (payload == null || type == Message.MessageType.MSG_S2C_HEARTBEAT) {
+            // 心跳回复只用于测量往返，不需要投递到渲染线程
+            return;
+        }
+        if (type == Message.MessageType.MSG_S2C_TICK_EVENT_BUNDLE) {
+            handleTickEventBundle((Message.S2C_TickEventBundle) payload);
+            return;
+        }
+        // 通知主线程处理（UI 操作必须在渲染线程）
+        handleNetworkMessage(type, payload);
+    }
+
     private void processUdpPacket(Message.Packet packet) {
         if (packet == null) {
             return;
         }
         Message.MessageType type = packet.getMsgType();
         try {
-            Object payload = parsePacketPayload(packet, type);
+            Object payload = parsePacketPayload(packet, type, Transport.UDP);
             if (payload == null) {
                 return;
             }
             if (type == Message.MessageType.MSG_S2C_GAME_STATE_SYNC) {
                 Message.S2C_GameStateSync sync = (Message.S2C_GameStateSync) payload;
                 if (shouldDropUdpSync(sync)) {
+                    ClientMetrics.SYNC_STALE_UDP.increment();
                     return;
                 }
             } else if (type == Message.MessageType.MSG_S2C_GAME_STATE_DELTA_SYNC) {
                 Message.S2C_GameStateDeltaSync delta = (Message.S2C_GameStateDeltaSync) payload;
                 if (shouldDropUdpDelta(delta)) {
+                    ClientMetrics.SYNC_STALE_UDP.increment();
                     return;
                 }
+            } else if (type == Message.MessageType.MSG_S2C_TICK_EVENT_BUNDLE) {
+                // 声明了 RELIABLE_UDP 时事件包走 UDP 可靠有序通道，到这里已去重、按序
+                handleTickEventBundle((Message.S2C_TickEventBundle) payload);
+                return;
             }
             handleNetworkMessage(type, payload);
         } catch (IOException e) {
@@ -219,6 +500,12 @@ public class Main extends Game {
     }
 
     private void handleConnectionClosed() {
+        if (session.get().reconnectState() == ReconnectState.RECONNECTING && reconnectEngine != null) {
+            // 重连请求已发出但 ack 之前连接又断开
+            reconnectEngine.retry();
+            startUdpRehello();
+            return;
+        }
         if (!allowReconnect || !shouldAttemptReconnect()) {
             Gdx.app.postRunnable(this::resetToMainMenu);
             return;
@@ -227,61 +514,43 @@ public class Main extends Game {
     }
 
     private boolean shouldAttemptReconnect() {
-        return playerId > 0 && sessionToken != null && !sessionToken.isBlank();
-    }
-
-    private Object parsePacketPayload(Message.Packet packet, Message.MessageType type) throws IOException {
-        switch (type) {
-            case MSG_S2C_LOGIN_RESULT:
-                return Message.S2C_LoginResult.parseFrom(packet.getPayload());
-            case MSG_S2C_RECONNECT_ACK:
-                return Message.S2C_ReconnectAck.parseFrom(packet.getPayload());
-            case MSG_S2C_ROOM_LIST:
-                return Message.S2C_RoomList.parseFrom(packet.getPayload());
-            case MSG_S2C_CREATE_ROOM_RESULT:
-                return Message.S2C_CreateRoomResult.parseFrom(packet.getPayload());
-            case MSG_S2C_ROOM_UPDATE:
-                return Message.S2C_RoomUpdate.parseFrom(packet.getPayload());
-            case MSG_S2C_GAME_START:
-                return Message.S2C_GameStart.parseFrom(packet.getPayload());
-            case MSG_S2C_GAME_STATE_SYNC:
-                return Message.S2C_GameStateSync.parseFrom(packet.getPayload());
-            case MSG_S2C_GAME_STATE_DELTA_SYNC:
-                return Message.S2C_GameStateDeltaSync.parseFrom(packet.getPayload());
-            case MSG_S2C_PLAYER_HURT:
-                return Message.S2C_PlayerHurt.parseFrom(packet.getPayload());
-            case MSG_S2C_ENEMY_DIED:
-                return Message.S2C_EnemyDied.parseFrom(packet.getPayload());
-            case MSG_S2C_PLAYER_LEVEL_UP:
-                return Message.S2C_PlayerLevelUp.parseFrom(packet.getPayload());
-            case MSG_S2C_DROPPED_ITEM:
-                return Message.S2C_DroppedItem.parseFrom(packet.getPayload());
-            case MSG_S2C_GAME_OVER:
-                return Message.S2C_GameOver.parseFrom(packet.getPayload());
-            case MSG_S2C_SET_READY_RESULT:
-                return Message.S2C_SetReadyResult.parseFrom(packet.getPayload());
-            case MSG_S2C_PROJECTILE_SPAWN:
-                return Message.S2C_ProjectileSpawn.parseFrom(packet.getPayload());
-        case MSG_S2C_PROJECTILE_DESPAWN:
-            return Message.S2C_ProjectileDespawn.parseFrom(packet.getPayload());
-        case MSG_S2C_ENEMY_ATTACK_STATE_SYNC:
-            return Message.S2C_EnemyAttackStateSync.parseFrom(packet.getPayload());
-        case MSG_S2C_UPGRADE_REQUEST:
-            return Message.S2C_UpgradeRequest.parseFrom(packet.getPayload());
-        case MSG_S2C_UPGRADE_OPTIONS:
-            return Message.S2C_UpgradeOptions.parseFrom(packet.getPayload());
-        case MSG_S2C_UPGRADE_SELECT_ACK:
-            return Message.S2C_UpgradeSelectAck.parseFrom(packet.getPayload());
-        default:
+        SessionState state = session.get();
+        return state.playerId() > 0 && state.hasToken();
+    }
+
+    private Object parsePacketPayload(Message.Packet packet, Message.MessageType type, Transport transport)
+            throws IOException {
+        ClientMetrics.packetIn(type);
+        PacketReceivedEvent event = new PacketReceivedEvent();
+        long decodeStart = System.nanoTime();
+        Object payload = PacketHandler.parsePayload(packet);
+        long decodeNanos = System.nanoTime() - decodeStart;
+        ClientMetrics.DECODE_TIME.recordNanosAsMicros(decodeNanos);
+        if (event.shouldCommit()) {
+            event.messageType = type.name();
+            event.size = packet.getSerializedSize();
+            event.transport = transport.name();
+            event.decodeNanos = decodeNanos;
+            event.commit();
+        }
+        if (payload == null) {
             Gdx.app.log("NET", "Unknown message type: " + type);
-            return null;
         }
+        return payload;
     }
 
     private boolean shouldDropUdpSync(Message.S2C_GameStateSync sync) {
         Message.Timestamp syncTime = sync.hasSyncTime() ? sync.getSyncTime() : null;
         long tick = extractSyncTick(syncTime);
         long serverTimeMs = extractServerTime(syncTime);
+        if (sync.getCatchUp()) {
+            // 追帧同步走可靠有序通道，已去重；tick 可能与刚应用的增量相同，交给 GameScreen 判断
+            return false;
+        }
+        if (tick >= 0 && tick == lastUdpSyncTick && sync.getPartCount() > 1) {
+            // 拆分快照的各部分 tick 相同，交给 GameScreen 按部分号去重
+            return false;
+        }
         return shouldDropUdpState(tick, serverTimeMs);
     }
 
@@ -325,20 +594,62 @@ public class Main extends Game {
     }
 
 
-    private synchronized void prepareUdpClientForMatch() {
-        if (playerId <= 0) {
+    /**
+     * UDP 客户端与握手任务由 {@link #startUdpClientIfNeeded} / {@link #startUdpHelloRetries} 自行加锁，这里不再持有 Main 的锁
+     */
+    private void prepareUdpClientForMatch() {
+        if (session.get().playerId() <= 0 || isReplaying()) {
             return;
         }
         try {
             startUdpClientIfNeeded();
             lastUdpSyncTick = -1L;
             lastUdpServerTimeMs = -1L;
-            sendInitialUdpHello();
+            startUdpHelloRetries();
         } catch (IOException e) {
             log.error("Failed to initialize UDP client", e);
         }
     }
 
+    /**
+     * 立即发一次 UDP 握手，之后按 {@link Config#UDP_HELLO_RETRY_MS} 重发，直到收到服务器的 UDP 数据或次数用完；
+     * 首个握手丢失时不必等到玩家产生输入才登记端点
+     */
+    private synchronized void startUdpHelloRetries() {
+        cancelUdpHelloRetries();
+        UdpClient client = udpClient;
+        if (client == null) {
+            return;
+        }
+        long startNanos = System.nanoTime();
+        sendInitialUdpHello();
+        int[] sent = {1};
+        ClientScheduler.Task[] self = new ClientScheduler.Task[1];
+        self[0] = udpHelloTask = scheduler.scheduleAtFixedRate("udp-hello", ClientScheduler.INLINE, () -> {
+            long lastReceive = client.getLastReceiveNanos();
+            boolean received = lastReceive != 0L && lastReceive - startNanos > 0L;
+            if (received || client != udpClient || ++sent[0] > UDP_HELLO_MAX_ATTEMPTS) {
+                finishUdpHelloRetries(self[0]);
+                return;
+            }
+            sendInitialUdpHello();
+        }, Config.UDP_HELLO_RETRY_MS, Config.UDP_HELLO_RETRY_MS);
+    }
+
+    private synchronized void finishUdpHelloRetries(ClientScheduler.Task task) {
+        task.cancel();
+        if (udpHelloTask == task) {
+            udpHelloTask = null;
+        }
+    }
+
+    private synchronized void cancelUdpHelloRetries() {
+        if (udpHelloTask != null) {
+            udpHelloTask.cancel();
+            udpHelloTask = null;
+        }
+    }
+
     private synchronized void startUdpClientIfNeeded() throws IOException {
         if (udpClient == null) {
             udpClient = new UdpClient();
@@ -347,6 +658,14 @@ public class Main extends Game {
                     Gdx.app.log("UDP", "UDP error: " + err.getMessage());
                 }
             });
+            udpClient.setInboundListener(sessionRecorder);
+            udpClient.enableReliability(scheduler);
+            udpClient.acknowledgeTick(acknowledgedSyncTick);
+            if (linkProfile != null) {
+                udpClient.setLinkShapers(
+                        new LinkShaper(linkProfile, LinkShaper.Delivery.DATAGRAM, System.nanoTime()),
+                        new LinkShaper(linkProfile, LinkShaper.Delivery.DATAGRAM, System.nanoTime() + 1));
+            }
         }
         if (!udpClient.isRunning()) {
             udpClient.start(Config.SERVER_HOST, Config.SERVER_UDP_PORT, this::processUdpPacket);
@@ -354,6 +673,7 @@ public class Main extends Game {
     }
 
     private synchronized void stopUdpClient() {
+        cancelUdpHelloRetries();
         if (udpClient == null) {
             return;
         }
@@ -361,43 +681,47 @@ public class Main extends Game {
         udpClient = null;
     }
 
+    /**
+     * 断线后同时做两件事：由 {@link ReconnectEngine} 退避 + 并发建连恢复 TCP 会话；
+     * 另开新的 UDP socket（漫游后旧 socket 绑定的本地地址可能已失效），用仍有效的会话令牌连发握手，
+     * 让服务器尽早登记新端点，状态同步不必等 TCP 重连 ack 之后才恢复
+     */
     private void beginReconnectLoop() {
-        if (reconnectState != ReconnectState.IDLE) {
-            return;
-        }
-        reconnectState = ReconnectState.RECONNECTING;
-        reconnectStartMs = System.currentTimeMillis();
-        reconnectAttempts = 0;
+        SessionState current;
+        do {
+            current = session.get();
+            if (current.reconnectState() != ReconnectState.IDLE) {
+                return;
+            }
+        } while (!session.compareAndSet(current, current.beginReconnect()));
         notifyGameScreenReconnectStart();
-        scheduleReconnectAttempt(0L);
+        ensureReconnectEngine().start();
+        startUdpRehello();
     }
 
-    private void scheduleReconnectAttempt(long delayMs) {
-        if (reconnectExecutor == null || reconnectExecutor.isShutdown()) {
-            reconnectExecutor = Executors.newSingleThreadScheduledExecutor();
+    private synchronized ReconnectEngine ensureReconnectEngine() {
+        if (reconnectEngine == null) {
+            reconnectEngine = new ReconnectEngine(scheduler, Config.SERVER_HOST, Config.SERVER_PORT, RECONNECT_GRACE_MS,
+                    new ReconnectEngine.Listener() {
+                        @Override
+                        public void onConnected(Socket socket) throws IOException {
+                            resumeTcpSession(socket);
+                        }
+
+                        @Override
+                        public void onGaveUp(String reason) {
+                            handleReconnectFailure(reason);
+                        }
+                    });
         }
-        reconnectExecutor.schedule(this::attemptReconnectOnce, delayMs, TimeUnit.MILLISECONDS);
+        return reconnectEngine;
     }
 
-    private void attemptReconnectOnce() {
-        if (reconnectState != ReconnectState.RECONNECTING) {
+    private void resumeTcpSession(Socket socket) throws IOException {
+        if (session.get().reconnectState() != ReconnectState.RECONNECTING) {
+            socket.close();
             return;
         }
-        long elapsed = System.currentTimeMillis() - reconnectStartMs;
-        if (elapsed >= RECONNECT_GRACE_MS) {
-            handleReconnectFailure("timeout");
-            return;
-        }
-        reconnectAttempts++;
-        try {
-            reconnectTcpAndSendRequest();
-        } catch (IOException e) {
-            log.warn("Reconnect attempt {} failed: {}", reconnectAttempts, e.getMessage());
-            scheduleReconnectAttempt(RECONNECT_RETRY_INTERVAL_MS);
-        }
-    }
-
-    private void reconnectTcpAndSendRequest() throws IOException {
         if (tcpClient != null) {
             try {
                 tcpClient.close();
@@ -405,40 +729,69 @@ public class Main extends Game {
             }
         }
         tcpClient = new TcpClient();
-        tcpClient.connect(Config.SERVER_HOST, Config.SERVER_PORT);
+        tcpClient.setInboundListener(sessionRecorder);
+        applyLinkShaping(tcpClient);
+        tcpClient.attach(socket);
         allowReconnect = true;
         startNetworkThread();
         sendReconnectRequest();
     }
 
+    private void startUdpRehello() {
+        try {
+            startUdpClientIfNeeded();
+        } catch (IOException e) {
+            log.warn("Failed to reopen UDP during reconnect: {}", e.getMessage());
+            return;
+        }
+        lastUdpSyncTick = -1L;
+        lastUdpServerTimeMs = -1L;
+        long startNanos = System.nanoTime();
+        for (long delayMs : UDP_REHELLO_DELAYS_MS) {
+            scheduler.schedule("udp-rehello", ClientScheduler.INLINE, () -> {
+                UdpClient client = udpClient;
+                if (session.get().reconnectState() == ReconnectState.IDLE || client == null) {
+                    return;
+                }
+                long lastReceive = client.getLastReceiveNanos();
+                if (lastReceive != 0L && lastReceive - startNanos > 0L) {
+                    return;
+                }
+                sendInitialUdpHello();
+            }, delayMs);
+        }
+    }
+
     private void sendReconnectRequest() throws IOException {
         if (tcpClient == null) {
             throw new IOException("TCP client not ready");
         }
+        SessionState state = session.get();
         Message.C2S_ReconnectRequest request = Message.C2S_ReconnectRequest.newBuilder()
-                .setPlayerId(Math.max(0, playerId))
-                .setRoomId(Math.max(0, currentRoomId))
-                .setSessionToken(sessionToken == null ? "" : sessionToken)
-                .setLastInputSeq(Math.max(0, lastConfirmedInputSeq))
-                .setLastServerTick((int) Math.max(0, lastServerTick))
+                .setPlayerId(Math.max(0, state.playerId()))
+                .setRoomId(Math.max(0, state.roomId()))
+                .setSessionToken(state.sessionToken())
+                .setLastInputSeq(Math.max(0, state.confirmedInputSeq()))
+                .setLastServerTick((int) Math.max(0, state.reconnectBaseTick()))
+                .setCapabilities(ClientCapabilities.SUPPORTED)
                 .build();
         tcpClient.sendReconnectRequest(request);
     }
 
     private void handleReconnectFailure(String reason) {
         log.warn("Reconnect failed: {}", reason);
-        stopReconnectExecutor();
-        reconnectState = ReconnectState.IDLE;
+        stopReconnectEngine();
+        setReconnectState(ReconnectState.IDLE);
         Gdx.app.postRunnable(() -> {
             notifyGameScreenReconnectFinish();
             resetToMainMenu();
         });
     }
 
-    private void stopReconnectExecutor() {
-        if (reconnectExecutor != null) {
-            reconnectExecutor.shutdownNow();
-            reconnectExecutor = null;
+    private void stopReconnectEngine() {
+        ReconnectEngine engine = reconnectEngine;
+        if (engine != null) {
+            engine.finish();
         }
     }
 
@@ -470,17 +823,31 @@ public class Main extends Game {
             handleReconnectFailure(ack.getMessage());
             return;
         }
-        stopReconnectExecutor();
+        stopReconnectEngine();
         allowReconnect = true;
-        lastServerTick = Integer.toUnsignedLong(ack.getServerTick());
-        if (!ack.getSessionToken().isBlank()) {
-            setSessionToken(ack.getSessionToken());
-        }
-        updateActiveRoomId((int) ack.getRoomId());
-        setPlayerId((int) ack.getPlayerId());
+        // tick / 令牌 / 房间 / 玩家与重连阶段一次发布，读方不会看到只更新了一半的会话
+        long ackTick = Integer.toUnsignedLong(ack.getServerTick());
+        int roomId = (int) ack.getRoomId();
+        ReconnectState nextState = ack.getIsPlaying() ? ReconnectState.AWAITING_SNAPSHOT : ReconnectState.IDLE;
+        session.updateAndGet(state -> {
+            SessionState next = state.withServerTick(ackTick)
+                    .withPlayerId((int) ack.getPlayerId())
+                    .withReconnectState(nextState);
+            if (!ack.getSessionToken().isBlank()) {
+                next = next.withSessionToken(ack.getSessionToken());
+            }
+            return roomId > 0 ? next.withRoomId(roomId) : next;
+        });
         if (ack.getIsPlaying()) {
-            reconnectState = ReconnectState.AWAITING_SNAPSHOT;
             Gdx.app.postRunnable(() -> {
+                // 服务器给出增量续传且本地世界仍在时直接续上；否则清空世界，
+                // 等服务器的全量快照（未续传时服务器会在 ack 后补发，且周期全量同步兜底）
+                if (ack.hasCatchUp() && getScreen() instanceof GameScreen gameScreen
+                        && gameScreen.hasWorldState()) {
+                    gameScreen.applyReconnectCatchUp(ack.getCatchUp(),
+                            ack.getRemovedEnemyIdsList(), ack.getRemovedItemIdsList());
+                    return;
+                }
                 if (!(getScreen() instanceof GameScreen)) {
                     setScreen(new GameScreen(Main.this));
                 }
@@ -490,7 +857,6 @@ public class Main extends Game {
             });
             prepareUdpClientForMatch();
         } else {
-            reconnectState = ReconnectState.IDLE;
             notifyGameScreenReconnectFinish();
             stopUdpClient();
             Gdx.app.postRunnable(() -> {
@@ -499,11 +865,14 @@ public class Main extends Game {
         }
     }
 
-    public synchronized void onReconnectSnapshotApplied() {
-        if (reconnectState != ReconnectState.AWAITING_SNAPSHOT) {
-            return;
-        }
-        reconnectState = ReconnectState.IDLE;
+    public void onReconnectSnapshotApplied() {
+        SessionState current;
+        do {
+            current = session.get();
+            if (current.reconnectState() != ReconnectState.AWAITING_SNAPSHOT) {
+                return;
+            }
+        } while (!session.compareAndSet(current, current.withReconnectState(ReconnectState.IDLE)));
         notifyGameScreenReconnectFinish();
     }
 
@@ -515,17 +884,20 @@ public class Main extends Game {
             return false;
         }
 
-        Message.C2S_PlayerInput withToken = attachSessionToken(input, sessionToken);
-        boolean hasToken = sessionToken != null && !sessionToken.isBlank();
+        String token = session.get().sessionToken();
+        boolean hasToken = !token.isBlank();
 
-        if (udpClient != null && udpClient.isRunning() && hasToken) {
-            if (udpClient.sendPlayerInput(withToken)) {
+        UdpClient udp = udpClient;
+        if (udp != null && udp.isRunning() && hasToken) {
+            if (udp.sendPlayerInput(inputTemplate(input.getPlayerId(), token), input)) {
+                inputLatencyTracer.onSent(input.getInputSeq(), System.nanoTime());
                 return true;
             }
         }
         if (tcpClient != null) {
             try {
-                tcpClient.sendPlayerInput(withToken);
+                tcpClient.sendPlayerInput(attachSessionToken(input, token));
+                inputLatencyTracer.onSent(input.getInputSeq(), System.nanoTime());
                 return true;
             } catch (IOException e) {
                 log.warn("Failed to send input via TCP fallback", e);
@@ -534,10 +906,63 @@ public class Main extends Game {
         return false;
     }
 
+    private InputPacketTemplate inputTemplate(int playerId, String token) {
+        InputPacketTemplate template = inputTemplate;
+        if (template == null || !template.matches(playerId, token)) {
+            template = new InputPacketTemplate(playerId, token);
+            inputTemplate = template;
+        }
+        return template;
+    }
+
     public void requestFullGameStateSync() {
         requestFullGameStateSync(null);
     }
 
+    /**
+     * 确认 GameScreen 已连续应用到的同步 tick，随 UDP 上行发给服务器作为增量基线；0 表示没有可用基线
+     */
+    public void acknowledgeAppliedTick(long tick) {
+        acknowledgedSyncTick = tick;
+        UdpClient client = udpClient;
+        if (client != null) {
+            client.acknowledgeTick(tick);
+        }
+    }
+
+    /**
+     * 请求服务器按已确认的 tick 补发追帧同步（只含此后变化 / 移除的实体），代替整份全量快照
+     * @return UDP 可靠层不可用时返回 false，调用方应改用 {@link #requestFullGameStateSync(String)}
+     */
+    public boolean requestBaselineCatchUp(String reason) {
+        UdpClient client = udpClient;
+        if (client == null || !client.requestBaselineResync()) {
+            return false;
+        }
+        ClientMetrics.SYNC_CATCH_UP_REQUESTS.increment();
+        String tag = reason == null ? "unknown" : reason;
+        Gdx.app.log("NET", "Requested baseline catch-up (" + tag + ") ackTick=" + acknowledgedSyncTick);
+        return true;
+    }
+
+    /**
+     * 上报关注区域（相机视野外扩边距），服务器此后只下发区域内的敌人与道具；走 TCP，保证按序送达
+     * @return 未连接或回放中返回 false，调用方下一帧重试
+     */
+    public boolean sendInterestArea(InterestArea area) {
+        TcpClient client = tcpClient;
+        if (client == null || area == null || isReplaying()) {
+            return false;
+        }
+        try {
+            client.sendPacket(area.toPacket());
+            return true;
+        } catch (IOException e) {
+            log.debug("Failed to send interest area: {}", e.getMessage());
+            return false;
+        }
+    }
+
     /**
      * 请求全量同步
      * @param reason
@@ -551,6 +976,7 @@ public class Main extends Game {
                     .setTimestamp(System.currentTimeMillis())
                     .build();
             tcpClient.sendPacket(Message.MessageType.MSG_C2S_HEARTBEAT, heartbeat);
+            inputLatencyTracer.onHeartbeatSent(System.nanoTime());
             String tag = reason == null ? "unknown" : reason;
             Gdx.app.log("NET", "Requested full game state sync (" + tag + ")");
         } catch (IOException e) {
@@ -558,13 +984,33 @@ public class Main extends Game {
         }
     }
 
+    /**
+     * 发一次心跳作为延迟探测，服务器收到后立即回复，用其往返时间作为输入延迟拆分中的纯网络部分；
+     * 对局中由 GameScreen 在 scheduler 上按固定周期登记，可在任意线程调用
+     */
+    public void sendLatencyProbe() {
+        TcpClient client = tcpClient;
+        if (client == null || isReplaying()) {
+            return;
+        }
+        long now = System.nanoTime();
+        try {
+            client.sendPacket(Message.MessageType.MSG_C2S_HEARTBEAT, Message.C2S_Heartbeat.newBuilder()
+                    .setTimestamp(System.currentTimeMillis())
+                    .build());
+            inputLatencyTracer.onHeartbeatSent(now);
+        } catch (IOException e) {
+            log.debug("Failed to send latency probe: {}", e.getMessage());
+        }
+    }
+
     public boolean sendUpgradeRequestAck(int roomId) {
         if (!isUpgradeRoomValid(roomId)) {
             return false;
         }
         Message.C2S_UpgradeRequestAck ack = Message.C2S_UpgradeRequestAck.newBuilder()
                 .setRoomId(roomId)
-                .setPlayerId(playerId)
+                .setPlayerId(session.get().playerId())
                 .build();
         return sendUpgradePacket(Message.MessageType.MSG_C2S_UPGRADE_REQUEST_ACK, ack);
     }
@@ -575,7 +1021,7 @@ public class Main extends Game {
         }
         Message.C2S_UpgradeOptionsAck ack = Message.C2S_UpgradeOptionsAck.newBuilder()
                 .setRoomId(roomId)
-                .setPlayerId(playerId)
+                .setPlayerId(session.get().playerId())
                 .build();
         return sendUpgradePacket(Message.MessageType.MSG_C2S_UPGRADE_OPTIONS_ACK, ack);
     }
@@ -586,7 +1032,7 @@ public class Main extends Game {
         }
         Message.C2S_UpgradeSelect select = Message.C2S_UpgradeSelect.newBuilder()
                 .setRoomId(roomId)
-                .setPlayerId(playerId)
+                .setPlayerId(session.get().playerId())
                 .setOptionIndex(optionIndex)
                 .build();
         return sendUpgradePacket(Message.MessageType.MSG_C2S_UPGRADE_SELECT, select);
@@ -598,13 +1044,13 @@ public class Main extends Game {
         }
         Message.C2S_UpgradeRefreshRequest request = Message.C2S_UpgradeRefreshRequest.newBuilder()
                 .setRoomId(roomId)
-                .setPlayerId(playerId)
+                .setPlayerId(session.get().playerId())
                 .build();
         return sendUpgradePacket(Message.MessageType.MSG_C2S_UPGRADE_REFRESH_REQUEST, request);
     }
 
     private boolean isUpgradeRoomValid(int roomId) {
-        return tcpClient != null && playerId > 0 && roomId > 0;
+        return tcpClient != null && session.get().playerId() > 0 && roomId > 0;
     }
 
     private boolean sendUpgradePacket(Message.MessageType type, MessageLite payload) {
@@ -653,19 +1099,23 @@ public class Main extends Game {
     }
 
     public int getPlayerId() {
-        return playerId;
+        return session.get().playerId();
     }
 
     public void setPlayerId(int id) {
-        this.playerId = id;
+        session.updateAndGet(state -> state.withPlayerId(id));
     }
 
     public String getSessionToken() {
-        return sessionToken;
+        return session.get().sessionToken();
     }
 
     private void setSessionToken(String token) {
-        this.sessionToken = token == null ? "" : token;
+        session.updateAndGet(state -> state.withSessionToken(token));
+    }
+
+    private void setReconnectState(ReconnectState reconnectState) {
+        session.updateAndGet(state -> state.withReconnectState(reconnectState));
     }
 
     private static String extractSessionToken(Message.S2C_LoginResult result) {
@@ -703,49 +1153,94 @@ public class Main extends Game {
                 .build();
     }
 
-    public synchronized void updateConfirmedInputSeq(int seq) {
+    // 以下两项每份同步都会调用：值没前进时直接返回，不分配新快照
+    public void updateConfirmedInputSeq(int seq) {
         if (seq < 0) {
             return;
         }
-        if (Integer.compareUnsigned(seq, lastConfirmedInputSeq) > 0) {
-            lastConfirmedInputSeq = seq;
-        }
+        SessionState current;
+        do {
+            current = session.get();
+            if (Integer.compareUnsigned(seq, current.confirmedInputSeq()) <= 0) {
+                return;
+            }
+        } while (!session.compareAndSet(current, current.withConfirmedInputSeq(seq)));
     }
 
-    public synchronized void updateServerTick(long tick) {
+    public void updateServerTick(long tick) {
         if (tick < 0L) {
             return;
         }
-        if (Long.compareUnsigned(tick, lastServerTick) > 0) {
-            lastServerTick = tick;
-        }
+        SessionState current;
+        do {
+            current = session.get();
+            // -1 表示尚未收到任何 tick，不能按无符号比较
+            if (current.serverTick() >= 0L && tick <= current.serverTick()) {
+                return;
+            }
+        } while (!session.compareAndSet(current, current.withServerTick(tick)));
     }
 
-    public synchronized boolean isAwaitingReconnectSnapshot() {
-        return reconnectState == ReconnectState.AWAITING_SNAPSHOT;
+    public boolean isAwaitingReconnectSnapshot() {
+        return session.get().reconnectState() == ReconnectState.AWAITING_SNAPSHOT;
     }
 
-    public synchronized void updateActiveRoomId(int roomId) {
+    public void updateActiveRoomId(int roomId) {
         if (roomId <= 0) {
             return;
         }
-        currentRoomId = roomId;
+        session.updateAndGet(state -> state.roomId() == roomId ? state : state.withRoomId(roomId));
     }
 
     // ———————— 网络消息处理入口（由网络线程调用） ————————
 
+    /**
+     * 一个 tick 的全部战斗事件只投递一次到渲染线程，由 GameScreen 一次性应用
+     */
+    private void handleTickEventBundle(Message.S2C_TickEventBundle bundle) {
+        ClientMetrics.EVENT_BUNDLE_SIZE.record(bundleEventCount(bundle));
+        ClientMetrics.INBOX_DEPTH.add(1);
+        Gdx.app.postRunnable(() -> {
+            ClientMetrics.INBOX_DEPTH.add(-1);
+            ClientMetrics.INBOX_DRAINED.increment();
+            if (getScreen() instanceof GameScreen gameScreen) {
+                gameScreen.onTickEventBundle(bundle);
+            }
+        });
+    }
+
+    /**
+     * @return 包内事件条数（每个非空类别的子消息按条计），用于日志和指标
+     */
+    private static int bundleEventCount(Message.S2C_TickEventBundle bundle) {
+        int count = bundle.getPlayerHurtsCount() + bundle.getEnemyDiedsCount() + bundle.getLevelUpsCount();
+        if (bundle.hasProjectileSpawn()) count++;
+        if (bundle.hasProjectileDespawn()) count++;
+        if (bundle.hasDroppedItem()) count++;
+        if (bundle.hasEnemyAttackState()) count++;
+        return count;
+    }
+
     public void handleNetworkMessage(Message.MessageType type, Object message) {
+        // 合并放在网络线程，渲染线程只校验基准并提交
+        WorldStateModel.PreparedDelta preparedDelta = type == Message.MessageType.MSG_S2C_GAME_STATE_DELTA_SYNC
+                ? prepareDelta((Message.S2C_GameStateDeltaSync) message)
+                : null;
+        ClientMetrics.INBOX_DEPTH.add(1);
         Gdx.app.postRunnable(() -> {
+            ClientMetrics.INBOX_DEPTH.add(-1);
+            ClientMetrics.INBOX_DRAINED.increment();
             switch (type) {
                 case MSG_S2C_LOGIN_RESULT:
                     Message.S2C_LoginResult result = (Message.S2C_LoginResult) message;
                     if (result.getSuccess()) {
                         setPlayerId(result.getPlayerId());
                         setSessionToken(extractSessionToken(result));
-                        if (sessionToken.isBlank()) {
+                        String token = getSessionToken();
+                        if (token.isBlank()) {
                             log.warn("Login succeeded but server did not provide session_token; UDP input may be rejected");
                         } else {
-                            log.debug("Received session_token (length={})", sessionToken.length());
+                            log.debug("Received session_token (length={})", token.length());
                         }
                         // 登录成功，跳转到房间列表
                         setScreen(new RoomListScreen(Main.this, skin));
@@ -798,6 +1293,11 @@ public class Main extends Game {
                     deliverRoomUpdate(update);
                     break;
                 case MSG_S2C_GAME_START:
+                    Message.S2C_GameStart start = (Message.S2C_GameStart) message;
+                    if (start.hasScene()) {
+                        positionScale = start.getScene().getPositionScale();
+                        serverTickRate = start.getScene().getTickRate();
+                    }
                     prepareUdpClientForMatch();
                     boolean createdGameScreen = false;
                     if (getScreen() instanceof GameRoomScreen) {
@@ -824,7 +1324,7 @@ public class Main extends Game {
                 case MSG_S2C_GAME_STATE_DELTA_SYNC:
                     if (getScreen() instanceof GameScreen gameScreenDelta) {
                         Message.S2C_GameStateDeltaSync delta = (Message.S2C_GameStateDeltaSync) message;
-                        gameScreenDelta.onGameStateDeltaReceived(delta);
+                        gameScreenDelta.onGameStateDeltaReceived(delta, preparedDelta);
                     }
                     break;
 
@@ -893,6 +1393,11 @@ public class Main extends Game {
         }
 
         shutdownNetworking();
+        scheduler.close();
+        stopMetricsSnapshot();
+        if (hitchRecorder != null) {
+            hitchRecorder.close();
+        }
 
         if (skin != null) skin.dispose();
         super.dispose();
@@ -921,17 +1426,28 @@ public class Main extends Game {
 
         stopUdpClient();
 
+        if (reconnectEngine != null) {
+            reconnectEngine.close();
+            reconnectEngine = null;
+        }
+
         if (networkThread != null) {
             networkThread.interrupt();
             networkThread = null;
         }
+        if (sessionReplayer != null) {
+            sessionReplayer.stop();
+            sessionReplayer = null;
+        }
+        closeSessionRecorder();
     }
 
     private void sendInitialUdpHello() {
-        if (playerId <= 0) {
+        SessionState state = session.get();
+        if (state.playerId() <= 0) {
             return;
         }
-        if (sessionToken == null || sessionToken.isBlank()) {
+        if (!state.hasToken()) {
             log.debug("Skipping UDP hello because session token is missing");
             return;
         }
@@ -940,25 +1456,19 @@ public class Main extends Game {
             return;
         }
         Message.C2S_PlayerInput hello = Message.C2S_PlayerInput.newBuilder()
-                .setPlayerId(playerId)
+                .setPlayerId(state.playerId())
                 .setDeltaMs(0)
                 .build();
-        Message.C2S_PlayerInput withToken = attachSessionToken(hello, sessionToken);
-        if (client.sendPlayerInput(withToken)) {
-            log.debug("Sent UDP hello to register endpoint (playerId={})", playerId);
+        if (client.sendPlayerInput(inputTemplate(state.playerId(), state.sessionToken()), hello)) {
+            log.debug("Sent UDP hello to register endpoint (playerId={})", state.playerId());
         } else {
             log.warn("Failed to send UDP hello; UDP sync may be delayed until player input occurs");
         }
     }
 
     private void resetToMainMenu() {
-        stopReconnectExecutor();
-        reconnectState = ReconnectState.IDLE;
-        currentRoomId = 0;
-        lastServerTick = -1L;
-        lastConfirmedInputSeq = 0;
-        setPlayerId(-1);
-        setSessionToken("");
+        stopReconnectEngine();
+        session.set(SessionState.INITIAL);
         if (!(getScreen() instanceof MainMenuScreen)) {
             setScreen(new MainMenuScreen(Main.this, skin));
         }
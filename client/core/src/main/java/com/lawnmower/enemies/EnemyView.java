@@ -1,11 +1,11 @@
 package com.lawnmower.enemies;
 
 import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.TimeUtils;
+import com.lawnmower.render.RenderQueue;
 
 import java.util.ArrayDeque;
 import java.util.Deque;
@@ -21,7 +21,7 @@ public class EnemyView {
     private static final long MAX_EXTRAPOLATION_MS = 150L;
     private static final long DEFAULT_ATTACK_DURATION_MS = 600L;
 
-    private final int enemyId;
+    private int enemyId;
     private final float worldWidth;
     private final float worldHeight;
     private final Vector2 targetPosition = new Vector2();
@@ -50,6 +50,27 @@ public class EnemyView {
         this.worldHeight = worldHeight;
     }
 
+    /**
+     * 复用池取出时重置为新的敌人：清空插值历史与动画状态，视觉资源由随后的 updateFromServer 重新设置
+     */
+    public void reset(int enemyId) {
+        this.enemyId = enemyId;
+        snapshots.clear();
+        targetPosition.setZero();
+        displayPosition.setZero();
+        walkAnimationTime = 0f;
+        attackAnimationTime = 0f;
+        lastServerUpdateMs = 0L;
+        alive = true;
+        facingRight = true;
+        attacking = false;
+        attackEndServerTime = 0L;
+        attackStateSynced = false;
+        typeId = 0;
+        health = 0;
+        maxHealth = 1;
+    }
+
     public void setVisual(int typeId,
                           Animation<TextureRegion> walkAnimation,
                           Animation<TextureRegion> attackAnimation,
@@ -120,8 +141,8 @@ public class EnemyView {
         return lastServerUpdateMs;
     }
 
-    public void render(SpriteBatch batch, float delta, long renderServerTimeMs) {
-        if (batch == null || (!alive && snapshots.isEmpty())) {
+    public void render(RenderQueue queue, float delta, long renderServerTimeMs) {
+        if (queue == null || (!alive && snapshots.isEmpty())) {
             return;
         }
 
@@ -151,15 +172,10 @@ public class EnemyView {
 
         clampToWorld(displayPosition, halfWidth, halfHeight);
 
-        float drawX = displayPosition.x - halfWidth;
-        float drawY = displayPosition.y - halfHeight;
-        float originX = halfWidth;
-        float originY = halfHeight;
         // 素材默认朝向左侧，因此向右移动时需要翻转
         float scaleX = facingRight ? -1f : 1f;
 
-        batch.draw(frame, drawX, drawY, originX, originY,
-                frame.getRegionWidth(), frame.getRegionHeight(), scaleX, 1f, 0f);
+        queue.submitCentered(frame, displayPosition.x, displayPosition.y, scaleX, 0f, RenderQueue.LAYER_ACTORS);
     }
 
     private void pushSnapshot(Vector2 serverPosition, long serverTimeMs) {
@@ -298,7 +314,7 @@ public class EnemyView {
         return fallbackFrame;
     }
 
-    private Vector2 samplePosition(long renderServerTimeMs) {
+    Vector2 samplePosition(long renderServerTimeMs) {
         EnemySnapshot previous = null;
         EnemySnapshot next = null;
 
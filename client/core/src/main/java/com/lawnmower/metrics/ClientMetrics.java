@@ -0,0 +1,89 @@
+package com.lawnmower.metrics;
+
+import lawnmower.Message;
+
+/**
+ * 客户端预定义指标。字段在类加载时创建一次，热路径直接引用，记录开销只有一次原子自增。
+ * <ul>
+ *     <li>net.*：按 MessageType 的收发包数、TCP/UDP 字节数、负载解码耗时、待主线程处理的消息数、输入发送节奏</li>
+ *     <li>sync.*：快照到达间隔、被丢弃的过期/乱序同步、插值缓冲延迟与外推比例</li>
+ *     <li>game.*：本地预测纠偏距离、RTT、帧耗时</li>
+ * </ul>
+ */
+public final class ClientMetrics {
+
+    private static final MetricsRegistry REGISTRY = MetricsRegistry.global();
+    private static final Message.MessageType[] TYPES = Message.MessageType.values();
+    private static final Counter[] PACKETS_IN = new Counter[TYPES.length];
+    private static final Counter[] PACKETS_OUT = new Counter[TYPES.length];
+
+    public static final Counter TCP_BYTES_IN = REGISTRY.counter("net.tcp.bytes.in");
+    public static final Counter TCP_BYTES_OUT = REGISTRY.counter("net.tcp.bytes.out");
+    public static final Counter UDP_BYTES_IN = REGISTRY.counter("net.udp.bytes.in");
+    public static final Counter UDP_BYTES_OUT = REGISTRY.counter("net.udp.bytes.out");
+    public static final Histogram DECODE_TIME = REGISTRY.histogram("net.decode.time", "us");
+    /** 已投递给渲染线程但尚未执行的网络消息数 */
+    public static final Gauge INBOX_DEPTH = REGISTRY.gauge("net.inbox.depth");
+    /** 渲染线程已执行的网络消息总数，按帧取差值即每帧处理量 */
+    public static final Counter INBOX_DRAINED = REGISTRY.counter("net.inbox.drained");
+    /** 每个 S2C_TickEventBundle 合并的事件数 */
+    public static final Histogram EVENT_BUNDLE_SIZE = REGISTRY.histogram("net.event.bundle.size", "events");
+    /** UDP 可靠层：重复到达（重传）被丢弃的可靠消息 */
+    public static final Counter UDP_RELIABLE_DUPLICATES = REGISTRY.counter("net.udp.reliable.duplicates");
+    /** UDP 可靠层：先于前序消息到达、暂存等待重排的可靠有序消息 */
+    public static final Counter UDP_RELIABLE_REORDERED = REGISTRY.counter("net.udp.reliable.reordered");
+    /** UDP 可靠层：比已收到的更旧而被丢弃的 unreliable-sequenced 消息 */
+    public static final Counter UDP_SEQUENCED_STALE = REGISTRY.counter("net.udp.sequenced.stale");
+    /** UDP 可靠层：没有上行数据可捎带、单独发送的 ack */
+    public static final Counter UDP_STANDALONE_ACKS = REGISTRY.counter("net.udp.acks.standalone");
+    /** 收到的 UDP 应用层分片 */
+    public static final Counter UDP_FRAGMENTS_IN = REGISTRY.counter("net.udp.fragments.in");
+    /** 超时或被挤出、未能重组的分片数据报 */
+    public static final Counter UDP_REASSEMBLY_DROPPED = REGISTRY.counter("net.udp.reassembly.dropped");
+    /** 自适应输入节奏当前选择的发送频率上限（包/秒） */
+    public static final Gauge INPUT_SEND_RATE = REGISTRY.gauge("net.input.send.rate");
+    /** 自适应输入节奏当前单条指令的最长合并时长（ms） */
+    public static final Gauge INPUT_BATCH_MS = REGISTRY.gauge("net.input.batch.ms");
+
+    public static final Histogram SYNC_INTERVAL = REGISTRY.histogram("sync.interval", "us");
+    /** GameScreen 因 tick 不新而丢弃的全量/增量同步 */
+    public static final Counter SYNC_DROPPED = REGISTRY.counter("sync.dropped");
+    /** 网络线程上因乱序或重复直接丢弃的 UDP 同步 */
+    public static final Counter SYNC_STALE_UDP = REGISTRY.counter("sync.stale.udp");
+    /** 发现漏收后请求的追帧同步（按已确认 tick 补发变化集合，代替全量快照） */
+    public static final Counter SYNC_CATCH_UP_REQUESTS = REGISTRY.counter("sync.catchup.requests");
+    /** 收到并应用的追帧同步 */
+    public static final Counter SYNC_CATCH_UP_APPLIED = REGISTRY.counter("sync.catchup.applied");
+    /** 插值缓冲按到达间隔分位数选出的目标延迟（ms） */
+    public static final Gauge SYNC_JITTER_DELAY = REGISTRY.gauge("sync.jitter.delay");
+    /** 渲染时间超过最新快照、只能外推的帧 */
+    public static final Counter SYNC_UNDERFLOW_FRAMES = REGISTRY.counter("sync.underflow.frames");
+    /** 最近约 5 秒内外推帧的比例（‰） */
+    public static final Gauge SYNC_UNDERFLOW_RATE = REGISTRY.gauge("sync.underflow.permille");
+    /** 渲染线程直接采用的网络线程预合并实体状态 */
+    public static final Counter SYNC_PREMERGE_HITS = REGISTRY.counter("sync.premerge.hits");
+    /** 基准已被渲染线程改写、回退到就地合并的实体状态 */
+    public static final Counter SYNC_PREMERGE_MISSES = REGISTRY.counter("sync.premerge.misses");
+
+    public static final Histogram CORRECTION_DISTANCE = REGISTRY.histogram("game.correction.distance", "px");
+    public static final Histogram RTT = REGISTRY.histogram("game.rtt", "us");
+    public static final Histogram FRAME_TIME = REGISTRY.histogram("game.frame.time", "us");
+
+    static {
+        for (Message.MessageType type : TYPES) {
+            PACKETS_IN[type.ordinal()] = REGISTRY.counter("net.packets.in." + type.name());
+            PACKETS_OUT[type.ordinal()] = REGISTRY.counter("net.packets.out." + type.name());
+        }
+    }
+
+    private ClientMetrics() {
+    }
+
+    public static void packetIn(Message.MessageType type) {
+        PACKETS_IN[type.ordinal()].increment();
+    }
+
+    public static void packetOut(Message.MessageType type) {
+        PACKETS_OUT[type.ordinal()].increment();
+    }
+}
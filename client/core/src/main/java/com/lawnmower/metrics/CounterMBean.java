@@ -0,0 +1,9 @@
+package com.lawnmower.metrics;
+
+/**
+ * {@link Counter} 的 JMX 视图
+ */
+public interface CounterMBean {
+
+    long getCount();
+}
@@ -0,0 +1,47 @@
+package com.lawnmower.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 可增减的瞬时值（如队列深度），同时记录历史最大值
+ */
+public final class Gauge implements GaugeMBean {
+
+    private final String name;
+    private final AtomicLong value = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    Gauge(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void set(long newValue) {
+        value.set(newValue);
+        updateMax(newValue);
+    }
+
+    public void add(long delta) {
+        updateMax(value.addAndGet(delta));
+    }
+
+    @Override
+    public long getValue() {
+        return value.get();
+    }
+
+    @Override
+    public long getMax() {
+        return max.get();
+    }
+
+    private void updateMax(long candidate) {
+        long current = max.get();
+        while (candidate > current && !max.compareAndSet(current, candidate)) {
+            current = max.get();
+        }
+    }
+}
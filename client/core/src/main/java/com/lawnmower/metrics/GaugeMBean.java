@@ -0,0 +1,14 @@
+package com.lawnmower.metrics;
+
+/**
+ * {@link Gauge} 的 JMX 视图
+ */
+public interface GaugeMBean {
+
+    long getValue();
+
+    /**
+     * 自注册以来观察到的最大值，用于发现瞬时堆积
+     */
+    long getMax();
+}
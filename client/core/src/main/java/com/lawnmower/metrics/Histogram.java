@@ -0,0 +1,168 @@
+package com.lawnmower.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 对数-线性分桶直方图，分桶见 {@link LogLinearBuckets}。
+ * <p>
+ * 写入只做一次 AtomicLongArray 自增，可被任意线程并发调用；读取时拷贝一份 {@link Snapshot}，
+ * 与写入之间不保证原子一致，对监控用途足够。值的含义由 {@link #getUnit()} 说明（us、px 等）。
+ */
+public final class Histogram implements HistogramMBean {
+
+    private static final int BUCKET_COUNT = LogLinearBuckets.BUCKET_COUNT;
+
+    private final String name;
+    private final String unit;
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    Histogram(String name, String unit) {
+        this.name = name;
+        this.unit = unit;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getUnit() {
+        return unit;
+    }
+
+    /**
+     * 负值按 0 记录
+     */
+    public void record(long value) {
+        long v = Math.max(0L, value);
+        counts.incrementAndGet(LogLinearBuckets.bucketOf(v));
+        sum.add(v);
+        long current = max.get();
+        while (v > current && !max.compareAndSet(current, v)) {
+            current = max.get();
+        }
+    }
+
+    /**
+     * 以微秒为单位记录一段纳秒耗时
+     */
+    public void recordNanosAsMicros(long nanos) {
+        record(nanos / 1_000L);
+    }
+
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        long total = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+            total += copy[i];
+        }
+        return new Snapshot(copy, total, sum.sum(), max.get());
+    }
+
+    @Override
+    public long getCount() {
+        return snapshot().count();
+    }
+
+    @Override
+    public double getMean() {
+        return snapshot().mean();
+    }
+
+    @Override
+    public long getP50() {
+        return snapshot().percentile(0.50);
+    }
+
+    @Override
+    public long getP90() {
+        return snapshot().percentile(0.90);
+    }
+
+    @Override
+    public long getP99() {
+        return snapshot().percentile(0.99);
+    }
+
+    @Override
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * 某一时刻的桶计数拷贝；两个快照相减得到区间内的分布，供文件快照按周期输出
+     */
+    public static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(new long[BUCKET_COUNT], 0L, 0L, 0L);
+
+        private final long[] counts;
+        private final long count;
+        private final long sum;
+        private final long max;
+
+        private Snapshot(long[] counts, long count, long sum, long max) {
+            this.counts = counts;
+            this.count = count;
+            this.sum = sum;
+            this.max = max;
+        }
+
+        public long count() {
+            return count;
+        }
+
+        public double mean() {
+            return count == 0L ? 0.0 : (double) sum / count;
+        }
+
+        /**
+         * 累计最大值；区间快照取区间内最高非空桶的上界
+         */
+        public long max() {
+            return max;
+        }
+
+        /**
+         * @param quantile 0~1
+         * @return 该分位所在桶的上界，无样本时返回 0
+         */
+        public long percentile(double quantile) {
+            if (count == 0L) {
+                return 0L;
+            }
+            long rank = Math.max(1L, (long) Math.ceil(quantile * count));
+            long seen = 0L;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(max, LogLinearBuckets.upperBoundOf(i));
+                }
+            }
+            return max;
+        }
+
+        /**
+         * @return this - earlier，即 earlier 之后新增样本的分布
+         */
+        public Snapshot since(Snapshot earlier) {
+            long[] delta = new long[counts.length];
+            long total = 0L;
+            int highest = -1;
+            for (int i = 0; i < counts.length; i++) {
+                delta[i] = Math.max(0L, counts[i] - earlier.counts[i]);
+                total += delta[i];
+                if (delta[i] > 0L) {
+                    highest = i;
+                }
+            }
+            long intervalMax = highest < 0 ? 0L : Math.min(max, LogLinearBuckets.upperBoundOf(highest));
+            return new Snapshot(delta, total, sum - earlier.sum, intervalMax);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.lawnmower.metrics;
+
+/**
+ * {@link Histogram} 的 JMX 视图，分位数为自启动以来的累计值
+ */
+public interface HistogramMBean {
+
+    String getUnit();
+
+    long getCount();
+
+    double getMean();
+
+    long getP50();
+
+    long getP90();
+
+    long getP99();
+
+    long getMax();
+}
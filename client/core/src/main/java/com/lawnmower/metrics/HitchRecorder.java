@@ -0,0 +1,344 @@
+package com.lawnmower.metrics;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 卡顿飞行记录仪：在内存环形缓冲里保留最近约 8 秒的逐帧诊断数据（阶段耗时、本帧处理的网络消息数、
+ * 实体数量、GC 次数与耗时、safepoint 耗时），以及同一时段的 GC 通知。
+ * 某帧间隔超过阈值时，再多记录 1 秒后把整段窗口写成文本报告，玩家反馈卡顿时附上即可看到原因。
+ * <p>
+ * {@link #commit(FrameStats)} 只在渲染线程调用，写入是数组赋值，不分配对象；
+ * 触发报告时渲染线程只把窗口内的原始数组拷贝成 {@link Window}，格式化和写盘都在后台线程。safepoint 耗时依赖
+ * {@code --add-exports java.management/sun.management=ALL-UNNAMED}，缺失时记为 -1。
+ */
+public final class HitchRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(HitchRecorder.class);
+    /** 2 的幂，60fps 下约 8.5 秒 */
+    private static final int CAPACITY = 512;
+    private static final int MASK = CAPACITY - 1;
+    /** 卡顿之后继续记录的帧数，报告同时覆盖卡顿前后 */
+    private static final int POST_HITCH_FRAMES = 60;
+    private static final long MIN_REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+    private static final int MAX_REPORTS_PER_SESSION = 20;
+    private static final int MAX_GC_EVENTS = 64;
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    /**
+     * 调用方每帧填写后交给 {@link #commit(FrameStats)}，可复用同一个实例
+     */
+    public static final class FrameStats {
+        public long deltaNanos;
+        public long inputNanos;
+        public long worldNanos;
+        public long drawNanos;
+        public int enemies;
+        public int projectiles;
+        public int items;
+        public int remotePlayers;
+        public int drawCommands;
+        public int pendingInputs;
+    }
+
+    private final Path directory;
+    private final long thresholdNanos;
+    private final ExecutorService writer;
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    // (Object)long 形式的 getTotalSafepointTime，invokeExact 不装箱，每帧采样不分配
+    private final MethodHandle safepointTime;
+    private final Object hotspotRuntime;
+    private final Deque<GcEvent> gcEvents = new ArrayDeque<>();
+
+    private final long[] frameNanos = new long[CAPACITY];
+    private final long[] deltaNanos = new long[CAPACITY];
+    private final long[] inputNanos = new long[CAPACITY];
+    private final long[] worldNanos = new long[CAPACITY];
+    private final long[] drawNanos = new long[CAPACITY];
+    private final int[] packetsDrained = new int[CAPACITY];
+    private final int[] enemies = new int[CAPACITY];
+    private final int[] projectiles = new int[CAPACITY];
+    private final int[] items = new int[CAPACITY];
+    private final int[] remotePlayers = new int[CAPACITY];
+    private final int[] drawCommands = new int[CAPACITY];
+    private final int[] pendingInputs = new int[CAPACITY];
+    private final int[] gcCount = new int[CAPACITY];
+    private final long[] gcMillis = new long[CAPACITY];
+    private final long[] safepointMillis = new long[CAPACITY];
+
+    private long frames;
+    private long lastDrained;
+    private long lastGcCount;
+    private long lastGcMillis;
+    private long lastSafepointMillis;
+    private long pendingReportFrame = -1L;
+    private long hitchFrame;
+    private long lastReportNanos;
+    private int reports;
+
+    /**
+     * @param directory 报告目录，按需创建
+     * @param thresholdMillis 帧间隔超过该值视为卡顿
+     */
+    public HitchRecorder(Path directory, long thresholdMillis) {
+        this.directory = directory;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.writer = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "HitchReportWriter");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        Object runtime = null;
+        MethodHandle handle = null;
+        try {
+            runtime = Class.forName("sun.management.ManagementFactoryHelper")
+                    .getMethod("getHotspotRuntimeMBean")
+                    .invoke(null);
+            handle = MethodHandles.publicLookup()
+                    .unreflect(Class.forName("sun.management.HotspotRuntimeMBean").getMethod("getTotalSafepointTime"))
+                    .asType(MethodType.methodType(long.class, Object.class));
+            long probe = (long) handle.invokeExact(runtime);
+        } catch (Throwable e) {
+            log.debug("Safepoint time unavailable: {}", e.toString());
+            runtime = null;
+            handle = null;
+        }
+        this.hotspotRuntime = runtime;
+        this.safepointTime = handle;
+        this.lastGcCount = totalGcCount();
+        this.lastGcMillis = totalGcMillis();
+        this.lastSafepointMillis = totalSafepointMillis();
+        this.lastDrained = ClientMetrics.INBOX_DRAINED.getCount();
+        registerGcListener();
+    }
+
+    /**
+     * 记录一帧；超过阈值的帧会在 {@value #POST_HITCH_FRAMES} 帧后触发一次报告
+     */
+    public void commit(FrameStats stats) {
+        long now = System.nanoTime();
+        int slot = (int) (frames & MASK);
+        frameNanos[slot] = now;
+        deltaNanos[slot] = stats.deltaNanos;
+        inputNanos[slot] = stats.inputNanos;
+        worldNanos[slot] = stats.worldNanos;
+        drawNanos[slot] = stats.drawNanos;
+        enemies[slot] = stats.enemies;
+        projectiles[slot] = stats.projectiles;
+        items[slot] = stats.items;
+        remotePlayers[slot] = stats.remotePlayers;
+        drawCommands[slot] = stats.drawCommands;
+        pendingInputs[slot] = stats.pendingInputs;
+
+        long drained = ClientMetrics.INBOX_DRAINED.getCount();
+        packetsDrained[slot] = (int) (drained - lastDrained);
+        lastDrained = drained;
+        long count = totalGcCount();
+        gcCount[slot] = (int) (count - lastGcCount);
+        lastGcCount = count;
+        long gc = totalGcMillis();
+        gcMillis[slot] = gc - lastGcMillis;
+        lastGcMillis = gc;
+        long safepoint = totalSafepointMillis();
+        safepointMillis[slot] = safepoint < 0L ? -1L : safepoint - lastSafepointMillis;
+        lastSafepointMillis = safepoint;
+
+        if (pendingReportFrame < 0L && stats.deltaNanos >= thresholdNanos && canReport(now)) {
+            hitchFrame = frames;
+            pendingReportFrame = frames + POST_HITCH_FRAMES;
+        }
+        if (pendingReportFrame == frames) {
+            pendingReportFrame = -1L;
+            lastReportNanos = now;
+            reports++;
+            Window window = captureWindow();
+            writer.execute(() -> writeReport(buildReport(window)));
+        }
+        frames++;
+    }
+
+    public void close() {
+        writer.shutdown();
+    }
+
+    private boolean canReport(long now) {
+        return reports < MAX_REPORTS_PER_SESSION
+                && (reports == 0 || now - lastReportNanos >= MIN_REPORT_INTERVAL_NANOS);
+    }
+
+    /**
+     * 渲染线程上调用：把环形缓冲里的窗口按时间顺序拷贝出来，不做任何格式化
+     */
+    private Window captureWindow() {
+        long first = Math.max(0L, frames - CAPACITY + 1);
+        int count = (int) (frames - first + 1);
+        Runtime runtime = Runtime.getRuntime();
+        return new Window((int) (hitchFrame - first), runtime.totalMemory() - runtime.freeMemory(),
+                runtime.maxMemory(),
+                copyWindow(frameNanos, first, count), copyWindow(deltaNanos, first, count),
+                copyWindow(inputNanos, first, count), copyWindow(worldNanos, first, count),
+                copyWindow(drawNanos, first, count), copyWindow(packetsDrained, first, count),
+                copyWindow(enemies, first, count), copyWindow(projectiles, first, count),
+                copyWindow(items, first, count), copyWindow(remotePlayers, first, count),
+                copyWindow(drawCommands, first, count), copyWindow(pendingInputs, first, count),
+                copyWindow(gcCount, first, count), copyWindow(gcMillis, first, count),
+                copyWindow(safepointMillis, first, count));
+    }
+
+    private static long[] copyWindow(long[] ring, long first, int count) {
+        long[] copy = new long[count];
+        for (int i = 0; i < count; i++) {
+            copy[i] = ring[(int) ((first + i) & MASK)];
+        }
+        return copy;
+    }
+
+    private static int[] copyWindow(int[] ring, long first, int count) {
+        int[] copy = new int[count];
+        for (int i = 0; i < count; i++) {
+            copy[i] = ring[(int) ((first + i) & MASK)];
+        }
+        return copy;
+    }
+
+    /**
+     * 后台线程上调用
+     */
+    private String buildReport(Window w) {
+        long hitchAt = w.frameNanos[w.hitchIndex];
+        StringBuilder sb = new StringBuilder(64 * 1024);
+        sb.append(String.format(Locale.ROOT, "# hitch %.1f ms (threshold %d ms) at %s%n",
+                w.deltaNanos[w.hitchIndex] / 1e6, TimeUnit.NANOSECONDS.toMillis(thresholdNanos), LocalDateTime.now()));
+        sb.append(String.format(Locale.ROOT, "# java %s / %s, heap used %d MB of %d MB%n",
+                System.getProperty("java.version"), System.getProperty("os.name"),
+                w.heapUsedBytes >> 20, w.heapMaxBytes >> 20));
+        sb.append("# t_ms is relative to the hitch frame; times in ms; safepoint -1 = unavailable\n");
+        sb.append("t_ms,delta,input,world,draw,packets,enemies,projectiles,items,remote_players,draw_cmds,pending_inputs,gc_count,gc_ms,safepoint_ms\n");
+        for (int i = 0; i < w.frameNanos.length; i++) {
+            sb.append(String.format(Locale.ROOT, "%.1f,%.2f,%.2f,%.2f,%.2f,%d,%d,%d,%d,%d,%d,%d,%d,%d,%d%n",
+                    (w.frameNanos[i] - hitchAt) / 1e6, w.deltaNanos[i] / 1e6, w.inputNanos[i] / 1e6,
+                    w.worldNanos[i] / 1e6, w.drawNanos[i] / 1e6, w.packetsDrained[i], w.enemies[i],
+                    w.projectiles[i], w.items[i], w.remotePlayers[i], w.drawCommands[i], w.pendingInputs[i],
+                    w.gcCount[i], w.gcMillis[i], w.safepointMillis[i]));
+        }
+        long windowStart = w.frameNanos[0];
+        sb.append("\n# gc events in window: t_ms,collector,action,cause,duration_ms\n");
+        synchronized (gcEvents) {
+            for (GcEvent event : gcEvents) {
+                if (event.nanoTime >= windowStart) {
+                    sb.append(String.format(Locale.ROOT, "%.1f,%s,%s,%s,%d%n",
+                            (event.nanoTime - hitchAt) / 1e6, event.collector, event.action, event.cause,
+                            event.durationMillis));
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    private void writeReport(String report) {
+        Path file = directory.resolve("hitch-" + LocalDateTime.now().format(FILE_TIME) + ".txt");
+        try {
+            Files.createDirectories(directory);
+            try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                out.write(report);
+            }
+            log.info("Frame hitch report written to {}", file);
+        } catch (IOException e) {
+            log.warn("Failed to write hitch report {}: {}", file, e.getMessage());
+        }
+    }
+
+    private long totalGcCount() {
+        long total = 0L;
+        for (GarbageCollectorMXBean collector : collectors) {
+            total += Math.max(0L, collector.getCollectionCount());
+        }
+        return total;
+    }
+
+    private long totalGcMillis() {
+        long total = 0L;
+        for (GarbageCollectorMXBean collector : collectors) {
+            total += Math.max(0L, collector.getCollectionTime());
+        }
+        return total;
+    }
+
+    private long totalSafepointMillis() {
+        if (safepointTime == null) {
+            return -1L;
+        }
+        try {
+            return (long) safepointTime.invokeExact(hotspotRuntime);
+        } catch (Throwable e) {
+            return -1L;
+        }
+    }
+
+    private void registerGcListener() {
+        NotificationListener listener = this::onGcNotification;
+        for (GarbageCollectorMXBean collector : collectors) {
+            if (collector instanceof NotificationEmitter emitter) {
+                emitter.addNotificationListener(listener, null, null);
+            }
+        }
+    }
+
+    private void onGcNotification(Notification notification, Object handback) {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            return;
+        }
+        GarbageCollectionNotificationInfo info =
+                GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        // 通知是异步投递的，按 GC 自身的开始时间（JVM 启动后毫秒数）换算回 nanoTime 时间轴
+        long startedAgoMillis = ManagementFactory.getRuntimeMXBean().getUptime() - info.getGcInfo().getStartTime();
+        long startNanos = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(Math.max(0L, startedAgoMillis));
+        GcEvent event = new GcEvent(startNanos, info.getGcName(), info.getGcAction(), info.getGcCause(),
+                info.getGcInfo().getDuration());
+        synchronized (gcEvents) {
+            gcEvents.addLast(event);
+            while (gcEvents.size() > MAX_GC_EVENTS) {
+                gcEvents.removeFirst();
+            }
+        }
+    }
+
+    /**
+     * 一次报告的窗口拷贝，下标 0 为窗口内最早的一帧
+     */
+    private record Window(int hitchIndex, long heapUsedBytes, long heapMaxBytes,
+                          long[] frameNanos, long[] deltaNanos, long[] inputNanos, long[] worldNanos,
+                          long[] drawNanos, int[] packetsDrained, int[] enemies, int[] projectiles, int[] items,
+                          int[] remotePlayers, int[] drawCommands, int[] pendingInputs, int[] gcCount,
+                          long[] gcMillis, long[] safepointMillis) {
+    }
+
+    private record GcEvent(long nanoTime, String collector, String action, String cause, long durationMillis) {
+    }
+}
@@ -0,0 +1,164 @@
+package com.lawnmower.metrics;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 输入端到端延迟追踪：按 input_seq 记录每条输入经过的各阶段时间戳，
+ * 在服务器确认（last_processed_input_seq）和画面呈现后拆分为以下直方图（微秒）：
+ * <ul>
+ *     <li>input.latency.coalesce：采样到入队，同方向输入在客户端合并等待的时间</li>
+ *     <li>input.latency.send_queue：入队到写入 socket，发送限速造成的排队</li>
+ *     <li>input.latency.network：纯网络往返，取心跳探测 RTT（服务器收到心跳立即回复）</li>
+ *     <li>input.latency.server：发送到确认减去网络往返，即服务器 tick 等待、处理、同步间隔与客户端收包排队</li>
+ *     <li>input.latency.present：确认到包含纠偏结果的那一帧呈现</li>
+ *     <li>input.latency.total：采样到呈现</li>
+ * </ul>
+ * 采样、入队、发送、确认和呈现都发生在渲染线程，因此槽位数组不做同步；
+ * 只有心跳往返由网络线程写入，用原子变量传递。
+ */
+public final class InputLatencyTracer {
+
+    /** 2 的幂，按 seq 取模定位槽位；大于 GameScreen 允许的未确认输入上限（240） */
+    private static final int CAPACITY = 512;
+    private static final int MASK = CAPACITY - 1;
+    private static final int EMPTY = Integer.MIN_VALUE;
+
+    private static final Histogram COALESCE = MetricsRegistry.global().histogram("input.latency.coalesce", "us");
+    private static final Histogram SEND_QUEUE = MetricsRegistry.global().histogram("input.latency.send_queue", "us");
+    private static final Histogram NETWORK = MetricsRegistry.global().histogram("input.latency.network", "us");
+    private static final Histogram SERVER = MetricsRegistry.global().histogram("input.latency.server", "us");
+    private static final Histogram PRESENT = MetricsRegistry.global().histogram("input.latency.present", "us");
+    private static final Histogram TOTAL = MetricsRegistry.global().histogram("input.latency.total", "us");
+    /** 因发送限速被后续输入覆盖、从未单独发出的输入，由更晚的确认一并覆盖 */
+    private static final Counter SUPERSEDED = MetricsRegistry.global().counter("input.superseded");
+
+    private final int[] seqs = new int[CAPACITY];
+    private final long[] sampleNanos = new long[CAPACITY];
+    private final long[] enqueueNanos = new long[CAPACITY];
+    private final long[] sendNanos = new long[CAPACITY];
+    private final long[] ackNanos = new long[CAPACITY];
+    private int lastAckedSeq = -1;
+    private int lastPresentedSeq = -1;
+
+    private final AtomicLong probeSentNanos = new AtomicLong();
+    private volatile long networkRttNanos;
+
+    public InputLatencyTracer() {
+        Arrays.fill(seqs, EMPTY);
+    }
+
+    /**
+     * 输入命令生成时调用
+     * @param sampledAtNanos 该命令第一次被采样（按键生效）的时间
+     */
+    public void onEnqueued(int seq, long sampledAtNanos, long nowNanos) {
+        if (seq <= lastAckedSeq) {
+            // 新的 GameScreen 从 0 重新编号
+            reset();
+        }
+        int slot = seq & MASK;
+        seqs[slot] = seq;
+        sampleNanos[slot] = sampledAtNanos;
+        enqueueNanos[slot] = nowNanos;
+        sendNanos[slot] = 0L;
+        ackNanos[slot] = 0L;
+    }
+
+    /**
+     * 输入成功写入 UDP/TCP socket 时调用
+     */
+    public void onSent(int seq, long nowNanos) {
+        int slot = seq & MASK;
+        if (seqs[slot] == seq && sendNanos[slot] == 0L) {
+            sendNanos[slot] = nowNanos;
+        }
+    }
+
+    /**
+     * 服务器快照确认到 ackSeq 时调用，确认是累积的：不大于 ackSeq 的输入全部视为已被处理
+     */
+    public void onAcked(int ackSeq, long nowNanos) {
+        if (ackSeq <= lastAckedSeq) {
+            return;
+        }
+        long networkRtt = networkRttNanos;
+        int from = Math.max(lastAckedSeq + 1, ackSeq - CAPACITY + 1);
+        for (int seq = from; seq <= ackSeq; seq++) {
+            int slot = seq & MASK;
+            if (seqs[slot] != seq || ackNanos[slot] != 0L) {
+                continue;
+            }
+            ackNanos[slot] = nowNanos;
+            COALESCE.recordNanosAsMicros(enqueueNanos[slot] - sampleNanos[slot]);
+            long sentAt = sendNanos[slot];
+            if (sentAt == 0L) {
+                SUPERSEDED.increment();
+                continue;
+            }
+            SEND_QUEUE.recordNanosAsMicros(sentAt - enqueueNanos[slot]);
+            long roundTrip = nowNanos - sentAt;
+            if (networkRtt > 0L) {
+                long network = Math.min(networkRtt, roundTrip);
+                NETWORK.recordNanosAsMicros(network);
+                SERVER.recordNanosAsMicros(roundTrip - network);
+            }
+        }
+        lastAckedSeq = ackSeq;
+    }
+
+    /**
+     * 每帧提交绘制后调用：此前收到的确认都在本帧开始前应用，纠偏结果已经画进这一帧
+     */
+    public void onFramePresented(long nowNanos) {
+        if (lastPresentedSeq >= lastAckedSeq) {
+            return;
+        }
+        int from = Math.max(lastPresentedSeq + 1, lastAckedSeq - CAPACITY + 1);
+        for (int seq = from; seq <= lastAckedSeq; seq++) {
+            int slot = seq & MASK;
+            if (seqs[slot] != seq || ackNanos[slot] == 0L) {
+                continue;
+            }
+            PRESENT.recordNanosAsMicros(nowNanos - ackNanos[slot]);
+            TOTAL.recordNanosAsMicros(nowNanos - sampleNanos[slot]);
+            seqs[slot] = EMPTY;
+        }
+        lastPresentedSeq = lastAckedSeq;
+    }
+
+    /**
+     * 发出心跳时调用（网络线程或渲染线程），已有心跳在途时保留较早的时间戳
+     */
+    public void onHeartbeatSent(long nowNanos) {
+        probeSentNanos.compareAndSet(0L, nowNanos);
+    }
+
+    /**
+     * 收到 S2C_Heartbeat 时在网络线程调用
+     */
+    public void onHeartbeatReply(long nowNanos) {
+        long sentAt = probeSentNanos.getAndSet(0L);
+        if (sentAt != 0L) {
+            networkRttNanos = nowNanos - sentAt;
+        }
+    }
+
+    /**
+     * 形如 {@code total p50 96.0 ms = coalesce 8.1 + send_queue 12.0 + network 40.2 + server 30.5 + present 16.7}
+     */
+    public static String summary() {
+        return String.format(Locale.ROOT,
+                "total p50 %.1f ms = coalesce %.1f + send_queue %.1f + network %.1f + server %.1f + present %.1f (n=%d, superseded=%d)",
+                TOTAL.getP50() / 1000.0, COALESCE.getP50() / 1000.0, SEND_QUEUE.getP50() / 1000.0,
+                NETWORK.getP50() / 1000.0, SERVER.getP50() / 1000.0, PRESENT.getP50() / 1000.0,
+                TOTAL.getCount(), SUPERSEDED.getCount());
+    }
+
+    private void reset() {
+        Arrays.fill(seqs, EMPTY);
+        lastAckedSeq = -1;
+        lastPresentedSeq = -1;
+    }
+}
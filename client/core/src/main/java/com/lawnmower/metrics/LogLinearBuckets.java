@@ -0,0 +1,46 @@
+package com.lawnmower.metrics;
+
+/**
+ * 对数-线性分桶：[0, 64) 每个值一桶，之后每个 2 的幂区间细分 32 桶，相对误差不超过 ~3%。
+ * 客户端的 {@link Histogram} 和压测模块的延迟直方图共用，保证两边的分位数可以直接对比。
+ */
+public final class LogLinearBuckets {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = SUB_BUCKETS * 2;
+    /** 2^36 微秒约 19 小时，足以覆盖任何一局游戏或一次压测；更大的值都落在最后一个区间 */
+    private static final int MAX_EXPONENT = 36;
+
+    /** 桶的总数，计数数组按此分配 */
+    public static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS) * SUB_BUCKETS + LINEAR_LIMIT;
+
+    private LogLinearBuckets() {
+    }
+
+    /**
+     * @param value 非负值
+     * @return 所在桶的下标，0 ~ {@link #BUCKET_COUNT} - 1
+     */
+    public static int bucketOf(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int exponent = Math.min(MAX_EXPONENT - 1, 63 - Long.numberOfLeadingZeros(value));
+        int shift = exponent - SUB_BUCKET_BITS;
+        long mantissa = Math.min(LINEAR_LIMIT - 1, value >>> shift);
+        return shift * SUB_BUCKETS + (int) mantissa;
+    }
+
+    /**
+     * @return 桶内的最大值，分位数按它报告
+     */
+    public static long upperBoundOf(int bucket) {
+        if (bucket < LINEAR_LIMIT) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long mantissa = bucket % SUB_BUCKETS + SUB_BUCKETS;
+        return ((mantissa + 1L) << shift) - 1L;
+    }
+}
@@ -0,0 +1,80 @@
+package com.lawnmower.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 进程内指标注册表：按名字创建并缓存计数器、瞬时值和直方图，创建时同步注册为平台 JMX MBean
+ * （ObjectName 形如 {@code com.lawnmower:type=Histogram,name=sync.interval}），可直接用 JConsole/VisualVM 查看。
+ * <p>
+ * 热路径应持有 {@link ClientMetrics} 中的字段引用，不要每次按名字查找。
+ */
+public final class MetricsRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(MetricsRegistry.class);
+    private static final String JMX_DOMAIN = "com.lawnmower";
+    private static final MetricsRegistry GLOBAL = new MetricsRegistry(true);
+
+    private final Map<String, Counter> counters = new ConcurrentSkipListMap<>();
+    private final Map<String, Gauge> gauges = new ConcurrentSkipListMap<>();
+    private final Map<String, Histogram> histograms = new ConcurrentSkipListMap<>();
+    private final boolean exportJmx;
+
+    MetricsRegistry(boolean exportJmx) {
+        this.exportJmx = exportJmx;
+    }
+
+    public static MetricsRegistry global() {
+        return GLOBAL;
+    }
+
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(name, key -> register("Counter", key, new Counter(key)));
+    }
+
+    public Gauge gauge(String name) {
+        return gauges.computeIfAbsent(name, key -> register("Gauge", key, new Gauge(key)));
+    }
+
+    public Histogram histogram(String name, String unit) {
+        return histograms.computeIfAbsent(name, key -> register("Histogram", key, new Histogram(key, unit)));
+    }
+
+    /**
+     * 按名字排序的只读视图
+     */
+    public Map<String, Counter> counters() {
+        return counters;
+    }
+
+    public Map<String, Gauge> gauges() {
+        return gauges;
+    }
+
+    public Map<String, Histogram> histograms() {
+        return histograms;
+    }
+
+    private <T> T register(String type, String name, T metric) {
+        if (!exportJmx) {
+            return metric;
+        }
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(JMX_DOMAIN + ":type=" + type + ",name=" + name);
+            if (!server.isRegistered(objectName)) {
+                server.registerMBean(metric, objectName);
+            }
+        } catch (Exception | LinkageError e) {
+            // 没有 JMX 的运行环境下指标仍然可用，只是不导出
+            log.debug("Failed to register metric {} over JMX: {}", name, e.toString());
+        }
+        return metric;
+    }
+}
@@ -0,0 +1,126 @@
+package com.lawnmower.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 周期性把注册表写入 CSV 文件，便于长时间对局后离线分析。
+ * <p>
+ * 每个周期每个指标一行：{@code epoch_ms,kind,name,value,count,mean,p50,p90,p99,max}。
+ * 计数器的 value 为累计值，count 为本周期增量；直方图的分位数只统计本周期内的新样本；
+ * 没有新样本的直方图不输出，避免长时间空闲时文件膨胀。
+ */
+public final class MetricsSnapshotWriter implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(MetricsSnapshotWriter.class);
+    private static final String HEADER = "epoch_ms,kind,name,value,count,mean,p50,p90,p99,max";
+
+    private final MetricsRegistry registry;
+    private final BufferedWriter out;
+    private final ScheduledExecutorService executor;
+    private final Map<String, Long> lastCounts = new HashMap<>();
+    private final Map<String, Histogram.Snapshot> lastSnapshots = new HashMap<>();
+
+    private MetricsSnapshotWriter(MetricsRegistry registry, BufferedWriter out) {
+        this.registry = registry;
+        this.out = out;
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "MetricsSnapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 打开（追加）快照文件并按固定周期写入
+     */
+    public static MetricsSnapshotWriter start(MetricsRegistry registry, Path file, long periodMs) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        boolean fresh = !Files.exists(file) || Files.size(file) == 0L;
+        BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        if (fresh) {
+            out.write(HEADER);
+            out.newLine();
+        }
+        MetricsSnapshotWriter writer = new MetricsSnapshotWriter(registry, out);
+        writer.executor.scheduleAtFixedRate(writer::writeSafely, periodMs, periodMs, TimeUnit.MILLISECONDS);
+        log.info("Writing metrics snapshots to {} every {}ms", file, periodMs);
+        return writer;
+    }
+
+    private void writeSafely() {
+        try {
+            writeSnapshot();
+        } catch (IOException e) {
+            log.warn("Failed to write metrics snapshot: {}", e.getMessage());
+        }
+    }
+
+    private synchronized void writeSnapshot() throws IOException {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<String, Counter> entry : registry.counters().entrySet()) {
+            long value = entry.getValue().getCount();
+            Long previous = lastCounts.put(entry.getKey(), value);
+            long delta = value - (previous == null ? 0L : previous);
+            if (value == 0L) {
+                continue;
+            }
+            out.write(String.format(Locale.ROOT, "%d,counter,%s,%d,%d,,,,,", now, entry.getKey(), value, delta));
+            out.newLine();
+        }
+        for (Map.Entry<String, Gauge> entry : registry.gauges().entrySet()) {
+            Gauge gauge = entry.getValue();
+            out.write(String.format(Locale.ROOT, "%d,gauge,%s,%d,,,,,,%d",
+                    now, entry.getKey(), gauge.getValue(), gauge.getMax()));
+            out.newLine();
+        }
+        for (Map.Entry<String, Histogram> entry : registry.histograms().entrySet()) {
+            Histogram.Snapshot current = entry.getValue().snapshot();
+            Histogram.Snapshot previous = lastSnapshots.put(entry.getKey(), current);
+            Histogram.Snapshot interval = current.since(previous == null ? Histogram.Snapshot.EMPTY : previous);
+            if (interval.count() == 0L) {
+                continue;
+            }
+            out.write(String.format(Locale.ROOT, "%d,histogram,%s,,%d,%.1f,%d,%d,%d,%d",
+                    now, entry.getKey(), interval.count(), interval.mean(), interval.percentile(0.50),
+                    interval.percentile(0.90), interval.percentile(0.99), interval.max()));
+            out.newLine();
+        }
+        out.flush();
+    }
+
+    /**
+     * 停止定时任务，并写出最后一个周期的数据
+     */
+    @Override
+    public void close() throws IOException {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            writeSnapshot();
+            out.close();
+        }
+    }
+}
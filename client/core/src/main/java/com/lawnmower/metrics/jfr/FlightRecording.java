@@ -0,0 +1,50 @@
+package com.lawnmower.metrics.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+
+/**
+ * 连续的低开销 JFR 录制：使用 JDK 自带的 default 配置（官方标称开销 1% 以内）加上本包的自定义事件，
+ * 只在磁盘上保留最近一段时间，进程退出时写出到目标文件，可直接用 JDK Mission Control 或 {@code jfr print} 分析。
+ */
+public final class FlightRecording {
+
+    private static final Logger log = LoggerFactory.getLogger(FlightRecording.class);
+
+    private FlightRecording() {
+    }
+
+    /**
+     * @param destination 退出时写出的 .jfr 文件
+     * @param maxAge 保留的最近时长
+     * @return 已启动的录制；当前 JVM 不支持 JFR 时返回 null
+     */
+    public static Recording start(Path destination, Duration maxAge) {
+        try {
+            Recording recording = new Recording(Configuration.getConfiguration("default"));
+            recording.setName("lawnmower-continuous");
+            recording.setToDisk(true);
+            recording.setMaxAge(maxAge);
+            recording.setDumpOnExit(true);
+            recording.setDestination(destination);
+            recording.enable(PacketReceivedEvent.class);
+            recording.enable(StateSyncAppliedEvent.class);
+            recording.enable(ReconciliationEvent.class);
+            recording.enable(FrameRenderedEvent.class);
+            recording.enable(ReconnectAttemptEvent.class);
+            recording.start();
+            log.info("JFR continuous recording started, dumping last {} to {} on exit", maxAge, destination);
+            return recording;
+        } catch (IOException | ParseException | IllegalStateException | SecurityException e) {
+            log.warn("Failed to start JFR recording: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.lawnmower.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * GameScreen 一帧的分阶段耗时，事件持续时间为整个 render()
+ */
+@Name("com.lawnmower.FrameRendered")
+@Label("Frame Rendered")
+@Category({"Lawnmower", "Rendering"})
+@Description("输入与预测、世界更新、绘制三个阶段的耗时")
+@StackTrace(false)
+public final class FrameRenderedEvent extends Event {
+
+    @Label("Frame Delta")
+    @Timespan(Timespan.NANOSECONDS)
+    public long deltaNanos;
+
+    @Label("Input And Prediction")
+    @Timespan(Timespan.NANOSECONDS)
+    public long inputNanos;
+
+    @Label("World Update")
+    @Timespan(Timespan.NANOSECONDS)
+    public long worldNanos;
+
+    @Label("Draw")
+    @Timespan(Timespan.NANOSECONDS)
+    public long drawNanos;
+
+    @Label("Draw Commands")
+    public int drawCommands;
+}
@@ -0,0 +1,35 @@
+package com.lawnmower.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * 收到并解码一个服务器下行包
+ */
+@Name("com.lawnmower.PacketReceived")
+@Label("Packet Received")
+@Category({"Lawnmower", "Network"})
+@Description("服务器下行包：类型、字节数、传输通道与负载解码耗时")
+@StackTrace(false)
+public final class PacketReceivedEvent extends Event {
+
+    @Label("Message Type")
+    public String messageType;
+
+    @Label("Size")
+    @DataAmount
+    public int size;
+
+    @Label("Transport")
+    public String transport;
+
+    @Label("Decode Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long decodeNanos;
+}
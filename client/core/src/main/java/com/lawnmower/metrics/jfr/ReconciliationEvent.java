@@ -0,0 +1,31 @@
+package com.lawnmower.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 本地预测与服务器权威位置对账
+ */
+@Name("com.lawnmower.Reconciliation")
+@Label("Reconciliation")
+@Category({"Lawnmower", "Sync"})
+@Description("按 last_processed_input_seq 纠正预测位置并重放未确认输入")
+@StackTrace(false)
+public final class ReconciliationEvent extends Event {
+
+    @Label("Acknowledged Input Seq")
+    public int inputSeq;
+
+    @Label("Correction Distance (px)")
+    public float correctionDistance;
+
+    @Label("Replayed Inputs")
+    public int replayCount;
+
+    @Label("Pending Inputs")
+    public int pendingInputs;
+}
@@ -0,0 +1,34 @@
+package com.lawnmower.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * 一次断线重连尝试，事件持续时间覆盖 TCP 建连与发送重连请求
+ */
+@Name("com.lawnmower.ReconnectAttempt")
+@Label("Reconnect Attempt")
+@Category({"Lawnmower", "Network"})
+@Description("断线后的单次重连尝试及其结果")
+@StackTrace(false)
+public final class ReconnectAttemptEvent extends Event {
+
+    @Label("Attempt")
+    public int attempt;
+
+    @Label("Since Disconnect")
+    @Timespan(Timespan.MILLISECONDS)
+    public long sinceDisconnectMs;
+
+    /** TCP 已重新建连且重连请求已发出；服务器是否接受见随后的 S2C_ReconnectAck */
+    @Label("Request Sent")
+    public boolean requestSent;
+
+    @Label("Failure")
+    public String failure;
+}
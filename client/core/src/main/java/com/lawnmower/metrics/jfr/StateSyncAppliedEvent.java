@@ -0,0 +1,34 @@
+package com.lawnmower.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 渲染线程应用一次全量或增量状态同步，事件持续时间即应用耗时
+ */
+@Name("com.lawnmower.StateSyncApplied")
+@Label("State Sync Applied")
+@Category({"Lawnmower", "Sync"})
+@Description("GameScreen 应用 S2C_GameStateSync / S2C_GameStateDeltaSync")
+@StackTrace(false)
+public final class StateSyncAppliedEvent extends Event {
+
+    @Label("Tick")
+    public long tick;
+
+    @Label("Full Snapshot")
+    public boolean fullSnapshot;
+
+    @Label("Players")
+    public int players;
+
+    @Label("Enemies")
+    public int enemies;
+
+    @Label("Items")
+    public int items;
+}
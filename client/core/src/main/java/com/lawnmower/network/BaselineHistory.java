@@ -0,0 +1,97 @@
+package com.lawnmower.network;
+
+/**
+ * 客户端已确认的同步基线。
+ * <p>
+ * 同步里的字段都是绝对值：本地状态在某个 tick 之前连续（没有漏收），再应用任何基线不晚于该 tick 的
+ * 增量 / 追帧同步，状态就连续推进到新的 tick。因此不必保存每个 tick 的世界副本，只需记住自上次重置
+ * 以来连续应用过的 tick 区间 [floor, latest]：区间内的任意 tick 都可以作为服务器构造增量的基线。
+ * latest 即上行确认的 applied_tick；发现漏收后停止推进，直到追帧同步或全量快照把状态重新接上。
+ * <p>
+ * 只在渲染线程上使用，不做同步。
+ */
+public final class BaselineHistory {
+
+    private long floorTick = -1L;
+    private long latestTick = -1L;
+    private boolean gap;
+
+    /**
+     * 新对局 / 重置世界：之前的基线全部作废
+     */
+    public void reset() {
+        floorTick = -1L;
+        latestTick = -1L;
+        gap = false;
+    }
+
+    /**
+     * 应用了完整的全量快照：状态在该 tick 重新对齐，之前的基线不再可信
+     */
+    public void onFullSnapshot(long tick) {
+        if (tick < 0L) {
+            return;
+        }
+        floorTick = tick;
+        latestTick = tick;
+        gap = false;
+    }
+
+    /**
+     * 应用了基于 baselineTick 的房间增量 / 变化集合
+     * @param baselineTick 未知（旧服务器）时为负数，此时不推进也不判定漏收
+     * @return 是否连续；false 表示之前漏收了同步（或已处于漏收状态），调用方应请求追帧
+     */
+    public boolean onIncremental(long tick, long baselineTick) {
+        if (baselineTick < 0L || tick < 0L || latestTick < 0L) {
+            return true;
+        }
+        if (gap || !contains(baselineTick)) {
+            // 漏收之后的房间增量只带此后的变化，补不上空洞，只有追帧同步 / 全量快照能接上
+            gap = true;
+            return false;
+        }
+        latestTick = Math.max(latestTick, tick);
+        return true;
+    }
+
+    /**
+     * 应用了服务器按确认 tick 构造的追帧同步
+     * @return 基线是否仍在已确认区间内（否则是上一局 / 重置之前的确认，调用方应改要全量）
+     */
+    public boolean onCatchUp(long tick, long baselineTick) {
+        if (tick < 0L || !contains(baselineTick)) {
+            return false;
+        }
+        latestTick = Math.max(latestTick, tick);
+        gap = false;
+        return true;
+    }
+
+    /**
+     * 已应用的实体对不上（增量引用了本地不存在的实体）：状态不再连续，停止推进确认
+     */
+    public void markGap() {
+        if (latestTick >= 0L) {
+            gap = true;
+        }
+    }
+
+    /**
+     * @return baselineTick 是否在已确认区间内
+     */
+    public boolean contains(long baselineTick) {
+        return latestTick >= 0L && baselineTick >= floorTick && baselineTick <= latestTick;
+    }
+
+    public boolean hasGap() {
+        return gap;
+    }
+
+    /**
+     * @return 上行确认的 tick；没有可用基线时为 0
+     */
+    public long acknowledgedTick() {
+        return latestTick > 0L ? latestTick : 0L;
+    }
+}
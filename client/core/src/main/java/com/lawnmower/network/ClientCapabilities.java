@@ -0,0 +1,23 @@
+package com.lawnmower.network;
+
+import lawnmower.Message;
+
+/**
+ * 客户端在 C2S_Login / C2S_ReconnectRequest 的 capabilities 字段中声明的能力位（proto 的 ClientCapability）。
+ * 服务器据此决定是否使用新的编码。
+ */
+public final class ClientCapabilities {
+
+    /** CLIENT_CAP_QUANTIZED_POSITION：能解码增量中的定点坐标，见 {@link PositionCodec} */
+    public static final int QUANTIZED_POSITION = Message.ClientCapability.CLIENT_CAP_QUANTIZED_POSITION_VALUE;
+    /** CLIENT_CAP_TICK_EVENT_BUNDLE：能处理按 tick 打包的事件，见 {@link Message.S2C_TickEventBundle} */
+    public static final int TICK_EVENT_BUNDLE = Message.ClientCapability.CLIENT_CAP_TICK_EVENT_BUNDLE_VALUE;
+    /** CLIENT_CAP_RELIABLE_UDP：UDP 启用了可靠层，战斗事件可走可靠有序通道，见 {@link ReliableUdpChannel} */
+    public static final int RELIABLE_UDP = Message.ClientCapability.CLIENT_CAP_RELIABLE_UDP_VALUE;
+
+    /** 本客户端声明的全部能力位 */
+    public static final int SUPPORTED = QUANTIZED_POSITION | TICK_EVENT_BUNDLE | RELIABLE_UDP;
+
+    private ClientCapabilities() {
+    }
+}
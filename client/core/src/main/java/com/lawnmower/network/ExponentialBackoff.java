@@ -0,0 +1,35 @@
+package com.lawnmower.network;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 带抖动的指数退避（decorrelated jitter）：下一次等待在 [base, min(cap, 上次 × 3)] 内均匀取值。
+ * 既能在短暂断线后快速重试，又能让同时断线的大量客户端错开重连时刻。
+ * <p>
+ * 非线程安全，由调用方加锁。
+ */
+public final class ExponentialBackoff {
+
+    private final long baseMs;
+    private final long capMs;
+    private long previousMs;
+
+    public ExponentialBackoff(long baseMs, long capMs) {
+        if (baseMs <= 0L || capMs < baseMs) {
+            throw new IllegalArgumentException("invalid backoff range: base=" + baseMs + " cap=" + capMs);
+        }
+        this.baseMs = baseMs;
+        this.capMs = capMs;
+    }
+
+    public long nextDelayMs() {
+        long upper = Math.min(capMs, Math.max(baseMs, previousMs * 3L));
+        long delay = upper <= baseMs ? baseMs : ThreadLocalRandom.current().nextLong(baseMs, upper + 1L);
+        previousMs = delay;
+        return delay;
+    }
+
+    public void reset() {
+        previousMs = 0L;
+    }
+}
@@ -0,0 +1,106 @@
+package com.lawnmower.network;
+
+import com.google.protobuf.ByteString;
+import com.lawnmower.metrics.ClientMetrics;
+import lawnmower.Message;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UDP 应用层分片的重组。
+ * <p>
+ * 服务器把超过路径 MTU 的数据报（序列化后的 Packet，含可靠层头部）切成若干 MSG_UDP_FRAGMENT，
+ * 每片的 payload 是原数据报的一段，fragment_id(9) / fragment_index(10) / fragment_count(11) 标明归属。
+ * 避免 IP 分片：IP 层丢一片整个数据报都丢，而且中间设备常直接丢弃分片。
+ * 这里按 fragment_id 收齐后拼回原数据报；超过 {@link #TIMEOUT_MS} 仍不完整的直接丢弃，
+ * 可靠消息由服务器整体重传，快照等下一次同步。
+ * <p>
+ * 只在单个线程上调用（UDP 接收 / 整形线程，或回放线程），不做同步。
+ */
+public final class FragmentAssembler {
+
+    public static final long TIMEOUT_MS = 500L;
+
+    /** 与服务器的 kMaxFragments 一致 */
+    private static final int MAX_FRAGMENTS = 64;
+    /** 同时重组中的数据报上限，超过时淘汰最早的 */
+    private static final int MAX_PENDING = 32;
+
+    private final Map<Integer, Pending> pending = new LinkedHashMap<>();
+
+    public static boolean isFragment(Message.Packet packet) {
+        return packet.getMsgType() == Message.MessageType.MSG_UDP_FRAGMENT;
+    }
+
+    /**
+     * 收下一个分片
+     * @return 该分片补齐了整个数据报时返回拼好的字节，否则 null
+     */
+    public byte[] accept(Message.Packet fragment, long nowNanos) {
+        expire(nowNanos);
+        int id = fragment.getFragmentId();
+        int index = fragment.getFragmentIndex();
+        int count = fragment.getFragmentCount();
+        if (count <= 0 || count > MAX_FRAGMENTS || index < 0 || index >= count) {
+            return null;
+        }
+        ClientMetrics.UDP_FRAGMENTS_IN.increment();
+        Pending entry = pending.get(id);
+        if (entry == null || entry.parts.length != count) {
+            if (pending.size() >= MAX_PENDING) {
+                Iterator<Pending> oldest = pending.values().iterator();
+                oldest.next();
+                oldest.remove();
+                ClientMetrics.UDP_REASSEMBLY_DROPPED.increment();
+            }
+            entry = new Pending(count, nowNanos);
+            pending.put(id, entry);
+        }
+        if (entry.parts[index] != null) {
+            return null;
+        }
+        ByteString payload = fragment.getPayload();
+        entry.parts[index] = payload;
+        entry.received++;
+        entry.bytes += payload.size();
+        if (entry.received < count) {
+            return null;
+        }
+        pending.remove(id);
+        byte[] whole = new byte[entry.bytes];
+        int offset = 0;
+        for (ByteString part : entry.parts) {
+            part.copyTo(whole, offset);
+            offset += part.size();
+        }
+        return whole;
+    }
+
+    private void expire(long nowNanos) {
+        long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(TIMEOUT_MS);
+        Iterator<Pending> it = pending.values().iterator();
+        while (it.hasNext()) {
+            // 插入顺序即开始时间顺序，遇到未超时的即可停止
+            if (nowNanos - it.next().startNanos < timeoutNanos) {
+                break;
+            }
+            it.remove();
+            ClientMetrics.UDP_REASSEMBLY_DROPPED.increment();
+        }
+    }
+
+    private static final class Pending {
+        final ByteString[] parts;
+        final long startNanos;
+        int received;
+        int bytes;
+
+        Pending(int count, long startNanos) {
+            this.parts = new ByteString[count];
+            this.startNanos = startNanos;
+        }
+    }
+}
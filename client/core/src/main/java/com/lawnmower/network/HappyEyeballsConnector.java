@@ -0,0 +1,138 @@
+package com.lawnmower.network;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 按 RFC 8305（Happy Eyeballs）的思路并发建立 TCP 连接：
+ * <ul>
+ *     <li>解析出的地址按 IPv6 / IPv4 交替排列，每隔 {@link #ATTEMPT_DELAY_MS} 启动下一个尝试</li>
+ *     <li>某个尝试提前失败时立即启动下一个，不等间隔</li>
+ *     <li>最先连上的胜出，其余尝试的 socket 全部关闭</li>
+ * </ul>
+ * 只有一个地址时也会对同一地址补发一次尝试：切换 Wi-Fi 后首个 SYN 常常丢失，
+ * 不补发就要等内核 1 s 的 SYN 重传定时器。
+ */
+public final class HappyEyeballsConnector {
+
+    static final long ATTEMPT_DELAY_MS = 250L;
+    private static final int MIN_ATTEMPTS = 2;
+
+    private final Executor executor;
+    private final int connectTimeoutMs;
+
+    /**
+     * @param executor 执行阻塞 connect 的线程池，需能同时运行多个任务
+     * @param connectTimeoutMs 单个尝试的建连超时
+     */
+    public HappyEyeballsConnector(Executor executor, int connectTimeoutMs) {
+        this.executor = executor;
+        this.connectTimeoutMs = connectTimeoutMs;
+    }
+
+    /**
+     * 阻塞直到某个尝试连上或全部失败
+     * @return 已连接、已按 {@link TcpClient#newSocket()} 配置好的 socket
+     */
+    public Socket connect(String host, int port) throws IOException {
+        List<InetAddress> addresses = orderAddresses(InetAddress.getAllByName(host));
+        List<InetAddress> plan = new ArrayList<>(addresses);
+        while (plan.size() < MIN_ATTEMPTS) {
+            plan.add(addresses.get(plan.size() % addresses.size()));
+        }
+
+        BlockingQueue<Object> outcomes = new LinkedBlockingQueue<>();
+        List<Socket> started = new ArrayList<>(plan.size());
+        Socket winner = null;
+        IOException lastFailure = null;
+        int next = 0;
+        int pending = 0;
+        try {
+            while (next < plan.size() || pending > 0) {
+                if (next < plan.size()) {
+                    Socket socket = TcpClient.newSocket();
+                    started.add(socket);
+                    InetSocketAddress target = new InetSocketAddress(plan.get(next++), port);
+                    executor.execute(() -> attempt(socket, target, outcomes));
+                    pending++;
+                }
+                // 还有未启动的尝试时只等一个间隔；全部启动后等到各自的建连超时（留一点余量）
+                long waitMs = next < plan.size() ? ATTEMPT_DELAY_MS : connectTimeoutMs + ATTEMPT_DELAY_MS;
+                Object outcome = outcomes.poll(waitMs, TimeUnit.MILLISECONDS);
+                if (outcome == null) {
+                    if (next < plan.size()) {
+                        continue;
+                    }
+                    break;
+                }
+                pending--;
+                if (outcome instanceof Socket connected) {
+                    winner = connected;
+                    return connected;
+                }
+                lastFailure = (IOException) outcome;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("connect interrupted");
+        } finally {
+            for (Socket socket : started) {
+                if (socket != winner) {
+                    closeQuietly(socket);
+                }
+            }
+        }
+        if (lastFailure != null) {
+            throw lastFailure;
+        }
+        throw new SocketTimeoutException("connect to " + host + ":" + port + " timed out");
+    }
+
+    private void attempt(Socket socket, InetSocketAddress target, BlockingQueue<Object> outcomes) {
+        try {
+            socket.connect(target, connectTimeoutMs);
+            outcomes.add(socket);
+        } catch (IOException e) {
+            outcomes.add(e);
+        }
+    }
+
+    /**
+     * IPv6 优先，两个地址族交替排列
+     */
+    static List<InetAddress> orderAddresses(InetAddress[] resolved) {
+        List<InetAddress> v6 = new ArrayList<>();
+        List<InetAddress> v4 = new ArrayList<>();
+        for (InetAddress address : resolved) {
+            (address instanceof Inet6Address ? v6 : v4).add(address);
+        }
+        List<InetAddress> ordered = new ArrayList<>(resolved.length);
+        for (int i = 0; i < Math.max(v6.size(), v4.size()); i++) {
+            if (i < v6.size()) {
+                ordered.add(v6.get(i));
+            }
+            if (i < v4.size()) {
+                ordered.add(v4.get(i));
+            }
+        }
+        return ordered;
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException ignore) {
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.lawnmower.network;
+
+/**
+ * 入站数据包旁路监听：在 protobuf 解析之前拿到原始字节（录制等用途）。
+ * TCP 网络线程与 UDP 接收线程会并发回调，实现需自行保证线程安全，且不得修改 data。
+ */
+@FunctionalInterface
+public interface InboundPacketListener {
+
+    void onInbound(Transport transport, byte[] data, int length);
+}
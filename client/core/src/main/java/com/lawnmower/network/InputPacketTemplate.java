@@ -0,0 +1,206 @@
+package com.lawnmower.network;
+
+import lawnmower.Message;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 预编码的玩家输入数据报模板：Packet 信封头、player_id 和 session_token 每个会话只序列化一次，
+ * 每条输入只把 move_direction / is_attacking / input_seq / delta_ms 写进调用方复用的缓冲区。
+ * <p>
+ * 输出与 {@code Packet{msg_type, payload = C2S_PlayerInput}.toByteArray()} 逐字节一致（字段按编号升序、
+ * proto3 默认值省略），省去 toBuilder 附加令牌、toByteString 和 toByteArray 的三次分配与拷贝。
+ * 带 input_time 或未知字段的输入不走模板，见 {@link #supports}。不可变，可跨线程共享。
+ */
+public final class InputPacketTemplate {
+
+    private static final int PLAYER_ID_TAG = 1 << 3;
+    private static final int MOVE_DIRECTION_TAG = 2 << 3 | 2;
+    private static final int IS_ATTACKING_TAG = 3 << 3;
+    private static final int INPUT_SEQ_TAG = 5 << 3;
+    private static final int DELTA_MS_TAG = 6 << 3;
+    private static final int SESSION_TOKEN_TAG = 7 << 3 | 2;
+    private static final int VECTOR_X_TAG = 1 << 3 | 5;
+    private static final int VECTOR_Y_TAG = 2 << 3 | 5;
+    private static final int MSG_TYPE_TAG = 1 << 3;
+    private static final int PAYLOAD_TAG = 2 << 3 | 2;
+    /** 可变部分的上限：move_direction 12 + is_attacking 2 + input_seq 6 + delta_ms 6 */
+    private static final int MAX_VARIABLE_BYTES = 26;
+
+    private final int playerId;
+    private final String sessionToken;
+    // msg_type 字段和 payload 的 tag
+    private final byte[] envelopeHeader;
+    // payload 开头的 player_id 字段
+    private final byte[] payloadPrefix;
+    // payload 末尾的 session_token 字段
+    private final byte[] payloadSuffix;
+
+    public InputPacketTemplate(int playerId, String sessionToken) {
+        this.playerId = playerId;
+        this.sessionToken = sessionToken == null ? "" : sessionToken;
+
+        byte[] header = new byte[1 + 5 + 1];
+        int pos = 0;
+        int msgType = Message.MessageType.MSG_C2S_PLAYER_INPUT.getNumber();
+        if (msgType != 0) {
+            header[pos++] = (byte) MSG_TYPE_TAG;
+            pos = writeVarint(header, pos, msgType);
+        }
+        header[pos++] = (byte) PAYLOAD_TAG;
+        this.envelopeHeader = trim(header, pos);
+
+        byte[] prefix = new byte[1 + 5];
+        pos = 0;
+        if (playerId != 0) {
+            prefix[pos++] = (byte) PLAYER_ID_TAG;
+            pos = writeVarint(prefix, pos, playerId);
+        }
+        this.payloadPrefix = trim(prefix, pos);
+
+        byte[] token = this.sessionToken.getBytes(StandardCharsets.UTF_8);
+        if (token.length == 0) {
+            this.payloadSuffix = new byte[0];
+        } else {
+            byte[] suffix = new byte[1 + 5 + token.length];
+            pos = 0;
+            suffix[pos++] = (byte) SESSION_TOKEN_TAG;
+            pos = writeVarint(suffix, pos, token.length);
+            System.arraycopy(token, 0, suffix, pos, token.length);
+            this.payloadSuffix = trim(suffix, pos + token.length);
+        }
+    }
+
+    /**
+     * @return 模板是否对应该玩家和会话令牌，不对应时调用方应重建模板
+     */
+    public boolean matches(int playerId, String sessionToken) {
+        return this.playerId == playerId && this.sessionToken.equals(sessionToken);
+    }
+
+    /**
+     * @return 输入能否按模板编码：玩家一致、没有模板不认识的字段、自带的令牌为空或与模板相同
+     */
+    public boolean supports(Message.C2S_PlayerInput input) {
+        if (input.getPlayerId() != playerId || input.hasInputTime()) {
+            return false;
+        }
+        String token = input.getSessionToken();
+        if (!token.isEmpty() && !token.equals(sessionToken)) {
+            return false;
+        }
+        return input.getUnknownFields().asMap().isEmpty()
+                && (!input.hasMoveDirection() || input.getMoveDirection().getUnknownFields().asMap().isEmpty());
+    }
+
+    /**
+     * 把完整数据报（不含可靠层头部）写进 buffer 开头
+     * @return 写入的字节数；buffer 放不下时返回 -1
+     */
+    public int encode(Message.C2S_PlayerInput input, byte[] buffer) {
+        int payloadMax = payloadPrefix.length + MAX_VARIABLE_BYTES + payloadSuffix.length;
+        if (envelopeHeader.length + 5 + payloadMax > buffer.length) {
+            return -1;
+        }
+        // 先把可变字段写到 payload 长度前缀预留位置之后，算出实际长度后再回填前缀
+        int payloadStart = envelopeHeader.length + varintSize(payloadMax);
+        int pos = payloadStart;
+        System.arraycopy(payloadPrefix, 0, buffer, pos, payloadPrefix.length);
+        pos += payloadPrefix.length;
+        if (input.hasMoveDirection()) {
+            int x = Float.floatToRawIntBits(input.getMoveDirection().getX());
+            int y = Float.floatToRawIntBits(input.getMoveDirection().getY());
+            buffer[pos++] = (byte) MOVE_DIRECTION_TAG;
+            buffer[pos++] = (byte) ((x != 0 ? 5 : 0) + (y != 0 ? 5 : 0));
+            if (x != 0) {
+                buffer[pos++] = (byte) VECTOR_X_TAG;
+                pos = writeFixed32(buffer, pos, x);
+            }
+            if (y != 0) {
+                buffer[pos++] = (byte) VECTOR_Y_TAG;
+                pos = writeFixed32(buffer, pos, y);
+            }
+        }
+        if (input.getIsAttacking()) {
+            buffer[pos++] = (byte) IS_ATTACKING_TAG;
+            buffer[pos++] = 1;
+        }
+        if (input.getInputSeq() != 0) {
+            buffer[pos++] = (byte) INPUT_SEQ_TAG;
+            pos = writeVarint(buffer, pos, input.getInputSeq());
+        }
+        if (input.getDeltaMs() != 0) {
+            buffer[pos++] = (byte) DELTA_MS_TAG;
+            pos = writeVarint(buffer, pos, input.getDeltaMs());
+        }
+        System.arraycopy(payloadSuffix, 0, buffer, pos, payloadSuffix.length);
+        pos += payloadSuffix.length;
+
+        int payloadLength = pos - payloadStart;
+        int lengthStart = envelopeHeader.length;
+        int shift = payloadStart - (lengthStart + varintSize(payloadLength));
+        if (shift > 0) {
+            // 预留的长度前缀比实际需要的长，payload 整体前移
+            System.arraycopy(buffer, payloadStart, buffer, payloadStart - shift, payloadLength);
+            pos -= shift;
+        }
+        System.arraycopy(envelopeHeader, 0, buffer, 0, envelopeHeader.length);
+        writeVarint(buffer, lengthStart, payloadLength);
+        return pos;
+    }
+
+    /**
+     * 模板放不下或不支持时的回退：按原方式把令牌附加到消息上
+     */
+    public Message.C2S_PlayerInput withSessionToken(Message.C2S_PlayerInput input) {
+        if (sessionToken.isEmpty() || sessionToken.equals(input.getSessionToken())) {
+            return input;
+        }
+        return input.toBuilder().setSessionToken(sessionToken).build();
+    }
+
+    /**
+     * 按 uint32 写 varint：负数视为无符号 32 位，与 CodedOutputStream.writeUInt32NoTag 一致
+     */
+    static int writeVarint(byte[] buffer, int pos, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[pos++] = (byte) value;
+        return pos;
+    }
+
+    static int writeFixed32(byte[] buffer, int pos, int value) {
+        buffer[pos++] = (byte) value;
+        buffer[pos++] = (byte) (value >>> 8);
+        buffer[pos++] = (byte) (value >>> 16);
+        buffer[pos++] = (byte) (value >>> 24);
+        return pos;
+    }
+
+    private static int varintSize(int value) {
+        if ((value & ~0x7F) == 0) {
+            return 1;
+        }
+        if ((value & ~0x3FFF) == 0) {
+            return 2;
+        }
+        if ((value & ~0x1FFFFF) == 0) {
+            return 3;
+        }
+        if ((value & ~0xFFFFFFF) == 0) {
+            return 4;
+        }
+        return 5;
+    }
+
+    private static byte[] trim(byte[] bytes, int length) {
+        if (bytes.length == length) {
+            return bytes;
+        }
+        byte[] trimmed = new byte[length];
+        System.arraycopy(bytes, 0, trimmed, 0, length);
+        return trimmed;
+    }
+}
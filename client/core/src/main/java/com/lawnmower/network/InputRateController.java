@@ -0,0 +1,125 @@
+package com.lawnmower.network;
+
+/**
+ * 自适应输入发送节奏：按平滑 RTT、下行同步丢失率和服务器逻辑帧率，选择输入的最小发送间隔与单条指令的最长合并时长。
+ * <ul>
+ *     <li>LAN：RTT 低且几乎不丢包，~100Hz 发送、指令最长 25ms，手感优先</li>
+ *     <li>NORMAL：约每半个逻辑帧一包，指令最长一个逻辑帧</li>
+ *     <li>CONGESTED：RTT 高或持续丢包（如手机热点），每个逻辑帧一包，同向输入合并为最长两个逻辑帧的指令</li>
+ * </ul>
+ * 服务器每个逻辑帧才消费一次输入，发得比逻辑帧更密只在低延迟链路上有意义；方向变化和攻击仍立即结束当前指令，
+ * 合并只拉长持续按住同一方向时的包间隔。
+ * <p>
+ * 丢失率取同步基线断档（漏收增量后基线接不上）的 EWMA。切到更保守的档位立即生效，
+ * 回到更激进的档位需条件连续满足 {@link #UPGRADE_HOLD_MS}，避免在阈值附近来回切换。
+ * <p>
+ * 非线程安全，只在渲染线程上调用。
+ */
+public final class InputRateController {
+
+    public enum Tier {
+        LAN,
+        NORMAL,
+        CONGESTED
+    }
+
+    private static final int DEFAULT_TICK_RATE = 30;
+    private static final long MIN_SEND_INTERVAL_MS = 10L;
+    private static final float MIN_COMMAND_SECONDS = 0.025f;
+    private static final float LAN_RTT_MS = 40f;
+    private static final float CONGESTED_RTT_MS = 180f;
+    private static final float LAN_LOSS = 0.01f;
+    private static final float CONGESTED_LOSS = 0.05f;
+    private static final float LOSS_SMOOTH_ALPHA = 0.05f;
+    private static final long UPGRADE_HOLD_MS = 3000L;
+
+    private long tickIntervalMs = 1000L / DEFAULT_TICK_RATE;
+    private float lossRate = 0f;
+    private Tier tier = Tier.NORMAL;
+    private long upgradeSinceMs = -1L;
+
+    /**
+     * @param tickRate SceneInfo.tick_rate，0 表示未知，按 30Hz 计
+     */
+    public void setServerTickRate(int tickRate) {
+        int rate = tickRate > 0 ? tickRate : DEFAULT_TICK_RATE;
+        tickIntervalMs = Math.max(MIN_SEND_INTERVAL_MS, 1000L / rate);
+    }
+
+    /**
+     * 每应用一份同步调用一次
+     * @param gap 这份同步是否暴露了漏收（基线接不上）
+     * @param smoothedRttMs 当前平滑 RTT
+     * @return 档位是否发生变化
+     */
+    public boolean onSyncApplied(boolean gap, float smoothedRttMs, long nowMs) {
+        lossRate += ((gap ? 1f : 0f) - lossRate) * LOSS_SMOOTH_ALPHA;
+        Tier target = classify(smoothedRttMs);
+        if (target.ordinal() >= tier.ordinal()) {
+            upgradeSinceMs = -1L;
+            if (target == tier) {
+                return false;
+            }
+            tier = target;
+            return true;
+        }
+        if (upgradeSinceMs < 0L) {
+            upgradeSinceMs = nowMs;
+            return false;
+        }
+        if (nowMs - upgradeSinceMs < UPGRADE_HOLD_MS) {
+            return false;
+        }
+        // 每次只回升一档，回升后重新计时
+        tier = Tier.values()[tier.ordinal() - 1];
+        upgradeSinceMs = -1L;
+        return true;
+    }
+
+    private Tier classify(float rttMs) {
+        if (Float.isNaN(rttMs) || rttMs >= CONGESTED_RTT_MS || lossRate >= CONGESTED_LOSS) {
+            return Tier.CONGESTED;
+        }
+        if (rttMs < LAN_RTT_MS && lossRate < LAN_LOSS) {
+            return Tier.LAN;
+        }
+        return Tier.NORMAL;
+    }
+
+    public long sendIntervalMs() {
+        switch (tier) {
+            case LAN:
+                return MIN_SEND_INTERVAL_MS;
+            case CONGESTED:
+                return tickIntervalMs;
+            default:
+                return Math.max(MIN_SEND_INTERVAL_MS, tickIntervalMs / 2L);
+        }
+    }
+
+    public float maxCommandSeconds() {
+        switch (tier) {
+            case LAN:
+                return MIN_COMMAND_SECONDS;
+            case CONGESTED:
+                return Math.max(MIN_COMMAND_SECONDS, tickIntervalMs * 2L / 1000f);
+            default:
+                return Math.max(MIN_COMMAND_SECONDS, tickIntervalMs / 1000f);
+        }
+    }
+
+    /**
+     * @return 当前档位下每秒最多发送的输入包数
+     */
+    public int sendRateHz() {
+        return (int) (1000L / sendIntervalMs());
+    }
+
+    public Tier tier() {
+        return tier;
+    }
+
+    public float lossRate() {
+        return lossRate;
+    }
+}
@@ -0,0 +1,85 @@
+package com.lawnmower.network;
+
+import lawnmower.Message;
+
+/**
+ * 区域订阅（C2S_InterestArea，经 TCP 上报）：相机视野外扩一圈边距后的世界矩形。
+ * 上报后服务器只下发区域内的敌人与道具，实体进出区域由增量里的 entered_* / left_*_ids 字段告知。
+ * <p>
+ * 边距让相机在区域内移动时不必重报：视野离区域边界不足半个边距、或视野尺寸变化（缩放 / 窗口大小）时才重报。
+ */
+public final class InterestArea {
+
+    /** 视野尺寸变化超过该值（世界单位）视为缩放，需要重报 */
+    private static final float SIZE_EPSILON = 1f;
+
+    public final float minX;
+    public final float minY;
+    public final float maxX;
+    public final float maxY;
+
+    public InterestArea(float minX, float minY, float maxX, float maxY) {
+        this.minX = Math.min(minX, maxX);
+        this.minY = Math.min(minY, maxY);
+        this.maxX = Math.max(minX, maxX);
+        this.maxY = Math.max(minY, maxY);
+    }
+
+    /**
+     * 以视野中心、半宽高构造并外扩 margin
+     */
+    public static InterestArea around(float centerX, float centerY, float halfWidth, float halfHeight, float margin) {
+        return new InterestArea(centerX - halfWidth - margin, centerY - halfHeight - margin,
+                centerX + halfWidth + margin, centerY + halfHeight + margin);
+    }
+
+    public boolean contains(float x, float y) {
+        return x >= minX && x <= maxX && y >= minY && y <= maxY;
+    }
+
+    /**
+     * 区域外扩 slack 后是否包含该点；判定离开时用，避免实体在边界上反复进出
+     */
+    public boolean containsWithSlack(float x, float y, float slack) {
+        return x >= minX - slack && x <= maxX + slack && y >= minY - slack && y <= maxY + slack;
+    }
+
+    /**
+     * @return 按同样的 margin 上报的区域里，这个视野仍离边界至少半个边距且尺寸未变，即无需重报
+     */
+    public boolean covers(float centerX, float centerY, float halfWidth, float halfHeight, float margin) {
+        float width = 2f * (halfWidth + margin);
+        float height = 2f * (halfHeight + margin);
+        if (Math.abs((maxX - minX) - width) > SIZE_EPSILON || Math.abs((maxY - minY) - height) > SIZE_EPSILON) {
+            return false;
+        }
+        float gap = margin * 0.5f;
+        return centerX - halfWidth - gap >= minX && centerX + halfWidth + gap <= maxX
+                && centerY - halfHeight - gap >= minY && centerY + halfHeight + gap <= maxY;
+    }
+
+    public static InterestArea from(Message.C2S_InterestArea message) {
+        return new InterestArea(message.getMinX(), message.getMinY(), message.getMaxX(), message.getMaxY());
+    }
+
+    public Message.C2S_InterestArea toMessage() {
+        return Message.C2S_InterestArea.newBuilder()
+                .setMinX(minX)
+                .setMinY(minY)
+                .setMaxX(maxX)
+                .setMaxY(maxY)
+                .build();
+    }
+
+    public Message.Packet toPacket() {
+        return Message.Packet.newBuilder()
+                .setMsgType(Message.MessageType.MSG_C2S_INTEREST_AREA)
+                .setPayload(toMessage().toByteString())
+                .build();
+    }
+
+    @Override
+    public String toString() {
+        return "[" + minX + "," + minY + " - " + maxX + "," + maxY + "]";
+    }
+}
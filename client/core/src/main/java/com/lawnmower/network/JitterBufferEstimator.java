@@ -0,0 +1,136 @@
+package com.lawnmower.network;
+
+/**
+ * 插值缓冲（jitter buffer）的延迟估计：滑动窗口直方图统计快照到达间隔，取目标分位数作为插值延迟。
+ * <p>
+ * 每份快照到达时记录一个样本：此刻估算的服务器时间减去上一份快照的服务器时间，
+ * 即新快照到达前手上最新状态已经“旧”了多久。渲染时间落后服务器时间至少这么多，才不会在等下一份快照时外推。
+ * 该样本同时包含发送间隔和网络抖动，取窗口内 p95 时约 5% 的间隔会短暂外推，
+ * 比按 EWMA 均值和偏差拼出的经验公式更接近“刚好不外推”的最小延迟。
+ * <p>
+ * 另按渲染帧统计欠载（渲染时间已超过最新快照、只能外推）的比例，用于校验分位数是否合适。
+ * 非线程安全，只在渲染线程上调用。
+ */
+public final class JitterBufferEstimator {
+
+    public static final float DEFAULT_PERCENTILE = 0.95f;
+
+    /** 窗口样本数，30Hz 同步约 8.5 秒 */
+    private static final int WINDOW = 256;
+    private static final int BUCKET_MS = 2;
+    private static final int BUCKETS = 256;
+    /** 样本不足时沿用的初始延迟 */
+    private static final int MIN_SAMPLES = 16;
+    private static final long INITIAL_DELAY_MS = 100L;
+    /** 欠载率统计的帧窗口，60 FPS 约 5 秒 */
+    private static final int FRAME_WINDOW = 300;
+
+    private final float percentile;
+    private final int[] histogram = new int[BUCKETS];
+    private final int[] samples = new int[WINDOW];
+    private int sampleCount;
+    private int sampleHead;
+    private long targetDelayMs = INITIAL_DELAY_MS;
+    private long lastServerTimeMs = -1L;
+
+    private final boolean[] frames = new boolean[FRAME_WINDOW];
+    private int frameCount;
+    private int frameHead;
+    private int underflowFrames;
+
+    public JitterBufferEstimator(float percentile) {
+        if (!(percentile > 0f && percentile < 1f)) {
+            throw new IllegalArgumentException("percentile must be in (0, 1): " + percentile);
+        }
+        this.percentile = percentile;
+    }
+
+    /**
+     * 记录一份已应用的快照
+     * @param serverTimeMs 快照的服务器时间
+     * @param estimatedServerNowMs 应用时估算的服务器时间
+     */
+    public void onSnapshot(long serverTimeMs, long estimatedServerNowMs) {
+        if (lastServerTimeMs >= 0L && serverTimeMs > lastServerTimeMs) {
+            long coverage = Math.max(0L, estimatedServerNowMs - lastServerTimeMs);
+            addSample((int) Math.min(BUCKETS - 1, coverage / BUCKET_MS));
+        }
+        if (lastServerTimeMs < 0L || serverTimeMs > lastServerTimeMs) {
+            lastServerTimeMs = serverTimeMs;
+        }
+    }
+
+    /**
+     * 断线等长时间中断后调用：下一份快照不与中断前的快照配对，避免一个超长间隔污染窗口
+     */
+    public void restart() {
+        lastServerTimeMs = -1L;
+    }
+
+    /**
+     * 记录一帧渲染
+     * @param renderServerTimeMs 本帧渲染对应的服务器时间
+     * @return 本帧是否欠载（渲染时间超过最新快照）
+     */
+    public boolean onRenderFrame(long renderServerTimeMs) {
+        boolean underflow = lastServerTimeMs >= 0L && renderServerTimeMs > lastServerTimeMs;
+        if (frameCount == FRAME_WINDOW) {
+            if (frames[frameHead]) {
+                underflowFrames--;
+            }
+        } else {
+            frameCount++;
+        }
+        frames[frameHead] = underflow;
+        if (underflow) {
+            underflowFrames++;
+        }
+        frameHead = (frameHead + 1) % FRAME_WINDOW;
+        return underflow;
+    }
+
+    /**
+     * @return 覆盖目标分位数所需的插值延迟（ms）
+     */
+    public long targetDelayMs() {
+        return targetDelayMs;
+    }
+
+    /**
+     * @return 最近一个帧窗口内的欠载比例（0~1）
+     */
+    public float underflowRate() {
+        return frameCount == 0 ? 0f : (float) underflowFrames / frameCount;
+    }
+
+    public float percentile() {
+        return percentile;
+    }
+
+    private void addSample(int bucket) {
+        if (sampleCount == WINDOW) {
+            histogram[samples[sampleHead]]--;
+        } else {
+            sampleCount++;
+        }
+        samples[sampleHead] = bucket;
+        histogram[bucket]++;
+        sampleHead = (sampleHead + 1) % WINDOW;
+        if (sampleCount >= MIN_SAMPLES) {
+            targetDelayMs = quantileMs();
+        }
+    }
+
+    private long quantileMs() {
+        int rank = (int) Math.ceil(percentile * sampleCount);
+        int seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += histogram[bucket];
+            if (seen >= rank) {
+                // 取桶上沿，宁可多留一点
+                return (long) (bucket + 1) * BUCKET_MS;
+            }
+        }
+        return (long) BUCKETS * BUCKET_MS;
+    }
+}
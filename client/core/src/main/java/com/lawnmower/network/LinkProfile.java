@@ -0,0 +1,275 @@
+package com.lawnmower.network;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * 模拟网络链路的参数：单向延迟、抖动、丢包、重复、乱序。
+ * <p>
+ * 单个链路可以用紧凑写法描述，例如 {@code latency=150,jitter=20,loss=0.05,dup=0.01,reorder=0.02}；
+ * 也可以在 properties 文件中按名称定义，并用 stages 把多个链路串成循环脚本：
+ * <pre>
+ *   wan150.latency=150
+ *   wan150.jitter=20
+ *   wan150.loss=0.05
+ *   flaky.stages=lan:5000,wan150:3000     # 5 秒 lan 后切换 3 秒 wan150，循环
+ * </pre>
+ * 所有时间单位为毫秒，概率为 0~1。
+ */
+public final class LinkProfile {
+
+    /** 默认打包在 classpath 中的预设文件 */
+    public static final String BUILTIN_RESOURCE = "/netsim/link-profiles.properties";
+
+    public static final LinkProfile PERFECT = new LinkProfile("perfect", 0, 0, 0f, 0f, 0f, 0, List.of());
+
+    private final String name;
+    private final int latencyMs;
+    private final int jitterMs;
+    private final float lossRate;
+    private final float duplicateRate;
+    private final float reorderRate;
+    private final int reorderDelayMs;
+    private final List<Stage> stages;
+
+    private LinkProfile(String name, int latencyMs, int jitterMs, float lossRate, float duplicateRate,
+                        float reorderRate, int reorderDelayMs, List<Stage> stages) {
+        this.name = name;
+        this.latencyMs = Math.max(0, latencyMs);
+        this.jitterMs = Math.max(0, jitterMs);
+        this.lossRate = clampRate(lossRate);
+        this.duplicateRate = clampRate(duplicateRate);
+        this.reorderRate = clampRate(reorderRate);
+        this.reorderDelayMs = Math.max(0, reorderDelayMs);
+        this.stages = stages;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLatencyMs() {
+        return latencyMs;
+    }
+
+    public int getJitterMs() {
+        return jitterMs;
+    }
+
+    public float getLossRate() {
+        return lossRate;
+    }
+
+    public float getDuplicateRate() {
+        return duplicateRate;
+    }
+
+    public float getReorderRate() {
+        return reorderRate;
+    }
+
+    /**
+     * 被乱序的包额外延迟的时长，默认取一个同步间隔左右，保证它确实落在后续包之后
+     */
+    public int getReorderDelayMs() {
+        return reorderDelayMs;
+    }
+
+    public boolean isScripted() {
+        return !stages.isEmpty();
+    }
+
+    /**
+     * 返回脚本在 elapsedMs 时刻生效的链路；非脚本链路返回自身
+     */
+    public LinkProfile resolve(long elapsedMs) {
+        if (stages.isEmpty()) {
+            return this;
+        }
+        long cycle = 0L;
+        for (Stage stage : stages) {
+            cycle += stage.durationMs;
+        }
+        long offset = cycle <= 0L ? 0L : Math.floorMod(elapsedMs, cycle);
+        for (Stage stage : stages) {
+            if (offset < stage.durationMs) {
+                return stage.profile;
+            }
+            offset -= stage.durationMs;
+        }
+        return stages.get(stages.size() - 1).profile;
+    }
+
+    @Override
+    public String toString() {
+        if (isScripted()) {
+            StringBuilder sb = new StringBuilder(name).append('[');
+            for (int i = 0; i < stages.size(); i++) {
+                if (i > 0) {
+                    sb.append(',');
+                }
+                sb.append(stages.get(i).profile.name).append(':').append(stages.get(i).durationMs);
+            }
+            return sb.append(']').toString();
+        }
+        return String.format(Locale.ROOT, "%s(latency=%d,jitter=%d,loss=%.3f,dup=%.3f,reorder=%.3f)",
+                name, latencyMs, jitterMs, lossRate, duplicateRate, reorderRate);
+    }
+
+    /**
+     * 解析紧凑写法 {@code key=value,key=value}
+     * @throws IllegalArgumentException 未知字段或数值格式错误
+     */
+    public static LinkProfile parse(String name, String spec) {
+        Map<String, String> values = new LinkedHashMap<>();
+        if (spec != null) {
+            for (String part : spec.split(",")) {
+                if (part.isBlank()) {
+                    continue;
+                }
+                int eq = part.indexOf('=');
+                if (eq <= 0) {
+                    throw new IllegalArgumentException("Invalid link setting: " + part);
+                }
+                values.put(part.substring(0, eq).trim(), part.substring(eq + 1).trim());
+            }
+        }
+        return fromValues(name, values, Map.of());
+    }
+
+    /**
+     * 从 properties 加载全部命名链路，stages 可以引用同一文件中的其它链路
+     */
+    public static Map<String, LinkProfile> load(InputStream in) throws IOException {
+        Properties properties = new Properties();
+        properties.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+        Map<String, Map<String, String>> grouped = new LinkedHashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            int dot = key.indexOf('.');
+            if (dot <= 0) {
+                throw new IllegalArgumentException("Link profile key must be <name>.<field>: " + key);
+            }
+            grouped.computeIfAbsent(key.substring(0, dot), k -> new LinkedHashMap<>())
+                    .put(key.substring(dot + 1), properties.getProperty(key).trim());
+        }
+        Map<String, LinkProfile> profiles = new LinkedHashMap<>();
+        // 先解析普通链路，再解析引用它们的脚本
+        for (Map.Entry<String, Map<String, String>> entry : grouped.entrySet()) {
+            if (!entry.getValue().containsKey("stages")) {
+                profiles.put(entry.getKey(), fromValues(entry.getKey(), entry.getValue(), profiles));
+            }
+        }
+        for (Map.Entry<String, Map<String, String>> entry : grouped.entrySet()) {
+            if (entry.getValue().containsKey("stages")) {
+                profiles.put(entry.getKey(), fromValues(entry.getKey(), entry.getValue(), profiles));
+            }
+        }
+        return Collections.unmodifiableMap(profiles);
+    }
+
+    /**
+     * 按名称查找内置预设；名称中含 '=' 时按紧凑写法解析
+     */
+    public static LinkProfile resolveNamed(String nameOrSpec) throws IOException {
+        if (nameOrSpec == null || nameOrSpec.isBlank()) {
+            return PERFECT;
+        }
+        if (nameOrSpec.indexOf('=') >= 0) {
+            return parse("custom", nameOrSpec);
+        }
+        try (InputStream in = LinkProfile.class.getResourceAsStream(BUILTIN_RESOURCE)) {
+            if (in == null) {
+                throw new IOException("Missing link profile resource " + BUILTIN_RESOURCE);
+            }
+            LinkProfile profile = load(in).get(nameOrSpec);
+            if (profile == null) {
+                throw new IllegalArgumentException("Unknown link profile: " + nameOrSpec);
+            }
+            return profile;
+        }
+    }
+
+    private static LinkProfile fromValues(String name, Map<String, String> values,
+                                          Map<String, LinkProfile> known) {
+        int latency = 0;
+        int jitter = 0;
+        float loss = 0f;
+        float dup = 0f;
+        float reorder = 0f;
+        int reorderDelay = -1;
+        List<Stage> stages = new ArrayList<>();
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            String value = entry.getValue();
+            try {
+                switch (entry.getKey()) {
+                    case "latency" -> latency = Integer.parseInt(value);
+                    case "jitter" -> jitter = Integer.parseInt(value);
+                    case "loss" -> loss = Float.parseFloat(value);
+                    case "dup" -> dup = Float.parseFloat(value);
+                    case "reorder" -> reorder = Float.parseFloat(value);
+                    case "reorderDelay" -> reorderDelay = Integer.parseInt(value);
+                    case "stages" -> stages.addAll(parseStages(name, value, known));
+                    default -> throw new IllegalArgumentException(
+                            "Unknown link setting '" + entry.getKey() + "' in profile " + name);
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid value for " + name + "." + entry.getKey()
+                        + ": " + value, e);
+            }
+        }
+        if (reorderDelay < 0) {
+            reorderDelay = Math.max(40, jitter * 2);
+        }
+        return new LinkProfile(name, latency, jitter, loss, dup, reorder, reorderDelay, List.copyOf(stages));
+    }
+
+    private static List<Stage> parseStages(String name, String spec, Map<String, LinkProfile> known) {
+        List<Stage> stages = new ArrayList<>();
+        for (String part : spec.split(",")) {
+            if (part.isBlank()) {
+                continue;
+            }
+            int colon = part.indexOf(':');
+            if (colon <= 0) {
+                throw new IllegalArgumentException("Stage must be <profile>:<durationMs> in " + name + ": " + part);
+            }
+            String stageName = part.substring(0, colon).trim();
+            LinkProfile profile = known.get(stageName);
+            if (profile == null || profile.isScripted()) {
+                throw new IllegalArgumentException("Unknown stage profile '" + stageName + "' in " + name);
+            }
+            long duration = Long.parseLong(part.substring(colon + 1).trim());
+            if (duration <= 0L) {
+                throw new IllegalArgumentException("Stage duration must be positive in " + name + ": " + part);
+            }
+            stages.add(new Stage(profile, duration));
+        }
+        return stages;
+    }
+
+    private static float clampRate(float rate) {
+        if (Float.isNaN(rate)) {
+            return 0f;
+        }
+        return Math.max(0f, Math.min(1f, rate));
+    }
+
+    private static final class Stage {
+        final LinkProfile profile;
+        final long durationMs;
+
+        Stage(LinkProfile profile, long durationMs) {
+            this.profile = profile;
+            this.durationMs = durationMs;
+        }
+    }
+}
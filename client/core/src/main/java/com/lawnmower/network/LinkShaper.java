@@ -0,0 +1,238 @@
+package com.lawnmower.network;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * 单向链路整形器：按 {@link LinkProfile} 给经过的数据包加上延迟、抖动、丢包、重复与乱序。
+ * <p>
+ * DATAGRAM 模式对应 UDP：每个包独立计算到达时间，可能丢失、重复或被后续包超越；
+ * STREAM 模式对应 TCP：不丢不乱，"丢包"表现为重传等待，并阻塞其后的所有数据（队头阻塞）。
+ * <p>
+ * 既可以 {@link #start(String)} 启动后台线程按时投递，也可以由调用方每帧 {@link #drainDue(long)} 主动拉取
+ * （headless 压测用，投递发生在调用线程上）。
+ */
+public final class LinkShaper {
+    private static final Logger log = LoggerFactory.getLogger(LinkShaper.class);
+
+    /** TCP 最小重传超时（Linux 默认 200ms） */
+    private static final long MIN_RTO_NANOS = 200_000_000L;
+
+    public enum Delivery {
+        DATAGRAM,
+        STREAM
+    }
+
+    private final LinkProfile profile;
+    private final Delivery delivery;
+    private final Random random;
+    private final long startNanos;
+    private final PriorityQueue<Pending> queue = new PriorityQueue<>();
+
+    private long nextSeq;
+    private long lastStreamDueNanos;
+    private long submitted;
+    private long delivered;
+    private long dropped;
+    private long duplicated;
+    private long reordered;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public LinkShaper(LinkProfile profile, Delivery delivery, long seed) {
+        this.profile = profile == null ? LinkProfile.PERFECT : profile;
+        this.delivery = delivery;
+        this.random = new Random(seed);
+        this.startNanos = System.nanoTime();
+    }
+
+    public LinkProfile getProfile() {
+        return profile;
+    }
+
+    /**
+     * 提交一个数据包；到期后以原数组回调 target（调用方不得再修改 data）
+     */
+    public void submit(byte[] data, Consumer<byte[]> target) {
+        if (data == null || target == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        synchronized (this) {
+            submitted++;
+            LinkProfile active = profile.resolve((now - startNanos) / 1_000_000L);
+            if (delivery == Delivery.STREAM) {
+                scheduleStream(active, data, target, now);
+            } else {
+                scheduleDatagram(active, data, target, now);
+            }
+            notifyAll();
+        }
+    }
+
+    /**
+     * 在调用线程上投递所有到期的数据包
+     * @return 本次投递的数量
+     */
+    public int drainDue(long nowNanos) {
+        int count = 0;
+        while (true) {
+            Pending next;
+            synchronized (this) {
+                Pending head = queue.peek();
+                if (head == null || head.dueNanos > nowNanos) {
+                    return count;
+                }
+                next = queue.poll();
+                delivered++;
+            }
+            deliver(next);
+            count++;
+        }
+    }
+
+    /**
+     * 启动后台投递线程（守护线程）
+     */
+    public synchronized void start(String threadName) {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::deliveryLoop, threadName);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * 停止后台投递，未到期的数据包直接丢弃
+     */
+    public synchronized void stop() {
+        running = false;
+        queue.clear();
+        notifyAll();
+        if (worker != null) {
+            worker.interrupt();
+            worker = null;
+        }
+    }
+
+    public synchronized int getQueuedCount() {
+        return queue.size();
+    }
+
+    public synchronized long getSubmittedCount() {
+        return submitted;
+    }
+
+    public synchronized long getDeliveredCount() {
+        return delivered;
+    }
+
+    public synchronized long getDroppedCount() {
+        return dropped;
+    }
+
+    public synchronized long getDuplicatedCount() {
+        return duplicated;
+    }
+
+    public synchronized long getReorderedCount() {
+        return reordered;
+    }
+
+    private void scheduleDatagram(LinkProfile active, byte[] data, Consumer<byte[]> target, long now) {
+        if (active.getLossRate() > 0f && random.nextFloat() < active.getLossRate()) {
+            dropped++;
+            return;
+        }
+        long due = now + sampleDelayNanos(active);
+        if (active.getReorderRate() > 0f && random.nextFloat() < active.getReorderRate()) {
+            due += active.getReorderDelayMs() * 1_000_000L;
+            reordered++;
+        }
+        queue.add(new Pending(due, nextSeq++, data, target));
+        if (active.getDuplicateRate() > 0f && random.nextFloat() < active.getDuplicateRate()) {
+            long extra = (long) (random.nextFloat() * Math.max(1, active.getJitterMs()) * 1_000_000L);
+            queue.add(new Pending(due + extra, nextSeq++, data, target));
+            duplicated++;
+        }
+    }
+
+    private void scheduleStream(LinkProfile active, byte[] data, Consumer<byte[]> target, long now) {
+        long due = now + sampleDelayNanos(active);
+        if (active.getLossRate() > 0f && random.nextFloat() < active.getLossRate()) {
+            // 首次发送丢失：等一个 RTO 后重传，重传本身再走一次单向延迟
+            long rto = Math.max(MIN_RTO_NANOS, active.getLatencyMs() * 4_000_000L);
+            due += rto + sampleDelayNanos(active);
+            dropped++;
+        }
+        // 字节流保序：后发的数据不能先于前面的数据到达
+        due = Math.max(due, lastStreamDueNanos);
+        lastStreamDueNanos = due;
+        queue.add(new Pending(due, nextSeq++, data, target));
+    }
+
+    private long sampleDelayNanos(LinkProfile active) {
+        double delayMs = active.getLatencyMs();
+        if (active.getJitterMs() > 0) {
+            delayMs += random.nextGaussian() * active.getJitterMs();
+        }
+        return (long) (Math.max(0.0, delayMs) * 1_000_000.0);
+    }
+
+    private void deliveryLoop() {
+        while (running) {
+            Pending next;
+            synchronized (this) {
+                Pending head = queue.peek();
+                long now = System.nanoTime();
+                if (head == null || head.dueNanos > now) {
+                    long waitNanos = head == null ? 100_000_000L : head.dueNanos - now;
+                    try {
+                        wait(waitNanos / 1_000_000L, (int) (waitNanos % 1_000_000L));
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    continue;
+                }
+                next = queue.poll();
+                delivered++;
+            }
+            deliver(next);
+        }
+    }
+
+    private void deliver(Pending pending) {
+        try {
+            pending.target.accept(pending.data);
+        } catch (RuntimeException e) {
+            log.warn("Shaped packet delivery failed: {}", e.getMessage());
+        }
+    }
+
+    private static final class Pending implements Comparable<Pending> {
+        final long dueNanos;
+        final long seq;
+        final byte[] data;
+        final Consumer<byte[]> target;
+
+        Pending(long dueNanos, long seq, byte[] data, Consumer<byte[]> target) {
+            this.dueNanos = dueNanos;
+            this.seq = seq;
+            this.data = data;
+            this.target = target;
+        }
+
+        @Override
+        public int compareTo(Pending other) {
+            int byDue = Long.compare(dueNanos, other.dueNanos);
+            return byDue != 0 ? byDue : Long.compare(seq, other.seq);
+        }
+    }
+}
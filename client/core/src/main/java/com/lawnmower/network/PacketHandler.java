@@ -1,4 +1,79 @@
 package com.lawnmower.network;
 
-public class PacketHandler {
+import lawnmower.Message;
+
+import java.io.IOException;
+
+/**
+ * 服务器下行包的负载解码：按 msg_type 把 Packet.payload 解析成对应的 protobuf 消息。
+ * 不依赖 libGDX，可在网络线程、回放工具和压测工具中直接复用。
+ */
+public final class PacketHandler {
+
+    private PacketHandler() {
+    }
+
+    /**
+     * 解析下行包负载
+     * @param packet 服务器下发的包
+     * @return 解析后的消息；未知类型返回 null
+     * @throws IOException 负载格式错误
+     */
+    public static Object parsePayload(Message.Packet packet) throws IOException {
+        if (packet == null) {
+            return null;
+        }
+        switch (packet.getMsgType()) {
+            case MSG_S2C_LOGIN_RESULT:
+                return Message.S2C_LoginResult.parseFrom(packet.getPayload());
+            case MSG_S2C_HEARTBEAT:
+                return Message.S2C_Heartbeat.parseFrom(packet.getPayload());
+            case MSG_S2C_RECONNECT_ACK:
+                return Message.S2C_ReconnectAck.parseFrom(packet.getPayload());
+            case MSG_S2C_ROOM_LIST:
+                return Message.S2C_RoomList.parseFrom(packet.getPayload());
+            case MSG_S2C_CREATE_ROOM_RESULT:
+                return Message.S2C_CreateRoomResult.parseFrom(packet.getPayload());
+            case MSG_S2C_JOIN_ROOM_RESULT:
+                return Message.S2C_JoinRoomResult.parseFrom(packet.getPayload());
+            case MSG_S2C_LEAVE_ROOM_RESULT:
+                return Message.S2C_LeaveRoomResult.parseFrom(packet.getPayload());
+            case MSG_S2C_ROOM_UPDATE:
+                return Message.S2C_RoomUpdate.parseFrom(packet.getPayload());
+            case MSG_S2C_GAME_START:
+                return Message.S2C_GameStart.parseFrom(packet.getPayload());
+            case MSG_S2C_GAME_STATE_SYNC:
+                return Message.S2C_GameStateSync.parseFrom(packet.getPayload());
+            case MSG_S2C_GAME_STATE_DELTA_SYNC:
+                return Message.S2C_GameStateDeltaSync.parseFrom(packet.getPayload());
+            case MSG_S2C_PLAYER_HURT:
+                return Message.S2C_PlayerHurt.parseFrom(packet.getPayload());
+            case MSG_S2C_ENEMY_DIED:
+                return Message.S2C_EnemyDied.parseFrom(packet.getPayload());
+            case MSG_S2C_PLAYER_LEVEL_UP:
+                return Message.S2C_PlayerLevelUp.parseFrom(packet.getPayload());
+            case MSG_S2C_TICK_EVENT_BUNDLE:
+                return Message.S2C_TickEventBundle.parseFrom(packet.getPayload());
+            case MSG_S2C_DROPPED_ITEM:
+                return Message.S2C_DroppedItem.parseFrom(packet.getPayload());
+            case MSG_S2C_GAME_OVER:
+                return Message.S2C_GameOver.parseFrom(packet.getPayload());
+            case MSG_S2C_SET_READY_RESULT:
+                return Message.S2C_SetReadyResult.parseFrom(packet.getPayload());
+            case MSG_S2C_PROJECTILE_SPAWN:
+                return Message.S2C_ProjectileSpawn.parseFrom(packet.getPayload());
+            case MSG_S2C_PROJECTILE_DESPAWN:
+                return Message.S2C_ProjectileDespawn.parseFrom(packet.getPayload());
+            case MSG_S2C_ENEMY_ATTACK_STATE_SYNC:
+                return Message.S2C_EnemyAttackStateSync.parseFrom(packet.getPayload());
+            case MSG_S2C_UPGRADE_REQUEST:
+                return Message.S2C_UpgradeRequest.parseFrom(packet.getPayload());
+            case MSG_S2C_UPGRADE_OPTIONS:
+                return Message.S2C_UpgradeOptions.parseFrom(packet.getPayload());
+            case MSG_S2C_UPGRADE_SELECT_ACK:
+                return Message.S2C_UpgradeSelectAck.parseFrom(packet.getPayload());
+            default:
+                return null;
+        }
+    }
 }
@@ -0,0 +1,32 @@
+package com.lawnmower.network;
+
+import lawnmower.Message;
+
+/**
+ * 增量同步中定点坐标（position_q）的解码。
+ * <p>
+ * 服务器在房间内所有客户端都声明了 {@link ClientCapabilities#QUANTIZED_POSITION} 时，
+ * 增量里的坐标改为 fixed32：低 16 位 x、高 16 位 y，单位 1/{@code SceneInfo.position_scale} 像素，
+ * 每个坐标从 12 字节降到 5 字节。
+ */
+public final class PositionCodec {
+
+    private static final int AXIS_MASK = 0xFFFF;
+
+    private PositionCodec() {
+    }
+
+    /**
+     * 解出定点坐标。字段缺省按 proto3 语义视为 0（即 (0, 0)），调用方只在 changed_mask 带位置位时调用
+     * @param scale 场景的定点精度，小于等于 0 表示未启用，返回 null
+     */
+    public static Message.Vector2 decode(int packed, int scale) {
+        if (scale <= 0) {
+            return null;
+        }
+        return Message.Vector2.newBuilder()
+                .setX((float) (packed & AXIS_MASK) / scale)
+                .setY((float) ((packed >>> 16) & AXIS_MASK) / scale)
+                .build();
+    }
+}
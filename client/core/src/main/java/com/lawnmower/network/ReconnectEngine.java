@@ -0,0 +1,207 @@
+package com.lawnmower.network;
+
+import com.lawnmower.metrics.jfr.ReconnectAttemptEvent;
+import com.lawnmower.utils.ClientScheduler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 断线重连引擎：在总时限内按 {@link ExponentialBackoff} 反复尝试，单次尝试由 {@link HappyEyeballsConnector}
+ * 并发建连，连上后交给 {@link Listener} 发送重连请求。
+ * <p>
+ * 定时（退避、总时限）登记在客户端统一的 {@link ClientScheduler} 上，建连线程池在引擎生命周期内复用。
+ * 阻塞的 connect 只在线程池上执行，不会拖住调度线程，因此同一调度器上的伴随任务（如 UDP 重新握手）
+ * 可以和 TCP 建连并行。
+ * <p>
+ * 请求发出后会话仍可能恢复失败（ack 之前连接又断开），此时由调用方 {@link #retry()}；
+ * 引擎一直保持活动，直到 {@link #finish()} 被调用或总时限耗尽并回调 {@link Listener#onGaveUp}。
+ */
+public final class ReconnectEngine implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(ReconnectEngine.class);
+
+    private static final long BACKOFF_BASE_MS = 50L;
+    private static final long BACKOFF_CAP_MS = 2000L;
+    private static final int CONNECT_TIMEOUT_MS = 2000;
+
+    public interface Listener {
+        /**
+         * 在引擎线程上调用：用已连接的 socket 恢复会话，抛出异常视为本次尝试失败并退避重试
+         */
+        void onConnected(Socket socket) throws IOException;
+
+        /**
+         * 总时限内未能恢复，在引擎线程上调用
+         */
+        void onGaveUp(String reason);
+    }
+
+    private final String host;
+    private final int port;
+    private final long graceMs;
+    private final Listener listener;
+    private final ClientScheduler scheduler;
+    private final ExecutorService connectPool;
+    private final HappyEyeballsConnector connector;
+    private final ExponentialBackoff backoff = new ExponentialBackoff(BACKOFF_BASE_MS, BACKOFF_CAP_MS);
+    private final Object attemptLock = new Object();
+
+    private boolean active;
+    private long generation;
+    private long startMs;
+    private int attempts;
+    private ClientScheduler.Task pendingAttempt;
+    private ClientScheduler.Task deadline;
+
+    public ReconnectEngine(ClientScheduler scheduler, String host, int port, long graceMs, Listener listener) {
+        this.scheduler = scheduler;
+        this.host = host;
+        this.port = port;
+        this.graceMs = graceMs;
+        this.listener = listener;
+        this.connectPool = Executors.newCachedThreadPool(daemonThreads("reconnect-connect"));
+        this.connector = new HappyEyeballsConnector(connectPool, CONNECT_TIMEOUT_MS);
+    }
+
+    /**
+     * 开始一轮重连并立即发起第一次尝试；已在进行中时忽略
+     */
+    public synchronized void start() {
+        if (active) {
+            return;
+        }
+        active = true;
+        generation++;
+        attempts = 0;
+        startMs = System.currentTimeMillis();
+        backoff.reset();
+        long gen = generation;
+        deadline = scheduler.schedule("reconnect-deadline", ClientScheduler.INLINE,
+                () -> giveUp(gen, "timeout"), graceMs);
+        scheduleAttempt(gen, 0L);
+    }
+
+    /**
+     * 本次会话恢复失败，退避后再试
+     */
+    public synchronized void retry() {
+        if (active) {
+            scheduleAttempt(generation, backoff.nextDelayMs());
+        }
+    }
+
+    /**
+     * 重连已完成（成功或由调用方放弃），取消排队中的尝试和超时
+     */
+    public synchronized void finish() {
+        if (!active) {
+            return;
+        }
+        active = false;
+        generation++;
+        cancelTimers();
+    }
+
+    public synchronized boolean isActive() {
+        return active;
+    }
+
+    public synchronized long elapsedMs() {
+        return active ? System.currentTimeMillis() - startMs : 0L;
+    }
+
+    /**
+     * 关闭建连线程池；调度器归 {@link com.lawnmower.Main} 所有，不在这里关闭
+     */
+    @Override
+    public void close() {
+        finish();
+        connectPool.shutdownNow();
+    }
+
+    private void scheduleAttempt(long gen, long delayMs) {
+        if (pendingAttempt != null) {
+            return;
+        }
+        pendingAttempt = scheduler.schedule("reconnect-attempt", connectPool, () -> attempt(gen), delayMs);
+    }
+
+    private void attempt(long gen) {
+        // 同一时刻只允许一个尝试持有连接，避免并存两条 TCP 会话
+        synchronized (attemptLock) {
+            int attempt;
+            long elapsed;
+            synchronized (this) {
+                if (!active || gen != generation) {
+                    return;
+                }
+                pendingAttempt = null;
+                attempt = ++attempts;
+                elapsed = System.currentTimeMillis() - startMs;
+            }
+            ReconnectAttemptEvent event = new ReconnectAttemptEvent();
+            event.begin();
+            event.attempt = attempt;
+            event.sinceDisconnectMs = elapsed;
+            try {
+                Socket socket = connector.connect(host, port);
+                try {
+                    listener.onConnected(socket);
+                } catch (IOException e) {
+                    socket.close();
+                    throw e;
+                }
+                event.requestSent = true;
+                log.info("Reconnect attempt {} connected after {} ms", attempt,
+                        System.currentTimeMillis() - startMs);
+            } catch (IOException e) {
+                event.failure = e.getMessage();
+                log.warn("Reconnect attempt {} failed: {}", attempt, e.getMessage());
+                synchronized (this) {
+                    if (active && gen == generation) {
+                        scheduleAttempt(gen, backoff.nextDelayMs());
+                    }
+                }
+            }
+            event.commit();
+        }
+    }
+
+    private void giveUp(long gen, String reason) {
+        synchronized (this) {
+            if (!active || gen != generation) {
+                return;
+            }
+            active = false;
+            generation++;
+            cancelTimers();
+        }
+        listener.onGaveUp(reason);
+    }
+
+    private void cancelTimers() {
+        if (pendingAttempt != null) {
+            pendingAttempt.cancel();
+            pendingAttempt = null;
+        }
+        if (deadline != null) {
+            deadline.cancel();
+            deadline = null;
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,386 @@
+package com.lawnmower.network;
+
+import com.lawnmower.metrics.ClientMetrics;
+import lawnmower.Message;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * UDP 上的轻量可靠层（客户端一侧），头部是 Packet 的可靠层字段：
+ * <ul>
+ *     <li>channel(3)：投递语义，见 {@link Message.UdpChannel}</li>
+ *     <li>seq(4)：发送方每个数据报递增的序号；ack(5) / ack_bits(6)：收到的对端最大序号及其之前 32 个序号的位图</li>
+ *     <li>channel_seq(7)：通道内消息序号，用于排序 / 去重；epoch(8)：服务器重置可靠状态（端点变化）时递增</li>
+ *     <li>applied_tick(12)：上行专用，客户端已连续应用到的同步 tick；baseline_resync(13)：请求按该 tick 补发追帧同步</li>
+ * </ul>
+ * 服务器对未确认的可靠消息按 RTT 选择性重传（重传换新的 seq，channel_seq 不变）；这里负责回 ack、
+ * 去重、可靠有序通道的重排，以及丢弃过期的 unreliable-sequenced 消息。
+ * ack 优先捎带在上行输入里；变为待发时通知 {@link AckListener}，由 {@link UdpClient} 在 {@link #ACK_DELAY_MS} 后
+ * 补发独立的 MSG_UDP_ACK，期间被上行捎带则取消。
+ * <p>
+ * 上行只有输入（带 input_seq，新输入覆盖旧输入），因此发送端只提供不可靠的两种通道。线程安全。
+ */
+public final class ReliableUdpChannel {
+
+    /** 独立 ack 的最长延迟：超过仍没有上行数据可捎带时单独发送 */
+    public static final long ACK_DELAY_MS = 20L;
+    /**
+     * {@link #writeHeader} 写入的上限：seq 6 + ack 6 + ack_bits 5 + applied_tick 6 + baseline_resync 2
+     */
+    public static final int MAX_UNRELIABLE_HEADER_BYTES = 25;
+
+    private static final int SEQ_TAG = 4 << 3;
+    private static final int ACK_TAG = 5 << 3;
+    private static final int ACK_BITS_TAG = 6 << 3 | 5;
+    private static final int APPLIED_TICK_TAG = 12 << 3;
+    private static final int BASELINE_RESYNC_TAG = 13 << 3;
+    private static final int ACK_BITS = 32;
+    /** 可靠有序通道最多缓存的乱序消息数；缓存满时新到的乱序消息不确认，由服务器稍后重传 */
+    private static final int MAX_REORDER_BUFFER = 1024;
+    private static final int UNORDERED_WINDOW_WORDS = 16;
+
+    /**
+     * ack 待发状态变化的回调，在本对象的锁内调用，只应做登记 / 取消定时任务这类短操作
+     */
+    public interface AckListener {
+        /** ack 由无到有，需在 {@link #ACK_DELAY_MS} 后调用 {@link #pollStandaloneAck()} */
+        void onAckPending();
+
+        /** 待发的 ack 已随数据报发出或被重置，之前登记的定时任务可以取消 */
+        void onAckCleared();
+    }
+
+    // 发送端
+    private int nextSeq = 1;
+    private int nextSequencedOut = 1;
+    private long appliedTick;
+    private boolean resyncRequested;
+
+    // 接收端
+    private long epoch = -1L;
+    private boolean anyReceived;
+    private int remoteSeq;
+    private int remoteAckBits;
+    private boolean ackPending;
+    private AckListener ackListener;
+    private boolean sequencedReceived;
+    private int lastSequencedIn;
+    private int nextOrderedIn = 1;
+    private final TreeMap<Integer, Message.Packet> reorderBuffer = new TreeMap<>(ReliableUdpChannel::compareSeq);
+    private boolean unorderedReceived;
+    private int unorderedHighest;
+    private final long[] unorderedWindow = new long[UNORDERED_WINDOW_WORDS];
+
+    /**
+     * 给上行数据报打上头部：新的 seq，捎带当前 ack
+     * @param channel 只接受 {@link Message.UdpChannel#UDP_CHANNEL_UNRELIABLE} 和
+     *                {@link Message.UdpChannel#UDP_CHANNEL_UNRELIABLE_SEQUENCED}
+     */
+    public synchronized Message.Packet stamp(Message.Packet packet, Message.UdpChannel channel) {
+        if (isReliable(channel)) {
+            throw new IllegalArgumentException("uplink reliable channel is not supported: " + channel);
+        }
+        Message.Packet.Builder header = packet.toBuilder();
+        if (channel != Message.UdpChannel.UDP_CHANNEL_UNRELIABLE) {
+            header.setChannel(channel).setChannelSeq(nextSequencedOut++);
+        }
+        header.setSeq(takeSeq());
+        appendAck(header);
+        return header.build();
+    }
+
+    /**
+     * 把 {@link #stamp} 在 UDP_CHANNEL_UNRELIABLE 下写入的头部字段直接编码进 buffer 的 offset 处，
+     * 供预编码的数据报追加在末尾（protobuf 按字段合并）；字段顺序与 Packet 序列化一致，结果逐字节相同。
+     * 调用方需预留 {@link #MAX_UNRELIABLE_HEADER_BYTES}
+     * @return 写入后的位置
+     */
+    public synchronized int writeHeader(byte[] buffer, int offset) {
+        int pos = offset;
+        buffer[pos++] = (byte) SEQ_TAG;
+        pos = InputPacketTemplate.writeVarint(buffer, pos, takeSeq());
+        clearAckPending();
+        if (anyReceived) {
+            buffer[pos++] = (byte) ACK_TAG;
+            pos = InputPacketTemplate.writeVarint(buffer, pos, remoteSeq);
+            if (remoteAckBits != 0) {
+                buffer[pos++] = (byte) ACK_BITS_TAG;
+                pos = InputPacketTemplate.writeFixed32(buffer, pos, remoteAckBits);
+            }
+        }
+        if (appliedTick > 0L) {
+            buffer[pos++] = (byte) APPLIED_TICK_TAG;
+            pos = InputPacketTemplate.writeVarint(buffer, pos, (int) appliedTick);
+        }
+        if (resyncRequested) {
+            buffer[pos++] = (byte) BASELINE_RESYNC_TAG;
+            buffer[pos++] = 1;
+            resyncRequested = false;
+        }
+        return pos;
+    }
+
+    public synchronized void setAckListener(AckListener listener) {
+        this.ackListener = listener;
+    }
+
+    /**
+     * @return 是否有尚未发出的 ack
+     */
+    public synchronized boolean isAckPending() {
+        return ackPending;
+    }
+
+    /**
+     * ack 待发满 {@link #ACK_DELAY_MS} 时调用，生成一个独立的 ack 数据报；期间已被上行捎带时返回 null
+     */
+    public synchronized Message.Packet pollStandaloneAck() {
+        if (!ackPending) {
+            return null;
+        }
+        Message.Packet.Builder header = Message.Packet.newBuilder()
+                .setMsgType(Message.MessageType.MSG_UDP_ACK)
+                .setSeq(takeSeq());
+        appendAck(header);
+        return header.build();
+    }
+
+    /**
+     * 记录已连续应用到的同步 tick（0 表示没有可用基线），此后每个上行数据报都带上；
+     * 变化时即使没有上行输入也会在 {@link #ACK_DELAY_MS} 内发出独立 ack
+     */
+    public synchronized void acknowledgeTick(long tick) {
+        if (tick == appliedTick) {
+            return;
+        }
+        appliedTick = tick;
+        markAckPending();
+    }
+
+    /**
+     * 请求服务器按已确认的 tick 补发追帧同步，随下一个上行数据报发出（只发一次，丢失时由调用方重试）
+     */
+    public synchronized void requestBaselineResync() {
+        resyncRequested = true;
+        markAckPending();
+    }
+
+    /**
+     * @return 是否收到过带可靠层头部的数据报（服务器支持可靠层及其后的追帧同步）
+     */
+    public synchronized boolean isPeerReliable() {
+        return epoch >= 0L;
+    }
+
+    /**
+     * 处理一个收到的数据报
+     * @return 按通道语义此刻可以投递的消息（可能为空，也可能因补齐空洞一次放出多条）；
+     *         没有头部的数据报（对端未启用可靠层）原样返回
+     */
+    public synchronized List<Message.Packet> receive(Message.Packet packet) {
+        // seq 从 1 开始、回绕时跳过 0，为 0 即没有头部
+        int seq = packet.getSeq();
+        if (seq == 0) {
+            return Collections.singletonList(packet);
+        }
+        long packetEpoch = Integer.toUnsignedLong(packet.getEpoch());
+        if (packetEpoch < epoch) {
+            // 换 epoch 之前发出、迟到的数据报，对应消息已按新编号重发
+            return Collections.emptyList();
+        }
+        if (packetEpoch > epoch) {
+            resetReceiveState(packetEpoch);
+        }
+        Message.UdpChannel channel = packet.getChannel();
+        int channelSeq = packet.getChannelSeq();
+        if (channel == Message.UdpChannel.UDP_CHANNEL_RELIABLE_ORDERED && isReorderOverflow(channelSeq)) {
+            return Collections.emptyList();
+        }
+        recordDatagram(seq, isReliable(channel));
+        if (packet.getMsgType() == Message.MessageType.MSG_UDP_ACK) {
+            return Collections.emptyList();
+        }
+        switch (channel) {
+            case UDP_CHANNEL_UNRELIABLE_SEQUENCED:
+                // 同一 channel_seq 的多条（拆分快照的各部分）都放行，重复由上层按 tick / 部分号去重
+                if (sequencedReceived && compareSeq(channelSeq, lastSequencedIn) < 0) {
+                    ClientMetrics.UDP_SEQUENCED_STALE.increment();
+                    return Collections.emptyList();
+                }
+                sequencedReceived = true;
+                lastSequencedIn = channelSeq;
+                return Collections.singletonList(packet);
+            case UDP_CHANNEL_RELIABLE_UNORDERED:
+                if (!markUnordered(channelSeq)) {
+                    ClientMetrics.UDP_RELIABLE_DUPLICATES.increment();
+                    return Collections.emptyList();
+                }
+                return Collections.singletonList(packet);
+            case UDP_CHANNEL_RELIABLE_ORDERED:
+                return receiveOrdered(channelSeq, packet);
+            default:
+                return Collections.singletonList(packet);
+        }
+    }
+
+    private List<Message.Packet> receiveOrdered(int channelSeq, Message.Packet packet) {
+        int order = compareSeq(channelSeq, nextOrderedIn);
+        if (order < 0 || (order > 0 && reorderBuffer.containsKey(channelSeq))) {
+            ClientMetrics.UDP_RELIABLE_DUPLICATES.increment();
+            return Collections.emptyList();
+        }
+        if (order > 0) {
+            reorderBuffer.put(channelSeq, packet);
+            ClientMetrics.UDP_RELIABLE_REORDERED.increment();
+            return Collections.emptyList();
+        }
+        List<Message.Packet> ready = new ArrayList<>(1 + reorderBuffer.size());
+        ready.add(packet);
+        nextOrderedIn++;
+        Message.Packet buffered;
+        while ((buffered = reorderBuffer.remove(nextOrderedIn)) != null) {
+            ready.add(buffered);
+            nextOrderedIn++;
+        }
+        return ready;
+    }
+
+    private boolean isReorderOverflow(int channelSeq) {
+        return reorderBuffer.size() >= MAX_REORDER_BUFFER && compareSeq(channelSeq, nextOrderedIn) > 0
+                && !reorderBuffer.containsKey(channelSeq);
+    }
+
+    private void recordDatagram(int seq, boolean reliable) {
+        if (!anyReceived) {
+            anyReceived = true;
+            remoteSeq = seq;
+            remoteAckBits = 0;
+        } else {
+            int diff = seq - remoteSeq;
+            if (diff > 0) {
+                // 位 i 表示 remoteSeq - 1 - i；Java 的移位按 32 取模，整窗移出时直接清零
+                remoteAckBits = diff >= ACK_BITS ? 0 : remoteAckBits << diff;
+                if (diff <= ACK_BITS) {
+                    remoteAckBits |= 1 << (diff - 1);
+                }
+                remoteSeq = seq;
+            } else if (diff < 0 && -diff <= ACK_BITS) {
+                remoteAckBits |= 1 << (-diff - 1);
+            }
+        }
+        if (reliable) {
+            markAckPending();
+        }
+    }
+
+    private void markAckPending() {
+        if (!ackPending) {
+            ackPending = true;
+            if (ackListener != null) {
+                ackListener.onAckPending();
+            }
+        }
+    }
+
+    private void clearAckPending() {
+        if (ackPending) {
+            ackPending = false;
+            if (ackListener != null) {
+                ackListener.onAckCleared();
+            }
+        }
+    }
+
+    private boolean markUnordered(int channelSeq) {
+        int windowBits = UNORDERED_WINDOW_WORDS * Long.SIZE;
+        if (!unorderedReceived) {
+            unorderedReceived = true;
+            unorderedHighest = channelSeq;
+            setWindowBit(channelSeq);
+            return true;
+        }
+        int diff = channelSeq - unorderedHighest;
+        if (diff > 0) {
+            // 窗口前移：清掉被移出的旧位置，它们会被新序号复用
+            int clear = Math.min(diff, windowBits);
+            for (int i = 1; i <= clear; i++) {
+                clearWindowBit(unorderedHighest + i);
+            }
+            unorderedHighest = channelSeq;
+            setWindowBit(channelSeq);
+            return true;
+        }
+        if (-diff >= windowBits || isWindowBitSet(channelSeq)) {
+            return false;
+        }
+        setWindowBit(channelSeq);
+        return true;
+    }
+
+    private void setWindowBit(int seq) {
+        int index = Math.floorMod(seq, UNORDERED_WINDOW_WORDS * Long.SIZE);
+        unorderedWindow[index >>> 6] |= 1L << (index & 63);
+    }
+
+    private void clearWindowBit(int seq) {
+        int index = Math.floorMod(seq, UNORDERED_WINDOW_WORDS * Long.SIZE);
+        unorderedWindow[index >>> 6] &= ~(1L << (index & 63));
+    }
+
+    private boolean isWindowBitSet(int seq) {
+        int index = Math.floorMod(seq, UNORDERED_WINDOW_WORDS * Long.SIZE);
+        return (unorderedWindow[index >>> 6] & (1L << (index & 63))) != 0L;
+    }
+
+    private void resetReceiveState(long newEpoch) {
+        epoch = newEpoch;
+        anyReceived = false;
+        clearAckPending();
+        sequencedReceived = false;
+        nextOrderedIn = 1;
+        reorderBuffer.clear();
+        unorderedReceived = false;
+        Arrays.fill(unorderedWindow, 0L);
+    }
+
+    private void appendAck(Message.Packet.Builder header) {
+        clearAckPending();
+        if (appliedTick > 0L) {
+            header.setAppliedTick((int) appliedTick);
+        }
+        if (resyncRequested) {
+            header.setBaselineResync(true);
+            resyncRequested = false;
+        }
+        if (!anyReceived) {
+            return;
+        }
+        header.setAck(remoteSeq).setAckBits(remoteAckBits);
+    }
+
+    /**
+     * 取下一个上行 seq；0 表示没有头部，回绕时跳过
+     */
+    private int takeSeq() {
+        if (nextSeq == 0) {
+            nextSeq = 1;
+        }
+        return nextSeq++;
+    }
+
+    private static boolean isReliable(Message.UdpChannel channel) {
+        return channel == Message.UdpChannel.UDP_CHANNEL_RELIABLE_UNORDERED
+                || channel == Message.UdpChannel.UDP_CHANNEL_RELIABLE_ORDERED;
+    }
+
+    /**
+     * 回绕比较：a 比 b 新返回正数
+     */
+    private static int compareSeq(int a, int b) {
+        return Integer.signum(a - b);
+    }
+}
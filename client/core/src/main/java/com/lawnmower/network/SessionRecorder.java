@@ -0,0 +1,146 @@
+package com.lawnmower.network;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 会话录制：把 TCP / UDP 收到的每个 Packet 原始字节连同到达时间追加写入内存映射文件。
+ * <p>
+ * 文件格式（小端）：
+ * <pre>
+ *   头部 32 字节: int magic | int version | long startEpochMs | long startNanos | long reserved
+ *   记录:        long arrivalNanos(相对 startNanos) | byte transport | int length | byte[length] packet
+ * </pre>
+ * transport 为 0 表示文件结束（映射区尾部未写入的部分全是 0），因此进程崩溃后已写入的记录仍然可读。
+ * 写入只是内存拷贝，网络线程上除每 8MB 重新映射一次外没有系统调用；映射区写满后在当前位置继续映射下一段。
+ */
+public final class SessionRecorder implements InboundPacketListener, Closeable {
+    private static final Logger log = LoggerFactory.getLogger(SessionRecorder.class);
+
+    static final int MAGIC = 0x4C4D5243; // "LMRC"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 32;
+    static final int RECORD_HEADER_BYTES = Long.BYTES + 1 + Integer.BYTES;
+    private static final int REGION_BYTES = 8 * 1024 * 1024;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final long startNanos;
+    private MappedByteBuffer region;
+    private long writePosition;
+    private long recordCount;
+    private boolean closed;
+
+    private SessionRecorder(Path file, FileChannel channel) {
+        this.file = file;
+        this.channel = channel;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * 创建（覆盖）录制文件并写入头部
+     */
+    public static SessionRecorder open(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        SessionRecorder recorder = new SessionRecorder(file, channel);
+        try {
+            recorder.mapRegion(0L, REGION_BYTES);
+            recorder.region.putInt(MAGIC);
+            recorder.region.putInt(VERSION);
+            recorder.region.putLong(System.currentTimeMillis());
+            recorder.region.putLong(recorder.startNanos);
+            recorder.region.putLong(0L);
+            recorder.writePosition = HEADER_BYTES;
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        log.info("Recording session traffic to {}", file.toAbsolutePath());
+        return recorder;
+    }
+
+    @Override
+    public synchronized void onInbound(Transport transport, byte[] data, int length) {
+        if (closed || transport == null || data == null || length <= 0) {
+            return;
+        }
+        long arrivalNanos = System.nanoTime() - startNanos;
+        int recordBytes = RECORD_HEADER_BYTES + length;
+        try {
+            if (region.remaining() < recordBytes) {
+                mapRegion(writePosition, Math.max(REGION_BYTES, recordBytes));
+            }
+            region.putLong(arrivalNanos);
+            region.put(transport.code());
+            region.putInt(length);
+            region.put(data, 0, length);
+            writePosition += recordBytes;
+            recordCount++;
+        } catch (IOException e) {
+            // 录制失败不能影响正常联机，直接停止录制
+            log.warn("Session recording stopped: {}", e.getMessage());
+            closeQuietly();
+        }
+    }
+
+    public synchronized long getRecordCount() {
+        return recordCount;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (region != null) {
+                region.force();
+                region = null;
+            }
+            try {
+                channel.truncate(writePosition);
+            } catch (IOException e) {
+                // 部分平台不允许截断仍被映射的文件，尾部的 0 会被当作结束标记，不影响回放
+                log.debug("Could not truncate recording: {}", e.getMessage());
+            }
+        } finally {
+            channel.close();
+        }
+        log.info("Session recording closed: {} packets, {} bytes -> {}",
+                recordCount, writePosition, file.toAbsolutePath());
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (IOException e) {
+            log.debug("Failed to close recording", e);
+        }
+    }
+
+    private void mapRegion(long position, int size) throws IOException {
+        // 旧映射区交给操作系统回写，这里不 force，避免网络线程阻塞在磁盘 IO 上
+        region = channel.map(FileChannel.MapMode.READ_WRITE, position, size);
+        region.order(ByteOrder.LITTLE_ENDIAN);
+    }
+}
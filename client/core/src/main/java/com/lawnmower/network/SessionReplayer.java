@@ -0,0 +1,136 @@
+package com.lawnmower.network;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import lawnmower.Message;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 回放 {@link SessionRecorder} 录制的会话：按记录中的到达时间（可加速）把 Packet 依次交给 sink，
+ * 调用方把它接到与联机时相同的 TCP / UDP 分发路径上，无需连接服务器。
+ */
+public final class SessionReplayer {
+    private static final Logger log = LoggerFactory.getLogger(SessionReplayer.class);
+
+    /**
+     * 回放数据包的接收方，在回放线程上调用
+     */
+    @FunctionalInterface
+    public interface Sink {
+        void onPacket(Transport transport, Message.Packet packet);
+    }
+
+    private final Path file;
+    private final float speed;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private Thread replayThread;
+
+    /**
+     * @param file 录制文件
+     * @param speed 回放倍速，1 为原速；小于等于 0 表示不等待，尽快回放
+     */
+    public SessionReplayer(Path file, float speed) {
+        this.file = file;
+        this.speed = speed;
+    }
+
+    public synchronized void start(Sink sink, Runnable onFinished) throws IOException {
+        if (running.get()) {
+            return;
+        }
+        MappedByteBuffer buffer = mapRecording(file);
+        running.set(true);
+        replayThread = new Thread(() -> {
+            long replayed = 0L;
+            try {
+                replayed = replay(buffer, sink);
+            } catch (RuntimeException e) {
+                log.error("Replay aborted", e);
+            } finally {
+                running.set(false);
+                log.info("Replay of {} finished after {} packets", file, replayed);
+                if (onFinished != null) {
+                    onFinished.run();
+                }
+            }
+        }, "ReplayThread");
+        replayThread.setDaemon(true);
+        replayThread.start();
+        log.info("Replaying session {} at {}x", file.toAbsolutePath(), speed > 0f ? speed : "max");
+    }
+
+    public synchronized void stop() {
+        running.set(false);
+        if (replayThread != null) {
+            replayThread.interrupt();
+            replayThread = null;
+        }
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    private long replay(MappedByteBuffer buffer, Sink sink) {
+        long replayStartNanos = System.nanoTime();
+        long replayed = 0L;
+        while (running.get() && buffer.remaining() >= SessionRecorder.RECORD_HEADER_BYTES) {
+            long arrivalNanos = buffer.getLong();
+            Transport transport = Transport.fromCode(buffer.get());
+            int length = buffer.getInt();
+            if (transport == null || length <= 0 || length > buffer.remaining()) {
+                break; // 结束标记或被截断的尾部记录
+            }
+            byte[] data = new byte[length];
+            buffer.get(data);
+            if (speed > 0f) {
+                long dueNanos = replayStartNanos + (long) (arrivalNanos / speed);
+                long wait;
+                while (running.get() && (wait = dueNanos - System.nanoTime()) > 0L) {
+                    LockSupport.parkNanos(wait);
+                }
+            }
+            if (!running.get()) {
+                break;
+            }
+            try {
+                sink.onPacket(transport, Message.Packet.parseFrom(data));
+                replayed++;
+            } catch (InvalidProtocolBufferException e) {
+                log.warn("Skip corrupted packet #{} in recording: {}", replayed, e.getMessage());
+            }
+        }
+        return replayed;
+    }
+
+    private static MappedByteBuffer mapRecording(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < SessionRecorder.HEADER_BYTES) {
+                throw new IOException("Not a session recording: " + file);
+            }
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Recording too large to replay (" + size + " bytes): " + file);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0L, size);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            int magic = buffer.getInt();
+            int version = buffer.getInt();
+            if (magic != SessionRecorder.MAGIC || version != SessionRecorder.VERSION) {
+                throw new IOException("Unsupported recording format (magic=" + Integer.toHexString(magic)
+                        + ", version=" + version + "): " + file);
+            }
+            buffer.position(SessionRecorder.HEADER_BYTES);
+            return buffer;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.lawnmower.network;
+
+import lawnmower.Message;
+
+/**
+ * 同步的基线 tick（S2C_GameStateSync / S2C_GameStateDeltaSync 的 baseline_tick）。
+ * <p>
+ * 房间同步的基线是上一次房间同步的 tick，客户端据此发现漏收；追帧同步（catch_up）是服务器按客户端确认的 tick
+ * 单独构造的变化集合，附带此后移除的实体。
+ */
+public final class SyncBaseline {
+
+    private SyncBaseline() {
+    }
+
+    /**
+     * @return 基线 tick；服务器未填写（旧服务器 / 全量快照 / 房间的第一次同步）时为 -1
+     */
+    public static long baselineTick(Message.S2C_GameStateSync sync) {
+        return tickOrUnknown(sync.getBaselineTick());
+    }
+
+    public static long baselineTick(Message.S2C_GameStateDeltaSync delta) {
+        return tickOrUnknown(delta.getBaselineTick());
+    }
+
+    private static long tickOrUnknown(int tick) {
+        return tick != 0 ? Integer.toUnsignedLong(tick) : -1L;
+    }
+}
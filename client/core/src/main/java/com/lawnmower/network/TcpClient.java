@@ -3,6 +3,7 @@ package com.lawnmower.network;
 import com.google.protobuf.MessageLite;
 
 import com.lawnmower.Config;
+import com.lawnmower.metrics.ClientMetrics;
 
 import lawnmower.Message;
 import org.slf4j.Logger;
@@ -11,25 +12,87 @@ import org.slf4j.LoggerFactory;
 import java.io.*;
 import java.net.*;
 import java.io.IOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
 
 public class TcpClient {
     private static final Logger log = LoggerFactory.getLogger(TcpClient.class);
-    private static final int SOCKET_TIMEOUT_MS = 500;
     private Socket socket;
     private DataInputStream dataIn;
     private DataOutputStream dataOut;
+    private volatile InboundPacketListener inboundListener;
+    // 网络模拟：启用后由独立线程读 socket，数据经整形后进入 shapedInbound，receivePacket 从队列取
+    private static final byte[] END_OF_STREAM = new byte[0];
+    private LinkShaper inboundShaper;
+    private LinkShaper outboundShaper;
+    private BlockingQueue<byte[]> shapedInbound;
+    private Thread shapedReader;
+    // pollPacket 已读出长度、正在等待帧体的帧长度，-1 表示下一次读帧头
+    private int pendingFrameLength = -1;
 
     public void connect(String host, int port) throws IOException {
 //        socket = new Socket(host, port);
-        socket = new Socket();
-        socket.setTcpNoDelay(true);
-        socket.setKeepAlive(true);
-        socket.setReceiveBufferSize(128 * 1024);
-        socket.setSoTimeout(SOCKET_TIMEOUT_MS);
-        socket.connect(new InetSocketAddress(host, port), 3000);
+        Socket created = newSocket();
+        created.connect(new InetSocketAddress(host, port), 3000);
+        attach(created);
+    }
+
+    /**
+     * 接管一个已连接的 socket（由 {@link HappyEyeballsConnector} 建连），其余与 {@link #connect} 相同
+     */
+    public void attach(Socket connected) throws IOException {
+        socket = connected;
         dataOut = new DataOutputStream(socket.getOutputStream());
         dataIn = new DataInputStream(socket.getInputStream());
-        System.out.println("已连接到 " + host + ":" + port);
+        System.out.println("已连接到 " + socket.getRemoteSocketAddress());
+        startShaping();
+    }
+
+    /**
+     * 创建未连接、已设置好选项的 socket；接收缓冲需在 connect 之前设置才能影响窗口缩放。
+     * 不设读超时：receivePacket 一直阻塞到有完整帧或连接关闭，超时中断读到一半的帧会让后续数据错位
+     */
+    public static Socket newSocket() throws SocketException {
+        Socket created = new Socket();
+        created.setTcpNoDelay(true);
+        created.setKeepAlive(true);
+        created.setReceiveBufferSize(128 * 1024);
+        return created;
+    }
+
+    /**
+     * 在收发两个方向上挂载链路整形器（本地网络模拟），需在 connect 之前调用，传 null 表示该方向不整形
+     */
+    public void setLinkShapers(LinkShaper inbound, LinkShaper outbound) {
+        this.inboundShaper = inbound;
+        this.outboundShaper = outbound;
+    }
+
+    private void startShaping() {
+        if (outboundShaper != null) {
+            outboundShaper.start("tcp-shaper-out");
+        }
+        if (inboundShaper == null) {
+            return;
+        }
+        LinkShaper shaper = inboundShaper;
+        BlockingQueue<byte[]> queue = new LinkedBlockingQueue<>();
+        DataInputStream in = dataIn;
+        shapedInbound = queue;
+        shaper.start("tcp-shaper-in");
+        shapedReader = new Thread(() -> {
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    byte[] frame = readFrame(in);
+                    shaper.submit(frame, queue::offer);
+                }
+            } catch (IOException e) {
+                // 连接关闭：排在所有已整形数据之后通知 receivePacket
+                shaper.submit(END_OF_STREAM, queue::offer);
+            }
+        }, "tcp-shaper-reader");
+        shapedReader.setDaemon(true);
+        shapedReader.start();
     }
 
     public void sendCreateRoom(String roomName, int maxPlayers) throws IOException {
@@ -40,8 +103,8 @@ public class TcpClient {
         sendPacket(Message.MessageType.MSG_C2S_CREATE_ROOM, msg);
     }
 
-    public int getSocketTimeoutMs() {
-        return SOCKET_TIMEOUT_MS;
+    public void setInboundListener(InboundPacketListener listener) {
+        this.inboundListener = listener;
     }
 
     public void sendGetRoomList() throws IOException {
@@ -116,11 +179,34 @@ public class TcpClient {
 
     private void writePacket(Message.Packet packet) throws IOException {
         byte[] data = packet.toByteArray();
+        ClientMetrics.packetOut(packet.getMsgType());
+        LinkShaper shaper = outboundShaper;
+        if (shaper != null) {
+            shaper.submit(data, this::writeShapedFrame);
+            return;
+        }
+        writeFrame(data);
+    }
+
+    private void writeShapedFrame(byte[] data) {
+        try {
+            writeFrame(data);
+        } catch (IOException e) {
+            log.warn("Failed to write shaped TCP packet: {}", e.getMessage());
+        }
+    }
+
+    private void writeFrame(byte[] data) throws IOException {
+        DataOutputStream dataOut = this.dataOut;
+        if (dataOut == null) {
+            throw new IOException("TCP client not connected");
+        }
         synchronized (dataOut) {
             dataOut.writeInt(data.length);
             dataOut.write(data);
             dataOut.flush();
         }
+        ClientMetrics.TCP_BYTES_OUT.add(Integer.BYTES + data.length);
     }
 
     public void sendPacket(Message.Packet packet) throws IOException {
@@ -140,18 +226,90 @@ public class TcpClient {
         sendPacket(Message.MessageType.MSG_C2S_PLAYER_INPUT, input);
     }
 
+    /**
+     * 阻塞直到读到完整帧；连接关闭（包括 {@link #close()}）或读线程被中断时返回 null
+     */
     public Message.Packet receivePacket() throws IOException {
+        BlockingQueue<byte[]> queue = shapedInbound;
+        if (queue != null) {
+            return receiveShapedPacket(queue);
+        }
         try {
-            int len = dataIn.readInt();
-            byte[] data = new byte[len];
-            dataIn.readFully(data);
-            return Message.Packet.parseFrom(data);
-        } catch (SocketTimeoutException timeout) {
-            throw timeout;
+            return decodeFrame(readFrame(dataIn));
         } catch (EOFException | SocketException e) {
             return null;
         }
     }
+
+    private Message.Packet receiveShapedPacket(BlockingQueue<byte[]> queue) throws IOException {
+        byte[] data;
+        try {
+            data = queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        if (data == END_OF_STREAM) {
+            return null;
+        }
+        return decodeFrame(data);
+    }
+
+    /**
+     * 非阻塞读取：缓冲区中已有完整帧时返回 Packet，否则立即返回 null。
+     * 供单线程轮询大量连接的场景（压测机器人）使用，不能与 receivePacket 混用。
+     * @throws EOFException 整形模式下连接已关闭
+     */
+    public Message.Packet pollPacket() throws IOException {
+        BlockingQueue<byte[]> queue = shapedInbound;
+        if (queue != null) {
+            byte[] data = queue.poll();
+            if (data == null) {
+                return null;
+            }
+            if (data == END_OF_STREAM) {
+                throw new EOFException("TCP connection closed");
+            }
+            return decodeFrame(data);
+        }
+        DataInputStream in = dataIn;
+        if (in == null) {
+            throw new IOException("TCP client not connected");
+        }
+        if (pendingFrameLength < 0) {
+            if (in.available() < Integer.BYTES) {
+                return null;
+            }
+            int len = in.readInt();
+            if (len < 0) {
+                throw new IOException("Invalid TCP frame length: " + len);
+            }
+            pendingFrameLength = len;
+        }
+        if (in.available() < pendingFrameLength) {
+            return null;
+        }
+        byte[] data = new byte[pendingFrameLength];
+        in.readFully(data);
+        pendingFrameLength = -1;
+        return decodeFrame(data);
+    }
+
+    private static byte[] readFrame(DataInputStream in) throws IOException {
+        int len = in.readInt();
+        byte[] data = new byte[len];
+        in.readFully(data);
+        return data;
+    }
+
+    private Message.Packet decodeFrame(byte[] data) throws IOException {
+        ClientMetrics.TCP_BYTES_IN.add(Integer.BYTES + data.length);
+        InboundPacketListener listener = inboundListener;
+        if (listener != null) {
+            listener.onInbound(Transport.TCP, data, data.length);
+        }
+        return Message.Packet.parseFrom(data);
+    }
     public int availableBytes() {
         if (dataIn == null) return -1;
         try {
@@ -169,18 +327,32 @@ public class TcpClient {
                 .setMsgType(Message.MessageType.MSG_C2S_REQUEST_QUIT)
                 .setPayload(Config.byteString)
                 .build();
-        writePacket(packet);
-
-        if (dataIn != null) {
-            dataIn.close();
+        try {
+            // 退出通知绕过整形器直接写出，否则会在 socket 关闭后才到期
+            writeFrame(packet.toByteArray());
+        } finally {
+            // 读不再有超时，写失败也必须关闭 socket，否则阻塞在 receivePacket 的线程无法醒来
+            stopShaping();
             dataIn = null;
-        }
-        if (dataOut != null) {
-            dataOut.close();
             dataOut = null;
+            Socket closing = socket;
+            socket = null;
+            closing.close();
+        }
+    }
+
+    private void stopShaping() {
+        if (shapedReader != null) {
+            shapedReader.interrupt();
+            shapedReader = null;
+        }
+        if (inboundShaper != null) {
+            inboundShaper.stop();
+        }
+        if (outboundShaper != null) {
+            outboundShaper.stop();
         }
-        socket.close();
-        socket = null;
+        shapedInbound = null;
     }
 
 }
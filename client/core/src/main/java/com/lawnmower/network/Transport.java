@@ -0,0 +1,28 @@
+package com.lawnmower.network;
+
+/**
+ * 数据包到达的传输通道，code 用于录制文件中的单字节标记（0 保留为文件结束）
+ */
+public enum Transport {
+    TCP((byte) 1),
+    UDP((byte) 2);
+
+    private final byte code;
+
+    Transport(byte code) {
+        this.code = code;
+    }
+
+    public byte code() {
+        return code;
+    }
+
+    public static Transport fromCode(byte code) {
+        for (Transport transport : values()) {
+            if (transport.code == code) {
+                return transport;
+            }
+        }
+        return null;
+    }
+}
@@ -3,6 +3,8 @@ package com.lawnmower.network;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.google.protobuf.MessageLite;
 import com.lawnmower.Config;
+import com.lawnmower.metrics.ClientMetrics;
+import com.lawnmower.utils.ClientScheduler;
 import lawnmower.Message;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,7 +14,10 @@ import java.net.DatagramPacket;
 import java.net.DatagramSocket;
 import java.net.InetSocketAddress;
 import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
@@ -22,15 +27,33 @@ import java.util.function.Consumer;
  */
 public class UdpClient {
     private static final Logger log = LoggerFactory.getLogger(UdpClient.class);
+    /** 预编码输入数据报的复用缓冲区，放不下（令牌过长）时回退到逐条构建 Packet */
+    private static final int INPUT_BUFFER_SIZE = 512;
 
     private final Object sendLock = new Object();
     private final AtomicBoolean running = new AtomicBoolean(false);
+    // 由 sendLock 保护
+    private final byte[] inputBuffer = new byte[INPUT_BUFFER_SIZE];
 
     private DatagramSocket socket;
     private InetSocketAddress serverAddress;
     private Thread receiveThread;
     private Consumer<Message.Packet> packetConsumer = packet -> {};
     private Consumer<Throwable> errorConsumer = err -> {};
+    private volatile InboundPacketListener inboundListener;
+    private LinkShaper inboundShaper;
+    private LinkShaper outboundShaper;
+    // 轮询模式：非阻塞 channel，由调用方线程 pollPacket，不启动接收线程
+    private DatagramChannel channel;
+    private ByteBuffer pollBuffer;
+    private volatile long lastReceiveNanos;
+    // 可靠层：下行可靠事件的去重 / 重排和回 ack，未启用时数据报不带头部
+    private volatile ReliableUdpChannel reliability;
+    private ClientScheduler scheduler;
+    // 待发 ack 的一次性定时任务，由 ackLock 保护
+    private final Object ackLock = new Object();
+    private ClientScheduler.Task ackTask;
+    private final FragmentAssembler fragments = new FragmentAssembler();
 
     /**
      * 初始化 UDP socket 并启动接收线程。
@@ -48,15 +71,98 @@ public class UdpClient {
         this.socket.connect(serverAddress);
         this.socket.setSoTimeout(Config.UDP_RECEIVE_TIMEOUT_MS);
         running.set(true);
+        if (inboundShaper != null) {
+            inboundShaper.start("udp-shaper-in");
+        }
+        if (outboundShaper != null) {
+            outboundShaper.start("udp-shaper-out");
+        }
 
         receiveThread = new Thread(this::receiveLoop, "udp-recv");
         receiveThread.setDaemon(true);
         receiveThread.start();
+        if (reliability != null && reliability.isAckPending()) {
+            // 启动前就已待发的 ack（如先确认了同步 tick）
+            armAckTimer();
+        }
         log.info("UDP socket bound to {} using remote {}", socket.getLocalPort(), serverAddress);
     }
 
+    /**
+     * 以轮询模式启动：不创建接收线程，由调用方反复 {@link #pollPacket()}。
+     * 单线程驱动大量客户端（压测机器人）时使用；该模式下不挂载链路整形器。
+     */
+    public synchronized void startPolled(String host, int port) throws IOException {
+        if (running.get()) {
+            return;
+        }
+        this.serverAddress = new InetSocketAddress(host, port);
+        DatagramChannel opened = DatagramChannel.open();
+        try {
+            opened.configureBlocking(false);
+            opened.connect(serverAddress);
+        } catch (IOException e) {
+            opened.close();
+            throw e;
+        }
+        this.channel = opened;
+        this.pollBuffer = ByteBuffer.allocate(Config.UDP_BUFFER_SIZE);
+        running.set(true);
+    }
+
+    /**
+     * 轮询模式下读取一个已到达的数据包，没有数据时立即返回 null
+     */
+    public Message.Packet pollPacket() {
+        DatagramChannel channel = this.channel;
+        if (channel == null || !running.get()) {
+            return null;
+        }
+        while (true) {
+            pollBuffer.clear();
+            try {
+                if (channel.read(pollBuffer) <= 0) {
+                    return null;
+                }
+            } catch (IOException e) {
+                // 服务器端口未开放时 connected channel 会收到 ICMP 错误，交给调用方决定是否重试
+                errorConsumer.accept(e);
+                return null;
+            }
+            pollBuffer.flip();
+            byte[] data = new byte[pollBuffer.remaining()];
+            pollBuffer.get(data);
+            lastReceiveNanos = System.nanoTime();
+            ClientMetrics.UDP_BYTES_IN.add(data.length);
+            InboundPacketListener listener = inboundListener;
+            if (listener != null) {
+                listener.onInbound(Transport.UDP, data, data.length);
+            }
+            try {
+                return Message.Packet.parseFrom(data);
+            } catch (InvalidProtocolBufferException e) {
+                log.warn("Failed to parse UDP payload: {}", e.getMessage());
+            }
+        }
+    }
+
     public synchronized void stop() {
         running.set(false);
+        cancelAckTimer();
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.debug("Failed to close UDP channel: {}", e.getMessage());
+            }
+            channel = null;
+        }
+        if (inboundShaper != null) {
+            inboundShaper.stop();
+        }
+        if (outboundShaper != null) {
+            outboundShaper.stop();
+        }
         if (socket != null) {
             socket.close();
             socket = null;
@@ -67,6 +173,13 @@ public class UdpClient {
         }
     }
 
+    /**
+     * @return 最近一次收到数据报的 {@link System#nanoTime()}，从未收到时为 0
+     */
+    public long getLastReceiveNanos() {
+        return lastReceiveNanos;
+    }
+
     public boolean isRunning() {
         return running.get();
     }
@@ -75,6 +188,85 @@ public class UdpClient {
         this.errorConsumer = consumer != null ? consumer : err -> {};
     }
 
+    public void setInboundListener(InboundPacketListener listener) {
+        this.inboundListener = listener;
+    }
+
+    /**
+     * 在收发两个方向上挂载链路整形器（本地网络模拟），需在 start 之前调用，传 null 表示该方向不整形
+     */
+    public synchronized void setLinkShapers(LinkShaper inbound, LinkShaper outbound) {
+        this.inboundShaper = inbound;
+        this.outboundShaper = outbound;
+    }
+
+    /**
+     * 启用 UDP 可靠层，需在 start 之前调用；ack 待发 {@link ReliableUdpChannel#ACK_DELAY_MS} 仍无上行可捎带时，
+     * 由 scheduler 上的一次性任务补发独立 ack，空闲时不唤醒。
+     * 启用后应在登录 / 重连请求中声明 {@link ClientCapabilities#RELIABLE_UDP}，服务器才会走可靠通道下发事件
+     */
+    public synchronized void enableReliability(ClientScheduler scheduler) {
+        this.scheduler = Objects.requireNonNull(scheduler, "scheduler");
+        ReliableUdpChannel channel = new ReliableUdpChannel();
+        channel.setAckListener(new ReliableUdpChannel.AckListener() {
+            @Override
+            public void onAckPending() {
+                armAckTimer();
+            }
+
+            @Override
+            public void onAckCleared() {
+                cancelAckTimer();
+            }
+        });
+        this.reliability = channel;
+    }
+
+    private void armAckTimer() {
+        ClientScheduler scheduler = this.scheduler;
+        if (scheduler == null || !running.get()) {
+            return;
+        }
+        synchronized (ackLock) {
+            if (ackTask == null) {
+                ackTask = scheduler.schedule("udp-ack", ClientScheduler.INLINE, this::flushStandaloneAck,
+                        ReliableUdpChannel.ACK_DELAY_MS);
+            }
+        }
+    }
+
+    private void cancelAckTimer() {
+        synchronized (ackLock) {
+            if (ackTask != null) {
+                ackTask.cancel();
+                ackTask = null;
+            }
+        }
+    }
+
+    /**
+     * 确认已连续应用到的同步 tick，随上行数据报 / 独立 ack 发给服务器；未启用可靠层时忽略
+     */
+    public void acknowledgeTick(long tick) {
+        ReliableUdpChannel reliability = this.reliability;
+        if (reliability != null) {
+            reliability.acknowledgeTick(tick);
+        }
+    }
+
+    /**
+     * 请求服务器按已确认的 tick 补发追帧同步
+     * @return 未启用可靠层、未在运行或服务器不支持时返回 false，调用方应改走全量同步
+     */
+    public boolean requestBaselineResync() {
+        ReliableUdpChannel reliability = this.reliability;
+        if (reliability == null || !running.get() || !reliability.isPeerReliable()) {
+            return false;
+        }
+        reliability.requestBaselineResync();
+        return true;
+    }
+
     public boolean sendPlayerInput(Message.C2S_PlayerInput input) {
         Message.Packet packet = Message.Packet.newBuilder()
                 .setMsgType(Message.MessageType.MSG_C2S_PLAYER_INPUT)
@@ -83,15 +275,106 @@ public class UdpClient {
         return sendPacket(packet);
     }
 
+    /**
+     * 按模板把输入直接编码进复用缓冲区发送，不构建 Packet；模板不支持该输入或缓冲区放不下时回退到 {@link #sendPlayerInput(Message.C2S_PlayerInput)}
+     */
+    public boolean sendPlayerInput(InputPacketTemplate template, Message.C2S_PlayerInput input) {
+        if (!running.get()) {
+            return false;
+        }
+        if (!template.supports(input)) {
+            return sendPlayerInput(template.withSessionToken(input));
+        }
+        synchronized (sendLock) {
+            int length = template.encode(input, inputBuffer);
+            ReliableUdpChannel reliability = this.reliability;
+            // 先确认头部放得下再取 seq：否则回退路径的 stamp 会再取一个，对端 ack 位图里多出一个假丢包
+            if (length < 0 || (reliability != null
+                    && length + ReliableUdpChannel.MAX_UNRELIABLE_HEADER_BYTES > inputBuffer.length)) {
+                return sendPlayerInput(template.withSessionToken(input));
+            }
+            if (reliability != null) {
+                // 可靠层头部是 Packet 的独立字段，追加在末尾解析时按字段合并，与 stamp 后再序列化等价
+                length = reliability.writeHeader(inputBuffer, length);
+            }
+            ClientMetrics.packetOut(Message.MessageType.MSG_C2S_PLAYER_INPUT);
+            LinkShaper shaper = outboundShaper;
+            if (shaper != null && channel == null) {
+                shaper.submit(Arrays.copyOf(inputBuffer, length), this::sendShapedDatagram);
+                return true;
+            }
+            return sendDatagram(inputBuffer, length);
+        }
+    }
+
     public boolean sendPacket(Message.Packet packet) {
         if (packet == null || !running.get()) {
             return false;
         }
+        ReliableUdpChannel reliability = this.reliability;
+        if (reliability != null) {
+            packet = reliability.stamp(packet, Message.UdpChannel.UDP_CHANNEL_UNRELIABLE);
+        }
+        return transmit(packet);
+    }
+
+    private void flushStandaloneAck() {
+        synchronized (ackLock) {
+            ackTask = null;
+        }
+        ReliableUdpChannel reliability = this.reliability;
+        if (reliability == null || !running.get()) {
+            return;
+        }
+        Message.Packet ack = reliability.pollStandaloneAck();
+        if (ack != null) {
+            ClientMetrics.UDP_STANDALONE_ACKS.increment();
+            transmit(ack);
+        }
+    }
+
+    private boolean transmit(Message.Packet packet) {
         byte[] payload = packet.toByteArray();
-        DatagramPacket datagram = new DatagramPacket(payload, payload.length, serverAddress);
+        ClientMetrics.packetOut(packet.getMsgType());
+        LinkShaper shaper = outboundShaper;
+        if (shaper != null && channel == null) {
+            // 与真实 UDP 一致：交给链路即视为发送成功，是否送达由整形器决定
+            shaper.submit(payload, this::sendShapedDatagram);
+            return true;
+        }
+        return sendDatagram(payload, payload.length);
+    }
+
+    private void sendShapedDatagram(byte[] payload) {
+        if (running.get()) {
+            sendDatagram(payload, payload.length);
+        }
+    }
+
+    private boolean sendDatagram(byte[] payload, int length) {
+        DatagramChannel channel = this.channel;
+        if (channel != null) {
+            synchronized (sendLock) {
+                try {
+                    int written = channel.write(ByteBuffer.wrap(payload, 0, length));
+                    ClientMetrics.UDP_BYTES_OUT.add(written);
+                    return written == length;
+                } catch (IOException e) {
+                    log.warn("Failed to send UDP packet: {}", e.getMessage());
+                    errorConsumer.accept(e);
+                    return false;
+                }
+            }
+        }
+        DatagramSocket socket = this.socket;
+        if (socket == null) {
+            return false;
+        }
+        DatagramPacket datagram = new DatagramPacket(payload, length, serverAddress);
         synchronized (sendLock) {
             try {
                 socket.send(datagram);
+                ClientMetrics.UDP_BYTES_OUT.add(length);
                 return true;
             } catch (IOException e) {
                 log.error("Failed to send UDP packet", e);
@@ -125,9 +408,39 @@ public class UdpClient {
         if (data == null || data.length == 0) {
             return;
         }
+        LinkShaper shaper = inboundShaper;
+        if (shaper != null) {
+            shaper.submit(data, this::dispatchPacket);
+            return;
+        }
+        dispatchPacket(data);
+    }
+
+    private void dispatchPacket(byte[] data) {
+        lastReceiveNanos = System.nanoTime();
+        ClientMetrics.UDP_BYTES_IN.add(data.length);
+        InboundPacketListener listener = inboundListener;
+        if (listener != null) {
+            listener.onInbound(Transport.UDP, data, data.length);
+        }
         try {
             Message.Packet packet = Message.Packet.parseFrom(data);
-            packetConsumer.accept(packet);
+            if (FragmentAssembler.isFragment(packet)) {
+                byte[] whole = fragments.accept(packet, System.nanoTime());
+                if (whole == null) {
+                    return;
+                }
+                packet = Message.Packet.parseFrom(whole);
+            }
+            ReliableUdpChannel reliability = this.reliability;
+            if (reliability == null) {
+                packetConsumer.accept(packet);
+                return;
+            }
+            List<Message.Packet> ready = reliability.receive(packet);
+            for (int i = 0; i < ready.size(); i++) {
+                packetConsumer.accept(ready.get(i));
+            }
         } catch (InvalidProtocolBufferException e) {
             log.warn("Failed to parse UDP payload: {}", e.getMessage());
         }
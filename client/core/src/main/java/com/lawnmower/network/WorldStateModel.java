@@ -0,0 +1,361 @@
+package com.lawnmower.network;
+
+import com.lawnmower.metrics.ClientMetrics;
+import lawnmower.Message;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 增量同步的世界状态：玩家 / 敌人 / 道具的完整状态表，以及在网络线程上提前完成的增量合并。
+ * <p>
+ * 已提交状态（{@link #players()} 等）就是 GameScreen 的状态缓存，由渲染线程写入，网络线程只读。
+ * 网络线程在投递增量之前调用 {@link #prepare}，按字段掩码把每个实体的增量合并成完整状态，
+ * 自己合并出、渲染线程尚未提交的结果记在 ahead 表里，同一实体的下一份增量接着它合并。
+ * 每条结果都记下所用的基准对象：渲染线程提交时，已提交状态仍是同一个对象，说明结果与就地合并完全一致，直接采用；
+ * 否则（期间被事件改写、被移除或全量重置，或中间有增量被丢弃）返回 null，由调用方就地合并，
+ * 并清掉该实体的 ahead 记录，下一份增量重新从已提交状态起算。
+ * <p>
+ * 状态都是不可变的 protobuf 消息，两个线程之间只交换引用。增量仍经 postRunnable 逐份按序投递而不是只取最新一份，
+ * 基线确认和插值样本需要每一份增量；渲染线程省掉的是逐实体 toBuilder / build 和坐标解码。
+ */
+public final class WorldStateModel {
+
+    private static final int PLAYER_POSITION_MASK = Message.PlayerDeltaMask.PLAYER_DELTA_POSITION_VALUE;
+    private static final int PLAYER_ROTATION_MASK = Message.PlayerDeltaMask.PLAYER_DELTA_ROTATION_VALUE;
+    private static final int PLAYER_IS_ALIVE_MASK = Message.PlayerDeltaMask.PLAYER_DELTA_IS_ALIVE_VALUE;
+    private static final int PLAYER_LAST_INPUT_MASK = Message.PlayerDeltaMask.PLAYER_DELTA_LAST_PROCESSED_INPUT_SEQ_VALUE;
+    private static final int ENEMY_POSITION_MASK = Message.EnemyDeltaMask.ENEMY_DELTA_POSITION_VALUE;
+    private static final int ENEMY_HEALTH_MASK = Message.EnemyDeltaMask.ENEMY_DELTA_HEALTH_VALUE;
+    private static final int ENEMY_IS_ALIVE_MASK = Message.EnemyDeltaMask.ENEMY_DELTA_IS_ALIVE_VALUE;
+    private static final int ITEM_POSITION_MASK = Message.ItemDeltaMask.ITEM_DELTA_POSITION_VALUE;
+    private static final int ITEM_IS_PICKED_MASK = Message.ItemDeltaMask.ITEM_DELTA_IS_PICKED_VALUE;
+    private static final int ITEM_TYPE_MASK = Message.ItemDeltaMask.ITEM_DELTA_TYPE_VALUE;
+
+    private final Map<Integer, Message.PlayerState> players = new ConcurrentHashMap<>();
+    private final Map<Integer, Message.EnemyState> enemies = new ConcurrentHashMap<>();
+    private final Map<Integer, Message.ItemState> items = new ConcurrentHashMap<>();
+    private final Map<Integer, Message.PlayerState> aheadPlayers = new ConcurrentHashMap<>();
+    private final Map<Integer, Message.EnemyState> aheadEnemies = new ConcurrentHashMap<>();
+    private final Map<Integer, Message.ItemState> aheadItems = new ConcurrentHashMap<>();
+
+    public Map<Integer, Message.PlayerState> players() {
+        return players;
+    }
+
+    public Map<Integer, Message.EnemyState> enemies() {
+        return enemies;
+    }
+
+    public Map<Integer, Message.ItemState> items() {
+        return items;
+    }
+
+    /**
+     * 网络线程：在投递之前合并一份增量。TCP / UDP / 回放可能在不同线程上调用，这里串行化
+     */
+    public synchronized PreparedDelta prepare(Message.S2C_GameStateDeltaSync delta, int positionScale) {
+        PreparedDelta prepared = new PreparedDelta(this, delta, positionScale);
+        for (int i = 0, n = delta.getLeftEnemyIdsCount(); i < n; i++) {
+            aheadEnemies.remove(delta.getLeftEnemyIds(i));
+        }
+        for (int i = 0, n = delta.getLeftItemIdsCount(); i < n; i++) {
+            aheadItems.remove(delta.getLeftItemIds(i));
+        }
+        for (int i = 0; i < prepared.players.length; i++) {
+            Message.PlayerStateDelta playerDelta = delta.getPlayers(i);
+            int playerId = (int) playerDelta.getPlayerId();
+            Message.PlayerState base = aheadPlayers.get(playerId);
+            if (base == null) {
+                base = players.get(playerId);
+            }
+            if (base == null) {
+                continue;
+            }
+            Message.PlayerState merged = mergePlayer(base, playerDelta, positionScale);
+            prepared.playerBases[i] = base;
+            prepared.players[i] = merged;
+            aheadPlayers.put(playerId, merged);
+        }
+        for (int i = 0; i < prepared.enemies.length; i++) {
+            Message.EnemyStateDelta enemyDelta = delta.getEnemies(i);
+            int enemyId = (int) enemyDelta.getEnemyId();
+            Message.EnemyState base = aheadEnemies.get(enemyId);
+            if (base == null) {
+                base = enemies.get(enemyId);
+            }
+            if (base == null) {
+                continue;
+            }
+            Message.EnemyState merged = mergeEnemy(base, enemyDelta, positionScale);
+            prepared.enemyBases[i] = base;
+            prepared.enemies[i] = merged;
+            aheadEnemies.put(enemyId, merged);
+        }
+        List<Message.ItemStateDelta> itemDeltas = dedupeItemDeltas(delta.getItemsList());
+        prepared.itemDeltas = itemDeltas;
+        prepared.itemBases = new Message.ItemState[itemDeltas.size()];
+        prepared.items = new Message.ItemState[itemDeltas.size()];
+        for (int i = 0; i < itemDeltas.size(); i++) {
+            Message.ItemStateDelta itemDelta = itemDeltas.get(i);
+            int itemId = (int) itemDelta.getItemId();
+            Message.ItemState base = aheadItems.get(itemId);
+            if (base == null) {
+                base = items.get(itemId);
+            }
+            Message.ItemState materialized = materializeItem(base, itemDelta, positionScale);
+            prepared.itemBases[i] = base;
+            prepared.items[i] = materialized;
+            if (materialized.getIsPicked()) {
+                aheadItems.remove(itemId);
+            } else {
+                aheadItems.put(itemId, materialized);
+            }
+        }
+        return prepared;
+    }
+
+    /**
+     * 渲染线程：提交第 index 个玩家的预合并结果
+     * @return 基准未变时为合并后的状态（已写入已提交状态），否则 null，调用方就地合并
+     */
+    public Message.PlayerState commitPlayer(PreparedDelta prepared, int index) {
+        Message.PlayerState merged = prepared.players[index];
+        int playerId = (int) prepared.delta.getPlayers(index).getPlayerId();
+        if (merged == null || players.get(playerId) != prepared.playerBases[index]) {
+            aheadPlayers.remove(playerId);
+            ClientMetrics.SYNC_PREMERGE_MISSES.increment();
+            return null;
+        }
+        players.put(playerId, merged);
+        aheadPlayers.remove(playerId, merged);
+        ClientMetrics.SYNC_PREMERGE_HITS.increment();
+        return merged;
+    }
+
+    /**
+     * 渲染线程：提交第 index 个敌人的预合并结果，语义同 {@link #commitPlayer}
+     */
+    public Message.EnemyState commitEnemy(PreparedDelta prepared, int index) {
+        Message.EnemyState merged = prepared.enemies[index];
+        int enemyId = (int) prepared.delta.getEnemies(index).getEnemyId();
+        if (merged == null || enemies.get(enemyId) != prepared.enemyBases[index]) {
+            aheadEnemies.remove(enemyId);
+            ClientMetrics.SYNC_PREMERGE_MISSES.increment();
+            return null;
+        }
+        enemies.put(enemyId, merged);
+        aheadEnemies.remove(enemyId, merged);
+        ClientMetrics.SYNC_PREMERGE_HITS.increment();
+        return merged;
+    }
+
+    /**
+     * 渲染线程：提交第 index 个（去重后的）道具增量；道具没有基准时按增量新建，基准为 null 也参与校验
+     */
+    public Message.ItemState commitItem(PreparedDelta prepared, int index) {
+        Message.ItemState materialized = prepared.items[index];
+        int itemId = (int) materialized.getItemId();
+        if (items.get(itemId) != prepared.itemBases[index]) {
+            aheadItems.remove(itemId);
+            ClientMetrics.SYNC_PREMERGE_MISSES.increment();
+            return null;
+        }
+        if (materialized.getIsPicked()) {
+            items.remove(itemId);
+        } else {
+            items.put(itemId, materialized);
+        }
+        aheadItems.remove(itemId, materialized);
+        ClientMetrics.SYNC_PREMERGE_HITS.increment();
+        return materialized;
+    }
+
+    /**
+     * 渲染线程：整份增量被丢弃（过期、等待全量等）时撤销它留下的 ahead 记录
+     */
+    public void discard(PreparedDelta prepared) {
+        if (prepared == null || prepared.owner != this) {
+            return;
+        }
+        for (int i = 0; i < prepared.players.length; i++) {
+            if (prepared.players[i] != null) {
+                aheadPlayers.remove((int) prepared.delta.getPlayers(i).getPlayerId(), prepared.players[i]);
+            }
+        }
+        for (int i = 0; i < prepared.enemies.length; i++) {
+            if (prepared.enemies[i] != null) {
+                aheadEnemies.remove((int) prepared.delta.getEnemies(i).getEnemyId(), prepared.enemies[i]);
+            }
+        }
+        for (Message.ItemState item : prepared.items) {
+            aheadItems.remove((int) item.getItemId(), item);
+        }
+    }
+
+    /**
+     * 世界重置时清空尚未提交的预合并结果
+     */
+    public void clearAhead() {
+        aheadPlayers.clear();
+        aheadEnemies.clear();
+        aheadItems.clear();
+    }
+
+    public static Message.PlayerState mergePlayer(Message.PlayerState base, Message.PlayerStateDelta delta,
+                                                  int positionScale) {
+        Message.PlayerState.Builder builder = base.toBuilder();
+        int mask = delta.getChangedMask();
+        if ((mask & PLAYER_POSITION_MASK) != 0) {
+            Message.Vector2 position = resolvePosition(delta.hasPosition() ? delta.getPosition() : null,
+                    delta.getPositionQ(), positionScale);
+            if (position != null) {
+                builder.setPosition(position);
+            }
+        }
+        if ((mask & PLAYER_ROTATION_MASK) != 0 && delta.hasRotation()) {
+            builder.setRotation(delta.getRotation());
+        }
+        if ((mask & PLAYER_IS_ALIVE_MASK) != 0 && delta.hasIsAlive()) {
+            builder.setIsAlive(delta.getIsAlive());
+        }
+        if ((mask & PLAYER_LAST_INPUT_MASK) != 0 && delta.hasLastProcessedInputSeq()) {
+            builder.setLastProcessedInputSeq(delta.getLastProcessedInputSeq());
+        }
+        return builder.build();
+    }
+
+    public static Message.EnemyState mergeEnemy(Message.EnemyState base, Message.EnemyStateDelta delta,
+                                                int positionScale) {
+        Message.EnemyState.Builder builder = base.toBuilder();
+        int mask = delta.getChangedMask();
+        if ((mask & ENEMY_POSITION_MASK) != 0) {
+            Message.Vector2 position = resolvePosition(delta.hasPosition() ? delta.getPosition() : null,
+                    delta.getPositionQ(), positionScale);
+            if (position != null) {
+                builder.setPosition(position);
+            }
+        }
+        if ((mask & ENEMY_HEALTH_MASK) != 0 && delta.hasHealth()) {
+            builder.setHealth(delta.getHealth());
+        }
+        if ((mask & ENEMY_IS_ALIVE_MASK) != 0 && delta.hasIsAlive()) {
+            builder.setIsAlive(delta.getIsAlive());
+        }
+        return builder.build();
+    }
+
+    /**
+     * 同一份增量里同一道具出现多次时合并为一条，保持首次出现的顺序
+     */
+    public static List<Message.ItemStateDelta> dedupeItemDeltas(List<Message.ItemStateDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Integer, Message.ItemStateDelta> deduped = new LinkedHashMap<>();
+        for (Message.ItemStateDelta itemDelta : deltas) {
+            if (itemDelta == null) {
+                continue;
+            }
+            deduped.merge((int) itemDelta.getItemId(), itemDelta, WorldStateModel::mergeItemDelta);
+        }
+        return new ArrayList<>(deduped.values());
+    }
+
+    private static Message.ItemStateDelta mergeItemDelta(Message.ItemStateDelta base, Message.ItemStateDelta incoming) {
+        Message.ItemStateDelta.Builder builder = base.toBuilder();
+        builder.setChangedMask(base.getChangedMask() | incoming.getChangedMask());
+        if (incoming.hasPosition()) {
+            builder.setPosition(incoming.getPosition());
+        }
+        if ((incoming.getChangedMask() & ITEM_POSITION_MASK) != 0) {
+            builder.setPositionQ(incoming.getPositionQ());
+        }
+        if (incoming.hasIsPicked()) {
+            builder.setIsPicked(incoming.getIsPicked());
+        }
+        if (incoming.hasTypeId()) {
+            builder.setTypeId(incoming.getTypeId());
+        }
+        return builder.build();
+    }
+
+    /**
+     * @param base 已有的道具状态，没有时按增量新建
+     */
+    public static Message.ItemState materializeItem(Message.ItemState base, Message.ItemStateDelta delta,
+                                                    int positionScale) {
+        Message.ItemState.Builder builder = base != null
+                ? base.toBuilder()
+                : Message.ItemState.newBuilder().setItemId(delta.getItemId());
+        int mask = delta.getChangedMask();
+        if ((mask & ITEM_POSITION_MASK) != 0) {
+            Message.Vector2 position = resolvePosition(delta.hasPosition() ? delta.getPosition() : null,
+                    delta.getPositionQ(), positionScale);
+            if (position != null) {
+                builder.setPosition(position);
+            }
+        }
+        if ((mask & ITEM_IS_PICKED_MASK) != 0 && delta.hasIsPicked()) {
+            builder.setIsPicked(delta.getIsPicked());
+        }
+        if ((mask & ITEM_TYPE_MASK) != 0 && delta.hasTypeId()) {
+            builder.setTypeId(delta.getTypeId());
+        }
+        return builder.build();
+    }
+
+    /**
+     * 增量中的位置：浮点 Vector2 优先，否则在本局启用定点坐标时解码 position_q
+     * @return 两者都没有时为 null
+     */
+    private static Message.Vector2 resolvePosition(Message.Vector2 floatPosition, int quantizedPosition,
+                                                   int positionScale) {
+        if (floatPosition != null) {
+            return floatPosition;
+        }
+        return PositionCodec.decode(quantizedPosition, positionScale);
+    }
+
+    /**
+     * 一份增量在网络线程上的预合并结果，数组下标与增量里的 players / enemies 一一对应，
+     * 道具按 {@link #itemDeltas}（去重后）的顺序；没有基准的实体对应位置为 null
+     */
+    public static final class PreparedDelta {
+        final WorldStateModel owner;
+        final Message.S2C_GameStateDeltaSync delta;
+        final int positionScale;
+        final Message.PlayerState[] playerBases;
+        final Message.PlayerState[] players;
+        final Message.EnemyState[] enemyBases;
+        final Message.EnemyState[] enemies;
+        Message.ItemState[] itemBases;
+        Message.ItemState[] items;
+        List<Message.ItemStateDelta> itemDeltas;
+
+        PreparedDelta(WorldStateModel owner, Message.S2C_GameStateDeltaSync delta, int positionScale) {
+            this.owner = owner;
+            this.delta = delta;
+            this.positionScale = positionScale;
+            this.playerBases = new Message.PlayerState[delta.getPlayersCount()];
+            this.players = new Message.PlayerState[delta.getPlayersCount()];
+            this.enemyBases = new Message.EnemyState[delta.getEnemiesCount()];
+            this.enemies = new Message.EnemyState[delta.getEnemiesCount()];
+        }
+
+        /**
+         * @return 是否由该模型、按当前坐标精度、针对这份增量合并；否则调用方应整体丢弃预合并结果
+         */
+        public boolean matches(WorldStateModel model, Message.S2C_GameStateDeltaSync message, int currentScale) {
+            return owner == model && delta == message && positionScale == currentScale;
+        }
+
+        public List<Message.ItemStateDelta> itemDeltas() {
+            return itemDeltas;
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.lawnmower.render;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+/**
+ * 世界实体的渲染队列：一帧内先收集道具、僵尸、玩家、子弹、特效的绘制命令，
+ * 再按 层级 -> 深度(Y) -> 纹理 排序后一次性提交给 SpriteBatch。
+ * <p>
+ * 命令保存在预分配的并行数组中，排序使用 LSD 基数排序，稳态下每帧不产生任何分配；
+ * 同一深度上的命令按纹理聚在一起，尽量减少 SpriteBatch 因切换纹理产生的 flush。
+ */
+public final class RenderQueue {
+
+    /** 地面层（掉落道具），始终位于角色下方 */
+    public static final int LAYER_GROUND = 0;
+    /** 角色层（玩家、僵尸、子弹），按脚底 Y 排序 */
+    public static final int LAYER_ACTORS = 1;
+    /** 特效层（命中特效），始终位于角色上方 */
+    public static final int LAYER_EFFECTS = 2;
+
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    /*
+     * 32 位排序键（按无符号比较）：
+     * [31..30] 层级  [29..14] 深度（Y 越大越靠后，越先绘制）  [13..0] 纹理槽位
+     * 深度按整像素量化，亚像素差异肉眼不可见，反而能让更多同深度命令按纹理合批。
+     */
+    private static final int TEXTURE_BITS = 14;
+    private static final int DEPTH_BITS = 16;
+    private static final int TEXTURE_MASK = (1 << TEXTURE_BITS) - 1;
+    private static final int DEPTH_MAX = (1 << DEPTH_BITS) - 1;
+    private static final int DEPTH_OFFSET = 1 << (DEPTH_BITS - 1);
+    private static final int LAYER_SHIFT = TEXTURE_BITS + DEPTH_BITS;
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX_SIZE = 1 << RADIX_BITS;
+    private static final int RADIX_MASK = RADIX_SIZE - 1;
+    private static final int RADIX_PASSES = Integer.SIZE / RADIX_BITS;
+
+    private final ObjectIntMap<Texture> textureSlots = new ObjectIntMap<>();
+    private final int[] radixCounts = new int[RADIX_SIZE];
+
+    private TextureRegion[] regions;
+    private float[] drawX;
+    private float[] drawY;
+    private float[] originX;
+    private float[] originY;
+    private float[] width;
+    private float[] height;
+    private float[] scaleX;
+    private float[] scaleY;
+    private float[] rotation;
+    private int[] keys;
+    private int[] order;
+    private int[] scratchKeys;
+    private int[] scratchOrder;
+    private int size;
+
+    public RenderQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public RenderQueue(int initialCapacity) {
+        allocate(Math.max(16, initialCapacity));
+    }
+
+    /**
+     * 开始新的一帧，丢弃上一帧残留的命令
+     */
+    public void begin() {
+        for (int i = 0; i < size; i++) {
+            regions[i] = null;
+        }
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 以中心点提交一个帧，深度取其脚底（中心 Y 减去半高）
+     * @param region 纹理帧
+     * @param centerX 中心 X
+     * @param centerY 中心 Y
+     * @param scaleX 水平缩放，传 -1 表示水平翻转
+     * @param rotationDeg 旋转角度
+     * @param layer 层级，见 LAYER_*
+     */
+    public void submitCentered(TextureRegion region, float centerX, float centerY,
+                               float scaleX, float rotationDeg, int layer) {
+        if (region == null) {
+            return;
+        }
+        float w = region.getRegionWidth();
+        float h = region.getRegionHeight();
+        float halfWidth = w / 2f;
+        float halfHeight = h / 2f;
+        submit(region, centerX - halfWidth, centerY - halfHeight, halfWidth, halfHeight,
+                w, h, scaleX, 1f, rotationDeg, layer, centerY - halfHeight);
+    }
+
+    /**
+     * 提交一条绘制命令，参数与 SpriteBatch#draw(TextureRegion, x, y, originX, originY, width, height, scaleX, scaleY, rotation) 一致
+     * @param depthY 用于排序的世界 Y 坐标，越小越靠前
+     */
+    public void submit(TextureRegion region, float x, float y, float originX, float originY,
+                       float width, float height, float scaleX, float scaleY, float rotationDeg,
+                       int layer, float depthY) {
+        if (region == null || region.getTexture() == null) {
+            return;
+        }
+        if (size == regions.length) {
+            allocate(regions.length << 1);
+        }
+        int index = size++;
+        regions[index] = region;
+        drawX[index] = x;
+        drawY[index] = y;
+        this.originX[index] = originX;
+        this.originY[index] = originY;
+        this.width[index] = width;
+        this.height[index] = height;
+        this.scaleX[index] = scaleX;
+        this.scaleY[index] = scaleY;
+        rotation[index] = rotationDeg;
+        keys[index] = buildKey(layer, depthY, resolveTextureSlot(region.getTexture()));
+        order[index] = index;
+    }
+
+    /**
+     * 排序并把本帧全部命令提交到 batch，调用方需保证 batch 已 begin
+     * @return 实际绘制的命令数
+     */
+    public int flush(SpriteBatch batch) {
+        if (batch == null || size == 0) {
+            return 0;
+        }
+        sort();
+        for (int i = 0; i < size; i++) {
+            int index = order[i];
+            batch.draw(regions[index], drawX[index], drawY[index], originX[index], originY[index],
+                    width[index], height[index], scaleX[index], scaleY[index], rotation[index]);
+        }
+        int drawn = size;
+        begin();
+        return drawn;
+    }
+
+    /**
+     * 释放纹理槽位映射，切换场景或释放纹理后调用，避免持有已 dispose 的纹理
+     */
+    public void reset() {
+        begin();
+        textureSlots.clear();
+    }
+
+    private int buildKey(int layer, float depthY, int textureSlot) {
+        int quantizedY = (int) Math.floor(depthY) + DEPTH_OFFSET;
+        if (quantizedY < 0) {
+            quantizedY = 0;
+        } else if (quantizedY > DEPTH_MAX) {
+            quantizedY = DEPTH_MAX;
+        }
+        // Y 越大越靠画面后方，需要先绘制，因此取反
+        int depth = DEPTH_MAX - quantizedY;
+        return ((layer & 0x3) << LAYER_SHIFT) | (depth << TEXTURE_BITS) | (textureSlot & TEXTURE_MASK);
+    }
+
+    private int resolveTextureSlot(Texture texture) {
+        int slot = textureSlots.get(texture, -1);
+        if (slot >= 0) {
+            return slot;
+        }
+        if (textureSlots.size > TEXTURE_MASK) {
+            // 槽位耗尽只影响合批效果，不影响正确性，直接重新编号
+            textureSlots.clear();
+        }
+        slot = textureSlots.size;
+        textureSlots.put(texture, slot);
+        return slot;
+    }
+
+    /**
+     * 稳定的 LSD 基数排序，每趟 8 位；某一趟所有键在该位上都相同时直接跳过
+     */
+    private void sort() {
+        if (size < 2) {
+            return;
+        }
+        int[] srcKeys = keys;
+        int[] srcOrder = order;
+        int[] dstKeys = scratchKeys;
+        int[] dstOrder = scratchOrder;
+        for (int pass = 0; pass < RADIX_PASSES; pass++) {
+            int shift = pass * RADIX_BITS;
+            int[] counts = radixCounts;
+            for (int i = 0; i < RADIX_SIZE; i++) {
+                counts[i] = 0;
+            }
+            for (int i = 0; i < size; i++) {
+                counts[(srcKeys[i] >>> shift) & RADIX_MASK]++;
+            }
+            if (counts[(srcKeys[0] >>> shift) & RADIX_MASK] == size) {
+                continue;
+            }
+            int total = 0;
+            for (int i = 0; i < RADIX_SIZE; i++) {
+                int count = counts[i];
+                counts[i] = total;
+                total += count;
+            }
+            for (int i = 0; i < size; i++) {
+                int key = srcKeys[i];
+                int target = counts[(key >>> shift) & RADIX_MASK]++;
+                dstKeys[target] = key;
+                dstOrder[target] = srcOrder[i];
+            }
+            int[] swapKeys = srcKeys;
+            srcKeys = dstKeys;
+            dstKeys = swapKeys;
+            int[] swapOrder = srcOrder;
+            srcOrder = dstOrder;
+            dstOrder = swapOrder;
+        }
+        keys = srcKeys;
+        order = srcOrder;
+        scratchKeys = dstKeys;
+        scratchOrder = dstOrder;
+    }
+
+    private void allocate(int capacity) {
+        regions = copyOf(regions, capacity);
+        drawX = copyOf(drawX, capacity);
+        drawY = copyOf(drawY, capacity);
+        originX = copyOf(originX, capacity);
+        originY = copyOf(originY, capacity);
+        width = copyOf(width, capacity);
+        height = copyOf(height, capacity);
+        scaleX = copyOf(scaleX, capacity);
+        scaleY = copyOf(scaleY, capacity);
+        rotation = copyOf(rotation, capacity);
+        keys = copyOf(keys, capacity);
+        order = copyOf(order, capacity);
+        scratchKeys = new int[capacity];
+        scratchOrder = new int[capacity];
+    }
+
+    private static TextureRegion[] copyOf(TextureRegion[] source, int capacity) {
+        TextureRegion[] target = new TextureRegion[capacity];
+        if (source != null) {
+            System.arraycopy(source, 0, target, 0, source.length);
+        }
+        return target;
+    }
+
+    private static float[] copyOf(float[] source, int capacity) {
+        float[] target = new float[capacity];
+        if (source != null) {
+            System.arraycopy(source, 0, target, 0, source.length);
+        }
+        return target;
+    }
+
+    private static int[] copyOf(int[] source, int capacity) {
+        int[] target = new int[capacity];
+        if (source != null) {
+            System.arraycopy(source, 0, target, 0, source.length);
+        }
+        return target;
+    }
+}
@@ -39,9 +39,23 @@ import com.lawnmower.Config;
 import com.lawnmower.Main;
 import com.lawnmower.enemies.EnemyDefinitions;
 import com.lawnmower.enemies.EnemyView;
+import com.lawnmower.metrics.ClientMetrics;
+import com.lawnmower.metrics.HitchRecorder;
+import com.lawnmower.metrics.InputLatencyTracer;
+import com.lawnmower.metrics.jfr.FrameRenderedEvent;
+import com.lawnmower.metrics.jfr.ReconciliationEvent;
+import com.lawnmower.metrics.jfr.StateSyncAppliedEvent;
+import com.lawnmower.network.BaselineHistory;
+import com.lawnmower.network.InputRateController;
+import com.lawnmower.network.InterestArea;
+import com.lawnmower.network.JitterBufferEstimator;
+import com.lawnmower.network.SyncBaseline;
+import com.lawnmower.network.WorldStateModel;
 import com.lawnmower.players.PlayerInputCommand;
 import com.lawnmower.players.PlayerStateSnapshot;
 import com.lawnmower.players.ServerPlayerSnapshot;
+import com.lawnmower.render.RenderQueue;
+import com.lawnmower.utils.ClientScheduler;
 import lawnmower.Message;
 
 import java.io.BufferedOutputStream;
@@ -67,14 +81,14 @@ public class GameScreen implements Screen {
 
     // 鏉堟挸鍙嗛崚鍡橆唽閺囧绮忛敍?0~33ms閿涘绱濋梽宥勭秵閺堝秴濮熺粩顖氱垻缁?
 
-    private static final float MAX_COMMAND_DURATION = 0.025f;
     private static final float MIN_COMMAND_DURATION = 1f / 120f;
     private static final long SNAPSHOT_RETENTION_MS = 400L;
     private static final long MAX_EXTRAPOLATION_MS = 150L;
     private static final int PLACEHOLDER_ENEMY_ID = -1;
     private static final int DEFAULT_ENEMY_TYPE_ID = EnemyDefinitions.getDefaultTypeId();
-    private static final long INTERP_DELAY_MIN_MS = 60L;
-    private static final long INTERP_DELAY_MAX_MS = 180L;
+    // 插值延迟的上下限；目标值由 JitterBufferEstimator 按到达间隔分位数给出
+    private static final long INTERP_DELAY_MIN_MS = 30L;
+    private static final long INTERP_DELAY_MAX_MS = 250L;
     private static final int AUTO_ATTACK_TOGGLE_KEY = Input.Keys.C;
     private static final float AUTO_ATTACK_INTERVAL = 1f;
     private static final float AUTO_ATTACK_HOLD_TIME = 0.18f;
@@ -86,30 +100,22 @@ public class GameScreen implements Screen {
     private static final int MAX_UNCONFIRMED_INPUTS = 240;
     private static final long MAX_UNCONFIRMED_INPUT_AGE_MS = 1500L;
     private static final long REMOTE_PLAYER_TIMEOUT_MS = 5000L;
-    private static final long MIN_INPUT_SEND_INTERVAL_MS = 10L; // ~100Hz
+    private static final long LATENCY_PROBE_INTERVAL_MS = 1000L;
+    private static final long INITIAL_STATE_POLL_INTERVAL_MS = 250L;
 
     /*
      * 婢х偤鍣洪崥灞绢劄,閺嶅洩鐦戦張宥呭缁旑垯绱堕崗銉ф畱閸欐ê瀵查崐?闁插洨鏁ゆ担宥嗗负閻?閺囧瓨鏌熸笟鑳厴閻鍤弶銉╂付鐟曚椒绱堕崗銉ф畱閸婂吋妲搁崥锕€褰傞悽鐔剁啊閸欐ê瀵?濮ｆ柨顩ф担宥囩枂娣団剝浼?
      * 閼板奔绗栨潻娆庨嚋閺傜懓绱￠弰顖氱殺Message娑擃厾娈戠€涙顔岀紓鎾崇摠閹存劕褰夐柌?鐟欙綀鈧缚鍞惍?     */
-    private static final int PLAYER_DELTA_POSITION_MASK = Message.PlayerDeltaMask.PLAYER_DELTA_POSITION_VALUE;
-    private static final int PLAYER_DELTA_ROTATION_MASK = Message.PlayerDeltaMask.PLAYER_DELTA_ROTATION_VALUE;
-    private static final int PLAYER_DELTA_IS_ALIVE_MASK = Message.PlayerDeltaMask.PLAYER_DELTA_IS_ALIVE_VALUE;
     private static final int PLAYER_DELTA_LAST_INPUT_MASK = Message.PlayerDeltaMask.PLAYER_DELTA_LAST_PROCESSED_INPUT_SEQ_VALUE;
 
-    private static final int ENEMY_DELTA_POSITION_MASK = Message.EnemyDeltaMask.ENEMY_DELTA_POSITION_VALUE;
-    private static final int ENEMY_DELTA_HEALTH_MASK = Message.EnemyDeltaMask.ENEMY_DELTA_HEALTH_VALUE;
-    private static final int ENEMY_DELTA_IS_ALIVE_MASK = Message.EnemyDeltaMask.ENEMY_DELTA_IS_ALIVE_VALUE;
-
-    private static final int ITEM_DELTA_POSITION_MASK = Message.ItemDeltaMask.ITEM_DELTA_POSITION_VALUE;
-    private static final int ITEM_DELTA_IS_PICKED_MASK = Message.ItemDeltaMask.ITEM_DELTA_IS_PICKED_VALUE;
-    private static final int ITEM_DELTA_TYPE_MASK = Message.ItemDeltaMask.ITEM_DELTA_TYPE_VALUE;
-
     private final Vector2 renderBuffer = new Vector2();
     private final Vector2 projectileTempVector = new Vector2();
     private final Vector2 projectileOriginBuffer = new Vector2();
     private final Vector2 projectileDirectionBuffer = new Vector2();
-    private final Map<Integer, Message.PlayerState> serverPlayerStates = new HashMap<>();
-    private final Map<Integer, Message.EnemyState> enemyStateCache = new HashMap<>();
+    // 玩家 / 敌人 / 道具的完整状态，增量由网络线程预合并（见 WorldStateModel）
+    private final WorldStateModel worldModel = new WorldStateModel();
+    private final Map<Integer, Message.PlayerState> serverPlayerStates = worldModel.players();
+    private final Map<Integer, Message.EnemyState> enemyStateCache = worldModel.enemies();
     private final Map<Integer, EnemyView> enemyViews = new HashMap<>();
     private final Map<Integer, Long> enemyLastSeen = new HashMap<>();
     private final Map<Integer, Deque<ServerPlayerSnapshot>> remotePlayerServerSnapshots = new HashMap<>();
@@ -122,8 +128,7 @@ public class GameScreen implements Screen {
     private final Map<Long, ProjectileView> projectileViews = new HashMap<>();
     private final Array<ProjectileImpact> projectileImpacts = new Array<>();
     private final Vector2 targetingBuffer = new Vector2();
-    private final Map<Integer, Message.ItemState> itemStateCache = new HashMap<>();
-    private final Map<Integer, Message.ItemStateDelta> itemDeltaBuffer = new LinkedHashMap<>();
+    private final Map<Integer, Message.ItemState> itemStateCache = worldModel.items();
     private final Set<Integer> droppedItemDedupSet = new HashSet<>();
     private final Map<Integer, ItemView> itemViews = new HashMap<>();
     private final Map<Integer, TextureRegion> itemTextureRegions = new HashMap<>();
@@ -139,6 +144,7 @@ public class GameScreen implements Screen {
     private OrthographicCamera camera;
     private FitViewport viewport;
     private SpriteBatch batch;
+    private final RenderQueue renderQueue = new RenderQueue();
     private Texture playerTexture;
     private TextureAtlas playerAtlas;
     private Animation<TextureRegion> playerIdleAnimation;
@@ -189,7 +195,6 @@ public class GameScreen implements Screen {
     private static final float SYNC_INTERVAL_SMOOTH_ALPHA = 0.1f;
     private static final float SYNC_INTERVAL_LOG_THRESHOLD_MS = 120f;
     private static final long SYNC_INTERVAL_LOG_INTERVAL_MS = 800L;
-    private static final float SYNC_DEVIATION_SMOOTH_ALPHA = 0.12f;
     private static final float REMOTE_DISPLAY_LERP_RATE = 14f;
     private static final float REMOTE_DISPLAY_SNAP_DISTANCE = 8f;
     private static final long DROPPED_SYNC_LOG_INTERVAL_MS = 900L;
@@ -199,12 +204,20 @@ public class GameScreen implements Screen {
     private static final long INITIAL_STATE_FAILURE_HINT_MS = 16000L;
     private static final long RECONNECT_OVERLAY_PULSE_MS = 1200L;
     private static final long DELTA_RESYNC_COOLDOWN_MS = 1200L;
+    // 追帧请求的最小间隔，实际取它与两倍 RTT 的较大值，避免补发在途时重复请求
+    private static final long BASELINE_CATCH_UP_COOLDOWN_MS = 250L;
+    // 上报的关注区域在相机视野外扩的边距（世界单位），视野离区域边界不足一半时重报
+    private static final float INTEREST_MARGIN = 320f;
+    // 离开区域的敌人视图回收复用，池子上限
+    private static final int ENEMY_VIEW_POOL_LIMIT = 256;
 
     private boolean hasPendingInputChunk = false;
     private final Vector2 pendingMoveDir = new Vector2();
     private boolean pendingAttack = false;
     private float pendingInputDuration = 0f;
     private long pendingInputStartMs = 0L;
+    private long pendingInputSampleNanos = 0L;
+    private final HitchRecorder.FrameStats hitchFrameStats = new HitchRecorder.FrameStats();
     private boolean idleAckSent = true;
     private boolean autoAttackToggle = true;
     private boolean hasShownGameOver = false;
@@ -240,11 +253,27 @@ public class GameScreen implements Screen {
     private long lastDroppedSyncLogMs = 0L;
     private long lastAppliedSyncTick = -1L;
     private long lastAppliedServerTimeMs = -1L;
+    // 拆分快照：正在收集的 tick、已收到的部分，以及累积的敌人 / 道具（收齐后按全量应用）
+    private long partialSnapshotTick = -1L;
+    private BitSet partialSnapshotParts;
+    private Message.S2C_GameStateSync.Builder partialSnapshot;
+    // 已连续应用的同步基线，确认给服务器后漏收时只需按它追帧
+    private final BaselineHistory syncBaselines = new BaselineHistory();
+    private long lastCatchUpRequestMs = 0L;
+    // 最近一次成功上报的关注区域；null 表示需要（重新）上报
+    private InterestArea reportedInterestArea;
+    private final Deque<EnemyView> enemyViewPool = new ArrayDeque<>();
     // 30Hz 閻╊喗鐖ｉ崥灞绢劄闂傛挳娈х痪?33ms閿涘矂顣╃純顔荤娑擃亪娼潻鎴犳窗閺嶅洨娈戦崚婵嗏偓闂寸┒娴滃骸閽╁?
     private float smoothedSyncIntervalMs = 35f;
-    private float smoothedSyncDeviationMs = 30f;
+    private final JitterBufferEstimator jitterBuffer;
     private Message.C2S_PlayerInput pendingRateLimitedInput;
     private long lastInputSendMs = 0L;
+    // 输入发送间隔与单条指令最长合并时长，按 RTT / 丢失率 / 逻辑帧率自适应
+    private final InputRateController inputRate = new InputRateController();
+    // 登记在 Main 统一定时器上的任务，show() 时创建，hide() / dispose() 时取消
+    private ClientScheduler.Task latencyProbeTask;
+    private ClientScheduler.Task initialStateTask;
+    private ClientScheduler.Task inputFlushTask;
     private String statusToastMessage = "";
     private float statusToastTimer = 0f;
     private static final float STATUS_TOAST_DURATION = 2.75f;
@@ -268,10 +297,13 @@ public class GameScreen implements Screen {
 
     public GameScreen(Main game) {
         this.game = Objects.requireNonNull(game);
+        this.jitterBuffer = new JitterBufferEstimator(game.getJitterPercentile());
+        game.attachWorldStateModel(worldModel);
     }
 
     @Override
     public void show() {
+        startScheduledTasks();
         camera = new OrthographicCamera();
         viewport = new FitViewport(WORLD_WIDTH, WORLD_HEIGHT, camera);
         batch = new SpriteBatch();//缂佹ê鍩楁禍铏瑰⒖閻劎娈?
@@ -296,13 +328,8 @@ public class GameScreen implements Screen {
             playerIdleAnimation = new Animation<>(0.1f, playerAtlas.getRegions(), Animation.PlayMode.LOOP);
             playerTextureRegion = playerIdleAnimation.getKeyFrame(0f);
         } catch (Exception e) {
-            Pixmap pixmap = new Pixmap(64, 64, Pixmap.Format.RGBA8888);
-            pixmap.setColor(Color.RED);
-            pixmap.fillCircle(32, 32, 30);
-            playerTexture = new Texture(pixmap);
-            playerTextureRegion = new TextureRegion(playerTexture);
+            playerTextureRegion = createPlayerFallbackRegion();
             playerIdleAnimation = null;
-            pixmap.dispose();
         }
         //閸旂姾娴囩挧鍕爱
         loadEnemyAssets();
@@ -325,6 +352,18 @@ public class GameScreen implements Screen {
         initUpgradeOverlay();
         resetUpgradeFlowState();
     }
+    /**
+     * 玩家贴图缺失时使用的红色圆形占位图
+     */
+    private TextureRegion createPlayerFallbackRegion() {
+        Pixmap pixmap = new Pixmap(64, 64, Pixmap.Format.RGBA8888);
+        pixmap.setColor(Color.RED);
+        pixmap.fillCircle(32, 32, 30);
+        playerTexture = new Texture(pixmap);
+        pixmap.dispose();
+        return new TextureRegion(playerTexture);
+    }
+
     /**
      * 闁挸鍙块悩鑸碘偓浣告倱濮?
      * @param items
@@ -460,71 +499,26 @@ public class GameScreen implements Screen {
         return true;
     }
 
-    private void applyItemDeltaStates(List<Message.ItemStateDelta> items, long incomingTick, long serverTimeMs) {
+    private void applyItemDeltaStates(List<Message.ItemStateDelta> items, long incomingTick, long serverTimeMs,
+                                      WorldStateModel.PreparedDelta prepared) {
         if (items == null || items.isEmpty()) {
             return;
         }
         if (!shouldApplyItemDelta(incomingTick, serverTimeMs)) {
             return;
         }
-        itemDeltaBuffer.clear();
-        for (Message.ItemStateDelta itemDelta : items) {
-            if (itemDelta == null) {
-                continue;
+        List<Message.ItemStateDelta> deduped = prepared != null
+                ? prepared.itemDeltas()
+                : WorldStateModel.dedupeItemDeltas(items);
+        for (int i = 0; i < deduped.size(); i++) {
+            Message.ItemState resolved = prepared != null ? worldModel.commitItem(prepared, i) : null;
+            if (resolved == null) {
+                Message.ItemStateDelta itemDelta = deduped.get(i);
+                resolved = WorldStateModel.materializeItem(itemStateCache.get((int) itemDelta.getItemId()),
+                        itemDelta, game.getPositionScale());
             }
-            int itemId = (int) itemDelta.getItemId();
-            Message.ItemStateDelta existing = itemDeltaBuffer.get(itemId);
-            if (existing == null) {
-                itemDeltaBuffer.put(itemId, itemDelta);
-            } else {
-                itemDeltaBuffer.put(itemId, mergeItemDelta(existing, itemDelta));
-            }
-        }
-        for (Message.ItemStateDelta dedupedState : itemDeltaBuffer.values()) {
-            Message.ItemState resolved = materializeItemDelta(dedupedState);
             applyItemState(resolved);
         }
-        itemDeltaBuffer.clear();
-    }
-
-    private Message.ItemStateDelta mergeItemDelta(Message.ItemStateDelta base, Message.ItemStateDelta incoming) {
-        if (base == null) {
-            return incoming;
-        }
-        Message.ItemStateDelta.Builder builder = base.toBuilder();
-        builder.setChangedMask(base.getChangedMask() | incoming.getChangedMask());
-        if (incoming.hasPosition()) {
-            builder.setPosition(incoming.getPosition());
-        }
-        if (incoming.hasIsPicked()) {
-            builder.setIsPicked(incoming.getIsPicked());
-        }
-        if (incoming.hasTypeId()) {
-            builder.setTypeId(incoming.getTypeId());
-        }
-        return builder.build();
-    }
-
-    private Message.ItemState materializeItemDelta(Message.ItemStateDelta delta) {
-        if (delta == null) {
-            return null;
-        }
-        int itemId = (int) delta.getItemId();
-        Message.ItemState base = itemStateCache.get(itemId);
-        Message.ItemState.Builder builder = base != null
-                ? base.toBuilder()
-                : Message.ItemState.newBuilder().setItemId(delta.getItemId());
-        int mask = delta.getChangedMask();
-        if ((mask & ITEM_DELTA_POSITION_MASK) != 0 && delta.hasPosition()) {
-            builder.setPosition(delta.getPosition());
-        }
-        if ((mask & ITEM_DELTA_IS_PICKED_MASK) != 0 && delta.hasIsPicked()) {
-            builder.setIsPicked(delta.getIsPicked());
-        }
-        if ((mask & ITEM_DELTA_TYPE_MASK) != 0 && delta.hasTypeId()) {
-            builder.setTypeId(delta.getTypeId());
-        }
-        return builder.build();
     }
 
     /**
@@ -532,7 +526,7 @@ public class GameScreen implements Screen {
      * @param delta
      */
     private void renderItems(float delta) {
-        if (batch == null || itemViews.isEmpty()) {
+        if (itemViews.isEmpty()) {
             return;
         }
         for (ItemView view : itemViews.values()) {
@@ -543,11 +537,7 @@ public class GameScreen implements Screen {
             if (region == null) {
                 continue;
             }
-            float width = region.getRegionWidth();
-            float height = region.getRegionHeight();
-            float drawX = view.position.x - width / 2f;
-            float drawY = view.position.y - height / 2f;
-            batch.draw(region, drawX, drawY, width, height);
+            renderQueue.submitCentered(region, view.position.x, view.position.y, 1f, 0f, RenderQueue.LAYER_GROUND);
         }
     }
 
@@ -555,16 +545,16 @@ public class GameScreen implements Screen {
     濞撳憡鍨欐稉璇叉儕閻?     */
     @Override
     public void render(float delta) {
+        long frameStartNanos = System.nanoTime();
+        FrameRenderedEvent frameEvent = new FrameRenderedEvent();
+        frameEvent.begin();
+        ClientMetrics.FRAME_TIME.record((long) (delta * 1_000_000f));
         advanceLogicalClock(delta);//閺囧瓨鏌婃稉鈧稉顏喦旂€规氨娈戦弮鍫曟？鐠哄啿褰?
-        if (!reconnectHoldActive) {
-            pumpPendingNetworkInput();
-        }
 
         /*
         hasReceivedInitialState:濞撳憡鍨欓崚婵嗩潗閻樿埖鈧?        playerTextureRegion:鐟欐帟澹婄痪鍦倞
          */
         if (!hasReceivedInitialState || playerTextureRegion == null) {
-            maybeRequestInitialStateResync();
             if (reconnectHoldActive) {
                 renderReconnectOverlay();
             } else {
@@ -608,42 +598,92 @@ public class GameScreen implements Screen {
         } else {
             processInputChunk(dir, attacking, renderDelta);
         }
+        long inputDoneNanos = System.nanoTime();
 
         /*
         濞撳懎鐫嗛崝鐘垫祲閺堥缚绐￠梾?         */
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
-        clampPositionToMap(predictedPosition);
-        updatePlayerFacing(renderDelta);
-        updateDisplayPosition(renderDelta);
-        clampPositionToMap(displayPosition);
+        /*
+        閹绢厽鏂侀悳鈺侇啀缁屾椽妫介崝銊ф暰
+         */
+        playerAnimationTime += renderDelta;
+        TextureRegion currentFrame = playerIdleAnimation != null
+                ? playerIdleAnimation.getKeyFrame(playerAnimationTime, true)//瀵邦亞骞嗛幘顓熸杹
+                : playerTextureRegion;
+        if (currentFrame != null) {
+            playerTextureRegion = currentFrame;
+        }
+        updateWorldFrame(renderDelta, currentFrame);
+        long worldDoneNanos = System.nanoTime();
         camera.position.set(displayPosition.x, displayPosition.y, 0);
         camera.update();
+        reportInterestArea();
 
         /*
         瀵偓婵瑕嗛弻?         */
         batch.setProjectionMatrix(camera.combined);
         batch.begin();
         batch.draw(backgroundTexture, 0, 0, WORLD_WIDTH, WORLD_HEIGHT);
-        renderItems(renderDelta);
-        /*
-        閹绢厽鏂侀悳鈺侇啀缁屾椽妫介崝銊ф暰
-         */
-        playerAnimationTime += renderDelta;
-        TextureRegion currentFrame = playerIdleAnimation != null
-                ? playerIdleAnimation.getKeyFrame(playerAnimationTime, true)//瀵邦亞骞嗛幘顓熸杹
-                : playerTextureRegion;
-        if (currentFrame == null) {
-            batch.end();
-            return;
+        // 所有世界实体统一按深度排序后一次提交，UI 提示始终画在最上层
+        int drawCommands = renderQueue.flush(batch);
+        renderStatusToast(renderDelta);
+
+        batch.end();
+        renderUpgradeOverlay(renderDelta);
+        if (reconnectHoldActive) {
+            renderReconnectBanner();
         }
-        playerTextureRegion = currentFrame;
+        long drawDoneNanos = System.nanoTime();
+        // 本帧开始前的 postRunnable 里确认的输入，其纠偏结果已经画进这一帧
+        game.getInputLatencyTracer().onFramePresented(drawDoneNanos);
+        frameEvent.end();
+        if (frameEvent.shouldCommit()) {
+            frameEvent.deltaNanos = (long) (delta * 1_000_000_000.0);
+            frameEvent.inputNanos = inputDoneNanos - frameStartNanos;
+            frameEvent.worldNanos = worldDoneNanos - inputDoneNanos;
+            frameEvent.drawNanos = drawDoneNanos - worldDoneNanos;
+            frameEvent.drawCommands = drawCommands;
+            frameEvent.commit();
+        }
+        HitchRecorder hitchRecorder = game.getHitchRecorder();
+        if (hitchRecorder != null) {
+            HitchRecorder.FrameStats stats = hitchFrameStats;
+            stats.deltaNanos = (long) (delta * 1_000_000_000.0);
+            stats.inputNanos = inputDoneNanos - frameStartNanos;
+            stats.worldNanos = worldDoneNanos - inputDoneNanos;
+            stats.drawNanos = drawDoneNanos - worldDoneNanos;
+            stats.enemies = enemyViews.size();
+            stats.projectiles = projectileViews.size();
+            stats.items = itemViews.size();
+            stats.remotePlayers = remotePlayerServerSnapshots.size();
+            stats.drawCommands = drawCommands;
+            stats.pendingInputs = unconfirmedInputs.size();
+            hitchRecorder.commit(stats);
+        }
+    }
+
+    /**
+     * 推进一帧世界状态（位置修正、目标选择、插值、子弹模拟），并把实体绘制命令写入渲染队列。
+     * 这里不触碰任何 GL 资源，render() 与 headless 压测共用同一套逻辑
+     * @param renderDelta 平滑后的帧间隔
+     * @param currentFrame 本帧玩家动画帧，为空时跳过玩家绘制
+     */
+    private void updateWorldFrame(float renderDelta, TextureRegion currentFrame) {
+        clampPositionToMap(predictedPosition);
+        updatePlayerFacing(renderDelta);
+        updateDisplayPosition(renderDelta);
+        clampPositionToMap(displayPosition);
+
+        renderQueue.begin();
+        renderItems(renderDelta);
         /*
         娴兼壆鐣婚張宥呭閸ｃ劍妞傞梻?鐠侊紕鐣诲〒鍙夌厠瀵ゆ儼绻?
          */
         long estimatedServerTimeMs = estimateServerTimeMs();
         long renderServerTimeMs = estimatedServerTimeMs - computeRenderDelayMs();
+        recordJitterBufferFrame(renderServerTimeMs);
         updateProjectiles(renderDelta, renderServerTimeMs);
         /*
         濞撳弶鐓嬮弫灞兼眽閸滃瞼甯虹€?         */
@@ -657,13 +697,39 @@ public class GameScreen implements Screen {
         if (isSelfAlive) {
             drawCharacterFrame(currentFrame, displayPosition.x, displayPosition.y, facingRight);
         }
-        renderStatusToast(renderDelta);
+    }
 
-        batch.end();
-        renderUpgradeOverlay(renderDelta);
-        if (reconnectHoldActive) {
-            renderReconnectBanner();
+    /**
+     * 无窗口推进一帧：与 render() 走同一套输入预测和世界更新逻辑，只是不提交 GL 绘制。
+     * 供 headless 压测工具使用，调用前无需 show()，缺失的玩家贴图使用与资源加载失败时相同的占位图。
+     * 没有 show() 登记的定时任务，限速输入补发和初始状态重同步在这里按帧驱动
+     * @param delta 帧间隔（秒）
+     * @param moveDir 本帧移动方向（已归一化）
+     * @param attacking 本帧是否攻击
+     * @return 本帧写入渲染队列的绘制命令数
+     */
+    public int simulateFrame(float delta, Vector2 moveDir, boolean attacking) {
+        advanceLogicalClock(delta);
+        if (!reconnectHoldActive) {
+            pumpPendingNetworkInput();
         }
+        if (playerTextureRegion == null) {
+            playerTextureRegion = createPlayerFallbackRegion();
+        }
+        float stepDelta = getStableDelta(delta);
+        if (!hasReceivedInitialState) {
+            maybeRequestInitialStateResync();
+        } else if (reconnectHoldActive) {
+            isLocallyMoving = false;
+            resetPendingInputAccumulator();
+        } else {
+            isLocallyMoving = moveDir.len2() > 0.0001f;
+            simulateLocalStep(moveDir, stepDelta);
+            processInputChunk(moveDir, attacking, stepDelta);
+        }
+        updateWorldFrame(stepDelta, playerTextureRegion);
+        game.getInputLatencyTracer().onFramePresented(System.nanoTime());
+        return renderQueue.size();
     }
 
     /**
@@ -735,7 +801,7 @@ public class GameScreen implements Screen {
             startPendingChunk(dir, attacking, delta);//瀵偓婵鏌婇崸?
         }
         //閺€璇插毊閸滃本瀵滈柨顔藉瘮缂侇厽妞傞梻纾嬬Т鏉╁洣绗傞梽?
-            if (pendingAttack || pendingInputDuration >= MAX_COMMAND_DURATION) {
+            if (pendingAttack || pendingInputDuration >= inputRate.maxCommandSeconds()) {
             flushPendingInput();
         }
     }
@@ -750,6 +816,7 @@ public class GameScreen implements Screen {
         pendingAttack = attacking;
         pendingInputDuration = Math.max(delta, MIN_COMMAND_DURATION);
         pendingInputStartMs = logicalTimeMs;
+        pendingInputSampleNanos = System.nanoTime();
         hasPendingInputChunk = true;
     }
 
@@ -765,6 +832,7 @@ public class GameScreen implements Screen {
         PlayerInputCommand cmd = new PlayerInputCommand(inputSequence++, pendingMoveDir, pendingAttack, duration);
         unconfirmedInputs.put(cmd.seq, cmd);//鐎涙ê鍙嗛張顏嗏€樼拋銈堢翻閸忋儳娈戠紓鎾崇摠
         inputSendTimes.put(cmd.seq, logicalTimeMs);
+        game.getInputLatencyTracer().onEnqueued(cmd.seq, pendingInputSampleNanos, System.nanoTime());
         pruneUnconfirmedInputs();
         sendPlayerInputToServer(cmd);
         resetPendingInputAccumulator();
@@ -782,6 +850,8 @@ public class GameScreen implements Screen {
         );
         unconfirmedInputs.put(idleCmd.seq, idleCmd);
         inputSendTimes.put(idleCmd.seq, logicalTimeMs);
+        long now = System.nanoTime();
+        game.getInputLatencyTracer().onEnqueued(idleCmd.seq, now, now);
         pruneUnconfirmedInputs();
         sendPlayerInputToServer(idleCmd);
         idleAckSent = true;
@@ -906,11 +976,11 @@ public class GameScreen implements Screen {
      * @param renderServerTimeMs
      */
     private void renderEnemies(float delta, long renderServerTimeMs) {
-        if (batch == null || enemyViews.isEmpty()) {
+        if (enemyViews.isEmpty()) {
             return;
         }
         for (EnemyView view : enemyViews.values()) {
-            view.render(batch, delta, renderServerTimeMs);
+            view.render(renderQueue, delta, renderServerTimeMs);
         }
     }
 
@@ -966,8 +1036,8 @@ public class GameScreen implements Screen {
      * 閹靛綊鍣哄〒鍙夌厠閹舵洖鐨犻悧?     */
     private void renderProjectiles() {
         //閸撳秶鐤嗛弶鈥叉
-        if (projectileViews.isEmpty() || batch == null) {
-            logProjectileRenderState(projectileViews.isEmpty() ? "skip_empty" : "skip_batch_null");
+        if (projectileViews.isEmpty()) {
+            logProjectileRenderState("skip_empty");
             return;
         }
         //闁秴宸婚幎鏇炵殸閻?
@@ -979,14 +1049,8 @@ public class GameScreen implements Screen {
                 continue;
             }
             //閼惧嘲褰囩亸鍝勵嚟缂佹ê鍩楁担宥囩枂
-            float width = frame.getRegionWidth();
-            float height = frame.getRegionHeight();
-            float drawX = view.position.x - width / 2f;
-            float drawY = view.position.y - height / 2f;
-            float originX = width / 2f;
-            float originY = height / 2f;
-            batch.draw(frame, drawX, drawY, originX, originY, width, height,
-                    1f, 1f, view.rotationDeg);
+            renderQueue.submitCentered(frame, view.position.x, view.position.y,
+                    1f, view.rotationDeg, RenderQueue.LAYER_ACTORS);
         }
         logProjectileRenderState("render");
     }
@@ -996,7 +1060,7 @@ public class GameScreen implements Screen {
      */
     private void renderProjectileImpacts(float delta) {
         //鐎瑰鍙忓Λ鈧弻?
-        if (projectileImpacts.isEmpty() || batch == null) {
+        if (projectileImpacts.isEmpty()) {
             return;
         }
         if (projectileImpactAnimation == null) {
@@ -1014,13 +1078,8 @@ public class GameScreen implements Screen {
                 continue;
             }
             //濞撳弶鐓?
-            float width = frame.getRegionWidth();
-            float height = frame.getRegionHeight();
-            float drawX = impact.position.x - width / 2f;
-            float drawY = impact.position.y - height / 2f;
-            float originX = width / 2f;
-            float originY = height / 2f;
-            batch.draw(frame, drawX, drawY, originX, originY, width, height, 1f, 1f, 0f);
+            renderQueue.submitCentered(frame, impact.position.x, impact.position.y,
+                    1f, 0f, RenderQueue.LAYER_EFFECTS);
         }
     }
     /**
@@ -1645,7 +1704,7 @@ public class GameScreen implements Screen {
      * @param enemyId
      */
     private void removeEnemy(int enemyId) {
-        enemyViews.remove(enemyId);
+        releaseEnemyView(enemyViews.remove(enemyId));
         enemyStateCache.remove(enemyId);
         enemyLastSeen.remove(enemyId);
         if (enemyId == lockedEnemyId) {
@@ -1664,12 +1723,34 @@ public class GameScreen implements Screen {
         int enemyId = (int) enemyState.getEnemyId();
         EnemyView view = enemyViews.get(enemyId);
         if (view == null) {
-            view = new EnemyView(enemyId, WORLD_WIDTH, WORLD_HEIGHT);
+            view = enemyViewPool.pollFirst();
+            if (view != null) {
+                view.reset(enemyId);
+            } else {
+                view = new EnemyView(enemyId, WORLD_WIDTH, WORLD_HEIGHT);
+            }
             enemyViews.put(enemyId, view);
         }
         return view;
     }
 
+    /**
+     * 回收移除的敌人视图，进出视野频繁时不必反复创建
+     */
+    private void releaseEnemyView(EnemyView view) {
+        if (view != null && enemyViewPool.size() < ENEMY_VIEW_POOL_LIMIT) {
+            enemyViewPool.addFirst(view);
+        }
+    }
+
+    private void releaseAllEnemyViews() {
+        enemyViews.remove(PLACEHOLDER_ENEMY_ID);
+        for (EnemyView view : enemyViews.values()) {
+            releaseEnemyView(view);
+        }
+        enemyViews.clear();
+    }
+
     /**
      * 閸旂姾娴囬幍鈧張澶婂З閻㈡槒绁┃?     */
     private void loadEnemyAssets() {
@@ -1909,35 +1990,17 @@ public class GameScreen implements Screen {
         if (frame == null) {
             return;
         }
-        float width = frame.getRegionWidth();
-        float height = frame.getRegionHeight();
-        float drawX = centerX - width / 2f;
-        float drawY = centerY - height / 2f;
-        float originX = width / 2f;
-        float originY = height / 2f;
         float scaleX = faceRight ? 1f : -1f;
-        batch.draw(frame, drawX, drawY, originX, originY, width, height, scaleX, 1f, 0f);
+        renderQueue.submitCentered(frame, centerX, centerY, scaleX, 0f, RenderQueue.LAYER_ACTORS);
     }
 
     /**
      * 楠炲疇銆€缂冩垹绮堕幎鏍уЗ閸滃苯娆㈡潻?娴ｆ寧褰冮崐闂寸瑝鏉╁洤瀹冲鐐叉倵
      * @return
      */
-    private long computeRenderDelayMs() {
-        //鐠侊紕鐣籖TT瀵ゆ儼绻?
-        float latencyComponent = smoothedRttMs * 0.25f + 12f;
-        if (Float.isNaN(latencyComponent) || Float.isInfinite(latencyComponent)) {
-            latencyComponent = 90f;
-        }
-        latencyComponent = MathUtils.clamp(latencyComponent, 45f, 150f);
-        //閸氬本顒為幎鏍уЗ閻ㄥ嫮绱﹂崘鎻掑亶婢?
-        float jitterReserve = Math.abs(smoothedSyncIntervalMs - 33f) * 0.5f
-                + (smoothedSyncDeviationMs * 1.3f) + 18f;
-        jitterReserve = MathUtils.clamp(jitterReserve, INTERP_DELAY_MIN_MS, INTERP_DELAY_MAX_MS);
-        //绾喖鐣惧鎯扮箿
-        float target = Math.max(latencyComponent, jitterReserve);
-        target = MathUtils.clamp(target, INTERP_DELAY_MIN_MS, INTERP_DELAY_MAX_MS);
-        //楠炶櫕绮︽潻鍥у閸掓壆娲伴弽鍥р偓?
+    long computeRenderDelayMs() {
+        float target = MathUtils.clamp(jitterBuffer.targetDelayMs(), INTERP_DELAY_MIN_MS, INTERP_DELAY_MAX_MS);
+        //平滑过渡到目标值，避免渲染时间跳变
         float delta = target - renderDelayMs;
         delta = MathUtils.clamp(delta, -MAX_RENDER_DELAY_STEP_MS, MAX_RENDER_DELAY_STEP_MS);
         renderDelayMs = MathUtils.clamp(renderDelayMs + delta * RENDER_DELAY_LERP,
@@ -1945,6 +2008,20 @@ public class GameScreen implements Screen {
         return Math.round(renderDelayMs);
     }
 
+    /**
+     * 统计本帧是否欠载（渲染时间超过最新快照，只能外推）并刷新插值缓冲指标
+     */
+    private void recordJitterBufferFrame(long renderServerTimeMs) {
+        if (!hasReceivedInitialState) {
+            return;
+        }
+        if (jitterBuffer.onRenderFrame(renderServerTimeMs)) {
+            ClientMetrics.SYNC_UNDERFLOW_FRAMES.increment();
+        }
+        ClientMetrics.SYNC_JITTER_DELAY.set(jitterBuffer.targetDelayMs());
+        ClientMetrics.SYNC_UNDERFLOW_RATE.set(Math.round(jitterBuffer.underflowRate() * 1000f));
+    }
+
     /**
      * 閹舵牕濮╅弮銉ョ箶
      * @param intervalMs
@@ -2025,6 +2102,7 @@ public class GameScreen implements Screen {
      * @param arrivalMs
      */
     private void logDroppedSync(String reason, long value, long serverTimeMs, long arrivalMs) {
+        ClientMetrics.SYNC_DROPPED.increment();
         long nowMs = TimeUtils.millis();
         if ((nowMs - lastDroppedSyncLogMs) < DROPPED_SYNC_LOG_INTERVAL_MS) {
             return;
@@ -2047,13 +2125,9 @@ public class GameScreen implements Screen {
         if (lastSyncArrivalMs != 0L) {
             //瑜版挸澧犻崠鍛存？闂呮梻瀹崇粵澶夌艾閺堝秴濮熼崳銊ф畱閸欐垿鈧線顣堕悳?
             float interval = arrivalMs - lastSyncArrivalMs;
+            ClientMetrics.SYNC_INTERVAL.record((long) (interval * 1000f));
             //閹稿洦鏆熼獮铏拨楠炲啿娼庨梻鎾---娴ｅ酣鈧碍鎶ゅ▔?
             smoothedSyncIntervalMs += (interval - smoothedSyncIntervalMs) * SYNC_INTERVAL_SMOOTH_ALPHA;
-            //鐠侊紕鐣婚獮璺洪挬濠婃垶濮堥崝?
-            float deviation = Math.abs(interval - smoothedSyncIntervalMs);
-            smoothedSyncDeviationMs += (deviation - smoothedSyncDeviationMs) * SYNC_DEVIATION_SMOOTH_ALPHA;
-            //鐎瑰鍙忔径鍕倞
-            smoothedSyncDeviationMs = MathUtils.clamp(smoothedSyncDeviationMs, 0f, 220f);
             //閺冦儱绻旀径鍕倞
             logSyncIntervalSpike(interval, smoothedSyncIntervalMs);
         }
@@ -2138,21 +2212,36 @@ public class GameScreen implements Screen {
      */
     private void sendPlayerInputToServer(PlayerInputCommand cmd) {
         if (game.getPlayerId() <= 0) return;
+        enqueueInputForSend(buildInputMessage(cmd));
+    }
 
+    private Message.C2S_PlayerInput buildInputMessage(PlayerInputCommand cmd) {
         Message.Vector2 pbVec = Message.Vector2.newBuilder()
                 .setX(cmd.moveDir.x)
                 .setY(cmd.moveDir.y)
                 .build();
 
-        Message.C2S_PlayerInput inputMsg = Message.C2S_PlayerInput.newBuilder()
+        return Message.C2S_PlayerInput.newBuilder()
                 .setPlayerId(game.getPlayerId())
                 .setMoveDirection(pbVec)
                 .setIsAttacking(cmd.isAttacking)
                 .setInputSeq(cmd.seq)
                 .setDeltaMs(cmd.getDeltaMs())
                 .build();
+    }
 
-        enqueueInputForSend(inputMsg);
+    /**
+     * 按序重发全部未确认输入，绕过发送限速；服务器按 input_seq 丢弃已处理过的部分
+     */
+    private void resendUnconfirmedInputs() {
+        if (game.getPlayerId() <= 0 || unconfirmedInputs.isEmpty()) {
+            return;
+        }
+        for (PlayerInputCommand cmd : unconfirmedInputs.values()) {
+            game.trySendPlayerInput(buildInputMessage(cmd));
+        }
+        lastInputSendMs = TimeUtils.millis();
+        pendingRateLimitedInput = null;
     }
 
     /**
@@ -2161,8 +2250,10 @@ public class GameScreen implements Screen {
      */
     private void enqueueInputForSend(Message.C2S_PlayerInput inputMsg) {
         long now = TimeUtils.millis();
-        if ((now - lastInputSendMs) < MIN_INPUT_SEND_INTERVAL_MS) {
+        long waitMs = inputRate.sendIntervalMs() - (now - lastInputSendMs);
+        if (waitMs > 0L) {
             pendingRateLimitedInput = inputMsg;
+            scheduleInputFlush(waitMs);
             return;
         }
         sendInputImmediately(inputMsg, now);
@@ -2176,6 +2267,7 @@ public class GameScreen implements Screen {
             pendingRateLimitedInput = null;
         } else {
             pendingRateLimitedInput = msg;
+            scheduleInputFlush(inputRate.sendIntervalMs());
         }
     }
 
@@ -2186,11 +2278,49 @@ public class GameScreen implements Screen {
             return;
         }
         long now = TimeUtils.millis();
-        if ((now - lastInputSendMs) >= MIN_INPUT_SEND_INTERVAL_MS) {
+        long waitMs = inputRate.sendIntervalMs() - (now - lastInputSendMs);
+        if (waitMs <= 0L) {
             sendInputImmediately(pendingRateLimitedInput, now);
+        } else {
+            scheduleInputFlush(waitMs);
         }
     }
 
+    /**
+     * 在限速间隔到期时于渲染线程补发被压住的输入；已有待执行的补发时不重复登记
+     */
+    private void scheduleInputFlush(long delayMs) {
+        if (inputFlushTask != null) {
+            return;
+        }
+        inputFlushTask = game.getScheduler().schedule("input-flush", ClientScheduler.RENDER_THREAD, () -> {
+            inputFlushTask = null;
+            if (!reconnectHoldActive) {
+                pumpPendingNetworkInput();
+            }
+        }, delayMs);
+    }
+
+    private void startScheduledTasks() {
+        stopScheduledTasks();
+        ClientScheduler scheduler = game.getScheduler();
+        latencyProbeTask = scheduler.scheduleAtFixedRate("latency-probe", ClientScheduler.INLINE,
+                game::sendLatencyProbe, 0L, LATENCY_PROBE_INTERVAL_MS);
+        initialStateTask = scheduler.scheduleAtFixedRate("initial-state-resync", ClientScheduler.RENDER_THREAD,
+                this::maybeRequestInitialStateResync, 0L, INITIAL_STATE_POLL_INTERVAL_MS);
+    }
+
+    private void stopScheduledTasks() {
+        for (ClientScheduler.Task task : new ClientScheduler.Task[]{latencyProbeTask, initialStateTask, inputFlushTask}) {
+            if (task != null) {
+                task.cancel();
+            }
+        }
+        latencyProbeTask = null;
+        initialStateTask = null;
+        inputFlushTask = null;
+    }
+
     /**
      * 鐎广垺鍩涚粩顖氼槱閻炲棙婀囬崝鈥虫珤閸忋劑鍣哄〒鍛婂灆閸氬本顒為崠?     * @param sync
      */
@@ -2201,19 +2331,171 @@ public class GameScreen implements Screen {
         Message.Timestamp syncTime = sync.hasSyncTime() ? sync.getSyncTime() : null;
         long incomingTick = extractSyncTick(syncTime);
         long serverTimeMs = resolveServerTime(syncTime, arrivalMs);
+        if (sync.getCatchUp()) {
+            onBaselineCatchUp(sync, incomingTick, serverTimeMs, arrivalMs);
+            return;
+        }
+        // part_count 为 0 或 1 表示未拆分
+        int partCount = Math.max(1, sync.getPartCount());
+        if (partCount > 1 && incomingTick >= 0L) {
+            onGameStateSyncPart(sync, incomingTick, serverTimeMs, arrivalMs, partCount);
+            return;
+        }
         if (!shouldAcceptStatePacket(incomingTick, serverTimeMs, arrivalMs)) {
             return;
         }
+        boolean fullSnapshot = shouldTreatSyncAsFullSnapshot(sync.getIsFullSnapshot());
+        applyGameStateSync(sync, incomingTick, serverTimeMs, arrivalMs, fullSnapshot);
+        trackSyncBaseline(incomingTick, fullSnapshot, SyncBaseline.baselineTick(sync));
+    }
+
+    /**
+     * 追帧同步：服务器按本地确认的基线单独构造的变化集合（基线失效时为全量快照）。
+     * 走可靠有序通道，tick 可以与刚应用的增量相同，但不能更旧；先移除基线之后消失的实体，再按变化集合应用
+     */
+    private void onBaselineCatchUp(Message.S2C_GameStateSync catchUp, long tick, long serverTimeMs,
+                                   long arrivalMs) {
+        if (tick >= 0L && lastAppliedSyncTick >= 0L && Long.compareUnsigned(tick, lastAppliedSyncTick) < 0) {
+            logDroppedSync("catchUp", tick, serverTimeMs, arrivalMs);
+            return;
+        }
+        if (tick >= 0L) {
+            lastAppliedSyncTick = tick;
+        }
+        if (serverTimeMs > lastAppliedServerTimeMs) {
+            lastAppliedServerTimeMs = serverTimeMs;
+        }
+        ClientMetrics.SYNC_CATCH_UP_APPLIED.increment();
+        if (catchUp.getIsFullSnapshot()) {
+            applyGameStateSync(catchUp, tick, serverTimeMs, arrivalMs, shouldTreatSyncAsFullSnapshot(true));
+            trackSyncBaseline(tick, true, -1L);
+            return;
+        }
+        for (int enemyId : catchUp.getRemovedEnemyIdsList()) {
+            removeEnemy(enemyId);
+        }
+        for (int itemId : catchUp.getRemovedItemIdsList()) {
+            itemViews.remove(itemId);
+            itemStateCache.remove(itemId);
+        }
+        applyGameStateSync(catchUp, tick, serverTimeMs, arrivalMs, false);
+        for (Message.ItemState item : catchUp.getItemsList()) {
+            applyItemState(item);
+        }
+        if (!syncBaselines.onCatchUp(tick, SyncBaseline.baselineTick(catchUp))) {
+            // 基线是重置之前确认的，接不上；此时确认值已归零，再请求一次服务器会补发全量
+            requestBaselineCatchUp("stale_baseline");
+        }
+        game.acknowledgeAppliedTick(syncBaselines.acknowledgedTick());
+    }
+
+    /**
+     * 推进已连续应用的基线并确认给服务器；房间同步的基线不在已确认区间内说明漏收了中间的同步，请求追帧
+     */
+    private void trackSyncBaseline(long tick, boolean fullSnapshot, long baselineTick) {
+        boolean gap = false;
+        if (fullSnapshot) {
+            syncBaselines.onFullSnapshot(tick);
+        } else if (!syncBaselines.onIncremental(tick, baselineTick)) {
+            gap = true;
+            requestBaselineCatchUp("gap@" + tick);
+        }
+        game.acknowledgeAppliedTick(syncBaselines.acknowledgedTick());
+        updateInputRate(gap);
+    }
+
+    /**
+     * 用这份同步的断档情况和当前 RTT 更新输入发送节奏并刷新指标，档位变化时记日志
+     */
+    private void updateInputRate(boolean gap) {
+        inputRate.setServerTickRate(game.getServerTickRate());
+        boolean changed = inputRate.onSyncApplied(gap, smoothedRttMs, TimeUtils.millis());
+        ClientMetrics.INPUT_SEND_RATE.set(inputRate.sendRateHz());
+        ClientMetrics.INPUT_BATCH_MS.set(Math.round(inputRate.maxCommandSeconds() * 1000f));
+        if (!changed) {
+            return;
+        }
+        Gdx.app.log(TAG, "Input rate -> " + inputRate.tier()
+                + " interval=" + inputRate.sendIntervalMs() + "ms"
+                + " batch=" + Math.round(inputRate.maxCommandSeconds() * 1000f) + "ms"
+                + " rtt=" + Math.round(smoothedRttMs)
+                + " loss=" + Math.round(inputRate.lossRate() * 100f) + "%");
+    }
+
+    /**
+     * 请求按已确认基线追帧（限频）
+     * @return 追帧可用（已请求或仍在冷却中）时为 true；false 时调用方应改走全量同步
+     */
+    private boolean requestBaselineCatchUp(String reason) {
+        if (game == null) {
+            return false;
+        }
+        long now = TimeUtils.millis();
+        long cooldownMs = Math.max(BASELINE_CATCH_UP_COOLDOWN_MS, Math.round(smoothedRttMs * 2f));
+        if ((now - lastCatchUpRequestMs) < cooldownMs) {
+            return true;
+        }
+        if (!game.requestBaselineCatchUp(reason)) {
+            return false;
+        }
+        lastCatchUpRequestMs = now;
+        return true;
+    }
+
+    /**
+     * 拆分快照的一部分：首个到达的部分开启该 tick 的收集，其余部分同 tick 放行（按部分号去重）。
+     * 未收齐前每部分按变化集合立即应用，自己和附近实体在最前面的部分里，丢片时其余实体照常更新；
+     * 收齐后把累积的敌人 / 道具按全量应用（清理快照里已不存在的实体），玩家只取最后这一部分，之前的已应用过
+     */
+    private void onGameStateSyncPart(Message.S2C_GameStateSync part, long tick, long serverTimeMs,
+                                     long arrivalMs, int partCount) {
+        int partIndex = part.getPartIndex();
+        if (partIndex < 0 || partIndex >= partCount) {
+            return;
+        }
+        if (partialSnapshot == null || partialSnapshotTick != tick) {
+            if (!shouldAcceptStatePacket(tick, serverTimeMs, arrivalMs)) {
+                return;
+            }
+            partialSnapshotTick = tick;
+            partialSnapshotParts = new BitSet(partCount);
+            partialSnapshot = part.toBuilder().clearPlayers().clearEnemies().clearItems();
+        } else if (partialSnapshotParts.get(partIndex)) {
+            return;
+        } else if (lastAppliedSyncTick != tick) {
+            // 其余部分到达前已应用了更新的同步，这份快照作废
+            partialSnapshot = null;
+            partialSnapshotParts = null;
+            return;
+        }
+        partialSnapshotParts.set(partIndex);
+        partialSnapshot.addAllEnemies(part.getEnemiesList()).addAllItems(part.getItemsList());
+        if (partialSnapshotParts.cardinality() < partCount) {
+            applyGameStateSync(part, tick, serverTimeMs, arrivalMs, false);
+            return;
+        }
+        Message.S2C_GameStateSync merged = partialSnapshot.addAllPlayers(part.getPlayersList()).build();
+        partialSnapshot = null;
+        partialSnapshotParts = null;
+        boolean fullSnapshot = shouldTreatSyncAsFullSnapshot(merged.getIsFullSnapshot());
+        applyGameStateSync(merged, tick, serverTimeMs, arrivalMs, fullSnapshot);
+        trackSyncBaseline(tick, fullSnapshot, -1L);
+    }
+
+    private void applyGameStateSync(Message.S2C_GameStateSync sync, long incomingTick, long serverTimeMs,
+                                    long arrivalMs, boolean isFullSnapshot) {
+        StateSyncAppliedEvent syncEvent = new StateSyncAppliedEvent();
+        syncEvent.begin();
         if (incomingTick >= 0L) {
             game.updateServerTick(incomingTick);
         }
-        boolean isFullSnapshot = shouldTreatSyncAsFullSnapshot(sync.getIsFullSnapshot());
         if (isFullSnapshot && Gdx.app != null) {
             String snapshotReason = sync.getIsFullSnapshot() ? "server_full" : awaitingFullStateReason;
             Gdx.app.log(TAG, "Applying full GameStateSync (" + snapshotReason + ")");
         }
         updateSyncArrivalStats(arrivalMs);
         if (serverTimeMs > 0L) {
+            jitterBuffer.onSnapshot(serverTimeMs, estimateServerTimeMs());
             sampleClockOffset(serverTimeMs);
         }
         List<Message.EnemyState> enemies = sync.getEnemiesList();
@@ -2238,6 +2520,15 @@ public class GameScreen implements Screen {
         if (game.isAwaitingReconnectSnapshot()) {
             game.onReconnectSnapshotApplied();
         }
+        syncEvent.end();
+        if (syncEvent.shouldCommit()) {
+            syncEvent.tick = incomingTick;
+            syncEvent.fullSnapshot = isFullSnapshot;
+            syncEvent.players = sync.getPlayersCount();
+            syncEvent.enemies = enemies.size();
+            syncEvent.items = sync.getItemsCount();
+            syncEvent.commit();
+        }
     }
 
     /**
@@ -2245,28 +2536,50 @@ public class GameScreen implements Screen {
      * @param delta
      */
     public void onGameStateDeltaReceived(Message.S2C_GameStateDeltaSync delta) {
+        onGameStateDeltaReceived(delta, null);
+    }
+
+    /**
+     * @param prepared 网络线程上的预合并结果，可为 null（全部就地合并）
+     */
+    public void onGameStateDeltaReceived(Message.S2C_GameStateDeltaSync delta,
+                                         WorldStateModel.PreparedDelta prepared) {
         //
         long arrivalMs = TimeUtils.millis();
         setCurrentRoomId((int) delta.getRoomId());
         Message.Timestamp syncTime = delta.hasSyncTime() ? delta.getSyncTime() : null;
         long deltaTick = extractSyncTick(syncTime);
         long serverTimeMs = resolveServerTime(syncTime, arrivalMs);
+        if (prepared != null && !prepared.matches(worldModel, delta, game.getPositionScale())) {
+            // 换局或坐标精度变了，预合并结果不可用
+            worldModel.clearAhead();
+            prepared = null;
+        }
         //
         if (!shouldAcceptStatePacket(deltaTick, serverTimeMs, arrivalMs)) {
+            worldModel.discard(prepared);
             return;
         }
+        StateSyncAppliedEvent syncEvent = new StateSyncAppliedEvent();
+        syncEvent.begin();
+        if (delta.getLeftEnemyIdsCount() > 0 || delta.getLeftItemIdsCount() > 0
+                || delta.getEnteredEnemiesCount() > 0 || delta.getEnteredItemsCount() > 0) {
+            applyInterestChanges(delta, serverTimeMs);
+        }
         //
-        List<Message.PlayerState> mergedPlayers = new ArrayList<>(delta.getPlayersCount());
-        for (Message.PlayerStateDelta playerDelta : delta.getPlayersList()) {
-            Message.PlayerState merged = mergePlayerDelta(playerDelta);
+        int playerCount = delta.getPlayersCount();
+        List<Message.PlayerState> mergedPlayers = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            Message.PlayerState merged = mergePlayerDelta(delta.getPlayers(i), prepared, i);
             if (merged != null) {
                 mergedPlayers.add(merged);
             }
         }
         //
-        List<Message.EnemyState> updatedEnemies = new ArrayList<>(delta.getEnemiesCount());
-        for (Message.EnemyStateDelta enemyDelta : delta.getEnemiesList()) {
-            Message.EnemyState mergedEnemy = mergeEnemyDelta(enemyDelta);
+        int enemyCount = delta.getEnemiesCount();
+        List<Message.EnemyState> updatedEnemies = new ArrayList<>(enemyCount);
+        for (int i = 0; i < enemyCount; i++) {
+            Message.EnemyState mergedEnemy = mergeEnemyDelta(delta.getEnemies(i), prepared, i);
             if (mergedEnemy != null) {
                 updatedEnemies.add(mergedEnemy);
             }
@@ -2274,6 +2587,7 @@ public class GameScreen implements Screen {
         //
         updateSyncArrivalStats(arrivalMs);//
         if (serverTimeMs > 0L) {
+            jitterBuffer.onSnapshot(serverTimeMs, estimateServerTimeMs());
             sampleClockOffset(serverTimeMs);//
         }
         //
@@ -2282,11 +2596,67 @@ public class GameScreen implements Screen {
             syncEnemyViews(updatedEnemies, serverTimeMs, false);
         }
         if (!delta.getItemsList().isEmpty()) {
-            applyItemDeltaStates(delta.getItemsList(), deltaTick, serverTimeMs);
+            applyItemDeltaStates(delta.getItemsList(), deltaTick, serverTimeMs, prepared);
         }
         if (deltaTick >= 0L) {
             game.updateServerTick(deltaTick);
         }
+        trackSyncBaseline(deltaTick, false, SyncBaseline.baselineTick(delta));
+        syncEvent.end();
+        if (syncEvent.shouldCommit()) {
+            syncEvent.tick = deltaTick;
+            syncEvent.fullSnapshot = false;
+            syncEvent.players = mergedPlayers.size();
+            syncEvent.enemies = updatedEnemies.size();
+            syncEvent.items = delta.getItemsCount();
+            syncEvent.commit();
+        }
+    }
+
+    /**
+     * 区域订阅的进出：先移除离开关注区域（或已被移除）的实体，再按完整状态加入进入区域的实体，
+     * 之后同一份增量里的字段增量才能在缓存里找到基准
+     */
+    private void applyInterestChanges(Message.S2C_GameStateDeltaSync delta, long serverTimeMs) {
+        for (int i = 0, n = delta.getLeftEnemyIdsCount(); i < n; i++) {
+            removeEnemy(delta.getLeftEnemyIds(i));
+        }
+        for (int i = 0, n = delta.getLeftItemIdsCount(); i < n; i++) {
+            int itemId = delta.getLeftItemIds(i);
+            itemViews.remove(itemId);
+            itemStateCache.remove(itemId);
+        }
+        List<Message.EnemyState> enteredEnemies = delta.getEnteredEnemiesList();
+        if (!enteredEnemies.isEmpty()) {
+            for (Message.EnemyState enemy : enteredEnemies) {
+                enemyStateCache.put((int) enemy.getEnemyId(), enemy);
+            }
+            syncEnemyViews(enteredEnemies, serverTimeMs, false);
+        }
+        for (Message.ItemState item : delta.getEnteredItemsList()) {
+            applyItemState(item);
+        }
+    }
+
+    /**
+     * 相机视野离上次上报的关注区域边界不足半个边距、或视野尺寸变了时重报；发送失败下一帧再试
+     */
+    private void reportInterestArea() {
+        if (game == null || !hasReceivedInitialState) {
+            return;
+        }
+        float halfWidth = camera.viewportWidth * camera.zoom * 0.5f;
+        float halfHeight = camera.viewportHeight * camera.zoom * 0.5f;
+        float centerX = camera.position.x;
+        float centerY = camera.position.y;
+        if (reportedInterestArea != null
+                && reportedInterestArea.covers(centerX, centerY, halfWidth, halfHeight, INTEREST_MARGIN)) {
+            return;
+        }
+        InterestArea area = InterestArea.around(centerX, centerY, halfWidth, halfHeight, INTEREST_MARGIN);
+        if (game.sendInterestArea(area)) {
+            reportedInterestArea = area;
+        }
     }
 
     public void enterReconnectHold() {
@@ -2297,6 +2667,7 @@ public class GameScreen implements Screen {
         reconnectHoldStartMs = TimeUtils.millis();
         pendingRateLimitedInput = null;
         resetPendingInputAccumulator();
+        jitterBuffer.restart();
     }
 
     public void exitReconnectHold() {
@@ -2304,11 +2675,49 @@ public class GameScreen implements Screen {
         reconnectHoldStartMs = 0L;
     }
 
+    /**
+     * @return 本地世界是否完整可用（已收到过初始状态且没有在等全量快照），可作为重连增量续传的基线
+     */
+    public boolean hasWorldState() {
+        return hasReceivedInitialState && !awaitingFullWorldState;
+    }
+
+    /**
+     * 重连增量续传：保留实体视图与插值历史，先移除断线期间消失的实体，再把服务器的变化集合
+     * 当作普通增量同步应用（自身玩家据 last_processed_input_seq 完成和解与本地重放），
+     * 最后重发仍未确认的输入并结束重连遮罩。
+     */
+    public void applyReconnectCatchUp(Message.S2C_GameStateSync catchUp,
+                                      List<Integer> removedEnemyIds,
+                                      List<Integer> removedItemIds) {
+        for (int enemyId : removedEnemyIds) {
+            removeEnemy(enemyId);
+        }
+        for (int itemId : removedItemIds) {
+            itemViews.remove(itemId);
+            itemStateCache.remove(itemId);
+        }
+        onGameStateReceived(catchUp);
+        for (Message.ItemState item : catchUp.getItemsList()) {
+            applyItemState(item);
+        }
+        reportedInterestArea = null;
+        resendUnconfirmedInputs();
+        game.onReconnectSnapshotApplied();
+        Gdx.app.log(TAG, "Resumed after reconnect: players=" + catchUp.getPlayersCount()
+                + " enemies=" + catchUp.getEnemiesCount()
+                + " items=" + catchUp.getItemsCount()
+                + " removedEnemies=" + removedEnemyIds.size()
+                + " removedItems=" + removedItemIds.size()
+                + " resentInputs=" + unconfirmedInputs.size());
+    }
+
     public void resetWorldStateForFullSync(String reason) {
         String tag = (reason == null || reason.isBlank()) ? "world_reset" : reason;
         serverPlayerStates.clear();
-        enemyViews.clear();
+        releaseAllEnemyViews();
         enemyStateCache.clear();
+        worldModel.clearAhead();
         enemyLastSeen.clear();
         projectileViews.clear();
         projectileImpacts.clear();
@@ -2465,7 +2874,7 @@ public class GameScreen implements Screen {
      */
     private void syncEnemyViews(Collection<Message.EnemyState> enemies, long serverTimeMs, boolean replaceAll) {
         if (replaceAll) {
-            enemyViews.clear();
+            releaseAllEnemyViews();
             enemyLastSeen.clear();
             removePlaceholderEnemy();
         }
@@ -2624,7 +3033,10 @@ public class GameScreen implements Screen {
      * 閺堝秴濮熼崳銊ょ閼峰瓨鈧呮畱閹垮秳缍?閸栧懏瀚弽鈩冾劀,楠炶櫕绮?闁插秵鏂?
      * @param serverSnapshot
      */
-    private void reconcileWithServer(PlayerStateSnapshot serverSnapshot) {
+    void reconcileWithServer(PlayerStateSnapshot serverSnapshot) {
+        ReconciliationEvent reconcileEvent = new ReconciliationEvent();
+        reconcileEvent.begin();
+        game.getInputLatencyTracer().onAcked(serverSnapshot.lastProcessedInputSeq, System.nanoTime());
         //RTT閸嬪繒些闁插繒娈戞导鎵暬
         PlayerInputCommand acknowledged = unconfirmedInputs.get(serverSnapshot.lastProcessedInputSeq);
         if (acknowledged != null) {
@@ -2637,6 +3049,7 @@ public class GameScreen implements Screen {
                 }
             if (sample > 0f) {
                 smoothedRttMs = MathUtils.lerp(smoothedRttMs, sample, 0.2f);
+                ClientMetrics.RTT.record((long) (sample * 1000f));
             }
         }
         //鎼存梻鏁ら張宥呭閸ｃ劎濮搁幀浣告嫲閸掓繂顫愰崠鏍ь槱閻?
@@ -2647,14 +3060,19 @@ public class GameScreen implements Screen {
         facingRight = inferFacingFromRotation(predictedRotation);
         clampPositionToMap(predictedPosition);
         logServerCorrection(correctionDist, serverSnapshot.lastProcessedInputSeq);
+        if (wasInitialized) {
+            ClientMetrics.CORRECTION_DISTANCE.record(Math.round(correctionDist));
+        }
         if (!wasInitialized) {
             clearInitialStateWait();
             displayPosition.set(predictedPosition);//妫ｆ牗顐奸崥灞绢劄閻╁瓨甯寸捄瀹犳祮
         }
         //闁插秵鏂侀張顏嗏€樼拋銈堢翻閸?
+        int replayed = 0;
             for (PlayerInputCommand input : unconfirmedInputs.values()) {
             if (input.seq > serverSnapshot.lastProcessedInputSeq) {
                 applyInputLocally(predictedPosition, predictedRotation, input, input.deltaSeconds);
+                replayed++;
             }
         }
         //濞撳懐鎮婂鑼€樼拋銈堢翻閸?
@@ -2678,6 +3096,14 @@ public class GameScreen implements Screen {
         } else {
             displayPosition.lerp(predictedPosition, 0.35f);
         }
+        reconcileEvent.end();
+        if (reconcileEvent.shouldCommit()) {
+            reconcileEvent.inputSeq = serverSnapshot.lastProcessedInputSeq;
+            reconcileEvent.correctionDistance = correctionDist;
+            reconcileEvent.replayCount = replayed;
+            reconcileEvent.pendingInputs = unconfirmedInputs.size();
+            reconcileEvent.commit();
+        }
     }
 
     /**
@@ -2685,41 +3111,33 @@ public class GameScreen implements Screen {
      * @param delta
      * @return
      */
-    private Message.PlayerState mergePlayerDelta(Message.PlayerStateDelta delta) {
-        //缁屽搫鈧吋顥呴弻?
+    Message.PlayerState mergePlayerDelta(Message.PlayerStateDelta delta) {
+        return mergePlayerDelta(delta, null, -1);
+    }
+
+    /**
+     * 优先提交网络线程的预合并结果，基准已变时就地合并
+     */
+    private Message.PlayerState mergePlayerDelta(Message.PlayerStateDelta delta,
+                                                 WorldStateModel.PreparedDelta prepared, int index) {
         if (delta == null) {
             return null;
         }
         int playerId = (int) delta.getPlayerId();
-        Message.PlayerState base = serverPlayerStates.get(playerId);
-        //閻溾晛顔嶆＃鏍偧閸戣櫣骞囬幋鏍偓鍛嚒鏉╁洦婀?
-        if (base == null) {
-            requestDeltaResync("player_" + playerId);
-            return null;
-        }
-        //閺囧瓨鏌?
-        Message.PlayerState.Builder builder = base.toBuilder();
-        //娴ｅ秵甯洪惍渚€鈹嶉崝銊︽纯閺?
-        int mask = delta.getChangedMask();
-        if ((mask & PLAYER_DELTA_POSITION_MASK) != 0 && delta.hasPosition()) {
-            builder.setPosition(delta.getPosition());
-        }
-        if ((mask & PLAYER_DELTA_ROTATION_MASK) != 0 && delta.hasRotation()) {
-            builder.setRotation(delta.getRotation());
-        }
-        if ((mask & PLAYER_DELTA_IS_ALIVE_MASK) != 0 && delta.hasIsAlive()) {
-            builder.setIsAlive(delta.getIsAlive());
-        }
-        if ((mask & PLAYER_DELTA_LAST_INPUT_MASK) != 0 && delta.hasLastProcessedInputSeq()) {
-            int confirmedSeq = delta.getLastProcessedInputSeq();
-            builder.setLastProcessedInputSeq(confirmedSeq);
-            if (playerId == game.getPlayerId()) {
-                game.updateConfirmedInputSeq(confirmedSeq);
+        Message.PlayerState updated = prepared != null ? worldModel.commitPlayer(prepared, index) : null;
+        if (updated == null) {
+            Message.PlayerState base = serverPlayerStates.get(playerId);
+            if (base == null) {
+                requestDeltaResync("player_" + playerId);
+                return null;
             }
+            updated = WorldStateModel.mergePlayer(base, delta, game.getPositionScale());
+            serverPlayerStates.put(playerId, updated);
+        }
+        if ((delta.getChangedMask() & PLAYER_DELTA_LAST_INPUT_MASK) != 0 && delta.hasLastProcessedInputSeq()
+                && playerId == game.getPlayerId()) {
+            game.updateConfirmedInputSeq(delta.getLastProcessedInputSeq());
         }
-        //閺囧瓨鏌婄紓鎾崇摠,鏉╂柨娲?
-        Message.PlayerState updated = builder.build();
-        serverPlayerStates.put(playerId, updated);
         return updated;
     }
 
@@ -2728,33 +3146,26 @@ public class GameScreen implements Screen {
      * @param delta
      * @return
      */
-    private Message.EnemyState mergeEnemyDelta(Message.EnemyStateDelta delta) {
-        //缁屽搫鈧吋顥呴弻?
+    Message.EnemyState mergeEnemyDelta(Message.EnemyStateDelta delta) {
+        return mergeEnemyDelta(delta, null, -1);
+    }
+
+    private Message.EnemyState mergeEnemyDelta(Message.EnemyStateDelta delta,
+                                               WorldStateModel.PreparedDelta prepared, int index) {
         if (delta == null) {
             return null;
         }
+        Message.EnemyState updated = prepared != null ? worldModel.commitEnemy(prepared, index) : null;
+        if (updated != null) {
+            return updated;
+        }
         int enemyId = (int) delta.getEnemyId();
         Message.EnemyState base = enemyStateCache.get(enemyId);
-        //閺佸奔姹夋＃鏍偧閸戣櫣骞囬幋鏍偓鍛Ц閹椒娑径?
         if (base == null) {
             requestDeltaResync("enemy_" + enemyId);
             return null;
         }
-        //閺囧瓨鏌?
-        Message.EnemyState.Builder builder = base.toBuilder();
-        //娴ｅ秵甯洪惍渚€鈹嶉崝銊уЦ閹焦娲块弬?
-        int mask = delta.getChangedMask();
-        if ((mask & ENEMY_DELTA_POSITION_MASK) != 0 && delta.hasPosition()) {
-            builder.setPosition(delta.getPosition());
-        }
-        if ((mask & ENEMY_DELTA_HEALTH_MASK) != 0 && delta.hasHealth()) {
-            builder.setHealth(delta.getHealth());
-        }
-        if ((mask & ENEMY_DELTA_IS_ALIVE_MASK) != 0 && delta.hasIsAlive()) {
-            builder.setIsAlive(delta.getIsAlive());
-        }
-        //閺囧瓨鏌婄紓鎾崇摠,鏉╂柨娲?
-        Message.EnemyState updated = builder.build();
+        updated = WorldStateModel.mergeEnemy(base, delta, game.getPositionScale());
         enemyStateCache.put(enemyId, updated);
         return updated;
     }
@@ -2768,6 +3179,12 @@ public class GameScreen implements Screen {
         if (game == null) {
             return;
         }
+        // 引用了本地不存在的实体：基线不再连续，优先按已确认的基线追帧，不必等整份全量快照
+        syncBaselines.markGap();
+        String catchUpTag = "delta:" + ((reason == null || reason.isBlank()) ? "unknown" : reason);
+        if (requestBaselineCatchUp(catchUpTag)) {
+            return;
+        }
         long now = TimeUtils.millis();
         if ((now - lastDeltaResyncRequestMs) < DELTA_RESYNC_COOLDOWN_MS) {
             return;
@@ -3002,7 +3419,7 @@ public class GameScreen implements Screen {
         }
         int enemyId = (int) died.getEnemyId();
         enemyStateCache.remove(enemyId);
-        enemyViews.remove(enemyId);
+        releaseEnemyView(enemyViews.remove(enemyId));
         if (died.hasPosition()) {
             projectileTempVector.set(died.getPosition().getX(), died.getPosition().getY());
             spawnImpactEffect(projectileTempVector);
@@ -3127,6 +3544,34 @@ public class GameScreen implements Screen {
         }
     }
 
+    /**
+     * 应用一个 tick 的打包事件，顺序与服务器逐条发送时一致：射弹发射、射弹消失、掉落、敌人攻击状态、
+     * 玩家受伤、敌人死亡、升级
+     */
+    public void onTickEventBundle(Message.S2C_TickEventBundle bundle) {
+        if (bundle.hasProjectileSpawn()) {
+            handleProjectileSpawnEvent(bundle.getProjectileSpawn());
+        }
+        if (bundle.hasProjectileDespawn()) {
+            handleProjectileDespawnEvent(bundle.getProjectileDespawn());
+        }
+        if (bundle.hasDroppedItem()) {
+            handleDroppedItem(bundle.getDroppedItem());
+        }
+        if (bundle.hasEnemyAttackState()) {
+            handleEnemyAttackStateSync(bundle.getEnemyAttackState());
+        }
+        for (Message.S2C_PlayerHurt hurt : bundle.getPlayerHurtsList()) {
+            handlePlayerHurt(hurt);
+        }
+        for (Message.S2C_EnemyDied died : bundle.getEnemyDiedsList()) {
+            handleEnemyDied(died);
+        }
+        for (Message.S2C_PlayerLevelUp levelUp : bundle.getLevelUpsList()) {
+            handlePlayerLevelUp(levelUp);
+        }
+    }
+
     @Override
     public void resize(int width, int height) {
         viewport.update(width, height, true);
@@ -3143,12 +3588,18 @@ public class GameScreen implements Screen {
 
     @Override
     public void hide() {
+        stopScheduledTasks();
         disableUpgradeInput();
     }
 
     @Override
     public void dispose() {
+        stopScheduledTasks();
+        game.detachWorldStateModel(worldModel);
         disableUpgradeInput();
+        if (Gdx.app != null) {
+            Gdx.app.log(TAG, "Input latency breakdown: " + InputLatencyTracer.summary());
+        }
         if (batch != null) batch.dispose();
         if (playerTexture != null) playerTexture.dispose();
         if (playerAtlas != null) playerAtlas.dispose();
@@ -3162,9 +3613,11 @@ public class GameScreen implements Screen {
             enemyFallbackRegion = null;
         }
         enemyViews.clear();
+        enemyViewPool.clear();
         projectileViews.clear();
         projectileImpacts.clear();
         clearItemState();
+        renderQueue.reset();
         if (backgroundTexture != null) backgroundTexture.dispose();
         if (loadingFont != null) {
             loadingFont.dispose();
@@ -3369,7 +3822,7 @@ public class GameScreen implements Screen {
         facingRight = dx >= 0f;
     }
 
-    private int findNearestEnemyId() {
+    int findNearestEnemyId() {
         float bestDistSq = Float.MAX_VALUE;
         int bestId = 0;
         for (Map.Entry<Integer, EnemyView> entry : enemyViews.entrySet()) {
@@ -3417,6 +3870,13 @@ public class GameScreen implements Screen {
         initialStateFailureLogged = false;
         initialStateRequestCount = 0;
         lastDeltaResyncRequestMs = 0L;
+        lastCatchUpRequestMs = 0L;
+        // 新的一局 / 重连后服务器不保留区域订阅，重新上报
+        reportedInterestArea = null;
+        syncBaselines.reset();
+        if (game != null) {
+            game.acknowledgeAppliedTick(0L);
+        }
         resetTargetingState();
         clearItemState();
         maybeSendInitialStateRequest(initialStateStartMs, "initial_enter");
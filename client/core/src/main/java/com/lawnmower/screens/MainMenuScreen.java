@@ -84,9 +84,7 @@ public class MainMenuScreen implements Screen {
 
                 // 发送登录请求
                 try {
-                    lawnmower.Message.C2S_Login loginReq = lawnmower.Message.C2S_Login.newBuilder()
-                            .setPlayerName(name)
-                            .build();
+                    lawnmower.Message.C2S_Login loginReq = Main.buildLoginRequest(name);
                     game.getTcpClient().sendPacket(lawnmower.Message.MessageType.MSG_C2S_LOGIN, loginReq);
                 } catch (Exception e) {
                     showError("无法连接服务器");
@@ -0,0 +1,247 @@
+package com.lawnmower.utils;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.lawnmower.metrics.Counter;
+import com.lawnmower.metrics.Gauge;
+import com.lawnmower.metrics.Histogram;
+import com.lawnmower.metrics.MetricsRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 客户端统一定时器：一个按到期时间排序的优先队列加一条守护线程，由 {@link com.lawnmower.Main} 持有，
+ * 重连、UDP 握手重试、初始状态重同步、限速输入补发、延迟探测、连接存活检查等周期性工作都在这里登记。
+ * <p>
+ * 每个任务指定在哪执行：{@link #INLINE} 直接在调度线程上跑，只能做不阻塞的短操作；
+ * {@link #RENDER_THREAD} 投递到 libGDX 渲染线程，可以安全访问 Screen 状态。
+ * 周期任务上一次投递尚未执行完时跳过本次，渲染线程卡顿时不会堆积。
+ * <p>
+ * 指标：sched.wakeups（调度线程唤醒次数）、sched.tasks.run / sched.tasks.skipped、
+ * sched.lateness（实际派发时刻晚于到期时刻的微秒数）、sched.task.time（任务执行耗时）、sched.queue.depth。
+ */
+public final class ClientScheduler implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(ClientScheduler.class);
+
+    public static final Executor INLINE = Runnable::run;
+
+    /** 投递到渲染线程；没有 Gdx.app（JMH 基准等）时拒绝，本次派发视为跳过，周期任务下次照常派发 */
+    public static final Executor RENDER_THREAD = task -> {
+        Application app = Gdx.app;
+        if (app == null) {
+            throw new RejectedExecutionException("Gdx.app is not available");
+        }
+        app.postRunnable(task);
+    };
+
+    private static final MetricsRegistry REGISTRY = MetricsRegistry.global();
+    private static final Counter WAKEUPS = REGISTRY.counter("sched.wakeups");
+    private static final Counter TASKS_RUN = REGISTRY.counter("sched.tasks.run");
+    private static final Counter TASKS_SKIPPED = REGISTRY.counter("sched.tasks.skipped");
+    private static final Histogram LATENESS = REGISTRY.histogram("sched.lateness", "us");
+    private static final Histogram TASK_TIME = REGISTRY.histogram("sched.task.time", "us");
+    private static final Gauge QUEUE_DEPTH = REGISTRY.gauge("sched.queue.depth");
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final PriorityQueue<Task> queue = new PriorityQueue<>();
+    private final Thread thread;
+    private volatile boolean running = true;
+    private long nextSeq;
+
+    public ClientScheduler(String threadName) {
+        thread = new Thread(this::loop, threadName);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 延迟 delayMs 后执行一次
+     */
+    public Task schedule(String name, Executor executor, Runnable action, long delayMs) {
+        return enqueue(new Task(name, executor, action, 0L), delayMs);
+    }
+
+    /**
+     * 固定频率执行；错过的周期直接跳过，不补跑
+     */
+    public Task scheduleAtFixedRate(String name, Executor executor, Runnable action,
+                                    long initialDelayMs, long periodMs) {
+        if (periodMs <= 0L) {
+            throw new IllegalArgumentException("periodMs must be positive: " + periodMs);
+        }
+        return enqueue(new Task(name, executor, action, TimeUnit.MILLISECONDS.toNanos(periodMs)), initialDelayMs);
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        lock.lock();
+        try {
+            for (Task task : queue) {
+                task.cancelled = true;
+            }
+            queue.clear();
+            QUEUE_DEPTH.set(0L);
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Task enqueue(Task task, long delayMs) {
+        lock.lock();
+        try {
+            if (!running) {
+                task.cancelled = true;
+                return task;
+            }
+            task.dueNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(0L, delayMs));
+            task.seq = nextSeq++;
+            queue.add(task);
+            QUEUE_DEPTH.set(queue.size());
+            if (queue.peek() == task) {
+                changed.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+        return task;
+    }
+
+    private void remove(Task task) {
+        lock.lock();
+        try {
+            if (queue.remove(task)) {
+                QUEUE_DEPTH.set(queue.size());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void loop() {
+        while (running) {
+            Task due;
+            long lateNanos;
+            lock.lock();
+            try {
+                Task head = queue.peek();
+                if (head == null) {
+                    changed.await();
+                    WAKEUPS.increment();
+                    continue;
+                }
+                long now = System.nanoTime();
+                long waitNanos = head.dueNanos - now;
+                if (waitNanos > 0L) {
+                    changed.awaitNanos(waitNanos);
+                    WAKEUPS.increment();
+                    continue;
+                }
+                due = queue.poll();
+                lateNanos = -waitNanos;
+                if (due.periodNanos > 0L) {
+                    due.dueNanos = Math.max(due.dueNanos + due.periodNanos, now);
+                    due.seq = nextSeq++;
+                    queue.add(due);
+                }
+                QUEUE_DEPTH.set(queue.size());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+            dispatch(due, lateNanos);
+        }
+    }
+
+    private void dispatch(Task task, long lateNanos) {
+        if (task.cancelled) {
+            return;
+        }
+        if (!task.idle.compareAndSet(true, false)) {
+            TASKS_SKIPPED.increment();
+            return;
+        }
+        LATENESS.recordNanosAsMicros(lateNanos);
+        TASKS_RUN.increment();
+        try {
+            task.executor.execute(task::run);
+        } catch (RejectedExecutionException e) {
+            // 任务没有投递出去，不会再有人把 idle 置回
+            task.idle.set(true);
+            log.debug("Scheduled task {} not dispatched: {}", task.name, e.getMessage());
+        } catch (RuntimeException e) {
+            task.idle.set(true);
+            log.warn("Failed to dispatch scheduled task {}: {}", task.name, e.getMessage());
+        }
+    }
+
+    /**
+     * 已登记任务的句柄，用于取消
+     */
+    public final class Task implements Comparable<Task> {
+        private final String name;
+        private final Executor executor;
+        private final Runnable action;
+        private final long periodNanos;
+        private final AtomicBoolean idle = new AtomicBoolean(true);
+        private volatile boolean cancelled;
+        private long dueNanos;
+        private long seq;
+
+        private Task(String name, Executor executor, Runnable action, long periodNanos) {
+            this.name = name;
+            this.executor = executor;
+            this.action = action;
+            this.periodNanos = periodNanos;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        /**
+         * 取消后不再派发；已投递到渲染线程但尚未执行的那一次也会被跳过
+         */
+        public void cancel() {
+            cancelled = true;
+            remove(this);
+        }
+
+        private void run() {
+            try {
+                if (cancelled) {
+                    return;
+                }
+                long start = System.nanoTime();
+                action.run();
+                TASK_TIME.recordNanosAsMicros(System.nanoTime() - start);
+            } catch (RuntimeException e) {
+                log.warn("Scheduled task {} failed", name, e);
+            } finally {
+                idle.set(true);
+            }
+        }
+
+        @Override
+        public int compareTo(Task other) {
+            int byDue = Long.compare(dueNanos - other.dueNanos, 0L);
+            return byDue != 0 ? byDue : Long.compare(seq, other.seq);
+        }
+    }
+}
@@ -14,6 +14,160 @@ public final class Message {
     registerAllExtensions(
         (com.google.protobuf.ExtensionRegistryLite) registry);
   }
+  /**
+   * <pre>
+   * 客户端能力位（C2S_Login / C2S_ReconnectRequest 的 capabilities 字段按位或）
+   * </pre>
+   *
+   * Protobuf enum {@code lawnmower.ClientCapability}
+   */
+  public enum ClientCapability
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>CLIENT_CAP_NONE = 0;</code>
+     */
+    CLIENT_CAP_NONE(0),
+    /**
+     * <pre>
+     * 能解码增量中的定点坐标 position_q
+     * </pre>
+     *
+     * <code>CLIENT_CAP_QUANTIZED_POSITION = 1;</code>
+     */
+    CLIENT_CAP_QUANTIZED_POSITION(1),
+    /**
+     * <pre>
+     * 能处理 S2C_TickEventBundle，不再逐条接收战斗事件
+     * </pre>
+     *
+     * <code>CLIENT_CAP_TICK_EVENT_BUNDLE = 2;</code>
+     */
+    CLIENT_CAP_TICK_EVENT_BUNDLE(2),
+    /**
+     * <pre>
+     * UDP 启用了可靠层：会回 ack、按 channel 去重/排序，事件包与升级请求改走 UDP
+     * </pre>
+     *
+     * <code>CLIENT_CAP_RELIABLE_UDP = 4;</code>
+     */
+    CLIENT_CAP_RELIABLE_UDP(4),
+    UNRECOGNIZED(-1),
+    ;
+
+    /**
+     * <code>CLIENT_CAP_NONE = 0;</code>
+     */
+    public static final int CLIENT_CAP_NONE_VALUE = 0;
+    /**
+     * <pre>
+     * 能解码增量中的定点坐标 position_q
+     * </pre>
+     *
+     * <code>CLIENT_CAP_QUANTIZED_POSITION = 1;</code>
+     */
+    public static final int CLIENT_CAP_QUANTIZED_POSITION_VALUE = 1;
+    /**
+     * <pre>
+     * 能处理 S2C_TickEventBundle，不再逐条接收战斗事件
+     * </pre>
+     *
+     * <code>CLIENT_CAP_TICK_EVENT_BUNDLE = 2;</code>
+     */
+    public static final int CLIENT_CAP_TICK_EVENT_BUNDLE_VALUE = 2;
+    /**
+     * <pre>
+     * UDP 启用了可靠层：会回 ack、按 channel 去重/排序，事件包与升级请求改走 UDP
+     * </pre>
+     *
+     * <code>CLIENT_CAP_RELIABLE_UDP = 4;</code>
+     */
+    public static final int CLIENT_CAP_RELIABLE_UDP_VALUE = 4;
+
+
+    public final int getNumber() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalArgumentException(
+            "Can't get the number of an unknown enum value.");
+      }
+      return value;
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static ClientCapability valueOf(int value) {
+      return forNumber(value);
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     */
+    public static ClientCapability forNumber(int value) {
+      switch (value) {
+        case 0: return CLIENT_CAP_NONE;
+        case 1: return CLIENT_CAP_QUANTIZED_POSITION;
+        case 2: return CLIENT_CAP_TICK_EVENT_BUNDLE;
+        case 4: return CLIENT_CAP_RELIABLE_UDP;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<ClientCapability>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        ClientCapability> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<ClientCapability>() {
+            public ClientCapability findValueByNumber(int number) {
+              return ClientCapability.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalStateException(
+            "Can't get the descriptor of an unrecognized enum value.");
+      }
+      return getDescriptor().getValues().get(ordinal());
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return lawnmower.Message.getDescriptor().getEnumTypes().get(0);
+    }
+
+    private static final ClientCapability[] VALUES = values();
+
+    public static ClientCapability valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      if (desc.getIndex() == -1) {
+        return UNRECOGNIZED;
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int value;
+
+    private ClientCapability(int value) {
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:lawnmower.ClientCapability)
+  }
+
   /**
    * Protobuf enum {@code lawnmower.MessageType}
    */
@@ -332,6 +486,38 @@ public final class Message {
      * <code>MSG_S2C_RECONNECT_ACK = 58;</code>
      */
     MSG_S2C_RECONNECT_ACK(58),
+    /**
+     * <pre>
+     * 广播：单个 tick 的全部战斗事件（声明 CLIENT_CAP_TICK_EVENT_BUNDLE 的客户端）
+     * </pre>
+     *
+     * <code>MSG_S2C_TICK_EVENT_BUNDLE = 59;</code>
+     */
+    MSG_S2C_TICK_EVENT_BUNDLE(59),
+    /**
+     * <pre>
+     * 双向：仅携带 UDP 可靠层 ack 头部，没有负载（无上行数据可捎带时发送）
+     * </pre>
+     *
+     * <code>MSG_UDP_ACK = 60;</code>
+     */
+    MSG_UDP_ACK(60),
+    /**
+     * <pre>
+     * S2C：超过 MTU 的数据报的一个应用层分片，payload 为原数据报的一段
+     * </pre>
+     *
+     * <code>MSG_UDP_FRAGMENT = 61;</code>
+     */
+    MSG_UDP_FRAGMENT(61),
+    /**
+     * <pre>
+     * C2S（TCP）：客户端关注的世界区域（相机视野 + 边距），服务器按区域下发敌人与道具
+     * </pre>
+     *
+     * <code>MSG_C2S_INTEREST_AREA = 62;</code>
+     */
+    MSG_C2S_INTEREST_AREA(62),
     UNRECOGNIZED(-1),
     ;
 
@@ -648,6 +834,38 @@ public final class Message {
      * <code>MSG_S2C_RECONNECT_ACK = 58;</code>
      */
     public static final int MSG_S2C_RECONNECT_ACK_VALUE = 58;
+    /**
+     * <pre>
+     * 广播：单个 tick 的全部战斗事件（声明 CLIENT_CAP_TICK_EVENT_BUNDLE 的客户端）
+     * </pre>
+     *
+     * <code>MSG_S2C_TICK_EVENT_BUNDLE = 59;</code>
+     */
+    public static final int MSG_S2C_TICK_EVENT_BUNDLE_VALUE = 59;
+    /**
+     * <pre>
+     * 双向：仅携带 UDP 可靠层 ack 头部，没有负载（无上行数据可捎带时发送）
+     * </pre>
+     *
+     * <code>MSG_UDP_ACK = 60;</code>
+     */
+    public static final int MSG_UDP_ACK_VALUE = 60;
+    /**
+     * <pre>
+     * S2C：超过 MTU 的数据报的一个应用层分片，payload 为原数据报的一段
+     * </pre>
+     *
+     * <code>MSG_UDP_FRAGMENT = 61;</code>
+     */
+    public static final int MSG_UDP_FRAGMENT_VALUE = 61;
+    /**
+     * <pre>
+     * C2S（TCP）：客户端关注的世界区域（相机视野 + 边距），服务器按区域下发敌人与道具
+     * </pre>
+     *
+     * <code>MSG_C2S_INTEREST_AREA = 62;</code>
+     */
+    public static final int MSG_C2S_INTEREST_AREA_VALUE = 62;
 
 
     public final int getNumber() {
@@ -713,6 +931,10 @@ public final class Message {
         case 56: return MSG_C2S_UPGRADE_REFRESH_REQUEST;
         case 57: return MSG_C2S_RECONNECT_REQUEST;
         case 58: return MSG_S2C_RECONNECT_ACK;
+        case 59: return MSG_S2C_TICK_EVENT_BUNDLE;
+        case 60: return MSG_UDP_ACK;
+        case 61: return MSG_UDP_FRAGMENT;
+        case 62: return MSG_C2S_INTEREST_AREA;
         default: return null;
       }
     }
@@ -743,7 +965,7 @@ public final class Message {
     }
     public static final com.google.protobuf.Descriptors.EnumDescriptor
         getDescriptor() {
-      return lawnmower.Message.getDescriptor().getEnumTypes().get(0);
+      return lawnmower.Message.getDescriptor().getEnumTypes().get(1);
     }
 
     private static final MessageType[] VALUES = values();
@@ -880,7 +1102,7 @@ public final class Message {
     }
     public static final com.google.protobuf.Descriptors.EnumDescriptor
         getDescriptor() {
-      return lawnmower.Message.getDescriptor().getEnumTypes().get(1);
+      return lawnmower.Message.getDescriptor().getEnumTypes().get(2);
     }
 
     private static final UpgradeReason[] VALUES = values();
@@ -1068,7 +1290,7 @@ public final class Message {
     }
     public static final com.google.protobuf.Descriptors.EnumDescriptor
         getDescriptor() {
-      return lawnmower.Message.getDescriptor().getEnumTypes().get(2);
+      return lawnmower.Message.getDescriptor().getEnumTypes().get(3);
     }
 
     private static final UpgradeType[] VALUES = values();
@@ -1198,7 +1420,7 @@ public final class Message {
     }
     public static final com.google.protobuf.Descriptors.EnumDescriptor
         getDescriptor() {
-      return lawnmower.Message.getDescriptor().getEnumTypes().get(3);
+      return lawnmower.Message.getDescriptor().getEnumTypes().get(4);
     }
 
     private static final UpgradeLevel[] VALUES = values();
@@ -1348,7 +1570,7 @@ public final class Message {
     }
     public static final com.google.protobuf.Descriptors.EnumDescriptor
         getDescriptor() {
-      return lawnmower.Message.getDescriptor().getEnumTypes().get(4);
+      return lawnmower.Message.getDescriptor().getEnumTypes().get(5);
     }
 
     private static final ProjectileDespawnReason[] VALUES = values();
@@ -1510,7 +1732,7 @@ public final class Message {
     }
     public static final com.google.protobuf.Descriptors.EnumDescriptor
         getDescriptor() {
-      return lawnmower.Message.getDescriptor().getEnumTypes().get(5);
+      return lawnmower.Message.getDescriptor().getEnumTypes().get(6);
     }
 
     private static final ItemEffectType[] VALUES = values();
@@ -1664,7 +1886,7 @@ public final class Message {
     }
     public static final com.google.protobuf.Descriptors.EnumDescriptor
         getDescriptor() {
-      return lawnmower.Message.getDescriptor().getEnumTypes().get(6);
+      return lawnmower.Message.getDescriptor().getEnumTypes().get(7);
     }
 
     private static final ItemDeltaMask[] VALUES = values();
@@ -1831,7 +2053,7 @@ public final class Message {
     }
     public static final com.google.protobuf.Descriptors.EnumDescriptor
         getDescriptor() {
-      return lawnmower.Message.getDescriptor().getEnumTypes().get(7);
+      return lawnmower.Message.getDescriptor().getEnumTypes().get(8);
     }
 
     private static final PlayerDeltaMask[] VALUES = values();
@@ -1981,7 +2203,7 @@ public final class Message {
     }
     public static final com.google.protobuf.Descriptors.EnumDescriptor
         getDescriptor() {
-      return lawnmower.Message.getDescriptor().getEnumTypes().get(8);
+      return lawnmower.Message.getDescriptor().getEnumTypes().get(9);
     }
 
     private static final EnemyDeltaMask[] VALUES = values();
@@ -2007,6 +2229,169 @@ public final class Message {
     // @@protoc_insertion_point(enum_scope:lawnmower.EnemyDeltaMask)
   }
 
+  /**
+   * <pre>
+   * 网络消息封装（通用包格式）
+   * UDP 可靠层的投递语义（只在 UDP 数据报上出现，TCP 上均为默认值）
+   * </pre>
+   *
+   * Protobuf enum {@code lawnmower.UdpChannel}
+   */
+  public enum UdpChannel
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <pre>
+     * 不保证送达、不排序
+     * </pre>
+     *
+     * <code>UDP_CHANNEL_UNRELIABLE = 0;</code>
+     */
+    UDP_CHANNEL_UNRELIABLE(0),
+    /**
+     * <pre>
+     * 不保证送达，接收方丢弃比已收到的更旧的
+     * </pre>
+     *
+     * <code>UDP_CHANNEL_UNRELIABLE_SEQUENCED = 1;</code>
+     */
+    UDP_CHANNEL_UNRELIABLE_SEQUENCED(1),
+    /**
+     * <pre>
+     * 未确认则重传，到达即投递，按 channel_seq 去重
+     * </pre>
+     *
+     * <code>UDP_CHANNEL_RELIABLE_UNORDERED = 2;</code>
+     */
+    UDP_CHANNEL_RELIABLE_UNORDERED(2),
+    /**
+     * <pre>
+     * 未确认则重传，按 channel_seq 顺序投递
+     * </pre>
+     *
+     * <code>UDP_CHANNEL_RELIABLE_ORDERED = 3;</code>
+     */
+    UDP_CHANNEL_RELIABLE_ORDERED(3),
+    UNRECOGNIZED(-1),
+    ;
+
+    /**
+     * <pre>
+     * 不保证送达、不排序
+     * </pre>
+     *
+     * <code>UDP_CHANNEL_UNRELIABLE = 0;</code>
+     */
+    public static final int UDP_CHANNEL_UNRELIABLE_VALUE = 0;
+    /**
+     * <pre>
+     * 不保证送达，接收方丢弃比已收到的更旧的
+     * </pre>
+     *
+     * <code>UDP_CHANNEL_UNRELIABLE_SEQUENCED = 1;</code>
+     */
+    public static final int UDP_CHANNEL_UNRELIABLE_SEQUENCED_VALUE = 1;
+    /**
+     * <pre>
+     * 未确认则重传，到达即投递，按 channel_seq 去重
+     * </pre>
+     *
+     * <code>UDP_CHANNEL_RELIABLE_UNORDERED = 2;</code>
+     */
+    public static final int UDP_CHANNEL_RELIABLE_UNORDERED_VALUE = 2;
+    /**
+     * <pre>
+     * 未确认则重传，按 channel_seq 顺序投递
+     * </pre>
+     *
+     * <code>UDP_CHANNEL_RELIABLE_ORDERED = 3;</code>
+     */
+    public static final int UDP_CHANNEL_RELIABLE_ORDERED_VALUE = 3;
+
+
+    public final int getNumber() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalArgumentException(
+            "Can't get the number of an unknown enum value.");
+      }
+      return value;
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static UdpChannel valueOf(int value) {
+      return forNumber(value);
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     */
+    public static UdpChannel forNumber(int value) {
+      switch (value) {
+        case 0: return UDP_CHANNEL_UNRELIABLE;
+        case 1: return UDP_CHANNEL_UNRELIABLE_SEQUENCED;
+        case 2: return UDP_CHANNEL_RELIABLE_UNORDERED;
+        case 3: return UDP_CHANNEL_RELIABLE_ORDERED;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<UdpChannel>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        UdpChannel> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<UdpChannel>() {
+            public UdpChannel findValueByNumber(int number) {
+              return UdpChannel.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalStateException(
+            "Can't get the descriptor of an unrecognized enum value.");
+      }
+      return getDescriptor().getValues().get(ordinal());
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return lawnmower.Message.getDescriptor().getEnumTypes().get(10);
+    }
+
+    private static final UdpChannel[] VALUES = values();
+
+    public static UdpChannel valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      if (desc.getIndex() == -1) {
+        return UNRECOGNIZED;
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int value;
+
+    private UdpChannel(int value) {
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:lawnmower.UdpChannel)
+  }
+
   public interface Vector2OrBuilder extends
       // @@protoc_insertion_point(interface_extends:lawnmower.Vector2)
       com.google.protobuf.MessageOrBuilder {
@@ -3273,6 +3658,17 @@ public final class Message {
      * @return The stateSyncRate.
      */
     int getStateSyncRate();
+
+    /**
+     * <pre>
+     * 增量同步的定点坐标精度（每像素刻度数，8 = 1/8 像素）；0 表示增量仍用 Vector2 浮点坐标。
+     * 仅当房间内所有客户端登录时声明了 CLIENT_CAP_QUANTIZED_POSITION 才启用
+     * </pre>
+     *
+     * <code>uint32 position_scale = 6;</code>
+     * @return The positionScale.
+     */
+    int getPositionScale();
   }
   /**
    * <pre>
@@ -3348,6 +3744,11 @@ public final class Message {
               stateSyncRate_ = input.readUInt32();
               break;
             }
+            case 48: {
+
+              positionScale_ = input.readUInt32();
+              break;
+            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -3457,6 +3858,22 @@ public final class Message {
       return stateSyncRate_;
     }
 
+    public static final int POSITION_SCALE_FIELD_NUMBER = 6;
+    private int positionScale_;
+    /**
+     * <pre>
+     * 增量同步的定点坐标精度（每像素刻度数，8 = 1/8 像素）；0 表示增量仍用 Vector2 浮点坐标。
+     * 仅当房间内所有客户端登录时声明了 CLIENT_CAP_QUANTIZED_POSITION 才启用
+     * </pre>
+     *
+     * <code>uint32 position_scale = 6;</code>
+     * @return The positionScale.
+     */
+    @java.lang.Override
+    public int getPositionScale() {
+      return positionScale_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -3486,6 +3903,9 @@ public final class Message {
       if (stateSyncRate_ != 0) {
         output.writeUInt32(5, stateSyncRate_);
       }
+      if (positionScale_ != 0) {
+        output.writeUInt32(6, positionScale_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -3515,6 +3935,10 @@ public final class Message {
         size += com.google.protobuf.CodedOutputStream
           .computeUInt32Size(5, stateSyncRate_);
       }
+      if (positionScale_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(6, positionScale_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -3540,6 +3964,8 @@ public final class Message {
           != other.getTickRate()) return false;
       if (getStateSyncRate()
           != other.getStateSyncRate()) return false;
+      if (getPositionScale()
+          != other.getPositionScale()) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -3561,6 +3987,8 @@ public final class Message {
       hash = (53 * hash) + getTickRate();
       hash = (37 * hash) + STATE_SYNC_RATE_FIELD_NUMBER;
       hash = (53 * hash) + getStateSyncRate();
+      hash = (37 * hash) + POSITION_SCALE_FIELD_NUMBER;
+      hash = (53 * hash) + getPositionScale();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -3708,6 +4136,8 @@ public final class Message {
 
         stateSyncRate_ = 0;
 
+        positionScale_ = 0;
+
         return this;
       }
 
@@ -3739,6 +4169,7 @@ public final class Message {
         result.height_ = height_;
         result.tickRate_ = tickRate_;
         result.stateSyncRate_ = stateSyncRate_;
+        result.positionScale_ = positionScale_;
         onBuilt();
         return result;
       }
@@ -3802,6 +4233,9 @@ public final class Message {
         if (other.getStateSyncRate() != 0) {
           setStateSyncRate(other.getStateSyncRate());
         }
+        if (other.getPositionScale() != 0) {
+          setPositionScale(other.getPositionScale());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -4045,6 +4479,52 @@ public final class Message {
         onChanged();
         return this;
       }
+
+      private int positionScale_ ;
+      /**
+       * <pre>
+       * 增量同步的定点坐标精度（每像素刻度数，8 = 1/8 像素）；0 表示增量仍用 Vector2 浮点坐标。
+       * 仅当房间内所有客户端登录时声明了 CLIENT_CAP_QUANTIZED_POSITION 才启用
+       * </pre>
+       *
+       * <code>uint32 position_scale = 6;</code>
+       * @return The positionScale.
+       */
+      @java.lang.Override
+      public int getPositionScale() {
+        return positionScale_;
+      }
+      /**
+       * <pre>
+       * 增量同步的定点坐标精度（每像素刻度数，8 = 1/8 像素）；0 表示增量仍用 Vector2 浮点坐标。
+       * 仅当房间内所有客户端登录时声明了 CLIENT_CAP_QUANTIZED_POSITION 才启用
+       * </pre>
+       *
+       * <code>uint32 position_scale = 6;</code>
+       * @param value The positionScale to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPositionScale(int value) {
+        
+        positionScale_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 增量同步的定点坐标精度（每像素刻度数，8 = 1/8 像素）；0 表示增量仍用 Vector2 浮点坐标。
+       * 仅当房间内所有客户端登录时声明了 CLIENT_CAP_QUANTIZED_POSITION 才启用
+       * </pre>
+       *
+       * <code>uint32 position_scale = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPositionScale() {
+        
+        positionScale_ = 0;
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -4121,6 +4601,16 @@ public final class Message {
      */
     com.google.protobuf.ByteString
         getPlayerNameBytes();
+
+    /**
+     * <pre>
+     * 客户端能力位，见 ClientCapability
+     * </pre>
+     *
+     * <code>uint32 capabilities = 2;</code>
+     * @return The capabilities.
+     */
+    int getCapabilities();
   }
   /**
    * <pre>
@@ -4178,6 +4668,11 @@ public final class Message {
               playerName_ = s;
               break;
             }
+            case 16: {
+
+              capabilities_ = input.readUInt32();
+              break;
+            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -4258,6 +4753,21 @@ public final class Message {
       }
     }
 
+    public static final int CAPABILITIES_FIELD_NUMBER = 2;
+    private int capabilities_;
+    /**
+     * <pre>
+     * 客户端能力位，见 ClientCapability
+     * </pre>
+     *
+     * <code>uint32 capabilities = 2;</code>
+     * @return The capabilities.
+     */
+    @java.lang.Override
+    public int getCapabilities() {
+      return capabilities_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -4275,6 +4785,9 @@ public final class Message {
       if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(playerName_)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 1, playerName_);
       }
+      if (capabilities_ != 0) {
+        output.writeUInt32(2, capabilities_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -4287,6 +4800,10 @@ public final class Message {
       if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(playerName_)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, playerName_);
       }
+      if (capabilities_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(2, capabilities_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -4304,6 +4821,8 @@ public final class Message {
 
       if (!getPlayerName()
           .equals(other.getPlayerName())) return false;
+      if (getCapabilities()
+          != other.getCapabilities()) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -4317,6 +4836,8 @@ public final class Message {
       hash = (19 * hash) + getDescriptor().hashCode();
       hash = (37 * hash) + PLAYER_NAME_FIELD_NUMBER;
       hash = (53 * hash) + getPlayerName().hashCode();
+      hash = (37 * hash) + CAPABILITIES_FIELD_NUMBER;
+      hash = (53 * hash) + getCapabilities();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -4456,6 +4977,8 @@ public final class Message {
         super.clear();
         playerName_ = "";
 
+        capabilities_ = 0;
+
         return this;
       }
 
@@ -4483,6 +5006,7 @@ public final class Message {
       public lawnmower.Message.C2S_Login buildPartial() {
         lawnmower.Message.C2S_Login result = new lawnmower.Message.C2S_Login(this);
         result.playerName_ = playerName_;
+        result.capabilities_ = capabilities_;
         onBuilt();
         return result;
       }
@@ -4535,6 +5059,9 @@ public final class Message {
           playerName_ = other.playerName_;
           onChanged();
         }
+        if (other.getCapabilities() != 0) {
+          setCapabilities(other.getCapabilities());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -4659,6 +5186,49 @@ public final class Message {
         onChanged();
         return this;
       }
+
+      private int capabilities_ ;
+      /**
+       * <pre>
+       * 客户端能力位，见 ClientCapability
+       * </pre>
+       *
+       * <code>uint32 capabilities = 2;</code>
+       * @return The capabilities.
+       */
+      @java.lang.Override
+      public int getCapabilities() {
+        return capabilities_;
+      }
+      /**
+       * <pre>
+       * 客户端能力位，见 ClientCapability
+       * </pre>
+       *
+       * <code>uint32 capabilities = 2;</code>
+       * @param value The capabilities to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCapabilities(int value) {
+        
+        capabilities_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 客户端能力位，见 ClientCapability
+       * </pre>
+       *
+       * <code>uint32 capabilities = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCapabilities() {
+        
+        capabilities_ = 0;
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -5693,44 +6263,59 @@ public final class Message {
 
   }
 
-  public interface C2S_HeartbeatOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:lawnmower.C2S_Heartbeat)
+  public interface C2S_InterestAreaOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:lawnmower.C2S_InterestArea)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <pre>
-     * 时间戳
-     * </pre>
-     *
-     * <code>uint64 timestamp = 1;</code>
-     * @return The timestamp.
+     * <code>float min_x = 1;</code>
+     * @return The minX.
      */
-    long getTimestamp();
+    float getMinX();
+
+    /**
+     * <code>float min_y = 2;</code>
+     * @return The minY.
+     */
+    float getMinY();
+
+    /**
+     * <code>float max_x = 3;</code>
+     * @return The maxX.
+     */
+    float getMaxX();
+
+    /**
+     * <code>float max_y = 4;</code>
+     * @return The maxY.
+     */
+    float getMaxY();
   }
   /**
    * <pre>
-   * 客户端 -&gt; 服务器： 心跳消息
+   * 客户端 -&gt; 服务器：关注区域（世界坐标，相机视野外扩边距）。
+   * 上报后服务器只下发区域内的敌人与道具（玩家始终全部下发），相机移出上次上报的区域前重新上报
    * </pre>
    *
-   * Protobuf type {@code lawnmower.C2S_Heartbeat}
+   * Protobuf type {@code lawnmower.C2S_InterestArea}
    */
-  public static final class C2S_Heartbeat extends
+  public static final class C2S_InterestArea extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:lawnmower.C2S_Heartbeat)
-      C2S_HeartbeatOrBuilder {
+      // @@protoc_insertion_point(message_implements:lawnmower.C2S_InterestArea)
+      C2S_InterestAreaOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use C2S_Heartbeat.newBuilder() to construct.
-    private C2S_Heartbeat(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use C2S_InterestArea.newBuilder() to construct.
+    private C2S_InterestArea(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private C2S_Heartbeat() {
+    private C2S_InterestArea() {
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new C2S_Heartbeat();
+      return new C2S_InterestArea();
     }
 
     @java.lang.Override
@@ -5738,7 +6323,7 @@ public final class Message {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private C2S_Heartbeat(
+    private C2S_InterestArea(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -5756,9 +6341,24 @@ public final class Message {
             case 0:
               done = true;
               break;
-            case 8: {
+            case 13: {
 
-              timestamp_ = input.readUInt64();
+              minX_ = input.readFloat();
+              break;
+            }
+            case 21: {
+
+              minY_ = input.readFloat();
+              break;
+            }
+            case 29: {
+
+              maxX_ = input.readFloat();
+              break;
+            }
+            case 37: {
+
+              maxY_ = input.readFloat();
               break;
             }
             default: {
@@ -5784,30 +6384,59 @@ public final class Message {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return lawnmower.Message.internal_static_lawnmower_C2S_Heartbeat_descriptor;
+      return lawnmower.Message.internal_static_lawnmower_C2S_InterestArea_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return lawnmower.Message.internal_static_lawnmower_C2S_Heartbeat_fieldAccessorTable
+      return lawnmower.Message.internal_static_lawnmower_C2S_InterestArea_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              lawnmower.Message.C2S_Heartbeat.class, lawnmower.Message.C2S_Heartbeat.Builder.class);
+              lawnmower.Message.C2S_InterestArea.class, lawnmower.Message.C2S_InterestArea.Builder.class);
     }
 
-    public static final int TIMESTAMP_FIELD_NUMBER = 1;
-    private long timestamp_;
+    public static final int MIN_X_FIELD_NUMBER = 1;
+    private float minX_;
     /**
-     * <pre>
-     * 时间戳
-     * </pre>
-     *
-     * <code>uint64 timestamp = 1;</code>
-     * @return The timestamp.
+     * <code>float min_x = 1;</code>
+     * @return The minX.
      */
     @java.lang.Override
-    public long getTimestamp() {
-      return timestamp_;
+    public float getMinX() {
+      return minX_;
+    }
+
+    public static final int MIN_Y_FIELD_NUMBER = 2;
+    private float minY_;
+    /**
+     * <code>float min_y = 2;</code>
+     * @return The minY.
+     */
+    @java.lang.Override
+    public float getMinY() {
+      return minY_;
+    }
+
+    public static final int MAX_X_FIELD_NUMBER = 3;
+    private float maxX_;
+    /**
+     * <code>float max_x = 3;</code>
+     * @return The maxX.
+     */
+    @java.lang.Override
+    public float getMaxX() {
+      return maxX_;
+    }
+
+    public static final int MAX_Y_FIELD_NUMBER = 4;
+    private float maxY_;
+    /**
+     * <code>float max_y = 4;</code>
+     * @return The maxY.
+     */
+    @java.lang.Override
+    public float getMaxY() {
+      return maxY_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -5824,8 +6453,17 @@ public final class Message {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (timestamp_ != 0L) {
-        output.writeUInt64(1, timestamp_);
+      if (java.lang.Float.floatToRawIntBits(minX_) != 0) {
+        output.writeFloat(1, minX_);
+      }
+      if (java.lang.Float.floatToRawIntBits(minY_) != 0) {
+        output.writeFloat(2, minY_);
+      }
+      if (java.lang.Float.floatToRawIntBits(maxX_) != 0) {
+        output.writeFloat(3, maxX_);
+      }
+      if (java.lang.Float.floatToRawIntBits(maxY_) != 0) {
+        output.writeFloat(4, maxY_);
       }
       unknownFields.writeTo(output);
     }
@@ -5836,9 +6474,21 @@ public final class Message {
       if (size != -1) return size;
 
       size = 0;
-      if (timestamp_ != 0L) {
+      if (java.lang.Float.floatToRawIntBits(minX_) != 0) {
         size += com.google.protobuf.CodedOutputStream
-          .computeUInt64Size(1, timestamp_);
+          .computeFloatSize(1, minX_);
+      }
+      if (java.lang.Float.floatToRawIntBits(minY_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFloatSize(2, minY_);
+      }
+      if (java.lang.Float.floatToRawIntBits(maxX_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFloatSize(3, maxX_);
+      }
+      if (java.lang.Float.floatToRawIntBits(maxY_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFloatSize(4, maxY_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -5850,13 +6500,23 @@ public final class Message {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof lawnmower.Message.C2S_Heartbeat)) {
+      if (!(obj instanceof lawnmower.Message.C2S_InterestArea)) {
         return super.equals(obj);
       }
-      lawnmower.Message.C2S_Heartbeat other = (lawnmower.Message.C2S_Heartbeat) obj;
+      lawnmower.Message.C2S_InterestArea other = (lawnmower.Message.C2S_InterestArea) obj;
 
-      if (getTimestamp()
-          != other.getTimestamp()) return false;
+      if (java.lang.Float.floatToIntBits(getMinX())
+          != java.lang.Float.floatToIntBits(
+              other.getMinX())) return false;
+      if (java.lang.Float.floatToIntBits(getMinY())
+          != java.lang.Float.floatToIntBits(
+              other.getMinY())) return false;
+      if (java.lang.Float.floatToIntBits(getMaxX())
+          != java.lang.Float.floatToIntBits(
+              other.getMaxX())) return false;
+      if (java.lang.Float.floatToIntBits(getMaxY())
+          != java.lang.Float.floatToIntBits(
+              other.getMaxY())) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -5868,77 +6528,86 @@ public final class Message {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + TIMESTAMP_FIELD_NUMBER;
-      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-          getTimestamp());
+      hash = (37 * hash) + MIN_X_FIELD_NUMBER;
+      hash = (53 * hash) + java.lang.Float.floatToIntBits(
+          getMinX());
+      hash = (37 * hash) + MIN_Y_FIELD_NUMBER;
+      hash = (53 * hash) + java.lang.Float.floatToIntBits(
+          getMinY());
+      hash = (37 * hash) + MAX_X_FIELD_NUMBER;
+      hash = (53 * hash) + java.lang.Float.floatToIntBits(
+          getMaxX());
+      hash = (37 * hash) + MAX_Y_FIELD_NUMBER;
+      hash = (53 * hash) + java.lang.Float.floatToIntBits(
+          getMaxY());
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static lawnmower.Message.C2S_Heartbeat parseFrom(
+    public static lawnmower.Message.C2S_InterestArea parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static lawnmower.Message.C2S_Heartbeat parseFrom(
+    public static lawnmower.Message.C2S_InterestArea parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static lawnmower.Message.C2S_Heartbeat parseFrom(
+    public static lawnmower.Message.C2S_InterestArea parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static lawnmower.Message.C2S_Heartbeat parseFrom(
+    public static lawnmower.Message.C2S_InterestArea parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static lawnmower.Message.C2S_Heartbeat parseFrom(byte[] data)
+    public static lawnmower.Message.C2S_InterestArea parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static lawnmower.Message.C2S_Heartbeat parseFrom(
+    public static lawnmower.Message.C2S_InterestArea parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static lawnmower.Message.C2S_Heartbeat parseFrom(java.io.InputStream input)
+    public static lawnmower.Message.C2S_InterestArea parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static lawnmower.Message.C2S_Heartbeat parseFrom(
+    public static lawnmower.Message.C2S_InterestArea parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static lawnmower.Message.C2S_Heartbeat parseDelimitedFrom(java.io.InputStream input)
+    public static lawnmower.Message.C2S_InterestArea parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static lawnmower.Message.C2S_Heartbeat parseDelimitedFrom(
+    public static lawnmower.Message.C2S_InterestArea parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static lawnmower.Message.C2S_Heartbeat parseFrom(
+    public static lawnmower.Message.C2S_InterestArea parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static lawnmower.Message.C2S_Heartbeat parseFrom(
+    public static lawnmower.Message.C2S_InterestArea parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -5951,7 +6620,7 @@ public final class Message {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(lawnmower.Message.C2S_Heartbeat prototype) {
+    public static Builder newBuilder(lawnmower.Message.C2S_InterestArea prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -5968,29 +6637,30 @@ public final class Message {
     }
     /**
      * <pre>
-     * 客户端 -&gt; 服务器： 心跳消息
+     * 客户端 -&gt; 服务器：关注区域（世界坐标，相机视野外扩边距）。
+     * 上报后服务器只下发区域内的敌人与道具（玩家始终全部下发），相机移出上次上报的区域前重新上报
      * </pre>
      *
-     * Protobuf type {@code lawnmower.C2S_Heartbeat}
+     * Protobuf type {@code lawnmower.C2S_InterestArea}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:lawnmower.C2S_Heartbeat)
-        lawnmower.Message.C2S_HeartbeatOrBuilder {
+        // @@protoc_insertion_point(builder_implements:lawnmower.C2S_InterestArea)
+        lawnmower.Message.C2S_InterestAreaOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return lawnmower.Message.internal_static_lawnmower_C2S_Heartbeat_descriptor;
+        return lawnmower.Message.internal_static_lawnmower_C2S_InterestArea_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return lawnmower.Message.internal_static_lawnmower_C2S_Heartbeat_fieldAccessorTable
+        return lawnmower.Message.internal_static_lawnmower_C2S_InterestArea_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                lawnmower.Message.C2S_Heartbeat.class, lawnmower.Message.C2S_Heartbeat.Builder.class);
+                lawnmower.Message.C2S_InterestArea.class, lawnmower.Message.C2S_InterestArea.Builder.class);
       }
 
-      // Construct using lawnmower.Message.C2S_Heartbeat.newBuilder()
+      // Construct using lawnmower.Message.C2S_InterestArea.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -6008,7 +6678,13 @@ public final class Message {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        timestamp_ = 0L;
+        minX_ = 0F;
+
+        minY_ = 0F;
+
+        maxX_ = 0F;
+
+        maxY_ = 0F;
 
         return this;
       }
@@ -6016,17 +6692,17 @@ public final class Message {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return lawnmower.Message.internal_static_lawnmower_C2S_Heartbeat_descriptor;
+        return lawnmower.Message.internal_static_lawnmower_C2S_InterestArea_descriptor;
       }
 
       @java.lang.Override
-      public lawnmower.Message.C2S_Heartbeat getDefaultInstanceForType() {
-        return lawnmower.Message.C2S_Heartbeat.getDefaultInstance();
+      public lawnmower.Message.C2S_InterestArea getDefaultInstanceForType() {
+        return lawnmower.Message.C2S_InterestArea.getDefaultInstance();
       }
 
       @java.lang.Override
-      public lawnmower.Message.C2S_Heartbeat build() {
-        lawnmower.Message.C2S_Heartbeat result = buildPartial();
+      public lawnmower.Message.C2S_InterestArea build() {
+        lawnmower.Message.C2S_InterestArea result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -6034,9 +6710,12 @@ public final class Message {
       }
 
       @java.lang.Override
-      public lawnmower.Message.C2S_Heartbeat buildPartial() {
-        lawnmower.Message.C2S_Heartbeat result = new lawnmower.Message.C2S_Heartbeat(this);
-        result.timestamp_ = timestamp_;
+      public lawnmower.Message.C2S_InterestArea buildPartial() {
+        lawnmower.Message.C2S_InterestArea result = new lawnmower.Message.C2S_InterestArea(this);
+        result.minX_ = minX_;
+        result.minY_ = minY_;
+        result.maxX_ = maxX_;
+        result.maxY_ = maxY_;
         onBuilt();
         return result;
       }
@@ -6075,18 +6754,27 @@ public final class Message {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof lawnmower.Message.C2S_Heartbeat) {
-          return mergeFrom((lawnmower.Message.C2S_Heartbeat)other);
+        if (other instanceof lawnmower.Message.C2S_InterestArea) {
+          return mergeFrom((lawnmower.Message.C2S_InterestArea)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(lawnmower.Message.C2S_Heartbeat other) {
-        if (other == lawnmower.Message.C2S_Heartbeat.getDefaultInstance()) return this;
-        if (other.getTimestamp() != 0L) {
-          setTimestamp(other.getTimestamp());
+      public Builder mergeFrom(lawnmower.Message.C2S_InterestArea other) {
+        if (other == lawnmower.Message.C2S_InterestArea.getDefaultInstance()) return this;
+        if (other.getMinX() != 0F) {
+          setMinX(other.getMinX());
+        }
+        if (other.getMinY() != 0F) {
+          setMinY(other.getMinY());
+        }
+        if (other.getMaxX() != 0F) {
+          setMaxX(other.getMaxX());
+        }
+        if (other.getMaxY() != 0F) {
+          setMaxY(other.getMaxY());
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -6103,11 +6791,11 @@ public final class Message {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        lawnmower.Message.C2S_Heartbeat parsedMessage = null;
+        lawnmower.Message.C2S_InterestArea parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (lawnmower.Message.C2S_Heartbeat) e.getUnfinishedMessage();
+          parsedMessage = (lawnmower.Message.C2S_InterestArea) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -6117,45 +6805,126 @@ public final class Message {
         return this;
       }
 
-      private long timestamp_ ;
+      private float minX_ ;
       /**
-       * <pre>
-       * 时间戳
-       * </pre>
-       *
-       * <code>uint64 timestamp = 1;</code>
-       * @return The timestamp.
+       * <code>float min_x = 1;</code>
+       * @return The minX.
        */
       @java.lang.Override
-      public long getTimestamp() {
-        return timestamp_;
+      public float getMinX() {
+        return minX_;
       }
       /**
-       * <pre>
-       * 时间戳
-       * </pre>
-       *
-       * <code>uint64 timestamp = 1;</code>
-       * @param value The timestamp to set.
+       * <code>float min_x = 1;</code>
+       * @param value The minX to set.
        * @return This builder for chaining.
        */
-      public Builder setTimestamp(long value) {
+      public Builder setMinX(float value) {
         
-        timestamp_ = value;
+        minX_ = value;
         onChanged();
         return this;
       }
       /**
-       * <pre>
-       * 时间戳
-       * </pre>
-       *
-       * <code>uint64 timestamp = 1;</code>
+       * <code>float min_x = 1;</code>
        * @return This builder for chaining.
        */
-      public Builder clearTimestamp() {
+      public Builder clearMinX() {
         
-        timestamp_ = 0L;
+        minX_ = 0F;
+        onChanged();
+        return this;
+      }
+
+      private float minY_ ;
+      /**
+       * <code>float min_y = 2;</code>
+       * @return The minY.
+       */
+      @java.lang.Override
+      public float getMinY() {
+        return minY_;
+      }
+      /**
+       * <code>float min_y = 2;</code>
+       * @param value The minY to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMinY(float value) {
+        
+        minY_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>float min_y = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMinY() {
+        
+        minY_ = 0F;
+        onChanged();
+        return this;
+      }
+
+      private float maxX_ ;
+      /**
+       * <code>float max_x = 3;</code>
+       * @return The maxX.
+       */
+      @java.lang.Override
+      public float getMaxX() {
+        return maxX_;
+      }
+      /**
+       * <code>float max_x = 3;</code>
+       * @param value The maxX to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMaxX(float value) {
+        
+        maxX_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>float max_x = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMaxX() {
+        
+        maxX_ = 0F;
+        onChanged();
+        return this;
+      }
+
+      private float maxY_ ;
+      /**
+       * <code>float max_y = 4;</code>
+       * @return The maxY.
+       */
+      @java.lang.Override
+      public float getMaxY() {
+        return maxY_;
+      }
+      /**
+       * <code>float max_y = 4;</code>
+       * @param value The maxY to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMaxY(float value) {
+        
+        maxY_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>float max_y = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMaxY() {
+        
+        maxY_ = 0F;
         onChanged();
         return this;
       }
@@ -6172,48 +6941,48 @@ public final class Message {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:lawnmower.C2S_Heartbeat)
+      // @@protoc_insertion_point(builder_scope:lawnmower.C2S_InterestArea)
     }
 
-    // @@protoc_insertion_point(class_scope:lawnmower.C2S_Heartbeat)
-    private static final lawnmower.Message.C2S_Heartbeat DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:lawnmower.C2S_InterestArea)
+    private static final lawnmower.Message.C2S_InterestArea DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new lawnmower.Message.C2S_Heartbeat();
+      DEFAULT_INSTANCE = new lawnmower.Message.C2S_InterestArea();
     }
 
-    public static lawnmower.Message.C2S_Heartbeat getDefaultInstance() {
+    public static lawnmower.Message.C2S_InterestArea getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<C2S_Heartbeat>
-        PARSER = new com.google.protobuf.AbstractParser<C2S_Heartbeat>() {
+    private static final com.google.protobuf.Parser<C2S_InterestArea>
+        PARSER = new com.google.protobuf.AbstractParser<C2S_InterestArea>() {
       @java.lang.Override
-      public C2S_Heartbeat parsePartialFrom(
+      public C2S_InterestArea parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new C2S_Heartbeat(input, extensionRegistry);
+        return new C2S_InterestArea(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<C2S_Heartbeat> parser() {
+    public static com.google.protobuf.Parser<C2S_InterestArea> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<C2S_Heartbeat> getParserForType() {
+    public com.google.protobuf.Parser<C2S_InterestArea> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public lawnmower.Message.C2S_Heartbeat getDefaultInstanceForType() {
+    public lawnmower.Message.C2S_InterestArea getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface S2C_HeartbeatOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:lawnmower.S2C_Heartbeat)
+  public interface C2S_HeartbeatOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:lawnmower.C2S_Heartbeat)
       com.google.protobuf.MessageOrBuilder {
 
     /**
@@ -6225,41 +6994,31 @@ public final class Message {
      * @return The timestamp.
      */
     long getTimestamp();
-
-    /**
-     * <pre>
-     * 在线玩家个数
-     * </pre>
-     *
-     * <code>uint32 online_players = 2;</code>
-     * @return The onlinePlayers.
-     */
-    int getOnlinePlayers();
   }
   /**
    * <pre>
-   * 服务器 -&gt; 客户端： 心跳消息
+   * 客户端 -&gt; 服务器： 心跳消息
    * </pre>
    *
-   * Protobuf type {@code lawnmower.S2C_Heartbeat}
+   * Protobuf type {@code lawnmower.C2S_Heartbeat}
    */
-  public static final class S2C_Heartbeat extends
+  public static final class C2S_Heartbeat extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:lawnmower.S2C_Heartbeat)
-      S2C_HeartbeatOrBuilder {
+      // @@protoc_insertion_point(message_implements:lawnmower.C2S_Heartbeat)
+      C2S_HeartbeatOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use S2C_Heartbeat.newBuilder() to construct.
-    private S2C_Heartbeat(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use C2S_Heartbeat.newBuilder() to construct.
+    private C2S_Heartbeat(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private S2C_Heartbeat() {
+    private C2S_Heartbeat() {
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new S2C_Heartbeat();
+      return new C2S_Heartbeat();
     }
 
     @java.lang.Override
@@ -6267,7 +7026,7 @@ public final class Message {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private S2C_Heartbeat(
+    private C2S_Heartbeat(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -6290,11 +7049,6 @@ public final class Message {
               timestamp_ = input.readUInt64();
               break;
             }
-            case 16: {
-
-              onlinePlayers_ = input.readUInt32();
-              break;
-            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -6318,15 +7072,15 @@ public final class Message {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return lawnmower.Message.internal_static_lawnmower_S2C_Heartbeat_descriptor;
+      return lawnmower.Message.internal_static_lawnmower_C2S_Heartbeat_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return lawnmower.Message.internal_static_lawnmower_S2C_Heartbeat_fieldAccessorTable
+      return lawnmower.Message.internal_static_lawnmower_C2S_Heartbeat_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              lawnmower.Message.S2C_Heartbeat.class, lawnmower.Message.S2C_Heartbeat.Builder.class);
+              lawnmower.Message.C2S_Heartbeat.class, lawnmower.Message.C2S_Heartbeat.Builder.class);
     }
 
     public static final int TIMESTAMP_FIELD_NUMBER = 1;
@@ -6344,21 +7098,6 @@ public final class Message {
       return timestamp_;
     }
 
-    public static final int ONLINE_PLAYERS_FIELD_NUMBER = 2;
-    private int onlinePlayers_;
-    /**
-     * <pre>
-     * 在线玩家个数
-     * </pre>
-     *
-     * <code>uint32 online_players = 2;</code>
-     * @return The onlinePlayers.
-     */
-    @java.lang.Override
-    public int getOnlinePlayers() {
-      return onlinePlayers_;
-    }
-
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -6376,9 +7115,6 @@ public final class Message {
       if (timestamp_ != 0L) {
         output.writeUInt64(1, timestamp_);
       }
-      if (onlinePlayers_ != 0) {
-        output.writeUInt32(2, onlinePlayers_);
-      }
       unknownFields.writeTo(output);
     }
 
@@ -6392,10 +7128,6 @@ public final class Message {
         size += com.google.protobuf.CodedOutputStream
           .computeUInt64Size(1, timestamp_);
       }
-      if (onlinePlayers_ != 0) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeUInt32Size(2, onlinePlayers_);
-      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -6406,15 +7138,13 @@ public final class Message {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof lawnmower.Message.S2C_Heartbeat)) {
+      if (!(obj instanceof lawnmower.Message.C2S_Heartbeat)) {
         return super.equals(obj);
       }
-      lawnmower.Message.S2C_Heartbeat other = (lawnmower.Message.S2C_Heartbeat) obj;
+      lawnmower.Message.C2S_Heartbeat other = (lawnmower.Message.C2S_Heartbeat) obj;
 
       if (getTimestamp()
           != other.getTimestamp()) return false;
-      if (getOnlinePlayers()
-          != other.getOnlinePlayers()) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -6429,76 +7159,74 @@ public final class Message {
       hash = (37 * hash) + TIMESTAMP_FIELD_NUMBER;
       hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
           getTimestamp());
-      hash = (37 * hash) + ONLINE_PLAYERS_FIELD_NUMBER;
-      hash = (53 * hash) + getOnlinePlayers();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static lawnmower.Message.S2C_Heartbeat parseFrom(
+    public static lawnmower.Message.C2S_Heartbeat parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static lawnmower.Message.S2C_Heartbeat parseFrom(
+    public static lawnmower.Message.C2S_Heartbeat parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static lawnmower.Message.S2C_Heartbeat parseFrom(
+    public static lawnmower.Message.C2S_Heartbeat parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static lawnmower.Message.S2C_Heartbeat parseFrom(
+    public static lawnmower.Message.C2S_Heartbeat parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static lawnmower.Message.S2C_Heartbeat parseFrom(byte[] data)
+    public static lawnmower.Message.C2S_Heartbeat parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static lawnmower.Message.S2C_Heartbeat parseFrom(
+    public static lawnmower.Message.C2S_Heartbeat parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static lawnmower.Message.S2C_Heartbeat parseFrom(java.io.InputStream input)
+    public static lawnmower.Message.C2S_Heartbeat parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static lawnmower.Message.S2C_Heartbeat parseFrom(
+    public static lawnmower.Message.C2S_Heartbeat parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static lawnmower.Message.S2C_Heartbeat parseDelimitedFrom(java.io.InputStream input)
+    public static lawnmower.Message.C2S_Heartbeat parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static lawnmower.Message.S2C_Heartbeat parseDelimitedFrom(
+    public static lawnmower.Message.C2S_Heartbeat parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static lawnmower.Message.S2C_Heartbeat parseFrom(
+    public static lawnmower.Message.C2S_Heartbeat parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static lawnmower.Message.S2C_Heartbeat parseFrom(
+    public static lawnmower.Message.C2S_Heartbeat parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -6511,7 +7239,7 @@ public final class Message {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(lawnmower.Message.S2C_Heartbeat prototype) {
+    public static Builder newBuilder(lawnmower.Message.C2S_Heartbeat prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -6528,29 +7256,29 @@ public final class Message {
     }
     /**
      * <pre>
-     * 服务器 -&gt; 客户端： 心跳消息
+     * 客户端 -&gt; 服务器： 心跳消息
      * </pre>
      *
-     * Protobuf type {@code lawnmower.S2C_Heartbeat}
+     * Protobuf type {@code lawnmower.C2S_Heartbeat}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:lawnmower.S2C_Heartbeat)
-        lawnmower.Message.S2C_HeartbeatOrBuilder {
+        // @@protoc_insertion_point(builder_implements:lawnmower.C2S_Heartbeat)
+        lawnmower.Message.C2S_HeartbeatOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return lawnmower.Message.internal_static_lawnmower_S2C_Heartbeat_descriptor;
+        return lawnmower.Message.internal_static_lawnmower_C2S_Heartbeat_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return lawnmower.Message.internal_static_lawnmower_S2C_Heartbeat_fieldAccessorTable
+        return lawnmower.Message.internal_static_lawnmower_C2S_Heartbeat_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                lawnmower.Message.S2C_Heartbeat.class, lawnmower.Message.S2C_Heartbeat.Builder.class);
+                lawnmower.Message.C2S_Heartbeat.class, lawnmower.Message.C2S_Heartbeat.Builder.class);
       }
 
-      // Construct using lawnmower.Message.S2C_Heartbeat.newBuilder()
+      // Construct using lawnmower.Message.C2S_Heartbeat.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -6570,25 +7298,23 @@ public final class Message {
         super.clear();
         timestamp_ = 0L;
 
-        onlinePlayers_ = 0;
-
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return lawnmower.Message.internal_static_lawnmower_S2C_Heartbeat_descriptor;
+        return lawnmower.Message.internal_static_lawnmower_C2S_Heartbeat_descriptor;
       }
 
       @java.lang.Override
-      public lawnmower.Message.S2C_Heartbeat getDefaultInstanceForType() {
-        return lawnmower.Message.S2C_Heartbeat.getDefaultInstance();
+      public lawnmower.Message.C2S_Heartbeat getDefaultInstanceForType() {
+        return lawnmower.Message.C2S_Heartbeat.getDefaultInstance();
       }
 
       @java.lang.Override
-      public lawnmower.Message.S2C_Heartbeat build() {
-        lawnmower.Message.S2C_Heartbeat result = buildPartial();
+      public lawnmower.Message.C2S_Heartbeat build() {
+        lawnmower.Message.C2S_Heartbeat result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -6596,10 +7322,9 @@ public final class Message {
       }
 
       @java.lang.Override
-      public lawnmower.Message.S2C_Heartbeat buildPartial() {
-        lawnmower.Message.S2C_Heartbeat result = new lawnmower.Message.S2C_Heartbeat(this);
+      public lawnmower.Message.C2S_Heartbeat buildPartial() {
+        lawnmower.Message.C2S_Heartbeat result = new lawnmower.Message.C2S_Heartbeat(this);
         result.timestamp_ = timestamp_;
-        result.onlinePlayers_ = onlinePlayers_;
         onBuilt();
         return result;
       }
@@ -6638,22 +7363,19 @@ public final class Message {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof lawnmower.Message.S2C_Heartbeat) {
-          return mergeFrom((lawnmower.Message.S2C_Heartbeat)other);
+        if (other instanceof lawnmower.Message.C2S_Heartbeat) {
+          return mergeFrom((lawnmower.Message.C2S_Heartbeat)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(lawnmower.Message.S2C_Heartbeat other) {
-        if (other == lawnmower.Message.S2C_Heartbeat.getDefaultInstance()) return this;
+      public Builder mergeFrom(lawnmower.Message.C2S_Heartbeat other) {
+        if (other == lawnmower.Message.C2S_Heartbeat.getDefaultInstance()) return this;
         if (other.getTimestamp() != 0L) {
           setTimestamp(other.getTimestamp());
         }
-        if (other.getOnlinePlayers() != 0) {
-          setOnlinePlayers(other.getOnlinePlayers());
-        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -6669,11 +7391,11 @@ public final class Message {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        lawnmower.Message.S2C_Heartbeat parsedMessage = null;
+        lawnmower.Message.C2S_Heartbeat parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (lawnmower.Message.S2C_Heartbeat) e.getUnfinishedMessage();
+          parsedMessage = (lawnmower.Message.C2S_Heartbeat) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -6725,49 +7447,6 @@ public final class Message {
         onChanged();
         return this;
       }
-
-      private int onlinePlayers_ ;
-      /**
-       * <pre>
-       * 在线玩家个数
-       * </pre>
-       *
-       * <code>uint32 online_players = 2;</code>
-       * @return The onlinePlayers.
-       */
-      @java.lang.Override
-      public int getOnlinePlayers() {
-        return onlinePlayers_;
-      }
-      /**
-       * <pre>
-       * 在线玩家个数
-       * </pre>
-       *
-       * <code>uint32 online_players = 2;</code>
-       * @param value The onlinePlayers to set.
-       * @return This builder for chaining.
-       */
-      public Builder setOnlinePlayers(int value) {
-        
-        onlinePlayers_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <pre>
-       * 在线玩家个数
-       * </pre>
-       *
-       * <code>uint32 online_players = 2;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearOnlinePlayers() {
-        
-        onlinePlayers_ = 0;
-        onChanged();
-        return this;
-      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -6781,135 +7460,94 @@ public final class Message {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:lawnmower.S2C_Heartbeat)
+      // @@protoc_insertion_point(builder_scope:lawnmower.C2S_Heartbeat)
     }
 
-    // @@protoc_insertion_point(class_scope:lawnmower.S2C_Heartbeat)
-    private static final lawnmower.Message.S2C_Heartbeat DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:lawnmower.C2S_Heartbeat)
+    private static final lawnmower.Message.C2S_Heartbeat DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new lawnmower.Message.S2C_Heartbeat();
+      DEFAULT_INSTANCE = new lawnmower.Message.C2S_Heartbeat();
     }
 
-    public static lawnmower.Message.S2C_Heartbeat getDefaultInstance() {
+    public static lawnmower.Message.C2S_Heartbeat getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<S2C_Heartbeat>
-        PARSER = new com.google.protobuf.AbstractParser<S2C_Heartbeat>() {
+    private static final com.google.protobuf.Parser<C2S_Heartbeat>
+        PARSER = new com.google.protobuf.AbstractParser<C2S_Heartbeat>() {
       @java.lang.Override
-      public S2C_Heartbeat parsePartialFrom(
+      public C2S_Heartbeat parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new S2C_Heartbeat(input, extensionRegistry);
+        return new C2S_Heartbeat(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<S2C_Heartbeat> parser() {
+    public static com.google.protobuf.Parser<C2S_Heartbeat> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<S2C_Heartbeat> getParserForType() {
+    public com.google.protobuf.Parser<C2S_Heartbeat> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public lawnmower.Message.S2C_Heartbeat getDefaultInstanceForType() {
+    public lawnmower.Message.C2S_Heartbeat getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface C2S_ReconnectRequestOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:lawnmower.C2S_ReconnectRequest)
+  public interface S2C_HeartbeatOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:lawnmower.S2C_Heartbeat)
       com.google.protobuf.MessageOrBuilder {
 
     /**
      * <pre>
-     * 玩家ID
-     * </pre>
-     *
-     * <code>uint32 player_id = 1;</code>
-     * @return The playerId.
-     */
-    int getPlayerId();
-
-    /**
-     * <pre>
-     * 房间ID
-     * </pre>
-     *
-     * <code>uint32 room_id = 2;</code>
-     * @return The roomId.
-     */
-    int getRoomId();
-
-    /**
-     * <pre>
-     * 会话令牌（可为空，由服务器回填）
-     * </pre>
-     *
-     * <code>string session_token = 3;</code>
-     * @return The sessionToken.
-     */
-    java.lang.String getSessionToken();
-    /**
-     * <pre>
-     * 会话令牌（可为空，由服务器回填）
-     * </pre>
-     *
-     * <code>string session_token = 3;</code>
-     * @return The bytes for sessionToken.
-     */
-    com.google.protobuf.ByteString
-        getSessionTokenBytes();
-
-    /**
-     * <pre>
-     * 客户端最后确认输入序号
+     * 时间戳
      * </pre>
      *
-     * <code>uint32 last_input_seq = 4;</code>
-     * @return The lastInputSeq.
+     * <code>uint64 timestamp = 1;</code>
+     * @return The timestamp.
      */
-    int getLastInputSeq();
+    long getTimestamp();
 
     /**
      * <pre>
-     * 客户端最后看到的服务器 tick
+     * 在线玩家个数
      * </pre>
      *
-     * <code>uint32 last_server_tick = 5;</code>
-     * @return The lastServerTick.
+     * <code>uint32 online_players = 2;</code>
+     * @return The onlinePlayers.
      */
-    int getLastServerTick();
+    int getOnlinePlayers();
   }
   /**
    * <pre>
-   * 客户端 -&gt; 服务器：重连请求
+   * 服务器 -&gt; 客户端： 心跳消息
    * </pre>
    *
-   * Protobuf type {@code lawnmower.C2S_ReconnectRequest}
+   * Protobuf type {@code lawnmower.S2C_Heartbeat}
    */
-  public static final class C2S_ReconnectRequest extends
+  public static final class S2C_Heartbeat extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:lawnmower.C2S_ReconnectRequest)
-      C2S_ReconnectRequestOrBuilder {
+      // @@protoc_insertion_point(message_implements:lawnmower.S2C_Heartbeat)
+      S2C_HeartbeatOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use C2S_ReconnectRequest.newBuilder() to construct.
-    private C2S_ReconnectRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use S2C_Heartbeat.newBuilder() to construct.
+    private S2C_Heartbeat(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private C2S_ReconnectRequest() {
-      sessionToken_ = "";
+    private S2C_Heartbeat() {
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new C2S_ReconnectRequest();
+      return new S2C_Heartbeat();
     }
 
     @java.lang.Override
@@ -6917,7 +7555,7 @@ public final class Message {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private C2S_ReconnectRequest(
+    private S2C_Heartbeat(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -6937,28 +7575,12 @@ public final class Message {
               break;
             case 8: {
 
-              playerId_ = input.readUInt32();
+              timestamp_ = input.readUInt64();
               break;
             }
             case 16: {
 
-              roomId_ = input.readUInt32();
-              break;
-            }
-            case 26: {
-              java.lang.String s = input.readStringRequireUtf8();
-
-              sessionToken_ = s;
-              break;
-            }
-            case 32: {
-
-              lastInputSeq_ = input.readUInt32();
-              break;
-            }
-            case 40: {
-
-              lastServerTick_ = input.readUInt32();
+              onlinePlayers_ = input.readUInt32();
               break;
             }
             default: {
@@ -6984,121 +7606,45 @@ public final class Message {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return lawnmower.Message.internal_static_lawnmower_C2S_ReconnectRequest_descriptor;
+      return lawnmower.Message.internal_static_lawnmower_S2C_Heartbeat_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return lawnmower.Message.internal_static_lawnmower_C2S_ReconnectRequest_fieldAccessorTable
+      return lawnmower.Message.internal_static_lawnmower_S2C_Heartbeat_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              lawnmower.Message.C2S_ReconnectRequest.class, lawnmower.Message.C2S_ReconnectRequest.Builder.class);
-    }
-
-    public static final int PLAYER_ID_FIELD_NUMBER = 1;
-    private int playerId_;
-    /**
-     * <pre>
-     * 玩家ID
-     * </pre>
-     *
-     * <code>uint32 player_id = 1;</code>
-     * @return The playerId.
-     */
-    @java.lang.Override
-    public int getPlayerId() {
-      return playerId_;
-    }
-
-    public static final int ROOM_ID_FIELD_NUMBER = 2;
-    private int roomId_;
-    /**
-     * <pre>
-     * 房间ID
-     * </pre>
-     *
-     * <code>uint32 room_id = 2;</code>
-     * @return The roomId.
-     */
-    @java.lang.Override
-    public int getRoomId() {
-      return roomId_;
-    }
-
-    public static final int SESSION_TOKEN_FIELD_NUMBER = 3;
-    private volatile java.lang.Object sessionToken_;
-    /**
-     * <pre>
-     * 会话令牌（可为空，由服务器回填）
-     * </pre>
-     *
-     * <code>string session_token = 3;</code>
-     * @return The sessionToken.
-     */
-    @java.lang.Override
-    public java.lang.String getSessionToken() {
-      java.lang.Object ref = sessionToken_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        sessionToken_ = s;
-        return s;
-      }
-    }
-    /**
-     * <pre>
-     * 会话令牌（可为空，由服务器回填）
-     * </pre>
-     *
-     * <code>string session_token = 3;</code>
-     * @return The bytes for sessionToken.
-     */
-    @java.lang.Override
-    public com.google.protobuf.ByteString
-        getSessionTokenBytes() {
-      java.lang.Object ref = sessionToken_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        sessionToken_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+              lawnmower.Message.S2C_Heartbeat.class, lawnmower.Message.S2C_Heartbeat.Builder.class);
     }
 
-    public static final int LAST_INPUT_SEQ_FIELD_NUMBER = 4;
-    private int lastInputSeq_;
+    public static final int TIMESTAMP_FIELD_NUMBER = 1;
+    private long timestamp_;
     /**
      * <pre>
-     * 客户端最后确认输入序号
+     * 时间戳
      * </pre>
      *
-     * <code>uint32 last_input_seq = 4;</code>
-     * @return The lastInputSeq.
+     * <code>uint64 timestamp = 1;</code>
+     * @return The timestamp.
      */
     @java.lang.Override
-    public int getLastInputSeq() {
-      return lastInputSeq_;
+    public long getTimestamp() {
+      return timestamp_;
     }
 
-    public static final int LAST_SERVER_TICK_FIELD_NUMBER = 5;
-    private int lastServerTick_;
+    public static final int ONLINE_PLAYERS_FIELD_NUMBER = 2;
+    private int onlinePlayers_;
     /**
      * <pre>
-     * 客户端最后看到的服务器 tick
+     * 在线玩家个数
      * </pre>
      *
-     * <code>uint32 last_server_tick = 5;</code>
-     * @return The lastServerTick.
+     * <code>uint32 online_players = 2;</code>
+     * @return The onlinePlayers.
      */
     @java.lang.Override
-    public int getLastServerTick() {
-      return lastServerTick_;
+    public int getOnlinePlayers() {
+      return onlinePlayers_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -7115,20 +7661,11 @@ public final class Message {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (playerId_ != 0) {
-        output.writeUInt32(1, playerId_);
-      }
-      if (roomId_ != 0) {
-        output.writeUInt32(2, roomId_);
-      }
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(sessionToken_)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, sessionToken_);
-      }
-      if (lastInputSeq_ != 0) {
-        output.writeUInt32(4, lastInputSeq_);
+      if (timestamp_ != 0L) {
+        output.writeUInt64(1, timestamp_);
       }
-      if (lastServerTick_ != 0) {
-        output.writeUInt32(5, lastServerTick_);
+      if (onlinePlayers_ != 0) {
+        output.writeUInt32(2, onlinePlayers_);
       }
       unknownFields.writeTo(output);
     }
@@ -7139,24 +7676,13 @@ public final class Message {
       if (size != -1) return size;
 
       size = 0;
-      if (playerId_ != 0) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeUInt32Size(1, playerId_);
-      }
-      if (roomId_ != 0) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeUInt32Size(2, roomId_);
-      }
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(sessionToken_)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, sessionToken_);
-      }
-      if (lastInputSeq_ != 0) {
+      if (timestamp_ != 0L) {
         size += com.google.protobuf.CodedOutputStream
-          .computeUInt32Size(4, lastInputSeq_);
+          .computeUInt64Size(1, timestamp_);
       }
-      if (lastServerTick_ != 0) {
+      if (onlinePlayers_ != 0) {
         size += com.google.protobuf.CodedOutputStream
-          .computeUInt32Size(5, lastServerTick_);
+          .computeUInt32Size(2, onlinePlayers_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -7168,21 +7694,15 @@ public final class Message {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof lawnmower.Message.C2S_ReconnectRequest)) {
+      if (!(obj instanceof lawnmower.Message.S2C_Heartbeat)) {
         return super.equals(obj);
       }
-      lawnmower.Message.C2S_ReconnectRequest other = (lawnmower.Message.C2S_ReconnectRequest) obj;
+      lawnmower.Message.S2C_Heartbeat other = (lawnmower.Message.S2C_Heartbeat) obj;
 
-      if (getPlayerId()
-          != other.getPlayerId()) return false;
-      if (getRoomId()
-          != other.getRoomId()) return false;
-      if (!getSessionToken()
-          .equals(other.getSessionToken())) return false;
-      if (getLastInputSeq()
-          != other.getLastInputSeq()) return false;
-      if (getLastServerTick()
-          != other.getLastServerTick()) return false;
+      if (getTimestamp()
+          != other.getTimestamp()) return false;
+      if (getOnlinePlayers()
+          != other.getOnlinePlayers()) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -7194,84 +7714,79 @@ public final class Message {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + PLAYER_ID_FIELD_NUMBER;
-      hash = (53 * hash) + getPlayerId();
-      hash = (37 * hash) + ROOM_ID_FIELD_NUMBER;
-      hash = (53 * hash) + getRoomId();
-      hash = (37 * hash) + SESSION_TOKEN_FIELD_NUMBER;
-      hash = (53 * hash) + getSessionToken().hashCode();
-      hash = (37 * hash) + LAST_INPUT_SEQ_FIELD_NUMBER;
-      hash = (53 * hash) + getLastInputSeq();
-      hash = (37 * hash) + LAST_SERVER_TICK_FIELD_NUMBER;
-      hash = (53 * hash) + getLastServerTick();
+      hash = (37 * hash) + TIMESTAMP_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getTimestamp());
+      hash = (37 * hash) + ONLINE_PLAYERS_FIELD_NUMBER;
+      hash = (53 * hash) + getOnlinePlayers();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static lawnmower.Message.C2S_ReconnectRequest parseFrom(
+    public static lawnmower.Message.S2C_Heartbeat parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static lawnmower.Message.C2S_ReconnectRequest parseFrom(
+    public static lawnmower.Message.S2C_Heartbeat parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static lawnmower.Message.C2S_ReconnectRequest parseFrom(
+    public static lawnmower.Message.S2C_Heartbeat parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static lawnmower.Message.C2S_ReconnectRequest parseFrom(
+    public static lawnmower.Message.S2C_Heartbeat parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static lawnmower.Message.C2S_ReconnectRequest parseFrom(byte[] data)
+    public static lawnmower.Message.S2C_Heartbeat parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static lawnmower.Message.C2S_ReconnectRequest parseFrom(
+    public static lawnmower.Message.S2C_Heartbeat parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static lawnmower.Message.C2S_ReconnectRequest parseFrom(java.io.InputStream input)
+    public static lawnmower.Message.S2C_Heartbeat parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static lawnmower.Message.C2S_ReconnectRequest parseFrom(
+    public static lawnmower.Message.S2C_Heartbeat parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static lawnmower.Message.C2S_ReconnectRequest parseDelimitedFrom(java.io.InputStream input)
+    public static lawnmower.Message.S2C_Heartbeat parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static lawnmower.Message.C2S_ReconnectRequest parseDelimitedFrom(
+    public static lawnmower.Message.S2C_Heartbeat parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static lawnmower.Message.C2S_ReconnectRequest parseFrom(
+    public static lawnmower.Message.S2C_Heartbeat parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static lawnmower.Message.C2S_ReconnectRequest parseFrom(
+    public static lawnmower.Message.S2C_Heartbeat parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -7284,7 +7799,7 @@ public final class Message {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(lawnmower.Message.C2S_ReconnectRequest prototype) {
+    public static Builder newBuilder(lawnmower.Message.S2C_Heartbeat prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -7301,29 +7816,29 @@ public final class Message {
     }
     /**
      * <pre>
-     * 客户端 -&gt; 服务器：重连请求
+     * 服务器 -&gt; 客户端： 心跳消息
      * </pre>
      *
-     * Protobuf type {@code lawnmower.C2S_ReconnectRequest}
+     * Protobuf type {@code lawnmower.S2C_Heartbeat}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:lawnmower.C2S_ReconnectRequest)
-        lawnmower.Message.C2S_ReconnectRequestOrBuilder {
+        // @@protoc_insertion_point(builder_implements:lawnmower.S2C_Heartbeat)
+        lawnmower.Message.S2C_HeartbeatOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return lawnmower.Message.internal_static_lawnmower_C2S_ReconnectRequest_descriptor;
+        return lawnmower.Message.internal_static_lawnmower_S2C_Heartbeat_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return lawnmower.Message.internal_static_lawnmower_C2S_ReconnectRequest_fieldAccessorTable
+        return lawnmower.Message.internal_static_lawnmower_S2C_Heartbeat_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                lawnmower.Message.C2S_ReconnectRequest.class, lawnmower.Message.C2S_ReconnectRequest.Builder.class);
+                lawnmower.Message.S2C_Heartbeat.class, lawnmower.Message.S2C_Heartbeat.Builder.class);
       }
 
-      // Construct using lawnmower.Message.C2S_ReconnectRequest.newBuilder()
+      // Construct using lawnmower.Message.S2C_Heartbeat.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -7341,33 +7856,27 @@ public final class Message {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        playerId_ = 0;
+        timestamp_ = 0L;
 
-        roomId_ = 0;
+        onlinePlayers_ = 0;
 
-        sessionToken_ = "";
-
-        lastInputSeq_ = 0;
-
-        lastServerTick_ = 0;
-
-        return this;
-      }
+        return this;
+      }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return lawnmower.Message.internal_static_lawnmower_C2S_ReconnectRequest_descriptor;
+        return lawnmower.Message.internal_static_lawnmower_S2C_Heartbeat_descriptor;
       }
 
       @java.lang.Override
-      public lawnmower.Message.C2S_ReconnectRequest getDefaultInstanceForType() {
-        return lawnmower.Message.C2S_ReconnectRequest.getDefaultInstance();
+      public lawnmower.Message.S2C_Heartbeat getDefaultInstanceForType() {
+        return lawnmower.Message.S2C_Heartbeat.getDefaultInstance();
       }
 
       @java.lang.Override
-      public lawnmower.Message.C2S_ReconnectRequest build() {
-        lawnmower.Message.C2S_ReconnectRequest result = buildPartial();
+      public lawnmower.Message.S2C_Heartbeat build() {
+        lawnmower.Message.S2C_Heartbeat result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -7375,13 +7884,10 @@ public final class Message {
       }
 
       @java.lang.Override
-      public lawnmower.Message.C2S_ReconnectRequest buildPartial() {
-        lawnmower.Message.C2S_ReconnectRequest result = new lawnmower.Message.C2S_ReconnectRequest(this);
-        result.playerId_ = playerId_;
-        result.roomId_ = roomId_;
-        result.sessionToken_ = sessionToken_;
-        result.lastInputSeq_ = lastInputSeq_;
-        result.lastServerTick_ = lastServerTick_;
+      public lawnmower.Message.S2C_Heartbeat buildPartial() {
+        lawnmower.Message.S2C_Heartbeat result = new lawnmower.Message.S2C_Heartbeat(this);
+        result.timestamp_ = timestamp_;
+        result.onlinePlayers_ = onlinePlayers_;
         onBuilt();
         return result;
       }
@@ -7420,31 +7926,21 @@ public final class Message {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof lawnmower.Message.C2S_ReconnectRequest) {
-          return mergeFrom((lawnmower.Message.C2S_ReconnectRequest)other);
+        if (other instanceof lawnmower.Message.S2C_Heartbeat) {
+          return mergeFrom((lawnmower.Message.S2C_Heartbeat)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(lawnmower.Message.C2S_ReconnectRequest other) {
-        if (other == lawnmower.Message.C2S_ReconnectRequest.getDefaultInstance()) return this;
-        if (other.getPlayerId() != 0) {
-          setPlayerId(other.getPlayerId());
-        }
-        if (other.getRoomId() != 0) {
-          setRoomId(other.getRoomId());
-        }
-        if (!other.getSessionToken().isEmpty()) {
-          sessionToken_ = other.sessionToken_;
-          onChanged();
-        }
-        if (other.getLastInputSeq() != 0) {
-          setLastInputSeq(other.getLastInputSeq());
+      public Builder mergeFrom(lawnmower.Message.S2C_Heartbeat other) {
+        if (other == lawnmower.Message.S2C_Heartbeat.getDefaultInstance()) return this;
+        if (other.getTimestamp() != 0L) {
+          setTimestamp(other.getTimestamp());
         }
-        if (other.getLastServerTick() != 0) {
-          setLastServerTick(other.getLastServerTick());
+        if (other.getOnlinePlayers() != 0) {
+          setOnlinePlayers(other.getOnlinePlayers());
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -7461,11 +7957,11 @@ public final class Message {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        lawnmower.Message.C2S_ReconnectRequest parsedMessage = null;
+        lawnmower.Message.S2C_Heartbeat parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (lawnmower.Message.C2S_ReconnectRequest) e.getUnfinishedMessage();
+          parsedMessage = (lawnmower.Message.S2C_Heartbeat) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -7475,270 +7971,88 @@ public final class Message {
         return this;
       }
 
-      private int playerId_ ;
-      /**
-       * <pre>
-       * 玩家ID
-       * </pre>
-       *
-       * <code>uint32 player_id = 1;</code>
-       * @return The playerId.
-       */
-      @java.lang.Override
-      public int getPlayerId() {
-        return playerId_;
-      }
-      /**
-       * <pre>
-       * 玩家ID
-       * </pre>
-       *
-       * <code>uint32 player_id = 1;</code>
-       * @param value The playerId to set.
-       * @return This builder for chaining.
-       */
-      public Builder setPlayerId(int value) {
-        
-        playerId_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <pre>
-       * 玩家ID
-       * </pre>
-       *
-       * <code>uint32 player_id = 1;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearPlayerId() {
-        
-        playerId_ = 0;
-        onChanged();
-        return this;
-      }
-
-      private int roomId_ ;
-      /**
-       * <pre>
-       * 房间ID
-       * </pre>
-       *
-       * <code>uint32 room_id = 2;</code>
-       * @return The roomId.
-       */
-      @java.lang.Override
-      public int getRoomId() {
-        return roomId_;
-      }
-      /**
-       * <pre>
-       * 房间ID
-       * </pre>
-       *
-       * <code>uint32 room_id = 2;</code>
-       * @param value The roomId to set.
-       * @return This builder for chaining.
-       */
-      public Builder setRoomId(int value) {
-        
-        roomId_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <pre>
-       * 房间ID
-       * </pre>
-       *
-       * <code>uint32 room_id = 2;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearRoomId() {
-        
-        roomId_ = 0;
-        onChanged();
-        return this;
-      }
-
-      private java.lang.Object sessionToken_ = "";
-      /**
-       * <pre>
-       * 会话令牌（可为空，由服务器回填）
-       * </pre>
-       *
-       * <code>string session_token = 3;</code>
-       * @return The sessionToken.
-       */
-      public java.lang.String getSessionToken() {
-        java.lang.Object ref = sessionToken_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          sessionToken_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <pre>
-       * 会话令牌（可为空，由服务器回填）
-       * </pre>
-       *
-       * <code>string session_token = 3;</code>
-       * @return The bytes for sessionToken.
-       */
-      public com.google.protobuf.ByteString
-          getSessionTokenBytes() {
-        java.lang.Object ref = sessionToken_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          sessionToken_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <pre>
-       * 会话令牌（可为空，由服务器回填）
-       * </pre>
-       *
-       * <code>string session_token = 3;</code>
-       * @param value The sessionToken to set.
-       * @return This builder for chaining.
-       */
-      public Builder setSessionToken(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        sessionToken_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <pre>
-       * 会话令牌（可为空，由服务器回填）
-       * </pre>
-       *
-       * <code>string session_token = 3;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearSessionToken() {
-        
-        sessionToken_ = getDefaultInstance().getSessionToken();
-        onChanged();
-        return this;
-      }
-      /**
-       * <pre>
-       * 会话令牌（可为空，由服务器回填）
-       * </pre>
-       *
-       * <code>string session_token = 3;</code>
-       * @param value The bytes for sessionToken to set.
-       * @return This builder for chaining.
-       */
-      public Builder setSessionTokenBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-        
-        sessionToken_ = value;
-        onChanged();
-        return this;
-      }
-
-      private int lastInputSeq_ ;
+      private long timestamp_ ;
       /**
        * <pre>
-       * 客户端最后确认输入序号
+       * 时间戳
        * </pre>
        *
-       * <code>uint32 last_input_seq = 4;</code>
-       * @return The lastInputSeq.
+       * <code>uint64 timestamp = 1;</code>
+       * @return The timestamp.
        */
       @java.lang.Override
-      public int getLastInputSeq() {
-        return lastInputSeq_;
+      public long getTimestamp() {
+        return timestamp_;
       }
       /**
        * <pre>
-       * 客户端最后确认输入序号
+       * 时间戳
        * </pre>
        *
-       * <code>uint32 last_input_seq = 4;</code>
-       * @param value The lastInputSeq to set.
+       * <code>uint64 timestamp = 1;</code>
+       * @param value The timestamp to set.
        * @return This builder for chaining.
        */
-      public Builder setLastInputSeq(int value) {
+      public Builder setTimestamp(long value) {
         
-        lastInputSeq_ = value;
+        timestamp_ = value;
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * 客户端最后确认输入序号
+       * 时间戳
        * </pre>
        *
-       * <code>uint32 last_input_seq = 4;</code>
+       * <code>uint64 timestamp = 1;</code>
        * @return This builder for chaining.
        */
-      public Builder clearLastInputSeq() {
+      public Builder clearTimestamp() {
         
-        lastInputSeq_ = 0;
+        timestamp_ = 0L;
         onChanged();
         return this;
       }
 
-      private int lastServerTick_ ;
+      private int onlinePlayers_ ;
       /**
        * <pre>
-       * 客户端最后看到的服务器 tick
+       * 在线玩家个数
        * </pre>
        *
-       * <code>uint32 last_server_tick = 5;</code>
-       * @return The lastServerTick.
+       * <code>uint32 online_players = 2;</code>
+       * @return The onlinePlayers.
        */
       @java.lang.Override
-      public int getLastServerTick() {
-        return lastServerTick_;
+      public int getOnlinePlayers() {
+        return onlinePlayers_;
       }
       /**
        * <pre>
-       * 客户端最后看到的服务器 tick
+       * 在线玩家个数
        * </pre>
        *
-       * <code>uint32 last_server_tick = 5;</code>
-       * @param value The lastServerTick to set.
+       * <code>uint32 online_players = 2;</code>
+       * @param value The onlinePlayers to set.
        * @return This builder for chaining.
        */
-      public Builder setLastServerTick(int value) {
+      public Builder setOnlinePlayers(int value) {
         
-        lastServerTick_ = value;
+        onlinePlayers_ = value;
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * 客户端最后看到的服务器 tick
+       * 在线玩家个数
        * </pre>
        *
-       * <code>uint32 last_server_tick = 5;</code>
+       * <code>uint32 online_players = 2;</code>
        * @return This builder for chaining.
        */
-      public Builder clearLastServerTick() {
+      public Builder clearOnlinePlayers() {
         
-        lastServerTick_ = 0;
+        onlinePlayers_ = 0;
         onChanged();
         return this;
       }
@@ -7755,86 +8069,56 @@ public final class Message {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:lawnmower.C2S_ReconnectRequest)
+      // @@protoc_insertion_point(builder_scope:lawnmower.S2C_Heartbeat)
     }
 
-    // @@protoc_insertion_point(class_scope:lawnmower.C2S_ReconnectRequest)
-    private static final lawnmower.Message.C2S_ReconnectRequest DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:lawnmower.S2C_Heartbeat)
+    private static final lawnmower.Message.S2C_Heartbeat DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new lawnmower.Message.C2S_ReconnectRequest();
+      DEFAULT_INSTANCE = new lawnmower.Message.S2C_Heartbeat();
     }
 
-    public static lawnmower.Message.C2S_ReconnectRequest getDefaultInstance() {
+    public static lawnmower.Message.S2C_Heartbeat getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<C2S_ReconnectRequest>
-        PARSER = new com.google.protobuf.AbstractParser<C2S_ReconnectRequest>() {
+    private static final com.google.protobuf.Parser<S2C_Heartbeat>
+        PARSER = new com.google.protobuf.AbstractParser<S2C_Heartbeat>() {
       @java.lang.Override
-      public C2S_ReconnectRequest parsePartialFrom(
+      public S2C_Heartbeat parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new C2S_ReconnectRequest(input, extensionRegistry);
+        return new S2C_Heartbeat(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<C2S_ReconnectRequest> parser() {
+    public static com.google.protobuf.Parser<S2C_Heartbeat> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<C2S_ReconnectRequest> getParserForType() {
+    public com.google.protobuf.Parser<S2C_Heartbeat> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public lawnmower.Message.C2S_ReconnectRequest getDefaultInstanceForType() {
+    public lawnmower.Message.S2C_Heartbeat getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface S2C_ReconnectAckOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:lawnmower.S2C_ReconnectAck)
+  public interface C2S_ReconnectRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:lawnmower.C2S_ReconnectRequest)
       com.google.protobuf.MessageOrBuilder {
 
-    /**
-     * <pre>
-     * 是否成功
-     * </pre>
-     *
-     * <code>bool success = 1;</code>
-     * @return The success.
-     */
-    boolean getSuccess();
-
-    /**
-     * <pre>
-     * 结果说明
-     * </pre>
-     *
-     * <code>string message = 2;</code>
-     * @return The message.
-     */
-    java.lang.String getMessage();
-    /**
-     * <pre>
-     * 结果说明
-     * </pre>
-     *
-     * <code>string message = 2;</code>
-     * @return The bytes for message.
-     */
-    com.google.protobuf.ByteString
-        getMessageBytes();
-
     /**
      * <pre>
      * 玩家ID
      * </pre>
      *
-     * <code>uint32 player_id = 3;</code>
+     * <code>uint32 player_id = 1;</code>
      * @return The playerId.
      */
     int getPlayerId();
@@ -7844,79 +8128,78 @@ public final class Message {
      * 房间ID
      * </pre>
      *
-     * <code>uint32 room_id = 4;</code>
+     * <code>uint32 room_id = 2;</code>
      * @return The roomId.
      */
     int getRoomId();
 
     /**
      * <pre>
-     * 服务器当前 tick
+     * 会话令牌（可为空，由服务器回填）
      * </pre>
      *
-     * <code>uint32 server_tick = 5;</code>
-     * @return The serverTick.
+     * <code>string session_token = 3;</code>
+     * @return The sessionToken.
      */
-    int getServerTick();
-
+    java.lang.String getSessionToken();
     /**
      * <pre>
-     * 房间是否处于游戏中
+     * 会话令牌（可为空，由服务器回填）
      * </pre>
      *
-     * <code>bool is_playing = 6;</code>
-     * @return The isPlaying.
+     * <code>string session_token = 3;</code>
+     * @return The bytes for sessionToken.
      */
-    boolean getIsPlaying();
+    com.google.protobuf.ByteString
+        getSessionTokenBytes();
 
     /**
      * <pre>
-     * 游戏是否暂停（升级流程）
+     * 客户端最后确认输入序号
      * </pre>
      *
-     * <code>bool is_paused = 7;</code>
-     * @return The isPaused.
+     * <code>uint32 last_input_seq = 4;</code>
+     * @return The lastInputSeq.
      */
-    boolean getIsPaused();
+    int getLastInputSeq();
 
     /**
      * <pre>
-     * 会话令牌（可选刷新）
+     * 客户端最后看到的服务器 tick
      * </pre>
      *
-     * <code>string session_token = 8;</code>
-     * @return The sessionToken.
+     * <code>uint32 last_server_tick = 5;</code>
+     * @return The lastServerTick.
      */
-    java.lang.String getSessionToken();
+    int getLastServerTick();
+
     /**
      * <pre>
-     * 会话令牌（可选刷新）
+     * 客户端能力位，见 ClientCapability
      * </pre>
      *
-     * <code>string session_token = 8;</code>
-     * @return The bytes for sessionToken.
+     * <code>uint32 capabilities = 6;</code>
+     * @return The capabilities.
      */
-    com.google.protobuf.ByteString
-        getSessionTokenBytes();
+    int getCapabilities();
   }
   /**
    * <pre>
-   * 服务器 -&gt; 客户端：重连确认
+   * 客户端 -&gt; 服务器：重连请求
    * </pre>
    *
-   * Protobuf type {@code lawnmower.S2C_ReconnectAck}
+   * Protobuf type {@code lawnmower.C2S_ReconnectRequest}
    */
-  public static final class S2C_ReconnectAck extends
+  public static final class C2S_ReconnectRequest extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:lawnmower.S2C_ReconnectAck)
-      S2C_ReconnectAckOrBuilder {
+      // @@protoc_insertion_point(message_implements:lawnmower.C2S_ReconnectRequest)
+      C2S_ReconnectRequestOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use S2C_ReconnectAck.newBuilder() to construct.
-    private S2C_ReconnectAck(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use C2S_ReconnectRequest.newBuilder() to construct.
+    private C2S_ReconnectRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private S2C_ReconnectAck() {
-      message_ = "";
+    private C2S_ReconnectRequest() {
       sessionToken_ = "";
     }
 
@@ -7924,7 +8207,7 @@ public final class Message {
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new S2C_ReconnectAck();
+      return new C2S_ReconnectRequest();
     }
 
     @java.lang.Override
@@ -7932,7 +8215,7 @@ public final class Message {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private S2C_ReconnectAck(
+    private C2S_ReconnectRequest(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -7952,44 +8235,33 @@ public final class Message {
               break;
             case 8: {
 
-              success_ = input.readBool();
+              playerId_ = input.readUInt32();
               break;
             }
-            case 18: {
-              java.lang.String s = input.readStringRequireUtf8();
+            case 16: {
 
-              message_ = s;
+              roomId_ = input.readUInt32();
               break;
             }
-            case 24: {
+            case 26: {
+              java.lang.String s = input.readStringRequireUtf8();
 
-              playerId_ = input.readUInt32();
+              sessionToken_ = s;
               break;
             }
             case 32: {
 
-              roomId_ = input.readUInt32();
+              lastInputSeq_ = input.readUInt32();
               break;
             }
             case 40: {
 
-              serverTick_ = input.readUInt32();
+              lastServerTick_ = input.readUInt32();
               break;
             }
             case 48: {
 
-              isPlaying_ = input.readBool();
-              break;
-            }
-            case 56: {
-
-              isPaused_ = input.readBool();
-              break;
-            }
-            case 66: {
-              java.lang.String s = input.readStringRequireUtf8();
-
-              sessionToken_ = s;
+              capabilities_ = input.readUInt32();
               break;
             }
             default: {
@@ -8015,197 +8287,136 @@ public final class Message {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return lawnmower.Message.internal_static_lawnmower_S2C_ReconnectAck_descriptor;
+      return lawnmower.Message.internal_static_lawnmower_C2S_ReconnectRequest_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return lawnmower.Message.internal_static_lawnmower_S2C_ReconnectAck_fieldAccessorTable
+      return lawnmower.Message.internal_static_lawnmower_C2S_ReconnectRequest_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              lawnmower.Message.S2C_ReconnectAck.class, lawnmower.Message.S2C_ReconnectAck.Builder.class);
+              lawnmower.Message.C2S_ReconnectRequest.class, lawnmower.Message.C2S_ReconnectRequest.Builder.class);
     }
 
-    public static final int SUCCESS_FIELD_NUMBER = 1;
-    private boolean success_;
+    public static final int PLAYER_ID_FIELD_NUMBER = 1;
+    private int playerId_;
     /**
      * <pre>
-     * 是否成功
+     * 玩家ID
      * </pre>
      *
-     * <code>bool success = 1;</code>
-     * @return The success.
+     * <code>uint32 player_id = 1;</code>
+     * @return The playerId.
      */
     @java.lang.Override
-    public boolean getSuccess() {
-      return success_;
+    public int getPlayerId() {
+      return playerId_;
     }
 
-    public static final int MESSAGE_FIELD_NUMBER = 2;
-    private volatile java.lang.Object message_;
+    public static final int ROOM_ID_FIELD_NUMBER = 2;
+    private int roomId_;
     /**
      * <pre>
-     * 结果说明
+     * 房间ID
      * </pre>
      *
-     * <code>string message = 2;</code>
-     * @return The message.
+     * <code>uint32 room_id = 2;</code>
+     * @return The roomId.
      */
     @java.lang.Override
-    public java.lang.String getMessage() {
-      java.lang.Object ref = message_;
+    public int getRoomId() {
+      return roomId_;
+    }
+
+    public static final int SESSION_TOKEN_FIELD_NUMBER = 3;
+    private volatile java.lang.Object sessionToken_;
+    /**
+     * <pre>
+     * 会话令牌（可为空，由服务器回填）
+     * </pre>
+     *
+     * <code>string session_token = 3;</code>
+     * @return The sessionToken.
+     */
+    @java.lang.Override
+    public java.lang.String getSessionToken() {
+      java.lang.Object ref = sessionToken_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        message_ = s;
+        sessionToken_ = s;
         return s;
       }
     }
     /**
      * <pre>
-     * 结果说明
+     * 会话令牌（可为空，由服务器回填）
      * </pre>
      *
-     * <code>string message = 2;</code>
-     * @return The bytes for message.
+     * <code>string session_token = 3;</code>
+     * @return The bytes for sessionToken.
      */
     @java.lang.Override
     public com.google.protobuf.ByteString
-        getMessageBytes() {
-      java.lang.Object ref = message_;
+        getSessionTokenBytes() {
+      java.lang.Object ref = sessionToken_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        message_ = b;
+        sessionToken_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
-    public static final int PLAYER_ID_FIELD_NUMBER = 3;
-    private int playerId_;
-    /**
-     * <pre>
-     * 玩家ID
-     * </pre>
-     *
-     * <code>uint32 player_id = 3;</code>
-     * @return The playerId.
-     */
-    @java.lang.Override
-    public int getPlayerId() {
-      return playerId_;
-    }
-
-    public static final int ROOM_ID_FIELD_NUMBER = 4;
-    private int roomId_;
-    /**
-     * <pre>
-     * 房间ID
-     * </pre>
-     *
-     * <code>uint32 room_id = 4;</code>
-     * @return The roomId.
-     */
-    @java.lang.Override
-    public int getRoomId() {
-      return roomId_;
-    }
-
-    public static final int SERVER_TICK_FIELD_NUMBER = 5;
-    private int serverTick_;
-    /**
-     * <pre>
-     * 服务器当前 tick
-     * </pre>
-     *
-     * <code>uint32 server_tick = 5;</code>
-     * @return The serverTick.
-     */
-    @java.lang.Override
-    public int getServerTick() {
-      return serverTick_;
-    }
-
-    public static final int IS_PLAYING_FIELD_NUMBER = 6;
-    private boolean isPlaying_;
+    public static final int LAST_INPUT_SEQ_FIELD_NUMBER = 4;
+    private int lastInputSeq_;
     /**
      * <pre>
-     * 房间是否处于游戏中
+     * 客户端最后确认输入序号
      * </pre>
      *
-     * <code>bool is_playing = 6;</code>
-     * @return The isPlaying.
+     * <code>uint32 last_input_seq = 4;</code>
+     * @return The lastInputSeq.
      */
     @java.lang.Override
-    public boolean getIsPlaying() {
-      return isPlaying_;
+    public int getLastInputSeq() {
+      return lastInputSeq_;
     }
 
-    public static final int IS_PAUSED_FIELD_NUMBER = 7;
-    private boolean isPaused_;
+    public static final int LAST_SERVER_TICK_FIELD_NUMBER = 5;
+    private int lastServerTick_;
     /**
      * <pre>
-     * 游戏是否暂停（升级流程）
+     * 客户端最后看到的服务器 tick
      * </pre>
      *
-     * <code>bool is_paused = 7;</code>
-     * @return The isPaused.
+     * <code>uint32 last_server_tick = 5;</code>
+     * @return The lastServerTick.
      */
     @java.lang.Override
-    public boolean getIsPaused() {
-      return isPaused_;
+    public int getLastServerTick() {
+      return lastServerTick_;
     }
 
-    public static final int SESSION_TOKEN_FIELD_NUMBER = 8;
-    private volatile java.lang.Object sessionToken_;
-    /**
-     * <pre>
-     * 会话令牌（可选刷新）
-     * </pre>
-     *
-     * <code>string session_token = 8;</code>
-     * @return The sessionToken.
-     */
-    @java.lang.Override
-    public java.lang.String getSessionToken() {
-      java.lang.Object ref = sessionToken_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        sessionToken_ = s;
-        return s;
-      }
-    }
+    public static final int CAPABILITIES_FIELD_NUMBER = 6;
+    private int capabilities_;
     /**
      * <pre>
-     * 会话令牌（可选刷新）
+     * 客户端能力位，见 ClientCapability
      * </pre>
      *
-     * <code>string session_token = 8;</code>
-     * @return The bytes for sessionToken.
+     * <code>uint32 capabilities = 6;</code>
+     * @return The capabilities.
      */
     @java.lang.Override
-    public com.google.protobuf.ByteString
-        getSessionTokenBytes() {
-      java.lang.Object ref = sessionToken_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        sessionToken_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public int getCapabilities() {
+      return capabilities_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -8222,29 +8433,23 @@ public final class Message {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (success_ != false) {
-        output.writeBool(1, success_);
-      }
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(message_)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, message_);
-      }
       if (playerId_ != 0) {
-        output.writeUInt32(3, playerId_);
+        output.writeUInt32(1, playerId_);
       }
       if (roomId_ != 0) {
-        output.writeUInt32(4, roomId_);
+        output.writeUInt32(2, roomId_);
       }
-      if (serverTick_ != 0) {
-        output.writeUInt32(5, serverTick_);
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(sessionToken_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, sessionToken_);
       }
-      if (isPlaying_ != false) {
-        output.writeBool(6, isPlaying_);
+      if (lastInputSeq_ != 0) {
+        output.writeUInt32(4, lastInputSeq_);
       }
-      if (isPaused_ != false) {
-        output.writeBool(7, isPaused_);
+      if (lastServerTick_ != 0) {
+        output.writeUInt32(5, lastServerTick_);
       }
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(sessionToken_)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 8, sessionToken_);
+      if (capabilities_ != 0) {
+        output.writeUInt32(6, capabilities_);
       }
       unknownFields.writeTo(output);
     }
@@ -8255,35 +8460,28 @@ public final class Message {
       if (size != -1) return size;
 
       size = 0;
-      if (success_ != false) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(1, success_);
-      }
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(message_)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, message_);
-      }
       if (playerId_ != 0) {
         size += com.google.protobuf.CodedOutputStream
-          .computeUInt32Size(3, playerId_);
+          .computeUInt32Size(1, playerId_);
       }
       if (roomId_ != 0) {
         size += com.google.protobuf.CodedOutputStream
-          .computeUInt32Size(4, roomId_);
+          .computeUInt32Size(2, roomId_);
       }
-      if (serverTick_ != 0) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeUInt32Size(5, serverTick_);
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(sessionToken_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, sessionToken_);
       }
-      if (isPlaying_ != false) {
+      if (lastInputSeq_ != 0) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(6, isPlaying_);
+          .computeUInt32Size(4, lastInputSeq_);
       }
-      if (isPaused_ != false) {
+      if (lastServerTick_ != 0) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(7, isPaused_);
+          .computeUInt32Size(5, lastServerTick_);
       }
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(sessionToken_)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(8, sessionToken_);
+      if (capabilities_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(6, capabilities_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -8295,27 +8493,23 @@ public final class Message {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof lawnmower.Message.S2C_ReconnectAck)) {
+      if (!(obj instanceof lawnmower.Message.C2S_ReconnectRequest)) {
         return super.equals(obj);
       }
-      lawnmower.Message.S2C_ReconnectAck other = (lawnmower.Message.S2C_ReconnectAck) obj;
+      lawnmower.Message.C2S_ReconnectRequest other = (lawnmower.Message.C2S_ReconnectRequest) obj;
 
-      if (getSuccess()
-          != other.getSuccess()) return false;
-      if (!getMessage()
-          .equals(other.getMessage())) return false;
       if (getPlayerId()
           != other.getPlayerId()) return false;
       if (getRoomId()
           != other.getRoomId()) return false;
-      if (getServerTick()
-          != other.getServerTick()) return false;
-      if (getIsPlaying()
-          != other.getIsPlaying()) return false;
-      if (getIsPaused()
-          != other.getIsPaused()) return false;
       if (!getSessionToken()
           .equals(other.getSessionToken())) return false;
+      if (getLastInputSeq()
+          != other.getLastInputSeq()) return false;
+      if (getLastServerTick()
+          != other.getLastServerTick()) return false;
+      if (getCapabilities()
+          != other.getCapabilities()) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -8327,93 +8521,86 @@ public final class Message {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + SUCCESS_FIELD_NUMBER;
-      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
-          getSuccess());
-      hash = (37 * hash) + MESSAGE_FIELD_NUMBER;
-      hash = (53 * hash) + getMessage().hashCode();
       hash = (37 * hash) + PLAYER_ID_FIELD_NUMBER;
       hash = (53 * hash) + getPlayerId();
       hash = (37 * hash) + ROOM_ID_FIELD_NUMBER;
       hash = (53 * hash) + getRoomId();
-      hash = (37 * hash) + SERVER_TICK_FIELD_NUMBER;
-      hash = (53 * hash) + getServerTick();
-      hash = (37 * hash) + IS_PLAYING_FIELD_NUMBER;
-      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
-          getIsPlaying());
-      hash = (37 * hash) + IS_PAUSED_FIELD_NUMBER;
-      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
-          getIsPaused());
       hash = (37 * hash) + SESSION_TOKEN_FIELD_NUMBER;
       hash = (53 * hash) + getSessionToken().hashCode();
+      hash = (37 * hash) + LAST_INPUT_SEQ_FIELD_NUMBER;
+      hash = (53 * hash) + getLastInputSeq();
+      hash = (37 * hash) + LAST_SERVER_TICK_FIELD_NUMBER;
+      hash = (53 * hash) + getLastServerTick();
+      hash = (37 * hash) + CAPABILITIES_FIELD_NUMBER;
+      hash = (53 * hash) + getCapabilities();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static lawnmower.Message.S2C_ReconnectAck parseFrom(
+    public static lawnmower.Message.C2S_ReconnectRequest parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static lawnmower.Message.S2C_ReconnectAck parseFrom(
+    public static lawnmower.Message.C2S_ReconnectRequest parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static lawnmower.Message.S2C_ReconnectAck parseFrom(
+    public static lawnmower.Message.C2S_ReconnectRequest parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static lawnmower.Message.S2C_ReconnectAck parseFrom(
+    public static lawnmower.Message.C2S_ReconnectRequest parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static lawnmower.Message.S2C_ReconnectAck parseFrom(byte[] data)
+    public static lawnmower.Message.C2S_ReconnectRequest parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static lawnmower.Message.S2C_ReconnectAck parseFrom(
+    public static lawnmower.Message.C2S_ReconnectRequest parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static lawnmower.Message.S2C_ReconnectAck parseFrom(java.io.InputStream input)
+    public static lawnmower.Message.C2S_ReconnectRequest parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static lawnmower.Message.S2C_ReconnectAck parseFrom(
+    public static lawnmower.Message.C2S_ReconnectRequest parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static lawnmower.Message.S2C_ReconnectAck parseDelimitedFrom(java.io.InputStream input)
+    public static lawnmower.Message.C2S_ReconnectRequest parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static lawnmower.Message.S2C_ReconnectAck parseDelimitedFrom(
+    public static lawnmower.Message.C2S_ReconnectRequest parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static lawnmower.Message.S2C_ReconnectAck parseFrom(
+    public static lawnmower.Message.C2S_ReconnectRequest parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static lawnmower.Message.S2C_ReconnectAck parseFrom(
+    public static lawnmower.Message.C2S_ReconnectRequest parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -8426,7 +8613,7 @@ public final class Message {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(lawnmower.Message.S2C_ReconnectAck prototype) {
+    public static Builder newBuilder(lawnmower.Message.C2S_ReconnectRequest prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -8443,29 +8630,29 @@ public final class Message {
     }
     /**
      * <pre>
-     * 服务器 -&gt; 客户端：重连确认
+     * 客户端 -&gt; 服务器：重连请求
      * </pre>
      *
-     * Protobuf type {@code lawnmower.S2C_ReconnectAck}
+     * Protobuf type {@code lawnmower.C2S_ReconnectRequest}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:lawnmower.S2C_ReconnectAck)
-        lawnmower.Message.S2C_ReconnectAckOrBuilder {
+        // @@protoc_insertion_point(builder_implements:lawnmower.C2S_ReconnectRequest)
+        lawnmower.Message.C2S_ReconnectRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return lawnmower.Message.internal_static_lawnmower_S2C_ReconnectAck_descriptor;
+        return lawnmower.Message.internal_static_lawnmower_C2S_ReconnectRequest_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return lawnmower.Message.internal_static_lawnmower_S2C_ReconnectAck_fieldAccessorTable
+        return lawnmower.Message.internal_static_lawnmower_C2S_ReconnectRequest_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                lawnmower.Message.S2C_ReconnectAck.class, lawnmower.Message.S2C_ReconnectAck.Builder.class);
+                lawnmower.Message.C2S_ReconnectRequest.class, lawnmower.Message.C2S_ReconnectRequest.Builder.class);
       }
 
-      // Construct using lawnmower.Message.S2C_ReconnectAck.newBuilder()
+      // Construct using lawnmower.Message.C2S_ReconnectRequest.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -8483,21 +8670,17 @@ public final class Message {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        success_ = false;
-
-        message_ = "";
-
         playerId_ = 0;
 
         roomId_ = 0;
 
-        serverTick_ = 0;
+        sessionToken_ = "";
 
-        isPlaying_ = false;
+        lastInputSeq_ = 0;
 
-        isPaused_ = false;
+        lastServerTick_ = 0;
 
-        sessionToken_ = "";
+        capabilities_ = 0;
 
         return this;
       }
@@ -8505,17 +8688,17 @@ public final class Message {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return lawnmower.Message.internal_static_lawnmower_S2C_ReconnectAck_descriptor;
+        return lawnmower.Message.internal_static_lawnmower_C2S_ReconnectRequest_descriptor;
       }
 
       @java.lang.Override
-      public lawnmower.Message.S2C_ReconnectAck getDefaultInstanceForType() {
-        return lawnmower.Message.S2C_ReconnectAck.getDefaultInstance();
+      public lawnmower.Message.C2S_ReconnectRequest getDefaultInstanceForType() {
+        return lawnmower.Message.C2S_ReconnectRequest.getDefaultInstance();
       }
 
       @java.lang.Override
-      public lawnmower.Message.S2C_ReconnectAck build() {
-        lawnmower.Message.S2C_ReconnectAck result = buildPartial();
+      public lawnmower.Message.C2S_ReconnectRequest build() {
+        lawnmower.Message.C2S_ReconnectRequest result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -8523,16 +8706,14 @@ public final class Message {
       }
 
       @java.lang.Override
-      public lawnmower.Message.S2C_ReconnectAck buildPartial() {
-        lawnmower.Message.S2C_ReconnectAck result = new lawnmower.Message.S2C_ReconnectAck(this);
-        result.success_ = success_;
-        result.message_ = message_;
+      public lawnmower.Message.C2S_ReconnectRequest buildPartial() {
+        lawnmower.Message.C2S_ReconnectRequest result = new lawnmower.Message.C2S_ReconnectRequest(this);
         result.playerId_ = playerId_;
         result.roomId_ = roomId_;
-        result.serverTick_ = serverTick_;
-        result.isPlaying_ = isPlaying_;
-        result.isPaused_ = isPaused_;
         result.sessionToken_ = sessionToken_;
+        result.lastInputSeq_ = lastInputSeq_;
+        result.lastServerTick_ = lastServerTick_;
+        result.capabilities_ = capabilities_;
         onBuilt();
         return result;
       }
@@ -8571,42 +8752,35 @@ public final class Message {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof lawnmower.Message.S2C_ReconnectAck) {
-          return mergeFrom((lawnmower.Message.S2C_ReconnectAck)other);
+        if (other instanceof lawnmower.Message.C2S_ReconnectRequest) {
+          return mergeFrom((lawnmower.Message.C2S_ReconnectRequest)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(lawnmower.Message.S2C_ReconnectAck other) {
-        if (other == lawnmower.Message.S2C_ReconnectAck.getDefaultInstance()) return this;
-        if (other.getSuccess() != false) {
-          setSuccess(other.getSuccess());
-        }
-        if (!other.getMessage().isEmpty()) {
-          message_ = other.message_;
-          onChanged();
-        }
+      public Builder mergeFrom(lawnmower.Message.C2S_ReconnectRequest other) {
+        if (other == lawnmower.Message.C2S_ReconnectRequest.getDefaultInstance()) return this;
         if (other.getPlayerId() != 0) {
           setPlayerId(other.getPlayerId());
         }
         if (other.getRoomId() != 0) {
           setRoomId(other.getRoomId());
         }
-        if (other.getServerTick() != 0) {
-          setServerTick(other.getServerTick());
-        }
-        if (other.getIsPlaying() != false) {
-          setIsPlaying(other.getIsPlaying());
-        }
-        if (other.getIsPaused() != false) {
-          setIsPaused(other.getIsPaused());
-        }
         if (!other.getSessionToken().isEmpty()) {
           sessionToken_ = other.sessionToken_;
           onChanged();
         }
+        if (other.getLastInputSeq() != 0) {
+          setLastInputSeq(other.getLastInputSeq());
+        }
+        if (other.getLastServerTick() != 0) {
+          setLastServerTick(other.getLastServerTick());
+        }
+        if (other.getCapabilities() != 0) {
+          setCapabilities(other.getCapabilities());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -8622,11 +8796,11 @@ public final class Message {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        lawnmower.Message.S2C_ReconnectAck parsedMessage = null;
+        lawnmower.Message.C2S_ReconnectRequest parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (lawnmower.Message.S2C_ReconnectAck) e.getUnfinishedMessage();
+          parsedMessage = (lawnmower.Message.C2S_ReconnectRequest) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -8636,65 +8810,108 @@ public final class Message {
         return this;
       }
 
-      private boolean success_ ;
+      private int playerId_ ;
       /**
        * <pre>
-       * 是否成功
+       * 玩家ID
        * </pre>
        *
-       * <code>bool success = 1;</code>
-       * @return The success.
+       * <code>uint32 player_id = 1;</code>
+       * @return The playerId.
        */
       @java.lang.Override
-      public boolean getSuccess() {
-        return success_;
+      public int getPlayerId() {
+        return playerId_;
       }
       /**
        * <pre>
-       * 是否成功
+       * 玩家ID
        * </pre>
        *
-       * <code>bool success = 1;</code>
-       * @param value The success to set.
+       * <code>uint32 player_id = 1;</code>
+       * @param value The playerId to set.
        * @return This builder for chaining.
        */
-      public Builder setSuccess(boolean value) {
+      public Builder setPlayerId(int value) {
         
-        success_ = value;
+        playerId_ = value;
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * 是否成功
+       * 玩家ID
        * </pre>
        *
-       * <code>bool success = 1;</code>
+       * <code>uint32 player_id = 1;</code>
        * @return This builder for chaining.
        */
-      public Builder clearSuccess() {
+      public Builder clearPlayerId() {
         
-        success_ = false;
+        playerId_ = 0;
         onChanged();
         return this;
       }
 
-      private java.lang.Object message_ = "";
+      private int roomId_ ;
       /**
        * <pre>
-       * 结果说明
+       * 房间ID
        * </pre>
        *
-       * <code>string message = 2;</code>
-       * @return The message.
+       * <code>uint32 room_id = 2;</code>
+       * @return The roomId.
        */
-      public java.lang.String getMessage() {
-        java.lang.Object ref = message_;
+      @java.lang.Override
+      public int getRoomId() {
+        return roomId_;
+      }
+      /**
+       * <pre>
+       * 房间ID
+       * </pre>
+       *
+       * <code>uint32 room_id = 2;</code>
+       * @param value The roomId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRoomId(int value) {
+        
+        roomId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 房间ID
+       * </pre>
+       *
+       * <code>uint32 room_id = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRoomId() {
+        
+        roomId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object sessionToken_ = "";
+      /**
+       * <pre>
+       * 会话令牌（可为空，由服务器回填）
+       * </pre>
+       *
+       * <code>string session_token = 3;</code>
+       * @return The sessionToken.
+       */
+      public java.lang.String getSessionToken() {
+        java.lang.Object ref = sessionToken_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          message_ = s;
+          sessionToken_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
@@ -8702,20 +8919,20 @@ public final class Message {
       }
       /**
        * <pre>
-       * 结果说明
+       * 会话令牌（可为空，由服务器回填）
        * </pre>
        *
-       * <code>string message = 2;</code>
-       * @return The bytes for message.
+       * <code>string session_token = 3;</code>
+       * @return The bytes for sessionToken.
        */
       public com.google.protobuf.ByteString
-          getMessageBytes() {
-        java.lang.Object ref = message_;
+          getSessionTokenBytes() {
+        java.lang.Object ref = sessionToken_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          message_ = b;
+          sessionToken_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
@@ -8723,365 +8940,183 @@ public final class Message {
       }
       /**
        * <pre>
-       * 结果说明
+       * 会话令牌（可为空，由服务器回填）
        * </pre>
        *
-       * <code>string message = 2;</code>
-       * @param value The message to set.
+       * <code>string session_token = 3;</code>
+       * @param value The sessionToken to set.
        * @return This builder for chaining.
        */
-      public Builder setMessage(
+      public Builder setSessionToken(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
   
-        message_ = value;
+        sessionToken_ = value;
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * 结果说明
+       * 会话令牌（可为空，由服务器回填）
        * </pre>
        *
-       * <code>string message = 2;</code>
+       * <code>string session_token = 3;</code>
        * @return This builder for chaining.
        */
-      public Builder clearMessage() {
+      public Builder clearSessionToken() {
         
-        message_ = getDefaultInstance().getMessage();
+        sessionToken_ = getDefaultInstance().getSessionToken();
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * 结果说明
+       * 会话令牌（可为空，由服务器回填）
        * </pre>
        *
-       * <code>string message = 2;</code>
-       * @param value The bytes for message to set.
+       * <code>string session_token = 3;</code>
+       * @param value The bytes for sessionToken to set.
        * @return This builder for chaining.
        */
-      public Builder setMessageBytes(
+      public Builder setSessionTokenBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
         
-        message_ = value;
+        sessionToken_ = value;
         onChanged();
         return this;
       }
 
-      private int playerId_ ;
+      private int lastInputSeq_ ;
       /**
        * <pre>
-       * 玩家ID
+       * 客户端最后确认输入序号
        * </pre>
        *
-       * <code>uint32 player_id = 3;</code>
-       * @return The playerId.
+       * <code>uint32 last_input_seq = 4;</code>
+       * @return The lastInputSeq.
        */
       @java.lang.Override
-      public int getPlayerId() {
-        return playerId_;
+      public int getLastInputSeq() {
+        return lastInputSeq_;
       }
       /**
        * <pre>
-       * 玩家ID
+       * 客户端最后确认输入序号
        * </pre>
        *
-       * <code>uint32 player_id = 3;</code>
-       * @param value The playerId to set.
+       * <code>uint32 last_input_seq = 4;</code>
+       * @param value The lastInputSeq to set.
        * @return This builder for chaining.
        */
-      public Builder setPlayerId(int value) {
+      public Builder setLastInputSeq(int value) {
         
-        playerId_ = value;
+        lastInputSeq_ = value;
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * 玩家ID
+       * 客户端最后确认输入序号
        * </pre>
        *
-       * <code>uint32 player_id = 3;</code>
+       * <code>uint32 last_input_seq = 4;</code>
        * @return This builder for chaining.
        */
-      public Builder clearPlayerId() {
+      public Builder clearLastInputSeq() {
         
-        playerId_ = 0;
+        lastInputSeq_ = 0;
         onChanged();
         return this;
       }
 
-      private int roomId_ ;
+      private int lastServerTick_ ;
       /**
        * <pre>
-       * 房间ID
+       * 客户端最后看到的服务器 tick
        * </pre>
        *
-       * <code>uint32 room_id = 4;</code>
-       * @return The roomId.
+       * <code>uint32 last_server_tick = 5;</code>
+       * @return The lastServerTick.
        */
       @java.lang.Override
-      public int getRoomId() {
-        return roomId_;
+      public int getLastServerTick() {
+        return lastServerTick_;
       }
       /**
        * <pre>
-       * 房间ID
+       * 客户端最后看到的服务器 tick
        * </pre>
        *
-       * <code>uint32 room_id = 4;</code>
-       * @param value The roomId to set.
+       * <code>uint32 last_server_tick = 5;</code>
+       * @param value The lastServerTick to set.
        * @return This builder for chaining.
        */
-      public Builder setRoomId(int value) {
+      public Builder setLastServerTick(int value) {
         
-        roomId_ = value;
+        lastServerTick_ = value;
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * 房间ID
+       * 客户端最后看到的服务器 tick
        * </pre>
        *
-       * <code>uint32 room_id = 4;</code>
+       * <code>uint32 last_server_tick = 5;</code>
        * @return This builder for chaining.
        */
-      public Builder clearRoomId() {
+      public Builder clearLastServerTick() {
         
-        roomId_ = 0;
+        lastServerTick_ = 0;
         onChanged();
         return this;
       }
 
-      private int serverTick_ ;
+      private int capabilities_ ;
       /**
        * <pre>
-       * 服务器当前 tick
+       * 客户端能力位，见 ClientCapability
        * </pre>
        *
-       * <code>uint32 server_tick = 5;</code>
-       * @return The serverTick.
+       * <code>uint32 capabilities = 6;</code>
+       * @return The capabilities.
        */
       @java.lang.Override
-      public int getServerTick() {
-        return serverTick_;
+      public int getCapabilities() {
+        return capabilities_;
       }
       /**
        * <pre>
-       * 服务器当前 tick
+       * 客户端能力位，见 ClientCapability
        * </pre>
        *
-       * <code>uint32 server_tick = 5;</code>
-       * @param value The serverTick to set.
+       * <code>uint32 capabilities = 6;</code>
+       * @param value The capabilities to set.
        * @return This builder for chaining.
        */
-      public Builder setServerTick(int value) {
+      public Builder setCapabilities(int value) {
         
-        serverTick_ = value;
+        capabilities_ = value;
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * 服务器当前 tick
+       * 客户端能力位，见 ClientCapability
        * </pre>
        *
-       * <code>uint32 server_tick = 5;</code>
+       * <code>uint32 capabilities = 6;</code>
        * @return This builder for chaining.
        */
-      public Builder clearServerTick() {
+      public Builder clearCapabilities() {
         
-        serverTick_ = 0;
-        onChanged();
-        return this;
-      }
-
-      private boolean isPlaying_ ;
-      /**
-       * <pre>
-       * 房间是否处于游戏中
-       * </pre>
-       *
-       * <code>bool is_playing = 6;</code>
-       * @return The isPlaying.
-       */
-      @java.lang.Override
-      public boolean getIsPlaying() {
-        return isPlaying_;
-      }
-      /**
-       * <pre>
-       * 房间是否处于游戏中
-       * </pre>
-       *
-       * <code>bool is_playing = 6;</code>
-       * @param value The isPlaying to set.
-       * @return This builder for chaining.
-       */
-      public Builder setIsPlaying(boolean value) {
-        
-        isPlaying_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <pre>
-       * 房间是否处于游戏中
-       * </pre>
-       *
-       * <code>bool is_playing = 6;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearIsPlaying() {
-        
-        isPlaying_ = false;
-        onChanged();
-        return this;
-      }
-
-      private boolean isPaused_ ;
-      /**
-       * <pre>
-       * 游戏是否暂停（升级流程）
-       * </pre>
-       *
-       * <code>bool is_paused = 7;</code>
-       * @return The isPaused.
-       */
-      @java.lang.Override
-      public boolean getIsPaused() {
-        return isPaused_;
-      }
-      /**
-       * <pre>
-       * 游戏是否暂停（升级流程）
-       * </pre>
-       *
-       * <code>bool is_paused = 7;</code>
-       * @param value The isPaused to set.
-       * @return This builder for chaining.
-       */
-      public Builder setIsPaused(boolean value) {
-        
-        isPaused_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <pre>
-       * 游戏是否暂停（升级流程）
-       * </pre>
-       *
-       * <code>bool is_paused = 7;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearIsPaused() {
-        
-        isPaused_ = false;
-        onChanged();
-        return this;
-      }
-
-      private java.lang.Object sessionToken_ = "";
-      /**
-       * <pre>
-       * 会话令牌（可选刷新）
-       * </pre>
-       *
-       * <code>string session_token = 8;</code>
-       * @return The sessionToken.
-       */
-      public java.lang.String getSessionToken() {
-        java.lang.Object ref = sessionToken_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          sessionToken_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <pre>
-       * 会话令牌（可选刷新）
-       * </pre>
-       *
-       * <code>string session_token = 8;</code>
-       * @return The bytes for sessionToken.
-       */
-      public com.google.protobuf.ByteString
-          getSessionTokenBytes() {
-        java.lang.Object ref = sessionToken_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          sessionToken_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <pre>
-       * 会话令牌（可选刷新）
-       * </pre>
-       *
-       * <code>string session_token = 8;</code>
-       * @param value The sessionToken to set.
-       * @return This builder for chaining.
-       */
-      public Builder setSessionToken(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        sessionToken_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <pre>
-       * 会话令牌（可选刷新）
-       * </pre>
-       *
-       * <code>string session_token = 8;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearSessionToken() {
-        
-        sessionToken_ = getDefaultInstance().getSessionToken();
-        onChanged();
-        return this;
-      }
-      /**
-       * <pre>
-       * 会话令牌（可选刷新）
-       * </pre>
-       *
-       * <code>string session_token = 8;</code>
-       * @param value The bytes for sessionToken to set.
-       * @return This builder for chaining.
-       */
-      public Builder setSessionTokenBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-        
-        sessionToken_ = value;
+        capabilities_ = 0;
         onChanged();
         return this;
       }
@@ -9098,156 +9133,266 @@ public final class Message {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:lawnmower.S2C_ReconnectAck)
+      // @@protoc_insertion_point(builder_scope:lawnmower.C2S_ReconnectRequest)
     }
 
-    // @@protoc_insertion_point(class_scope:lawnmower.S2C_ReconnectAck)
-    private static final lawnmower.Message.S2C_ReconnectAck DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:lawnmower.C2S_ReconnectRequest)
+    private static final lawnmower.Message.C2S_ReconnectRequest DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new lawnmower.Message.S2C_ReconnectAck();
+      DEFAULT_INSTANCE = new lawnmower.Message.C2S_ReconnectRequest();
     }
 
-    public static lawnmower.Message.S2C_ReconnectAck getDefaultInstance() {
+    public static lawnmower.Message.C2S_ReconnectRequest getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<S2C_ReconnectAck>
-        PARSER = new com.google.protobuf.AbstractParser<S2C_ReconnectAck>() {
+    private static final com.google.protobuf.Parser<C2S_ReconnectRequest>
+        PARSER = new com.google.protobuf.AbstractParser<C2S_ReconnectRequest>() {
       @java.lang.Override
-      public S2C_ReconnectAck parsePartialFrom(
+      public C2S_ReconnectRequest parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new S2C_ReconnectAck(input, extensionRegistry);
+        return new C2S_ReconnectRequest(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<S2C_ReconnectAck> parser() {
+    public static com.google.protobuf.Parser<C2S_ReconnectRequest> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<S2C_ReconnectAck> getParserForType() {
+    public com.google.protobuf.Parser<C2S_ReconnectRequest> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public lawnmower.Message.S2C_ReconnectAck getDefaultInstanceForType() {
+    public lawnmower.Message.C2S_ReconnectRequest getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface RoomInfoOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:lawnmower.RoomInfo)
+  public interface S2C_ReconnectAckOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:lawnmower.S2C_ReconnectAck)
       com.google.protobuf.MessageOrBuilder {
 
     /**
      * <pre>
-     * 房间id
+     * 是否成功
      * </pre>
      *
-     * <code>uint32 room_id = 1;</code>
-     * @return The roomId.
+     * <code>bool success = 1;</code>
+     * @return The success.
      */
-    int getRoomId();
+    boolean getSuccess();
 
     /**
      * <pre>
-     * 房间名
+     * 结果说明
      * </pre>
      *
-     * <code>string room_name = 2;</code>
-     * @return The roomName.
+     * <code>string message = 2;</code>
+     * @return The message.
      */
-    java.lang.String getRoomName();
+    java.lang.String getMessage();
     /**
      * <pre>
-     * 房间名
+     * 结果说明
      * </pre>
      *
-     * <code>string room_name = 2;</code>
-     * @return The bytes for roomName.
+     * <code>string message = 2;</code>
+     * @return The bytes for message.
      */
     com.google.protobuf.ByteString
-        getRoomNameBytes();
+        getMessageBytes();
 
     /**
      * <pre>
-     * 当前玩家数
+     * 玩家ID
      * </pre>
      *
-     * <code>uint32 current_players = 3;</code>
-     * @return The currentPlayers.
+     * <code>uint32 player_id = 3;</code>
+     * @return The playerId.
      */
-    int getCurrentPlayers();
+    int getPlayerId();
 
     /**
      * <pre>
-     * 最大玩家数
+     * 房间ID
      * </pre>
      *
-     * <code>uint32 max_players = 4;</code>
-     * @return The maxPlayers.
+     * <code>uint32 room_id = 4;</code>
+     * @return The roomId.
      */
-    int getMaxPlayers();
+    int getRoomId();
 
     /**
      * <pre>
-     * 是否游戏中
+     * 服务器当前 tick
      * </pre>
      *
-     * <code>bool is_playing = 5;</code>
+     * <code>uint32 server_tick = 5;</code>
+     * @return The serverTick.
+     */
+    int getServerTick();
+
+    /**
+     * <pre>
+     * 房间是否处于游戏中
+     * </pre>
+     *
+     * <code>bool is_playing = 6;</code>
      * @return The isPlaying.
      */
     boolean getIsPlaying();
 
     /**
      * <pre>
-     * 房主名称
+     * 游戏是否暂停（升级流程）
      * </pre>
      *
-     * <code>string host_name = 6;</code>
-     * @return The hostName.
+     * <code>bool is_paused = 7;</code>
+     * @return The isPaused.
      */
-    java.lang.String getHostName();
+    boolean getIsPaused();
+
     /**
      * <pre>
-     * 房主名称
+     * 会话令牌（可选刷新）
      * </pre>
      *
-     * <code>string host_name = 6;</code>
-     * @return The bytes for hostName.
+     * <code>string session_token = 8;</code>
+     * @return The sessionToken.
+     */
+    java.lang.String getSessionToken();
+    /**
+     * <pre>
+     * 会话令牌（可选刷新）
+     * </pre>
+     *
+     * <code>string session_token = 8;</code>
+     * @return The bytes for sessionToken.
      */
     com.google.protobuf.ByteString
-        getHostNameBytes();
+        getSessionTokenBytes();
+
+    /**
+     * <pre>
+     * 增量续传：客户端 last_server_tick 仍在服务器保留窗口内时，下发此后变化的实体，
+     * 客户端保留本地世界直接应用，不再等待全量快照；缺省时按全量快照流程恢复
+     * </pre>
+     *
+     * <code>.lawnmower.S2C_GameStateSync catch_up = 9;</code>
+     * @return Whether the catchUp field is set.
+     */
+    boolean hasCatchUp();
+    /**
+     * <pre>
+     * 增量续传：客户端 last_server_tick 仍在服务器保留窗口内时，下发此后变化的实体，
+     * 客户端保留本地世界直接应用，不再等待全量快照；缺省时按全量快照流程恢复
+     * </pre>
+     *
+     * <code>.lawnmower.S2C_GameStateSync catch_up = 9;</code>
+     * @return The catchUp.
+     */
+    lawnmower.Message.S2C_GameStateSync getCatchUp();
+    /**
+     * <pre>
+     * 增量续传：客户端 last_server_tick 仍在服务器保留窗口内时，下发此后变化的实体，
+     * 客户端保留本地世界直接应用，不再等待全量快照；缺省时按全量快照流程恢复
+     * </pre>
+     *
+     * <code>.lawnmower.S2C_GameStateSync catch_up = 9;</code>
+     */
+    lawnmower.Message.S2C_GameStateSyncOrBuilder getCatchUpOrBuilder();
+
+    /**
+     * <pre>
+     * 增量续传：期间已移除的敌人
+     * </pre>
+     *
+     * <code>repeated uint32 removed_enemy_ids = 10;</code>
+     * @return A list containing the removedEnemyIds.
+     */
+    java.util.List<java.lang.Integer> getRemovedEnemyIdsList();
+    /**
+     * <pre>
+     * 增量续传：期间已移除的敌人
+     * </pre>
+     *
+     * <code>repeated uint32 removed_enemy_ids = 10;</code>
+     * @return The count of removedEnemyIds.
+     */
+    int getRemovedEnemyIdsCount();
+    /**
+     * <pre>
+     * 增量续传：期间已移除的敌人
+     * </pre>
+     *
+     * <code>repeated uint32 removed_enemy_ids = 10;</code>
+     * @param index The index of the element to return.
+     * @return The removedEnemyIds at the given index.
+     */
+    int getRemovedEnemyIds(int index);
+
+    /**
+     * <pre>
+     * 增量续传：期间已移除的道具
+     * </pre>
+     *
+     * <code>repeated uint32 removed_item_ids = 11;</code>
+     * @return A list containing the removedItemIds.
+     */
+    java.util.List<java.lang.Integer> getRemovedItemIdsList();
+    /**
+     * <pre>
+     * 增量续传：期间已移除的道具
+     * </pre>
+     *
+     * <code>repeated uint32 removed_item_ids = 11;</code>
+     * @return The count of removedItemIds.
+     */
+    int getRemovedItemIdsCount();
+    /**
+     * <pre>
+     * 增量续传：期间已移除的道具
+     * </pre>
+     *
+     * <code>repeated uint32 removed_item_ids = 11;</code>
+     * @param index The index of the element to return.
+     * @return The removedItemIds at the given index.
+     */
+    int getRemovedItemIds(int index);
   }
   /**
    * <pre>
-   * 房间信息
+   * 服务器 -&gt; 客户端：重连确认
    * </pre>
    *
-   * Protobuf type {@code lawnmower.RoomInfo}
+   * Protobuf type {@code lawnmower.S2C_ReconnectAck}
    */
-  public static final class RoomInfo extends
+  public static final class S2C_ReconnectAck extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:lawnmower.RoomInfo)
-      RoomInfoOrBuilder {
+      // @@protoc_insertion_point(message_implements:lawnmower.S2C_ReconnectAck)
+      S2C_ReconnectAckOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use RoomInfo.newBuilder() to construct.
-    private RoomInfo(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use S2C_ReconnectAck.newBuilder() to construct.
+    private S2C_ReconnectAck(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private RoomInfo() {
-      roomName_ = "";
-      hostName_ = "";
+    private S2C_ReconnectAck() {
+      message_ = "";
+      sessionToken_ = "";
+      removedEnemyIds_ = emptyIntList();
+      removedItemIds_ = emptyIntList();
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new RoomInfo();
+      return new S2C_ReconnectAck();
     }
 
     @java.lang.Override
@@ -9255,7 +9400,7 @@ public final class Message {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private RoomInfo(
+    private S2C_ReconnectAck(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -9263,6 +9408,7 @@ public final class Message {
       if (extensionRegistry == null) {
         throw new java.lang.NullPointerException();
       }
+      int mutable_bitField0_ = 0;
       com.google.protobuf.UnknownFieldSet.Builder unknownFields =
           com.google.protobuf.UnknownFieldSet.newBuilder();
       try {
@@ -9275,34 +9421,99 @@ public final class Message {
               break;
             case 8: {
 
-              roomId_ = input.readUInt32();
+              success_ = input.readBool();
               break;
             }
             case 18: {
               java.lang.String s = input.readStringRequireUtf8();
 
-              roomName_ = s;
+              message_ = s;
               break;
             }
             case 24: {
 
-              currentPlayers_ = input.readUInt32();
+              playerId_ = input.readUInt32();
               break;
             }
             case 32: {
 
-              maxPlayers_ = input.readUInt32();
+              roomId_ = input.readUInt32();
               break;
             }
             case 40: {
 
+              serverTick_ = input.readUInt32();
+              break;
+            }
+            case 48: {
+
               isPlaying_ = input.readBool();
               break;
             }
-            case 50: {
+            case 56: {
+
+              isPaused_ = input.readBool();
+              break;
+            }
+            case 66: {
               java.lang.String s = input.readStringRequireUtf8();
 
-              hostName_ = s;
+              sessionToken_ = s;
+              break;
+            }
+            case 74: {
+              lawnmower.Message.S2C_GameStateSync.Builder subBuilder = null;
+              if (catchUp_ != null) {
+                subBuilder = catchUp_.toBuilder();
+              }
+              catchUp_ = input.readMessage(lawnmower.Message.S2C_GameStateSync.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(catchUp_);
+                catchUp_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 80: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                removedEnemyIds_ = newIntList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              removedEnemyIds_.addInt(input.readUInt32());
+              break;
+            }
+            case 82: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000001) != 0) && input.getBytesUntilLimit() > 0) {
+                removedEnemyIds_ = newIntList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                removedEnemyIds_.addInt(input.readUInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 88: {
+              if (!((mutable_bitField0_ & 0x00000002) != 0)) {
+                removedItemIds_ = newIntList();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              removedItemIds_.addInt(input.readUInt32());
+              break;
+            }
+            case 90: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000002) != 0) && input.getBytesUntilLimit() > 0) {
+                removedItemIds_ = newIntList();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                removedItemIds_.addInt(input.readUInt32());
+              }
+              input.popLimit(limit);
               break;
             }
             default: {
@@ -9322,175 +9533,332 @@ public final class Message {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          removedEnemyIds_.makeImmutable(); // C
+        }
+        if (((mutable_bitField0_ & 0x00000002) != 0)) {
+          removedItemIds_.makeImmutable(); // C
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return lawnmower.Message.internal_static_lawnmower_RoomInfo_descriptor;
+      return lawnmower.Message.internal_static_lawnmower_S2C_ReconnectAck_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return lawnmower.Message.internal_static_lawnmower_RoomInfo_fieldAccessorTable
+      return lawnmower.Message.internal_static_lawnmower_S2C_ReconnectAck_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              lawnmower.Message.RoomInfo.class, lawnmower.Message.RoomInfo.Builder.class);
+              lawnmower.Message.S2C_ReconnectAck.class, lawnmower.Message.S2C_ReconnectAck.Builder.class);
     }
 
-    public static final int ROOM_ID_FIELD_NUMBER = 1;
-    private int roomId_;
+    public static final int SUCCESS_FIELD_NUMBER = 1;
+    private boolean success_;
     /**
      * <pre>
-     * 房间id
+     * 是否成功
      * </pre>
      *
-     * <code>uint32 room_id = 1;</code>
-     * @return The roomId.
+     * <code>bool success = 1;</code>
+     * @return The success.
      */
     @java.lang.Override
-    public int getRoomId() {
-      return roomId_;
+    public boolean getSuccess() {
+      return success_;
     }
 
-    public static final int ROOM_NAME_FIELD_NUMBER = 2;
-    private volatile java.lang.Object roomName_;
+    public static final int MESSAGE_FIELD_NUMBER = 2;
+    private volatile java.lang.Object message_;
     /**
      * <pre>
-     * 房间名
+     * 结果说明
      * </pre>
      *
-     * <code>string room_name = 2;</code>
-     * @return The roomName.
+     * <code>string message = 2;</code>
+     * @return The message.
      */
     @java.lang.Override
-    public java.lang.String getRoomName() {
-      java.lang.Object ref = roomName_;
+    public java.lang.String getMessage() {
+      java.lang.Object ref = message_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        roomName_ = s;
+        message_ = s;
         return s;
       }
     }
     /**
      * <pre>
-     * 房间名
+     * 结果说明
      * </pre>
      *
-     * <code>string room_name = 2;</code>
-     * @return The bytes for roomName.
+     * <code>string message = 2;</code>
+     * @return The bytes for message.
      */
     @java.lang.Override
     public com.google.protobuf.ByteString
-        getRoomNameBytes() {
-      java.lang.Object ref = roomName_;
+        getMessageBytes() {
+      java.lang.Object ref = message_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        roomName_ = b;
+        message_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
-    public static final int CURRENT_PLAYERS_FIELD_NUMBER = 3;
-    private int currentPlayers_;
+    public static final int PLAYER_ID_FIELD_NUMBER = 3;
+    private int playerId_;
     /**
      * <pre>
-     * 当前玩家数
+     * 玩家ID
      * </pre>
      *
-     * <code>uint32 current_players = 3;</code>
-     * @return The currentPlayers.
+     * <code>uint32 player_id = 3;</code>
+     * @return The playerId.
      */
     @java.lang.Override
-    public int getCurrentPlayers() {
-      return currentPlayers_;
+    public int getPlayerId() {
+      return playerId_;
     }
 
-    public static final int MAX_PLAYERS_FIELD_NUMBER = 4;
-    private int maxPlayers_;
+    public static final int ROOM_ID_FIELD_NUMBER = 4;
+    private int roomId_;
     /**
      * <pre>
-     * 最大玩家数
+     * 房间ID
      * </pre>
      *
-     * <code>uint32 max_players = 4;</code>
-     * @return The maxPlayers.
+     * <code>uint32 room_id = 4;</code>
+     * @return The roomId.
      */
     @java.lang.Override
-    public int getMaxPlayers() {
-      return maxPlayers_;
+    public int getRoomId() {
+      return roomId_;
     }
 
-    public static final int IS_PLAYING_FIELD_NUMBER = 5;
-    private boolean isPlaying_;
+    public static final int SERVER_TICK_FIELD_NUMBER = 5;
+    private int serverTick_;
     /**
      * <pre>
-     * 是否游戏中
+     * 服务器当前 tick
      * </pre>
      *
-     * <code>bool is_playing = 5;</code>
-     * @return The isPlaying.
+     * <code>uint32 server_tick = 5;</code>
+     * @return The serverTick.
      */
     @java.lang.Override
-    public boolean getIsPlaying() {
-      return isPlaying_;
+    public int getServerTick() {
+      return serverTick_;
     }
 
-    public static final int HOST_NAME_FIELD_NUMBER = 6;
-    private volatile java.lang.Object hostName_;
+    public static final int IS_PLAYING_FIELD_NUMBER = 6;
+    private boolean isPlaying_;
     /**
      * <pre>
-     * 房主名称
+     * 房间是否处于游戏中
      * </pre>
      *
-     * <code>string host_name = 6;</code>
-     * @return The hostName.
+     * <code>bool is_playing = 6;</code>
+     * @return The isPlaying.
      */
     @java.lang.Override
-    public java.lang.String getHostName() {
-      java.lang.Object ref = hostName_;
+    public boolean getIsPlaying() {
+      return isPlaying_;
+    }
+
+    public static final int IS_PAUSED_FIELD_NUMBER = 7;
+    private boolean isPaused_;
+    /**
+     * <pre>
+     * 游戏是否暂停（升级流程）
+     * </pre>
+     *
+     * <code>bool is_paused = 7;</code>
+     * @return The isPaused.
+     */
+    @java.lang.Override
+    public boolean getIsPaused() {
+      return isPaused_;
+    }
+
+    public static final int SESSION_TOKEN_FIELD_NUMBER = 8;
+    private volatile java.lang.Object sessionToken_;
+    /**
+     * <pre>
+     * 会话令牌（可选刷新）
+     * </pre>
+     *
+     * <code>string session_token = 8;</code>
+     * @return The sessionToken.
+     */
+    @java.lang.Override
+    public java.lang.String getSessionToken() {
+      java.lang.Object ref = sessionToken_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        hostName_ = s;
+        sessionToken_ = s;
         return s;
       }
     }
     /**
      * <pre>
-     * 房主名称
+     * 会话令牌（可选刷新）
      * </pre>
      *
-     * <code>string host_name = 6;</code>
-     * @return The bytes for hostName.
+     * <code>string session_token = 8;</code>
+     * @return The bytes for sessionToken.
      */
     @java.lang.Override
     public com.google.protobuf.ByteString
-        getHostNameBytes() {
-      java.lang.Object ref = hostName_;
+        getSessionTokenBytes() {
+      java.lang.Object ref = sessionToken_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        hostName_ = b;
+        sessionToken_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
+    public static final int CATCH_UP_FIELD_NUMBER = 9;
+    private lawnmower.Message.S2C_GameStateSync catchUp_;
+    /**
+     * <pre>
+     * 增量续传：客户端 last_server_tick 仍在服务器保留窗口内时，下发此后变化的实体，
+     * 客户端保留本地世界直接应用，不再等待全量快照；缺省时按全量快照流程恢复
+     * </pre>
+     *
+     * <code>.lawnmower.S2C_GameStateSync catch_up = 9;</code>
+     * @return Whether the catchUp field is set.
+     */
+    @java.lang.Override
+    public boolean hasCatchUp() {
+      return catchUp_ != null;
+    }
+    /**
+     * <pre>
+     * 增量续传：客户端 last_server_tick 仍在服务器保留窗口内时，下发此后变化的实体，
+     * 客户端保留本地世界直接应用，不再等待全量快照；缺省时按全量快照流程恢复
+     * </pre>
+     *
+     * <code>.lawnmower.S2C_GameStateSync catch_up = 9;</code>
+     * @return The catchUp.
+     */
+    @java.lang.Override
+    public lawnmower.Message.S2C_GameStateSync getCatchUp() {
+      return catchUp_ == null ? lawnmower.Message.S2C_GameStateSync.getDefaultInstance() : catchUp_;
+    }
+    /**
+     * <pre>
+     * 增量续传：客户端 last_server_tick 仍在服务器保留窗口内时，下发此后变化的实体，
+     * 客户端保留本地世界直接应用，不再等待全量快照；缺省时按全量快照流程恢复
+     * </pre>
+     *
+     * <code>.lawnmower.S2C_GameStateSync catch_up = 9;</code>
+     */
+    @java.lang.Override
+    public lawnmower.Message.S2C_GameStateSyncOrBuilder getCatchUpOrBuilder() {
+      return getCatchUp();
+    }
+
+    public static final int REMOVED_ENEMY_IDS_FIELD_NUMBER = 10;
+    private com.google.protobuf.Internal.IntList removedEnemyIds_;
+    /**
+     * <pre>
+     * 增量续传：期间已移除的敌人
+     * </pre>
+     *
+     * <code>repeated uint32 removed_enemy_ids = 10;</code>
+     * @return A list containing the removedEnemyIds.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getRemovedEnemyIdsList() {
+      return removedEnemyIds_;
+    }
+    /**
+     * <pre>
+     * 增量续传：期间已移除的敌人
+     * </pre>
+     *
+     * <code>repeated uint32 removed_enemy_ids = 10;</code>
+     * @return The count of removedEnemyIds.
+     */
+    public int getRemovedEnemyIdsCount() {
+      return removedEnemyIds_.size();
+    }
+    /**
+     * <pre>
+     * 增量续传：期间已移除的敌人
+     * </pre>
+     *
+     * <code>repeated uint32 removed_enemy_ids = 10;</code>
+     * @param index The index of the element to return.
+     * @return The removedEnemyIds at the given index.
+     */
+    public int getRemovedEnemyIds(int index) {
+      return removedEnemyIds_.getInt(index);
+    }
+    private int removedEnemyIdsMemoizedSerializedSize = -1;
+
+    public static final int REMOVED_ITEM_IDS_FIELD_NUMBER = 11;
+    private com.google.protobuf.Internal.IntList removedItemIds_;
+    /**
+     * <pre>
+     * 增量续传：期间已移除的道具
+     * </pre>
+     *
+     * <code>repeated uint32 removed_item_ids = 11;</code>
+     * @return A list containing the removedItemIds.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getRemovedItemIdsList() {
+      return removedItemIds_;
+    }
+    /**
+     * <pre>
+     * 增量续传：期间已移除的道具
+     * </pre>
+     *
+     * <code>repeated uint32 removed_item_ids = 11;</code>
+     * @return The count of removedItemIds.
+     */
+    public int getRemovedItemIdsCount() {
+      return removedItemIds_.size();
+    }
+    /**
+     * <pre>
+     * 增量续传：期间已移除的道具
+     * </pre>
+     *
+     * <code>repeated uint32 removed_item_ids = 11;</code>
+     * @param index The index of the element to return.
+     * @return The removedItemIds at the given index.
+     */
+    public int getRemovedItemIds(int index) {
+      return removedItemIds_.getInt(index);
+    }
+    private int removedItemIdsMemoizedSerializedSize = -1;
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -9505,23 +9873,47 @@ public final class Message {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (roomId_ != 0) {
-        output.writeUInt32(1, roomId_);
+      getSerializedSize();
+      if (success_ != false) {
+        output.writeBool(1, success_);
       }
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(roomName_)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, roomName_);
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(message_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, message_);
       }
-      if (currentPlayers_ != 0) {
-        output.writeUInt32(3, currentPlayers_);
+      if (playerId_ != 0) {
+        output.writeUInt32(3, playerId_);
       }
-      if (maxPlayers_ != 0) {
-        output.writeUInt32(4, maxPlayers_);
+      if (roomId_ != 0) {
+        output.writeUInt32(4, roomId_);
+      }
+      if (serverTick_ != 0) {
+        output.writeUInt32(5, serverTick_);
       }
       if (isPlaying_ != false) {
-        output.writeBool(5, isPlaying_);
+        output.writeBool(6, isPlaying_);
       }
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(hostName_)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 6, hostName_);
+      if (isPaused_ != false) {
+        output.writeBool(7, isPaused_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(sessionToken_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 8, sessionToken_);
+      }
+      if (catchUp_ != null) {
+        output.writeMessage(9, getCatchUp());
+      }
+      if (getRemovedEnemyIdsList().size() > 0) {
+        output.writeUInt32NoTag(82);
+        output.writeUInt32NoTag(removedEnemyIdsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < removedEnemyIds_.size(); i++) {
+        output.writeUInt32NoTag(removedEnemyIds_.getInt(i));
+      }
+      if (getRemovedItemIdsList().size() > 0) {
+        output.writeUInt32NoTag(90);
+        output.writeUInt32NoTag(removedItemIdsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < removedItemIds_.size(); i++) {
+        output.writeUInt32NoTag(removedItemIds_.getInt(i));
       }
       unknownFields.writeTo(output);
     }
@@ -9532,27 +9924,67 @@ public final class Message {
       if (size != -1) return size;
 
       size = 0;
-      if (roomId_ != 0) {
+      if (success_ != false) {
         size += com.google.protobuf.CodedOutputStream
-          .computeUInt32Size(1, roomId_);
+          .computeBoolSize(1, success_);
       }
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(roomName_)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, roomName_);
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(message_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, message_);
       }
-      if (currentPlayers_ != 0) {
+      if (playerId_ != 0) {
         size += com.google.protobuf.CodedOutputStream
-          .computeUInt32Size(3, currentPlayers_);
+          .computeUInt32Size(3, playerId_);
       }
-      if (maxPlayers_ != 0) {
+      if (roomId_ != 0) {
         size += com.google.protobuf.CodedOutputStream
-          .computeUInt32Size(4, maxPlayers_);
+          .computeUInt32Size(4, roomId_);
+      }
+      if (serverTick_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(5, serverTick_);
       }
       if (isPlaying_ != false) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(5, isPlaying_);
+          .computeBoolSize(6, isPlaying_);
       }
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(hostName_)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(6, hostName_);
+      if (isPaused_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(7, isPaused_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(sessionToken_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(8, sessionToken_);
+      }
+      if (catchUp_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(9, getCatchUp());
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < removedEnemyIds_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeUInt32SizeNoTag(removedEnemyIds_.getInt(i));
+        }
+        size += dataSize;
+        if (!getRemovedEnemyIdsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        removedEnemyIdsMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < removedItemIds_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeUInt32SizeNoTag(removedItemIds_.getInt(i));
+        }
+        size += dataSize;
+        if (!getRemovedItemIdsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        removedItemIdsMemoizedSerializedSize = dataSize;
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -9564,23 +9996,36 @@ public final class Message {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof lawnmower.Message.RoomInfo)) {
+      if (!(obj instanceof lawnmower.Message.S2C_ReconnectAck)) {
         return super.equals(obj);
       }
-      lawnmower.Message.RoomInfo other = (lawnmower.Message.RoomInfo) obj;
+      lawnmower.Message.S2C_ReconnectAck other = (lawnmower.Message.S2C_ReconnectAck) obj;
 
+      if (getSuccess()
+          != other.getSuccess()) return false;
+      if (!getMessage()
+          .equals(other.getMessage())) return false;
+      if (getPlayerId()
+          != other.getPlayerId()) return false;
       if (getRoomId()
           != other.getRoomId()) return false;
-      if (!getRoomName()
-          .equals(other.getRoomName())) return false;
-      if (getCurrentPlayers()
-          != other.getCurrentPlayers()) return false;
-      if (getMaxPlayers()
-          != other.getMaxPlayers()) return false;
+      if (getServerTick()
+          != other.getServerTick()) return false;
       if (getIsPlaying()
           != other.getIsPlaying()) return false;
-      if (!getHostName()
-          .equals(other.getHostName())) return false;
+      if (getIsPaused()
+          != other.getIsPaused()) return false;
+      if (!getSessionToken()
+          .equals(other.getSessionToken())) return false;
+      if (hasCatchUp() != other.hasCatchUp()) return false;
+      if (hasCatchUp()) {
+        if (!getCatchUp()
+            .equals(other.getCatchUp())) return false;
+      }
+      if (!getRemovedEnemyIdsList()
+          .equals(other.getRemovedEnemyIdsList())) return false;
+      if (!getRemovedItemIdsList()
+          .equals(other.getRemovedItemIdsList())) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -9592,87 +10037,105 @@ public final class Message {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + SUCCESS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getSuccess());
+      hash = (37 * hash) + MESSAGE_FIELD_NUMBER;
+      hash = (53 * hash) + getMessage().hashCode();
+      hash = (37 * hash) + PLAYER_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getPlayerId();
       hash = (37 * hash) + ROOM_ID_FIELD_NUMBER;
       hash = (53 * hash) + getRoomId();
-      hash = (37 * hash) + ROOM_NAME_FIELD_NUMBER;
-      hash = (53 * hash) + getRoomName().hashCode();
-      hash = (37 * hash) + CURRENT_PLAYERS_FIELD_NUMBER;
-      hash = (53 * hash) + getCurrentPlayers();
-      hash = (37 * hash) + MAX_PLAYERS_FIELD_NUMBER;
-      hash = (53 * hash) + getMaxPlayers();
+      hash = (37 * hash) + SERVER_TICK_FIELD_NUMBER;
+      hash = (53 * hash) + getServerTick();
       hash = (37 * hash) + IS_PLAYING_FIELD_NUMBER;
       hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
           getIsPlaying());
-      hash = (37 * hash) + HOST_NAME_FIELD_NUMBER;
-      hash = (53 * hash) + getHostName().hashCode();
+      hash = (37 * hash) + IS_PAUSED_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getIsPaused());
+      hash = (37 * hash) + SESSION_TOKEN_FIELD_NUMBER;
+      hash = (53 * hash) + getSessionToken().hashCode();
+      if (hasCatchUp()) {
+        hash = (37 * hash) + CATCH_UP_FIELD_NUMBER;
+        hash = (53 * hash) + getCatchUp().hashCode();
+      }
+      if (getRemovedEnemyIdsCount() > 0) {
+        hash = (37 * hash) + REMOVED_ENEMY_IDS_FIELD_NUMBER;
+        hash = (53 * hash) + getRemovedEnemyIdsList().hashCode();
+      }
+      if (getRemovedItemIdsCount() > 0) {
+        hash = (37 * hash) + REMOVED_ITEM_IDS_FIELD_NUMBER;
+        hash = (53 * hash) + getRemovedItemIdsList().hashCode();
+      }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static lawnmower.Message.RoomInfo parseFrom(
+    public static lawnmower.Message.S2C_ReconnectAck parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static lawnmower.Message.RoomInfo parseFrom(
+    public static lawnmower.Message.S2C_ReconnectAck parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static lawnmower.Message.RoomInfo parseFrom(
+    public static lawnmower.Message.S2C_ReconnectAck parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static lawnmower.Message.RoomInfo parseFrom(
+    public static lawnmower.Message.S2C_ReconnectAck parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static lawnmower.Message.RoomInfo parseFrom(byte[] data)
+    public static lawnmower.Message.S2C_ReconnectAck parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static lawnmower.Message.RoomInfo parseFrom(
+    public static lawnmower.Message.S2C_ReconnectAck parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static lawnmower.Message.RoomInfo parseFrom(java.io.InputStream input)
+    public static lawnmower.Message.S2C_ReconnectAck parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static lawnmower.Message.RoomInfo parseFrom(
+    public static lawnmower.Message.S2C_ReconnectAck parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static lawnmower.Message.RoomInfo parseDelimitedFrom(java.io.InputStream input)
+    public static lawnmower.Message.S2C_ReconnectAck parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static lawnmower.Message.RoomInfo parseDelimitedFrom(
+    public static lawnmower.Message.S2C_ReconnectAck parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static lawnmower.Message.RoomInfo parseFrom(
+    public static lawnmower.Message.S2C_ReconnectAck parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static lawnmower.Message.RoomInfo parseFrom(
+    public static lawnmower.Message.S2C_ReconnectAck parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -9685,7 +10148,7 @@ public final class Message {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(lawnmower.Message.RoomInfo prototype) {
+    public static Builder newBuilder(lawnmower.Message.S2C_ReconnectAck prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -9702,29 +10165,29 @@ public final class Message {
     }
     /**
      * <pre>
-     * 房间信息
+     * 服务器 -&gt; 客户端：重连确认
      * </pre>
      *
-     * Protobuf type {@code lawnmower.RoomInfo}
+     * Protobuf type {@code lawnmower.S2C_ReconnectAck}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:lawnmower.RoomInfo)
-        lawnmower.Message.RoomInfoOrBuilder {
+        // @@protoc_insertion_point(builder_implements:lawnmower.S2C_ReconnectAck)
+        lawnmower.Message.S2C_ReconnectAckOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return lawnmower.Message.internal_static_lawnmower_RoomInfo_descriptor;
+        return lawnmower.Message.internal_static_lawnmower_S2C_ReconnectAck_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return lawnmower.Message.internal_static_lawnmower_RoomInfo_fieldAccessorTable
+        return lawnmower.Message.internal_static_lawnmower_S2C_ReconnectAck_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                lawnmower.Message.RoomInfo.class, lawnmower.Message.RoomInfo.Builder.class);
+                lawnmower.Message.S2C_ReconnectAck.class, lawnmower.Message.S2C_ReconnectAck.Builder.class);
       }
 
-      // Construct using lawnmower.Message.RoomInfo.newBuilder()
+      // Construct using lawnmower.Message.S2C_ReconnectAck.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -9742,35 +10205,49 @@ public final class Message {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        roomId_ = 0;
+        success_ = false;
 
-        roomName_ = "";
+        message_ = "";
 
-        currentPlayers_ = 0;
+        playerId_ = 0;
 
-        maxPlayers_ = 0;
+        roomId_ = 0;
+
+        serverTick_ = 0;
 
         isPlaying_ = false;
 
-        hostName_ = "";
+        isPaused_ = false;
+
+        sessionToken_ = "";
 
+        if (catchUpBuilder_ == null) {
+          catchUp_ = null;
+        } else {
+          catchUp_ = null;
+          catchUpBuilder_ = null;
+        }
+        removedEnemyIds_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        removedItemIds_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return lawnmower.Message.internal_static_lawnmower_RoomInfo_descriptor;
+        return lawnmower.Message.internal_static_lawnmower_S2C_ReconnectAck_descriptor;
       }
 
       @java.lang.Override
-      public lawnmower.Message.RoomInfo getDefaultInstanceForType() {
-        return lawnmower.Message.RoomInfo.getDefaultInstance();
+      public lawnmower.Message.S2C_ReconnectAck getDefaultInstanceForType() {
+        return lawnmower.Message.S2C_ReconnectAck.getDefaultInstance();
       }
 
       @java.lang.Override
-      public lawnmower.Message.RoomInfo build() {
-        lawnmower.Message.RoomInfo result = buildPartial();
+      public lawnmower.Message.S2C_ReconnectAck build() {
+        lawnmower.Message.S2C_ReconnectAck result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -9778,14 +10255,32 @@ public final class Message {
       }
 
       @java.lang.Override
-      public lawnmower.Message.RoomInfo buildPartial() {
-        lawnmower.Message.RoomInfo result = new lawnmower.Message.RoomInfo(this);
+      public lawnmower.Message.S2C_ReconnectAck buildPartial() {
+        lawnmower.Message.S2C_ReconnectAck result = new lawnmower.Message.S2C_ReconnectAck(this);
+        int from_bitField0_ = bitField0_;
+        result.success_ = success_;
+        result.message_ = message_;
+        result.playerId_ = playerId_;
         result.roomId_ = roomId_;
-        result.roomName_ = roomName_;
-        result.currentPlayers_ = currentPlayers_;
-        result.maxPlayers_ = maxPlayers_;
+        result.serverTick_ = serverTick_;
         result.isPlaying_ = isPlaying_;
-        result.hostName_ = hostName_;
+        result.isPaused_ = isPaused_;
+        result.sessionToken_ = sessionToken_;
+        if (catchUpBuilder_ == null) {
+          result.catchUp_ = catchUp_;
+        } else {
+          result.catchUp_ = catchUpBuilder_.build();
+        }
+        if (((bitField0_ & 0x00000001) != 0)) {
+          removedEnemyIds_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.removedEnemyIds_ = removedEnemyIds_;
+        if (((bitField0_ & 0x00000002) != 0)) {
+          removedItemIds_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.removedItemIds_ = removedItemIds_;
         onBuilt();
         return result;
       }
@@ -9824,34 +10319,63 @@ public final class Message {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof lawnmower.Message.RoomInfo) {
-          return mergeFrom((lawnmower.Message.RoomInfo)other);
+        if (other instanceof lawnmower.Message.S2C_ReconnectAck) {
+          return mergeFrom((lawnmower.Message.S2C_ReconnectAck)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(lawnmower.Message.RoomInfo other) {
-        if (other == lawnmower.Message.RoomInfo.getDefaultInstance()) return this;
-        if (other.getRoomId() != 0) {
-          setRoomId(other.getRoomId());
+      public Builder mergeFrom(lawnmower.Message.S2C_ReconnectAck other) {
+        if (other == lawnmower.Message.S2C_ReconnectAck.getDefaultInstance()) return this;
+        if (other.getSuccess() != false) {
+          setSuccess(other.getSuccess());
         }
-        if (!other.getRoomName().isEmpty()) {
-          roomName_ = other.roomName_;
+        if (!other.getMessage().isEmpty()) {
+          message_ = other.message_;
           onChanged();
         }
-        if (other.getCurrentPlayers() != 0) {
-          setCurrentPlayers(other.getCurrentPlayers());
+        if (other.getPlayerId() != 0) {
+          setPlayerId(other.getPlayerId());
         }
-        if (other.getMaxPlayers() != 0) {
-          setMaxPlayers(other.getMaxPlayers());
+        if (other.getRoomId() != 0) {
+          setRoomId(other.getRoomId());
+        }
+        if (other.getServerTick() != 0) {
+          setServerTick(other.getServerTick());
         }
         if (other.getIsPlaying() != false) {
           setIsPlaying(other.getIsPlaying());
         }
-        if (!other.getHostName().isEmpty()) {
-          hostName_ = other.hostName_;
+        if (other.getIsPaused() != false) {
+          setIsPaused(other.getIsPaused());
+        }
+        if (!other.getSessionToken().isEmpty()) {
+          sessionToken_ = other.sessionToken_;
+          onChanged();
+        }
+        if (other.hasCatchUp()) {
+          mergeCatchUp(other.getCatchUp());
+        }
+        if (!other.removedEnemyIds_.isEmpty()) {
+          if (removedEnemyIds_.isEmpty()) {
+            removedEnemyIds_ = other.removedEnemyIds_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureRemovedEnemyIdsIsMutable();
+            removedEnemyIds_.addAll(other.removedEnemyIds_);
+          }
+          onChanged();
+        }
+        if (!other.removedItemIds_.isEmpty()) {
+          if (removedItemIds_.isEmpty()) {
+            removedItemIds_ = other.removedItemIds_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureRemovedItemIdsIsMutable();
+            removedItemIds_.addAll(other.removedItemIds_);
+          }
           onChanged();
         }
         this.mergeUnknownFields(other.unknownFields);
@@ -9869,11 +10393,11 @@ public final class Message {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        lawnmower.Message.RoomInfo parsedMessage = null;
+        lawnmower.Message.S2C_ReconnectAck parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (lawnmower.Message.RoomInfo) e.getUnfinishedMessage();
+          parsedMessage = (lawnmower.Message.S2C_ReconnectAck) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -9882,66 +10406,67 @@ public final class Message {
         }
         return this;
       }
+      private int bitField0_;
 
-      private int roomId_ ;
+      private boolean success_ ;
       /**
        * <pre>
-       * 房间id
+       * 是否成功
        * </pre>
        *
-       * <code>uint32 room_id = 1;</code>
-       * @return The roomId.
+       * <code>bool success = 1;</code>
+       * @return The success.
        */
       @java.lang.Override
-      public int getRoomId() {
-        return roomId_;
+      public boolean getSuccess() {
+        return success_;
       }
       /**
        * <pre>
-       * 房间id
+       * 是否成功
        * </pre>
        *
-       * <code>uint32 room_id = 1;</code>
-       * @param value The roomId to set.
+       * <code>bool success = 1;</code>
+       * @param value The success to set.
        * @return This builder for chaining.
        */
-      public Builder setRoomId(int value) {
+      public Builder setSuccess(boolean value) {
         
-        roomId_ = value;
+        success_ = value;
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * 房间id
+       * 是否成功
        * </pre>
        *
-       * <code>uint32 room_id = 1;</code>
+       * <code>bool success = 1;</code>
        * @return This builder for chaining.
        */
-      public Builder clearRoomId() {
+      public Builder clearSuccess() {
         
-        roomId_ = 0;
+        success_ = false;
         onChanged();
         return this;
       }
 
-      private java.lang.Object roomName_ = "";
+      private java.lang.Object message_ = "";
       /**
        * <pre>
-       * 房间名
+       * 结果说明
        * </pre>
        *
-       * <code>string room_name = 2;</code>
-       * @return The roomName.
+       * <code>string message = 2;</code>
+       * @return The message.
        */
-      public java.lang.String getRoomName() {
-        java.lang.Object ref = roomName_;
+      public java.lang.String getMessage() {
+        java.lang.Object ref = message_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          roomName_ = s;
+          message_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
@@ -9949,20 +10474,20 @@ public final class Message {
       }
       /**
        * <pre>
-       * 房间名
+       * 结果说明
        * </pre>
        *
-       * <code>string room_name = 2;</code>
-       * @return The bytes for roomName.
+       * <code>string message = 2;</code>
+       * @return The bytes for message.
        */
       public com.google.protobuf.ByteString
-          getRoomNameBytes() {
-        java.lang.Object ref = roomName_;
+          getMessageBytes() {
+        java.lang.Object ref = message_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          roomName_ = b;
+          message_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
@@ -9970,140 +10495,183 @@ public final class Message {
       }
       /**
        * <pre>
-       * 房间名
+       * 结果说明
        * </pre>
        *
-       * <code>string room_name = 2;</code>
-       * @param value The roomName to set.
+       * <code>string message = 2;</code>
+       * @param value The message to set.
        * @return This builder for chaining.
        */
-      public Builder setRoomName(
+      public Builder setMessage(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
   
-        roomName_ = value;
+        message_ = value;
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * 房间名
+       * 结果说明
        * </pre>
        *
-       * <code>string room_name = 2;</code>
+       * <code>string message = 2;</code>
        * @return This builder for chaining.
        */
-      public Builder clearRoomName() {
+      public Builder clearMessage() {
         
-        roomName_ = getDefaultInstance().getRoomName();
+        message_ = getDefaultInstance().getMessage();
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * 房间名
+       * 结果说明
        * </pre>
        *
-       * <code>string room_name = 2;</code>
-       * @param value The bytes for roomName to set.
+       * <code>string message = 2;</code>
+       * @param value The bytes for message to set.
        * @return This builder for chaining.
        */
-      public Builder setRoomNameBytes(
+      public Builder setMessageBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
         
-        roomName_ = value;
+        message_ = value;
         onChanged();
         return this;
       }
 
-      private int currentPlayers_ ;
+      private int playerId_ ;
       /**
        * <pre>
-       * 当前玩家数
+       * 玩家ID
        * </pre>
        *
-       * <code>uint32 current_players = 3;</code>
-       * @return The currentPlayers.
+       * <code>uint32 player_id = 3;</code>
+       * @return The playerId.
        */
       @java.lang.Override
-      public int getCurrentPlayers() {
-        return currentPlayers_;
+      public int getPlayerId() {
+        return playerId_;
       }
       /**
        * <pre>
-       * 当前玩家数
+       * 玩家ID
        * </pre>
        *
-       * <code>uint32 current_players = 3;</code>
-       * @param value The currentPlayers to set.
+       * <code>uint32 player_id = 3;</code>
+       * @param value The playerId to set.
        * @return This builder for chaining.
        */
-      public Builder setCurrentPlayers(int value) {
+      public Builder setPlayerId(int value) {
         
-        currentPlayers_ = value;
+        playerId_ = value;
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * 当前玩家数
+       * 玩家ID
        * </pre>
        *
-       * <code>uint32 current_players = 3;</code>
+       * <code>uint32 player_id = 3;</code>
        * @return This builder for chaining.
        */
-      public Builder clearCurrentPlayers() {
+      public Builder clearPlayerId() {
         
-        currentPlayers_ = 0;
+        playerId_ = 0;
         onChanged();
         return this;
       }
 
-      private int maxPlayers_ ;
+      private int roomId_ ;
       /**
        * <pre>
-       * 最大玩家数
+       * 房间ID
        * </pre>
        *
-       * <code>uint32 max_players = 4;</code>
-       * @return The maxPlayers.
+       * <code>uint32 room_id = 4;</code>
+       * @return The roomId.
        */
       @java.lang.Override
-      public int getMaxPlayers() {
-        return maxPlayers_;
+      public int getRoomId() {
+        return roomId_;
       }
       /**
        * <pre>
-       * 最大玩家数
+       * 房间ID
        * </pre>
        *
-       * <code>uint32 max_players = 4;</code>
-       * @param value The maxPlayers to set.
+       * <code>uint32 room_id = 4;</code>
+       * @param value The roomId to set.
        * @return This builder for chaining.
        */
-      public Builder setMaxPlayers(int value) {
+      public Builder setRoomId(int value) {
         
-        maxPlayers_ = value;
+        roomId_ = value;
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * 最大玩家数
+       * 房间ID
        * </pre>
        *
-       * <code>uint32 max_players = 4;</code>
+       * <code>uint32 room_id = 4;</code>
        * @return This builder for chaining.
        */
-      public Builder clearMaxPlayers() {
+      public Builder clearRoomId() {
         
-        maxPlayers_ = 0;
+        roomId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int serverTick_ ;
+      /**
+       * <pre>
+       * 服务器当前 tick
+       * </pre>
+       *
+       * <code>uint32 server_tick = 5;</code>
+       * @return The serverTick.
+       */
+      @java.lang.Override
+      public int getServerTick() {
+        return serverTick_;
+      }
+      /**
+       * <pre>
+       * 服务器当前 tick
+       * </pre>
+       *
+       * <code>uint32 server_tick = 5;</code>
+       * @param value The serverTick to set.
+       * @return This builder for chaining.
+       */
+      public Builder setServerTick(int value) {
+        
+        serverTick_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 服务器当前 tick
+       * </pre>
+       *
+       * <code>uint32 server_tick = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearServerTick() {
+        
+        serverTick_ = 0;
         onChanged();
         return this;
       }
@@ -10111,10 +10679,10 @@ public final class Message {
       private boolean isPlaying_ ;
       /**
        * <pre>
-       * 是否游戏中
+       * 房间是否处于游戏中
        * </pre>
        *
-       * <code>bool is_playing = 5;</code>
+       * <code>bool is_playing = 6;</code>
        * @return The isPlaying.
        */
       @java.lang.Override
@@ -10123,10 +10691,10 @@ public final class Message {
       }
       /**
        * <pre>
-       * 是否游戏中
+       * 房间是否处于游戏中
        * </pre>
        *
-       * <code>bool is_playing = 5;</code>
+       * <code>bool is_playing = 6;</code>
        * @param value The isPlaying to set.
        * @return This builder for chaining.
        */
@@ -10138,10 +10706,10 @@ public final class Message {
       }
       /**
        * <pre>
-       * 是否游戏中
+       * 房间是否处于游戏中
        * </pre>
        *
-       * <code>bool is_playing = 5;</code>
+       * <code>bool is_playing = 6;</code>
        * @return This builder for chaining.
        */
       public Builder clearIsPlaying() {
@@ -10151,22 +10719,65 @@ public final class Message {
         return this;
       }
 
-      private java.lang.Object hostName_ = "";
+      private boolean isPaused_ ;
       /**
        * <pre>
-       * 房主名称
+       * 游戏是否暂停（升级流程）
        * </pre>
        *
-       * <code>string host_name = 6;</code>
-       * @return The hostName.
+       * <code>bool is_paused = 7;</code>
+       * @return The isPaused.
        */
-      public java.lang.String getHostName() {
-        java.lang.Object ref = hostName_;
+      @java.lang.Override
+      public boolean getIsPaused() {
+        return isPaused_;
+      }
+      /**
+       * <pre>
+       * 游戏是否暂停（升级流程）
+       * </pre>
+       *
+       * <code>bool is_paused = 7;</code>
+       * @param value The isPaused to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIsPaused(boolean value) {
+        
+        isPaused_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 游戏是否暂停（升级流程）
+       * </pre>
+       *
+       * <code>bool is_paused = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIsPaused() {
+        
+        isPaused_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object sessionToken_ = "";
+      /**
+       * <pre>
+       * 会话令牌（可选刷新）
+       * </pre>
+       *
+       * <code>string session_token = 8;</code>
+       * @return The sessionToken.
+       */
+      public java.lang.String getSessionToken() {
+        java.lang.Object ref = sessionToken_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          hostName_ = s;
+          sessionToken_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
@@ -10174,20 +10785,20 @@ public final class Message {
       }
       /**
        * <pre>
-       * 房主名称
+       * 会话令牌（可选刷新）
        * </pre>
        *
-       * <code>string host_name = 6;</code>
-       * @return The bytes for hostName.
+       * <code>string session_token = 8;</code>
+       * @return The bytes for sessionToken.
        */
       public com.google.protobuf.ByteString
-          getHostNameBytes() {
-        java.lang.Object ref = hostName_;
+          getSessionTokenBytes() {
+        java.lang.Object ref = sessionToken_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          hostName_ = b;
+          sessionToken_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
@@ -10195,54 +10806,432 @@ public final class Message {
       }
       /**
        * <pre>
-       * 房主名称
+       * 会话令牌（可选刷新）
        * </pre>
        *
-       * <code>string host_name = 6;</code>
-       * @param value The hostName to set.
+       * <code>string session_token = 8;</code>
+       * @param value The sessionToken to set.
        * @return This builder for chaining.
        */
-      public Builder setHostName(
+      public Builder setSessionToken(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
   
-        hostName_ = value;
+        sessionToken_ = value;
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * 房主名称
+       * 会话令牌（可选刷新）
        * </pre>
        *
-       * <code>string host_name = 6;</code>
+       * <code>string session_token = 8;</code>
        * @return This builder for chaining.
        */
-      public Builder clearHostName() {
+      public Builder clearSessionToken() {
         
-        hostName_ = getDefaultInstance().getHostName();
+        sessionToken_ = getDefaultInstance().getSessionToken();
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * 房主名称
+       * 会话令牌（可选刷新）
        * </pre>
        *
-       * <code>string host_name = 6;</code>
-       * @param value The bytes for hostName to set.
+       * <code>string session_token = 8;</code>
+       * @param value The bytes for sessionToken to set.
        * @return This builder for chaining.
        */
-      public Builder setHostNameBytes(
+      public Builder setSessionTokenBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
         
-        hostName_ = value;
+        sessionToken_ = value;
+        onChanged();
+        return this;
+      }
+
+      private lawnmower.Message.S2C_GameStateSync catchUp_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          lawnmower.Message.S2C_GameStateSync, lawnmower.Message.S2C_GameStateSync.Builder, lawnmower.Message.S2C_GameStateSyncOrBuilder> catchUpBuilder_;
+      /**
+       * <pre>
+       * 增量续传：客户端 last_server_tick 仍在服务器保留窗口内时，下发此后变化的实体，
+       * 客户端保留本地世界直接应用，不再等待全量快照；缺省时按全量快照流程恢复
+       * </pre>
+       *
+       * <code>.lawnmower.S2C_GameStateSync catch_up = 9;</code>
+       * @return Whether the catchUp field is set.
+       */
+      public boolean hasCatchUp() {
+        return catchUpBuilder_ != null || catchUp_ != null;
+      }
+      /**
+       * <pre>
+       * 增量续传：客户端 last_server_tick 仍在服务器保留窗口内时，下发此后变化的实体，
+       * 客户端保留本地世界直接应用，不再等待全量快照；缺省时按全量快照流程恢复
+       * </pre>
+       *
+       * <code>.lawnmower.S2C_GameStateSync catch_up = 9;</code>
+       * @return The catchUp.
+       */
+      public lawnmower.Message.S2C_GameStateSync getCatchUp() {
+        if (catchUpBuilder_ == null) {
+          return catchUp_ == null ? lawnmower.Message.S2C_GameStateSync.getDefaultInstance() : catchUp_;
+        } else {
+          return catchUpBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * 增量续传：客户端 last_server_tick 仍在服务器保留窗口内时，下发此后变化的实体，
+       * 客户端保留本地世界直接应用，不再等待全量快照；缺省时按全量快照流程恢复
+       * </pre>
+       *
+       * <code>.lawnmower.S2C_GameStateSync catch_up = 9;</code>
+       */
+      public Builder setCatchUp(lawnmower.Message.S2C_GameStateSync value) {
+        if (catchUpBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          catchUp_ = value;
+          onChanged();
+        } else {
+          catchUpBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * 增量续传：客户端 last_server_tick 仍在服务器保留窗口内时，下发此后变化的实体，
+       * 客户端保留本地世界直接应用，不再等待全量快照；缺省时按全量快照流程恢复
+       * </pre>
+       *
+       * <code>.lawnmower.S2C_GameStateSync catch_up = 9;</code>
+       */
+      public Builder setCatchUp(
+          lawnmower.Message.S2C_GameStateSync.Builder builderForValue) {
+        if (catchUpBuilder_ == null) {
+          catchUp_ = builderForValue.build();
+          onChanged();
+        } else {
+          catchUpBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * 增量续传：客户端 last_server_tick 仍在服务器保留窗口内时，下发此后变化的实体，
+       * 客户端保留本地世界直接应用，不再等待全量快照；缺省时按全量快照流程恢复
+       * </pre>
+       *
+       * <code>.lawnmower.S2C_GameStateSync catch_up = 9;</code>
+       */
+      public Builder mergeCatchUp(lawnmower.Message.S2C_GameStateSync value) {
+        if (catchUpBuilder_ == null) {
+          if (catchUp_ != null) {
+            catchUp_ =
+              lawnmower.Message.S2C_GameStateSync.newBuilder(catchUp_).mergeFrom(value).buildPartial();
+          } else {
+            catchUp_ = value;
+          }
+          onChanged();
+        } else {
+          catchUpBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * 增量续传：客户端 last_server_tick 仍在服务器保留窗口内时，下发此后变化的实体，
+       * 客户端保留本地世界直接应用，不再等待全量快照；缺省时按全量快照流程恢复
+       * </pre>
+       *
+       * <code>.lawnmower.S2C_GameStateSync catch_up = 9;</code>
+       */
+      public Builder clearCatchUp() {
+        if (catchUpBuilder_ == null) {
+          catchUp_ = null;
+          onChanged();
+        } else {
+          catchUp_ = null;
+          catchUpBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * 增量续传：客户端 last_server_tick 仍在服务器保留窗口内时，下发此后变化的实体，
+       * 客户端保留本地世界直接应用，不再等待全量快照；缺省时按全量快照流程恢复
+       * </pre>
+       *
+       * <code>.lawnmower.S2C_GameStateSync catch_up = 9;</code>
+       */
+      public lawnmower.Message.S2C_GameStateSync.Builder getCatchUpBuilder() {
+        
+        onChanged();
+        return getCatchUpFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * 增量续传：客户端 last_server_tick 仍在服务器保留窗口内时，下发此后变化的实体，
+       * 客户端保留本地世界直接应用，不再等待全量快照；缺省时按全量快照流程恢复
+       * </pre>
+       *
+       * <code>.lawnmower.S2C_GameStateSync catch_up = 9;</code>
+       */
+      public lawnmower.Message.S2C_GameStateSyncOrBuilder getCatchUpOrBuilder() {
+        if (catchUpBuilder_ != null) {
+          return catchUpBuilder_.getMessageOrBuilder();
+        } else {
+          return catchUp_ == null ?
+              lawnmower.Message.S2C_GameStateSync.getDefaultInstance() : catchUp_;
+        }
+      }
+      /**
+       * <pre>
+       * 增量续传：客户端 last_server_tick 仍在服务器保留窗口内时，下发此后变化的实体，
+       * 客户端保留本地世界直接应用，不再等待全量快照；缺省时按全量快照流程恢复
+       * </pre>
+       *
+       * <code>.lawnmower.S2C_GameStateSync catch_up = 9;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          lawnmower.Message.S2C_GameStateSync, lawnmower.Message.S2C_GameStateSync.Builder, lawnmower.Message.S2C_GameStateSyncOrBuilder> 
+          getCatchUpFieldBuilder() {
+        if (catchUpBuilder_ == null) {
+          catchUpBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              lawnmower.Message.S2C_GameStateSync, lawnmower.Message.S2C_GameStateSync.Builder, lawnmower.Message.S2C_GameStateSyncOrBuilder>(
+                  getCatchUp(),
+                  getParentForChildren(),
+                  isClean());
+          catchUp_ = null;
+        }
+        return catchUpBuilder_;
+      }
+
+      private com.google.protobuf.Internal.IntList removedEnemyIds_ = emptyIntList();
+      private void ensureRemovedEnemyIdsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          removedEnemyIds_ = mutableCopy(removedEnemyIds_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <pre>
+       * 增量续传：期间已移除的敌人
+       * </pre>
+       *
+       * <code>repeated uint32 removed_enemy_ids = 10;</code>
+       * @return A list containing the removedEnemyIds.
+       */
+      public java.util.List<java.lang.Integer>
+          getRemovedEnemyIdsList() {
+        return ((bitField0_ & 0x00000001) != 0) ?
+                 java.util.Collections.unmodifiableList(removedEnemyIds_) : removedEnemyIds_;
+      }
+      /**
+       * <pre>
+       * 增量续传：期间已移除的敌人
+       * </pre>
+       *
+       * <code>repeated uint32 removed_enemy_ids = 10;</code>
+       * @return The count of removedEnemyIds.
+       */
+      public int getRemovedEnemyIdsCount() {
+        return removedEnemyIds_.size();
+      }
+      /**
+       * <pre>
+       * 增量续传：期间已移除的敌人
+       * </pre>
+       *
+       * <code>repeated uint32 removed_enemy_ids = 10;</code>
+       * @param index The index of the element to return.
+       * @return The removedEnemyIds at the given index.
+       */
+      public int getRemovedEnemyIds(int index) {
+        return removedEnemyIds_.getInt(index);
+      }
+      /**
+       * <pre>
+       * 增量续传：期间已移除的敌人
+       * </pre>
+       *
+       * <code>repeated uint32 removed_enemy_ids = 10;</code>
+       * @param index The index to set the value at.
+       * @param value The removedEnemyIds to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRemovedEnemyIds(
+          int index, int value) {
+        ensureRemovedEnemyIdsIsMutable();
+        removedEnemyIds_.setInt(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 增量续传：期间已移除的敌人
+       * </pre>
+       *
+       * <code>repeated uint32 removed_enemy_ids = 10;</code>
+       * @param value The removedEnemyIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addRemovedEnemyIds(int value) {
+        ensureRemovedEnemyIdsIsMutable();
+        removedEnemyIds_.addInt(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 增量续传：期间已移除的敌人
+       * </pre>
+       *
+       * <code>repeated uint32 removed_enemy_ids = 10;</code>
+       * @param values The removedEnemyIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllRemovedEnemyIds(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureRemovedEnemyIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, removedEnemyIds_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 增量续传：期间已移除的敌人
+       * </pre>
+       *
+       * <code>repeated uint32 removed_enemy_ids = 10;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRemovedEnemyIds() {
+        removedEnemyIds_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.IntList removedItemIds_ = emptyIntList();
+      private void ensureRemovedItemIdsIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          removedItemIds_ = mutableCopy(removedItemIds_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      /**
+       * <pre>
+       * 增量续传：期间已移除的道具
+       * </pre>
+       *
+       * <code>repeated uint32 removed_item_ids = 11;</code>
+       * @return A list containing the removedItemIds.
+       */
+      public java.util.List<java.lang.Integer>
+          getRemovedItemIdsList() {
+        return ((bitField0_ & 0x00000002) != 0) ?
+                 java.util.Collections.unmodifiableList(removedItemIds_) : removedItemIds_;
+      }
+      /**
+       * <pre>
+       * 增量续传：期间已移除的道具
+       * </pre>
+       *
+       * <code>repeated uint32 removed_item_ids = 11;</code>
+       * @return The count of removedItemIds.
+       */
+      public int getRemovedItemIdsCount() {
+        return removedItemIds_.size();
+      }
+      /**
+       * <pre>
+       * 增量续传：期间已移除的道具
+       * </pre>
+       *
+       * <code>repeated uint32 removed_item_ids = 11;</code>
+       * @param index The index of the element to return.
+       * @return The removedItemIds at the given index.
+       */
+      public int getRemovedItemIds(int index) {
+        return removedItemIds_.getInt(index);
+      }
+      /**
+       * <pre>
+       * 增量续传：期间已移除的道具
+       * </pre>
+       *
+       * <code>repeated uint32 removed_item_ids = 11;</code>
+       * @param index The index to set the value at.
+       * @param value The removedItemIds to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRemovedItemIds(
+          int index, int value) {
+        ensureRemovedItemIdsIsMutable();
+        removedItemIds_.setInt(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 增量续传：期间已移除的道具
+       * </pre>
+       *
+       * <code>repeated uint32 removed_item_ids = 11;</code>
+       * @param value The removedItemIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addRemovedItemIds(int value) {
+        ensureRemovedItemIdsIsMutable();
+        removedItemIds_.addInt(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 增量续传：期间已移除的道具
+       * </pre>
+       *
+       * <code>repeated uint32 removed_item_ids = 11;</code>
+       * @param values The removedItemIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllRemovedItemIds(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureRemovedItemIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, removedItemIds_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 增量续传：期间已移除的道具
+       * </pre>
+       *
+       * <code>repeated uint32 removed_item_ids = 11;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRemovedItemIds() {
+        removedItemIds_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000002);
         onChanged();
         return this;
       }
@@ -10259,125 +11248,156 @@ public final class Message {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:lawnmower.RoomInfo)
+      // @@protoc_insertion_point(builder_scope:lawnmower.S2C_ReconnectAck)
     }
 
-    // @@protoc_insertion_point(class_scope:lawnmower.RoomInfo)
-    private static final lawnmower.Message.RoomInfo DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:lawnmower.S2C_ReconnectAck)
+    private static final lawnmower.Message.S2C_ReconnectAck DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new lawnmower.Message.RoomInfo();
+      DEFAULT_INSTANCE = new lawnmower.Message.S2C_ReconnectAck();
     }
 
-    public static lawnmower.Message.RoomInfo getDefaultInstance() {
+    public static lawnmower.Message.S2C_ReconnectAck getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<RoomInfo>
-        PARSER = new com.google.protobuf.AbstractParser<RoomInfo>() {
+    private static final com.google.protobuf.Parser<S2C_ReconnectAck>
+        PARSER = new com.google.protobuf.AbstractParser<S2C_ReconnectAck>() {
       @java.lang.Override
-      public RoomInfo parsePartialFrom(
+      public S2C_ReconnectAck parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new RoomInfo(input, extensionRegistry);
+        return new S2C_ReconnectAck(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<RoomInfo> parser() {
+    public static com.google.protobuf.Parser<S2C_ReconnectAck> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<RoomInfo> getParserForType() {
+    public com.google.protobuf.Parser<S2C_ReconnectAck> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public lawnmower.Message.RoomInfo getDefaultInstanceForType() {
+    public lawnmower.Message.S2C_ReconnectAck getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface PlayerInfoOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:lawnmower.PlayerInfo)
+  public interface RoomInfoOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:lawnmower.RoomInfo)
       com.google.protobuf.MessageOrBuilder {
 
     /**
      * <pre>
-     * 玩家id
+     * 房间id
      * </pre>
      *
-     * <code>uint32 player_id = 1;</code>
-     * @return The playerId.
+     * <code>uint32 room_id = 1;</code>
+     * @return The roomId.
      */
-    int getPlayerId();
+    int getRoomId();
 
     /**
      * <pre>
-     * 玩家姓名
+     * 房间名
      * </pre>
      *
-     * <code>string player_name = 2;</code>
-     * @return The playerName.
+     * <code>string room_name = 2;</code>
+     * @return The roomName.
      */
-    java.lang.String getPlayerName();
+    java.lang.String getRoomName();
     /**
      * <pre>
-     * 玩家姓名
+     * 房间名
      * </pre>
      *
-     * <code>string player_name = 2;</code>
-     * @return The bytes for playerName.
+     * <code>string room_name = 2;</code>
+     * @return The bytes for roomName.
      */
     com.google.protobuf.ByteString
-        getPlayerNameBytes();
+        getRoomNameBytes();
 
     /**
      * <pre>
-     * 是否准备
+     * 当前玩家数
      * </pre>
      *
-     * <code>bool is_ready = 3;</code>
-     * @return The isReady.
+     * <code>uint32 current_players = 3;</code>
+     * @return The currentPlayers.
      */
-    boolean getIsReady();
+    int getCurrentPlayers();
 
     /**
      * <pre>
-     * 是否房主
+     * 最大玩家数
      * </pre>
      *
-     * <code>bool is_host = 4;</code>
-     * @return The isHost.
+     * <code>uint32 max_players = 4;</code>
+     * @return The maxPlayers.
      */
-    boolean getIsHost();
+    int getMaxPlayers();
+
+    /**
+     * <pre>
+     * 是否游戏中
+     * </pre>
+     *
+     * <code>bool is_playing = 5;</code>
+     * @return The isPlaying.
+     */
+    boolean getIsPlaying();
+
+    /**
+     * <pre>
+     * 房主名称
+     * </pre>
+     *
+     * <code>string host_name = 6;</code>
+     * @return The hostName.
+     */
+    java.lang.String getHostName();
+    /**
+     * <pre>
+     * 房主名称
+     * </pre>
+     *
+     * <code>string host_name = 6;</code>
+     * @return The bytes for hostName.
+     */
+    com.google.protobuf.ByteString
+        getHostNameBytes();
   }
   /**
    * <pre>
-   * 房间内玩家信息
+   * 房间信息
    * </pre>
    *
-   * Protobuf type {@code lawnmower.PlayerInfo}
+   * Protobuf type {@code lawnmower.RoomInfo}
    */
-  public static final class PlayerInfo extends
+  public static final class RoomInfo extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:lawnmower.PlayerInfo)
-      PlayerInfoOrBuilder {
+      // @@protoc_insertion_point(message_implements:lawnmower.RoomInfo)
+      RoomInfoOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use PlayerInfo.newBuilder() to construct.
-    private PlayerInfo(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use RoomInfo.newBuilder() to construct.
+    private RoomInfo(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private PlayerInfo() {
-      playerName_ = "";
+    private RoomInfo() {
+      roomName_ = "";
+      hostName_ = "";
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new PlayerInfo();
+      return new RoomInfo();
     }
 
     @java.lang.Override
@@ -10385,7 +11405,7 @@ public final class Message {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private PlayerInfo(
+    private RoomInfo(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -10405,23 +11425,34 @@ public final class Message {
               break;
             case 8: {
 
-              playerId_ = input.readUInt32();
+              roomId_ = input.readUInt32();
               break;
             }
             case 18: {
               java.lang.String s = input.readStringRequireUtf8();
 
-              playerName_ = s;
+              roomName_ = s;
               break;
             }
             case 24: {
 
-              isReady_ = input.readBool();
+              currentPlayers_ = input.readUInt32();
               break;
             }
             case 32: {
 
-              isHost_ = input.readBool();
+              maxPlayers_ = input.readUInt32();
+              break;
+            }
+            case 40: {
+
+              isPlaying_ = input.readBool();
+              break;
+            }
+            case 50: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              hostName_ = s;
               break;
             }
             default: {
@@ -10447,106 +11478,167 @@ public final class Message {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return lawnmower.Message.internal_static_lawnmower_PlayerInfo_descriptor;
+      return lawnmower.Message.internal_static_lawnmower_RoomInfo_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return lawnmower.Message.internal_static_lawnmower_PlayerInfo_fieldAccessorTable
+      return lawnmower.Message.internal_static_lawnmower_RoomInfo_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              lawnmower.Message.PlayerInfo.class, lawnmower.Message.PlayerInfo.Builder.class);
+              lawnmower.Message.RoomInfo.class, lawnmower.Message.RoomInfo.Builder.class);
     }
 
-    public static final int PLAYER_ID_FIELD_NUMBER = 1;
-    private int playerId_;
+    public static final int ROOM_ID_FIELD_NUMBER = 1;
+    private int roomId_;
     /**
      * <pre>
-     * 玩家id
+     * 房间id
      * </pre>
      *
-     * <code>uint32 player_id = 1;</code>
-     * @return The playerId.
+     * <code>uint32 room_id = 1;</code>
+     * @return The roomId.
      */
     @java.lang.Override
-    public int getPlayerId() {
-      return playerId_;
+    public int getRoomId() {
+      return roomId_;
     }
 
-    public static final int PLAYER_NAME_FIELD_NUMBER = 2;
-    private volatile java.lang.Object playerName_;
+    public static final int ROOM_NAME_FIELD_NUMBER = 2;
+    private volatile java.lang.Object roomName_;
     /**
      * <pre>
-     * 玩家姓名
+     * 房间名
      * </pre>
      *
-     * <code>string player_name = 2;</code>
-     * @return The playerName.
+     * <code>string room_name = 2;</code>
+     * @return The roomName.
      */
     @java.lang.Override
-    public java.lang.String getPlayerName() {
-      java.lang.Object ref = playerName_;
+    public java.lang.String getRoomName() {
+      java.lang.Object ref = roomName_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        playerName_ = s;
+        roomName_ = s;
         return s;
       }
     }
     /**
      * <pre>
-     * 玩家姓名
+     * 房间名
      * </pre>
      *
-     * <code>string player_name = 2;</code>
-     * @return The bytes for playerName.
+     * <code>string room_name = 2;</code>
+     * @return The bytes for roomName.
      */
     @java.lang.Override
     public com.google.protobuf.ByteString
-        getPlayerNameBytes() {
-      java.lang.Object ref = playerName_;
+        getRoomNameBytes() {
+      java.lang.Object ref = roomName_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        playerName_ = b;
+        roomName_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
-    public static final int IS_READY_FIELD_NUMBER = 3;
-    private boolean isReady_;
+    public static final int CURRENT_PLAYERS_FIELD_NUMBER = 3;
+    private int currentPlayers_;
     /**
      * <pre>
-     * 是否准备
+     * 当前玩家数
      * </pre>
      *
-     * <code>bool is_ready = 3;</code>
-     * @return The isReady.
+     * <code>uint32 current_players = 3;</code>
+     * @return The currentPlayers.
      */
     @java.lang.Override
-    public boolean getIsReady() {
-      return isReady_;
+    public int getCurrentPlayers() {
+      return currentPlayers_;
     }
 
-    public static final int IS_HOST_FIELD_NUMBER = 4;
-    private boolean isHost_;
+    public static final int MAX_PLAYERS_FIELD_NUMBER = 4;
+    private int maxPlayers_;
     /**
      * <pre>
-     * 是否房主
+     * 最大玩家数
      * </pre>
      *
-     * <code>bool is_host = 4;</code>
-     * @return The isHost.
+     * <code>uint32 max_players = 4;</code>
+     * @return The maxPlayers.
      */
     @java.lang.Override
-    public boolean getIsHost() {
-      return isHost_;
+    public int getMaxPlayers() {
+      return maxPlayers_;
+    }
+
+    public static final int IS_PLAYING_FIELD_NUMBER = 5;
+    private boolean isPlaying_;
+    /**
+     * <pre>
+     * 是否游戏中
+     * </pre>
+     *
+     * <code>bool is_playing = 5;</code>
+     * @return The isPlaying.
+     */
+    @java.lang.Override
+    public boolean getIsPlaying() {
+      return isPlaying_;
+    }
+
+    public static final int HOST_NAME_FIELD_NUMBER = 6;
+    private volatile java.lang.Object hostName_;
+    /**
+     * <pre>
+     * 房主名称
+     * </pre>
+     *
+     * <code>string host_name = 6;</code>
+     * @return The hostName.
+     */
+    @java.lang.Override
+    public java.lang.String getHostName() {
+      java.lang.Object ref = hostName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        hostName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * 房主名称
+     * </pre>
+     *
+     * <code>string host_name = 6;</code>
+     * @return The bytes for hostName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getHostNameBytes() {
+      java.lang.Object ref = hostName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        hostName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
     }
 
     private byte memoizedIsInitialized = -1;
@@ -10563,17 +11655,23 @@ public final class Message {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (playerId_ != 0) {
-        output.writeUInt32(1, playerId_);
+      if (roomId_ != 0) {
+        output.writeUInt32(1, roomId_);
       }
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(playerName_)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, playerName_);
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(roomName_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, roomName_);
       }
-      if (isReady_ != false) {
-        output.writeBool(3, isReady_);
+      if (currentPlayers_ != 0) {
+        output.writeUInt32(3, currentPlayers_);
       }
-      if (isHost_ != false) {
-        output.writeBool(4, isHost_);
+      if (maxPlayers_ != 0) {
+        output.writeUInt32(4, maxPlayers_);
+      }
+      if (isPlaying_ != false) {
+        output.writeBool(5, isPlaying_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(hostName_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 6, hostName_);
       }
       unknownFields.writeTo(output);
     }
@@ -10584,20 +11682,27 @@ public final class Message {
       if (size != -1) return size;
 
       size = 0;
-      if (playerId_ != 0) {
+      if (roomId_ != 0) {
         size += com.google.protobuf.CodedOutputStream
-          .computeUInt32Size(1, playerId_);
+          .computeUInt32Size(1, roomId_);
       }
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(playerName_)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, playerName_);
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(roomName_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, roomName_);
       }
-      if (isReady_ != false) {
+      if (currentPlayers_ != 0) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(3, isReady_);
+          .computeUInt32Size(3, currentPlayers_);
       }
-      if (isHost_ != false) {
+      if (maxPlayers_ != 0) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(4, isHost_);
+          .computeUInt32Size(4, maxPlayers_);
+      }
+      if (isPlaying_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(5, isPlaying_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(hostName_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(6, hostName_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -10609,19 +11714,23 @@ public final class Message {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof lawnmower.Message.PlayerInfo)) {
+      if (!(obj instanceof lawnmower.Message.RoomInfo)) {
         return super.equals(obj);
       }
-      lawnmower.Message.PlayerInfo other = (lawnmower.Message.PlayerInfo) obj;
+      lawnmower.Message.RoomInfo other = (lawnmower.Message.RoomInfo) obj;
 
-      if (getPlayerId()
-          != other.getPlayerId()) return false;
-      if (!getPlayerName()
-          .equals(other.getPlayerName())) return false;
-      if (getIsReady()
-          != other.getIsReady()) return false;
-      if (getIsHost()
-          != other.getIsHost()) return false;
+      if (getRoomId()
+          != other.getRoomId()) return false;
+      if (!getRoomName()
+          .equals(other.getRoomName())) return false;
+      if (getCurrentPlayers()
+          != other.getCurrentPlayers()) return false;
+      if (getMaxPlayers()
+          != other.getMaxPlayers()) return false;
+      if (getIsPlaying()
+          != other.getIsPlaying()) return false;
+      if (!getHostName()
+          .equals(other.getHostName())) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -10633,84 +11742,87 @@ public final class Message {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + PLAYER_ID_FIELD_NUMBER;
-      hash = (53 * hash) + getPlayerId();
-      hash = (37 * hash) + PLAYER_NAME_FIELD_NUMBER;
-      hash = (53 * hash) + getPlayerName().hashCode();
-      hash = (37 * hash) + IS_READY_FIELD_NUMBER;
-      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
-          getIsReady());
-      hash = (37 * hash) + IS_HOST_FIELD_NUMBER;
+      hash = (37 * hash) + ROOM_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getRoomId();
+      hash = (37 * hash) + ROOM_NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getRoomName().hashCode();
+      hash = (37 * hash) + CURRENT_PLAYERS_FIELD_NUMBER;
+      hash = (53 * hash) + getCurrentPlayers();
+      hash = (37 * hash) + MAX_PLAYERS_FIELD_NUMBER;
+      hash = (53 * hash) + getMaxPlayers();
+      hash = (37 * hash) + IS_PLAYING_FIELD_NUMBER;
       hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
-          getIsHost());
+          getIsPlaying());
+      hash = (37 * hash) + HOST_NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getHostName().hashCode();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static lawnmower.Message.PlayerInfo parseFrom(
+    public static lawnmower.Message.RoomInfo parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static lawnmower.Message.PlayerInfo parseFrom(
+    public static lawnmower.Message.RoomInfo parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static lawnmower.Message.PlayerInfo parseFrom(
+    public static lawnmower.Message.RoomInfo parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static lawnmower.Message.PlayerInfo parseFrom(
+    public static lawnmower.Message.RoomInfo parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static lawnmower.Message.PlayerInfo parseFrom(byte[] data)
+    public static lawnmower.Message.RoomInfo parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static lawnmower.Message.PlayerInfo parseFrom(
+    public static lawnmower.Message.RoomInfo parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static lawnmower.Message.PlayerInfo parseFrom(java.io.InputStream input)
+    public static lawnmower.Message.RoomInfo parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static lawnmower.Message.PlayerInfo parseFrom(
+    public static lawnmower.Message.RoomInfo parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static lawnmower.Message.PlayerInfo parseDelimitedFrom(java.io.InputStream input)
+    public static lawnmower.Message.RoomInfo parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static lawnmower.Message.PlayerInfo parseDelimitedFrom(
+    public static lawnmower.Message.RoomInfo parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static lawnmower.Message.PlayerInfo parseFrom(
+    public static lawnmower.Message.RoomInfo parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static lawnmower.Message.PlayerInfo parseFrom(
+    public static lawnmower.Message.RoomInfo parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -10723,7 +11835,7 @@ public final class Message {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(lawnmower.Message.PlayerInfo prototype) {
+    public static Builder newBuilder(lawnmower.Message.RoomInfo prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -10740,29 +11852,29 @@ public final class Message {
     }
     /**
      * <pre>
-     * 房间内玩家信息
+     * 房间信息
      * </pre>
      *
-     * Protobuf type {@code lawnmower.PlayerInfo}
+     * Protobuf type {@code lawnmower.RoomInfo}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:lawnmower.PlayerInfo)
-        lawnmower.Message.PlayerInfoOrBuilder {
+        // @@protoc_insertion_point(builder_implements:lawnmower.RoomInfo)
+        lawnmower.Message.RoomInfoOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return lawnmower.Message.internal_static_lawnmower_PlayerInfo_descriptor;
+        return lawnmower.Message.internal_static_lawnmower_RoomInfo_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return lawnmower.Message.internal_static_lawnmower_PlayerInfo_fieldAccessorTable
+        return lawnmower.Message.internal_static_lawnmower_RoomInfo_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                lawnmower.Message.PlayerInfo.class, lawnmower.Message.PlayerInfo.Builder.class);
+                lawnmower.Message.RoomInfo.class, lawnmower.Message.RoomInfo.Builder.class);
       }
 
-      // Construct using lawnmower.Message.PlayerInfo.newBuilder()
+      // Construct using lawnmower.Message.RoomInfo.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -10780,13 +11892,17 @@ public final class Message {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        playerId_ = 0;
+        roomId_ = 0;
 
-        playerName_ = "";
+        roomName_ = "";
 
-        isReady_ = false;
+        currentPlayers_ = 0;
 
-        isHost_ = false;
+        maxPlayers_ = 0;
+
+        isPlaying_ = false;
+
+        hostName_ = "";
 
         return this;
       }
@@ -10794,17 +11910,17 @@ public final class Message {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return lawnmower.Message.internal_static_lawnmower_PlayerInfo_descriptor;
+        return lawnmower.Message.internal_static_lawnmower_RoomInfo_descriptor;
       }
 
       @java.lang.Override
-      public lawnmower.Message.PlayerInfo getDefaultInstanceForType() {
-        return lawnmower.Message.PlayerInfo.getDefaultInstance();
+      public lawnmower.Message.RoomInfo getDefaultInstanceForType() {
+        return lawnmower.Message.RoomInfo.getDefaultInstance();
       }
 
       @java.lang.Override
-      public lawnmower.Message.PlayerInfo build() {
-        lawnmower.Message.PlayerInfo result = buildPartial();
+      public lawnmower.Message.RoomInfo build() {
+        lawnmower.Message.RoomInfo result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -10812,12 +11928,14 @@ public final class Message {
       }
 
       @java.lang.Override
-      public lawnmower.Message.PlayerInfo buildPartial() {
-        lawnmower.Message.PlayerInfo result = new lawnmower.Message.PlayerInfo(this);
-        result.playerId_ = playerId_;
-        result.playerName_ = playerName_;
-        result.isReady_ = isReady_;
-        result.isHost_ = isHost_;
+      public lawnmower.Message.RoomInfo buildPartial() {
+        lawnmower.Message.RoomInfo result = new lawnmower.Message.RoomInfo(this);
+        result.roomId_ = roomId_;
+        result.roomName_ = roomName_;
+        result.currentPlayers_ = currentPlayers_;
+        result.maxPlayers_ = maxPlayers_;
+        result.isPlaying_ = isPlaying_;
+        result.hostName_ = hostName_;
         onBuilt();
         return result;
       }
@@ -10856,28 +11974,35 @@ public final class Message {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof lawnmower.Message.PlayerInfo) {
-          return mergeFrom((lawnmower.Message.PlayerInfo)other);
+        if (other instanceof lawnmower.Message.RoomInfo) {
+          return mergeFrom((lawnmower.Message.RoomInfo)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(lawnmower.Message.PlayerInfo other) {
-        if (other == lawnmower.Message.PlayerInfo.getDefaultInstance()) return this;
-        if (other.getPlayerId() != 0) {
-          setPlayerId(other.getPlayerId());
+      public Builder mergeFrom(lawnmower.Message.RoomInfo other) {
+        if (other == lawnmower.Message.RoomInfo.getDefaultInstance()) return this;
+        if (other.getRoomId() != 0) {
+          setRoomId(other.getRoomId());
         }
-        if (!other.getPlayerName().isEmpty()) {
-          playerName_ = other.playerName_;
+        if (!other.getRoomName().isEmpty()) {
+          roomName_ = other.roomName_;
           onChanged();
         }
-        if (other.getIsReady() != false) {
-          setIsReady(other.getIsReady());
+        if (other.getCurrentPlayers() != 0) {
+          setCurrentPlayers(other.getCurrentPlayers());
         }
-        if (other.getIsHost() != false) {
-          setIsHost(other.getIsHost());
+        if (other.getMaxPlayers() != 0) {
+          setMaxPlayers(other.getMaxPlayers());
+        }
+        if (other.getIsPlaying() != false) {
+          setIsPlaying(other.getIsPlaying());
+        }
+        if (!other.getHostName().isEmpty()) {
+          hostName_ = other.hostName_;
+          onChanged();
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -10894,11 +12019,11 @@ public final class Message {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        lawnmower.Message.PlayerInfo parsedMessage = null;
+        lawnmower.Message.RoomInfo parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (lawnmower.Message.PlayerInfo) e.getUnfinishedMessage();
+          parsedMessage = (lawnmower.Message.RoomInfo) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -10908,65 +12033,65 @@ public final class Message {
         return this;
       }
 
-      private int playerId_ ;
+      private int roomId_ ;
       /**
        * <pre>
-       * 玩家id
+       * 房间id
        * </pre>
        *
-       * <code>uint32 player_id = 1;</code>
-       * @return The playerId.
+       * <code>uint32 room_id = 1;</code>
+       * @return The roomId.
        */
       @java.lang.Override
-      public int getPlayerId() {
-        return playerId_;
+      public int getRoomId() {
+        return roomId_;
       }
       /**
        * <pre>
-       * 玩家id
+       * 房间id
        * </pre>
        *
-       * <code>uint32 player_id = 1;</code>
-       * @param value The playerId to set.
+       * <code>uint32 room_id = 1;</code>
+       * @param value The roomId to set.
        * @return This builder for chaining.
        */
-      public Builder setPlayerId(int value) {
+      public Builder setRoomId(int value) {
         
-        playerId_ = value;
+        roomId_ = value;
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * 玩家id
+       * 房间id
        * </pre>
        *
-       * <code>uint32 player_id = 1;</code>
+       * <code>uint32 room_id = 1;</code>
        * @return This builder for chaining.
        */
-      public Builder clearPlayerId() {
+      public Builder clearRoomId() {
         
-        playerId_ = 0;
+        roomId_ = 0;
         onChanged();
         return this;
       }
 
-      private java.lang.Object playerName_ = "";
+      private java.lang.Object roomName_ = "";
       /**
        * <pre>
-       * 玩家姓名
+       * 房间名
        * </pre>
        *
-       * <code>string player_name = 2;</code>
-       * @return The playerName.
+       * <code>string room_name = 2;</code>
+       * @return The roomName.
        */
-      public java.lang.String getPlayerName() {
-        java.lang.Object ref = playerName_;
+      public java.lang.String getRoomName() {
+        java.lang.Object ref = roomName_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          playerName_ = s;
+          roomName_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
@@ -10974,20 +12099,20 @@ public final class Message {
       }
       /**
        * <pre>
-       * 玩家姓名
+       * 房间名
        * </pre>
        *
-       * <code>string player_name = 2;</code>
-       * @return The bytes for playerName.
+       * <code>string room_name = 2;</code>
+       * @return The bytes for roomName.
        */
       public com.google.protobuf.ByteString
-          getPlayerNameBytes() {
-        java.lang.Object ref = playerName_;
+          getRoomNameBytes() {
+        java.lang.Object ref = roomName_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          playerName_ = b;
+          roomName_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
@@ -10995,255 +12120,414 @@ public final class Message {
       }
       /**
        * <pre>
-       * 玩家姓名
+       * 房间名
        * </pre>
        *
-       * <code>string player_name = 2;</code>
-       * @param value The playerName to set.
+       * <code>string room_name = 2;</code>
+       * @param value The roomName to set.
        * @return This builder for chaining.
        */
-      public Builder setPlayerName(
+      public Builder setRoomName(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
   
-        playerName_ = value;
+        roomName_ = value;
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * 玩家姓名
+       * 房间名
        * </pre>
        *
-       * <code>string player_name = 2;</code>
+       * <code>string room_name = 2;</code>
        * @return This builder for chaining.
        */
-      public Builder clearPlayerName() {
+      public Builder clearRoomName() {
         
-        playerName_ = getDefaultInstance().getPlayerName();
+        roomName_ = getDefaultInstance().getRoomName();
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * 玩家姓名
+       * 房间名
        * </pre>
        *
-       * <code>string player_name = 2;</code>
-       * @param value The bytes for playerName to set.
+       * <code>string room_name = 2;</code>
+       * @param value The bytes for roomName to set.
        * @return This builder for chaining.
        */
-      public Builder setPlayerNameBytes(
+      public Builder setRoomNameBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
         
-        playerName_ = value;
+        roomName_ = value;
         onChanged();
         return this;
       }
 
-      private boolean isReady_ ;
+      private int currentPlayers_ ;
       /**
        * <pre>
-       * 是否准备
+       * 当前玩家数
        * </pre>
        *
-       * <code>bool is_ready = 3;</code>
-       * @return The isReady.
+       * <code>uint32 current_players = 3;</code>
+       * @return The currentPlayers.
        */
       @java.lang.Override
-      public boolean getIsReady() {
-        return isReady_;
+      public int getCurrentPlayers() {
+        return currentPlayers_;
       }
       /**
        * <pre>
-       * 是否准备
+       * 当前玩家数
        * </pre>
        *
-       * <code>bool is_ready = 3;</code>
-       * @param value The isReady to set.
+       * <code>uint32 current_players = 3;</code>
+       * @param value The currentPlayers to set.
        * @return This builder for chaining.
        */
-      public Builder setIsReady(boolean value) {
+      public Builder setCurrentPlayers(int value) {
         
-        isReady_ = value;
+        currentPlayers_ = value;
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * 是否准备
+       * 当前玩家数
        * </pre>
        *
-       * <code>bool is_ready = 3;</code>
+       * <code>uint32 current_players = 3;</code>
        * @return This builder for chaining.
        */
-      public Builder clearIsReady() {
+      public Builder clearCurrentPlayers() {
         
-        isReady_ = false;
+        currentPlayers_ = 0;
         onChanged();
         return this;
       }
 
-      private boolean isHost_ ;
+      private int maxPlayers_ ;
       /**
        * <pre>
-       * 是否房主
+       * 最大玩家数
        * </pre>
        *
-       * <code>bool is_host = 4;</code>
-       * @return The isHost.
+       * <code>uint32 max_players = 4;</code>
+       * @return The maxPlayers.
        */
       @java.lang.Override
-      public boolean getIsHost() {
-        return isHost_;
+      public int getMaxPlayers() {
+        return maxPlayers_;
       }
       /**
        * <pre>
-       * 是否房主
+       * 最大玩家数
        * </pre>
        *
-       * <code>bool is_host = 4;</code>
-       * @param value The isHost to set.
+       * <code>uint32 max_players = 4;</code>
+       * @param value The maxPlayers to set.
        * @return This builder for chaining.
        */
-      public Builder setIsHost(boolean value) {
+      public Builder setMaxPlayers(int value) {
         
-        isHost_ = value;
+        maxPlayers_ = value;
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * 是否房主
+       * 最大玩家数
        * </pre>
        *
-       * <code>bool is_host = 4;</code>
+       * <code>uint32 max_players = 4;</code>
        * @return This builder for chaining.
        */
-      public Builder clearIsHost() {
+      public Builder clearMaxPlayers() {
         
-        isHost_ = false;
+        maxPlayers_ = 0;
         onChanged();
         return this;
       }
-      @java.lang.Override
-      public final Builder setUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.setUnknownFields(unknownFields);
-      }
 
+      private boolean isPlaying_ ;
+      /**
+       * <pre>
+       * 是否游戏中
+       * </pre>
+       *
+       * <code>bool is_playing = 5;</code>
+       * @return The isPlaying.
+       */
       @java.lang.Override
-      public final Builder mergeUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.mergeUnknownFields(unknownFields);
+      public boolean getIsPlaying() {
+        return isPlaying_;
       }
-
-
-      // @@protoc_insertion_point(builder_scope:lawnmower.PlayerInfo)
-    }
-
-    // @@protoc_insertion_point(class_scope:lawnmower.PlayerInfo)
-    private static final lawnmower.Message.PlayerInfo DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new lawnmower.Message.PlayerInfo();
-    }
-
-    public static lawnmower.Message.PlayerInfo getDefaultInstance() {
-      return DEFAULT_INSTANCE;
+      /**
+       * <pre>
+       * 是否游戏中
+       * </pre>
+       *
+       * <code>bool is_playing = 5;</code>
+       * @param value The isPlaying to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIsPlaying(boolean value) {
+        
+        isPlaying_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 是否游戏中
+       * </pre>
+       *
+       * <code>bool is_playing = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIsPlaying() {
+        
+        isPlaying_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object hostName_ = "";
+      /**
+       * <pre>
+       * 房主名称
+       * </pre>
+       *
+       * <code>string host_name = 6;</code>
+       * @return The hostName.
+       */
+      public java.lang.String getHostName() {
+        java.lang.Object ref = hostName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          hostName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * 房主名称
+       * </pre>
+       *
+       * <code>string host_name = 6;</code>
+       * @return The bytes for hostName.
+       */
+      public com.google.protobuf.ByteString
+          getHostNameBytes() {
+        java.lang.Object ref = hostName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          hostName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * 房主名称
+       * </pre>
+       *
+       * <code>string host_name = 6;</code>
+       * @param value The hostName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setHostName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        hostName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 房主名称
+       * </pre>
+       *
+       * <code>string host_name = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearHostName() {
+        
+        hostName_ = getDefaultInstance().getHostName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 房主名称
+       * </pre>
+       *
+       * <code>string host_name = 6;</code>
+       * @param value The bytes for hostName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setHostNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        hostName_ = value;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:lawnmower.RoomInfo)
     }
 
-    private static final com.google.protobuf.Parser<PlayerInfo>
-        PARSER = new com.google.protobuf.AbstractParser<PlayerInfo>() {
+    // @@protoc_insertion_point(class_scope:lawnmower.RoomInfo)
+    private static final lawnmower.Message.RoomInfo DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new lawnmower.Message.RoomInfo();
+    }
+
+    public static lawnmower.Message.RoomInfo getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<RoomInfo>
+        PARSER = new com.google.protobuf.AbstractParser<RoomInfo>() {
       @java.lang.Override
-      public PlayerInfo parsePartialFrom(
+      public RoomInfo parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new PlayerInfo(input, extensionRegistry);
+        return new RoomInfo(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<PlayerInfo> parser() {
+    public static com.google.protobuf.Parser<RoomInfo> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<PlayerInfo> getParserForType() {
+    public com.google.protobuf.Parser<RoomInfo> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public lawnmower.Message.PlayerInfo getDefaultInstanceForType() {
+    public lawnmower.Message.RoomInfo getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface C2S_CreateRoomOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:lawnmower.C2S_CreateRoom)
+  public interface PlayerInfoOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:lawnmower.PlayerInfo)
       com.google.protobuf.MessageOrBuilder {
 
     /**
      * <pre>
-     * 房间名
+     * 玩家id
      * </pre>
      *
-     * <code>string room_name = 1;</code>
-     * @return The roomName.
+     * <code>uint32 player_id = 1;</code>
+     * @return The playerId.
      */
-    java.lang.String getRoomName();
+    int getPlayerId();
+
     /**
      * <pre>
-     * 房间名
+     * 玩家姓名
      * </pre>
      *
-     * <code>string room_name = 1;</code>
-     * @return The bytes for roomName.
+     * <code>string player_name = 2;</code>
+     * @return The playerName.
+     */
+    java.lang.String getPlayerName();
+    /**
+     * <pre>
+     * 玩家姓名
+     * </pre>
+     *
+     * <code>string player_name = 2;</code>
+     * @return The bytes for playerName.
      */
     com.google.protobuf.ByteString
-        getRoomNameBytes();
+        getPlayerNameBytes();
 
     /**
      * <pre>
-     * 最大玩家数量
+     * 是否准备
      * </pre>
      *
-     * <code>uint32 max_players = 2;</code>
-     * @return The maxPlayers.
+     * <code>bool is_ready = 3;</code>
+     * @return The isReady.
      */
-    int getMaxPlayers();
+    boolean getIsReady();
+
+    /**
+     * <pre>
+     * 是否房主
+     * </pre>
+     *
+     * <code>bool is_host = 4;</code>
+     * @return The isHost.
+     */
+    boolean getIsHost();
   }
   /**
    * <pre>
-   * 创建房间请求
+   * 房间内玩家信息
    * </pre>
    *
-   * Protobuf type {@code lawnmower.C2S_CreateRoom}
+   * Protobuf type {@code lawnmower.PlayerInfo}
    */
-  public static final class C2S_CreateRoom extends
+  public static final class PlayerInfo extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:lawnmower.C2S_CreateRoom)
-      C2S_CreateRoomOrBuilder {
+      // @@protoc_insertion_point(message_implements:lawnmower.PlayerInfo)
+      PlayerInfoOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use C2S_CreateRoom.newBuilder() to construct.
-    private C2S_CreateRoom(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use PlayerInfo.newBuilder() to construct.
+    private PlayerInfo(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private C2S_CreateRoom() {
-      roomName_ = "";
+    private PlayerInfo() {
+      playerName_ = "";
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new C2S_CreateRoom();
+      return new PlayerInfo();
     }
 
     @java.lang.Override
@@ -11251,7 +12535,7 @@ public final class Message {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private C2S_CreateRoom(
+    private PlayerInfo(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -11269,15 +12553,25 @@ public final class Message {
             case 0:
               done = true;
               break;
-            case 10: {
+            case 8: {
+
+              playerId_ = input.readUInt32();
+              break;
+            }
+            case 18: {
               java.lang.String s = input.readStringRequireUtf8();
 
-              roomName_ = s;
+              playerName_ = s;
               break;
             }
-            case 16: {
+            case 24: {
 
-              maxPlayers_ = input.readUInt32();
+              isReady_ = input.readBool();
+              break;
+            }
+            case 32: {
+
+              isHost_ = input.readBool();
               break;
             }
             default: {
@@ -11303,76 +12597,106 @@ public final class Message {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return lawnmower.Message.internal_static_lawnmower_C2S_CreateRoom_descriptor;
+      return lawnmower.Message.internal_static_lawnmower_PlayerInfo_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return lawnmower.Message.internal_static_lawnmower_C2S_CreateRoom_fieldAccessorTable
+      return lawnmower.Message.internal_static_lawnmower_PlayerInfo_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              lawnmower.Message.C2S_CreateRoom.class, lawnmower.Message.C2S_CreateRoom.Builder.class);
+              lawnmower.Message.PlayerInfo.class, lawnmower.Message.PlayerInfo.Builder.class);
     }
 
-    public static final int ROOM_NAME_FIELD_NUMBER = 1;
-    private volatile java.lang.Object roomName_;
+    public static final int PLAYER_ID_FIELD_NUMBER = 1;
+    private int playerId_;
     /**
      * <pre>
-     * 房间名
+     * 玩家id
      * </pre>
      *
-     * <code>string room_name = 1;</code>
-     * @return The roomName.
+     * <code>uint32 player_id = 1;</code>
+     * @return The playerId.
      */
     @java.lang.Override
-    public java.lang.String getRoomName() {
-      java.lang.Object ref = roomName_;
+    public int getPlayerId() {
+      return playerId_;
+    }
+
+    public static final int PLAYER_NAME_FIELD_NUMBER = 2;
+    private volatile java.lang.Object playerName_;
+    /**
+     * <pre>
+     * 玩家姓名
+     * </pre>
+     *
+     * <code>string player_name = 2;</code>
+     * @return The playerName.
+     */
+    @java.lang.Override
+    public java.lang.String getPlayerName() {
+      java.lang.Object ref = playerName_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        roomName_ = s;
+        playerName_ = s;
         return s;
       }
     }
     /**
      * <pre>
-     * 房间名
+     * 玩家姓名
      * </pre>
      *
-     * <code>string room_name = 1;</code>
-     * @return The bytes for roomName.
+     * <code>string player_name = 2;</code>
+     * @return The bytes for playerName.
      */
     @java.lang.Override
     public com.google.protobuf.ByteString
-        getRoomNameBytes() {
-      java.lang.Object ref = roomName_;
+        getPlayerNameBytes() {
+      java.lang.Object ref = playerName_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        roomName_ = b;
+        playerName_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
-    public static final int MAX_PLAYERS_FIELD_NUMBER = 2;
-    private int maxPlayers_;
+    public static final int IS_READY_FIELD_NUMBER = 3;
+    private boolean isReady_;
     /**
      * <pre>
-     * 最大玩家数量
+     * 是否准备
      * </pre>
      *
-     * <code>uint32 max_players = 2;</code>
-     * @return The maxPlayers.
+     * <code>bool is_ready = 3;</code>
+     * @return The isReady.
      */
     @java.lang.Override
-    public int getMaxPlayers() {
-      return maxPlayers_;
+    public boolean getIsReady() {
+      return isReady_;
+    }
+
+    public static final int IS_HOST_FIELD_NUMBER = 4;
+    private boolean isHost_;
+    /**
+     * <pre>
+     * 是否房主
+     * </pre>
+     *
+     * <code>bool is_host = 4;</code>
+     * @return The isHost.
+     */
+    @java.lang.Override
+    public boolean getIsHost() {
+      return isHost_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -11389,11 +12713,17 @@ public final class Message {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(roomName_)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, roomName_);
+      if (playerId_ != 0) {
+        output.writeUInt32(1, playerId_);
       }
-      if (maxPlayers_ != 0) {
-        output.writeUInt32(2, maxPlayers_);
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(playerName_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, playerName_);
+      }
+      if (isReady_ != false) {
+        output.writeBool(3, isReady_);
+      }
+      if (isHost_ != false) {
+        output.writeBool(4, isHost_);
       }
       unknownFields.writeTo(output);
     }
@@ -11404,12 +12734,20 @@ public final class Message {
       if (size != -1) return size;
 
       size = 0;
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(roomName_)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, roomName_);
+      if (playerId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, playerId_);
       }
-      if (maxPlayers_ != 0) {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(playerName_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, playerName_);
+      }
+      if (isReady_ != false) {
         size += com.google.protobuf.CodedOutputStream
-          .computeUInt32Size(2, maxPlayers_);
+          .computeBoolSize(3, isReady_);
+      }
+      if (isHost_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(4, isHost_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -11421,15 +12759,19 @@ public final class Message {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof lawnmower.Message.C2S_CreateRoom)) {
+      if (!(obj instanceof lawnmower.Message.PlayerInfo)) {
         return super.equals(obj);
       }
-      lawnmower.Message.C2S_CreateRoom other = (lawnmower.Message.C2S_CreateRoom) obj;
+      lawnmower.Message.PlayerInfo other = (lawnmower.Message.PlayerInfo) obj;
 
-      if (!getRoomName()
-          .equals(other.getRoomName())) return false;
-      if (getMaxPlayers()
-          != other.getMaxPlayers()) return false;
+      if (getPlayerId()
+          != other.getPlayerId()) return false;
+      if (!getPlayerName()
+          .equals(other.getPlayerName())) return false;
+      if (getIsReady()
+          != other.getIsReady()) return false;
+      if (getIsHost()
+          != other.getIsHost()) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -11441,78 +12783,84 @@ public final class Message {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + ROOM_NAME_FIELD_NUMBER;
-      hash = (53 * hash) + getRoomName().hashCode();
-      hash = (37 * hash) + MAX_PLAYERS_FIELD_NUMBER;
-      hash = (53 * hash) + getMaxPlayers();
+      hash = (37 * hash) + PLAYER_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getPlayerId();
+      hash = (37 * hash) + PLAYER_NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getPlayerName().hashCode();
+      hash = (37 * hash) + IS_READY_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getIsReady());
+      hash = (37 * hash) + IS_HOST_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getIsHost());
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static lawnmower.Message.C2S_CreateRoom parseFrom(
+    public static lawnmower.Message.PlayerInfo parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static lawnmower.Message.C2S_CreateRoom parseFrom(
+    public static lawnmower.Message.PlayerInfo parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static lawnmower.Message.C2S_CreateRoom parseFrom(
+    public static lawnmower.Message.PlayerInfo parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static lawnmower.Message.C2S_CreateRoom parseFrom(
+    public static lawnmower.Message.PlayerInfo parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static lawnmower.Message.C2S_CreateRoom parseFrom(byte[] data)
+    public static lawnmower.Message.PlayerInfo parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static lawnmower.Message.C2S_CreateRoom parseFrom(
+    public static lawnmower.Message.PlayerInfo parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static lawnmower.Message.C2S_CreateRoom parseFrom(java.io.InputStream input)
+    public static lawnmower.Message.PlayerInfo parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static lawnmower.Message.C2S_CreateRoom parseFrom(
+    public static lawnmower.Message.PlayerInfo parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static lawnmower.Message.C2S_CreateRoom parseDelimitedFrom(java.io.InputStream input)
+    public static lawnmower.Message.PlayerInfo parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static lawnmower.Message.C2S_CreateRoom parseDelimitedFrom(
+    public static lawnmower.Message.PlayerInfo parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static lawnmower.Message.C2S_CreateRoom parseFrom(
+    public static lawnmower.Message.PlayerInfo parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static lawnmower.Message.C2S_CreateRoom parseFrom(
+    public static lawnmower.Message.PlayerInfo parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -11525,7 +12873,7 @@ public final class Message {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(lawnmower.Message.C2S_CreateRoom prototype) {
+    public static Builder newBuilder(lawnmower.Message.PlayerInfo prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -11542,29 +12890,29 @@ public final class Message {
     }
     /**
      * <pre>
-     * 创建房间请求
+     * 房间内玩家信息
      * </pre>
      *
-     * Protobuf type {@code lawnmower.C2S_CreateRoom}
+     * Protobuf type {@code lawnmower.PlayerInfo}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:lawnmower.C2S_CreateRoom)
-        lawnmower.Message.C2S_CreateRoomOrBuilder {
+        // @@protoc_insertion_point(builder_implements:lawnmower.PlayerInfo)
+        lawnmower.Message.PlayerInfoOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return lawnmower.Message.internal_static_lawnmower_C2S_CreateRoom_descriptor;
+        return lawnmower.Message.internal_static_lawnmower_PlayerInfo_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return lawnmower.Message.internal_static_lawnmower_C2S_CreateRoom_fieldAccessorTable
+        return lawnmower.Message.internal_static_lawnmower_PlayerInfo_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                lawnmower.Message.C2S_CreateRoom.class, lawnmower.Message.C2S_CreateRoom.Builder.class);
+                lawnmower.Message.PlayerInfo.class, lawnmower.Message.PlayerInfo.Builder.class);
       }
 
-      // Construct using lawnmower.Message.C2S_CreateRoom.newBuilder()
+      // Construct using lawnmower.Message.PlayerInfo.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -11582,9 +12930,13 @@ public final class Message {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        roomName_ = "";
+        playerId_ = 0;
 
-        maxPlayers_ = 0;
+        playerName_ = "";
+
+        isReady_ = false;
+
+        isHost_ = false;
 
         return this;
       }
@@ -11592,17 +12944,17 @@ public final class Message {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return lawnmower.Message.internal_static_lawnmower_C2S_CreateRoom_descriptor;
+        return lawnmower.Message.internal_static_lawnmower_PlayerInfo_descriptor;
       }
 
       @java.lang.Override
-      public lawnmower.Message.C2S_CreateRoom getDefaultInstanceForType() {
-        return lawnmower.Message.C2S_CreateRoom.getDefaultInstance();
+      public lawnmower.Message.PlayerInfo getDefaultInstanceForType() {
+        return lawnmower.Message.PlayerInfo.getDefaultInstance();
       }
 
       @java.lang.Override
-      public lawnmower.Message.C2S_CreateRoom build() {
-        lawnmower.Message.C2S_CreateRoom result = buildPartial();
+      public lawnmower.Message.PlayerInfo build() {
+        lawnmower.Message.PlayerInfo result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -11610,10 +12962,12 @@ public final class Message {
       }
 
       @java.lang.Override
-      public lawnmower.Message.C2S_CreateRoom buildPartial() {
-        lawnmower.Message.C2S_CreateRoom result = new lawnmower.Message.C2S_CreateRoom(this);
-        result.roomName_ = roomName_;
-        result.maxPlayers_ = maxPlayers_;
+      public lawnmower.Message.PlayerInfo buildPartial() {
+        lawnmower.Message.PlayerInfo result = new lawnmower.Message.PlayerInfo(this);
+        result.playerId_ = playerId_;
+        result.playerName_ = playerName_;
+        result.isReady_ = isReady_;
+        result.isHost_ = isHost_;
         onBuilt();
         return result;
       }
@@ -11652,22 +13006,28 @@ public final class Message {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof lawnmower.Message.C2S_CreateRoom) {
-          return mergeFrom((lawnmower.Message.C2S_CreateRoom)other);
+        if (other instanceof lawnmower.Message.PlayerInfo) {
+          return mergeFrom((lawnmower.Message.PlayerInfo)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(lawnmower.Message.C2S_CreateRoom other) {
-        if (other == lawnmower.Message.C2S_CreateRoom.getDefaultInstance()) return this;
-        if (!other.getRoomName().isEmpty()) {
-          roomName_ = other.roomName_;
+      public Builder mergeFrom(lawnmower.Message.PlayerInfo other) {
+        if (other == lawnmower.Message.PlayerInfo.getDefaultInstance()) return this;
+        if (other.getPlayerId() != 0) {
+          setPlayerId(other.getPlayerId());
+        }
+        if (!other.getPlayerName().isEmpty()) {
+          playerName_ = other.playerName_;
           onChanged();
         }
-        if (other.getMaxPlayers() != 0) {
-          setMaxPlayers(other.getMaxPlayers());
+        if (other.getIsReady() != false) {
+          setIsReady(other.getIsReady());
+        }
+        if (other.getIsHost() != false) {
+          setIsHost(other.getIsHost());
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -11684,11 +13044,11 @@ public final class Message {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        lawnmower.Message.C2S_CreateRoom parsedMessage = null;
+        lawnmower.Message.PlayerInfo parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (lawnmower.Message.C2S_CreateRoom) e.getUnfinishedMessage();
+          parsedMessage = (lawnmower.Message.PlayerInfo) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -11698,43 +13058,86 @@ public final class Message {
         return this;
       }
 
-      private java.lang.Object roomName_ = "";
+      private int playerId_ ;
       /**
        * <pre>
-       * 房间名
+       * 玩家id
        * </pre>
        *
-       * <code>string room_name = 1;</code>
-       * @return The roomName.
+       * <code>uint32 player_id = 1;</code>
+       * @return The playerId.
        */
-      public java.lang.String getRoomName() {
-        java.lang.Object ref = roomName_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          roomName_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
+      @java.lang.Override
+      public int getPlayerId() {
+        return playerId_;
       }
       /**
        * <pre>
-       * 房间名
+       * 玩家id
        * </pre>
        *
-       * <code>string room_name = 1;</code>
-       * @return The bytes for roomName.
-       */
+       * <code>uint32 player_id = 1;</code>
+       * @param value The playerId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPlayerId(int value) {
+        
+        playerId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 玩家id
+       * </pre>
+       *
+       * <code>uint32 player_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPlayerId() {
+        
+        playerId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object playerName_ = "";
+      /**
+       * <pre>
+       * 玩家姓名
+       * </pre>
+       *
+       * <code>string player_name = 2;</code>
+       * @return The playerName.
+       */
+      public java.lang.String getPlayerName() {
+        java.lang.Object ref = playerName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          playerName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * 玩家姓名
+       * </pre>
+       *
+       * <code>string player_name = 2;</code>
+       * @return The bytes for playerName.
+       */
       public com.google.protobuf.ByteString
-          getRoomNameBytes() {
-        java.lang.Object ref = roomName_;
+          getPlayerNameBytes() {
+        java.lang.Object ref = playerName_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          roomName_ = b;
+          playerName_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
@@ -11742,97 +13145,140 @@ public final class Message {
       }
       /**
        * <pre>
-       * 房间名
+       * 玩家姓名
        * </pre>
        *
-       * <code>string room_name = 1;</code>
-       * @param value The roomName to set.
+       * <code>string player_name = 2;</code>
+       * @param value The playerName to set.
        * @return This builder for chaining.
        */
-      public Builder setRoomName(
+      public Builder setPlayerName(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
   
-        roomName_ = value;
+        playerName_ = value;
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * 房间名
+       * 玩家姓名
        * </pre>
        *
-       * <code>string room_name = 1;</code>
+       * <code>string player_name = 2;</code>
        * @return This builder for chaining.
        */
-      public Builder clearRoomName() {
+      public Builder clearPlayerName() {
         
-        roomName_ = getDefaultInstance().getRoomName();
+        playerName_ = getDefaultInstance().getPlayerName();
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * 房间名
+       * 玩家姓名
        * </pre>
        *
-       * <code>string room_name = 1;</code>
-       * @param value The bytes for roomName to set.
+       * <code>string player_name = 2;</code>
+       * @param value The bytes for playerName to set.
        * @return This builder for chaining.
        */
-      public Builder setRoomNameBytes(
+      public Builder setPlayerNameBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
         
-        roomName_ = value;
+        playerName_ = value;
         onChanged();
         return this;
       }
 
-      private int maxPlayers_ ;
+      private boolean isReady_ ;
       /**
        * <pre>
-       * 最大玩家数量
+       * 是否准备
        * </pre>
        *
-       * <code>uint32 max_players = 2;</code>
-       * @return The maxPlayers.
+       * <code>bool is_ready = 3;</code>
+       * @return The isReady.
        */
       @java.lang.Override
-      public int getMaxPlayers() {
-        return maxPlayers_;
+      public boolean getIsReady() {
+        return isReady_;
       }
       /**
        * <pre>
-       * 最大玩家数量
+       * 是否准备
        * </pre>
        *
-       * <code>uint32 max_players = 2;</code>
-       * @param value The maxPlayers to set.
+       * <code>bool is_ready = 3;</code>
+       * @param value The isReady to set.
        * @return This builder for chaining.
        */
-      public Builder setMaxPlayers(int value) {
+      public Builder setIsReady(boolean value) {
         
-        maxPlayers_ = value;
+        isReady_ = value;
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * 最大玩家数量
+       * 是否准备
        * </pre>
        *
-       * <code>uint32 max_players = 2;</code>
+       * <code>bool is_ready = 3;</code>
        * @return This builder for chaining.
        */
-      public Builder clearMaxPlayers() {
+      public Builder clearIsReady() {
         
-        maxPlayers_ = 0;
+        isReady_ = false;
+        onChanged();
+        return this;
+      }
+
+      private boolean isHost_ ;
+      /**
+       * <pre>
+       * 是否房主
+       * </pre>
+       *
+       * <code>bool is_host = 4;</code>
+       * @return The isHost.
+       */
+      @java.lang.Override
+      public boolean getIsHost() {
+        return isHost_;
+      }
+      /**
+       * <pre>
+       * 是否房主
+       * </pre>
+       *
+       * <code>bool is_host = 4;</code>
+       * @param value The isHost to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIsHost(boolean value) {
+        
+        isHost_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 是否房主
+       * </pre>
+       *
+       * <code>bool is_host = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIsHost() {
+        
+        isHost_ = false;
         onChanged();
         return this;
       }
@@ -11849,74 +13295,105 @@ public final class Message {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:lawnmower.C2S_CreateRoom)
+      // @@protoc_insertion_point(builder_scope:lawnmower.PlayerInfo)
     }
 
-    // @@protoc_insertion_point(class_scope:lawnmower.C2S_CreateRoom)
-    private static final lawnmower.Message.C2S_CreateRoom DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:lawnmower.PlayerInfo)
+    private static final lawnmower.Message.PlayerInfo DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new lawnmower.Message.C2S_CreateRoom();
+      DEFAULT_INSTANCE = new lawnmower.Message.PlayerInfo();
     }
 
-    public static lawnmower.Message.C2S_CreateRoom getDefaultInstance() {
+    public static lawnmower.Message.PlayerInfo getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<C2S_CreateRoom>
-        PARSER = new com.google.protobuf.AbstractParser<C2S_CreateRoom>() {
+    private static final com.google.protobuf.Parser<PlayerInfo>
+        PARSER = new com.google.protobuf.AbstractParser<PlayerInfo>() {
       @java.lang.Override
-      public C2S_CreateRoom parsePartialFrom(
+      public PlayerInfo parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new C2S_CreateRoom(input, extensionRegistry);
+        return new PlayerInfo(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<C2S_CreateRoom> parser() {
+    public static com.google.protobuf.Parser<PlayerInfo> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<C2S_CreateRoom> getParserForType() {
+    public com.google.protobuf.Parser<PlayerInfo> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public lawnmower.Message.C2S_CreateRoom getDefaultInstanceForType() {
+    public lawnmower.Message.PlayerInfo getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface C2S_GetRoomListOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:lawnmower.C2S_GetRoomList)
+  public interface C2S_CreateRoomOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:lawnmower.C2S_CreateRoom)
       com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * 房间名
+     * </pre>
+     *
+     * <code>string room_name = 1;</code>
+     * @return The roomName.
+     */
+    java.lang.String getRoomName();
+    /**
+     * <pre>
+     * 房间名
+     * </pre>
+     *
+     * <code>string room_name = 1;</code>
+     * @return The bytes for roomName.
+     */
+    com.google.protobuf.ByteString
+        getRoomNameBytes();
+
+    /**
+     * <pre>
+     * 最大玩家数量
+     * </pre>
+     *
+     * <code>uint32 max_players = 2;</code>
+     * @return The maxPlayers.
+     */
+    int getMaxPlayers();
   }
   /**
    * <pre>
-   * 获取房间列表请求
+   * 创建房间请求
    * </pre>
    *
-   * Protobuf type {@code lawnmower.C2S_GetRoomList}
+   * Protobuf type {@code lawnmower.C2S_CreateRoom}
    */
-  public static final class C2S_GetRoomList extends
+  public static final class C2S_CreateRoom extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:lawnmower.C2S_GetRoomList)
-      C2S_GetRoomListOrBuilder {
+      // @@protoc_insertion_point(message_implements:lawnmower.C2S_CreateRoom)
+      C2S_CreateRoomOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use C2S_GetRoomList.newBuilder() to construct.
-    private C2S_GetRoomList(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use C2S_CreateRoom.newBuilder() to construct.
+    private C2S_CreateRoom(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private C2S_GetRoomList() {
+    private C2S_CreateRoom() {
+      roomName_ = "";
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new C2S_GetRoomList();
+      return new C2S_CreateRoom();
     }
 
     @java.lang.Override
@@ -11924,7 +13401,7 @@ public final class Message {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private C2S_GetRoomList(
+    private C2S_CreateRoom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -11942,6 +13419,17 @@ public final class Message {
             case 0:
               done = true;
               break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              roomName_ = s;
+              break;
+            }
+            case 16: {
+
+              maxPlayers_ = input.readUInt32();
+              break;
+            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -11965,15 +13453,76 @@ public final class Message {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return lawnmower.Message.internal_static_lawnmower_C2S_GetRoomList_descriptor;
+      return lawnmower.Message.internal_static_lawnmower_C2S_CreateRoom_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return lawnmower.Message.internal_static_lawnmower_C2S_GetRoomList_fieldAccessorTable
+      return lawnmower.Message.internal_static_lawnmower_C2S_CreateRoom_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              lawnmower.Message.C2S_GetRoomList.class, lawnmower.Message.C2S_GetRoomList.Builder.class);
+              lawnmower.Message.C2S_CreateRoom.class, lawnmower.Message.C2S_CreateRoom.Builder.class);
+    }
+
+    public static final int ROOM_NAME_FIELD_NUMBER = 1;
+    private volatile java.lang.Object roomName_;
+    /**
+     * <pre>
+     * 房间名
+     * </pre>
+     *
+     * <code>string room_name = 1;</code>
+     * @return The roomName.
+     */
+    @java.lang.Override
+    public java.lang.String getRoomName() {
+      java.lang.Object ref = roomName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        roomName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * 房间名
+     * </pre>
+     *
+     * <code>string room_name = 1;</code>
+     * @return The bytes for roomName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getRoomNameBytes() {
+      java.lang.Object ref = roomName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        roomName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int MAX_PLAYERS_FIELD_NUMBER = 2;
+    private int maxPlayers_;
+    /**
+     * <pre>
+     * 最大玩家数量
+     * </pre>
+     *
+     * <code>uint32 max_players = 2;</code>
+     * @return The maxPlayers.
+     */
+    @java.lang.Override
+    public int getMaxPlayers() {
+      return maxPlayers_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -11990,6 +13539,12 @@ public final class Message {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(roomName_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, roomName_);
+      }
+      if (maxPlayers_ != 0) {
+        output.writeUInt32(2, maxPlayers_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -11999,6 +13554,13 @@ public final class Message {
       if (size != -1) return size;
 
       size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(roomName_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, roomName_);
+      }
+      if (maxPlayers_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(2, maxPlayers_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -12009,11 +13571,15 @@ public final class Message {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof lawnmower.Message.C2S_GetRoomList)) {
+      if (!(obj instanceof lawnmower.Message.C2S_CreateRoom)) {
         return super.equals(obj);
       }
-      lawnmower.Message.C2S_GetRoomList other = (lawnmower.Message.C2S_GetRoomList) obj;
+      lawnmower.Message.C2S_CreateRoom other = (lawnmower.Message.C2S_CreateRoom) obj;
 
+      if (!getRoomName()
+          .equals(other.getRoomName())) return false;
+      if (getMaxPlayers()
+          != other.getMaxPlayers()) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -12025,74 +13591,78 @@ public final class Message {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + ROOM_NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getRoomName().hashCode();
+      hash = (37 * hash) + MAX_PLAYERS_FIELD_NUMBER;
+      hash = (53 * hash) + getMaxPlayers();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static lawnmower.Message.C2S_GetRoomList parseFrom(
+    public static lawnmower.Message.C2S_CreateRoom parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static lawnmower.Message.C2S_GetRoomList parseFrom(
+    public static lawnmower.Message.C2S_CreateRoom parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static lawnmower.Message.C2S_GetRoomList parseFrom(
+    public static lawnmower.Message.C2S_CreateRoom parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static lawnmower.Message.C2S_GetRoomList parseFrom(
+    public static lawnmower.Message.C2S_CreateRoom parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static lawnmower.Message.C2S_GetRoomList parseFrom(byte[] data)
+    public static lawnmower.Message.C2S_CreateRoom parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static lawnmower.Message.C2S_GetRoomList parseFrom(
+    public static lawnmower.Message.C2S_CreateRoom parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static lawnmower.Message.C2S_GetRoomList parseFrom(java.io.InputStream input)
+    public static lawnmower.Message.C2S_CreateRoom parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static lawnmower.Message.C2S_GetRoomList parseFrom(
+    public static lawnmower.Message.C2S_CreateRoom parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static lawnmower.Message.C2S_GetRoomList parseDelimitedFrom(java.io.InputStream input)
+    public static lawnmower.Message.C2S_CreateRoom parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static lawnmower.Message.C2S_GetRoomList parseDelimitedFrom(
+    public static lawnmower.Message.C2S_CreateRoom parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static lawnmower.Message.C2S_GetRoomList parseFrom(
+    public static lawnmower.Message.C2S_CreateRoom parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static lawnmower.Message.C2S_GetRoomList parseFrom(
+    public static lawnmower.Message.C2S_CreateRoom parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -12105,7 +13675,7 @@ public final class Message {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(lawnmower.Message.C2S_GetRoomList prototype) {
+    public static Builder newBuilder(lawnmower.Message.C2S_CreateRoom prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -12122,29 +13692,29 @@ public final class Message {
     }
     /**
      * <pre>
-     * 获取房间列表请求
+     * 创建房间请求
      * </pre>
      *
-     * Protobuf type {@code lawnmower.C2S_GetRoomList}
+     * Protobuf type {@code lawnmower.C2S_CreateRoom}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:lawnmower.C2S_GetRoomList)
-        lawnmower.Message.C2S_GetRoomListOrBuilder {
+        // @@protoc_insertion_point(builder_implements:lawnmower.C2S_CreateRoom)
+        lawnmower.Message.C2S_CreateRoomOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return lawnmower.Message.internal_static_lawnmower_C2S_GetRoomList_descriptor;
+        return lawnmower.Message.internal_static_lawnmower_C2S_CreateRoom_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return lawnmower.Message.internal_static_lawnmower_C2S_GetRoomList_fieldAccessorTable
+        return lawnmower.Message.internal_static_lawnmower_C2S_CreateRoom_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                lawnmower.Message.C2S_GetRoomList.class, lawnmower.Message.C2S_GetRoomList.Builder.class);
+                lawnmower.Message.C2S_CreateRoom.class, lawnmower.Message.C2S_CreateRoom.Builder.class);
       }
 
-      // Construct using lawnmower.Message.C2S_GetRoomList.newBuilder()
+      // Construct using lawnmower.Message.C2S_CreateRoom.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -12162,23 +13732,27 @@ public final class Message {
       @java.lang.Override
       public Builder clear() {
         super.clear();
+        roomName_ = "";
+
+        maxPlayers_ = 0;
+
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return lawnmower.Message.internal_static_lawnmower_C2S_GetRoomList_descriptor;
+        return lawnmower.Message.internal_static_lawnmower_C2S_CreateRoom_descriptor;
       }
 
       @java.lang.Override
-      public lawnmower.Message.C2S_GetRoomList getDefaultInstanceForType() {
-        return lawnmower.Message.C2S_GetRoomList.getDefaultInstance();
+      public lawnmower.Message.C2S_CreateRoom getDefaultInstanceForType() {
+        return lawnmower.Message.C2S_CreateRoom.getDefaultInstance();
       }
 
       @java.lang.Override
-      public lawnmower.Message.C2S_GetRoomList build() {
-        lawnmower.Message.C2S_GetRoomList result = buildPartial();
+      public lawnmower.Message.C2S_CreateRoom build() {
+        lawnmower.Message.C2S_CreateRoom result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -12186,8 +13760,10 @@ public final class Message {
       }
 
       @java.lang.Override
-      public lawnmower.Message.C2S_GetRoomList buildPartial() {
-        lawnmower.Message.C2S_GetRoomList result = new lawnmower.Message.C2S_GetRoomList(this);
+      public lawnmower.Message.C2S_CreateRoom buildPartial() {
+        lawnmower.Message.C2S_CreateRoom result = new lawnmower.Message.C2S_CreateRoom(this);
+        result.roomName_ = roomName_;
+        result.maxPlayers_ = maxPlayers_;
         onBuilt();
         return result;
       }
@@ -12226,16 +13802,23 @@ public final class Message {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof lawnmower.Message.C2S_GetRoomList) {
-          return mergeFrom((lawnmower.Message.C2S_GetRoomList)other);
+        if (other instanceof lawnmower.Message.C2S_CreateRoom) {
+          return mergeFrom((lawnmower.Message.C2S_CreateRoom)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(lawnmower.Message.C2S_GetRoomList other) {
-        if (other == lawnmower.Message.C2S_GetRoomList.getDefaultInstance()) return this;
+      public Builder mergeFrom(lawnmower.Message.C2S_CreateRoom other) {
+        if (other == lawnmower.Message.C2S_CreateRoom.getDefaultInstance()) return this;
+        if (!other.getRoomName().isEmpty()) {
+          roomName_ = other.roomName_;
+          onChanged();
+        }
+        if (other.getMaxPlayers() != 0) {
+          setMaxPlayers(other.getMaxPlayers());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -12251,11 +13834,11 @@ public final class Message {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        lawnmower.Message.C2S_GetRoomList parsedMessage = null;
+        lawnmower.Message.C2S_CreateRoom parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (lawnmower.Message.C2S_GetRoomList) e.getUnfinishedMessage();
+          parsedMessage = (lawnmower.Message.C2S_CreateRoom) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -12264,97 +13847,226 @@ public final class Message {
         }
         return this;
       }
-      @java.lang.Override
-      public final Builder setUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.setUnknownFields(unknownFields);
-      }
 
-      @java.lang.Override
-      public final Builder mergeUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.mergeUnknownFields(unknownFields);
+      private java.lang.Object roomName_ = "";
+      /**
+       * <pre>
+       * 房间名
+       * </pre>
+       *
+       * <code>string room_name = 1;</code>
+       * @return The roomName.
+       */
+      public java.lang.String getRoomName() {
+        java.lang.Object ref = roomName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          roomName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
       }
-
-
-      // @@protoc_insertion_point(builder_scope:lawnmower.C2S_GetRoomList)
-    }
-
-    // @@protoc_insertion_point(class_scope:lawnmower.C2S_GetRoomList)
-    private static final lawnmower.Message.C2S_GetRoomList DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new lawnmower.Message.C2S_GetRoomList();
-    }
-
-    public static lawnmower.Message.C2S_GetRoomList getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    private static final com.google.protobuf.Parser<C2S_GetRoomList>
-        PARSER = new com.google.protobuf.AbstractParser<C2S_GetRoomList>() {
-      @java.lang.Override
-      public C2S_GetRoomList parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return new C2S_GetRoomList(input, extensionRegistry);
+      /**
+       * <pre>
+       * 房间名
+       * </pre>
+       *
+       * <code>string room_name = 1;</code>
+       * @return The bytes for roomName.
+       */
+      public com.google.protobuf.ByteString
+          getRoomNameBytes() {
+        java.lang.Object ref = roomName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          roomName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
       }
-    };
-
-    public static com.google.protobuf.Parser<C2S_GetRoomList> parser() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public com.google.protobuf.Parser<C2S_GetRoomList> getParserForType() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public lawnmower.Message.C2S_GetRoomList getDefaultInstanceForType() {
-      return DEFAULT_INSTANCE;
-    }
-
+      /**
+       * <pre>
+       * 房间名
+       * </pre>
+       *
+       * <code>string room_name = 1;</code>
+       * @param value The roomName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRoomName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        roomName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 房间名
+       * </pre>
+       *
+       * <code>string room_name = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRoomName() {
+        
+        roomName_ = getDefaultInstance().getRoomName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 房间名
+       * </pre>
+       *
+       * <code>string room_name = 1;</code>
+       * @param value The bytes for roomName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRoomNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
   }
+  checkByteStringIsUtf8(value);
+        
+        roomName_ = value;
+        onChanged();
+        return this;
+      }
 
-  public interface C2S_JoinRoomOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:lawnmower.C2S_JoinRoom)
-      com.google.protobuf.MessageOrBuilder {
+      private int maxPlayers_ ;
+      /**
+       * <pre>
+       * 最大玩家数量
+       * </pre>
+       *
+       * <code>uint32 max_players = 2;</code>
+       * @return The maxPlayers.
+       */
+      @java.lang.Override
+      public int getMaxPlayers() {
+        return maxPlayers_;
+      }
+      /**
+       * <pre>
+       * 最大玩家数量
+       * </pre>
+       *
+       * <code>uint32 max_players = 2;</code>
+       * @param value The maxPlayers to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMaxPlayers(int value) {
+        
+        maxPlayers_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 最大玩家数量
+       * </pre>
+       *
+       * <code>uint32 max_players = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMaxPlayers() {
+        
+        maxPlayers_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
 
-    /**
-     * <pre>
-     *房间id
-     * </pre>
-     *
-     * <code>uint32 room_id = 1;</code>
-     * @return The roomId.
-     */
-    int getRoomId();
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:lawnmower.C2S_CreateRoom)
+    }
+
+    // @@protoc_insertion_point(class_scope:lawnmower.C2S_CreateRoom)
+    private static final lawnmower.Message.C2S_CreateRoom DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new lawnmower.Message.C2S_CreateRoom();
+    }
+
+    public static lawnmower.Message.C2S_CreateRoom getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<C2S_CreateRoom>
+        PARSER = new com.google.protobuf.AbstractParser<C2S_CreateRoom>() {
+      @java.lang.Override
+      public C2S_CreateRoom parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new C2S_CreateRoom(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<C2S_CreateRoom> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<C2S_CreateRoom> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public lawnmower.Message.C2S_CreateRoom getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface C2S_GetRoomListOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:lawnmower.C2S_GetRoomList)
+      com.google.protobuf.MessageOrBuilder {
   }
   /**
    * <pre>
-   * 加入房间请求
+   * 获取房间列表请求
    * </pre>
    *
-   * Protobuf type {@code lawnmower.C2S_JoinRoom}
+   * Protobuf type {@code lawnmower.C2S_GetRoomList}
    */
-  public static final class C2S_JoinRoom extends
+  public static final class C2S_GetRoomList extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:lawnmower.C2S_JoinRoom)
-      C2S_JoinRoomOrBuilder {
+      // @@protoc_insertion_point(message_implements:lawnmower.C2S_GetRoomList)
+      C2S_GetRoomListOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use C2S_JoinRoom.newBuilder() to construct.
-    private C2S_JoinRoom(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use C2S_GetRoomList.newBuilder() to construct.
+    private C2S_GetRoomList(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private C2S_JoinRoom() {
+    private C2S_GetRoomList() {
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new C2S_JoinRoom();
+      return new C2S_GetRoomList();
     }
 
     @java.lang.Override
@@ -12362,7 +14074,7 @@ public final class Message {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private C2S_JoinRoom(
+    private C2S_GetRoomList(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -12380,11 +14092,6 @@ public final class Message {
             case 0:
               done = true;
               break;
-            case 8: {
-
-              roomId_ = input.readUInt32();
-              break;
-            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -12408,30 +14115,15 @@ public final class Message {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return lawnmower.Message.internal_static_lawnmower_C2S_JoinRoom_descriptor;
+      return lawnmower.Message.internal_static_lawnmower_C2S_GetRoomList_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return lawnmower.Message.internal_static_lawnmower_C2S_JoinRoom_fieldAccessorTable
+      return lawnmower.Message.internal_static_lawnmower_C2S_GetRoomList_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              lawnmower.Message.C2S_JoinRoom.class, lawnmower.Message.C2S_JoinRoom.Builder.class);
-    }
-
-    public static final int ROOM_ID_FIELD_NUMBER = 1;
-    private int roomId_;
-    /**
-     * <pre>
-     *房间id
-     * </pre>
-     *
-     * <code>uint32 room_id = 1;</code>
-     * @return The roomId.
-     */
-    @java.lang.Override
-    public int getRoomId() {
-      return roomId_;
+              lawnmower.Message.C2S_GetRoomList.class, lawnmower.Message.C2S_GetRoomList.Builder.class);
     }
 
     private byte memoizedIsInitialized = -1;
@@ -12448,9 +14140,6 @@ public final class Message {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (roomId_ != 0) {
-        output.writeUInt32(1, roomId_);
-      }
       unknownFields.writeTo(output);
     }
 
@@ -12460,10 +14149,6 @@ public final class Message {
       if (size != -1) return size;
 
       size = 0;
-      if (roomId_ != 0) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeUInt32Size(1, roomId_);
-      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -12474,13 +14159,11 @@ public final class Message {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof lawnmower.Message.C2S_JoinRoom)) {
+      if (!(obj instanceof lawnmower.Message.C2S_GetRoomList)) {
         return super.equals(obj);
       }
-      lawnmower.Message.C2S_JoinRoom other = (lawnmower.Message.C2S_JoinRoom) obj;
+      lawnmower.Message.C2S_GetRoomList other = (lawnmower.Message.C2S_GetRoomList) obj;
 
-      if (getRoomId()
-          != other.getRoomId()) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -12492,76 +14175,74 @@ public final class Message {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + ROOM_ID_FIELD_NUMBER;
-      hash = (53 * hash) + getRoomId();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static lawnmower.Message.C2S_JoinRoom parseFrom(
+    public static lawnmower.Message.C2S_GetRoomList parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static lawnmower.Message.C2S_JoinRoom parseFrom(
+    public static lawnmower.Message.C2S_GetRoomList parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static lawnmower.Message.C2S_JoinRoom parseFrom(
+    public static lawnmower.Message.C2S_GetRoomList parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static lawnmower.Message.C2S_JoinRoom parseFrom(
+    public static lawnmower.Message.C2S_GetRoomList parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static lawnmower.Message.C2S_JoinRoom parseFrom(byte[] data)
+    public static lawnmower.Message.C2S_GetRoomList parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static lawnmower.Message.C2S_JoinRoom parseFrom(
+    public static lawnmower.Message.C2S_GetRoomList parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static lawnmower.Message.C2S_JoinRoom parseFrom(java.io.InputStream input)
+    public static lawnmower.Message.C2S_GetRoomList parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static lawnmower.Message.C2S_JoinRoom parseFrom(
+    public static lawnmower.Message.C2S_GetRoomList parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static lawnmower.Message.C2S_JoinRoom parseDelimitedFrom(java.io.InputStream input)
+    public static lawnmower.Message.C2S_GetRoomList parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static lawnmower.Message.C2S_JoinRoom parseDelimitedFrom(
+    public static lawnmower.Message.C2S_GetRoomList parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static lawnmower.Message.C2S_JoinRoom parseFrom(
+    public static lawnmower.Message.C2S_GetRoomList parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static lawnmower.Message.C2S_JoinRoom parseFrom(
+    public static lawnmower.Message.C2S_GetRoomList parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -12574,7 +14255,7 @@ public final class Message {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(lawnmower.Message.C2S_JoinRoom prototype) {
+    public static Builder newBuilder(lawnmower.Message.C2S_GetRoomList prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -12591,29 +14272,29 @@ public final class Message {
     }
     /**
      * <pre>
-     * 加入房间请求
+     * 获取房间列表请求
      * </pre>
      *
-     * Protobuf type {@code lawnmower.C2S_JoinRoom}
+     * Protobuf type {@code lawnmower.C2S_GetRoomList}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:lawnmower.C2S_JoinRoom)
-        lawnmower.Message.C2S_JoinRoomOrBuilder {
+        // @@protoc_insertion_point(builder_implements:lawnmower.C2S_GetRoomList)
+        lawnmower.Message.C2S_GetRoomListOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return lawnmower.Message.internal_static_lawnmower_C2S_JoinRoom_descriptor;
+        return lawnmower.Message.internal_static_lawnmower_C2S_GetRoomList_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return lawnmower.Message.internal_static_lawnmower_C2S_JoinRoom_fieldAccessorTable
+        return lawnmower.Message.internal_static_lawnmower_C2S_GetRoomList_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                lawnmower.Message.C2S_JoinRoom.class, lawnmower.Message.C2S_JoinRoom.Builder.class);
+                lawnmower.Message.C2S_GetRoomList.class, lawnmower.Message.C2S_GetRoomList.Builder.class);
       }
 
-      // Construct using lawnmower.Message.C2S_JoinRoom.newBuilder()
+      // Construct using lawnmower.Message.C2S_GetRoomList.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -12631,25 +14312,23 @@ public final class Message {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        roomId_ = 0;
-
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return lawnmower.Message.internal_static_lawnmower_C2S_JoinRoom_descriptor;
+        return lawnmower.Message.internal_static_lawnmower_C2S_GetRoomList_descriptor;
       }
 
       @java.lang.Override
-      public lawnmower.Message.C2S_JoinRoom getDefaultInstanceForType() {
-        return lawnmower.Message.C2S_JoinRoom.getDefaultInstance();
+      public lawnmower.Message.C2S_GetRoomList getDefaultInstanceForType() {
+        return lawnmower.Message.C2S_GetRoomList.getDefaultInstance();
       }
 
       @java.lang.Override
-      public lawnmower.Message.C2S_JoinRoom build() {
-        lawnmower.Message.C2S_JoinRoom result = buildPartial();
+      public lawnmower.Message.C2S_GetRoomList build() {
+        lawnmower.Message.C2S_GetRoomList result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -12657,9 +14336,8 @@ public final class Message {
       }
 
       @java.lang.Override
-      public lawnmower.Message.C2S_JoinRoom buildPartial() {
-        lawnmower.Message.C2S_JoinRoom result = new lawnmower.Message.C2S_JoinRoom(this);
-        result.roomId_ = roomId_;
+      public lawnmower.Message.C2S_GetRoomList buildPartial() {
+        lawnmower.Message.C2S_GetRoomList result = new lawnmower.Message.C2S_GetRoomList(this);
         onBuilt();
         return result;
       }
@@ -12698,19 +14376,16 @@ public final class Message {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof lawnmower.Message.C2S_JoinRoom) {
-          return mergeFrom((lawnmower.Message.C2S_JoinRoom)other);
+        if (other instanceof lawnmower.Message.C2S_GetRoomList) {
+          return mergeFrom((lawnmower.Message.C2S_GetRoomList)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(lawnmower.Message.C2S_JoinRoom other) {
-        if (other == lawnmower.Message.C2S_JoinRoom.getDefaultInstance()) return this;
-        if (other.getRoomId() != 0) {
-          setRoomId(other.getRoomId());
-        }
+      public Builder mergeFrom(lawnmower.Message.C2S_GetRoomList other) {
+        if (other == lawnmower.Message.C2S_GetRoomList.getDefaultInstance()) return this;
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -12726,11 +14401,11 @@ public final class Message {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        lawnmower.Message.C2S_JoinRoom parsedMessage = null;
+        lawnmower.Message.C2S_GetRoomList parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (lawnmower.Message.C2S_JoinRoom) e.getUnfinishedMessage();
+          parsedMessage = (lawnmower.Message.C2S_GetRoomList) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -12739,49 +14414,6 @@ public final class Message {
         }
         return this;
       }
-
-      private int roomId_ ;
-      /**
-       * <pre>
-       *房间id
-       * </pre>
-       *
-       * <code>uint32 room_id = 1;</code>
-       * @return The roomId.
-       */
-      @java.lang.Override
-      public int getRoomId() {
-        return roomId_;
-      }
-      /**
-       * <pre>
-       *房间id
-       * </pre>
-       *
-       * <code>uint32 room_id = 1;</code>
-       * @param value The roomId to set.
-       * @return This builder for chaining.
-       */
-      public Builder setRoomId(int value) {
-        
-        roomId_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <pre>
-       *房间id
-       * </pre>
-       *
-       * <code>uint32 room_id = 1;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearRoomId() {
-        
-        roomId_ = 0;
-        onChanged();
-        return this;
-      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -12795,74 +14427,84 @@ public final class Message {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:lawnmower.C2S_JoinRoom)
+      // @@protoc_insertion_point(builder_scope:lawnmower.C2S_GetRoomList)
     }
 
-    // @@protoc_insertion_point(class_scope:lawnmower.C2S_JoinRoom)
-    private static final lawnmower.Message.C2S_JoinRoom DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:lawnmower.C2S_GetRoomList)
+    private static final lawnmower.Message.C2S_GetRoomList DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new lawnmower.Message.C2S_JoinRoom();
+      DEFAULT_INSTANCE = new lawnmower.Message.C2S_GetRoomList();
     }
 
-    public static lawnmower.Message.C2S_JoinRoom getDefaultInstance() {
+    public static lawnmower.Message.C2S_GetRoomList getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<C2S_JoinRoom>
-        PARSER = new com.google.protobuf.AbstractParser<C2S_JoinRoom>() {
+    private static final com.google.protobuf.Parser<C2S_GetRoomList>
+        PARSER = new com.google.protobuf.AbstractParser<C2S_GetRoomList>() {
       @java.lang.Override
-      public C2S_JoinRoom parsePartialFrom(
+      public C2S_GetRoomList parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new C2S_JoinRoom(input, extensionRegistry);
+        return new C2S_GetRoomList(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<C2S_JoinRoom> parser() {
+    public static com.google.protobuf.Parser<C2S_GetRoomList> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<C2S_JoinRoom> getParserForType() {
+    public com.google.protobuf.Parser<C2S_GetRoomList> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public lawnmower.Message.C2S_JoinRoom getDefaultInstanceForType() {
+    public lawnmower.Message.C2S_GetRoomList getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface C2S_LeaveRoomOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:lawnmower.C2S_LeaveRoom)
+  public interface C2S_JoinRoomOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:lawnmower.C2S_JoinRoom)
       com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     *房间id
+     * </pre>
+     *
+     * <code>uint32 room_id = 1;</code>
+     * @return The roomId.
+     */
+    int getRoomId();
   }
   /**
    * <pre>
-   * 离开房间请求
+   * 加入房间请求
    * </pre>
    *
-   * Protobuf type {@code lawnmower.C2S_LeaveRoom}
+   * Protobuf type {@code lawnmower.C2S_JoinRoom}
    */
-  public static final class C2S_LeaveRoom extends
+  public static final class C2S_JoinRoom extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:lawnmower.C2S_LeaveRoom)
-      C2S_LeaveRoomOrBuilder {
+      // @@protoc_insertion_point(message_implements:lawnmower.C2S_JoinRoom)
+      C2S_JoinRoomOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use C2S_LeaveRoom.newBuilder() to construct.
-    private C2S_LeaveRoom(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use C2S_JoinRoom.newBuilder() to construct.
+    private C2S_JoinRoom(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private C2S_LeaveRoom() {
+    private C2S_JoinRoom() {
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new C2S_LeaveRoom();
+      return new C2S_JoinRoom();
     }
 
     @java.lang.Override
@@ -12870,7 +14512,7 @@ public final class Message {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private C2S_LeaveRoom(
+    private C2S_JoinRoom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -12888,6 +14530,11 @@ public final class Message {
             case 0:
               done = true;
               break;
+            case 8: {
+
+              roomId_ = input.readUInt32();
+              break;
+            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -12911,15 +14558,30 @@ public final class Message {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return lawnmower.Message.internal_static_lawnmower_C2S_LeaveRoom_descriptor;
+      return lawnmower.Message.internal_static_lawnmower_C2S_JoinRoom_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return lawnmower.Message.internal_static_lawnmower_C2S_LeaveRoom_fieldAccessorTable
+      return lawnmower.Message.internal_static_lawnmower_C2S_JoinRoom_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              lawnmower.Message.C2S_LeaveRoom.class, lawnmower.Message.C2S_LeaveRoom.Builder.class);
+              lawnmower.Message.C2S_JoinRoom.class, lawnmower.Message.C2S_JoinRoom.Builder.class);
+    }
+
+    public static final int ROOM_ID_FIELD_NUMBER = 1;
+    private int roomId_;
+    /**
+     * <pre>
+     *房间id
+     * </pre>
+     *
+     * <code>uint32 room_id = 1;</code>
+     * @return The roomId.
+     */
+    @java.lang.Override
+    public int getRoomId() {
+      return roomId_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -12936,6 +14598,9 @@ public final class Message {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
+      if (roomId_ != 0) {
+        output.writeUInt32(1, roomId_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -12945,6 +14610,10 @@ public final class Message {
       if (size != -1) return size;
 
       size = 0;
+      if (roomId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, roomId_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -12955,11 +14624,13 @@ public final class Message {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof lawnmower.Message.C2S_LeaveRoom)) {
+      if (!(obj instanceof lawnmower.Message.C2S_JoinRoom)) {
         return super.equals(obj);
       }
-      lawnmower.Message.C2S_LeaveRoom other = (lawnmower.Message.C2S_LeaveRoom) obj;
+      lawnmower.Message.C2S_JoinRoom other = (lawnmower.Message.C2S_JoinRoom) obj;
 
+      if (getRoomId()
+          != other.getRoomId()) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -12971,74 +14642,76 @@ public final class Message {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + ROOM_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getRoomId();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static lawnmower.Message.C2S_LeaveRoom parseFrom(
+    public static lawnmower.Message.C2S_JoinRoom parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static lawnmower.Message.C2S_LeaveRoom parseFrom(
+    public static lawnmower.Message.C2S_JoinRoom parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static lawnmower.Message.C2S_LeaveRoom parseFrom(
+    public static lawnmower.Message.C2S_JoinRoom parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static lawnmower.Message.C2S_LeaveRoom parseFrom(
+    public static lawnmower.Message.C2S_JoinRoom parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static lawnmower.Message.C2S_LeaveRoom parseFrom(byte[] data)
+    public static lawnmower.Message.C2S_JoinRoom parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static lawnmower.Message.C2S_LeaveRoom parseFrom(
+    public static lawnmower.Message.C2S_JoinRoom parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static lawnmower.Message.C2S_LeaveRoom parseFrom(java.io.InputStream input)
+    public static lawnmower.Message.C2S_JoinRoom parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static lawnmower.Message.C2S_LeaveRoom parseFrom(
+    public static lawnmower.Message.C2S_JoinRoom parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static lawnmower.Message.C2S_LeaveRoom parseDelimitedFrom(java.io.InputStream input)
+    public static lawnmower.Message.C2S_JoinRoom parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static lawnmower.Message.C2S_LeaveRoom parseDelimitedFrom(
+    public static lawnmower.Message.C2S_JoinRoom parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static lawnmower.Message.C2S_LeaveRoom parseFrom(
+    public static lawnmower.Message.C2S_JoinRoom parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static lawnmower.Message.C2S_LeaveRoom parseFrom(
+    public static lawnmower.Message.C2S_JoinRoom parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -13051,7 +14724,7 @@ public final class Message {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(lawnmower.Message.C2S_LeaveRoom prototype) {
+    public static Builder newBuilder(lawnmower.Message.C2S_JoinRoom prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -13068,29 +14741,29 @@ public final class Message {
     }
     /**
      * <pre>
-     * 离开房间请求
+     * 加入房间请求
      * </pre>
      *
-     * Protobuf type {@code lawnmower.C2S_LeaveRoom}
+     * Protobuf type {@code lawnmower.C2S_JoinRoom}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:lawnmower.C2S_LeaveRoom)
-        lawnmower.Message.C2S_LeaveRoomOrBuilder {
+        // @@protoc_insertion_point(builder_implements:lawnmower.C2S_JoinRoom)
+        lawnmower.Message.C2S_JoinRoomOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return lawnmower.Message.internal_static_lawnmower_C2S_LeaveRoom_descriptor;
+        return lawnmower.Message.internal_static_lawnmower_C2S_JoinRoom_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return lawnmower.Message.internal_static_lawnmower_C2S_LeaveRoom_fieldAccessorTable
+        return lawnmower.Message.internal_static_lawnmower_C2S_JoinRoom_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                lawnmower.Message.C2S_LeaveRoom.class, lawnmower.Message.C2S_LeaveRoom.Builder.class);
+                lawnmower.Message.C2S_JoinRoom.class, lawnmower.Message.C2S_JoinRoom.Builder.class);
       }
 
-      // Construct using lawnmower.Message.C2S_LeaveRoom.newBuilder()
+      // Construct using lawnmower.Message.C2S_JoinRoom.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -13108,23 +14781,25 @@ public final class Message {
       @java.lang.Override
       public Builder clear() {
         super.clear();
+        roomId_ = 0;
+
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return lawnmower.Message.internal_static_lawnmower_C2S_LeaveRoom_descriptor;
+        return lawnmower.Message.internal_static_lawnmower_C2S_JoinRoom_descriptor;
       }
 
       @java.lang.Override
-      public lawnmower.Message.C2S_LeaveRoom getDefaultInstanceForType() {
-        return lawnmower.Message.C2S_LeaveRoom.getDefaultInstance();
+      public lawnmower.Message.C2S_JoinRoom getDefaultInstanceForType() {
+        return lawnmower.Message.C2S_JoinRoom.getDefaultInstance();
       }
 
       @java.lang.Override
-      public lawnmower.Message.C2S_LeaveRoom build() {
-        lawnmower.Message.C2S_LeaveRoom result = buildPartial();
+      public lawnmower.Message.C2S_JoinRoom build() {
+        lawnmower.Message.C2S_JoinRoom result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -13132,8 +14807,9 @@ public final class Message {
       }
 
       @java.lang.Override
-      public lawnmower.Message.C2S_LeaveRoom buildPartial() {
-        lawnmower.Message.C2S_LeaveRoom result = new lawnmower.Message.C2S_LeaveRoom(this);
+      public lawnmower.Message.C2S_JoinRoom buildPartial() {
+        lawnmower.Message.C2S_JoinRoom result = new lawnmower.Message.C2S_JoinRoom(this);
+        result.roomId_ = roomId_;
         onBuilt();
         return result;
       }
@@ -13172,16 +14848,19 @@ public final class Message {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof lawnmower.Message.C2S_LeaveRoom) {
-          return mergeFrom((lawnmower.Message.C2S_LeaveRoom)other);
+        if (other instanceof lawnmower.Message.C2S_JoinRoom) {
+          return mergeFrom((lawnmower.Message.C2S_JoinRoom)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(lawnmower.Message.C2S_LeaveRoom other) {
-        if (other == lawnmower.Message.C2S_LeaveRoom.getDefaultInstance()) return this;
+      public Builder mergeFrom(lawnmower.Message.C2S_JoinRoom other) {
+        if (other == lawnmower.Message.C2S_JoinRoom.getDefaultInstance()) return this;
+        if (other.getRoomId() != 0) {
+          setRoomId(other.getRoomId());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -13197,11 +14876,11 @@ public final class Message {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        lawnmower.Message.C2S_LeaveRoom parsedMessage = null;
+        lawnmower.Message.C2S_JoinRoom parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (lawnmower.Message.C2S_LeaveRoom) e.getUnfinishedMessage();
+          parsedMessage = (lawnmower.Message.C2S_JoinRoom) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -13210,6 +14889,49 @@ public final class Message {
         }
         return this;
       }
+
+      private int roomId_ ;
+      /**
+       * <pre>
+       *房间id
+       * </pre>
+       *
+       * <code>uint32 room_id = 1;</code>
+       * @return The roomId.
+       */
+      @java.lang.Override
+      public int getRoomId() {
+        return roomId_;
+      }
+      /**
+       * <pre>
+       *房间id
+       * </pre>
+       *
+       * <code>uint32 room_id = 1;</code>
+       * @param value The roomId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRoomId(int value) {
+        
+        roomId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *房间id
+       * </pre>
+       *
+       * <code>uint32 room_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRoomId() {
+        
+        roomId_ = 0;
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -13223,84 +14945,74 @@ public final class Message {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:lawnmower.C2S_LeaveRoom)
+      // @@protoc_insertion_point(builder_scope:lawnmower.C2S_JoinRoom)
     }
 
-    // @@protoc_insertion_point(class_scope:lawnmower.C2S_LeaveRoom)
-    private static final lawnmower.Message.C2S_LeaveRoom DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:lawnmower.C2S_JoinRoom)
+    private static final lawnmower.Message.C2S_JoinRoom DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new lawnmower.Message.C2S_LeaveRoom();
+      DEFAULT_INSTANCE = new lawnmower.Message.C2S_JoinRoom();
     }
 
-    public static lawnmower.Message.C2S_LeaveRoom getDefaultInstance() {
+    public static lawnmower.Message.C2S_JoinRoom getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<C2S_LeaveRoom>
-        PARSER = new com.google.protobuf.AbstractParser<C2S_LeaveRoom>() {
+    private static final com.google.protobuf.Parser<C2S_JoinRoom>
+        PARSER = new com.google.protobuf.AbstractParser<C2S_JoinRoom>() {
       @java.lang.Override
-      public C2S_LeaveRoom parsePartialFrom(
+      public C2S_JoinRoom parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new C2S_LeaveRoom(input, extensionRegistry);
+        return new C2S_JoinRoom(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<C2S_LeaveRoom> parser() {
+    public static com.google.protobuf.Parser<C2S_JoinRoom> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<C2S_LeaveRoom> getParserForType() {
+    public com.google.protobuf.Parser<C2S_JoinRoom> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public lawnmower.Message.C2S_LeaveRoom getDefaultInstanceForType() {
+    public lawnmower.Message.C2S_JoinRoom getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface C2S_SetReadyOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:lawnmower.C2S_SetReady)
+  public interface C2S_LeaveRoomOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:lawnmower.C2S_LeaveRoom)
       com.google.protobuf.MessageOrBuilder {
-
-    /**
-     * <pre>
-     * 是否准备
-     * </pre>
-     *
-     * <code>bool is_ready = 1;</code>
-     * @return The isReady.
-     */
-    boolean getIsReady();
   }
   /**
    * <pre>
-   * 设置准备状态请求
+   * 离开房间请求
    * </pre>
    *
-   * Protobuf type {@code lawnmower.C2S_SetReady}
+   * Protobuf type {@code lawnmower.C2S_LeaveRoom}
    */
-  public static final class C2S_SetReady extends
+  public static final class C2S_LeaveRoom extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:lawnmower.C2S_SetReady)
-      C2S_SetReadyOrBuilder {
+      // @@protoc_insertion_point(message_implements:lawnmower.C2S_LeaveRoom)
+      C2S_LeaveRoomOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use C2S_SetReady.newBuilder() to construct.
-    private C2S_SetReady(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use C2S_LeaveRoom.newBuilder() to construct.
+    private C2S_LeaveRoom(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private C2S_SetReady() {
+    private C2S_LeaveRoom() {
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new C2S_SetReady();
+      return new C2S_LeaveRoom();
     }
 
     @java.lang.Override
@@ -13308,7 +15020,7 @@ public final class Message {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private C2S_SetReady(
+    private C2S_LeaveRoom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -13326,11 +15038,6 @@ public final class Message {
             case 0:
               done = true;
               break;
-            case 8: {
-
-              isReady_ = input.readBool();
-              break;
-            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -13354,30 +15061,15 @@ public final class Message {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return lawnmower.Message.internal_static_lawnmower_C2S_SetReady_descriptor;
+      return lawnmower.Message.internal_static_lawnmower_C2S_LeaveRoom_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return lawnmower.Message.internal_static_lawnmower_C2S_SetReady_fieldAccessorTable
+      return lawnmower.Message.internal_static_lawnmower_C2S_LeaveRoom_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              lawnmower.Message.C2S_SetReady.class, lawnmower.Message.C2S_SetReady.Builder.class);
-    }
-
-    public static final int IS_READY_FIELD_NUMBER = 1;
-    private boolean isReady_;
-    /**
-     * <pre>
-     * 是否准备
-     * </pre>
-     *
-     * <code>bool is_ready = 1;</code>
-     * @return The isReady.
-     */
-    @java.lang.Override
-    public boolean getIsReady() {
-      return isReady_;
+              lawnmower.Message.C2S_LeaveRoom.class, lawnmower.Message.C2S_LeaveRoom.Builder.class);
     }
 
     private byte memoizedIsInitialized = -1;
@@ -13394,9 +15086,6 @@ public final class Message {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (isReady_ != false) {
-        output.writeBool(1, isReady_);
-      }
       unknownFields.writeTo(output);
     }
 
@@ -13406,10 +15095,6 @@ public final class Message {
       if (size != -1) return size;
 
       size = 0;
-      if (isReady_ != false) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(1, isReady_);
-      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -13420,13 +15105,11 @@ public final class Message {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof lawnmower.Message.C2S_SetReady)) {
+      if (!(obj instanceof lawnmower.Message.C2S_LeaveRoom)) {
         return super.equals(obj);
       }
-      lawnmower.Message.C2S_SetReady other = (lawnmower.Message.C2S_SetReady) obj;
+      lawnmower.Message.C2S_LeaveRoom other = (lawnmower.Message.C2S_LeaveRoom) obj;
 
-      if (getIsReady()
-          != other.getIsReady()) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -13438,77 +15121,74 @@ public final class Message {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + IS_READY_FIELD_NUMBER;
-      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
-          getIsReady());
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static lawnmower.Message.C2S_SetReady parseFrom(
+    public static lawnmower.Message.C2S_LeaveRoom parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static lawnmower.Message.C2S_SetReady parseFrom(
+    public static lawnmower.Message.C2S_LeaveRoom parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static lawnmower.Message.C2S_SetReady parseFrom(
+    public static lawnmower.Message.C2S_LeaveRoom parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static lawnmower.Message.C2S_SetReady parseFrom(
+    public static lawnmower.Message.C2S_LeaveRoom parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static lawnmower.Message.C2S_SetReady parseFrom(byte[] data)
+    public static lawnmower.Message.C2S_LeaveRoom parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static lawnmower.Message.C2S_SetReady parseFrom(
+    public static lawnmower.Message.C2S_LeaveRoom parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static lawnmower.Message.C2S_SetReady parseFrom(java.io.InputStream input)
+    public static lawnmower.Message.C2S_LeaveRoom parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static lawnmower.Message.C2S_SetReady parseFrom(
+    public static lawnmower.Message.C2S_LeaveRoom parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static lawnmower.Message.C2S_SetReady parseDelimitedFrom(java.io.InputStream input)
+    public static lawnmower.Message.C2S_LeaveRoom parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static lawnmower.Message.C2S_SetReady parseDelimitedFrom(
+    public static lawnmower.Message.C2S_LeaveRoom parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static lawnmower.Message.C2S_SetReady parseFrom(
+    public static lawnmower.Message.C2S_LeaveRoom parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static lawnmower.Message.C2S_SetReady parseFrom(
+    public static lawnmower.Message.C2S_LeaveRoom parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -13521,7 +15201,7 @@ public final class Message {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(lawnmower.Message.C2S_SetReady prototype) {
+    public static Builder newBuilder(lawnmower.Message.C2S_LeaveRoom prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -13538,29 +15218,29 @@ public final class Message {
     }
     /**
      * <pre>
-     * 设置准备状态请求
+     * 离开房间请求
      * </pre>
      *
-     * Protobuf type {@code lawnmower.C2S_SetReady}
+     * Protobuf type {@code lawnmower.C2S_LeaveRoom}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:lawnmower.C2S_SetReady)
-        lawnmower.Message.C2S_SetReadyOrBuilder {
+        // @@protoc_insertion_point(builder_implements:lawnmower.C2S_LeaveRoom)
+        lawnmower.Message.C2S_LeaveRoomOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return lawnmower.Message.internal_static_lawnmower_C2S_SetReady_descriptor;
+        return lawnmower.Message.internal_static_lawnmower_C2S_LeaveRoom_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return lawnmower.Message.internal_static_lawnmower_C2S_SetReady_fieldAccessorTable
+        return lawnmower.Message.internal_static_lawnmower_C2S_LeaveRoom_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                lawnmower.Message.C2S_SetReady.class, lawnmower.Message.C2S_SetReady.Builder.class);
+                lawnmower.Message.C2S_LeaveRoom.class, lawnmower.Message.C2S_LeaveRoom.Builder.class);
       }
 
-      // Construct using lawnmower.Message.C2S_SetReady.newBuilder()
+      // Construct using lawnmower.Message.C2S_LeaveRoom.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -13578,25 +15258,23 @@ public final class Message {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        isReady_ = false;
-
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return lawnmower.Message.internal_static_lawnmower_C2S_SetReady_descriptor;
+        return lawnmower.Message.internal_static_lawnmower_C2S_LeaveRoom_descriptor;
       }
 
       @java.lang.Override
-      public lawnmower.Message.C2S_SetReady getDefaultInstanceForType() {
-        return lawnmower.Message.C2S_SetReady.getDefaultInstance();
+      public lawnmower.Message.C2S_LeaveRoom getDefaultInstanceForType() {
+        return lawnmower.Message.C2S_LeaveRoom.getDefaultInstance();
       }
 
       @java.lang.Override
-      public lawnmower.Message.C2S_SetReady build() {
-        lawnmower.Message.C2S_SetReady result = buildPartial();
+      public lawnmower.Message.C2S_LeaveRoom build() {
+        lawnmower.Message.C2S_LeaveRoom result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -13604,9 +15282,8 @@ public final class Message {
       }
 
       @java.lang.Override
-      public lawnmower.Message.C2S_SetReady buildPartial() {
-        lawnmower.Message.C2S_SetReady result = new lawnmower.Message.C2S_SetReady(this);
-        result.isReady_ = isReady_;
+      public lawnmower.Message.C2S_LeaveRoom buildPartial() {
+        lawnmower.Message.C2S_LeaveRoom result = new lawnmower.Message.C2S_LeaveRoom(this);
         onBuilt();
         return result;
       }
@@ -13645,19 +15322,16 @@ public final class Message {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof lawnmower.Message.C2S_SetReady) {
-          return mergeFrom((lawnmower.Message.C2S_SetReady)other);
+        if (other instanceof lawnmower.Message.C2S_LeaveRoom) {
+          return mergeFrom((lawnmower.Message.C2S_LeaveRoom)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(lawnmower.Message.C2S_SetReady other) {
-        if (other == lawnmower.Message.C2S_SetReady.getDefaultInstance()) return this;
-        if (other.getIsReady() != false) {
-          setIsReady(other.getIsReady());
-        }
+      public Builder mergeFrom(lawnmower.Message.C2S_LeaveRoom other) {
+        if (other == lawnmower.Message.C2S_LeaveRoom.getDefaultInstance()) return this;
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -13673,11 +15347,11 @@ public final class Message {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        lawnmower.Message.C2S_SetReady parsedMessage = null;
+        lawnmower.Message.C2S_LeaveRoom parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (lawnmower.Message.C2S_SetReady) e.getUnfinishedMessage();
+          parsedMessage = (lawnmower.Message.C2S_LeaveRoom) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -13686,49 +15360,6 @@ public final class Message {
         }
         return this;
       }
-
-      private boolean isReady_ ;
-      /**
-       * <pre>
-       * 是否准备
-       * </pre>
-       *
-       * <code>bool is_ready = 1;</code>
-       * @return The isReady.
-       */
-      @java.lang.Override
-      public boolean getIsReady() {
-        return isReady_;
-      }
-      /**
-       * <pre>
-       * 是否准备
-       * </pre>
-       *
-       * <code>bool is_ready = 1;</code>
-       * @param value The isReady to set.
-       * @return This builder for chaining.
-       */
-      public Builder setIsReady(boolean value) {
-        
-        isReady_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <pre>
-       * 是否准备
-       * </pre>
-       *
-       * <code>bool is_ready = 1;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearIsReady() {
-        
-        isReady_ = false;
-        onChanged();
-        return this;
-      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -13742,74 +15373,84 @@ public final class Message {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:lawnmower.C2S_SetReady)
+      // @@protoc_insertion_point(builder_scope:lawnmower.C2S_LeaveRoom)
     }
 
-    // @@protoc_insertion_point(class_scope:lawnmower.C2S_SetReady)
-    private static final lawnmower.Message.C2S_SetReady DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:lawnmower.C2S_LeaveRoom)
+    private static final lawnmower.Message.C2S_LeaveRoom DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new lawnmower.Message.C2S_SetReady();
+      DEFAULT_INSTANCE = new lawnmower.Message.C2S_LeaveRoom();
     }
 
-    public static lawnmower.Message.C2S_SetReady getDefaultInstance() {
+    public static lawnmower.Message.C2S_LeaveRoom getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<C2S_SetReady>
-        PARSER = new com.google.protobuf.AbstractParser<C2S_SetReady>() {
+    private static final com.google.protobuf.Parser<C2S_LeaveRoom>
+        PARSER = new com.google.protobuf.AbstractParser<C2S_LeaveRoom>() {
       @java.lang.Override
-      public C2S_SetReady parsePartialFrom(
+      public C2S_LeaveRoom parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new C2S_SetReady(input, extensionRegistry);
+        return new C2S_LeaveRoom(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<C2S_SetReady> parser() {
+    public static com.google.protobuf.Parser<C2S_LeaveRoom> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<C2S_SetReady> getParserForType() {
+    public com.google.protobuf.Parser<C2S_LeaveRoom> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public lawnmower.Message.C2S_SetReady getDefaultInstanceForType() {
+    public lawnmower.Message.C2S_LeaveRoom getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface C2S_StartGameOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:lawnmower.C2S_StartGame)
+  public interface C2S_SetReadyOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:lawnmower.C2S_SetReady)
       com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * 是否准备
+     * </pre>
+     *
+     * <code>bool is_ready = 1;</code>
+     * @return The isReady.
+     */
+    boolean getIsReady();
   }
   /**
    * <pre>
-   * 开始游戏请求（房主)
+   * 设置准备状态请求
    * </pre>
    *
-   * Protobuf type {@code lawnmower.C2S_StartGame}
+   * Protobuf type {@code lawnmower.C2S_SetReady}
    */
-  public static final class C2S_StartGame extends
+  public static final class C2S_SetReady extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:lawnmower.C2S_StartGame)
-      C2S_StartGameOrBuilder {
+      // @@protoc_insertion_point(message_implements:lawnmower.C2S_SetReady)
+      C2S_SetReadyOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use C2S_StartGame.newBuilder() to construct.
-    private C2S_StartGame(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use C2S_SetReady.newBuilder() to construct.
+    private C2S_SetReady(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private C2S_StartGame() {
+    private C2S_SetReady() {
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new C2S_StartGame();
+      return new C2S_SetReady();
     }
 
     @java.lang.Override
@@ -13817,7 +15458,7 @@ public final class Message {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private C2S_StartGame(
+    private C2S_SetReady(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -13835,6 +15476,11 @@ public final class Message {
             case 0:
               done = true;
               break;
+            case 8: {
+
+              isReady_ = input.readBool();
+              break;
+            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -13858,15 +15504,30 @@ public final class Message {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return lawnmower.Message.internal_static_lawnmower_C2S_StartGame_descriptor;
+      return lawnmower.Message.internal_static_lawnmower_C2S_SetReady_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return lawnmower.Message.internal_static_lawnmower_C2S_StartGame_fieldAccessorTable
+      return lawnmower.Message.internal_static_lawnmower_C2S_SetReady_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              lawnmower.Message.C2S_StartGame.class, lawnmower.Message.C2S_StartGame.Builder.class);
+              lawnmower.Message.C2S_SetReady.class, lawnmower.Message.C2S_SetReady.Builder.class);
+    }
+
+    public static final int IS_READY_FIELD_NUMBER = 1;
+    private boolean isReady_;
+    /**
+     * <pre>
+     * 是否准备
+     * </pre>
+     *
+     * <code>bool is_ready = 1;</code>
+     * @return The isReady.
+     */
+    @java.lang.Override
+    public boolean getIsReady() {
+      return isReady_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -13883,6 +15544,9 @@ public final class Message {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
+      if (isReady_ != false) {
+        output.writeBool(1, isReady_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -13892,6 +15556,10 @@ public final class Message {
       if (size != -1) return size;
 
       size = 0;
+      if (isReady_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(1, isReady_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -13902,11 +15570,13 @@ public final class Message {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof lawnmower.Message.C2S_StartGame)) {
+      if (!(obj instanceof lawnmower.Message.C2S_SetReady)) {
         return super.equals(obj);
       }
-      lawnmower.Message.C2S_StartGame other = (lawnmower.Message.C2S_StartGame) obj;
+      lawnmower.Message.C2S_SetReady other = (lawnmower.Message.C2S_SetReady) obj;
 
+      if (getIsReady()
+          != other.getIsReady()) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -13918,74 +15588,77 @@ public final class Message {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + IS_READY_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getIsReady());
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static lawnmower.Message.C2S_StartGame parseFrom(
+    public static lawnmower.Message.C2S_SetReady parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static lawnmower.Message.C2S_StartGame parseFrom(
+    public static lawnmower.Message.C2S_SetReady parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static lawnmower.Message.C2S_StartGame parseFrom(
+    public static lawnmower.Message.C2S_SetReady parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static lawnmower.Message.C2S_StartGame parseFrom(
+    public static lawnmower.Message.C2S_SetReady parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static lawnmower.Message.C2S_StartGame parseFrom(byte[] data)
+    public static lawnmower.Message.C2S_SetReady parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static lawnmower.Message.C2S_StartGame parseFrom(
+    public static lawnmower.Message.C2S_SetReady parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static lawnmower.Message.C2S_StartGame parseFrom(java.io.InputStream input)
+    public static lawnmower.Message.C2S_SetReady parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static lawnmower.Message.C2S_StartGame parseFrom(
+    public static lawnmower.Message.C2S_SetReady parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static lawnmower.Message.C2S_StartGame parseDelimitedFrom(java.io.InputStream input)
+    public static lawnmower.Message.C2S_SetReady parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static lawnmower.Message.C2S_StartGame parseDelimitedFrom(
+    public static lawnmower.Message.C2S_SetReady parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static lawnmower.Message.C2S_StartGame parseFrom(
+    public static lawnmower.Message.C2S_SetReady parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static lawnmower.Message.C2S_StartGame parseFrom(
+    public static lawnmower.Message.C2S_SetReady parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -13998,7 +15671,7 @@ public final class Message {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(lawnmower.Message.C2S_StartGame prototype) {
+    public static Builder newBuilder(lawnmower.Message.C2S_SetReady prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -14015,29 +15688,29 @@ public final class Message {
     }
     /**
      * <pre>
-     * 开始游戏请求（房主)
+     * 设置准备状态请求
      * </pre>
      *
-     * Protobuf type {@code lawnmower.C2S_StartGame}
+     * Protobuf type {@code lawnmower.C2S_SetReady}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:lawnmower.C2S_StartGame)
-        lawnmower.Message.C2S_StartGameOrBuilder {
+        // @@protoc_insertion_point(builder_implements:lawnmower.C2S_SetReady)
+        lawnmower.Message.C2S_SetReadyOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return lawnmower.Message.internal_static_lawnmower_C2S_StartGame_descriptor;
+        return lawnmower.Message.internal_static_lawnmower_C2S_SetReady_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return lawnmower.Message.internal_static_lawnmower_C2S_StartGame_fieldAccessorTable
+        return lawnmower.Message.internal_static_lawnmower_C2S_SetReady_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                lawnmower.Message.C2S_StartGame.class, lawnmower.Message.C2S_StartGame.Builder.class);
+                lawnmower.Message.C2S_SetReady.class, lawnmower.Message.C2S_SetReady.Builder.class);
       }
 
-      // Construct using lawnmower.Message.C2S_StartGame.newBuilder()
+      // Construct using lawnmower.Message.C2S_SetReady.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -14055,23 +15728,25 @@ public final class Message {
       @java.lang.Override
       public Builder clear() {
         super.clear();
+        isReady_ = false;
+
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return lawnmower.Message.internal_static_lawnmower_C2S_StartGame_descriptor;
+        return lawnmower.Message.internal_static_lawnmower_C2S_SetReady_descriptor;
       }
 
       @java.lang.Override
-      public lawnmower.Message.C2S_StartGame getDefaultInstanceForType() {
-        return lawnmower.Message.C2S_StartGame.getDefaultInstance();
+      public lawnmower.Message.C2S_SetReady getDefaultInstanceForType() {
+        return lawnmower.Message.C2S_SetReady.getDefaultInstance();
       }
 
       @java.lang.Override
-      public lawnmower.Message.C2S_StartGame build() {
-        lawnmower.Message.C2S_StartGame result = buildPartial();
+      public lawnmower.Message.C2S_SetReady build() {
+        lawnmower.Message.C2S_SetReady result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -14079,8 +15754,483 @@ public final class Message {
       }
 
       @java.lang.Override
-      public lawnmower.Message.C2S_StartGame buildPartial() {
-        lawnmower.Message.C2S_StartGame result = new lawnmower.Message.C2S_StartGame(this);
+      public lawnmower.Message.C2S_SetReady buildPartial() {
+        lawnmower.Message.C2S_SetReady result = new lawnmower.Message.C2S_SetReady(this);
+        result.isReady_ = isReady_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof lawnmower.Message.C2S_SetReady) {
+          return mergeFrom((lawnmower.Message.C2S_SetReady)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(lawnmower.Message.C2S_SetReady other) {
+        if (other == lawnmower.Message.C2S_SetReady.getDefaultInstance()) return this;
+        if (other.getIsReady() != false) {
+          setIsReady(other.getIsReady());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        lawnmower.Message.C2S_SetReady parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (lawnmower.Message.C2S_SetReady) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private boolean isReady_ ;
+      /**
+       * <pre>
+       * 是否准备
+       * </pre>
+       *
+       * <code>bool is_ready = 1;</code>
+       * @return The isReady.
+       */
+      @java.lang.Override
+      public boolean getIsReady() {
+        return isReady_;
+      }
+      /**
+       * <pre>
+       * 是否准备
+       * </pre>
+       *
+       * <code>bool is_ready = 1;</code>
+       * @param value The isReady to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIsReady(boolean value) {
+        
+        isReady_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 是否准备
+       * </pre>
+       *
+       * <code>bool is_ready = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIsReady() {
+        
+        isReady_ = false;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:lawnmower.C2S_SetReady)
+    }
+
+    // @@protoc_insertion_point(class_scope:lawnmower.C2S_SetReady)
+    private static final lawnmower.Message.C2S_SetReady DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new lawnmower.Message.C2S_SetReady();
+    }
+
+    public static lawnmower.Message.C2S_SetReady getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<C2S_SetReady>
+        PARSER = new com.google.protobuf.AbstractParser<C2S_SetReady>() {
+      @java.lang.Override
+      public C2S_SetReady parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new C2S_SetReady(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<C2S_SetReady> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<C2S_SetReady> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public lawnmower.Message.C2S_SetReady getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface C2S_StartGameOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:lawnmower.C2S_StartGame)
+      com.google.protobuf.MessageOrBuilder {
+  }
+  /**
+   * <pre>
+   * 开始游戏请求（房主)
+   * </pre>
+   *
+   * Protobuf type {@code lawnmower.C2S_StartGame}
+   */
+  public static final class C2S_StartGame extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:lawnmower.C2S_StartGame)
+      C2S_StartGameOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use C2S_StartGame.newBuilder() to construct.
+    private C2S_StartGame(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private C2S_StartGame() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new C2S_StartGame();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private C2S_StartGame(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return lawnmower.Message.internal_static_lawnmower_C2S_StartGame_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return lawnmower.Message.internal_static_lawnmower_C2S_StartGame_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              lawnmower.Message.C2S_StartGame.class, lawnmower.Message.C2S_StartGame.Builder.class);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof lawnmower.Message.C2S_StartGame)) {
+        return super.equals(obj);
+      }
+      lawnmower.Message.C2S_StartGame other = (lawnmower.Message.C2S_StartGame) obj;
+
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static lawnmower.Message.C2S_StartGame parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static lawnmower.Message.C2S_StartGame parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static lawnmower.Message.C2S_StartGame parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static lawnmower.Message.C2S_StartGame parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static lawnmower.Message.C2S_StartGame parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static lawnmower.Message.C2S_StartGame parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static lawnmower.Message.C2S_StartGame parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static lawnmower.Message.C2S_StartGame parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static lawnmower.Message.C2S_StartGame parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static lawnmower.Message.C2S_StartGame parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static lawnmower.Message.C2S_StartGame parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static lawnmower.Message.C2S_StartGame parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(lawnmower.Message.C2S_StartGame prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * 开始游戏请求（房主)
+     * </pre>
+     *
+     * Protobuf type {@code lawnmower.C2S_StartGame}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:lawnmower.C2S_StartGame)
+        lawnmower.Message.C2S_StartGameOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return lawnmower.Message.internal_static_lawnmower_C2S_StartGame_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return lawnmower.Message.internal_static_lawnmower_C2S_StartGame_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                lawnmower.Message.C2S_StartGame.class, lawnmower.Message.C2S_StartGame.Builder.class);
+      }
+
+      // Construct using lawnmower.Message.C2S_StartGame.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return lawnmower.Message.internal_static_lawnmower_C2S_StartGame_descriptor;
+      }
+
+      @java.lang.Override
+      public lawnmower.Message.C2S_StartGame getDefaultInstanceForType() {
+        return lawnmower.Message.C2S_StartGame.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public lawnmower.Message.C2S_StartGame build() {
+        lawnmower.Message.C2S_StartGame result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public lawnmower.Message.C2S_StartGame buildPartial() {
+        lawnmower.Message.C2S_StartGame result = new lawnmower.Message.C2S_StartGame(this);
         onBuilt();
         return result;
       }
@@ -29957,6 +32107,17 @@ public final class Message {
      * @return The lastProcessedInputSeq.
      */
     int getLastProcessedInputSeq();
+
+    /**
+     * <pre>
+     * 定点坐标：低 16 位 x、高 16 位 y，单位 1/SceneInfo.position_scale 像素；启用时代替 position。
+     * 高半部总有值，varint 要 5 字节，故用 fixed32（连 tag 共 5 字节，Vector2 为 12 字节）
+     * </pre>
+     *
+     * <code>fixed32 position_q = 7;</code>
+     * @return The positionQ.
+     */
+    int getPositionQ();
   }
   /**
    * <pre>
@@ -30046,6 +32207,11 @@ public final class Message {
               lastProcessedInputSeq_ = input.readInt32();
               break;
             }
+            case 61: {
+
+              positionQ_ = input.readFixed32();
+              break;
+            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -30186,6 +32352,22 @@ public final class Message {
       return lastProcessedInputSeq_;
     }
 
+    public static final int POSITION_Q_FIELD_NUMBER = 7;
+    private int positionQ_;
+    /**
+     * <pre>
+     * 定点坐标：低 16 位 x、高 16 位 y，单位 1/SceneInfo.position_scale 像素；启用时代替 position。
+     * 高半部总有值，varint 要 5 字节，故用 fixed32（连 tag 共 5 字节，Vector2 为 12 字节）
+     * </pre>
+     *
+     * <code>fixed32 position_q = 7;</code>
+     * @return The positionQ.
+     */
+    @java.lang.Override
+    public int getPositionQ() {
+      return positionQ_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -30218,6 +32400,9 @@ public final class Message {
       if (((bitField0_ & 0x00000004) != 0)) {
         output.writeInt32(6, lastProcessedInputSeq_);
       }
+      if (positionQ_ != 0) {
+        output.writeFixed32(7, positionQ_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -30251,6 +32436,10 @@ public final class Message {
         size += com.google.protobuf.CodedOutputStream
           .computeInt32Size(6, lastProcessedInputSeq_);
       }
+      if (positionQ_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed32Size(7, positionQ_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -30291,6 +32480,8 @@ public final class Message {
         if (getLastProcessedInputSeq()
             != other.getLastProcessedInputSeq()) return false;
       }
+      if (getPositionQ()
+          != other.getPositionQ()) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -30324,6 +32515,8 @@ public final class Message {
         hash = (37 * hash) + LAST_PROCESSED_INPUT_SEQ_FIELD_NUMBER;
         hash = (53 * hash) + getLastProcessedInputSeq();
       }
+      hash = (37 * hash) + POSITION_Q_FIELD_NUMBER;
+      hash = (53 * hash) + getPositionQ();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -30477,6 +32670,8 @@ public final class Message {
         bitField0_ = (bitField0_ & ~0x00000002);
         lastProcessedInputSeq_ = 0;
         bitField0_ = (bitField0_ & ~0x00000004);
+        positionQ_ = 0;
+
         return this;
       }
 
@@ -30524,6 +32719,7 @@ public final class Message {
           result.lastProcessedInputSeq_ = lastProcessedInputSeq_;
           to_bitField0_ |= 0x00000004;
         }
+        result.positionQ_ = positionQ_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -30591,6 +32787,9 @@ public final class Message {
         if (other.hasLastProcessedInputSeq()) {
           setLastProcessedInputSeq(other.getLastProcessedInputSeq());
         }
+        if (other.getPositionQ() != 0) {
+          setPositionQ(other.getPositionQ());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -30918,6 +33117,52 @@ public final class Message {
         onChanged();
         return this;
       }
+
+      private int positionQ_ ;
+      /**
+       * <pre>
+       * 定点坐标：低 16 位 x、高 16 位 y，单位 1/SceneInfo.position_scale 像素；启用时代替 position。
+       * 高半部总有值，varint 要 5 字节，故用 fixed32（连 tag 共 5 字节，Vector2 为 12 字节）
+       * </pre>
+       *
+       * <code>fixed32 position_q = 7;</code>
+       * @return The positionQ.
+       */
+      @java.lang.Override
+      public int getPositionQ() {
+        return positionQ_;
+      }
+      /**
+       * <pre>
+       * 定点坐标：低 16 位 x、高 16 位 y，单位 1/SceneInfo.position_scale 像素；启用时代替 position。
+       * 高半部总有值，varint 要 5 字节，故用 fixed32（连 tag 共 5 字节，Vector2 为 12 字节）
+       * </pre>
+       *
+       * <code>fixed32 position_q = 7;</code>
+       * @param value The positionQ to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPositionQ(int value) {
+        
+        positionQ_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 定点坐标：低 16 位 x、高 16 位 y，单位 1/SceneInfo.position_scale 像素；启用时代替 position。
+       * 高半部总有值，varint 要 5 字节，故用 fixed32（连 tag 共 5 字节，Vector2 为 12 字节）
+       * </pre>
+       *
+       * <code>fixed32 position_q = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPositionQ() {
+        
+        positionQ_ = 0;
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -31023,6 +33268,16 @@ public final class Message {
      * @return The isAlive.
      */
     boolean getIsAlive();
+
+    /**
+     * <pre>
+     * 定点坐标，编码同 PlayerStateDelta.position_q
+     * </pre>
+     *
+     * <code>fixed32 position_q = 6;</code>
+     * @return The positionQ.
+     */
+    int getPositionQ();
   }
   /**
    * <pre>
@@ -31107,6 +33362,11 @@ public final class Message {
               isAlive_ = input.readBool();
               break;
             }
+            case 53: {
+
+              positionQ_ = input.readFixed32();
+              break;
+            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -31228,6 +33488,21 @@ public final class Message {
       return isAlive_;
     }
 
+    public static final int POSITION_Q_FIELD_NUMBER = 6;
+    private int positionQ_;
+    /**
+     * <pre>
+     * 定点坐标，编码同 PlayerStateDelta.position_q
+     * </pre>
+     *
+     * <code>fixed32 position_q = 6;</code>
+     * @return The positionQ.
+     */
+    @java.lang.Override
+    public int getPositionQ() {
+      return positionQ_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -31257,6 +33532,9 @@ public final class Message {
       if (((bitField0_ & 0x00000002) != 0)) {
         output.writeBool(5, isAlive_);
       }
+      if (positionQ_ != 0) {
+        output.writeFixed32(6, positionQ_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -31286,6 +33564,10 @@ public final class Message {
         size += com.google.protobuf.CodedOutputStream
           .computeBoolSize(5, isAlive_);
       }
+      if (positionQ_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed32Size(6, positionQ_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -31320,6 +33602,8 @@ public final class Message {
         if (getIsAlive()
             != other.getIsAlive()) return false;
       }
+      if (getPositionQ()
+          != other.getPositionQ()) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -31348,6 +33632,8 @@ public final class Message {
         hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
             getIsAlive());
       }
+      hash = (37 * hash) + POSITION_Q_FIELD_NUMBER;
+      hash = (53 * hash) + getPositionQ();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -31499,6 +33785,8 @@ public final class Message {
         bitField0_ = (bitField0_ & ~0x00000001);
         isAlive_ = false;
         bitField0_ = (bitField0_ & ~0x00000002);
+        positionQ_ = 0;
+
         return this;
       }
 
@@ -31542,6 +33830,7 @@ public final class Message {
           result.isAlive_ = isAlive_;
           to_bitField0_ |= 0x00000002;
         }
+        result.positionQ_ = positionQ_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -31606,6 +33895,9 @@ public final class Message {
         if (other.hasIsAlive()) {
           setIsAlive(other.getIsAlive());
         }
+        if (other.getPositionQ() != 0) {
+          setPositionQ(other.getPositionQ());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -31894,6 +34186,49 @@ public final class Message {
         onChanged();
         return this;
       }
+
+      private int positionQ_ ;
+      /**
+       * <pre>
+       * 定点坐标，编码同 PlayerStateDelta.position_q
+       * </pre>
+       *
+       * <code>fixed32 position_q = 6;</code>
+       * @return The positionQ.
+       */
+      @java.lang.Override
+      public int getPositionQ() {
+        return positionQ_;
+      }
+      /**
+       * <pre>
+       * 定点坐标，编码同 PlayerStateDelta.position_q
+       * </pre>
+       *
+       * <code>fixed32 position_q = 6;</code>
+       * @param value The positionQ to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPositionQ(int value) {
+        
+        positionQ_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 定点坐标，编码同 PlayerStateDelta.position_q
+       * </pre>
+       *
+       * <code>fixed32 position_q = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPositionQ() {
+        
+        positionQ_ = 0;
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -31999,6 +34334,16 @@ public final class Message {
      * @return The typeId.
      */
     int getTypeId();
+
+    /**
+     * <pre>
+     * 定点坐标，编码同 PlayerStateDelta.position_q
+     * </pre>
+     *
+     * <code>fixed32 position_q = 6;</code>
+     * @return The positionQ.
+     */
+    int getPositionQ();
   }
   /**
    * <pre>
@@ -32083,6 +34428,11 @@ public final class Message {
               typeId_ = input.readUInt32();
               break;
             }
+            case 53: {
+
+              positionQ_ = input.readFixed32();
+              break;
+            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -32204,6 +34554,21 @@ public final class Message {
       return typeId_;
     }
 
+    public static final int POSITION_Q_FIELD_NUMBER = 6;
+    private int positionQ_;
+    /**
+     * <pre>
+     * 定点坐标，编码同 PlayerStateDelta.position_q
+     * </pre>
+     *
+     * <code>fixed32 position_q = 6;</code>
+     * @return The positionQ.
+     */
+    @java.lang.Override
+    public int getPositionQ() {
+      return positionQ_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -32233,6 +34598,9 @@ public final class Message {
       if (((bitField0_ & 0x00000002) != 0)) {
         output.writeUInt32(5, typeId_);
       }
+      if (positionQ_ != 0) {
+        output.writeFixed32(6, positionQ_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -32262,6 +34630,10 @@ public final class Message {
         size += com.google.protobuf.CodedOutputStream
           .computeUInt32Size(5, typeId_);
       }
+      if (positionQ_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed32Size(6, positionQ_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -32296,6 +34668,8 @@ public final class Message {
         if (getTypeId()
             != other.getTypeId()) return false;
       }
+      if (getPositionQ()
+          != other.getPositionQ()) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -32324,6 +34698,8 @@ public final class Message {
         hash = (37 * hash) + TYPE_ID_FIELD_NUMBER;
         hash = (53 * hash) + getTypeId();
       }
+      hash = (37 * hash) + POSITION_Q_FIELD_NUMBER;
+      hash = (53 * hash) + getPositionQ();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -32475,6 +34851,8 @@ public final class Message {
         bitField0_ = (bitField0_ & ~0x00000001);
         typeId_ = 0;
         bitField0_ = (bitField0_ & ~0x00000002);
+        positionQ_ = 0;
+
         return this;
       }
 
@@ -32518,6 +34896,7 @@ public final class Message {
           result.typeId_ = typeId_;
           to_bitField0_ |= 0x00000002;
         }
+        result.positionQ_ = positionQ_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -32582,6 +34961,9 @@ public final class Message {
         if (other.hasTypeId()) {
           setTypeId(other.getTypeId());
         }
+        if (other.getPositionQ() != 0) {
+          setPositionQ(other.getPositionQ());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -32870,6 +35252,49 @@ public final class Message {
         onChanged();
         return this;
       }
+
+      private int positionQ_ ;
+      /**
+       * <pre>
+       * 定点坐标，编码同 PlayerStateDelta.position_q
+       * </pre>
+       *
+       * <code>fixed32 position_q = 6;</code>
+       * @return The positionQ.
+       */
+      @java.lang.Override
+      public int getPositionQ() {
+        return positionQ_;
+      }
+      /**
+       * <pre>
+       * 定点坐标，编码同 PlayerStateDelta.position_q
+       * </pre>
+       *
+       * <code>fixed32 position_q = 6;</code>
+       * @param value The positionQ to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPositionQ(int value) {
+        
+        positionQ_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 定点坐标，编码同 PlayerStateDelta.position_q
+       * </pre>
+       *
+       * <code>fixed32 position_q = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPositionQ() {
+        
+        positionQ_ = 0;
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -33039,6 +35464,129 @@ public final class Message {
      */
     lawnmower.Message.ItemStateDeltaOrBuilder getItemsOrBuilder(
         int index);
+
+    /**
+     * <pre>
+     * 基线：房间上一次同步（全量 / 增量）的 tick，本增量只含此后的变化；0 表示未知。
+     * 客户端据此判断是否漏收了中间的同步
+     * </pre>
+     *
+     * <code>uint32 baseline_tick = 6;</code>
+     * @return The baselineTick.
+     */
+    int getBaselineTick();
+
+    /**
+     * <pre>
+     * ---- 区域订阅（只发给上报过 C2S_InterestArea 的客户端，增量按接收方单独构造）----
+     * enemies / items 只含客户端已持有的实体；进入区域的实体带完整状态，离开区域或已移除的只给 ID。
+     * 此时 baseline_tick 为发给该客户端的上一次同步的 tick
+     * </pre>
+     *
+     * <code>repeated .lawnmower.EnemyState entered_enemies = 7;</code>
+     */
+    java.util.List<lawnmower.Message.EnemyState> 
+        getEnteredEnemiesList();
+    /**
+     * <pre>
+     * ---- 区域订阅（只发给上报过 C2S_InterestArea 的客户端，增量按接收方单独构造）----
+     * enemies / items 只含客户端已持有的实体；进入区域的实体带完整状态，离开区域或已移除的只给 ID。
+     * 此时 baseline_tick 为发给该客户端的上一次同步的 tick
+     * </pre>
+     *
+     * <code>repeated .lawnmower.EnemyState entered_enemies = 7;</code>
+     */
+    lawnmower.Message.EnemyState getEnteredEnemies(int index);
+    /**
+     * <pre>
+     * ---- 区域订阅（只发给上报过 C2S_InterestArea 的客户端，增量按接收方单独构造）----
+     * enemies / items 只含客户端已持有的实体；进入区域的实体带完整状态，离开区域或已移除的只给 ID。
+     * 此时 baseline_tick 为发给该客户端的上一次同步的 tick
+     * </pre>
+     *
+     * <code>repeated .lawnmower.EnemyState entered_enemies = 7;</code>
+     */
+    int getEnteredEnemiesCount();
+    /**
+     * <pre>
+     * ---- 区域订阅（只发给上报过 C2S_InterestArea 的客户端，增量按接收方单独构造）----
+     * enemies / items 只含客户端已持有的实体；进入区域的实体带完整状态，离开区域或已移除的只给 ID。
+     * 此时 baseline_tick 为发给该客户端的上一次同步的 tick
+     * </pre>
+     *
+     * <code>repeated .lawnmower.EnemyState entered_enemies = 7;</code>
+     */
+    java.util.List<? extends lawnmower.Message.EnemyStateOrBuilder> 
+        getEnteredEnemiesOrBuilderList();
+    /**
+     * <pre>
+     * ---- 区域订阅（只发给上报过 C2S_InterestArea 的客户端，增量按接收方单独构造）----
+     * enemies / items 只含客户端已持有的实体；进入区域的实体带完整状态，离开区域或已移除的只给 ID。
+     * 此时 baseline_tick 为发给该客户端的上一次同步的 tick
+     * </pre>
+     *
+     * <code>repeated .lawnmower.EnemyState entered_enemies = 7;</code>
+     */
+    lawnmower.Message.EnemyStateOrBuilder getEnteredEnemiesOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated uint32 left_enemy_ids = 8;</code>
+     * @return A list containing the leftEnemyIds.
+     */
+    java.util.List<java.lang.Integer> getLeftEnemyIdsList();
+    /**
+     * <code>repeated uint32 left_enemy_ids = 8;</code>
+     * @return The count of leftEnemyIds.
+     */
+    int getLeftEnemyIdsCount();
+    /**
+     * <code>repeated uint32 left_enemy_ids = 8;</code>
+     * @param index The index of the element to return.
+     * @return The leftEnemyIds at the given index.
+     */
+    int getLeftEnemyIds(int index);
+
+    /**
+     * <code>repeated .lawnmower.ItemState entered_items = 9;</code>
+     */
+    java.util.List<lawnmower.Message.ItemState> 
+        getEnteredItemsList();
+    /**
+     * <code>repeated .lawnmower.ItemState entered_items = 9;</code>
+     */
+    lawnmower.Message.ItemState getEnteredItems(int index);
+    /**
+     * <code>repeated .lawnmower.ItemState entered_items = 9;</code>
+     */
+    int getEnteredItemsCount();
+    /**
+     * <code>repeated .lawnmower.ItemState entered_items = 9;</code>
+     */
+    java.util.List<? extends lawnmower.Message.ItemStateOrBuilder> 
+        getEnteredItemsOrBuilderList();
+    /**
+     * <code>repeated .lawnmower.ItemState entered_items = 9;</code>
+     */
+    lawnmower.Message.ItemStateOrBuilder getEnteredItemsOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated uint32 left_item_ids = 10;</code>
+     * @return A list containing the leftItemIds.
+     */
+    java.util.List<java.lang.Integer> getLeftItemIdsList();
+    /**
+     * <code>repeated uint32 left_item_ids = 10;</code>
+     * @return The count of leftItemIds.
+     */
+    int getLeftItemIdsCount();
+    /**
+     * <code>repeated uint32 left_item_ids = 10;</code>
+     * @param index The index of the element to return.
+     * @return The leftItemIds at the given index.
+     */
+    int getLeftItemIds(int index);
   }
   /**
    * <pre>
@@ -33060,6 +35608,10 @@ public final class Message {
       players_ = java.util.Collections.emptyList();
       enemies_ = java.util.Collections.emptyList();
       items_ = java.util.Collections.emptyList();
+      enteredEnemies_ = java.util.Collections.emptyList();
+      leftEnemyIds_ = emptyIntList();
+      enteredItems_ = java.util.Collections.emptyList();
+      leftItemIds_ = emptyIntList();
     }
 
     @java.lang.Override
@@ -33138,6 +35690,71 @@ public final class Message {
                   input.readMessage(lawnmower.Message.ItemStateDelta.parser(), extensionRegistry));
               break;
             }
+            case 48: {
+
+              baselineTick_ = input.readUInt32();
+              break;
+            }
+            case 58: {
+              if (!((mutable_bitField0_ & 0x00000008) != 0)) {
+                enteredEnemies_ = new java.util.ArrayList<lawnmower.Message.EnemyState>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              enteredEnemies_.add(
+                  input.readMessage(lawnmower.Message.EnemyState.parser(), extensionRegistry));
+              break;
+            }
+            case 64: {
+              if (!((mutable_bitField0_ & 0x00000010) != 0)) {
+                leftEnemyIds_ = newIntList();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              leftEnemyIds_.addInt(input.readUInt32());
+              break;
+            }
+            case 66: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000010) != 0) && input.getBytesUntilLimit() > 0) {
+                leftEnemyIds_ = newIntList();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                leftEnemyIds_.addInt(input.readUInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 74: {
+              if (!((mutable_bitField0_ & 0x00000020) != 0)) {
+                enteredItems_ = new java.util.ArrayList<lawnmower.Message.ItemState>();
+                mutable_bitField0_ |= 0x00000020;
+              }
+              enteredItems_.add(
+                  input.readMessage(lawnmower.Message.ItemState.parser(), extensionRegistry));
+              break;
+            }
+            case 80: {
+              if (!((mutable_bitField0_ & 0x00000040) != 0)) {
+                leftItemIds_ = newIntList();
+                mutable_bitField0_ |= 0x00000040;
+              }
+              leftItemIds_.addInt(input.readUInt32());
+              break;
+            }
+            case 82: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000040) != 0) && input.getBytesUntilLimit() > 0) {
+                leftItemIds_ = newIntList();
+                mutable_bitField0_ |= 0x00000040;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                leftItemIds_.addInt(input.readUInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -33164,6 +35781,18 @@ public final class Message {
         if (((mutable_bitField0_ & 0x00000004) != 0)) {
           items_ = java.util.Collections.unmodifiableList(items_);
         }
+        if (((mutable_bitField0_ & 0x00000008) != 0)) {
+          enteredEnemies_ = java.util.Collections.unmodifiableList(enteredEnemies_);
+        }
+        if (((mutable_bitField0_ & 0x00000010) != 0)) {
+          leftEnemyIds_.makeImmutable(); // C
+        }
+        if (((mutable_bitField0_ & 0x00000020) != 0)) {
+          enteredItems_ = java.util.Collections.unmodifiableList(enteredItems_);
+        }
+        if (((mutable_bitField0_ & 0x00000040) != 0)) {
+          leftItemIds_.makeImmutable(); // C
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
@@ -33358,6 +35987,188 @@ public final class Message {
       return items_.get(index);
     }
 
+    public static final int BASELINE_TICK_FIELD_NUMBER = 6;
+    private int baselineTick_;
+    /**
+     * <pre>
+     * 基线：房间上一次同步（全量 / 增量）的 tick，本增量只含此后的变化；0 表示未知。
+     * 客户端据此判断是否漏收了中间的同步
+     * </pre>
+     *
+     * <code>uint32 baseline_tick = 6;</code>
+     * @return The baselineTick.
+     */
+    @java.lang.Override
+    public int getBaselineTick() {
+      return baselineTick_;
+    }
+
+    public static final int ENTERED_ENEMIES_FIELD_NUMBER = 7;
+    private java.util.List<lawnmower.Message.EnemyState> enteredEnemies_;
+    /**
+     * <pre>
+     * ---- 区域订阅（只发给上报过 C2S_InterestArea 的客户端，增量按接收方单独构造）----
+     * enemies / items 只含客户端已持有的实体；进入区域的实体带完整状态，离开区域或已移除的只给 ID。
+     * 此时 baseline_tick 为发给该客户端的上一次同步的 tick
+     * </pre>
+     *
+     * <code>repeated .lawnmower.EnemyState entered_enemies = 7;</code>
+     */
+    @java.lang.Override
+    public java.util.List<lawnmower.Message.EnemyState> getEnteredEnemiesList() {
+      return enteredEnemies_;
+    }
+    /**
+     * <pre>
+     * ---- 区域订阅（只发给上报过 C2S_InterestArea 的客户端，增量按接收方单独构造）----
+     * enemies / items 只含客户端已持有的实体；进入区域的实体带完整状态，离开区域或已移除的只给 ID。
+     * 此时 baseline_tick 为发给该客户端的上一次同步的 tick
+     * </pre>
+     *
+     * <code>repeated .lawnmower.EnemyState entered_enemies = 7;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends lawnmower.Message.EnemyStateOrBuilder> 
+        getEnteredEnemiesOrBuilderList() {
+      return enteredEnemies_;
+    }
+    /**
+     * <pre>
+     * ---- 区域订阅（只发给上报过 C2S_InterestArea 的客户端，增量按接收方单独构造）----
+     * enemies / items 只含客户端已持有的实体；进入区域的实体带完整状态，离开区域或已移除的只给 ID。
+     * 此时 baseline_tick 为发给该客户端的上一次同步的 tick
+     * </pre>
+     *
+     * <code>repeated .lawnmower.EnemyState entered_enemies = 7;</code>
+     */
+    @java.lang.Override
+    public int getEnteredEnemiesCount() {
+      return enteredEnemies_.size();
+    }
+    /**
+     * <pre>
+     * ---- 区域订阅（只发给上报过 C2S_InterestArea 的客户端，增量按接收方单独构造）----
+     * enemies / items 只含客户端已持有的实体；进入区域的实体带完整状态，离开区域或已移除的只给 ID。
+     * 此时 baseline_tick 为发给该客户端的上一次同步的 tick
+     * </pre>
+     *
+     * <code>repeated .lawnmower.EnemyState entered_enemies = 7;</code>
+     */
+    @java.lang.Override
+    public lawnmower.Message.EnemyState getEnteredEnemies(int index) {
+      return enteredEnemies_.get(index);
+    }
+    /**
+     * <pre>
+     * ---- 区域订阅（只发给上报过 C2S_InterestArea 的客户端，增量按接收方单独构造）----
+     * enemies / items 只含客户端已持有的实体；进入区域的实体带完整状态，离开区域或已移除的只给 ID。
+     * 此时 baseline_tick 为发给该客户端的上一次同步的 tick
+     * </pre>
+     *
+     * <code>repeated .lawnmower.EnemyState entered_enemies = 7;</code>
+     */
+    @java.lang.Override
+    public lawnmower.Message.EnemyStateOrBuilder getEnteredEnemiesOrBuilder(
+        int index) {
+      return enteredEnemies_.get(index);
+    }
+
+    public static final int LEFT_ENEMY_IDS_FIELD_NUMBER = 8;
+    private com.google.protobuf.Internal.IntList leftEnemyIds_;
+    /**
+     * <code>repeated uint32 left_enemy_ids = 8;</code>
+     * @return A list containing the leftEnemyIds.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getLeftEnemyIdsList() {
+      return leftEnemyIds_;
+    }
+    /**
+     * <code>repeated uint32 left_enemy_ids = 8;</code>
+     * @return The count of leftEnemyIds.
+     */
+    public int getLeftEnemyIdsCount() {
+      return leftEnemyIds_.size();
+    }
+    /**
+     * <code>repeated uint32 left_enemy_ids = 8;</code>
+     * @param index The index of the element to return.
+     * @return The leftEnemyIds at the given index.
+     */
+    public int getLeftEnemyIds(int index) {
+      return leftEnemyIds_.getInt(index);
+    }
+    private int leftEnemyIdsMemoizedSerializedSize = -1;
+
+    public static final int ENTERED_ITEMS_FIELD_NUMBER = 9;
+    private java.util.List<lawnmower.Message.ItemState> enteredItems_;
+    /**
+     * <code>repeated .lawnmower.ItemState entered_items = 9;</code>
+     */
+    @java.lang.Override
+    public java.util.List<lawnmower.Message.ItemState> getEnteredItemsList() {
+      return enteredItems_;
+    }
+    /**
+     * <code>repeated .lawnmower.ItemState entered_items = 9;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends lawnmower.Message.ItemStateOrBuilder> 
+        getEnteredItemsOrBuilderList() {
+      return enteredItems_;
+    }
+    /**
+     * <code>repeated .lawnmower.ItemState entered_items = 9;</code>
+     */
+    @java.lang.Override
+    public int getEnteredItemsCount() {
+      return enteredItems_.size();
+    }
+    /**
+     * <code>repeated .lawnmower.ItemState entered_items = 9;</code>
+     */
+    @java.lang.Override
+    public lawnmower.Message.ItemState getEnteredItems(int index) {
+      return enteredItems_.get(index);
+    }
+    /**
+     * <code>repeated .lawnmower.ItemState entered_items = 9;</code>
+     */
+    @java.lang.Override
+    public lawnmower.Message.ItemStateOrBuilder getEnteredItemsOrBuilder(
+        int index) {
+      return enteredItems_.get(index);
+    }
+
+    public static final int LEFT_ITEM_IDS_FIELD_NUMBER = 10;
+    private com.google.protobuf.Internal.IntList leftItemIds_;
+    /**
+     * <code>repeated uint32 left_item_ids = 10;</code>
+     * @return A list containing the leftItemIds.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getLeftItemIdsList() {
+      return leftItemIds_;
+    }
+    /**
+     * <code>repeated uint32 left_item_ids = 10;</code>
+     * @return The count of leftItemIds.
+     */
+    public int getLeftItemIdsCount() {
+      return leftItemIds_.size();
+    }
+    /**
+     * <code>repeated uint32 left_item_ids = 10;</code>
+     * @param index The index of the element to return.
+     * @return The leftItemIds at the given index.
+     */
+    public int getLeftItemIds(int index) {
+      return leftItemIds_.getInt(index);
+    }
+    private int leftItemIdsMemoizedSerializedSize = -1;
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -33372,6 +36183,7 @@ public final class Message {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
+      getSerializedSize();
       if (syncTime_ != null) {
         output.writeMessage(1, getSyncTime());
       }
@@ -33387,6 +36199,29 @@ public final class Message {
       for (int i = 0; i < items_.size(); i++) {
         output.writeMessage(5, items_.get(i));
       }
+      if (baselineTick_ != 0) {
+        output.writeUInt32(6, baselineTick_);
+      }
+      for (int i = 0; i < enteredEnemies_.size(); i++) {
+        output.writeMessage(7, enteredEnemies_.get(i));
+      }
+      if (getLeftEnemyIdsList().size() > 0) {
+        output.writeUInt32NoTag(66);
+        output.writeUInt32NoTag(leftEnemyIdsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < leftEnemyIds_.size(); i++) {
+        output.writeUInt32NoTag(leftEnemyIds_.getInt(i));
+      }
+      for (int i = 0; i < enteredItems_.size(); i++) {
+        output.writeMessage(9, enteredItems_.get(i));
+      }
+      if (getLeftItemIdsList().size() > 0) {
+        output.writeUInt32NoTag(82);
+        output.writeUInt32NoTag(leftItemIdsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < leftItemIds_.size(); i++) {
+        output.writeUInt32NoTag(leftItemIds_.getInt(i));
+      }
       unknownFields.writeTo(output);
     }
 
@@ -33416,6 +36251,46 @@ public final class Message {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(5, items_.get(i));
       }
+      if (baselineTick_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(6, baselineTick_);
+      }
+      for (int i = 0; i < enteredEnemies_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, enteredEnemies_.get(i));
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < leftEnemyIds_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeUInt32SizeNoTag(leftEnemyIds_.getInt(i));
+        }
+        size += dataSize;
+        if (!getLeftEnemyIdsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        leftEnemyIdsMemoizedSerializedSize = dataSize;
+      }
+      for (int i = 0; i < enteredItems_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(9, enteredItems_.get(i));
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < leftItemIds_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeUInt32SizeNoTag(leftItemIds_.getInt(i));
+        }
+        size += dataSize;
+        if (!getLeftItemIdsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        leftItemIdsMemoizedSerializedSize = dataSize;
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -33444,6 +36319,16 @@ public final class Message {
           .equals(other.getEnemiesList())) return false;
       if (!getItemsList()
           .equals(other.getItemsList())) return false;
+      if (getBaselineTick()
+          != other.getBaselineTick()) return false;
+      if (!getEnteredEnemiesList()
+          .equals(other.getEnteredEnemiesList())) return false;
+      if (!getLeftEnemyIdsList()
+          .equals(other.getLeftEnemyIdsList())) return false;
+      if (!getEnteredItemsList()
+          .equals(other.getEnteredItemsList())) return false;
+      if (!getLeftItemIdsList()
+          .equals(other.getLeftItemIdsList())) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -33473,6 +36358,24 @@ public final class Message {
         hash = (37 * hash) + ITEMS_FIELD_NUMBER;
         hash = (53 * hash) + getItemsList().hashCode();
       }
+      hash = (37 * hash) + BASELINE_TICK_FIELD_NUMBER;
+      hash = (53 * hash) + getBaselineTick();
+      if (getEnteredEnemiesCount() > 0) {
+        hash = (37 * hash) + ENTERED_ENEMIES_FIELD_NUMBER;
+        hash = (53 * hash) + getEnteredEnemiesList().hashCode();
+      }
+      if (getLeftEnemyIdsCount() > 0) {
+        hash = (37 * hash) + LEFT_ENEMY_IDS_FIELD_NUMBER;
+        hash = (53 * hash) + getLeftEnemyIdsList().hashCode();
+      }
+      if (getEnteredItemsCount() > 0) {
+        hash = (37 * hash) + ENTERED_ITEMS_FIELD_NUMBER;
+        hash = (53 * hash) + getEnteredItemsList().hashCode();
+      }
+      if (getLeftItemIdsCount() > 0) {
+        hash = (37 * hash) + LEFT_ITEM_IDS_FIELD_NUMBER;
+        hash = (53 * hash) + getLeftItemIdsList().hashCode();
+      }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -33608,6 +36511,8 @@ public final class Message {
           getPlayersFieldBuilder();
           getEnemiesFieldBuilder();
           getItemsFieldBuilder();
+          getEnteredEnemiesFieldBuilder();
+          getEnteredItemsFieldBuilder();
         }
       }
       @java.lang.Override
@@ -33639,6 +36544,24 @@ public final class Message {
         } else {
           itemsBuilder_.clear();
         }
+        baselineTick_ = 0;
+
+        if (enteredEnemiesBuilder_ == null) {
+          enteredEnemies_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+        } else {
+          enteredEnemiesBuilder_.clear();
+        }
+        leftEnemyIds_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        if (enteredItemsBuilder_ == null) {
+          enteredItems_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+        } else {
+          enteredItemsBuilder_.clear();
+        }
+        leftItemIds_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000040);
         return this;
       }
 
@@ -33699,6 +36622,35 @@ public final class Message {
         } else {
           result.items_ = itemsBuilder_.build();
         }
+        result.baselineTick_ = baselineTick_;
+        if (enteredEnemiesBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) != 0)) {
+            enteredEnemies_ = java.util.Collections.unmodifiableList(enteredEnemies_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.enteredEnemies_ = enteredEnemies_;
+        } else {
+          result.enteredEnemies_ = enteredEnemiesBuilder_.build();
+        }
+        if (((bitField0_ & 0x00000010) != 0)) {
+          leftEnemyIds_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000010);
+        }
+        result.leftEnemyIds_ = leftEnemyIds_;
+        if (enteredItemsBuilder_ == null) {
+          if (((bitField0_ & 0x00000020) != 0)) {
+            enteredItems_ = java.util.Collections.unmodifiableList(enteredItems_);
+            bitField0_ = (bitField0_ & ~0x00000020);
+          }
+          result.enteredItems_ = enteredItems_;
+        } else {
+          result.enteredItems_ = enteredItemsBuilder_.build();
+        }
+        if (((bitField0_ & 0x00000040) != 0)) {
+          leftItemIds_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000040);
+        }
+        result.leftItemIds_ = leftItemIds_;
         onBuilt();
         return result;
       }
@@ -33831,6 +36783,81 @@ public final class Message {
             }
           }
         }
+        if (other.getBaselineTick() != 0) {
+          setBaselineTick(other.getBaselineTick());
+        }
+        if (enteredEnemiesBuilder_ == null) {
+          if (!other.enteredEnemies_.isEmpty()) {
+            if (enteredEnemies_.isEmpty()) {
+              enteredEnemies_ = other.enteredEnemies_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureEnteredEnemiesIsMutable();
+              enteredEnemies_.addAll(other.enteredEnemies_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.enteredEnemies_.isEmpty()) {
+            if (enteredEnemiesBuilder_.isEmpty()) {
+              enteredEnemiesBuilder_.dispose();
+              enteredEnemiesBuilder_ = null;
+              enteredEnemies_ = other.enteredEnemies_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              enteredEnemiesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getEnteredEnemiesFieldBuilder() : null;
+            } else {
+              enteredEnemiesBuilder_.addAllMessages(other.enteredEnemies_);
+            }
+          }
+        }
+        if (!other.leftEnemyIds_.isEmpty()) {
+          if (leftEnemyIds_.isEmpty()) {
+            leftEnemyIds_ = other.leftEnemyIds_;
+            bitField0_ = (bitField0_ & ~0x00000010);
+          } else {
+            ensureLeftEnemyIdsIsMutable();
+            leftEnemyIds_.addAll(other.leftEnemyIds_);
+          }
+          onChanged();
+        }
+        if (enteredItemsBuilder_ == null) {
+          if (!other.enteredItems_.isEmpty()) {
+            if (enteredItems_.isEmpty()) {
+              enteredItems_ = other.enteredItems_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+            } else {
+              ensureEnteredItemsIsMutable();
+              enteredItems_.addAll(other.enteredItems_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.enteredItems_.isEmpty()) {
+            if (enteredItemsBuilder_.isEmpty()) {
+              enteredItemsBuilder_.dispose();
+              enteredItemsBuilder_ = null;
+              enteredItems_ = other.enteredItems_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+              enteredItemsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getEnteredItemsFieldBuilder() : null;
+            } else {
+              enteredItemsBuilder_.addAllMessages(other.enteredItems_);
+            }
+          }
+        }
+        if (!other.leftItemIds_.isEmpty()) {
+          if (leftItemIds_.isEmpty()) {
+            leftItemIds_ = other.leftItemIds_;
+            bitField0_ = (bitField0_ & ~0x00000040);
+          } else {
+            ensureLeftItemIdsIsMutable();
+            leftItemIds_.addAll(other.leftItemIds_);
+          }
+          onChanged();
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -34802,6 +37829,798 @@ public final class Message {
         }
         return itemsBuilder_;
       }
+
+      private int baselineTick_ ;
+      /**
+       * <pre>
+       * 基线：房间上一次同步（全量 / 增量）的 tick，本增量只含此后的变化；0 表示未知。
+       * 客户端据此判断是否漏收了中间的同步
+       * </pre>
+       *
+       * <code>uint32 baseline_tick = 6;</code>
+       * @return The baselineTick.
+       */
+      @java.lang.Override
+      public int getBaselineTick() {
+        return baselineTick_;
+      }
+      /**
+       * <pre>
+       * 基线：房间上一次同步（全量 / 增量）的 tick，本增量只含此后的变化；0 表示未知。
+       * 客户端据此判断是否漏收了中间的同步
+       * </pre>
+       *
+       * <code>uint32 baseline_tick = 6;</code>
+       * @param value The baselineTick to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBaselineTick(int value) {
+        
+        baselineTick_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 基线：房间上一次同步（全量 / 增量）的 tick，本增量只含此后的变化；0 表示未知。
+       * 客户端据此判断是否漏收了中间的同步
+       * </pre>
+       *
+       * <code>uint32 baseline_tick = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBaselineTick() {
+        
+        baselineTick_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<lawnmower.Message.EnemyState> enteredEnemies_ =
+        java.util.Collections.emptyList();
+      private void ensureEnteredEnemiesIsMutable() {
+        if (!((bitField0_ & 0x00000008) != 0)) {
+          enteredEnemies_ = new java.util.ArrayList<lawnmower.Message.EnemyState>(enteredEnemies_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          lawnmower.Message.EnemyState, lawnmower.Message.EnemyState.Builder, lawnmower.Message.EnemyStateOrBuilder> enteredEnemiesBuilder_;
+
+      /**
+       * <pre>
+       * ---- 区域订阅（只发给上报过 C2S_InterestArea 的客户端，增量按接收方单独构造）----
+       * enemies / items 只含客户端已持有的实体；进入区域的实体带完整状态，离开区域或已移除的只给 ID。
+       * 此时 baseline_tick 为发给该客户端的上一次同步的 tick
+       * </pre>
+       *
+       * <code>repeated .lawnmower.EnemyState entered_enemies = 7;</code>
+       */
+      public java.util.List<lawnmower.Message.EnemyState> getEnteredEnemiesList() {
+        if (enteredEnemiesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(enteredEnemies_);
+        } else {
+          return enteredEnemiesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * ---- 区域订阅（只发给上报过 C2S_InterestArea 的客户端，增量按接收方单独构造）----
+       * enemies / items 只含客户端已持有的实体；进入区域的实体带完整状态，离开区域或已移除的只给 ID。
+       * 此时 baseline_tick 为发给该客户端的上一次同步的 tick
+       * </pre>
+       *
+       * <code>repeated .lawnmower.EnemyState entered_enemies = 7;</code>
+       */
+      public int getEnteredEnemiesCount() {
+        if (enteredEnemiesBuilder_ == null) {
+          return enteredEnemies_.size();
+        } else {
+          return enteredEnemiesBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * ---- 区域订阅（只发给上报过 C2S_InterestArea 的客户端，增量按接收方单独构造）----
+       * enemies / items 只含客户端已持有的实体；进入区域的实体带完整状态，离开区域或已移除的只给 ID。
+       * 此时 baseline_tick 为发给该客户端的上一次同步的 tick
+       * </pre>
+       *
+       * <code>repeated .lawnmower.EnemyState entered_enemies = 7;</code>
+       */
+      public lawnmower.Message.EnemyState getEnteredEnemies(int index) {
+        if (enteredEnemiesBuilder_ == null) {
+          return enteredEnemies_.get(index);
+        } else {
+          return enteredEnemiesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * ---- 区域订阅（只发给上报过 C2S_InterestArea 的客户端，增量按接收方单独构造）----
+       * enemies / items 只含客户端已持有的实体；进入区域的实体带完整状态，离开区域或已移除的只给 ID。
+       * 此时 baseline_tick 为发给该客户端的上一次同步的 tick
+       * </pre>
+       *
+       * <code>repeated .lawnmower.EnemyState entered_enemies = 7;</code>
+       */
+      public Builder setEnteredEnemies(
+          int index, lawnmower.Message.EnemyState value) {
+        if (enteredEnemiesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEnteredEnemiesIsMutable();
+          enteredEnemies_.set(index, value);
+          onChanged();
+        } else {
+          enteredEnemiesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * ---- 区域订阅（只发给上报过 C2S_InterestArea 的客户端，增量按接收方单独构造）----
+       * enemies / items 只含客户端已持有的实体；进入区域的实体带完整状态，离开区域或已移除的只给 ID。
+       * 此时 baseline_tick 为发给该客户端的上一次同步的 tick
+       * </pre>
+       *
+       * <code>repeated .lawnmower.EnemyState entered_enemies = 7;</code>
+       */
+      public Builder setEnteredEnemies(
+          int index, lawnmower.Message.EnemyState.Builder builderForValue) {
+        if (enteredEnemiesBuilder_ == null) {
+          ensureEnteredEnemiesIsMutable();
+          enteredEnemies_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          enteredEnemiesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * ---- 区域订阅（只发给上报过 C2S_InterestArea 的客户端，增量按接收方单独构造）----
+       * enemies / items 只含客户端已持有的实体；进入区域的实体带完整状态，离开区域或已移除的只给 ID。
+       * 此时 baseline_tick 为发给该客户端的上一次同步的 tick
+       * </pre>
+       *
+       * <code>repeated .lawnmower.EnemyState entered_enemies = 7;</code>
+       */
+      public Builder addEnteredEnemies(lawnmower.Message.EnemyState value) {
+        if (enteredEnemiesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEnteredEnemiesIsMutable();
+          enteredEnemies_.add(value);
+          onChanged();
+        } else {
+          enteredEnemiesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * ---- 区域订阅（只发给上报过 C2S_InterestArea 的客户端，增量按接收方单独构造）----
+       * enemies / items 只含客户端已持有的实体；进入区域的实体带完整状态，离开区域或已移除的只给 ID。
+       * 此时 baseline_tick 为发给该客户端的上一次同步的 tick
+       * </pre>
+       *
+       * <code>repeated .lawnmower.EnemyState entered_enemies = 7;</code>
+       */
+      public Builder addEnteredEnemies(
+          int index, lawnmower.Message.EnemyState value) {
+        if (enteredEnemiesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEnteredEnemiesIsMutable();
+          enteredEnemies_.add(index, value);
+          onChanged();
+        } else {
+          enteredEnemiesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * ---- 区域订阅（只发给上报过 C2S_InterestArea 的客户端，增量按接收方单独构造）----
+       * enemies / items 只含客户端已持有的实体；进入区域的实体带完整状态，离开区域或已移除的只给 ID。
+       * 此时 baseline_tick 为发给该客户端的上一次同步的 tick
+       * </pre>
+       *
+       * <code>repeated .lawnmower.EnemyState entered_enemies = 7;</code>
+       */
+      public Builder addEnteredEnemies(
+          lawnmower.Message.EnemyState.Builder builderForValue) {
+        if (enteredEnemiesBuilder_ == null) {
+          ensureEnteredEnemiesIsMutable();
+          enteredEnemies_.add(builderForValue.build());
+          onChanged();
+        } else {
+          enteredEnemiesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * ---- 区域订阅（只发给上报过 C2S_InterestArea 的客户端，增量按接收方单独构造）----
+       * enemies / items 只含客户端已持有的实体；进入区域的实体带完整状态，离开区域或已移除的只给 ID。
+       * 此时 baseline_tick 为发给该客户端的上一次同步的 tick
+       * </pre>
+       *
+       * <code>repeated .lawnmower.EnemyState entered_enemies = 7;</code>
+       */
+      public Builder addEnteredEnemies(
+          int index, lawnmower.Message.EnemyState.Builder builderForValue) {
+        if (enteredEnemiesBuilder_ == null) {
+          ensureEnteredEnemiesIsMutable();
+          enteredEnemies_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          enteredEnemiesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * ---- 区域订阅（只发给上报过 C2S_InterestArea 的客户端，增量按接收方单独构造）----
+       * enemies / items 只含客户端已持有的实体；进入区域的实体带完整状态，离开区域或已移除的只给 ID。
+       * 此时 baseline_tick 为发给该客户端的上一次同步的 tick
+       * </pre>
+       *
+       * <code>repeated .lawnmower.EnemyState entered_enemies = 7;</code>
+       */
+      public Builder addAllEnteredEnemies(
+          java.lang.Iterable<? extends lawnmower.Message.EnemyState> values) {
+        if (enteredEnemiesBuilder_ == null) {
+          ensureEnteredEnemiesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, enteredEnemies_);
+          onChanged();
+        } else {
+          enteredEnemiesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * ---- 区域订阅（只发给上报过 C2S_InterestArea 的客户端，增量按接收方单独构造）----
+       * enemies / items 只含客户端已持有的实体；进入区域的实体带完整状态，离开区域或已移除的只给 ID。
+       * 此时 baseline_tick 为发给该客户端的上一次同步的 tick
+       * </pre>
+       *
+       * <code>repeated .lawnmower.EnemyState entered_enemies = 7;</code>
+       */
+      public Builder clearEnteredEnemies() {
+        if (enteredEnemiesBuilder_ == null) {
+          enteredEnemies_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          enteredEnemiesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * ---- 区域订阅（只发给上报过 C2S_InterestArea 的客户端，增量按接收方单独构造）----
+       * enemies / items 只含客户端已持有的实体；进入区域的实体带完整状态，离开区域或已移除的只给 ID。
+       * 此时 baseline_tick 为发给该客户端的上一次同步的 tick
+       * </pre>
+       *
+       * <code>repeated .lawnmower.EnemyState entered_enemies = 7;</code>
+       */
+      public Builder removeEnteredEnemies(int index) {
+        if (enteredEnemiesBuilder_ == null) {
+          ensureEnteredEnemiesIsMutable();
+          enteredEnemies_.remove(index);
+          onChanged();
+        } else {
+          enteredEnemiesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * ---- 区域订阅（只发给上报过 C2S_InterestArea 的客户端，增量按接收方单独构造）----
+       * enemies / items 只含客户端已持有的实体；进入区域的实体带完整状态，离开区域或已移除的只给 ID。
+       * 此时 baseline_tick 为发给该客户端的上一次同步的 tick
+       * </pre>
+       *
+       * <code>repeated .lawnmower.EnemyState entered_enemies = 7;</code>
+       */
+      public lawnmower.Message.EnemyState.Builder getEnteredEnemiesBuilder(
+          int index) {
+        return getEnteredEnemiesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * ---- 区域订阅（只发给上报过 C2S_InterestArea 的客户端，增量按接收方单独构造）----
+       * enemies / items 只含客户端已持有的实体；进入区域的实体带完整状态，离开区域或已移除的只给 ID。
+       * 此时 baseline_tick 为发给该客户端的上一次同步的 tick
+       * </pre>
+       *
+       * <code>repeated .lawnmower.EnemyState entered_enemies = 7;</code>
+       */
+      public lawnmower.Message.EnemyStateOrBuilder getEnteredEnemiesOrBuilder(
+          int index) {
+        if (enteredEnemiesBuilder_ == null) {
+          return enteredEnemies_.get(index);  } else {
+          return enteredEnemiesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * ---- 区域订阅（只发给上报过 C2S_InterestArea 的客户端，增量按接收方单独构造）----
+       * enemies / items 只含客户端已持有的实体；进入区域的实体带完整状态，离开区域或已移除的只给 ID。
+       * 此时 baseline_tick 为发给该客户端的上一次同步的 tick
+       * </pre>
+       *
+       * <code>repeated .lawnmower.EnemyState entered_enemies = 7;</code>
+       */
+      public java.util.List<? extends lawnmower.Message.EnemyStateOrBuilder> 
+           getEnteredEnemiesOrBuilderList() {
+        if (enteredEnemiesBuilder_ != null) {
+          return enteredEnemiesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(enteredEnemies_);
+        }
+      }
+      /**
+       * <pre>
+       * ---- 区域订阅（只发给上报过 C2S_InterestArea 的客户端，增量按接收方单独构造）----
+       * enemies / items 只含客户端已持有的实体；进入区域的实体带完整状态，离开区域或已移除的只给 ID。
+       * 此时 baseline_tick 为发给该客户端的上一次同步的 tick
+       * </pre>
+       *
+       * <code>repeated .lawnmower.EnemyState entered_enemies = 7;</code>
+       */
+      public lawnmower.Message.EnemyState.Builder addEnteredEnemiesBuilder() {
+        return getEnteredEnemiesFieldBuilder().addBuilder(
+            lawnmower.Message.EnemyState.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * ---- 区域订阅（只发给上报过 C2S_InterestArea 的客户端，增量按接收方单独构造）----
+       * enemies / items 只含客户端已持有的实体；进入区域的实体带完整状态，离开区域或已移除的只给 ID。
+       * 此时 baseline_tick 为发给该客户端的上一次同步的 tick
+       * </pre>
+       *
+       * <code>repeated .lawnmower.EnemyState entered_enemies = 7;</code>
+       */
+      public lawnmower.Message.EnemyState.Builder addEnteredEnemiesBuilder(
+          int index) {
+        return getEnteredEnemiesFieldBuilder().addBuilder(
+            index, lawnmower.Message.EnemyState.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * ---- 区域订阅（只发给上报过 C2S_InterestArea 的客户端，增量按接收方单独构造）----
+       * enemies / items 只含客户端已持有的实体；进入区域的实体带完整状态，离开区域或已移除的只给 ID。
+       * 此时 baseline_tick 为发给该客户端的上一次同步的 tick
+       * </pre>
+       *
+       * <code>repeated .lawnmower.EnemyState entered_enemies = 7;</code>
+       */
+      public java.util.List<lawnmower.Message.EnemyState.Builder> 
+           getEnteredEnemiesBuilderList() {
+        return getEnteredEnemiesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          lawnmower.Message.EnemyState, lawnmower.Message.EnemyState.Builder, lawnmower.Message.EnemyStateOrBuilder> 
+          getEnteredEnemiesFieldBuilder() {
+        if (enteredEnemiesBuilder_ == null) {
+          enteredEnemiesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              lawnmower.Message.EnemyState, lawnmower.Message.EnemyState.Builder, lawnmower.Message.EnemyStateOrBuilder>(
+                  enteredEnemies_,
+                  ((bitField0_ & 0x00000008) != 0),
+                  getParentForChildren(),
+                  isClean());
+          enteredEnemies_ = null;
+        }
+        return enteredEnemiesBuilder_;
+      }
+
+      private com.google.protobuf.Internal.IntList leftEnemyIds_ = emptyIntList();
+      private void ensureLeftEnemyIdsIsMutable() {
+        if (!((bitField0_ & 0x00000010) != 0)) {
+          leftEnemyIds_ = mutableCopy(leftEnemyIds_);
+          bitField0_ |= 0x00000010;
+         }
+      }
+      /**
+       * <code>repeated uint32 left_enemy_ids = 8;</code>
+       * @return A list containing the leftEnemyIds.
+       */
+      public java.util.List<java.lang.Integer>
+          getLeftEnemyIdsList() {
+        return ((bitField0_ & 0x00000010) != 0) ?
+                 java.util.Collections.unmodifiableList(leftEnemyIds_) : leftEnemyIds_;
+      }
+      /**
+       * <code>repeated uint32 left_enemy_ids = 8;</code>
+       * @return The count of leftEnemyIds.
+       */
+      public int getLeftEnemyIdsCount() {
+        return leftEnemyIds_.size();
+      }
+      /**
+       * <code>repeated uint32 left_enemy_ids = 8;</code>
+       * @param index The index of the element to return.
+       * @return The leftEnemyIds at the given index.
+       */
+      public int getLeftEnemyIds(int index) {
+        return leftEnemyIds_.getInt(index);
+      }
+      /**
+       * <code>repeated uint32 left_enemy_ids = 8;</code>
+       * @param index The index to set the value at.
+       * @param value The leftEnemyIds to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLeftEnemyIds(
+          int index, int value) {
+        ensureLeftEnemyIdsIsMutable();
+        leftEnemyIds_.setInt(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 left_enemy_ids = 8;</code>
+       * @param value The leftEnemyIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addLeftEnemyIds(int value) {
+        ensureLeftEnemyIdsIsMutable();
+        leftEnemyIds_.addInt(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 left_enemy_ids = 8;</code>
+       * @param values The leftEnemyIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllLeftEnemyIds(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureLeftEnemyIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, leftEnemyIds_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 left_enemy_ids = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLeftEnemyIds() {
+        leftEnemyIds_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<lawnmower.Message.ItemState> enteredItems_ =
+        java.util.Collections.emptyList();
+      private void ensureEnteredItemsIsMutable() {
+        if (!((bitField0_ & 0x00000020) != 0)) {
+          enteredItems_ = new java.util.ArrayList<lawnmower.Message.ItemState>(enteredItems_);
+          bitField0_ |= 0x00000020;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          lawnmower.Message.ItemState, lawnmower.Message.ItemState.Builder, lawnmower.Message.ItemStateOrBuilder> enteredItemsBuilder_;
+
+      /**
+       * <code>repeated .lawnmower.ItemState entered_items = 9;</code>
+       */
+      public java.util.List<lawnmower.Message.ItemState> getEnteredItemsList() {
+        if (enteredItemsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(enteredItems_);
+        } else {
+          return enteredItemsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .lawnmower.ItemState entered_items = 9;</code>
+       */
+      public int getEnteredItemsCount() {
+        if (enteredItemsBuilder_ == null) {
+          return enteredItems_.size();
+        } else {
+          return enteredItemsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .lawnmower.ItemState entered_items = 9;</code>
+       */
+      public lawnmower.Message.ItemState getEnteredItems(int index) {
+        if (enteredItemsBuilder_ == null) {
+          return enteredItems_.get(index);
+        } else {
+          return enteredItemsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .lawnmower.ItemState entered_items = 9;</code>
+       */
+      public Builder setEnteredItems(
+          int index, lawnmower.Message.ItemState value) {
+        if (enteredItemsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEnteredItemsIsMutable();
+          enteredItems_.set(index, value);
+          onChanged();
+        } else {
+          enteredItemsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lawnmower.ItemState entered_items = 9;</code>
+       */
+      public Builder setEnteredItems(
+          int index, lawnmower.Message.ItemState.Builder builderForValue) {
+        if (enteredItemsBuilder_ == null) {
+          ensureEnteredItemsIsMutable();
+          enteredItems_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          enteredItemsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lawnmower.ItemState entered_items = 9;</code>
+       */
+      public Builder addEnteredItems(lawnmower.Message.ItemState value) {
+        if (enteredItemsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEnteredItemsIsMutable();
+          enteredItems_.add(value);
+          onChanged();
+        } else {
+          enteredItemsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lawnmower.ItemState entered_items = 9;</code>
+       */
+      public Builder addEnteredItems(
+          int index, lawnmower.Message.ItemState value) {
+        if (enteredItemsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEnteredItemsIsMutable();
+          enteredItems_.add(index, value);
+          onChanged();
+        } else {
+          enteredItemsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lawnmower.ItemState entered_items = 9;</code>
+       */
+      public Builder addEnteredItems(
+          lawnmower.Message.ItemState.Builder builderForValue) {
+        if (enteredItemsBuilder_ == null) {
+          ensureEnteredItemsIsMutable();
+          enteredItems_.add(builderForValue.build());
+          onChanged();
+        } else {
+          enteredItemsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lawnmower.ItemState entered_items = 9;</code>
+       */
+      public Builder addEnteredItems(
+          int index, lawnmower.Message.ItemState.Builder builderForValue) {
+        if (enteredItemsBuilder_ == null) {
+          ensureEnteredItemsIsMutable();
+          enteredItems_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          enteredItemsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lawnmower.ItemState entered_items = 9;</code>
+       */
+      public Builder addAllEnteredItems(
+          java.lang.Iterable<? extends lawnmower.Message.ItemState> values) {
+        if (enteredItemsBuilder_ == null) {
+          ensureEnteredItemsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, enteredItems_);
+          onChanged();
+        } else {
+          enteredItemsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lawnmower.ItemState entered_items = 9;</code>
+       */
+      public Builder clearEnteredItems() {
+        if (enteredItemsBuilder_ == null) {
+          enteredItems_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+          onChanged();
+        } else {
+          enteredItemsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lawnmower.ItemState entered_items = 9;</code>
+       */
+      public Builder removeEnteredItems(int index) {
+        if (enteredItemsBuilder_ == null) {
+          ensureEnteredItemsIsMutable();
+          enteredItems_.remove(index);
+          onChanged();
+        } else {
+          enteredItemsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lawnmower.ItemState entered_items = 9;</code>
+       */
+      public lawnmower.Message.ItemState.Builder getEnteredItemsBuilder(
+          int index) {
+        return getEnteredItemsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .lawnmower.ItemState entered_items = 9;</code>
+       */
+      public lawnmower.Message.ItemStateOrBuilder getEnteredItemsOrBuilder(
+          int index) {
+        if (enteredItemsBuilder_ == null) {
+          return enteredItems_.get(index);  } else {
+          return enteredItemsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .lawnmower.ItemState entered_items = 9;</code>
+       */
+      public java.util.List<? extends lawnmower.Message.ItemStateOrBuilder> 
+           getEnteredItemsOrBuilderList() {
+        if (enteredItemsBuilder_ != null) {
+          return enteredItemsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(enteredItems_);
+        }
+      }
+      /**
+       * <code>repeated .lawnmower.ItemState entered_items = 9;</code>
+       */
+      public lawnmower.Message.ItemState.Builder addEnteredItemsBuilder() {
+        return getEnteredItemsFieldBuilder().addBuilder(
+            lawnmower.Message.ItemState.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .lawnmower.ItemState entered_items = 9;</code>
+       */
+      public lawnmower.Message.ItemState.Builder addEnteredItemsBuilder(
+          int index) {
+        return getEnteredItemsFieldBuilder().addBuilder(
+            index, lawnmower.Message.ItemState.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .lawnmower.ItemState entered_items = 9;</code>
+       */
+      public java.util.List<lawnmower.Message.ItemState.Builder> 
+           getEnteredItemsBuilderList() {
+        return getEnteredItemsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          lawnmower.Message.ItemState, lawnmower.Message.ItemState.Builder, lawnmower.Message.ItemStateOrBuilder> 
+          getEnteredItemsFieldBuilder() {
+        if (enteredItemsBuilder_ == null) {
+          enteredItemsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              lawnmower.Message.ItemState, lawnmower.Message.ItemState.Builder, lawnmower.Message.ItemStateOrBuilder>(
+                  enteredItems_,
+                  ((bitField0_ & 0x00000020) != 0),
+                  getParentForChildren(),
+                  isClean());
+          enteredItems_ = null;
+        }
+        return enteredItemsBuilder_;
+      }
+
+      private com.google.protobuf.Internal.IntList leftItemIds_ = emptyIntList();
+      private void ensureLeftItemIdsIsMutable() {
+        if (!((bitField0_ & 0x00000040) != 0)) {
+          leftItemIds_ = mutableCopy(leftItemIds_);
+          bitField0_ |= 0x00000040;
+         }
+      }
+      /**
+       * <code>repeated uint32 left_item_ids = 10;</code>
+       * @return A list containing the leftItemIds.
+       */
+      public java.util.List<java.lang.Integer>
+          getLeftItemIdsList() {
+        return ((bitField0_ & 0x00000040) != 0) ?
+                 java.util.Collections.unmodifiableList(leftItemIds_) : leftItemIds_;
+      }
+      /**
+       * <code>repeated uint32 left_item_ids = 10;</code>
+       * @return The count of leftItemIds.
+       */
+      public int getLeftItemIdsCount() {
+        return leftItemIds_.size();
+      }
+      /**
+       * <code>repeated uint32 left_item_ids = 10;</code>
+       * @param index The index of the element to return.
+       * @return The leftItemIds at the given index.
+       */
+      public int getLeftItemIds(int index) {
+        return leftItemIds_.getInt(index);
+      }
+      /**
+       * <code>repeated uint32 left_item_ids = 10;</code>
+       * @param index The index to set the value at.
+       * @param value The leftItemIds to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLeftItemIds(
+          int index, int value) {
+        ensureLeftItemIdsIsMutable();
+        leftItemIds_.setInt(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 left_item_ids = 10;</code>
+       * @param value The leftItemIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addLeftItemIds(int value) {
+        ensureLeftItemIdsIsMutable();
+        leftItemIds_.addInt(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 left_item_ids = 10;</code>
+       * @param values The leftItemIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllLeftItemIds(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureLeftItemIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, leftItemIds_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 left_item_ids = 10;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLeftItemIds() {
+        leftItemIds_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000040);
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -36526,6 +40345,85 @@ public final class Message {
      * @return The isFullSnapshot.
      */
     boolean getIsFullSnapshot();
+
+    /**
+     * <pre>
+     * 超过单个数据报的全量快照按接收方拆成若干部分（自己、附近实体在前），各部分 tick 相同、可独立应用；
+     * part_count 为 0 或 1 表示未拆分（仅发给带 UDP 可靠层头部的客户端）
+     * </pre>
+     *
+     * <code>uint32 part_index = 7;</code>
+     * @return The partIndex.
+     */
+    int getPartIndex();
+
+    /**
+     * <code>uint32 part_count = 8;</code>
+     * @return The partCount.
+     */
+    int getPartCount();
+
+    /**
+     * <pre>
+     * 基线：非全量时为本同步所基于的 tick（房间同步为上一次同步的 tick，追帧同步为客户端确认的 tick）
+     * </pre>
+     *
+     * <code>uint32 baseline_tick = 9;</code>
+     * @return The baselineTick.
+     */
+    int getBaselineTick();
+
+    /**
+     * <pre>
+     * 追帧同步（catch_up = true）：按客户端确认的 baseline_tick 单独构造，含其后变化的实体与已移除的实体ID
+     * </pre>
+     *
+     * <code>repeated uint32 removed_enemy_ids = 10;</code>
+     * @return A list containing the removedEnemyIds.
+     */
+    java.util.List<java.lang.Integer> getRemovedEnemyIdsList();
+    /**
+     * <pre>
+     * 追帧同步（catch_up = true）：按客户端确认的 baseline_tick 单独构造，含其后变化的实体与已移除的实体ID
+     * </pre>
+     *
+     * <code>repeated uint32 removed_enemy_ids = 10;</code>
+     * @return The count of removedEnemyIds.
+     */
+    int getRemovedEnemyIdsCount();
+    /**
+     * <pre>
+     * 追帧同步（catch_up = true）：按客户端确认的 baseline_tick 单独构造，含其后变化的实体与已移除的实体ID
+     * </pre>
+     *
+     * <code>repeated uint32 removed_enemy_ids = 10;</code>
+     * @param index The index of the element to return.
+     * @return The removedEnemyIds at the given index.
+     */
+    int getRemovedEnemyIds(int index);
+
+    /**
+     * <code>repeated uint32 removed_item_ids = 11;</code>
+     * @return A list containing the removedItemIds.
+     */
+    java.util.List<java.lang.Integer> getRemovedItemIdsList();
+    /**
+     * <code>repeated uint32 removed_item_ids = 11;</code>
+     * @return The count of removedItemIds.
+     */
+    int getRemovedItemIdsCount();
+    /**
+     * <code>repeated uint32 removed_item_ids = 11;</code>
+     * @param index The index of the element to return.
+     * @return The removedItemIds at the given index.
+     */
+    int getRemovedItemIds(int index);
+
+    /**
+     * <code>bool catch_up = 12;</code>
+     * @return The catchUp.
+     */
+    boolean getCatchUp();
   }
   /**
    * <pre>
@@ -36547,6 +40445,8 @@ public final class Message {
       players_ = java.util.Collections.emptyList();
       enemies_ = java.util.Collections.emptyList();
       items_ = java.util.Collections.emptyList();
+      removedEnemyIds_ = emptyIntList();
+      removedItemIds_ = emptyIntList();
     }
 
     @java.lang.Override
@@ -36630,6 +40530,68 @@ public final class Message {
               isFullSnapshot_ = input.readBool();
               break;
             }
+            case 56: {
+
+              partIndex_ = input.readUInt32();
+              break;
+            }
+            case 64: {
+
+              partCount_ = input.readUInt32();
+              break;
+            }
+            case 72: {
+
+              baselineTick_ = input.readUInt32();
+              break;
+            }
+            case 80: {
+              if (!((mutable_bitField0_ & 0x00000008) != 0)) {
+                removedEnemyIds_ = newIntList();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              removedEnemyIds_.addInt(input.readUInt32());
+              break;
+            }
+            case 82: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000008) != 0) && input.getBytesUntilLimit() > 0) {
+                removedEnemyIds_ = newIntList();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                removedEnemyIds_.addInt(input.readUInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 88: {
+              if (!((mutable_bitField0_ & 0x00000010) != 0)) {
+                removedItemIds_ = newIntList();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              removedItemIds_.addInt(input.readUInt32());
+              break;
+            }
+            case 90: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000010) != 0) && input.getBytesUntilLimit() > 0) {
+                removedItemIds_ = newIntList();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                removedItemIds_.addInt(input.readUInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 96: {
+
+              catchUp_ = input.readBool();
+              break;
+            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -36656,6 +40618,12 @@ public final class Message {
         if (((mutable_bitField0_ & 0x00000004) != 0)) {
           items_ = java.util.Collections.unmodifiableList(items_);
         }
+        if (((mutable_bitField0_ & 0x00000008) != 0)) {
+          removedEnemyIds_.makeImmutable(); // C
+        }
+        if (((mutable_bitField0_ & 0x00000010) != 0)) {
+          removedItemIds_.makeImmutable(); // C
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
@@ -36909,6 +40877,127 @@ public final class Message {
       return isFullSnapshot_;
     }
 
+    public static final int PART_INDEX_FIELD_NUMBER = 7;
+    private int partIndex_;
+    /**
+     * <pre>
+     * 超过单个数据报的全量快照按接收方拆成若干部分（自己、附近实体在前），各部分 tick 相同、可独立应用；
+     * part_count 为 0 或 1 表示未拆分（仅发给带 UDP 可靠层头部的客户端）
+     * </pre>
+     *
+     * <code>uint32 part_index = 7;</code>
+     * @return The partIndex.
+     */
+    @java.lang.Override
+    public int getPartIndex() {
+      return partIndex_;
+    }
+
+    public static final int PART_COUNT_FIELD_NUMBER = 8;
+    private int partCount_;
+    /**
+     * <code>uint32 part_count = 8;</code>
+     * @return The partCount.
+     */
+    @java.lang.Override
+    public int getPartCount() {
+      return partCount_;
+    }
+
+    public static final int BASELINE_TICK_FIELD_NUMBER = 9;
+    private int baselineTick_;
+    /**
+     * <pre>
+     * 基线：非全量时为本同步所基于的 tick（房间同步为上一次同步的 tick，追帧同步为客户端确认的 tick）
+     * </pre>
+     *
+     * <code>uint32 baseline_tick = 9;</code>
+     * @return The baselineTick.
+     */
+    @java.lang.Override
+    public int getBaselineTick() {
+      return baselineTick_;
+    }
+
+    public static final int REMOVED_ENEMY_IDS_FIELD_NUMBER = 10;
+    private com.google.protobuf.Internal.IntList removedEnemyIds_;
+    /**
+     * <pre>
+     * 追帧同步（catch_up = true）：按客户端确认的 baseline_tick 单独构造，含其后变化的实体与已移除的实体ID
+     * </pre>
+     *
+     * <code>repeated uint32 removed_enemy_ids = 10;</code>
+     * @return A list containing the removedEnemyIds.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getRemovedEnemyIdsList() {
+      return removedEnemyIds_;
+    }
+    /**
+     * <pre>
+     * 追帧同步（catch_up = true）：按客户端确认的 baseline_tick 单独构造，含其后变化的实体与已移除的实体ID
+     * </pre>
+     *
+     * <code>repeated uint32 removed_enemy_ids = 10;</code>
+     * @return The count of removedEnemyIds.
+     */
+    public int getRemovedEnemyIdsCount() {
+      return removedEnemyIds_.size();
+    }
+    /**
+     * <pre>
+     * 追帧同步（catch_up = true）：按客户端确认的 baseline_tick 单独构造，含其后变化的实体与已移除的实体ID
+     * </pre>
+     *
+     * <code>repeated uint32 removed_enemy_ids = 10;</code>
+     * @param index The index of the element to return.
+     * @return The removedEnemyIds at the given index.
+     */
+    public int getRemovedEnemyIds(int index) {
+      return removedEnemyIds_.getInt(index);
+    }
+    private int removedEnemyIdsMemoizedSerializedSize = -1;
+
+    public static final int REMOVED_ITEM_IDS_FIELD_NUMBER = 11;
+    private com.google.protobuf.Internal.IntList removedItemIds_;
+    /**
+     * <code>repeated uint32 removed_item_ids = 11;</code>
+     * @return A list containing the removedItemIds.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getRemovedItemIdsList() {
+      return removedItemIds_;
+    }
+    /**
+     * <code>repeated uint32 removed_item_ids = 11;</code>
+     * @return The count of removedItemIds.
+     */
+    public int getRemovedItemIdsCount() {
+      return removedItemIds_.size();
+    }
+    /**
+     * <code>repeated uint32 removed_item_ids = 11;</code>
+     * @param index The index of the element to return.
+     * @return The removedItemIds at the given index.
+     */
+    public int getRemovedItemIds(int index) {
+      return removedItemIds_.getInt(index);
+    }
+    private int removedItemIdsMemoizedSerializedSize = -1;
+
+    public static final int CATCH_UP_FIELD_NUMBER = 12;
+    private boolean catchUp_;
+    /**
+     * <code>bool catch_up = 12;</code>
+     * @return The catchUp.
+     */
+    @java.lang.Override
+    public boolean getCatchUp() {
+      return catchUp_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -36923,6 +41012,7 @@ public final class Message {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
+      getSerializedSize();
       if (syncTime_ != null) {
         output.writeMessage(1, getSyncTime());
       }
@@ -36941,6 +41031,32 @@ public final class Message {
       if (isFullSnapshot_ != false) {
         output.writeBool(6, isFullSnapshot_);
       }
+      if (partIndex_ != 0) {
+        output.writeUInt32(7, partIndex_);
+      }
+      if (partCount_ != 0) {
+        output.writeUInt32(8, partCount_);
+      }
+      if (baselineTick_ != 0) {
+        output.writeUInt32(9, baselineTick_);
+      }
+      if (getRemovedEnemyIdsList().size() > 0) {
+        output.writeUInt32NoTag(82);
+        output.writeUInt32NoTag(removedEnemyIdsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < removedEnemyIds_.size(); i++) {
+        output.writeUInt32NoTag(removedEnemyIds_.getInt(i));
+      }
+      if (getRemovedItemIdsList().size() > 0) {
+        output.writeUInt32NoTag(90);
+        output.writeUInt32NoTag(removedItemIdsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < removedItemIds_.size(); i++) {
+        output.writeUInt32NoTag(removedItemIds_.getInt(i));
+      }
+      if (catchUp_ != false) {
+        output.writeBool(12, catchUp_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -36974,6 +41090,50 @@ public final class Message {
         size += com.google.protobuf.CodedOutputStream
           .computeBoolSize(6, isFullSnapshot_);
       }
+      if (partIndex_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(7, partIndex_);
+      }
+      if (partCount_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(8, partCount_);
+      }
+      if (baselineTick_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(9, baselineTick_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < removedEnemyIds_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeUInt32SizeNoTag(removedEnemyIds_.getInt(i));
+        }
+        size += dataSize;
+        if (!getRemovedEnemyIdsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        removedEnemyIdsMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < removedItemIds_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeUInt32SizeNoTag(removedItemIds_.getInt(i));
+        }
+        size += dataSize;
+        if (!getRemovedItemIdsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        removedItemIdsMemoizedSerializedSize = dataSize;
+      }
+      if (catchUp_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(12, catchUp_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -37004,6 +41164,18 @@ public final class Message {
           != other.getRoomId()) return false;
       if (getIsFullSnapshot()
           != other.getIsFullSnapshot()) return false;
+      if (getPartIndex()
+          != other.getPartIndex()) return false;
+      if (getPartCount()
+          != other.getPartCount()) return false;
+      if (getBaselineTick()
+          != other.getBaselineTick()) return false;
+      if (!getRemovedEnemyIdsList()
+          .equals(other.getRemovedEnemyIdsList())) return false;
+      if (!getRemovedItemIdsList()
+          .equals(other.getRemovedItemIdsList())) return false;
+      if (getCatchUp()
+          != other.getCatchUp()) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -37036,6 +41208,23 @@ public final class Message {
       hash = (37 * hash) + IS_FULL_SNAPSHOT_FIELD_NUMBER;
       hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
           getIsFullSnapshot());
+      hash = (37 * hash) + PART_INDEX_FIELD_NUMBER;
+      hash = (53 * hash) + getPartIndex();
+      hash = (37 * hash) + PART_COUNT_FIELD_NUMBER;
+      hash = (53 * hash) + getPartCount();
+      hash = (37 * hash) + BASELINE_TICK_FIELD_NUMBER;
+      hash = (53 * hash) + getBaselineTick();
+      if (getRemovedEnemyIdsCount() > 0) {
+        hash = (37 * hash) + REMOVED_ENEMY_IDS_FIELD_NUMBER;
+        hash = (53 * hash) + getRemovedEnemyIdsList().hashCode();
+      }
+      if (getRemovedItemIdsCount() > 0) {
+        hash = (37 * hash) + REMOVED_ITEM_IDS_FIELD_NUMBER;
+        hash = (53 * hash) + getRemovedItemIdsList().hashCode();
+      }
+      hash = (37 * hash) + CATCH_UP_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getCatchUp());
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -37204,6 +41393,18 @@ public final class Message {
 
         isFullSnapshot_ = false;
 
+        partIndex_ = 0;
+
+        partCount_ = 0;
+
+        baselineTick_ = 0;
+
+        removedEnemyIds_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        removedItemIds_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        catchUp_ = false;
+
         return this;
       }
 
@@ -37265,6 +41466,20 @@ public final class Message {
         }
         result.roomId_ = roomId_;
         result.isFullSnapshot_ = isFullSnapshot_;
+        result.partIndex_ = partIndex_;
+        result.partCount_ = partCount_;
+        result.baselineTick_ = baselineTick_;
+        if (((bitField0_ & 0x00000008) != 0)) {
+          removedEnemyIds_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000008);
+        }
+        result.removedEnemyIds_ = removedEnemyIds_;
+        if (((bitField0_ & 0x00000010) != 0)) {
+          removedItemIds_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000010);
+        }
+        result.removedItemIds_ = removedItemIds_;
+        result.catchUp_ = catchUp_;
         onBuilt();
         return result;
       }
@@ -37400,6 +41615,38 @@ public final class Message {
         if (other.getIsFullSnapshot() != false) {
           setIsFullSnapshot(other.getIsFullSnapshot());
         }
+        if (other.getPartIndex() != 0) {
+          setPartIndex(other.getPartIndex());
+        }
+        if (other.getPartCount() != 0) {
+          setPartCount(other.getPartCount());
+        }
+        if (other.getBaselineTick() != 0) {
+          setBaselineTick(other.getBaselineTick());
+        }
+        if (!other.removedEnemyIds_.isEmpty()) {
+          if (removedEnemyIds_.isEmpty()) {
+            removedEnemyIds_ = other.removedEnemyIds_;
+            bitField0_ = (bitField0_ & ~0x00000008);
+          } else {
+            ensureRemovedEnemyIdsIsMutable();
+            removedEnemyIds_.addAll(other.removedEnemyIds_);
+          }
+          onChanged();
+        }
+        if (!other.removedItemIds_.isEmpty()) {
+          if (removedItemIds_.isEmpty()) {
+            removedItemIds_ = other.removedItemIds_;
+            bitField0_ = (bitField0_ & ~0x00000010);
+          } else {
+            ensureRemovedItemIdsIsMutable();
+            removedItemIds_.addAll(other.removedItemIds_);
+          }
+          onChanged();
+        }
+        if (other.getCatchUp() != false) {
+          setCatchUp(other.getCatchUp());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -38570,6 +42817,343 @@ public final class Message {
         onChanged();
         return this;
       }
+
+      private int partIndex_ ;
+      /**
+       * <pre>
+       * 超过单个数据报的全量快照按接收方拆成若干部分（自己、附近实体在前），各部分 tick 相同、可独立应用；
+       * part_count 为 0 或 1 表示未拆分（仅发给带 UDP 可靠层头部的客户端）
+       * </pre>
+       *
+       * <code>uint32 part_index = 7;</code>
+       * @return The partIndex.
+       */
+      @java.lang.Override
+      public int getPartIndex() {
+        return partIndex_;
+      }
+      /**
+       * <pre>
+       * 超过单个数据报的全量快照按接收方拆成若干部分（自己、附近实体在前），各部分 tick 相同、可独立应用；
+       * part_count 为 0 或 1 表示未拆分（仅发给带 UDP 可靠层头部的客户端）
+       * </pre>
+       *
+       * <code>uint32 part_index = 7;</code>
+       * @param value The partIndex to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPartIndex(int value) {
+        
+        partIndex_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 超过单个数据报的全量快照按接收方拆成若干部分（自己、附近实体在前），各部分 tick 相同、可独立应用；
+       * part_count 为 0 或 1 表示未拆分（仅发给带 UDP 可靠层头部的客户端）
+       * </pre>
+       *
+       * <code>uint32 part_index = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPartIndex() {
+        
+        partIndex_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int partCount_ ;
+      /**
+       * <code>uint32 part_count = 8;</code>
+       * @return The partCount.
+       */
+      @java.lang.Override
+      public int getPartCount() {
+        return partCount_;
+      }
+      /**
+       * <code>uint32 part_count = 8;</code>
+       * @param value The partCount to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPartCount(int value) {
+        
+        partCount_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint32 part_count = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPartCount() {
+        
+        partCount_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int baselineTick_ ;
+      /**
+       * <pre>
+       * 基线：非全量时为本同步所基于的 tick（房间同步为上一次同步的 tick，追帧同步为客户端确认的 tick）
+       * </pre>
+       *
+       * <code>uint32 baseline_tick = 9;</code>
+       * @return The baselineTick.
+       */
+      @java.lang.Override
+      public int getBaselineTick() {
+        return baselineTick_;
+      }
+      /**
+       * <pre>
+       * 基线：非全量时为本同步所基于的 tick（房间同步为上一次同步的 tick，追帧同步为客户端确认的 tick）
+       * </pre>
+       *
+       * <code>uint32 baseline_tick = 9;</code>
+       * @param value The baselineTick to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBaselineTick(int value) {
+        
+        baselineTick_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 基线：非全量时为本同步所基于的 tick（房间同步为上一次同步的 tick，追帧同步为客户端确认的 tick）
+       * </pre>
+       *
+       * <code>uint32 baseline_tick = 9;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBaselineTick() {
+        
+        baselineTick_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.IntList removedEnemyIds_ = emptyIntList();
+      private void ensureRemovedEnemyIdsIsMutable() {
+        if (!((bitField0_ & 0x00000008) != 0)) {
+          removedEnemyIds_ = mutableCopy(removedEnemyIds_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+      /**
+       * <pre>
+       * 追帧同步（catch_up = true）：按客户端确认的 baseline_tick 单独构造，含其后变化的实体与已移除的实体ID
+       * </pre>
+       *
+       * <code>repeated uint32 removed_enemy_ids = 10;</code>
+       * @return A list containing the removedEnemyIds.
+       */
+      public java.util.List<java.lang.Integer>
+          getRemovedEnemyIdsList() {
+        return ((bitField0_ & 0x00000008) != 0) ?
+                 java.util.Collections.unmodifiableList(removedEnemyIds_) : removedEnemyIds_;
+      }
+      /**
+       * <pre>
+       * 追帧同步（catch_up = true）：按客户端确认的 baseline_tick 单独构造，含其后变化的实体与已移除的实体ID
+       * </pre>
+       *
+       * <code>repeated uint32 removed_enemy_ids = 10;</code>
+       * @return The count of removedEnemyIds.
+       */
+      public int getRemovedEnemyIdsCount() {
+        return removedEnemyIds_.size();
+      }
+      /**
+       * <pre>
+       * 追帧同步（catch_up = true）：按客户端确认的 baseline_tick 单独构造，含其后变化的实体与已移除的实体ID
+       * </pre>
+       *
+       * <code>repeated uint32 removed_enemy_ids = 10;</code>
+       * @param index The index of the element to return.
+       * @return The removedEnemyIds at the given index.
+       */
+      public int getRemovedEnemyIds(int index) {
+        return removedEnemyIds_.getInt(index);
+      }
+      /**
+       * <pre>
+       * 追帧同步（catch_up = true）：按客户端确认的 baseline_tick 单独构造，含其后变化的实体与已移除的实体ID
+       * </pre>
+       *
+       * <code>repeated uint32 removed_enemy_ids = 10;</code>
+       * @param index The index to set the value at.
+       * @param value The removedEnemyIds to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRemovedEnemyIds(
+          int index, int value) {
+        ensureRemovedEnemyIdsIsMutable();
+        removedEnemyIds_.setInt(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 追帧同步（catch_up = true）：按客户端确认的 baseline_tick 单独构造，含其后变化的实体与已移除的实体ID
+       * </pre>
+       *
+       * <code>repeated uint32 removed_enemy_ids = 10;</code>
+       * @param value The removedEnemyIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addRemovedEnemyIds(int value) {
+        ensureRemovedEnemyIdsIsMutable();
+        removedEnemyIds_.addInt(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 追帧同步（catch_up = true）：按客户端确认的 baseline_tick 单独构造，含其后变化的实体与已移除的实体ID
+       * </pre>
+       *
+       * <code>repeated uint32 removed_enemy_ids = 10;</code>
+       * @param values The removedEnemyIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllRemovedEnemyIds(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureRemovedEnemyIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, removedEnemyIds_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 追帧同步（catch_up = true）：按客户端确认的 baseline_tick 单独构造，含其后变化的实体与已移除的实体ID
+       * </pre>
+       *
+       * <code>repeated uint32 removed_enemy_ids = 10;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRemovedEnemyIds() {
+        removedEnemyIds_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.IntList removedItemIds_ = emptyIntList();
+      private void ensureRemovedItemIdsIsMutable() {
+        if (!((bitField0_ & 0x00000010) != 0)) {
+          removedItemIds_ = mutableCopy(removedItemIds_);
+          bitField0_ |= 0x00000010;
+         }
+      }
+      /**
+       * <code>repeated uint32 removed_item_ids = 11;</code>
+       * @return A list containing the removedItemIds.
+       */
+      public java.util.List<java.lang.Integer>
+          getRemovedItemIdsList() {
+        return ((bitField0_ & 0x00000010) != 0) ?
+                 java.util.Collections.unmodifiableList(removedItemIds_) : removedItemIds_;
+      }
+      /**
+       * <code>repeated uint32 removed_item_ids = 11;</code>
+       * @return The count of removedItemIds.
+       */
+      public int getRemovedItemIdsCount() {
+        return removedItemIds_.size();
+      }
+      /**
+       * <code>repeated uint32 removed_item_ids = 11;</code>
+       * @param index The index of the element to return.
+       * @return The removedItemIds at the given index.
+       */
+      public int getRemovedItemIds(int index) {
+        return removedItemIds_.getInt(index);
+      }
+      /**
+       * <code>repeated uint32 removed_item_ids = 11;</code>
+       * @param index The index to set the value at.
+       * @param value The removedItemIds to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRemovedItemIds(
+          int index, int value) {
+        ensureRemovedItemIdsIsMutable();
+        removedItemIds_.setInt(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 removed_item_ids = 11;</code>
+       * @param value The removedItemIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addRemovedItemIds(int value) {
+        ensureRemovedItemIdsIsMutable();
+        removedItemIds_.addInt(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 removed_item_ids = 11;</code>
+       * @param values The removedItemIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllRemovedItemIds(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureRemovedItemIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, removedItemIds_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 removed_item_ids = 11;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRemovedItemIds() {
+        removedItemIds_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+        return this;
+      }
+
+      private boolean catchUp_ ;
+      /**
+       * <code>bool catch_up = 12;</code>
+       * @return The catchUp.
+       */
+      @java.lang.Override
+      public boolean getCatchUp() {
+        return catchUp_;
+      }
+      /**
+       * <code>bool catch_up = 12;</code>
+       * @param value The catchUp to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCatchUp(boolean value) {
+        
+        catchUp_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool catch_up = 12;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCatchUp() {
+        
+        catchUp_ = false;
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -44997,6 +49581,2640 @@ public final class Message {
 
   }
 
+  public interface S2C_TickEventBundleOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:lawnmower.S2C_TickEventBundle)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.lawnmower.Timestamp sync_time = 1;</code>
+     * @return Whether the syncTime field is set.
+     */
+    boolean hasSyncTime();
+    /**
+     * <code>.lawnmower.Timestamp sync_time = 1;</code>
+     * @return The syncTime.
+     */
+    lawnmower.Message.Timestamp getSyncTime();
+    /**
+     * <code>.lawnmower.Timestamp sync_time = 1;</code>
+     */
+    lawnmower.Message.TimestampOrBuilder getSyncTimeOrBuilder();
+
+    /**
+     * <code>uint32 room_id = 2;</code>
+     * @return The roomId.
+     */
+    int getRoomId();
+
+    /**
+     * <code>.lawnmower.S2C_ProjectileSpawn projectile_spawn = 3;</code>
+     * @return Whether the projectileSpawn field is set.
+     */
+    boolean hasProjectileSpawn();
+    /**
+     * <code>.lawnmower.S2C_ProjectileSpawn projectile_spawn = 3;</code>
+     * @return The projectileSpawn.
+     */
+    lawnmower.Message.S2C_ProjectileSpawn getProjectileSpawn();
+    /**
+     * <code>.lawnmower.S2C_ProjectileSpawn projectile_spawn = 3;</code>
+     */
+    lawnmower.Message.S2C_ProjectileSpawnOrBuilder getProjectileSpawnOrBuilder();
+
+    /**
+     * <code>.lawnmower.S2C_ProjectileDespawn projectile_despawn = 4;</code>
+     * @return Whether the projectileDespawn field is set.
+     */
+    boolean hasProjectileDespawn();
+    /**
+     * <code>.lawnmower.S2C_ProjectileDespawn projectile_despawn = 4;</code>
+     * @return The projectileDespawn.
+     */
+    lawnmower.Message.S2C_ProjectileDespawn getProjectileDespawn();
+    /**
+     * <code>.lawnmower.S2C_ProjectileDespawn projectile_despawn = 4;</code>
+     */
+    lawnmower.Message.S2C_ProjectileDespawnOrBuilder getProjectileDespawnOrBuilder();
+
+    /**
+     * <code>.lawnmower.S2C_DroppedItem dropped_item = 5;</code>
+     * @return Whether the droppedItem field is set.
+     */
+    boolean hasDroppedItem();
+    /**
+     * <code>.lawnmower.S2C_DroppedItem dropped_item = 5;</code>
+     * @return The droppedItem.
+     */
+    lawnmower.Message.S2C_DroppedItem getDroppedItem();
+    /**
+     * <code>.lawnmower.S2C_DroppedItem dropped_item = 5;</code>
+     */
+    lawnmower.Message.S2C_DroppedItemOrBuilder getDroppedItemOrBuilder();
+
+    /**
+     * <code>.lawnmower.S2C_EnemyAttackStateSync enemy_attack_state = 6;</code>
+     * @return Whether the enemyAttackState field is set.
+     */
+    boolean hasEnemyAttackState();
+    /**
+     * <code>.lawnmower.S2C_EnemyAttackStateSync enemy_attack_state = 6;</code>
+     * @return The enemyAttackState.
+     */
+    lawnmower.Message.S2C_EnemyAttackStateSync getEnemyAttackState();
+    /**
+     * <code>.lawnmower.S2C_EnemyAttackStateSync enemy_attack_state = 6;</code>
+     */
+    lawnmower.Message.S2C_EnemyAttackStateSyncOrBuilder getEnemyAttackStateOrBuilder();
+
+    /**
+     * <code>repeated .lawnmower.S2C_PlayerHurt player_hurts = 7;</code>
+     */
+    java.util.List<lawnmower.Message.S2C_PlayerHurt> 
+        getPlayerHurtsList();
+    /**
+     * <code>repeated .lawnmower.S2C_PlayerHurt player_hurts = 7;</code>
+     */
+    lawnmower.Message.S2C_PlayerHurt getPlayerHurts(int index);
+    /**
+     * <code>repeated .lawnmower.S2C_PlayerHurt player_hurts = 7;</code>
+     */
+    int getPlayerHurtsCount();
+    /**
+     * <code>repeated .lawnmower.S2C_PlayerHurt player_hurts = 7;</code>
+     */
+    java.util.List<? extends lawnmower.Message.S2C_PlayerHurtOrBuilder> 
+        getPlayerHurtsOrBuilderList();
+    /**
+     * <code>repeated .lawnmower.S2C_PlayerHurt player_hurts = 7;</code>
+     */
+    lawnmower.Message.S2C_PlayerHurtOrBuilder getPlayerHurtsOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .lawnmower.S2C_EnemyDied enemy_dieds = 8;</code>
+     */
+    java.util.List<lawnmower.Message.S2C_EnemyDied> 
+        getEnemyDiedsList();
+    /**
+     * <code>repeated .lawnmower.S2C_EnemyDied enemy_dieds = 8;</code>
+     */
+    lawnmower.Message.S2C_EnemyDied getEnemyDieds(int index);
+    /**
+     * <code>repeated .lawnmower.S2C_EnemyDied enemy_dieds = 8;</code>
+     */
+    int getEnemyDiedsCount();
+    /**
+     * <code>repeated .lawnmower.S2C_EnemyDied enemy_dieds = 8;</code>
+     */
+    java.util.List<? extends lawnmower.Message.S2C_EnemyDiedOrBuilder> 
+        getEnemyDiedsOrBuilderList();
+    /**
+     * <code>repeated .lawnmower.S2C_EnemyDied enemy_dieds = 8;</code>
+     */
+    lawnmower.Message.S2C_EnemyDiedOrBuilder getEnemyDiedsOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .lawnmower.S2C_PlayerLevelUp level_ups = 9;</code>
+     */
+    java.util.List<lawnmower.Message.S2C_PlayerLevelUp> 
+        getLevelUpsList();
+    /**
+     * <code>repeated .lawnmower.S2C_PlayerLevelUp level_ups = 9;</code>
+     */
+    lawnmower.Message.S2C_PlayerLevelUp getLevelUps(int index);
+    /**
+     * <code>repeated .lawnmower.S2C_PlayerLevelUp level_ups = 9;</code>
+     */
+    int getLevelUpsCount();
+    /**
+     * <code>repeated .lawnmower.S2C_PlayerLevelUp level_ups = 9;</code>
+     */
+    java.util.List<? extends lawnmower.Message.S2C_PlayerLevelUpOrBuilder> 
+        getLevelUpsOrBuilderList();
+    /**
+     * <code>repeated .lawnmower.S2C_PlayerLevelUp level_ups = 9;</code>
+     */
+    lawnmower.Message.S2C_PlayerLevelUpOrBuilder getLevelUpsOrBuilder(
+        int index);
+  }
+  /**
+   * <pre>
+   * 单个服务器 tick 的战斗事件合包：代替逐条的射弹发射/消失、掉落、敌人攻击状态、受伤、死亡、升级消息，
+   * 客户端按字段顺序一次性应用。该 tick 没有的事件类别不设置 / 为空
+   * </pre>
+   *
+   * Protobuf type {@code lawnmower.S2C_TickEventBundle}
+   */
+  public static final class S2C_TickEventBundle extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:lawnmower.S2C_TickEventBundle)
+      S2C_TickEventBundleOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use S2C_TickEventBundle.newBuilder() to construct.
+    private S2C_TickEventBundle(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private S2C_TickEventBundle() {
+      playerHurts_ = java.util.Collections.emptyList();
+      enemyDieds_ = java.util.Collections.emptyList();
+      levelUps_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new S2C_TickEventBundle();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private S2C_TickEventBundle(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              lawnmower.Message.Timestamp.Builder subBuilder = null;
+              if (syncTime_ != null) {
+                subBuilder = syncTime_.toBuilder();
+              }
+              syncTime_ = input.readMessage(lawnmower.Message.Timestamp.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(syncTime_);
+                syncTime_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 16: {
+
+              roomId_ = input.readUInt32();
+              break;
+            }
+            case 26: {
+              lawnmower.Message.S2C_ProjectileSpawn.Builder subBuilder = null;
+              if (projectileSpawn_ != null) {
+                subBuilder = projectileSpawn_.toBuilder();
+              }
+              projectileSpawn_ = input.readMessage(lawnmower.Message.S2C_ProjectileSpawn.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(projectileSpawn_);
+                projectileSpawn_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 34: {
+              lawnmower.Message.S2C_ProjectileDespawn.Builder subBuilder = null;
+              if (projectileDespawn_ != null) {
+                subBuilder = projectileDespawn_.toBuilder();
+              }
+              projectileDespawn_ = input.readMessage(lawnmower.Message.S2C_ProjectileDespawn.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(projectileDespawn_);
+                projectileDespawn_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 42: {
+              lawnmower.Message.S2C_DroppedItem.Builder subBuilder = null;
+              if (droppedItem_ != null) {
+                subBuilder = droppedItem_.toBuilder();
+              }
+              droppedItem_ = input.readMessage(lawnmower.Message.S2C_DroppedItem.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(droppedItem_);
+                droppedItem_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 50: {
+              lawnmower.Message.S2C_EnemyAttackStateSync.Builder subBuilder = null;
+              if (enemyAttackState_ != null) {
+                subBuilder = enemyAttackState_.toBuilder();
+              }
+              enemyAttackState_ = input.readMessage(lawnmower.Message.S2C_EnemyAttackStateSync.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(enemyAttackState_);
+                enemyAttackState_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 58: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                playerHurts_ = new java.util.ArrayList<lawnmower.Message.S2C_PlayerHurt>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              playerHurts_.add(
+                  input.readMessage(lawnmower.Message.S2C_PlayerHurt.parser(), extensionRegistry));
+              break;
+            }
+            case 66: {
+              if (!((mutable_bitField0_ & 0x00000002) != 0)) {
+                enemyDieds_ = new java.util.ArrayList<lawnmower.Message.S2C_EnemyDied>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              enemyDieds_.add(
+                  input.readMessage(lawnmower.Message.S2C_EnemyDied.parser(), extensionRegistry));
+              break;
+            }
+            case 74: {
+              if (!((mutable_bitField0_ & 0x00000004) != 0)) {
+                levelUps_ = new java.util.ArrayList<lawnmower.Message.S2C_PlayerLevelUp>();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              levelUps_.add(
+                  input.readMessage(lawnmower.Message.S2C_PlayerLevelUp.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          playerHurts_ = java.util.Collections.unmodifiableList(playerHurts_);
+        }
+        if (((mutable_bitField0_ & 0x00000002) != 0)) {
+          enemyDieds_ = java.util.Collections.unmodifiableList(enemyDieds_);
+        }
+        if (((mutable_bitField0_ & 0x00000004) != 0)) {
+          levelUps_ = java.util.Collections.unmodifiableList(levelUps_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return lawnmower.Message.internal_static_lawnmower_S2C_TickEventBundle_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return lawnmower.Message.internal_static_lawnmower_S2C_TickEventBundle_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              lawnmower.Message.S2C_TickEventBundle.class, lawnmower.Message.S2C_TickEventBundle.Builder.class);
+    }
+
+    public static final int SYNC_TIME_FIELD_NUMBER = 1;
+    private lawnmower.Message.Timestamp syncTime_;
+    /**
+     * <code>.lawnmower.Timestamp sync_time = 1;</code>
+     * @return Whether the syncTime field is set.
+     */
+    @java.lang.Override
+    public boolean hasSyncTime() {
+      return syncTime_ != null;
+    }
+    /**
+     * <code>.lawnmower.Timestamp sync_time = 1;</code>
+     * @return The syncTime.
+     */
+    @java.lang.Override
+    public lawnmower.Message.Timestamp getSyncTime() {
+      return syncTime_ == null ? lawnmower.Message.Timestamp.getDefaultInstance() : syncTime_;
+    }
+    /**
+     * <code>.lawnmower.Timestamp sync_time = 1;</code>
+     */
+    @java.lang.Override
+    public lawnmower.Message.TimestampOrBuilder getSyncTimeOrBuilder() {
+      return getSyncTime();
+    }
+
+    public static final int ROOM_ID_FIELD_NUMBER = 2;
+    private int roomId_;
+    /**
+     * <code>uint32 room_id = 2;</code>
+     * @return The roomId.
+     */
+    @java.lang.Override
+    public int getRoomId() {
+      return roomId_;
+    }
+
+    public static final int PROJECTILE_SPAWN_FIELD_NUMBER = 3;
+    private lawnmower.Message.S2C_ProjectileSpawn projectileSpawn_;
+    /**
+     * <code>.lawnmower.S2C_ProjectileSpawn projectile_spawn = 3;</code>
+     * @return Whether the projectileSpawn field is set.
+     */
+    @java.lang.Override
+    public boolean hasProjectileSpawn() {
+      return projectileSpawn_ != null;
+    }
+    /**
+     * <code>.lawnmower.S2C_ProjectileSpawn projectile_spawn = 3;</code>
+     * @return The projectileSpawn.
+     */
+    @java.lang.Override
+    public lawnmower.Message.S2C_ProjectileSpawn getProjectileSpawn() {
+      return projectileSpawn_ == null ? lawnmower.Message.S2C_ProjectileSpawn.getDefaultInstance() : projectileSpawn_;
+    }
+    /**
+     * <code>.lawnmower.S2C_ProjectileSpawn projectile_spawn = 3;</code>
+     */
+    @java.lang.Override
+    public lawnmower.Message.S2C_ProjectileSpawnOrBuilder getProjectileSpawnOrBuilder() {
+      return getProjectileSpawn();
+    }
+
+    public static final int PROJECTILE_DESPAWN_FIELD_NUMBER = 4;
+    private lawnmower.Message.S2C_ProjectileDespawn projectileDespawn_;
+    /**
+     * <code>.lawnmower.S2C_ProjectileDespawn projectile_despawn = 4;</code>
+     * @return Whether the projectileDespawn field is set.
+     */
+    @java.lang.Override
+    public boolean hasProjectileDespawn() {
+      return projectileDespawn_ != null;
+    }
+    /**
+     * <code>.lawnmower.S2C_ProjectileDespawn projectile_despawn = 4;</code>
+     * @return The projectileDespawn.
+     */
+    @java.lang.Override
+    public lawnmower.Message.S2C_ProjectileDespawn getProjectileDespawn() {
+      return projectileDespawn_ == null ? lawnmower.Message.S2C_ProjectileDespawn.getDefaultInstance() : projectileDespawn_;
+    }
+    /**
+     * <code>.lawnmower.S2C_ProjectileDespawn projectile_despawn = 4;</code>
+     */
+    @java.lang.Override
+    public lawnmower.Message.S2C_ProjectileDespawnOrBuilder getProjectileDespawnOrBuilder() {
+      return getProjectileDespawn();
+    }
+
+    public static final int DROPPED_ITEM_FIELD_NUMBER = 5;
+    private lawnmower.Message.S2C_DroppedItem droppedItem_;
+    /**
+     * <code>.lawnmower.S2C_DroppedItem dropped_item = 5;</code>
+     * @return Whether the droppedItem field is set.
+     */
+    @java.lang.Override
+    public boolean hasDroppedItem() {
+      return droppedItem_ != null;
+    }
+    /**
+     * <code>.lawnmower.S2C_DroppedItem dropped_item = 5;</code>
+     * @return The droppedItem.
+     */
+    @java.lang.Override
+    public lawnmower.Message.S2C_DroppedItem getDroppedItem() {
+      return droppedItem_ == null ? lawnmower.Message.S2C_DroppedItem.getDefaultInstance() : droppedItem_;
+    }
+    /**
+     * <code>.lawnmower.S2C_DroppedItem dropped_item = 5;</code>
+     */
+    @java.lang.Override
+    public lawnmower.Message.S2C_DroppedItemOrBuilder getDroppedItemOrBuilder() {
+      return getDroppedItem();
+    }
+
+    public static final int ENEMY_ATTACK_STATE_FIELD_NUMBER = 6;
+    private lawnmower.Message.S2C_EnemyAttackStateSync enemyAttackState_;
+    /**
+     * <code>.lawnmower.S2C_EnemyAttackStateSync enemy_attack_state = 6;</code>
+     * @return Whether the enemyAttackState field is set.
+     */
+    @java.lang.Override
+    public boolean hasEnemyAttackState() {
+      return enemyAttackState_ != null;
+    }
+    /**
+     * <code>.lawnmower.S2C_EnemyAttackStateSync enemy_attack_state = 6;</code>
+     * @return The enemyAttackState.
+     */
+    @java.lang.Override
+    public lawnmower.Message.S2C_EnemyAttackStateSync getEnemyAttackState() {
+      return enemyAttackState_ == null ? lawnmower.Message.S2C_EnemyAttackStateSync.getDefaultInstance() : enemyAttackState_;
+    }
+    /**
+     * <code>.lawnmower.S2C_EnemyAttackStateSync enemy_attack_state = 6;</code>
+     */
+    @java.lang.Override
+    public lawnmower.Message.S2C_EnemyAttackStateSyncOrBuilder getEnemyAttackStateOrBuilder() {
+      return getEnemyAttackState();
+    }
+
+    public static final int PLAYER_HURTS_FIELD_NUMBER = 7;
+    private java.util.List<lawnmower.Message.S2C_PlayerHurt> playerHurts_;
+    /**
+     * <code>repeated .lawnmower.S2C_PlayerHurt player_hurts = 7;</code>
+     */
+    @java.lang.Override
+    public java.util.List<lawnmower.Message.S2C_PlayerHurt> getPlayerHurtsList() {
+      return playerHurts_;
+    }
+    /**
+     * <code>repeated .lawnmower.S2C_PlayerHurt player_hurts = 7;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends lawnmower.Message.S2C_PlayerHurtOrBuilder> 
+        getPlayerHurtsOrBuilderList() {
+      return playerHurts_;
+    }
+    /**
+     * <code>repeated .lawnmower.S2C_PlayerHurt player_hurts = 7;</code>
+     */
+    @java.lang.Override
+    public int getPlayerHurtsCount() {
+      return playerHurts_.size();
+    }
+    /**
+     * <code>repeated .lawnmower.S2C_PlayerHurt player_hurts = 7;</code>
+     */
+    @java.lang.Override
+    public lawnmower.Message.S2C_PlayerHurt getPlayerHurts(int index) {
+      return playerHurts_.get(index);
+    }
+    /**
+     * <code>repeated .lawnmower.S2C_PlayerHurt player_hurts = 7;</code>
+     */
+    @java.lang.Override
+    public lawnmower.Message.S2C_PlayerHurtOrBuilder getPlayerHurtsOrBuilder(
+        int index) {
+      return playerHurts_.get(index);
+    }
+
+    public static final int ENEMY_DIEDS_FIELD_NUMBER = 8;
+    private java.util.List<lawnmower.Message.S2C_EnemyDied> enemyDieds_;
+    /**
+     * <code>repeated .lawnmower.S2C_EnemyDied enemy_dieds = 8;</code>
+     */
+    @java.lang.Override
+    public java.util.List<lawnmower.Message.S2C_EnemyDied> getEnemyDiedsList() {
+      return enemyDieds_;
+    }
+    /**
+     * <code>repeated .lawnmower.S2C_EnemyDied enemy_dieds = 8;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends lawnmower.Message.S2C_EnemyDiedOrBuilder> 
+        getEnemyDiedsOrBuilderList() {
+      return enemyDieds_;
+    }
+    /**
+     * <code>repeated .lawnmower.S2C_EnemyDied enemy_dieds = 8;</code>
+     */
+    @java.lang.Override
+    public int getEnemyDiedsCount() {
+      return enemyDieds_.size();
+    }
+    /**
+     * <code>repeated .lawnmower.S2C_EnemyDied enemy_dieds = 8;</code>
+     */
+    @java.lang.Override
+    public lawnmower.Message.S2C_EnemyDied getEnemyDieds(int index) {
+      return enemyDieds_.get(index);
+    }
+    /**
+     * <code>repeated .lawnmower.S2C_EnemyDied enemy_dieds = 8;</code>
+     */
+    @java.lang.Override
+    public lawnmower.Message.S2C_EnemyDiedOrBuilder getEnemyDiedsOrBuilder(
+        int index) {
+      return enemyDieds_.get(index);
+    }
+
+    public static final int LEVEL_UPS_FIELD_NUMBER = 9;
+    private java.util.List<lawnmower.Message.S2C_PlayerLevelUp> levelUps_;
+    /**
+     * <code>repeated .lawnmower.S2C_PlayerLevelUp level_ups = 9;</code>
+     */
+    @java.lang.Override
+    public java.util.List<lawnmower.Message.S2C_PlayerLevelUp> getLevelUpsList() {
+      return levelUps_;
+    }
+    /**
+     * <code>repeated .lawnmower.S2C_PlayerLevelUp level_ups = 9;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends lawnmower.Message.S2C_PlayerLevelUpOrBuilder> 
+        getLevelUpsOrBuilderList() {
+      return levelUps_;
+    }
+    /**
+     * <code>repeated .lawnmower.S2C_PlayerLevelUp level_ups = 9;</code>
+     */
+    @java.lang.Override
+    public int getLevelUpsCount() {
+      return levelUps_.size();
+    }
+    /**
+     * <code>repeated .lawnmower.S2C_PlayerLevelUp level_ups = 9;</code>
+     */
+    @java.lang.Override
+    public lawnmower.Message.S2C_PlayerLevelUp getLevelUps(int index) {
+      return levelUps_.get(index);
+    }
+    /**
+     * <code>repeated .lawnmower.S2C_PlayerLevelUp level_ups = 9;</code>
+     */
+    @java.lang.Override
+    public lawnmower.Message.S2C_PlayerLevelUpOrBuilder getLevelUpsOrBuilder(
+        int index) {
+      return levelUps_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (syncTime_ != null) {
+        output.writeMessage(1, getSyncTime());
+      }
+      if (roomId_ != 0) {
+        output.writeUInt32(2, roomId_);
+      }
+      if (projectileSpawn_ != null) {
+        output.writeMessage(3, getProjectileSpawn());
+      }
+      if (projectileDespawn_ != null) {
+        output.writeMessage(4, getProjectileDespawn());
+      }
+      if (droppedItem_ != null) {
+        output.writeMessage(5, getDroppedItem());
+      }
+      if (enemyAttackState_ != null) {
+        output.writeMessage(6, getEnemyAttackState());
+      }
+      for (int i = 0; i < playerHurts_.size(); i++) {
+        output.writeMessage(7, playerHurts_.get(i));
+      }
+      for (int i = 0; i < enemyDieds_.size(); i++) {
+        output.writeMessage(8, enemyDieds_.get(i));
+      }
+      for (int i = 0; i < levelUps_.size(); i++) {
+        output.writeMessage(9, levelUps_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (syncTime_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getSyncTime());
+      }
+      if (roomId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(2, roomId_);
+      }
+      if (projectileSpawn_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, getProjectileSpawn());
+      }
+      if (projectileDespawn_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, getProjectileDespawn());
+      }
+      if (droppedItem_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, getDroppedItem());
+      }
+      if (enemyAttackState_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, getEnemyAttackState());
+      }
+      for (int i = 0; i < playerHurts_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, playerHurts_.get(i));
+      }
+      for (int i = 0; i < enemyDieds_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(8, enemyDieds_.get(i));
+      }
+      for (int i = 0; i < levelUps_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(9, levelUps_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof lawnmower.Message.S2C_TickEventBundle)) {
+        return super.equals(obj);
+      }
+      lawnmower.Message.S2C_TickEventBundle other = (lawnmower.Message.S2C_TickEventBundle) obj;
+
+      if (hasSyncTime() != other.hasSyncTime()) return false;
+      if (hasSyncTime()) {
+        if (!getSyncTime()
+            .equals(other.getSyncTime())) return false;
+      }
+      if (getRoomId()
+          != other.getRoomId()) return false;
+      if (hasProjectileSpawn() != other.hasProjectileSpawn()) return false;
+      if (hasProjectileSpawn()) {
+        if (!getProjectileSpawn()
+            .equals(other.getProjectileSpawn())) return false;
+      }
+      if (hasProjectileDespawn() != other.hasProjectileDespawn()) return false;
+      if (hasProjectileDespawn()) {
+        if (!getProjectileDespawn()
+            .equals(other.getProjectileDespawn())) return false;
+      }
+      if (hasDroppedItem() != other.hasDroppedItem()) return false;
+      if (hasDroppedItem()) {
+        if (!getDroppedItem()
+            .equals(other.getDroppedItem())) return false;
+      }
+      if (hasEnemyAttackState() != other.hasEnemyAttackState()) return false;
+      if (hasEnemyAttackState()) {
+        if (!getEnemyAttackState()
+            .equals(other.getEnemyAttackState())) return false;
+      }
+      if (!getPlayerHurtsList()
+          .equals(other.getPlayerHurtsList())) return false;
+      if (!getEnemyDiedsList()
+          .equals(other.getEnemyDiedsList())) return false;
+      if (!getLevelUpsList()
+          .equals(other.getLevelUpsList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasSyncTime()) {
+        hash = (37 * hash) + SYNC_TIME_FIELD_NUMBER;
+        hash = (53 * hash) + getSyncTime().hashCode();
+      }
+      hash = (37 * hash) + ROOM_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getRoomId();
+      if (hasProjectileSpawn()) {
+        hash = (37 * hash) + PROJECTILE_SPAWN_FIELD_NUMBER;
+        hash = (53 * hash) + getProjectileSpawn().hashCode();
+      }
+      if (hasProjectileDespawn()) {
+        hash = (37 * hash) + PROJECTILE_DESPAWN_FIELD_NUMBER;
+        hash = (53 * hash) + getProjectileDespawn().hashCode();
+      }
+      if (hasDroppedItem()) {
+        hash = (37 * hash) + DROPPED_ITEM_FIELD_NUMBER;
+        hash = (53 * hash) + getDroppedItem().hashCode();
+      }
+      if (hasEnemyAttackState()) {
+        hash = (37 * hash) + ENEMY_ATTACK_STATE_FIELD_NUMBER;
+        hash = (53 * hash) + getEnemyAttackState().hashCode();
+      }
+      if (getPlayerHurtsCount() > 0) {
+        hash = (37 * hash) + PLAYER_HURTS_FIELD_NUMBER;
+        hash = (53 * hash) + getPlayerHurtsList().hashCode();
+      }
+      if (getEnemyDiedsCount() > 0) {
+        hash = (37 * hash) + ENEMY_DIEDS_FIELD_NUMBER;
+        hash = (53 * hash) + getEnemyDiedsList().hashCode();
+      }
+      if (getLevelUpsCount() > 0) {
+        hash = (37 * hash) + LEVEL_UPS_FIELD_NUMBER;
+        hash = (53 * hash) + getLevelUpsList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static lawnmower.Message.S2C_TickEventBundle parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static lawnmower.Message.S2C_TickEventBundle parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static lawnmower.Message.S2C_TickEventBundle parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static lawnmower.Message.S2C_TickEventBundle parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static lawnmower.Message.S2C_TickEventBundle parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static lawnmower.Message.S2C_TickEventBundle parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static lawnmower.Message.S2C_TickEventBundle parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static lawnmower.Message.S2C_TickEventBundle parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static lawnmower.Message.S2C_TickEventBundle parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static lawnmower.Message.S2C_TickEventBundle parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static lawnmower.Message.S2C_TickEventBundle parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static lawnmower.Message.S2C_TickEventBundle parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(lawnmower.Message.S2C_TickEventBundle prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * 单个服务器 tick 的战斗事件合包：代替逐条的射弹发射/消失、掉落、敌人攻击状态、受伤、死亡、升级消息，
+     * 客户端按字段顺序一次性应用。该 tick 没有的事件类别不设置 / 为空
+     * </pre>
+     *
+     * Protobuf type {@code lawnmower.S2C_TickEventBundle}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:lawnmower.S2C_TickEventBundle)
+        lawnmower.Message.S2C_TickEventBundleOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return lawnmower.Message.internal_static_lawnmower_S2C_TickEventBundle_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return lawnmower.Message.internal_static_lawnmower_S2C_TickEventBundle_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                lawnmower.Message.S2C_TickEventBundle.class, lawnmower.Message.S2C_TickEventBundle.Builder.class);
+      }
+
+      // Construct using lawnmower.Message.S2C_TickEventBundle.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getPlayerHurtsFieldBuilder();
+          getEnemyDiedsFieldBuilder();
+          getLevelUpsFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (syncTimeBuilder_ == null) {
+          syncTime_ = null;
+        } else {
+          syncTime_ = null;
+          syncTimeBuilder_ = null;
+        }
+        roomId_ = 0;
+
+        if (projectileSpawnBuilder_ == null) {
+          projectileSpawn_ = null;
+        } else {
+          projectileSpawn_ = null;
+          projectileSpawnBuilder_ = null;
+        }
+        if (projectileDespawnBuilder_ == null) {
+          projectileDespawn_ = null;
+        } else {
+          projectileDespawn_ = null;
+          projectileDespawnBuilder_ = null;
+        }
+        if (droppedItemBuilder_ == null) {
+          droppedItem_ = null;
+        } else {
+          droppedItem_ = null;
+          droppedItemBuilder_ = null;
+        }
+        if (enemyAttackStateBuilder_ == null) {
+          enemyAttackState_ = null;
+        } else {
+          enemyAttackState_ = null;
+          enemyAttackStateBuilder_ = null;
+        }
+        if (playerHurtsBuilder_ == null) {
+          playerHurts_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          playerHurtsBuilder_.clear();
+        }
+        if (enemyDiedsBuilder_ == null) {
+          enemyDieds_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          enemyDiedsBuilder_.clear();
+        }
+        if (levelUpsBuilder_ == null) {
+          levelUps_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+        } else {
+          levelUpsBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return lawnmower.Message.internal_static_lawnmower_S2C_TickEventBundle_descriptor;
+      }
+
+      @java.lang.Override
+      public lawnmower.Message.S2C_TickEventBundle getDefaultInstanceForType() {
+        return lawnmower.Message.S2C_TickEventBundle.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public lawnmower.Message.S2C_TickEventBundle build() {
+        lawnmower.Message.S2C_TickEventBundle result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public lawnmower.Message.S2C_TickEventBundle buildPartial() {
+        lawnmower.Message.S2C_TickEventBundle result = new lawnmower.Message.S2C_TickEventBundle(this);
+        int from_bitField0_ = bitField0_;
+        if (syncTimeBuilder_ == null) {
+          result.syncTime_ = syncTime_;
+        } else {
+          result.syncTime_ = syncTimeBuilder_.build();
+        }
+        result.roomId_ = roomId_;
+        if (projectileSpawnBuilder_ == null) {
+          result.projectileSpawn_ = projectileSpawn_;
+        } else {
+          result.projectileSpawn_ = projectileSpawnBuilder_.build();
+        }
+        if (projectileDespawnBuilder_ == null) {
+          result.projectileDespawn_ = projectileDespawn_;
+        } else {
+          result.projectileDespawn_ = projectileDespawnBuilder_.build();
+        }
+        if (droppedItemBuilder_ == null) {
+          result.droppedItem_ = droppedItem_;
+        } else {
+          result.droppedItem_ = droppedItemBuilder_.build();
+        }
+        if (enemyAttackStateBuilder_ == null) {
+          result.enemyAttackState_ = enemyAttackState_;
+        } else {
+          result.enemyAttackState_ = enemyAttackStateBuilder_.build();
+        }
+        if (playerHurtsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            playerHurts_ = java.util.Collections.unmodifiableList(playerHurts_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.playerHurts_ = playerHurts_;
+        } else {
+          result.playerHurts_ = playerHurtsBuilder_.build();
+        }
+        if (enemyDiedsBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0)) {
+            enemyDieds_ = java.util.Collections.unmodifiableList(enemyDieds_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.enemyDieds_ = enemyDieds_;
+        } else {
+          result.enemyDieds_ = enemyDiedsBuilder_.build();
+        }
+        if (levelUpsBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0)) {
+            levelUps_ = java.util.Collections.unmodifiableList(levelUps_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.levelUps_ = levelUps_;
+        } else {
+          result.levelUps_ = levelUpsBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof lawnmower.Message.S2C_TickEventBundle) {
+          return mergeFrom((lawnmower.Message.S2C_TickEventBundle)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(lawnmower.Message.S2C_TickEventBundle other) {
+        if (other == lawnmower.Message.S2C_TickEventBundle.getDefaultInstance()) return this;
+        if (other.hasSyncTime()) {
+          mergeSyncTime(other.getSyncTime());
+        }
+        if (other.getRoomId() != 0) {
+          setRoomId(other.getRoomId());
+        }
+        if (other.hasProjectileSpawn()) {
+          mergeProjectileSpawn(other.getProjectileSpawn());
+        }
+        if (other.hasProjectileDespawn()) {
+          mergeProjectileDespawn(other.getProjectileDespawn());
+        }
+        if (other.hasDroppedItem()) {
+          mergeDroppedItem(other.getDroppedItem());
+        }
+        if (other.hasEnemyAttackState()) {
+          mergeEnemyAttackState(other.getEnemyAttackState());
+        }
+        if (playerHurtsBuilder_ == null) {
+          if (!other.playerHurts_.isEmpty()) {
+            if (playerHurts_.isEmpty()) {
+              playerHurts_ = other.playerHurts_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensurePlayerHurtsIsMutable();
+              playerHurts_.addAll(other.playerHurts_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.playerHurts_.isEmpty()) {
+            if (playerHurtsBuilder_.isEmpty()) {
+              playerHurtsBuilder_.dispose();
+              playerHurtsBuilder_ = null;
+              playerHurts_ = other.playerHurts_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              playerHurtsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getPlayerHurtsFieldBuilder() : null;
+            } else {
+              playerHurtsBuilder_.addAllMessages(other.playerHurts_);
+            }
+          }
+        }
+        if (enemyDiedsBuilder_ == null) {
+          if (!other.enemyDieds_.isEmpty()) {
+            if (enemyDieds_.isEmpty()) {
+              enemyDieds_ = other.enemyDieds_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureEnemyDiedsIsMutable();
+              enemyDieds_.addAll(other.enemyDieds_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.enemyDieds_.isEmpty()) {
+            if (enemyDiedsBuilder_.isEmpty()) {
+              enemyDiedsBuilder_.dispose();
+              enemyDiedsBuilder_ = null;
+              enemyDieds_ = other.enemyDieds_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              enemyDiedsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getEnemyDiedsFieldBuilder() : null;
+            } else {
+              enemyDiedsBuilder_.addAllMessages(other.enemyDieds_);
+            }
+          }
+        }
+        if (levelUpsBuilder_ == null) {
+          if (!other.levelUps_.isEmpty()) {
+            if (levelUps_.isEmpty()) {
+              levelUps_ = other.levelUps_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureLevelUpsIsMutable();
+              levelUps_.addAll(other.levelUps_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.levelUps_.isEmpty()) {
+            if (levelUpsBuilder_.isEmpty()) {
+              levelUpsBuilder_.dispose();
+              levelUpsBuilder_ = null;
+              levelUps_ = other.levelUps_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              levelUpsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getLevelUpsFieldBuilder() : null;
+            } else {
+              levelUpsBuilder_.addAllMessages(other.levelUps_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        lawnmower.Message.S2C_TickEventBundle parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (lawnmower.Message.S2C_TickEventBundle) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private lawnmower.Message.Timestamp syncTime_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          lawnmower.Message.Timestamp, lawnmower.Message.Timestamp.Builder, lawnmower.Message.TimestampOrBuilder> syncTimeBuilder_;
+      /**
+       * <code>.lawnmower.Timestamp sync_time = 1;</code>
+       * @return Whether the syncTime field is set.
+       */
+      public boolean hasSyncTime() {
+        return syncTimeBuilder_ != null || syncTime_ != null;
+      }
+      /**
+       * <code>.lawnmower.Timestamp sync_time = 1;</code>
+       * @return The syncTime.
+       */
+      public lawnmower.Message.Timestamp getSyncTime() {
+        if (syncTimeBuilder_ == null) {
+          return syncTime_ == null ? lawnmower.Message.Timestamp.getDefaultInstance() : syncTime_;
+        } else {
+          return syncTimeBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.lawnmower.Timestamp sync_time = 1;</code>
+       */
+      public Builder setSyncTime(lawnmower.Message.Timestamp value) {
+        if (syncTimeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          syncTime_ = value;
+          onChanged();
+        } else {
+          syncTimeBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.lawnmower.Timestamp sync_time = 1;</code>
+       */
+      public Builder setSyncTime(
+          lawnmower.Message.Timestamp.Builder builderForValue) {
+        if (syncTimeBuilder_ == null) {
+          syncTime_ = builderForValue.build();
+          onChanged();
+        } else {
+          syncTimeBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.lawnmower.Timestamp sync_time = 1;</code>
+       */
+      public Builder mergeSyncTime(lawnmower.Message.Timestamp value) {
+        if (syncTimeBuilder_ == null) {
+          if (syncTime_ != null) {
+            syncTime_ =
+              lawnmower.Message.Timestamp.newBuilder(syncTime_).mergeFrom(value).buildPartial();
+          } else {
+            syncTime_ = value;
+          }
+          onChanged();
+        } else {
+          syncTimeBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.lawnmower.Timestamp sync_time = 1;</code>
+       */
+      public Builder clearSyncTime() {
+        if (syncTimeBuilder_ == null) {
+          syncTime_ = null;
+          onChanged();
+        } else {
+          syncTime_ = null;
+          syncTimeBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.lawnmower.Timestamp sync_time = 1;</code>
+       */
+      public lawnmower.Message.Timestamp.Builder getSyncTimeBuilder() {
+        
+        onChanged();
+        return getSyncTimeFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.lawnmower.Timestamp sync_time = 1;</code>
+       */
+      public lawnmower.Message.TimestampOrBuilder getSyncTimeOrBuilder() {
+        if (syncTimeBuilder_ != null) {
+          return syncTimeBuilder_.getMessageOrBuilder();
+        } else {
+          return syncTime_ == null ?
+              lawnmower.Message.Timestamp.getDefaultInstance() : syncTime_;
+        }
+      }
+      /**
+       * <code>.lawnmower.Timestamp sync_time = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          lawnmower.Message.Timestamp, lawnmower.Message.Timestamp.Builder, lawnmower.Message.TimestampOrBuilder> 
+          getSyncTimeFieldBuilder() {
+        if (syncTimeBuilder_ == null) {
+          syncTimeBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              lawnmower.Message.Timestamp, lawnmower.Message.Timestamp.Builder, lawnmower.Message.TimestampOrBuilder>(
+                  getSyncTime(),
+                  getParentForChildren(),
+                  isClean());
+          syncTime_ = null;
+        }
+        return syncTimeBuilder_;
+      }
+
+      private int roomId_ ;
+      /**
+       * <code>uint32 room_id = 2;</code>
+       * @return The roomId.
+       */
+      @java.lang.Override
+      public int getRoomId() {
+        return roomId_;
+      }
+      /**
+       * <code>uint32 room_id = 2;</code>
+       * @param value The roomId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRoomId(int value) {
+        
+        roomId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint32 room_id = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRoomId() {
+        
+        roomId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private lawnmower.Message.S2C_ProjectileSpawn projectileSpawn_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          lawnmower.Message.S2C_ProjectileSpawn, lawnmower.Message.S2C_ProjectileSpawn.Builder, lawnmower.Message.S2C_ProjectileSpawnOrBuilder> projectileSpawnBuilder_;
+      /**
+       * <code>.lawnmower.S2C_ProjectileSpawn projectile_spawn = 3;</code>
+       * @return Whether the projectileSpawn field is set.
+       */
+      public boolean hasProjectileSpawn() {
+        return projectileSpawnBuilder_ != null || projectileSpawn_ != null;
+      }
+      /**
+       * <code>.lawnmower.S2C_ProjectileSpawn projectile_spawn = 3;</code>
+       * @return The projectileSpawn.
+       */
+      public lawnmower.Message.S2C_ProjectileSpawn getProjectileSpawn() {
+        if (projectileSpawnBuilder_ == null) {
+          return projectileSpawn_ == null ? lawnmower.Message.S2C_ProjectileSpawn.getDefaultInstance() : projectileSpawn_;
+        } else {
+          return projectileSpawnBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.lawnmower.S2C_ProjectileSpawn projectile_spawn = 3;</code>
+       */
+      public Builder setProjectileSpawn(lawnmower.Message.S2C_ProjectileSpawn value) {
+        if (projectileSpawnBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          projectileSpawn_ = value;
+          onChanged();
+        } else {
+          projectileSpawnBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.lawnmower.S2C_ProjectileSpawn projectile_spawn = 3;</code>
+       */
+      public Builder setProjectileSpawn(
+          lawnmower.Message.S2C_ProjectileSpawn.Builder builderForValue) {
+        if (projectileSpawnBuilder_ == null) {
+          projectileSpawn_ = builderForValue.build();
+          onChanged();
+        } else {
+          projectileSpawnBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.lawnmower.S2C_ProjectileSpawn projectile_spawn = 3;</code>
+       */
+      public Builder mergeProjectileSpawn(lawnmower.Message.S2C_ProjectileSpawn value) {
+        if (projectileSpawnBuilder_ == null) {
+          if (projectileSpawn_ != null) {
+            projectileSpawn_ =
+              lawnmower.Message.S2C_ProjectileSpawn.newBuilder(projectileSpawn_).mergeFrom(value).buildPartial();
+          } else {
+            projectileSpawn_ = value;
+          }
+          onChanged();
+        } else {
+          projectileSpawnBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.lawnmower.S2C_ProjectileSpawn projectile_spawn = 3;</code>
+       */
+      public Builder clearProjectileSpawn() {
+        if (projectileSpawnBuilder_ == null) {
+          projectileSpawn_ = null;
+          onChanged();
+        } else {
+          projectileSpawn_ = null;
+          projectileSpawnBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.lawnmower.S2C_ProjectileSpawn projectile_spawn = 3;</code>
+       */
+      public lawnmower.Message.S2C_ProjectileSpawn.Builder getProjectileSpawnBuilder() {
+        
+        onChanged();
+        return getProjectileSpawnFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.lawnmower.S2C_ProjectileSpawn projectile_spawn = 3;</code>
+       */
+      public lawnmower.Message.S2C_ProjectileSpawnOrBuilder getProjectileSpawnOrBuilder() {
+        if (projectileSpawnBuilder_ != null) {
+          return projectileSpawnBuilder_.getMessageOrBuilder();
+        } else {
+          return projectileSpawn_ == null ?
+              lawnmower.Message.S2C_ProjectileSpawn.getDefaultInstance() : projectileSpawn_;
+        }
+      }
+      /**
+       * <code>.lawnmower.S2C_ProjectileSpawn projectile_spawn = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          lawnmower.Message.S2C_ProjectileSpawn, lawnmower.Message.S2C_ProjectileSpawn.Builder, lawnmower.Message.S2C_ProjectileSpawnOrBuilder> 
+          getProjectileSpawnFieldBuilder() {
+        if (projectileSpawnBuilder_ == null) {
+          projectileSpawnBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              lawnmower.Message.S2C_ProjectileSpawn, lawnmower.Message.S2C_ProjectileSpawn.Builder, lawnmower.Message.S2C_ProjectileSpawnOrBuilder>(
+                  getProjectileSpawn(),
+                  getParentForChildren(),
+                  isClean());
+          projectileSpawn_ = null;
+        }
+        return projectileSpawnBuilder_;
+      }
+
+      private lawnmower.Message.S2C_ProjectileDespawn projectileDespawn_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          lawnmower.Message.S2C_ProjectileDespawn, lawnmower.Message.S2C_ProjectileDespawn.Builder, lawnmower.Message.S2C_ProjectileDespawnOrBuilder> projectileDespawnBuilder_;
+      /**
+       * <code>.lawnmower.S2C_ProjectileDespawn projectile_despawn = 4;</code>
+       * @return Whether the projectileDespawn field is set.
+       */
+      public boolean hasProjectileDespawn() {
+        return projectileDespawnBuilder_ != null || projectileDespawn_ != null;
+      }
+      /**
+       * <code>.lawnmower.S2C_ProjectileDespawn projectile_despawn = 4;</code>
+       * @return The projectileDespawn.
+       */
+      public lawnmower.Message.S2C_ProjectileDespawn getProjectileDespawn() {
+        if (projectileDespawnBuilder_ == null) {
+          return projectileDespawn_ == null ? lawnmower.Message.S2C_ProjectileDespawn.getDefaultInstance() : projectileDespawn_;
+        } else {
+          return projectileDespawnBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.lawnmower.S2C_ProjectileDespawn projectile_despawn = 4;</code>
+       */
+      public Builder setProjectileDespawn(lawnmower.Message.S2C_ProjectileDespawn value) {
+        if (projectileDespawnBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          projectileDespawn_ = value;
+          onChanged();
+        } else {
+          projectileDespawnBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.lawnmower.S2C_ProjectileDespawn projectile_despawn = 4;</code>
+       */
+      public Builder setProjectileDespawn(
+          lawnmower.Message.S2C_ProjectileDespawn.Builder builderForValue) {
+        if (projectileDespawnBuilder_ == null) {
+          projectileDespawn_ = builderForValue.build();
+          onChanged();
+        } else {
+          projectileDespawnBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.lawnmower.S2C_ProjectileDespawn projectile_despawn = 4;</code>
+       */
+      public Builder mergeProjectileDespawn(lawnmower.Message.S2C_ProjectileDespawn value) {
+        if (projectileDespawnBuilder_ == null) {
+          if (projectileDespawn_ != null) {
+            projectileDespawn_ =
+              lawnmower.Message.S2C_ProjectileDespawn.newBuilder(projectileDespawn_).mergeFrom(value).buildPartial();
+          } else {
+            projectileDespawn_ = value;
+          }
+          onChanged();
+        } else {
+          projectileDespawnBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.lawnmower.S2C_ProjectileDespawn projectile_despawn = 4;</code>
+       */
+      public Builder clearProjectileDespawn() {
+        if (projectileDespawnBuilder_ == null) {
+          projectileDespawn_ = null;
+          onChanged();
+        } else {
+          projectileDespawn_ = null;
+          projectileDespawnBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.lawnmower.S2C_ProjectileDespawn projectile_despawn = 4;</code>
+       */
+      public lawnmower.Message.S2C_ProjectileDespawn.Builder getProjectileDespawnBuilder() {
+        
+        onChanged();
+        return getProjectileDespawnFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.lawnmower.S2C_ProjectileDespawn projectile_despawn = 4;</code>
+       */
+      public lawnmower.Message.S2C_ProjectileDespawnOrBuilder getProjectileDespawnOrBuilder() {
+        if (projectileDespawnBuilder_ != null) {
+          return projectileDespawnBuilder_.getMessageOrBuilder();
+        } else {
+          return projectileDespawn_ == null ?
+              lawnmower.Message.S2C_ProjectileDespawn.getDefaultInstance() : projectileDespawn_;
+        }
+      }
+      /**
+       * <code>.lawnmower.S2C_ProjectileDespawn projectile_despawn = 4;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          lawnmower.Message.S2C_ProjectileDespawn, lawnmower.Message.S2C_ProjectileDespawn.Builder, lawnmower.Message.S2C_ProjectileDespawnOrBuilder> 
+          getProjectileDespawnFieldBuilder() {
+        if (projectileDespawnBuilder_ == null) {
+          projectileDespawnBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              lawnmower.Message.S2C_ProjectileDespawn, lawnmower.Message.S2C_ProjectileDespawn.Builder, lawnmower.Message.S2C_ProjectileDespawnOrBuilder>(
+                  getProjectileDespawn(),
+                  getParentForChildren(),
+                  isClean());
+          projectileDespawn_ = null;
+        }
+        return projectileDespawnBuilder_;
+      }
+
+      private lawnmower.Message.S2C_DroppedItem droppedItem_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          lawnmower.Message.S2C_DroppedItem, lawnmower.Message.S2C_DroppedItem.Builder, lawnmower.Message.S2C_DroppedItemOrBuilder> droppedItemBuilder_;
+      /**
+       * <code>.lawnmower.S2C_DroppedItem dropped_item = 5;</code>
+       * @return Whether the droppedItem field is set.
+       */
+      public boolean hasDroppedItem() {
+        return droppedItemBuilder_ != null || droppedItem_ != null;
+      }
+      /**
+       * <code>.lawnmower.S2C_DroppedItem dropped_item = 5;</code>
+       * @return The droppedItem.
+       */
+      public lawnmower.Message.S2C_DroppedItem getDroppedItem() {
+        if (droppedItemBuilder_ == null) {
+          return droppedItem_ == null ? lawnmower.Message.S2C_DroppedItem.getDefaultInstance() : droppedItem_;
+        } else {
+          return droppedItemBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.lawnmower.S2C_DroppedItem dropped_item = 5;</code>
+       */
+      public Builder setDroppedItem(lawnmower.Message.S2C_DroppedItem value) {
+        if (droppedItemBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          droppedItem_ = value;
+          onChanged();
+        } else {
+          droppedItemBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.lawnmower.S2C_DroppedItem dropped_item = 5;</code>
+       */
+      public Builder setDroppedItem(
+          lawnmower.Message.S2C_DroppedItem.Builder builderForValue) {
+        if (droppedItemBuilder_ == null) {
+          droppedItem_ = builderForValue.build();
+          onChanged();
+        } else {
+          droppedItemBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.lawnmower.S2C_DroppedItem dropped_item = 5;</code>
+       */
+      public Builder mergeDroppedItem(lawnmower.Message.S2C_DroppedItem value) {
+        if (droppedItemBuilder_ == null) {
+          if (droppedItem_ != null) {
+            droppedItem_ =
+              lawnmower.Message.S2C_DroppedItem.newBuilder(droppedItem_).mergeFrom(value).buildPartial();
+          } else {
+            droppedItem_ = value;
+          }
+          onChanged();
+        } else {
+          droppedItemBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.lawnmower.S2C_DroppedItem dropped_item = 5;</code>
+       */
+      public Builder clearDroppedItem() {
+        if (droppedItemBuilder_ == null) {
+          droppedItem_ = null;
+          onChanged();
+        } else {
+          droppedItem_ = null;
+          droppedItemBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.lawnmower.S2C_DroppedItem dropped_item = 5;</code>
+       */
+      public lawnmower.Message.S2C_DroppedItem.Builder getDroppedItemBuilder() {
+        
+        onChanged();
+        return getDroppedItemFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.lawnmower.S2C_DroppedItem dropped_item = 5;</code>
+       */
+      public lawnmower.Message.S2C_DroppedItemOrBuilder getDroppedItemOrBuilder() {
+        if (droppedItemBuilder_ != null) {
+          return droppedItemBuilder_.getMessageOrBuilder();
+        } else {
+          return droppedItem_ == null ?
+              lawnmower.Message.S2C_DroppedItem.getDefaultInstance() : droppedItem_;
+        }
+      }
+      /**
+       * <code>.lawnmower.S2C_DroppedItem dropped_item = 5;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          lawnmower.Message.S2C_DroppedItem, lawnmower.Message.S2C_DroppedItem.Builder, lawnmower.Message.S2C_DroppedItemOrBuilder> 
+          getDroppedItemFieldBuilder() {
+        if (droppedItemBuilder_ == null) {
+          droppedItemBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              lawnmower.Message.S2C_DroppedItem, lawnmower.Message.S2C_DroppedItem.Builder, lawnmower.Message.S2C_DroppedItemOrBuilder>(
+                  getDroppedItem(),
+                  getParentForChildren(),
+                  isClean());
+          droppedItem_ = null;
+        }
+        return droppedItemBuilder_;
+      }
+
+      private lawnmower.Message.S2C_EnemyAttackStateSync enemyAttackState_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          lawnmower.Message.S2C_EnemyAttackStateSync, lawnmower.Message.S2C_EnemyAttackStateSync.Builder, lawnmower.Message.S2C_EnemyAttackStateSyncOrBuilder> enemyAttackStateBuilder_;
+      /**
+       * <code>.lawnmower.S2C_EnemyAttackStateSync enemy_attack_state = 6;</code>
+       * @return Whether the enemyAttackState field is set.
+       */
+      public boolean hasEnemyAttackState() {
+        return enemyAttackStateBuilder_ != null || enemyAttackState_ != null;
+      }
+      /**
+       * <code>.lawnmower.S2C_EnemyAttackStateSync enemy_attack_state = 6;</code>
+       * @return The enemyAttackState.
+       */
+      public lawnmower.Message.S2C_EnemyAttackStateSync getEnemyAttackState() {
+        if (enemyAttackStateBuilder_ == null) {
+          return enemyAttackState_ == null ? lawnmower.Message.S2C_EnemyAttackStateSync.getDefaultInstance() : enemyAttackState_;
+        } else {
+          return enemyAttackStateBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.lawnmower.S2C_EnemyAttackStateSync enemy_attack_state = 6;</code>
+       */
+      public Builder setEnemyAttackState(lawnmower.Message.S2C_EnemyAttackStateSync value) {
+        if (enemyAttackStateBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          enemyAttackState_ = value;
+          onChanged();
+        } else {
+          enemyAttackStateBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.lawnmower.S2C_EnemyAttackStateSync enemy_attack_state = 6;</code>
+       */
+      public Builder setEnemyAttackState(
+          lawnmower.Message.S2C_EnemyAttackStateSync.Builder builderForValue) {
+        if (enemyAttackStateBuilder_ == null) {
+          enemyAttackState_ = builderForValue.build();
+          onChanged();
+        } else {
+          enemyAttackStateBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.lawnmower.S2C_EnemyAttackStateSync enemy_attack_state = 6;</code>
+       */
+      public Builder mergeEnemyAttackState(lawnmower.Message.S2C_EnemyAttackStateSync value) {
+        if (enemyAttackStateBuilder_ == null) {
+          if (enemyAttackState_ != null) {
+            enemyAttackState_ =
+              lawnmower.Message.S2C_EnemyAttackStateSync.newBuilder(enemyAttackState_).mergeFrom(value).buildPartial();
+          } else {
+            enemyAttackState_ = value;
+          }
+          onChanged();
+        } else {
+          enemyAttackStateBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.lawnmower.S2C_EnemyAttackStateSync enemy_attack_state = 6;</code>
+       */
+      public Builder clearEnemyAttackState() {
+        if (enemyAttackStateBuilder_ == null) {
+          enemyAttackState_ = null;
+          onChanged();
+        } else {
+          enemyAttackState_ = null;
+          enemyAttackStateBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.lawnmower.S2C_EnemyAttackStateSync enemy_attack_state = 6;</code>
+       */
+      public lawnmower.Message.S2C_EnemyAttackStateSync.Builder getEnemyAttackStateBuilder() {
+        
+        onChanged();
+        return getEnemyAttackStateFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.lawnmower.S2C_EnemyAttackStateSync enemy_attack_state = 6;</code>
+       */
+      public lawnmower.Message.S2C_EnemyAttackStateSyncOrBuilder getEnemyAttackStateOrBuilder() {
+        if (enemyAttackStateBuilder_ != null) {
+          return enemyAttackStateBuilder_.getMessageOrBuilder();
+        } else {
+          return enemyAttackState_ == null ?
+              lawnmower.Message.S2C_EnemyAttackStateSync.getDefaultInstance() : enemyAttackState_;
+        }
+      }
+      /**
+       * <code>.lawnmower.S2C_EnemyAttackStateSync enemy_attack_state = 6;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          lawnmower.Message.S2C_EnemyAttackStateSync, lawnmower.Message.S2C_EnemyAttackStateSync.Builder, lawnmower.Message.S2C_EnemyAttackStateSyncOrBuilder> 
+          getEnemyAttackStateFieldBuilder() {
+        if (enemyAttackStateBuilder_ == null) {
+          enemyAttackStateBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              lawnmower.Message.S2C_EnemyAttackStateSync, lawnmower.Message.S2C_EnemyAttackStateSync.Builder, lawnmower.Message.S2C_EnemyAttackStateSyncOrBuilder>(
+                  getEnemyAttackState(),
+                  getParentForChildren(),
+                  isClean());
+          enemyAttackState_ = null;
+        }
+        return enemyAttackStateBuilder_;
+      }
+
+      private java.util.List<lawnmower.Message.S2C_PlayerHurt> playerHurts_ =
+        java.util.Collections.emptyList();
+      private void ensurePlayerHurtsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          playerHurts_ = new java.util.ArrayList<lawnmower.Message.S2C_PlayerHurt>(playerHurts_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          lawnmower.Message.S2C_PlayerHurt, lawnmower.Message.S2C_PlayerHurt.Builder, lawnmower.Message.S2C_PlayerHurtOrBuilder> playerHurtsBuilder_;
+
+      /**
+       * <code>repeated .lawnmower.S2C_PlayerHurt player_hurts = 7;</code>
+       */
+      public java.util.List<lawnmower.Message.S2C_PlayerHurt> getPlayerHurtsList() {
+        if (playerHurtsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(playerHurts_);
+        } else {
+          return playerHurtsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_PlayerHurt player_hurts = 7;</code>
+       */
+      public int getPlayerHurtsCount() {
+        if (playerHurtsBuilder_ == null) {
+          return playerHurts_.size();
+        } else {
+          return playerHurtsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_PlayerHurt player_hurts = 7;</code>
+       */
+      public lawnmower.Message.S2C_PlayerHurt getPlayerHurts(int index) {
+        if (playerHurtsBuilder_ == null) {
+          return playerHurts_.get(index);
+        } else {
+          return playerHurtsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_PlayerHurt player_hurts = 7;</code>
+       */
+      public Builder setPlayerHurts(
+          int index, lawnmower.Message.S2C_PlayerHurt value) {
+        if (playerHurtsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePlayerHurtsIsMutable();
+          playerHurts_.set(index, value);
+          onChanged();
+        } else {
+          playerHurtsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_PlayerHurt player_hurts = 7;</code>
+       */
+      public Builder setPlayerHurts(
+          int index, lawnmower.Message.S2C_PlayerHurt.Builder builderForValue) {
+        if (playerHurtsBuilder_ == null) {
+          ensurePlayerHurtsIsMutable();
+          playerHurts_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          playerHurtsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_PlayerHurt player_hurts = 7;</code>
+       */
+      public Builder addPlayerHurts(lawnmower.Message.S2C_PlayerHurt value) {
+        if (playerHurtsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePlayerHurtsIsMutable();
+          playerHurts_.add(value);
+          onChanged();
+        } else {
+          playerHurtsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_PlayerHurt player_hurts = 7;</code>
+       */
+      public Builder addPlayerHurts(
+          int index, lawnmower.Message.S2C_PlayerHurt value) {
+        if (playerHurtsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePlayerHurtsIsMutable();
+          playerHurts_.add(index, value);
+          onChanged();
+        } else {
+          playerHurtsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_PlayerHurt player_hurts = 7;</code>
+       */
+      public Builder addPlayerHurts(
+          lawnmower.Message.S2C_PlayerHurt.Builder builderForValue) {
+        if (playerHurtsBuilder_ == null) {
+          ensurePlayerHurtsIsMutable();
+          playerHurts_.add(builderForValue.build());
+          onChanged();
+        } else {
+          playerHurtsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_PlayerHurt player_hurts = 7;</code>
+       */
+      public Builder addPlayerHurts(
+          int index, lawnmower.Message.S2C_PlayerHurt.Builder builderForValue) {
+        if (playerHurtsBuilder_ == null) {
+          ensurePlayerHurtsIsMutable();
+          playerHurts_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          playerHurtsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_PlayerHurt player_hurts = 7;</code>
+       */
+      public Builder addAllPlayerHurts(
+          java.lang.Iterable<? extends lawnmower.Message.S2C_PlayerHurt> values) {
+        if (playerHurtsBuilder_ == null) {
+          ensurePlayerHurtsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, playerHurts_);
+          onChanged();
+        } else {
+          playerHurtsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_PlayerHurt player_hurts = 7;</code>
+       */
+      public Builder clearPlayerHurts() {
+        if (playerHurtsBuilder_ == null) {
+          playerHurts_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          playerHurtsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_PlayerHurt player_hurts = 7;</code>
+       */
+      public Builder removePlayerHurts(int index) {
+        if (playerHurtsBuilder_ == null) {
+          ensurePlayerHurtsIsMutable();
+          playerHurts_.remove(index);
+          onChanged();
+        } else {
+          playerHurtsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_PlayerHurt player_hurts = 7;</code>
+       */
+      public lawnmower.Message.S2C_PlayerHurt.Builder getPlayerHurtsBuilder(
+          int index) {
+        return getPlayerHurtsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_PlayerHurt player_hurts = 7;</code>
+       */
+      public lawnmower.Message.S2C_PlayerHurtOrBuilder getPlayerHurtsOrBuilder(
+          int index) {
+        if (playerHurtsBuilder_ == null) {
+          return playerHurts_.get(index);  } else {
+          return playerHurtsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_PlayerHurt player_hurts = 7;</code>
+       */
+      public java.util.List<? extends lawnmower.Message.S2C_PlayerHurtOrBuilder> 
+           getPlayerHurtsOrBuilderList() {
+        if (playerHurtsBuilder_ != null) {
+          return playerHurtsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(playerHurts_);
+        }
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_PlayerHurt player_hurts = 7;</code>
+       */
+      public lawnmower.Message.S2C_PlayerHurt.Builder addPlayerHurtsBuilder() {
+        return getPlayerHurtsFieldBuilder().addBuilder(
+            lawnmower.Message.S2C_PlayerHurt.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_PlayerHurt player_hurts = 7;</code>
+       */
+      public lawnmower.Message.S2C_PlayerHurt.Builder addPlayerHurtsBuilder(
+          int index) {
+        return getPlayerHurtsFieldBuilder().addBuilder(
+            index, lawnmower.Message.S2C_PlayerHurt.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_PlayerHurt player_hurts = 7;</code>
+       */
+      public java.util.List<lawnmower.Message.S2C_PlayerHurt.Builder> 
+           getPlayerHurtsBuilderList() {
+        return getPlayerHurtsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          lawnmower.Message.S2C_PlayerHurt, lawnmower.Message.S2C_PlayerHurt.Builder, lawnmower.Message.S2C_PlayerHurtOrBuilder> 
+          getPlayerHurtsFieldBuilder() {
+        if (playerHurtsBuilder_ == null) {
+          playerHurtsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              lawnmower.Message.S2C_PlayerHurt, lawnmower.Message.S2C_PlayerHurt.Builder, lawnmower.Message.S2C_PlayerHurtOrBuilder>(
+                  playerHurts_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          playerHurts_ = null;
+        }
+        return playerHurtsBuilder_;
+      }
+
+      private java.util.List<lawnmower.Message.S2C_EnemyDied> enemyDieds_ =
+        java.util.Collections.emptyList();
+      private void ensureEnemyDiedsIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          enemyDieds_ = new java.util.ArrayList<lawnmower.Message.S2C_EnemyDied>(enemyDieds_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          lawnmower.Message.S2C_EnemyDied, lawnmower.Message.S2C_EnemyDied.Builder, lawnmower.Message.S2C_EnemyDiedOrBuilder> enemyDiedsBuilder_;
+
+      /**
+       * <code>repeated .lawnmower.S2C_EnemyDied enemy_dieds = 8;</code>
+       */
+      public java.util.List<lawnmower.Message.S2C_EnemyDied> getEnemyDiedsList() {
+        if (enemyDiedsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(enemyDieds_);
+        } else {
+          return enemyDiedsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_EnemyDied enemy_dieds = 8;</code>
+       */
+      public int getEnemyDiedsCount() {
+        if (enemyDiedsBuilder_ == null) {
+          return enemyDieds_.size();
+        } else {
+          return enemyDiedsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_EnemyDied enemy_dieds = 8;</code>
+       */
+      public lawnmower.Message.S2C_EnemyDied getEnemyDieds(int index) {
+        if (enemyDiedsBuilder_ == null) {
+          return enemyDieds_.get(index);
+        } else {
+          return enemyDiedsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_EnemyDied enemy_dieds = 8;</code>
+       */
+      public Builder setEnemyDieds(
+          int index, lawnmower.Message.S2C_EnemyDied value) {
+        if (enemyDiedsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEnemyDiedsIsMutable();
+          enemyDieds_.set(index, value);
+          onChanged();
+        } else {
+          enemyDiedsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_EnemyDied enemy_dieds = 8;</code>
+       */
+      public Builder setEnemyDieds(
+          int index, lawnmower.Message.S2C_EnemyDied.Builder builderForValue) {
+        if (enemyDiedsBuilder_ == null) {
+          ensureEnemyDiedsIsMutable();
+          enemyDieds_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          enemyDiedsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_EnemyDied enemy_dieds = 8;</code>
+       */
+      public Builder addEnemyDieds(lawnmower.Message.S2C_EnemyDied value) {
+        if (enemyDiedsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEnemyDiedsIsMutable();
+          enemyDieds_.add(value);
+          onChanged();
+        } else {
+          enemyDiedsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_EnemyDied enemy_dieds = 8;</code>
+       */
+      public Builder addEnemyDieds(
+          int index, lawnmower.Message.S2C_EnemyDied value) {
+        if (enemyDiedsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEnemyDiedsIsMutable();
+          enemyDieds_.add(index, value);
+          onChanged();
+        } else {
+          enemyDiedsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_EnemyDied enemy_dieds = 8;</code>
+       */
+      public Builder addEnemyDieds(
+          lawnmower.Message.S2C_EnemyDied.Builder builderForValue) {
+        if (enemyDiedsBuilder_ == null) {
+          ensureEnemyDiedsIsMutable();
+          enemyDieds_.add(builderForValue.build());
+          onChanged();
+        } else {
+          enemyDiedsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_EnemyDied enemy_dieds = 8;</code>
+       */
+      public Builder addEnemyDieds(
+          int index, lawnmower.Message.S2C_EnemyDied.Builder builderForValue) {
+        if (enemyDiedsBuilder_ == null) {
+          ensureEnemyDiedsIsMutable();
+          enemyDieds_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          enemyDiedsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_EnemyDied enemy_dieds = 8;</code>
+       */
+      public Builder addAllEnemyDieds(
+          java.lang.Iterable<? extends lawnmower.Message.S2C_EnemyDied> values) {
+        if (enemyDiedsBuilder_ == null) {
+          ensureEnemyDiedsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, enemyDieds_);
+          onChanged();
+        } else {
+          enemyDiedsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_EnemyDied enemy_dieds = 8;</code>
+       */
+      public Builder clearEnemyDieds() {
+        if (enemyDiedsBuilder_ == null) {
+          enemyDieds_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          enemyDiedsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_EnemyDied enemy_dieds = 8;</code>
+       */
+      public Builder removeEnemyDieds(int index) {
+        if (enemyDiedsBuilder_ == null) {
+          ensureEnemyDiedsIsMutable();
+          enemyDieds_.remove(index);
+          onChanged();
+        } else {
+          enemyDiedsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_EnemyDied enemy_dieds = 8;</code>
+       */
+      public lawnmower.Message.S2C_EnemyDied.Builder getEnemyDiedsBuilder(
+          int index) {
+        return getEnemyDiedsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_EnemyDied enemy_dieds = 8;</code>
+       */
+      public lawnmower.Message.S2C_EnemyDiedOrBuilder getEnemyDiedsOrBuilder(
+          int index) {
+        if (enemyDiedsBuilder_ == null) {
+          return enemyDieds_.get(index);  } else {
+          return enemyDiedsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_EnemyDied enemy_dieds = 8;</code>
+       */
+      public java.util.List<? extends lawnmower.Message.S2C_EnemyDiedOrBuilder> 
+           getEnemyDiedsOrBuilderList() {
+        if (enemyDiedsBuilder_ != null) {
+          return enemyDiedsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(enemyDieds_);
+        }
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_EnemyDied enemy_dieds = 8;</code>
+       */
+      public lawnmower.Message.S2C_EnemyDied.Builder addEnemyDiedsBuilder() {
+        return getEnemyDiedsFieldBuilder().addBuilder(
+            lawnmower.Message.S2C_EnemyDied.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_EnemyDied enemy_dieds = 8;</code>
+       */
+      public lawnmower.Message.S2C_EnemyDied.Builder addEnemyDiedsBuilder(
+          int index) {
+        return getEnemyDiedsFieldBuilder().addBuilder(
+            index, lawnmower.Message.S2C_EnemyDied.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_EnemyDied enemy_dieds = 8;</code>
+       */
+      public java.util.List<lawnmower.Message.S2C_EnemyDied.Builder> 
+           getEnemyDiedsBuilderList() {
+        return getEnemyDiedsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          lawnmower.Message.S2C_EnemyDied, lawnmower.Message.S2C_EnemyDied.Builder, lawnmower.Message.S2C_EnemyDiedOrBuilder> 
+          getEnemyDiedsFieldBuilder() {
+        if (enemyDiedsBuilder_ == null) {
+          enemyDiedsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              lawnmower.Message.S2C_EnemyDied, lawnmower.Message.S2C_EnemyDied.Builder, lawnmower.Message.S2C_EnemyDiedOrBuilder>(
+                  enemyDieds_,
+                  ((bitField0_ & 0x00000002) != 0),
+                  getParentForChildren(),
+                  isClean());
+          enemyDieds_ = null;
+        }
+        return enemyDiedsBuilder_;
+      }
+
+      private java.util.List<lawnmower.Message.S2C_PlayerLevelUp> levelUps_ =
+        java.util.Collections.emptyList();
+      private void ensureLevelUpsIsMutable() {
+        if (!((bitField0_ & 0x00000004) != 0)) {
+          levelUps_ = new java.util.ArrayList<lawnmower.Message.S2C_PlayerLevelUp>(levelUps_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          lawnmower.Message.S2C_PlayerLevelUp, lawnmower.Message.S2C_PlayerLevelUp.Builder, lawnmower.Message.S2C_PlayerLevelUpOrBuilder> levelUpsBuilder_;
+
+      /**
+       * <code>repeated .lawnmower.S2C_PlayerLevelUp level_ups = 9;</code>
+       */
+      public java.util.List<lawnmower.Message.S2C_PlayerLevelUp> getLevelUpsList() {
+        if (levelUpsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(levelUps_);
+        } else {
+          return levelUpsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_PlayerLevelUp level_ups = 9;</code>
+       */
+      public int getLevelUpsCount() {
+        if (levelUpsBuilder_ == null) {
+          return levelUps_.size();
+        } else {
+          return levelUpsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_PlayerLevelUp level_ups = 9;</code>
+       */
+      public lawnmower.Message.S2C_PlayerLevelUp getLevelUps(int index) {
+        if (levelUpsBuilder_ == null) {
+          return levelUps_.get(index);
+        } else {
+          return levelUpsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_PlayerLevelUp level_ups = 9;</code>
+       */
+      public Builder setLevelUps(
+          int index, lawnmower.Message.S2C_PlayerLevelUp value) {
+        if (levelUpsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureLevelUpsIsMutable();
+          levelUps_.set(index, value);
+          onChanged();
+        } else {
+          levelUpsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_PlayerLevelUp level_ups = 9;</code>
+       */
+      public Builder setLevelUps(
+          int index, lawnmower.Message.S2C_PlayerLevelUp.Builder builderForValue) {
+        if (levelUpsBuilder_ == null) {
+          ensureLevelUpsIsMutable();
+          levelUps_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          levelUpsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_PlayerLevelUp level_ups = 9;</code>
+       */
+      public Builder addLevelUps(lawnmower.Message.S2C_PlayerLevelUp value) {
+        if (levelUpsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureLevelUpsIsMutable();
+          levelUps_.add(value);
+          onChanged();
+        } else {
+          levelUpsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_PlayerLevelUp level_ups = 9;</code>
+       */
+      public Builder addLevelUps(
+          int index, lawnmower.Message.S2C_PlayerLevelUp value) {
+        if (levelUpsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureLevelUpsIsMutable();
+          levelUps_.add(index, value);
+          onChanged();
+        } else {
+          levelUpsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_PlayerLevelUp level_ups = 9;</code>
+       */
+      public Builder addLevelUps(
+          lawnmower.Message.S2C_PlayerLevelUp.Builder builderForValue) {
+        if (levelUpsBuilder_ == null) {
+          ensureLevelUpsIsMutable();
+          levelUps_.add(builderForValue.build());
+          onChanged();
+        } else {
+          levelUpsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_PlayerLevelUp level_ups = 9;</code>
+       */
+      public Builder addLevelUps(
+          int index, lawnmower.Message.S2C_PlayerLevelUp.Builder builderForValue) {
+        if (levelUpsBuilder_ == null) {
+          ensureLevelUpsIsMutable();
+          levelUps_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          levelUpsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_PlayerLevelUp level_ups = 9;</code>
+       */
+      public Builder addAllLevelUps(
+          java.lang.Iterable<? extends lawnmower.Message.S2C_PlayerLevelUp> values) {
+        if (levelUpsBuilder_ == null) {
+          ensureLevelUpsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, levelUps_);
+          onChanged();
+        } else {
+          levelUpsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_PlayerLevelUp level_ups = 9;</code>
+       */
+      public Builder clearLevelUps() {
+        if (levelUpsBuilder_ == null) {
+          levelUps_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          levelUpsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_PlayerLevelUp level_ups = 9;</code>
+       */
+      public Builder removeLevelUps(int index) {
+        if (levelUpsBuilder_ == null) {
+          ensureLevelUpsIsMutable();
+          levelUps_.remove(index);
+          onChanged();
+        } else {
+          levelUpsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_PlayerLevelUp level_ups = 9;</code>
+       */
+      public lawnmower.Message.S2C_PlayerLevelUp.Builder getLevelUpsBuilder(
+          int index) {
+        return getLevelUpsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_PlayerLevelUp level_ups = 9;</code>
+       */
+      public lawnmower.Message.S2C_PlayerLevelUpOrBuilder getLevelUpsOrBuilder(
+          int index) {
+        if (levelUpsBuilder_ == null) {
+          return levelUps_.get(index);  } else {
+          return levelUpsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_PlayerLevelUp level_ups = 9;</code>
+       */
+      public java.util.List<? extends lawnmower.Message.S2C_PlayerLevelUpOrBuilder> 
+           getLevelUpsOrBuilderList() {
+        if (levelUpsBuilder_ != null) {
+          return levelUpsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(levelUps_);
+        }
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_PlayerLevelUp level_ups = 9;</code>
+       */
+      public lawnmower.Message.S2C_PlayerLevelUp.Builder addLevelUpsBuilder() {
+        return getLevelUpsFieldBuilder().addBuilder(
+            lawnmower.Message.S2C_PlayerLevelUp.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_PlayerLevelUp level_ups = 9;</code>
+       */
+      public lawnmower.Message.S2C_PlayerLevelUp.Builder addLevelUpsBuilder(
+          int index) {
+        return getLevelUpsFieldBuilder().addBuilder(
+            index, lawnmower.Message.S2C_PlayerLevelUp.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .lawnmower.S2C_PlayerLevelUp level_ups = 9;</code>
+       */
+      public java.util.List<lawnmower.Message.S2C_PlayerLevelUp.Builder> 
+           getLevelUpsBuilderList() {
+        return getLevelUpsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          lawnmower.Message.S2C_PlayerLevelUp, lawnmower.Message.S2C_PlayerLevelUp.Builder, lawnmower.Message.S2C_PlayerLevelUpOrBuilder> 
+          getLevelUpsFieldBuilder() {
+        if (levelUpsBuilder_ == null) {
+          levelUpsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              lawnmower.Message.S2C_PlayerLevelUp, lawnmower.Message.S2C_PlayerLevelUp.Builder, lawnmower.Message.S2C_PlayerLevelUpOrBuilder>(
+                  levelUps_,
+                  ((bitField0_ & 0x00000004) != 0),
+                  getParentForChildren(),
+                  isClean());
+          levelUps_ = null;
+        }
+        return levelUpsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:lawnmower.S2C_TickEventBundle)
+    }
+
+    // @@protoc_insertion_point(class_scope:lawnmower.S2C_TickEventBundle)
+    private static final lawnmower.Message.S2C_TickEventBundle DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new lawnmower.Message.S2C_TickEventBundle();
+    }
+
+    public static lawnmower.Message.S2C_TickEventBundle getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<S2C_TickEventBundle>
+        PARSER = new com.google.protobuf.AbstractParser<S2C_TickEventBundle>() {
+      @java.lang.Override
+      public S2C_TickEventBundle parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new S2C_TickEventBundle(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<S2C_TickEventBundle> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<S2C_TickEventBundle> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public lawnmower.Message.S2C_TickEventBundle getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
   public interface S2C_UpgradeRequestOrBuilder extends
       // @@protoc_insertion_point(interface_extends:lawnmower.S2C_UpgradeRequest)
       com.google.protobuf.MessageOrBuilder {
@@ -55470,12 +62688,127 @@ public final class Message {
      * @return The payload.
      */
     com.google.protobuf.ByteString getPayload();
+
+    /**
+     * <pre>
+     * ---- UDP 可靠层头部（双方都声明/支持 CLIENT_CAP_RELIABLE_UDP 时才填写）----
+     * </pre>
+     *
+     * <code>.lawnmower.UdpChannel channel = 3;</code>
+     * @return The enum numeric value on the wire for channel.
+     */
+    int getChannelValue();
+    /**
+     * <pre>
+     * ---- UDP 可靠层头部（双方都声明/支持 CLIENT_CAP_RELIABLE_UDP 时才填写）----
+     * </pre>
+     *
+     * <code>.lawnmower.UdpChannel channel = 3;</code>
+     * @return The channel.
+     */
+    lawnmower.Message.UdpChannel getChannel();
+
+    /**
+     * <pre>
+     * 发送方每个数据报递增的序号（重传使用新序号）
+     * </pre>
+     *
+     * <code>uint32 seq = 4;</code>
+     * @return The seq.
+     */
+    int getSeq();
+
+    /**
+     * <pre>
+     * 已收到的对端最大 seq
+     * </pre>
+     *
+     * <code>uint32 ack = 5;</code>
+     * @return The ack.
+     */
+    int getAck();
+
+    /**
+     * <pre>
+     * 位 i 表示 ack - 1 - i 已收到
+     * </pre>
+     *
+     * <code>fixed32 ack_bits = 6;</code>
+     * @return The ackBits.
+     */
+    int getAckBits();
+
+    /**
+     * <pre>
+     * 通道内消息序号，重传时不变，用于去重/排序
+     * </pre>
+     *
+     * <code>uint32 channel_seq = 7;</code>
+     * @return The channelSeq.
+     */
+    int getChannelSeq();
+
+    /**
+     * <pre>
+     * 发送方重置可靠状态（端点变化）时递增，接收方随之重置
+     * </pre>
+     *
+     * <code>uint32 epoch = 8;</code>
+     * @return The epoch.
+     */
+    int getEpoch();
+
+    /**
+     * <pre>
+     * ---- UDP 应用层分片（msg_type = MSG_UDP_FRAGMENT，仅发给带可靠层头部的客户端）----
+     * </pre>
+     *
+     * <code>uint32 fragment_id = 9;</code>
+     * @return The fragmentId.
+     */
+    int getFragmentId();
+
+    /**
+     * <pre>
+     * 从 0 开始
+     * </pre>
+     *
+     * <code>uint32 fragment_index = 10;</code>
+     * @return The fragmentIndex.
+     */
+    int getFragmentIndex();
+
+    /**
+     * <pre>
+     * 分片总数
+     * </pre>
+     *
+     * <code>uint32 fragment_count = 11;</code>
+     * @return The fragmentCount.
+     */
+    int getFragmentCount();
+
+    /**
+     * <pre>
+     * ---- 快照确认（客户端 -&gt; 服务器，随每个上行数据报携带）----
+     * </pre>
+     *
+     * <code>uint32 applied_tick = 12;</code>
+     * @return The appliedTick.
+     */
+    int getAppliedTick();
+
+    /**
+     * <pre>
+     * 客户端发现漏收，请求按 applied_tick 补发追帧同步
+     * </pre>
+     *
+     * <code>bool baseline_resync = 13;</code>
+     * @return The baselineResync.
+     */
+    boolean getBaselineResync();
   }
   /**
-   * <pre>
-   * 网络消息封装（通用包格式）
-   * </pre>
-   *
    * Protobuf type {@code lawnmower.Packet}
    */
   public static final class Packet extends
@@ -55490,6 +62823,7 @@ public final class Message {
     private Packet() {
       msgType_ = 0;
       payload_ = com.google.protobuf.ByteString.EMPTY;
+      channel_ = 0;
     }
 
     @java.lang.Override
@@ -55533,6 +62867,62 @@ public final class Message {
               payload_ = input.readBytes();
               break;
             }
+            case 24: {
+              int rawValue = input.readEnum();
+
+              channel_ = rawValue;
+              break;
+            }
+            case 32: {
+
+              seq_ = input.readUInt32();
+              break;
+            }
+            case 40: {
+
+              ack_ = input.readUInt32();
+              break;
+            }
+            case 53: {
+
+              ackBits_ = input.readFixed32();
+              break;
+            }
+            case 56: {
+
+              channelSeq_ = input.readUInt32();
+              break;
+            }
+            case 64: {
+
+              epoch_ = input.readUInt32();
+              break;
+            }
+            case 72: {
+
+              fragmentId_ = input.readUInt32();
+              break;
+            }
+            case 80: {
+
+              fragmentIndex_ = input.readUInt32();
+              break;
+            }
+            case 88: {
+
+              fragmentCount_ = input.readUInt32();
+              break;
+            }
+            case 96: {
+
+              appliedTick_ = input.readUInt32();
+              break;
+            }
+            case 104: {
+
+              baselineResync_ = input.readBool();
+              break;
+            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -55609,6 +62999,183 @@ public final class Message {
       return payload_;
     }
 
+    public static final int CHANNEL_FIELD_NUMBER = 3;
+    private int channel_;
+    /**
+     * <pre>
+     * ---- UDP 可靠层头部（双方都声明/支持 CLIENT_CAP_RELIABLE_UDP 时才填写）----
+     * </pre>
+     *
+     * <code>.lawnmower.UdpChannel channel = 3;</code>
+     * @return The enum numeric value on the wire for channel.
+     */
+    @java.lang.Override public int getChannelValue() {
+      return channel_;
+    }
+    /**
+     * <pre>
+     * ---- UDP 可靠层头部（双方都声明/支持 CLIENT_CAP_RELIABLE_UDP 时才填写）----
+     * </pre>
+     *
+     * <code>.lawnmower.UdpChannel channel = 3;</code>
+     * @return The channel.
+     */
+    @java.lang.Override public lawnmower.Message.UdpChannel getChannel() {
+      @SuppressWarnings("deprecation")
+      lawnmower.Message.UdpChannel result = lawnmower.Message.UdpChannel.valueOf(channel_);
+      return result == null ? lawnmower.Message.UdpChannel.UNRECOGNIZED : result;
+    }
+
+    public static final int SEQ_FIELD_NUMBER = 4;
+    private int seq_;
+    /**
+     * <pre>
+     * 发送方每个数据报递增的序号（重传使用新序号）
+     * </pre>
+     *
+     * <code>uint32 seq = 4;</code>
+     * @return The seq.
+     */
+    @java.lang.Override
+    public int getSeq() {
+      return seq_;
+    }
+
+    public static final int ACK_FIELD_NUMBER = 5;
+    private int ack_;
+    /**
+     * <pre>
+     * 已收到的对端最大 seq
+     * </pre>
+     *
+     * <code>uint32 ack = 5;</code>
+     * @return The ack.
+     */
+    @java.lang.Override
+    public int getAck() {
+      return ack_;
+    }
+
+    public static final int ACK_BITS_FIELD_NUMBER = 6;
+    private int ackBits_;
+    /**
+     * <pre>
+     * 位 i 表示 ack - 1 - i 已收到
+     * </pre>
+     *
+     * <code>fixed32 ack_bits = 6;</code>
+     * @return The ackBits.
+     */
+    @java.lang.Override
+    public int getAckBits() {
+      return ackBits_;
+    }
+
+    public static final int CHANNEL_SEQ_FIELD_NUMBER = 7;
+    private int channelSeq_;
+    /**
+     * <pre>
+     * 通道内消息序号，重传时不变，用于去重/排序
+     * </pre>
+     *
+     * <code>uint32 channel_seq = 7;</code>
+     * @return The channelSeq.
+     */
+    @java.lang.Override
+    public int getChannelSeq() {
+      return channelSeq_;
+    }
+
+    public static final int EPOCH_FIELD_NUMBER = 8;
+    private int epoch_;
+    /**
+     * <pre>
+     * 发送方重置可靠状态（端点变化）时递增，接收方随之重置
+     * </pre>
+     *
+     * <code>uint32 epoch = 8;</code>
+     * @return The epoch.
+     */
+    @java.lang.Override
+    public int getEpoch() {
+      return epoch_;
+    }
+
+    public static final int FRAGMENT_ID_FIELD_NUMBER = 9;
+    private int fragmentId_;
+    /**
+     * <pre>
+     * ---- UDP 应用层分片（msg_type = MSG_UDP_FRAGMENT，仅发给带可靠层头部的客户端）----
+     * </pre>
+     *
+     * <code>uint32 fragment_id = 9;</code>
+     * @return The fragmentId.
+     */
+    @java.lang.Override
+    public int getFragmentId() {
+      return fragmentId_;
+    }
+
+    public static final int FRAGMENT_INDEX_FIELD_NUMBER = 10;
+    private int fragmentIndex_;
+    /**
+     * <pre>
+     * 从 0 开始
+     * </pre>
+     *
+     * <code>uint32 fragment_index = 10;</code>
+     * @return The fragmentIndex.
+     */
+    @java.lang.Override
+    public int getFragmentIndex() {
+      return fragmentIndex_;
+    }
+
+    public static final int FRAGMENT_COUNT_FIELD_NUMBER = 11;
+    private int fragmentCount_;
+    /**
+     * <pre>
+     * 分片总数
+     * </pre>
+     *
+     * <code>uint32 fragment_count = 11;</code>
+     * @return The fragmentCount.
+     */
+    @java.lang.Override
+    public int getFragmentCount() {
+      return fragmentCount_;
+    }
+
+    public static final int APPLIED_TICK_FIELD_NUMBER = 12;
+    private int appliedTick_;
+    /**
+     * <pre>
+     * ---- 快照确认（客户端 -&gt; 服务器，随每个上行数据报携带）----
+     * </pre>
+     *
+     * <code>uint32 applied_tick = 12;</code>
+     * @return The appliedTick.
+     */
+    @java.lang.Override
+    public int getAppliedTick() {
+      return appliedTick_;
+    }
+
+    public static final int BASELINE_RESYNC_FIELD_NUMBER = 13;
+    private boolean baselineResync_;
+    /**
+     * <pre>
+     * 客户端发现漏收，请求按 applied_tick 补发追帧同步
+     * </pre>
+     *
+     * <code>bool baseline_resync = 13;</code>
+     * @return The baselineResync.
+     */
+    @java.lang.Override
+    public boolean getBaselineResync() {
+      return baselineResync_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -55629,6 +63196,39 @@ public final class Message {
       if (!payload_.isEmpty()) {
         output.writeBytes(2, payload_);
       }
+      if (channel_ != lawnmower.Message.UdpChannel.UDP_CHANNEL_UNRELIABLE.getNumber()) {
+        output.writeEnum(3, channel_);
+      }
+      if (seq_ != 0) {
+        output.writeUInt32(4, seq_);
+      }
+      if (ack_ != 0) {
+        output.writeUInt32(5, ack_);
+      }
+      if (ackBits_ != 0) {
+        output.writeFixed32(6, ackBits_);
+      }
+      if (channelSeq_ != 0) {
+        output.writeUInt32(7, channelSeq_);
+      }
+      if (epoch_ != 0) {
+        output.writeUInt32(8, epoch_);
+      }
+      if (fragmentId_ != 0) {
+        output.writeUInt32(9, fragmentId_);
+      }
+      if (fragmentIndex_ != 0) {
+        output.writeUInt32(10, fragmentIndex_);
+      }
+      if (fragmentCount_ != 0) {
+        output.writeUInt32(11, fragmentCount_);
+      }
+      if (appliedTick_ != 0) {
+        output.writeUInt32(12, appliedTick_);
+      }
+      if (baselineResync_ != false) {
+        output.writeBool(13, baselineResync_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -55646,6 +63246,50 @@ public final class Message {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(2, payload_);
       }
+      if (channel_ != lawnmower.Message.UdpChannel.UDP_CHANNEL_UNRELIABLE.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(3, channel_);
+      }
+      if (seq_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(4, seq_);
+      }
+      if (ack_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(5, ack_);
+      }
+      if (ackBits_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed32Size(6, ackBits_);
+      }
+      if (channelSeq_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(7, channelSeq_);
+      }
+      if (epoch_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(8, epoch_);
+      }
+      if (fragmentId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(9, fragmentId_);
+      }
+      if (fragmentIndex_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(10, fragmentIndex_);
+      }
+      if (fragmentCount_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(11, fragmentCount_);
+      }
+      if (appliedTick_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(12, appliedTick_);
+      }
+      if (baselineResync_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(13, baselineResync_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -55664,6 +63308,27 @@ public final class Message {
       if (msgType_ != other.msgType_) return false;
       if (!getPayload()
           .equals(other.getPayload())) return false;
+      if (channel_ != other.channel_) return false;
+      if (getSeq()
+          != other.getSeq()) return false;
+      if (getAck()
+          != other.getAck()) return false;
+      if (getAckBits()
+          != other.getAckBits()) return false;
+      if (getChannelSeq()
+          != other.getChannelSeq()) return false;
+      if (getEpoch()
+          != other.getEpoch()) return false;
+      if (getFragmentId()
+          != other.getFragmentId()) return false;
+      if (getFragmentIndex()
+          != other.getFragmentIndex()) return false;
+      if (getFragmentCount()
+          != other.getFragmentCount()) return false;
+      if (getAppliedTick()
+          != other.getAppliedTick()) return false;
+      if (getBaselineResync()
+          != other.getBaselineResync()) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -55679,6 +63344,29 @@ public final class Message {
       hash = (53 * hash) + msgType_;
       hash = (37 * hash) + PAYLOAD_FIELD_NUMBER;
       hash = (53 * hash) + getPayload().hashCode();
+      hash = (37 * hash) + CHANNEL_FIELD_NUMBER;
+      hash = (53 * hash) + channel_;
+      hash = (37 * hash) + SEQ_FIELD_NUMBER;
+      hash = (53 * hash) + getSeq();
+      hash = (37 * hash) + ACK_FIELD_NUMBER;
+      hash = (53 * hash) + getAck();
+      hash = (37 * hash) + ACK_BITS_FIELD_NUMBER;
+      hash = (53 * hash) + getAckBits();
+      hash = (37 * hash) + CHANNEL_SEQ_FIELD_NUMBER;
+      hash = (53 * hash) + getChannelSeq();
+      hash = (37 * hash) + EPOCH_FIELD_NUMBER;
+      hash = (53 * hash) + getEpoch();
+      hash = (37 * hash) + FRAGMENT_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getFragmentId();
+      hash = (37 * hash) + FRAGMENT_INDEX_FIELD_NUMBER;
+      hash = (53 * hash) + getFragmentIndex();
+      hash = (37 * hash) + FRAGMENT_COUNT_FIELD_NUMBER;
+      hash = (53 * hash) + getFragmentCount();
+      hash = (37 * hash) + APPLIED_TICK_FIELD_NUMBER;
+      hash = (53 * hash) + getAppliedTick();
+      hash = (37 * hash) + BASELINE_RESYNC_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getBaselineResync());
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -55775,10 +63463,6 @@ public final class Message {
       return builder;
     }
     /**
-     * <pre>
-     * 网络消息封装（通用包格式）
-     * </pre>
-     *
      * Protobuf type {@code lawnmower.Packet}
      */
     public static final class Builder extends
@@ -55820,6 +63504,28 @@ public final class Message {
 
         payload_ = com.google.protobuf.ByteString.EMPTY;
 
+        channel_ = 0;
+
+        seq_ = 0;
+
+        ack_ = 0;
+
+        ackBits_ = 0;
+
+        channelSeq_ = 0;
+
+        epoch_ = 0;
+
+        fragmentId_ = 0;
+
+        fragmentIndex_ = 0;
+
+        fragmentCount_ = 0;
+
+        appliedTick_ = 0;
+
+        baselineResync_ = false;
+
         return this;
       }
 
@@ -55848,6 +63554,17 @@ public final class Message {
         lawnmower.Message.Packet result = new lawnmower.Message.Packet(this);
         result.msgType_ = msgType_;
         result.payload_ = payload_;
+        result.channel_ = channel_;
+        result.seq_ = seq_;
+        result.ack_ = ack_;
+        result.ackBits_ = ackBits_;
+        result.channelSeq_ = channelSeq_;
+        result.epoch_ = epoch_;
+        result.fragmentId_ = fragmentId_;
+        result.fragmentIndex_ = fragmentIndex_;
+        result.fragmentCount_ = fragmentCount_;
+        result.appliedTick_ = appliedTick_;
+        result.baselineResync_ = baselineResync_;
         onBuilt();
         return result;
       }
@@ -55902,6 +63619,39 @@ public final class Message {
         if (other.getPayload() != com.google.protobuf.ByteString.EMPTY) {
           setPayload(other.getPayload());
         }
+        if (other.channel_ != 0) {
+          setChannelValue(other.getChannelValue());
+        }
+        if (other.getSeq() != 0) {
+          setSeq(other.getSeq());
+        }
+        if (other.getAck() != 0) {
+          setAck(other.getAck());
+        }
+        if (other.getAckBits() != 0) {
+          setAckBits(other.getAckBits());
+        }
+        if (other.getChannelSeq() != 0) {
+          setChannelSeq(other.getChannelSeq());
+        }
+        if (other.getEpoch() != 0) {
+          setEpoch(other.getEpoch());
+        }
+        if (other.getFragmentId() != 0) {
+          setFragmentId(other.getFragmentId());
+        }
+        if (other.getFragmentIndex() != 0) {
+          setFragmentIndex(other.getFragmentIndex());
+        }
+        if (other.getFragmentCount() != 0) {
+          setFragmentCount(other.getFragmentCount());
+        }
+        if (other.getAppliedTick() != 0) {
+          setAppliedTick(other.getAppliedTick());
+        }
+        if (other.getBaselineResync() != false) {
+          setBaselineResync(other.getBaselineResync());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -56050,6 +63800,510 @@ public final class Message {
         onChanged();
         return this;
       }
+
+      private int channel_ = 0;
+      /**
+       * <pre>
+       * ---- UDP 可靠层头部（双方都声明/支持 CLIENT_CAP_RELIABLE_UDP 时才填写）----
+       * </pre>
+       *
+       * <code>.lawnmower.UdpChannel channel = 3;</code>
+       * @return The enum numeric value on the wire for channel.
+       */
+      @java.lang.Override public int getChannelValue() {
+        return channel_;
+      }
+      /**
+       * <pre>
+       * ---- UDP 可靠层头部（双方都声明/支持 CLIENT_CAP_RELIABLE_UDP 时才填写）----
+       * </pre>
+       *
+       * <code>.lawnmower.UdpChannel channel = 3;</code>
+       * @param value The enum numeric value on the wire for channel to set.
+       * @return This builder for chaining.
+       */
+      public Builder setChannelValue(int value) {
+        
+        channel_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * ---- UDP 可靠层头部（双方都声明/支持 CLIENT_CAP_RELIABLE_UDP 时才填写）----
+       * </pre>
+       *
+       * <code>.lawnmower.UdpChannel channel = 3;</code>
+       * @return The channel.
+       */
+      @java.lang.Override
+      public lawnmower.Message.UdpChannel getChannel() {
+        @SuppressWarnings("deprecation")
+        lawnmower.Message.UdpChannel result = lawnmower.Message.UdpChannel.valueOf(channel_);
+        return result == null ? lawnmower.Message.UdpChannel.UNRECOGNIZED : result;
+      }
+      /**
+       * <pre>
+       * ---- UDP 可靠层头部（双方都声明/支持 CLIENT_CAP_RELIABLE_UDP 时才填写）----
+       * </pre>
+       *
+       * <code>.lawnmower.UdpChannel channel = 3;</code>
+       * @param value The channel to set.
+       * @return This builder for chaining.
+       */
+      public Builder setChannel(lawnmower.Message.UdpChannel value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        
+        channel_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * ---- UDP 可靠层头部（双方都声明/支持 CLIENT_CAP_RELIABLE_UDP 时才填写）----
+       * </pre>
+       *
+       * <code>.lawnmower.UdpChannel channel = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearChannel() {
+        
+        channel_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int seq_ ;
+      /**
+       * <pre>
+       * 发送方每个数据报递增的序号（重传使用新序号）
+       * </pre>
+       *
+       * <code>uint32 seq = 4;</code>
+       * @return The seq.
+       */
+      @java.lang.Override
+      public int getSeq() {
+        return seq_;
+      }
+      /**
+       * <pre>
+       * 发送方每个数据报递增的序号（重传使用新序号）
+       * </pre>
+       *
+       * <code>uint32 seq = 4;</code>
+       * @param value The seq to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSeq(int value) {
+        
+        seq_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 发送方每个数据报递增的序号（重传使用新序号）
+       * </pre>
+       *
+       * <code>uint32 seq = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSeq() {
+        
+        seq_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int ack_ ;
+      /**
+       * <pre>
+       * 已收到的对端最大 seq
+       * </pre>
+       *
+       * <code>uint32 ack = 5;</code>
+       * @return The ack.
+       */
+      @java.lang.Override
+      public int getAck() {
+        return ack_;
+      }
+      /**
+       * <pre>
+       * 已收到的对端最大 seq
+       * </pre>
+       *
+       * <code>uint32 ack = 5;</code>
+       * @param value The ack to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAck(int value) {
+        
+        ack_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 已收到的对端最大 seq
+       * </pre>
+       *
+       * <code>uint32 ack = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAck() {
+        
+        ack_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int ackBits_ ;
+      /**
+       * <pre>
+       * 位 i 表示 ack - 1 - i 已收到
+       * </pre>
+       *
+       * <code>fixed32 ack_bits = 6;</code>
+       * @return The ackBits.
+       */
+      @java.lang.Override
+      public int getAckBits() {
+        return ackBits_;
+      }
+      /**
+       * <pre>
+       * 位 i 表示 ack - 1 - i 已收到
+       * </pre>
+       *
+       * <code>fixed32 ack_bits = 6;</code>
+       * @param value The ackBits to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAckBits(int value) {
+        
+        ackBits_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 位 i 表示 ack - 1 - i 已收到
+       * </pre>
+       *
+       * <code>fixed32 ack_bits = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAckBits() {
+        
+        ackBits_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int channelSeq_ ;
+      /**
+       * <pre>
+       * 通道内消息序号，重传时不变，用于去重/排序
+       * </pre>
+       *
+       * <code>uint32 channel_seq = 7;</code>
+       * @return The channelSeq.
+       */
+      @java.lang.Override
+      public int getChannelSeq() {
+        return channelSeq_;
+      }
+      /**
+       * <pre>
+       * 通道内消息序号，重传时不变，用于去重/排序
+       * </pre>
+       *
+       * <code>uint32 channel_seq = 7;</code>
+       * @param value The channelSeq to set.
+       * @return This builder for chaining.
+       */
+      public Builder setChannelSeq(int value) {
+        
+        channelSeq_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 通道内消息序号，重传时不变，用于去重/排序
+       * </pre>
+       *
+       * <code>uint32 channel_seq = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearChannelSeq() {
+        
+        channelSeq_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int epoch_ ;
+      /**
+       * <pre>
+       * 发送方重置可靠状态（端点变化）时递增，接收方随之重置
+       * </pre>
+       *
+       * <code>uint32 epoch = 8;</code>
+       * @return The epoch.
+       */
+      @java.lang.Override
+      public int getEpoch() {
+        return epoch_;
+      }
+      /**
+       * <pre>
+       * 发送方重置可靠状态（端点变化）时递增，接收方随之重置
+       * </pre>
+       *
+       * <code>uint32 epoch = 8;</code>
+       * @param value The epoch to set.
+       * @return This builder for chaining.
+       */
+      public Builder setEpoch(int value) {
+        
+        epoch_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 发送方重置可靠状态（端点变化）时递增，接收方随之重置
+       * </pre>
+       *
+       * <code>uint32 epoch = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearEpoch() {
+        
+        epoch_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int fragmentId_ ;
+      /**
+       * <pre>
+       * ---- UDP 应用层分片（msg_type = MSG_UDP_FRAGMENT，仅发给带可靠层头部的客户端）----
+       * </pre>
+       *
+       * <code>uint32 fragment_id = 9;</code>
+       * @return The fragmentId.
+       */
+      @java.lang.Override
+      public int getFragmentId() {
+        return fragmentId_;
+      }
+      /**
+       * <pre>
+       * ---- UDP 应用层分片（msg_type = MSG_UDP_FRAGMENT，仅发给带可靠层头部的客户端）----
+       * </pre>
+       *
+       * <code>uint32 fragment_id = 9;</code>
+       * @param value The fragmentId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFragmentId(int value) {
+        
+        fragmentId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * ---- UDP 应用层分片（msg_type = MSG_UDP_FRAGMENT，仅发给带可靠层头部的客户端）----
+       * </pre>
+       *
+       * <code>uint32 fragment_id = 9;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFragmentId() {
+        
+        fragmentId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int fragmentIndex_ ;
+      /**
+       * <pre>
+       * 从 0 开始
+       * </pre>
+       *
+       * <code>uint32 fragment_index = 10;</code>
+       * @return The fragmentIndex.
+       */
+      @java.lang.Override
+      public int getFragmentIndex() {
+        return fragmentIndex_;
+      }
+      /**
+       * <pre>
+       * 从 0 开始
+       * </pre>
+       *
+       * <code>uint32 fragment_index = 10;</code>
+       * @param value The fragmentIndex to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFragmentIndex(int value) {
+        
+        fragmentIndex_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 从 0 开始
+       * </pre>
+       *
+       * <code>uint32 fragment_index = 10;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFragmentIndex() {
+        
+        fragmentIndex_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int fragmentCount_ ;
+      /**
+       * <pre>
+       * 分片总数
+       * </pre>
+       *
+       * <code>uint32 fragment_count = 11;</code>
+       * @return The fragmentCount.
+       */
+      @java.lang.Override
+      public int getFragmentCount() {
+        return fragmentCount_;
+      }
+      /**
+       * <pre>
+       * 分片总数
+       * </pre>
+       *
+       * <code>uint32 fragment_count = 11;</code>
+       * @param value The fragmentCount to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFragmentCount(int value) {
+        
+        fragmentCount_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 分片总数
+       * </pre>
+       *
+       * <code>uint32 fragment_count = 11;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFragmentCount() {
+        
+        fragmentCount_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int appliedTick_ ;
+      /**
+       * <pre>
+       * ---- 快照确认（客户端 -&gt; 服务器，随每个上行数据报携带）----
+       * </pre>
+       *
+       * <code>uint32 applied_tick = 12;</code>
+       * @return The appliedTick.
+       */
+      @java.lang.Override
+      public int getAppliedTick() {
+        return appliedTick_;
+      }
+      /**
+       * <pre>
+       * ---- 快照确认（客户端 -&gt; 服务器，随每个上行数据报携带）----
+       * </pre>
+       *
+       * <code>uint32 applied_tick = 12;</code>
+       * @param value The appliedTick to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAppliedTick(int value) {
+        
+        appliedTick_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * ---- 快照确认（客户端 -&gt; 服务器，随每个上行数据报携带）----
+       * </pre>
+       *
+       * <code>uint32 applied_tick = 12;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAppliedTick() {
+        
+        appliedTick_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean baselineResync_ ;
+      /**
+       * <pre>
+       * 客户端发现漏收，请求按 applied_tick 补发追帧同步
+       * </pre>
+       *
+       * <code>bool baseline_resync = 13;</code>
+       * @return The baselineResync.
+       */
+      @java.lang.Override
+      public boolean getBaselineResync() {
+        return baselineResync_;
+      }
+      /**
+       * <pre>
+       * 客户端发现漏收，请求按 applied_tick 补发追帧同步
+       * </pre>
+       *
+       * <code>bool baseline_resync = 13;</code>
+       * @param value The baselineResync to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBaselineResync(boolean value) {
+        
+        baselineResync_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 客户端发现漏收，请求按 applied_tick 补发追帧同步
+       * </pre>
+       *
+       * <code>bool baseline_resync = 13;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBaselineResync() {
+        
+        baselineResync_ = false;
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -56128,6 +64382,11 @@ public final class Message {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_lawnmower_S2C_LoginResult_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_lawnmower_C2S_InterestArea_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_lawnmower_C2S_InterestArea_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_lawnmower_C2S_Heartbeat_descriptor;
   private static final 
@@ -56328,6 +64587,11 @@ public final class Message {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_lawnmower_S2C_PlayerLevelUp_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_lawnmower_S2C_TickEventBundle_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_lawnmower_S2C_TickEventBundle_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_lawnmower_S2C_UpgradeRequest_descriptor;
   private static final 
@@ -56399,215 +64663,258 @@ public final class Message {
     java.lang.String[] descriptorData = {
       "\n\023proto/message.proto\022\tlawnmower\"\037\n\007Vect" +
       "or2\022\t\n\001x\030\001 \001(\002\022\t\n\001y\030\002 \001(\002\".\n\tTimestamp\022\023" +
-      "\n\013server_time\030\001 \001(\004\022\014\n\004tick\030\002 \001(\r\"h\n\tSce" +
-      "neInfo\022\020\n\010scene_id\030\001 \001(\r\022\r\n\005width\030\002 \001(\r\022" +
-      "\016\n\006height\030\003 \001(\r\022\021\n\ttick_rate\030\004 \001(\r\022\027\n\017st" +
-      "ate_sync_rate\030\005 \001(\r\" \n\tC2S_Login\022\023\n\013play" +
-      "er_name\030\001 \001(\t\"c\n\017S2C_LoginResult\022\017\n\007succ" +
-      "ess\030\001 \001(\010\022\021\n\tplayer_id\030\002 \001(\r\022\025\n\rmessage_" +
-      "login\030\003 \001(\t\022\025\n\rsession_token\030\004 \001(\t\"\"\n\rC2" +
-      "S_Heartbeat\022\021\n\ttimestamp\030\001 \001(\004\":\n\rS2C_He" +
-      "artbeat\022\021\n\ttimestamp\030\001 \001(\004\022\026\n\016online_pla" +
-      "yers\030\002 \001(\r\"\203\001\n\024C2S_ReconnectRequest\022\021\n\tp" +
-      "layer_id\030\001 \001(\r\022\017\n\007room_id\030\002 \001(\r\022\025\n\rsessi" +
-      "on_token\030\003 \001(\t\022\026\n\016last_input_seq\030\004 \001(\r\022\030" +
-      "\n\020last_server_tick\030\005 \001(\r\"\253\001\n\020S2C_Reconne" +
-      "ctAck\022\017\n\007success\030\001 \001(\010\022\017\n\007message\030\002 \001(\t\022" +
-      "\021\n\tplayer_id\030\003 \001(\r\022\017\n\007room_id\030\004 \001(\r\022\023\n\013s" +
-      "erver_tick\030\005 \001(\r\022\022\n\nis_playing\030\006 \001(\010\022\021\n\t" +
-      "is_paused\030\007 \001(\010\022\025\n\rsession_token\030\010 \001(\t\"\203" +
-      "\001\n\010RoomInfo\022\017\n\007room_id\030\001 \001(\r\022\021\n\troom_nam" +
-      "e\030\002 \001(\t\022\027\n\017current_players\030\003 \001(\r\022\023\n\013max_" +
-      "players\030\004 \001(\r\022\022\n\nis_playing\030\005 \001(\010\022\021\n\thos" +
-      "t_name\030\006 \001(\t\"W\n\nPlayerInfo\022\021\n\tplayer_id\030" +
-      "\001 \001(\r\022\023\n\013player_name\030\002 \001(\t\022\020\n\010is_ready\030\003" +
-      " \001(\010\022\017\n\007is_host\030\004 \001(\010\"8\n\016C2S_CreateRoom\022" +
-      "\021\n\troom_name\030\001 \001(\t\022\023\n\013max_players\030\002 \001(\r\"" +
-      "\021\n\017C2S_GetRoomList\"\037\n\014C2S_JoinRoom\022\017\n\007ro" +
-      "om_id\030\001 \001(\r\"\017\n\rC2S_LeaveRoom\" \n\014C2S_SetR" +
-      "eady\022\020\n\010is_ready\030\001 \001(\010\"\017\n\rC2S_StartGame\"" +
-      "P\n\024S2C_CreateRoomResult\022\017\n\007success\030\001 \001(\010" +
-      "\022\017\n\007room_id\030\002 \001(\r\022\026\n\016message_create\030\003 \001(" +
-      "\t\"2\n\014S2C_RoomList\022\"\n\005rooms\030\001 \003(\0132\023.lawnm" +
-      "ower.RoomInfo\";\n\022S2C_JoinRoomResult\022\017\n\007s" +
-      "uccess\030\001 \001(\010\022\024\n\014message_join\030\002 \001(\t\"=\n\023S2" +
-      "C_LeaveRoomResult\022\017\n\007success\030\001 \001(\010\022\025\n\rme" +
-      "ssage_leave\030\002 \001(\t\"_\n\022S2C_SetReadyResult\022" +
-      "\017\n\007success\030\001 \001(\010\022\017\n\007room_id\030\002 \001(\r\022\020\n\010is_" +
-      "ready\030\003 \001(\010\022\025\n\rmessage_ready\030\004 \001(\t\"I\n\016S2" +
-      "C_RoomUpdate\022\017\n\007room_id\030\001 \001(\r\022&\n\007players" +
-      "\030\002 \003(\0132\025.lawnmower.PlayerInfo\"\201\001\n\rS2C_Ga" +
-      "meStart\022\017\n\007room_id\030\001 \001(\r\022\022\n\nstart_time\030\002" +
-      " \001(\004\022\017\n\007success\030\003 \001(\010\022\025\n\rmessage_start\030\004" +
-      " \001(\t\022#\n\005scene\030\005 \001(\0132\024.lawnmower.SceneInf" +
-      "o\"\377\002\n\013PlayerState\022\021\n\tplayer_id\030\001 \001(\r\022$\n\010" +
-      "position\030\002 \001(\0132\022.lawnmower.Vector2\022\020\n\010ro" +
-      "tation\030\003 \001(\002\022\016\n\006health\030\004 \001(\005\022\022\n\nmax_heal" +
-      "th\030\005 \001(\005\022\r\n\005level\030\006 \001(\r\022\013\n\003exp\030\007 \001(\r\022\023\n\013" +
-      "exp_to_next\030\010 \001(\r\022\020\n\010is_alive\030\t \001(\010\022\016\n\006a" +
-      "ttack\030\n \001(\r\022\023\n\013is_friendly\030\013 \001(\010\022\017\n\007role" +
-      "_id\030\014 \001(\r\022\031\n\021critical_hit_rate\030\r \001(\r\022\020\n\010" +
-      "has_buff\030\016 \001(\010\022\017\n\007buff_id\030\017 \001(\r\022\024\n\014attac" +
-      "k_speed\030\020 \001(\r\022\022\n\nmove_speed\030\021 \001(\002\022 \n\030las" +
-      "t_processed_input_seq\030\022 \001(\005\"l\n\rUpgradeEf" +
-      "fect\022$\n\004type\030\001 \001(\0162\026.lawnmower.UpgradeTy" +
-      "pe\022&\n\005level\030\002 \001(\0162\027.lawnmower.UpgradeLev" +
-      "el\022\r\n\005value\030\003 \001(\005\"P\n\rUpgradeOption\022\024\n\014op" +
-      "tion_index\030\001 \001(\r\022)\n\007effects\030\002 \003(\0132\030.lawn" +
-      "mower.UpgradeEffect\"c\n\nProjectile\022\r\n\005spe" +
-      "ed\030\001 \001(\r\022\020\n\010has_buff\030\002 \001(\010\022\017\n\007buff_id\030\003 " +
-      "\001(\r\022\023\n\013is_friendly\030\004 \001(\010\022\016\n\006damage\030\005 \001(\r" +
-      "\"\264\001\n\017ProjectileState\022\025\n\rprojectile_id\030\001 " +
-      "\001(\r\022\027\n\017owner_player_id\030\002 \001(\r\022$\n\010position" +
-      "\030\003 \001(\0132\022.lawnmower.Vector2\022\020\n\010rotation\030\004" +
-      " \001(\002\022\016\n\006ttl_ms\030\005 \001(\r\022)\n\nprojectile\030\006 \001(\013" +
-      "2\025.lawnmower.Projectile\"\232\001\n\021ProjectileDe" +
-      "spawn\022\025\n\rprojectile_id\030\001 \001(\r\0222\n\006reason\030\002" +
-      " \001(\0162\".lawnmower.ProjectileDespawnReason" +
-      "\022\024\n\014hit_enemy_id\030\003 \001(\r\022$\n\010position\030\004 \001(\013" +
-      "2\022.lawnmower.Vector2\"\261\001\n\nEnemyState\022\020\n\010e" +
-      "nemy_id\030\001 \001(\r\022\017\n\007type_id\030\002 \001(\r\022$\n\010positi" +
-      "on\030\003 \001(\0132\022.lawnmower.Vector2\022\016\n\006health\030\004" +
-      " \001(\005\022\022\n\nmax_health\030\005 \001(\005\022\020\n\010is_alive\030\006 \001" +
-      "(\010\022\017\n\007wave_id\030\007 \001(\r\022\023\n\013is_friendly\030\010 \001(\010" +
-      "\"f\n\tItemState\022\017\n\007item_id\030\001 \001(\r\022\017\n\007type_i" +
-      "d\030\002 \001(\r\022$\n\010position\030\003 \001(\0132\022.lawnmower.Ve" +
-      "ctor2\022\021\n\tis_picked\030\004 \001(\010\"\355\001\n\020PlayerState" +
-      "Delta\022\021\n\tplayer_id\030\001 \001(\r\022\024\n\014changed_mask" +
-      "\030\002 \001(\r\022$\n\010position\030\003 \001(\0132\022.lawnmower.Vec" +
-      "tor2\022\025\n\010rotation\030\004 \001(\002H\000\210\001\001\022\025\n\010is_alive\030" +
-      "\005 \001(\010H\001\210\001\001\022%\n\030last_processed_input_seq\030\006" +
-      " \001(\005H\002\210\001\001B\013\n\t_rotationB\013\n\t_is_aliveB\033\n\031_" +
-      "last_processed_input_seq\"\243\001\n\017EnemyStateD" +
-      "elta\022\020\n\010enemy_id\030\001 \001(\r\022\024\n\014changed_mask\030\002" +
-      " \001(\r\022$\n\010position\030\003 \001(\0132\022.lawnmower.Vecto" +
-      "r2\022\023\n\006health\030\004 \001(\005H\000\210\001\001\022\025\n\010is_alive\030\005 \001(" +
-      "\010H\001\210\001\001B\t\n\007_healthB\013\n\t_is_alive\"\245\001\n\016ItemS" +
-      "tateDelta\022\017\n\007item_id\030\001 \001(\r\022\024\n\014changed_ma" +
-      "sk\030\002 \001(\r\022$\n\010position\030\003 \001(\0132\022.lawnmower.V" +
-      "ector2\022\026\n\tis_picked\030\004 \001(\010H\000\210\001\001\022\024\n\007type_i" +
-      "d\030\005 \001(\rH\001\210\001\001B\014\n\n_is_pickedB\n\n\010_type_id\"\327" +
-      "\001\n\026S2C_GameStateDeltaSync\022\'\n\tsync_time\030\001" +
-      " \001(\0132\024.lawnmower.Timestamp\022\017\n\007room_id\030\002 " +
-      "\001(\r\022,\n\007players\030\003 \003(\0132\033.lawnmower.PlayerS" +
-      "tateDelta\022+\n\007enemies\030\004 \003(\0132\032.lawnmower.E" +
-      "nemyStateDelta\022(\n\005items\030\005 \003(\0132\031.lawnmowe" +
-      "r.ItemStateDelta\"\314\001\n\017C2S_PlayerInput\022\021\n\t" +
-      "player_id\030\001 \001(\r\022*\n\016move_direction\030\002 \001(\0132" +
-      "\022.lawnmower.Vector2\022\024\n\014is_attacking\030\003 \001(" +
-      "\010\022(\n\ninput_time\030\004 \001(\0132\024.lawnmower.Timest" +
-      "amp\022\021\n\tinput_seq\030\005 \001(\r\022\020\n\010delta_ms\030\006 \001(\r" +
-      "\022\025\n\rsession_token\030\007 \001(\t\"\335\001\n\021S2C_GameStat" +
-      "eSync\022\'\n\tsync_time\030\001 \001(\0132\024.lawnmower.Tim" +
-      "estamp\022\'\n\007players\030\002 \003(\0132\026.lawnmower.Play" +
-      "erState\022&\n\007enemies\030\003 \003(\0132\025.lawnmower.Ene" +
-      "myState\022#\n\005items\030\004 \003(\0132\024.lawnmower.ItemS" +
-      "tate\022\017\n\007room_id\030\005 \001(\r\022\030\n\020is_full_snapsho" +
-      "t\030\006 \001(\010\"\200\001\n\023S2C_ProjectileSpawn\022\'\n\tsync_" +
-      "time\030\001 \001(\0132\024.lawnmower.Timestamp\022\017\n\007room" +
-      "_id\030\002 \001(\r\022/\n\013projectiles\030\003 \003(\0132\032.lawnmow" +
-      "er.ProjectileState\"\204\001\n\025S2C_ProjectileDes" +
-      "pawn\022\'\n\tsync_time\030\001 \001(\0132\024.lawnmower.Time" +
-      "stamp\022\017\n\007room_id\030\002 \001(\r\0221\n\013projectiles\030\003 " +
-      "\003(\0132\034.lawnmower.ProjectileDespawn\"Y\n\025Ene" +
-      "myAttackStateDelta\022\020\n\010enemy_id\030\001 \001(\r\022\024\n\014" +
-      "is_attacking\030\002 \001(\010\022\030\n\020target_player_id\030\003" +
-      " \001(\r\"\207\001\n\030S2C_EnemyAttackStateSync\022\'\n\tsyn" +
-      "c_time\030\001 \001(\0132\024.lawnmower.Timestamp\022\017\n\007ro" +
-      "om_id\030\002 \001(\r\0221\n\007enemies\030\003 \003(\0132 .lawnmower" +
-      ".EnemyAttackStateDelta\"`\n\016S2C_PlayerHurt" +
-      "\022\021\n\tplayer_id\030\001 \001(\r\022\016\n\006damage\030\002 \001(\r\022\030\n\020r" +
-      "emaining_health\030\003 \001(\005\022\021\n\tsource_id\030\004 \001(\r" +
-      "\"r\n\rS2C_EnemyDied\022\020\n\010enemy_id\030\001 \001(\r\022\030\n\020k" +
-      "iller_player_id\030\002 \001(\r\022\017\n\007wave_id\030\003 \001(\r\022$" +
-      "\n\010position\030\004 \001(\0132\022.lawnmower.Vector2\"N\n\021" +
-      "S2C_PlayerLevelUp\022\021\n\tplayer_id\030\001 \001(\r\022\021\n\t" +
-      "new_level\030\002 \001(\r\022\023\n\013exp_to_next\030\003 \001(\r\"b\n\022" +
-      "S2C_UpgradeRequest\022\017\n\007room_id\030\001 \001(\r\022\021\n\tp" +
-      "layer_id\030\002 \001(\r\022(\n\006reason\030\003 \001(\0162\030.lawnmow" +
-      "er.UpgradeReason\";\n\025C2S_UpgradeRequestAc" +
-      "k\022\017\n\007room_id\030\001 \001(\r\022\021\n\tplayer_id\030\002 \001(\r\"\250\001" +
-      "\n\022S2C_UpgradeOptions\022\017\n\007room_id\030\001 \001(\r\022\021\n" +
-      "\tplayer_id\030\002 \001(\r\022(\n\006reason\030\003 \001(\0162\030.lawnm" +
-      "ower.UpgradeReason\022)\n\007options\030\004 \003(\0132\030.la" +
-      "wnmower.UpgradeOption\022\031\n\021refresh_remaini" +
-      "ng\030\005 \001(\r\";\n\025C2S_UpgradeOptionsAck\022\017\n\007roo" +
-      "m_id\030\001 \001(\r\022\021\n\tplayer_id\030\002 \001(\r\"M\n\021C2S_Upg" +
-      "radeSelect\022\017\n\007room_id\030\001 \001(\r\022\021\n\tplayer_id" +
-      "\030\002 \001(\r\022\024\n\014option_index\030\003 \001(\r\"P\n\024S2C_Upgr" +
-      "adeSelectAck\022\017\n\007room_id\030\001 \001(\r\022\021\n\tplayer_" +
-      "id\030\002 \001(\r\022\024\n\014option_index\030\003 \001(\r\"?\n\031C2S_Up" +
-      "gradeRefreshRequest\022\017\n\007room_id\030\001 \001(\r\022\021\n\t" +
-      "player_id\030\002 \001(\r\"\232\001\n\017S2C_DroppedItem\022#\n\005i" +
-      "tems\030\001 \003(\0132\024.lawnmower.ItemState\022\027\n\017sour" +
-      "ce_enemy_id\030\002 \001(\r\022\017\n\007wave_id\030\003 \001(\r\022\'\n\tsy" +
-      "nc_time\030\004 \001(\0132\024.lawnmower.Timestamp\022\017\n\007r" +
-      "oom_id\030\005 \001(\r\"t\n\013PlayerScore\022\021\n\tplayer_id" +
-      "\030\001 \001(\r\022\023\n\013player_name\030\002 \001(\t\022\023\n\013final_lev" +
-      "el\030\003 \001(\005\022\022\n\nkill_count\030\004 \001(\005\022\024\n\014damage_d" +
-      "ealt\030\005 \001(\005\"]\n\014S2C_GameOver\022\017\n\007victory\030\001 " +
-      "\001(\010\022\024\n\014survive_time\030\002 \001(\r\022&\n\006scores\030\003 \003(" +
-      "\0132\026.lawnmower.PlayerScore\"\262\001\n\013EnemyConfi" +
-      "g\022\017\n\007type_id\030\001 \001(\r\022\014\n\004name\030\002 \001(\t\022\022\n\ntext" +
-      "ure_id\030\003 \001(\t\022\024\n\014walk_anim_id\030\004 \001(\t\022\023\n\013di" +
-      "e_anim_id\030\005 \001(\t\022\022\n\nmax_health\030\006 \001(\005\022\r\n\005s" +
-      "peed\030\007 \001(\002\022\016\n\006damage\030\010 \001(\r\022\022\n\nexp_reward" +
-      "\030\t \001(\r\"C\n\006Packet\022(\n\010msg_type\030\001 \001(\0162\026.law" +
-      "nmower.MessageType\022\017\n\007payload\030\002 \001(\014*\273\010\n\013" +
-      "MessageType\022\017\n\013MSG_UNKNOWN\020\000\022\021\n\rMSG_C2S_" +
-      "LOGIN\020\001\022\030\n\024MSG_S2C_LOGIN_RESULT\020\002\022\025\n\021MSG" +
-      "_C2S_HEARTBEAT\020\003\022\025\n\021MSG_S2C_HEARTBEAT\020\004\022" +
-      "\027\n\023MSG_C2S_CREATE_ROOM\020\n\022\031\n\025MSG_C2S_GET_" +
-      "ROOM_LIST\020\013\022\025\n\021MSG_C2S_JOIN_ROOM\020\014\022\026\n\022MS" +
-      "G_C2S_LEAVE_ROOM\020\r\022\025\n\021MSG_C2S_SET_READY\020" +
-      "\016\022\026\n\022MSG_C2S_START_GAME\020\017\022\030\n\024MSG_C2S_REQ" +
-      "UEST_QUIT\020\020\022\036\n\032MSG_S2C_CREATE_ROOM_RESUL" +
-      "T\020\024\022\025\n\021MSG_S2C_ROOM_LIST\020\025\022\034\n\030MSG_S2C_JO" +
-      "IN_ROOM_RESULT\020\026\022\035\n\031MSG_S2C_LEAVE_ROOM_R" +
-      "ESULT\020\027\022\034\n\030MSG_S2C_SET_READY_RESULT\020\030\022\027\n" +
-      "\023MSG_S2C_ROOM_UPDATE\020\031\022\026\n\022MSG_S2C_GAME_S" +
-      "TART\020\032\022\030\n\024MSG_C2S_PLAYER_INPUT\020\036\022\033\n\027MSG_" +
-      "S2C_GAME_STATE_SYNC\020(\022\027\n\023MSG_S2C_PLAYER_" +
-      "HURT\020)\022\026\n\022MSG_S2C_ENEMY_DIED\020*\022\033\n\027MSG_S2" +
-      "C_PLAYER_LEVEL_UP\020+\022\030\n\024MSG_S2C_DROPPED_I" +
-      "TEM\020,\022\025\n\021MSG_S2C_GAME_OVER\020-\022!\n\035MSG_S2C_" +
-      "GAME_STATE_DELTA_SYNC\020.\022\034\n\030MSG_S2C_PROJE" +
-      "CTILE_SPAWN\020/\022\036\n\032MSG_S2C_PROJECTILE_DESP" +
-      "AWN\0200\022#\n\037MSG_S2C_ENEMY_ATTACK_STATE_SYNC" +
-      "\0201\022\033\n\027MSG_S2C_UPGRADE_REQUEST\0202\022\037\n\033MSG_C" +
-      "2S_UPGRADE_REQUEST_ACK\0203\022\033\n\027MSG_S2C_UPGR" +
-      "ADE_OPTIONS\0204\022\037\n\033MSG_C2S_UPGRADE_OPTIONS" +
-      "_ACK\0205\022\032\n\026MSG_C2S_UPGRADE_SELECT\0206\022\036\n\032MS" +
-      "G_S2C_UPGRADE_SELECT_ACK\0207\022#\n\037MSG_C2S_UP" +
-      "GRADE_REFRESH_REQUEST\0208\022\035\n\031MSG_C2S_RECON" +
-      "NECT_REQUEST\0209\022\031\n\025MSG_S2C_RECONNECT_ACK\020" +
-      ":*d\n\rUpgradeReason\022\032\n\026UPGRADE_REASON_UNK" +
-      "NOWN\020\000\022\033\n\027UPGRADE_REASON_LEVEL_UP\020\001\022\032\n\026U" +
-      "PGRADE_REASON_REFRESH\020\002*\271\001\n\013UpgradeType\022" +
-      "\030\n\024UPGRADE_TYPE_UNKNOWN\020\000\022\033\n\027UPGRADE_TYP" +
-      "E_MOVE_SPEED\020\001\022\027\n\023UPGRADE_TYPE_ATTACK\020\002\022" +
-      "\035\n\031UPGRADE_TYPE_ATTACK_SPEED\020\003\022\033\n\027UPGRAD" +
-      "E_TYPE_MAX_HEALTH\020\004\022\036\n\032UPGRADE_TYPE_CRIT" +
-      "ICAL_RATE\020\005*r\n\014UpgradeLevel\022\031\n\025UPGRADE_L" +
-      "EVEL_UNKNOWN\020\000\022\025\n\021UPGRADE_LEVEL_LOW\020\001\022\030\n" +
-      "\024UPGRADE_LEVEL_MEDIUM\020\002\022\026\n\022UPGRADE_LEVEL" +
-      "_HIGH\020\003*\233\001\n\027ProjectileDespawnReason\022\036\n\032P" +
-      "ROJECTILE_DESPAWN_UNKNOWN\020\000\022\032\n\026PROJECTIL" +
-      "E_DESPAWN_HIT\020\001\022$\n PROJECTILE_DESPAWN_OU" +
-      "T_OF_BOUNDS\020\002\022\036\n\032PROJECTILE_DESPAWN_EXPI" +
-      "RED\020\003*h\n\016ItemEffectType\022\024\n\020ITEM_EFFECT_N" +
-      "ONE\020\000\022\024\n\020ITEM_EFFECT_HEAL\020\001\022\023\n\017ITEM_EFFE" +
-      "CT_EXP\020\002\022\025\n\021ITEM_EFFECT_SPEED\020\003*l\n\rItemD" +
-      "eltaMask\022\023\n\017ITEM_DELTA_NONE\020\000\022\027\n\023ITEM_DE" +
-      "LTA_POSITION\020\001\022\030\n\024ITEM_DELTA_IS_PICKED\020\002" +
-      "\022\023\n\017ITEM_DELTA_TYPE\020\004*\244\001\n\017PlayerDeltaMas" +
-      "k\022\025\n\021PLAYER_DELTA_NONE\020\000\022\031\n\025PLAYER_DELTA" +
-      "_POSITION\020\001\022\031\n\025PLAYER_DELTA_ROTATION\020\002\022\031" +
-      "\n\025PLAYER_DELTA_IS_ALIVE\020\004\022)\n%PLAYER_DELT" +
-      "A_LAST_PROCESSED_INPUT_SEQ\020\010*r\n\016EnemyDel" +
-      "taMask\022\024\n\020ENEMY_DELTA_NONE\020\000\022\030\n\024ENEMY_DE" +
-      "LTA_POSITION\020\001\022\026\n\022ENEMY_DELTA_HEALTH\020\002\022\030" +
-      "\n\024ENEMY_DELTA_IS_ALIVE\020\004b\006proto3"
+      "\n\013server_time\030\001 \001(\004\022\014\n\004tick\030\002 \001(\r\"\200\001\n\tSc" +
+      "eneInfo\022\020\n\010scene_id\030\001 \001(\r\022\r\n\005width\030\002 \001(\r" +
+      "\022\016\n\006height\030\003 \001(\r\022\021\n\ttick_rate\030\004 \001(\r\022\027\n\017s" +
+      "tate_sync_rate\030\005 \001(\r\022\026\n\016position_scale\030\006" +
+      " \001(\r\"6\n\tC2S_Login\022\023\n\013player_name\030\001 \001(\t\022\024" +
+      "\n\014capabilities\030\002 \001(\r\"c\n\017S2C_LoginResult\022" +
+      "\017\n\007success\030\001 \001(\010\022\021\n\tplayer_id\030\002 \001(\r\022\025\n\rm" +
+      "essage_login\030\003 \001(\t\022\025\n\rsession_token\030\004 \001(" +
+      "\t\"N\n\020C2S_InterestArea\022\r\n\005min_x\030\001 \001(\002\022\r\n\005" +
+      "min_y\030\002 \001(\002\022\r\n\005max_x\030\003 \001(\002\022\r\n\005max_y\030\004 \001(" +
+      "\002\"\"\n\rC2S_Heartbeat\022\021\n\ttimestamp\030\001 \001(\004\":\n" +
+      "\rS2C_Heartbeat\022\021\n\ttimestamp\030\001 \001(\004\022\026\n\016onl" +
+      "ine_players\030\002 \001(\r\"\231\001\n\024C2S_ReconnectReque" +
+      "st\022\021\n\tplayer_id\030\001 \001(\r\022\017\n\007room_id\030\002 \001(\r\022\025" +
+      "\n\rsession_token\030\003 \001(\t\022\026\n\016last_input_seq\030" +
+      "\004 \001(\r\022\030\n\020last_server_tick\030\005 \001(\r\022\024\n\014capab" +
+      "ilities\030\006 \001(\r\"\220\002\n\020S2C_ReconnectAck\022\017\n\007su" +
+      "ccess\030\001 \001(\010\022\017\n\007message\030\002 \001(\t\022\021\n\tplayer_i" +
+      "d\030\003 \001(\r\022\017\n\007room_id\030\004 \001(\r\022\023\n\013server_tick\030" +
+      "\005 \001(\r\022\022\n\nis_playing\030\006 \001(\010\022\021\n\tis_paused\030\007" +
+      " \001(\010\022\025\n\rsession_token\030\010 \001(\t\022.\n\010catch_up\030" +
+      "\t \001(\0132\034.lawnmower.S2C_GameStateSync\022\031\n\021r" +
+      "emoved_enemy_ids\030\n \003(\r\022\030\n\020removed_item_i" +
+      "ds\030\013 \003(\r\"\203\001\n\010RoomInfo\022\017\n\007room_id\030\001 \001(\r\022\021" +
+      "\n\troom_name\030\002 \001(\t\022\027\n\017current_players\030\003 \001" +
+      "(\r\022\023\n\013max_players\030\004 \001(\r\022\022\n\nis_playing\030\005 " +
+      "\001(\010\022\021\n\thost_name\030\006 \001(\t\"W\n\nPlayerInfo\022\021\n\t" +
+      "player_id\030\001 \001(\r\022\023\n\013player_name\030\002 \001(\t\022\020\n\010" +
+      "is_ready\030\003 \001(\010\022\017\n\007is_host\030\004 \001(\010\"8\n\016C2S_C" +
+      "reateRoom\022\021\n\troom_name\030\001 \001(\t\022\023\n\013max_play" +
+      "ers\030\002 \001(\r\"\021\n\017C2S_GetRoomList\"\037\n\014C2S_Join" +
+      "Room\022\017\n\007room_id\030\001 \001(\r\"\017\n\rC2S_LeaveRoom\" " +
+      "\n\014C2S_SetReady\022\020\n\010is_ready\030\001 \001(\010\"\017\n\rC2S_" +
+      "StartGame\"P\n\024S2C_CreateRoomResult\022\017\n\007suc" +
+      "cess\030\001 \001(\010\022\017\n\007room_id\030\002 \001(\r\022\026\n\016message_c" +
+      "reate\030\003 \001(\t\"2\n\014S2C_RoomList\022\"\n\005rooms\030\001 \003" +
+      "(\0132\023.lawnmower.RoomInfo\";\n\022S2C_JoinRoomR" +
+      "esult\022\017\n\007success\030\001 \001(\010\022\024\n\014message_join\030\002" +
+      " \001(\t\"=\n\023S2C_LeaveRoomResult\022\017\n\007success\030\001" +
+      " \001(\010\022\025\n\rmessage_leave\030\002 \001(\t\"_\n\022S2C_SetRe" +
+      "adyResult\022\017\n\007success\030\001 \001(\010\022\017\n\007room_id\030\002 " +
+      "\001(\r\022\020\n\010is_ready\030\003 \001(\010\022\025\n\rmessage_ready\030\004" +
+      " \001(\t\"I\n\016S2C_RoomUpdate\022\017\n\007room_id\030\001 \001(\r\022" +
+      "&\n\007players\030\002 \003(\0132\025.lawnmower.PlayerInfo\"" +
+      "\201\001\n\rS2C_GameStart\022\017\n\007room_id\030\001 \001(\r\022\022\n\nst" +
+      "art_time\030\002 \001(\004\022\017\n\007success\030\003 \001(\010\022\025\n\rmessa" +
+      "ge_start\030\004 \001(\t\022#\n\005scene\030\005 \001(\0132\024.lawnmowe" +
+      "r.SceneInfo\"\377\002\n\013PlayerState\022\021\n\tplayer_id" +
+      "\030\001 \001(\r\022$\n\010position\030\002 \001(\0132\022.lawnmower.Vec" +
+      "tor2\022\020\n\010rotation\030\003 \001(\002\022\016\n\006health\030\004 \001(\005\022\022" +
+      "\n\nmax_health\030\005 \001(\005\022\r\n\005level\030\006 \001(\r\022\013\n\003exp" +
+      "\030\007 \001(\r\022\023\n\013exp_to_next\030\010 \001(\r\022\020\n\010is_alive\030" +
+      "\t \001(\010\022\016\n\006attack\030\n \001(\r\022\023\n\013is_friendly\030\013 \001" +
+      "(\010\022\017\n\007role_id\030\014 \001(\r\022\031\n\021critical_hit_rate" +
+      "\030\r \001(\r\022\020\n\010has_buff\030\016 \001(\010\022\017\n\007buff_id\030\017 \001(" +
+      "\r\022\024\n\014attack_speed\030\020 \001(\r\022\022\n\nmove_speed\030\021 " +
+      "\001(\002\022 \n\030last_processed_input_seq\030\022 \001(\005\"l\n" +
+      "\rUpgradeEffect\022$\n\004type\030\001 \001(\0162\026.lawnmower" +
+      ".UpgradeType\022&\n\005level\030\002 \001(\0162\027.lawnmower." +
+      "UpgradeLevel\022\r\n\005value\030\003 \001(\005\"P\n\rUpgradeOp" +
+      "tion\022\024\n\014option_index\030\001 \001(\r\022)\n\007effects\030\002 " +
+      "\003(\0132\030.lawnmower.UpgradeEffect\"c\n\nProject" +
+      "ile\022\r\n\005speed\030\001 \001(\r\022\020\n\010has_buff\030\002 \001(\010\022\017\n\007" +
+      "buff_id\030\003 \001(\r\022\023\n\013is_friendly\030\004 \001(\010\022\016\n\006da" +
+      "mage\030\005 \001(\r\"\264\001\n\017ProjectileState\022\025\n\rprojec" +
+      "tile_id\030\001 \001(\r\022\027\n\017owner_player_id\030\002 \001(\r\022$" +
+      "\n\010position\030\003 \001(\0132\022.lawnmower.Vector2\022\020\n\010" +
+      "rotation\030\004 \001(\002\022\016\n\006ttl_ms\030\005 \001(\r\022)\n\nprojec" +
+      "tile\030\006 \001(\0132\025.lawnmower.Projectile\"\232\001\n\021Pr" +
+      "ojectileDespawn\022\025\n\rprojectile_id\030\001 \001(\r\0222" +
+      "\n\006reason\030\002 \001(\0162\".lawnmower.ProjectileDes" +
+      "pawnReason\022\024\n\014hit_enemy_id\030\003 \001(\r\022$\n\010posi" +
+      "tion\030\004 \001(\0132\022.lawnmower.Vector2\"\261\001\n\nEnemy" +
+      "State\022\020\n\010enemy_id\030\001 \001(\r\022\017\n\007type_id\030\002 \001(\r" +
+      "\022$\n\010position\030\003 \001(\0132\022.lawnmower.Vector2\022\016" +
+      "\n\006health\030\004 \001(\005\022\022\n\nmax_health\030\005 \001(\005\022\020\n\010is" +
+      "_alive\030\006 \001(\010\022\017\n\007wave_id\030\007 \001(\r\022\023\n\013is_frie" +
+      "ndly\030\010 \001(\010\"f\n\tItemState\022\017\n\007item_id\030\001 \001(\r" +
+      "\022\017\n\007type_id\030\002 \001(\r\022$\n\010position\030\003 \001(\0132\022.la" +
+      "wnmower.Vector2\022\021\n\tis_picked\030\004 \001(\010\"\201\002\n\020P" +
+      "layerStateDelta\022\021\n\tplayer_id\030\001 \001(\r\022\024\n\014ch" +
+      "anged_mask\030\002 \001(\r\022$\n\010position\030\003 \001(\0132\022.law" +
+      "nmower.Vector2\022\025\n\010rotation\030\004 \001(\002H\000\210\001\001\022\025\n" +
+      "\010is_alive\030\005 \001(\010H\001\210\001\001\022%\n\030last_processed_i" +
+      "nput_seq\030\006 \001(\005H\002\210\001\001\022\022\n\nposition_q\030\007 \001(\007B" +
+      "\013\n\t_rotationB\013\n\t_is_aliveB\033\n\031_last_proce" +
+      "ssed_input_seq\"\267\001\n\017EnemyStateDelta\022\020\n\010en" +
+      "emy_id\030\001 \001(\r\022\024\n\014changed_mask\030\002 \001(\r\022$\n\010po" +
+      "sition\030\003 \001(\0132\022.lawnmower.Vector2\022\023\n\006heal" +
+      "th\030\004 \001(\005H\000\210\001\001\022\025\n\010is_alive\030\005 \001(\010H\001\210\001\001\022\022\n\n" +
+      "position_q\030\006 \001(\007B\t\n\007_healthB\013\n\t_is_alive" +
+      "\"\271\001\n\016ItemStateDelta\022\017\n\007item_id\030\001 \001(\r\022\024\n\014" +
+      "changed_mask\030\002 \001(\r\022$\n\010position\030\003 \001(\0132\022.l" +
+      "awnmower.Vector2\022\026\n\tis_picked\030\004 \001(\010H\000\210\001\001" +
+      "\022\024\n\007type_id\030\005 \001(\rH\001\210\001\001\022\022\n\nposition_q\030\006 \001" +
+      "(\007B\014\n\n_is_pickedB\n\n\010_type_id\"\372\002\n\026S2C_Gam" +
+      "eStateDeltaSync\022\'\n\tsync_time\030\001 \001(\0132\024.law" +
+      "nmower.Timestamp\022\017\n\007room_id\030\002 \001(\r\022,\n\007pla" +
+      "yers\030\003 \003(\0132\033.lawnmower.PlayerStateDelta\022" +
+      "+\n\007enemies\030\004 \003(\0132\032.lawnmower.EnemyStateD" +
+      "elta\022(\n\005items\030\005 \003(\0132\031.lawnmower.ItemStat" +
+      "eDelta\022\025\n\rbaseline_tick\030\006 \001(\r\022.\n\017entered" +
+      "_enemies\030\007 \003(\0132\025.lawnmower.EnemyState\022\026\n" +
+      "\016left_enemy_ids\030\010 \003(\r\022+\n\rentered_items\030\t" +
+      " \003(\0132\024.lawnmower.ItemState\022\025\n\rleft_item_" +
+      "ids\030\n \003(\r\"\314\001\n\017C2S_PlayerInput\022\021\n\tplayer_" +
+      "id\030\001 \001(\r\022*\n\016move_direction\030\002 \001(\0132\022.lawnm" +
+      "ower.Vector2\022\024\n\014is_attacking\030\003 \001(\010\022(\n\nin" +
+      "put_time\030\004 \001(\0132\024.lawnmower.Timestamp\022\021\n\t" +
+      "input_seq\030\005 \001(\r\022\020\n\010delta_ms\030\006 \001(\r\022\025\n\rses" +
+      "sion_token\030\007 \001(\t\"\343\002\n\021S2C_GameStateSync\022\'" +
+      "\n\tsync_time\030\001 \001(\0132\024.lawnmower.Timestamp\022" +
+      "\'\n\007players\030\002 \003(\0132\026.lawnmower.PlayerState" +
+      "\022&\n\007enemies\030\003 \003(\0132\025.lawnmower.EnemyState" +
+      "\022#\n\005items\030\004 \003(\0132\024.lawnmower.ItemState\022\017\n" +
+      "\007room_id\030\005 \001(\r\022\030\n\020is_full_snapshot\030\006 \001(\010" +
+      "\022\022\n\npart_index\030\007 \001(\r\022\022\n\npart_count\030\010 \001(\r" +
+      "\022\025\n\rbaseline_tick\030\t \001(\r\022\031\n\021removed_enemy" +
+      "_ids\030\n \003(\r\022\030\n\020removed_item_ids\030\013 \003(\r\022\020\n\010" +
+      "catch_up\030\014 \001(\010\"\200\001\n\023S2C_ProjectileSpawn\022\'" +
+      "\n\tsync_time\030\001 \001(\0132\024.lawnmower.Timestamp\022" +
+      "\017\n\007room_id\030\002 \001(\r\022/\n\013projectiles\030\003 \003(\0132\032." +
+      "lawnmower.ProjectileState\"\204\001\n\025S2C_Projec" +
+      "tileDespawn\022\'\n\tsync_time\030\001 \001(\0132\024.lawnmow" +
+      "er.Timestamp\022\017\n\007room_id\030\002 \001(\r\0221\n\013project" +
+      "iles\030\003 \003(\0132\034.lawnmower.ProjectileDespawn" +
+      "\"Y\n\025EnemyAttackStateDelta\022\020\n\010enemy_id\030\001 " +
+      "\001(\r\022\024\n\014is_attacking\030\002 \001(\010\022\030\n\020target_play" +
+      "er_id\030\003 \001(\r\"\207\001\n\030S2C_EnemyAttackStateSync" +
+      "\022\'\n\tsync_time\030\001 \001(\0132\024.lawnmower.Timestam" +
+      "p\022\017\n\007room_id\030\002 \001(\r\0221\n\007enemies\030\003 \003(\0132 .la" +
+      "wnmower.EnemyAttackStateDelta\"`\n\016S2C_Pla" +
+      "yerHurt\022\021\n\tplayer_id\030\001 \001(\r\022\016\n\006damage\030\002 \001" +
+      "(\r\022\030\n\020remaining_health\030\003 \001(\005\022\021\n\tsource_i" +
+      "d\030\004 \001(\r\"r\n\rS2C_EnemyDied\022\020\n\010enemy_id\030\001 \001" +
+      "(\r\022\030\n\020killer_player_id\030\002 \001(\r\022\017\n\007wave_id\030" +
+      "\003 \001(\r\022$\n\010position\030\004 \001(\0132\022.lawnmower.Vect" +
+      "or2\"N\n\021S2C_PlayerLevelUp\022\021\n\tplayer_id\030\001 " +
+      "\001(\r\022\021\n\tnew_level\030\002 \001(\r\022\023\n\013exp_to_next\030\003 " +
+      "\001(\r\"\313\003\n\023S2C_TickEventBundle\022\'\n\tsync_time" +
+      "\030\001 \001(\0132\024.lawnmower.Timestamp\022\017\n\007room_id\030" +
+      "\002 \001(\r\0228\n\020projectile_spawn\030\003 \001(\0132\036.lawnmo" +
+      "wer.S2C_ProjectileSpawn\022<\n\022projectile_de" +
+      "spawn\030\004 \001(\0132 .lawnmower.S2C_ProjectileDe" +
+      "spawn\0220\n\014dropped_item\030\005 \001(\0132\032.lawnmower." +
+      "S2C_DroppedItem\022?\n\022enemy_attack_state\030\006 " +
+      "\001(\0132#.lawnmower.S2C_EnemyAttackStateSync" +
+      "\022/\n\014player_hurts\030\007 \003(\0132\031.lawnmower.S2C_P" +
+      "layerHurt\022-\n\013enemy_dieds\030\010 \003(\0132\030.lawnmow" +
+      "er.S2C_EnemyDied\022/\n\tlevel_ups\030\t \003(\0132\034.la" +
+      "wnmower.S2C_PlayerLevelUp\"b\n\022S2C_Upgrade" +
+      "Request\022\017\n\007room_id\030\001 \001(\r\022\021\n\tplayer_id\030\002 " +
+      "\001(\r\022(\n\006reason\030\003 \001(\0162\030.lawnmower.UpgradeR" +
+      "eason\";\n\025C2S_UpgradeRequestAck\022\017\n\007room_i" +
+      "d\030\001 \001(\r\022\021\n\tplayer_id\030\002 \001(\r\"\250\001\n\022S2C_Upgra" +
+      "deOptions\022\017\n\007room_id\030\001 \001(\r\022\021\n\tplayer_id\030" +
+      "\002 \001(\r\022(\n\006reason\030\003 \001(\0162\030.lawnmower.Upgrad" +
+      "eReason\022)\n\007options\030\004 \003(\0132\030.lawnmower.Upg" +
+      "radeOption\022\031\n\021refresh_remaining\030\005 \001(\r\";\n" +
+      "\025C2S_UpgradeOptionsAck\022\017\n\007room_id\030\001 \001(\r\022" +
+      "\021\n\tplayer_id\030\002 \001(\r\"M\n\021C2S_UpgradeSelect\022" +
+      "\017\n\007room_id\030\001 \001(\r\022\021\n\tplayer_id\030\002 \001(\r\022\024\n\014o" +
+      "ption_index\030\003 \001(\r\"P\n\024S2C_UpgradeSelectAc" +
+      "k\022\017\n\007room_id\030\001 \001(\r\022\021\n\tplayer_id\030\002 \001(\r\022\024\n" +
+      "\014option_index\030\003 \001(\r\"?\n\031C2S_UpgradeRefres" +
+      "hRequest\022\017\n\007room_id\030\001 \001(\r\022\021\n\tplayer_id\030\002" +
+      " \001(\r\"\232\001\n\017S2C_DroppedItem\022#\n\005items\030\001 \003(\0132" +
+      "\024.lawnmower.ItemState\022\027\n\017source_enemy_id" +
+      "\030\002 \001(\r\022\017\n\007wave_id\030\003 \001(\r\022\'\n\tsync_time\030\004 \001" +
+      "(\0132\024.lawnmower.Timestamp\022\017\n\007room_id\030\005 \001(" +
+      "\r\"t\n\013PlayerScore\022\021\n\tplayer_id\030\001 \001(\r\022\023\n\013p" +
+      "layer_name\030\002 \001(\t\022\023\n\013final_level\030\003 \001(\005\022\022\n" +
+      "\nkill_count\030\004 \001(\005\022\024\n\014damage_dealt\030\005 \001(\005\"" +
+      "]\n\014S2C_GameOver\022\017\n\007victory\030\001 \001(\010\022\024\n\014surv" +
+      "ive_time\030\002 \001(\r\022&\n\006scores\030\003 \003(\0132\026.lawnmow" +
+      "er.PlayerScore\"\262\001\n\013EnemyConfig\022\017\n\007type_i" +
+      "d\030\001 \001(\r\022\014\n\004name\030\002 \001(\t\022\022\n\ntexture_id\030\003 \001(" +
+      "\t\022\024\n\014walk_anim_id\030\004 \001(\t\022\023\n\013die_anim_id\030\005" +
+      " \001(\t\022\022\n\nmax_health\030\006 \001(\005\022\r\n\005speed\030\007 \001(\002\022" +
+      "\016\n\006damage\030\010 \001(\r\022\022\n\nexp_reward\030\t \001(\r\"\257\002\n\006" +
+      "Packet\022(\n\010msg_type\030\001 \001(\0162\026.lawnmower.Mes" +
+      "sageType\022\017\n\007payload\030\002 \001(\014\022&\n\007channel\030\003 \001" +
+      "(\0162\025.lawnmower.UdpChannel\022\013\n\003seq\030\004 \001(\r\022\013" +
+      "\n\003ack\030\005 \001(\r\022\020\n\010ack_bits\030\006 \001(\007\022\023\n\013channel" +
+      "_seq\030\007 \001(\r\022\r\n\005epoch\030\010 \001(\r\022\023\n\013fragment_id" +
+      "\030\t \001(\r\022\026\n\016fragment_index\030\n \001(\r\022\026\n\016fragme" +
+      "nt_count\030\013 \001(\r\022\024\n\014applied_tick\030\014 \001(\r\022\027\n\017" +
+      "baseline_resync\030\r \001(\010*\211\001\n\020ClientCapabili" +
+      "ty\022\023\n\017CLIENT_CAP_NONE\020\000\022!\n\035CLIENT_CAP_QU" +
+      "ANTIZED_POSITION\020\001\022 \n\034CLIENT_CAP_TICK_EV" +
+      "ENT_BUNDLE\020\002\022\033\n\027CLIENT_CAP_RELIABLE_UDP\020" +
+      "\004*\234\t\n\013MessageType\022\017\n\013MSG_UNKNOWN\020\000\022\021\n\rMS" +
+      "G_C2S_LOGIN\020\001\022\030\n\024MSG_S2C_LOGIN_RESULT\020\002\022" +
+      "\025\n\021MSG_C2S_HEARTBEAT\020\003\022\025\n\021MSG_S2C_HEARTB" +
+      "EAT\020\004\022\027\n\023MSG_C2S_CREATE_ROOM\020\n\022\031\n\025MSG_C2" +
+      "S_GET_ROOM_LIST\020\013\022\025\n\021MSG_C2S_JOIN_ROOM\020\014" +
+      "\022\026\n\022MSG_C2S_LEAVE_ROOM\020\r\022\025\n\021MSG_C2S_SET_" +
+      "READY\020\016\022\026\n\022MSG_C2S_START_GAME\020\017\022\030\n\024MSG_C" +
+      "2S_REQUEST_QUIT\020\020\022\036\n\032MSG_S2C_CREATE_ROOM" +
+      "_RESULT\020\024\022\025\n\021MSG_S2C_ROOM_LIST\020\025\022\034\n\030MSG_" +
+      "S2C_JOIN_ROOM_RESULT\020\026\022\035\n\031MSG_S2C_LEAVE_" +
+      "ROOM_RESULT\020\027\022\034\n\030MSG_S2C_SET_READY_RESUL" +
+      "T\020\030\022\027\n\023MSG_S2C_ROOM_UPDATE\020\031\022\026\n\022MSG_S2C_" +
+      "GAME_START\020\032\022\030\n\024MSG_C2S_PLAYER_INPUT\020\036\022\033" +
+      "\n\027MSG_S2C_GAME_STATE_SYNC\020(\022\027\n\023MSG_S2C_P" +
+      "LAYER_HURT\020)\022\026\n\022MSG_S2C_ENEMY_DIED\020*\022\033\n\027" +
+      "MSG_S2C_PLAYER_LEVEL_UP\020+\022\030\n\024MSG_S2C_DRO" +
+      "PPED_ITEM\020,\022\025\n\021MSG_S2C_GAME_OVER\020-\022!\n\035MS" +
+      "G_S2C_GAME_STATE_DELTA_SYNC\020.\022\034\n\030MSG_S2C" +
+      "_PROJECTILE_SPAWN\020/\022\036\n\032MSG_S2C_PROJECTIL" +
+      "E_DESPAWN\0200\022#\n\037MSG_S2C_ENEMY_ATTACK_STAT" +
+      "E_SYNC\0201\022\033\n\027MSG_S2C_UPGRADE_REQUEST\0202\022\037\n" +
+      "\033MSG_C2S_UPGRADE_REQUEST_ACK\0203\022\033\n\027MSG_S2" +
+      "C_UPGRADE_OPTIONS\0204\022\037\n\033MSG_C2S_UPGRADE_O" +
+      "PTIONS_ACK\0205\022\032\n\026MSG_C2S_UPGRADE_SELECT\0206" +
+      "\022\036\n\032MSG_S2C_UPGRADE_SELECT_ACK\0207\022#\n\037MSG_" +
+      "C2S_UPGRADE_REFRESH_REQUEST\0208\022\035\n\031MSG_C2S" +
+      "_RECONNECT_REQUEST\0209\022\031\n\025MSG_S2C_RECONNEC" +
+      "T_ACK\020:\022\035\n\031MSG_S2C_TICK_EVENT_BUNDLE\020;\022\017" +
+      "\n\013MSG_UDP_ACK\020<\022\024\n\020MSG_UDP_FRAGMENT\020=\022\031\n" +
+      "\025MSG_C2S_INTEREST_AREA\020>*d\n\rUpgradeReaso" +
+      "n\022\032\n\026UPGRADE_REASON_UNKNOWN\020\000\022\033\n\027UPGRADE" +
+      "_REASON_LEVEL_UP\020\001\022\032\n\026UPGRADE_REASON_REF" +
+      "RESH\020\002*\271\001\n\013UpgradeType\022\030\n\024UPGRADE_TYPE_U" +
+      "NKNOWN\020\000\022\033\n\027UPGRADE_TYPE_MOVE_SPEED\020\001\022\027\n" +
+      "\023UPGRADE_TYPE_ATTACK\020\002\022\035\n\031UPGRADE_TYPE_A" +
+      "TTACK_SPEED\020\003\022\033\n\027UPGRADE_TYPE_MAX_HEALTH" +
+      "\020\004\022\036\n\032UPGRADE_TYPE_CRITICAL_RATE\020\005*r\n\014Up" +
+      "gradeLevel\022\031\n\025UPGRADE_LEVEL_UNKNOWN\020\000\022\025\n" +
+      "\021UPGRADE_LEVEL_LOW\020\001\022\030\n\024UPGRADE_LEVEL_ME" +
+      "DIUM\020\002\022\026\n\022UPGRADE_LEVEL_HIGH\020\003*\233\001\n\027Proje" +
+      "ctileDespawnReason\022\036\n\032PROJECTILE_DESPAWN" +
+      "_UNKNOWN\020\000\022\032\n\026PROJECTILE_DESPAWN_HIT\020\001\022$" +
+      "\n PROJECTILE_DESPAWN_OUT_OF_BOUNDS\020\002\022\036\n\032" +
+      "PROJECTILE_DESPAWN_EXPIRED\020\003*h\n\016ItemEffe" +
+      "ctType\022\024\n\020ITEM_EFFECT_NONE\020\000\022\024\n\020ITEM_EFF" +
+      "ECT_HEAL\020\001\022\023\n\017ITEM_EFFECT_EXP\020\002\022\025\n\021ITEM_" +
+      "EFFECT_SPEED\020\003*l\n\rItemDeltaMask\022\023\n\017ITEM_" +
+      "DELTA_NONE\020\000\022\027\n\023ITEM_DELTA_POSITION\020\001\022\030\n" +
+      "\024ITEM_DELTA_IS_PICKED\020\002\022\023\n\017ITEM_DELTA_TY" +
+      "PE\020\004*\244\001\n\017PlayerDeltaMask\022\025\n\021PLAYER_DELTA" +
+      "_NONE\020\000\022\031\n\025PLAYER_DELTA_POSITION\020\001\022\031\n\025PL" +
+      "AYER_DELTA_ROTATION\020\002\022\031\n\025PLAYER_DELTA_IS" +
+      "_ALIVE\020\004\022)\n%PLAYER_DELTA_LAST_PROCESSED_" +
+      "INPUT_SEQ\020\010*r\n\016EnemyDeltaMask\022\024\n\020ENEMY_D" +
+      "ELTA_NONE\020\000\022\030\n\024ENEMY_DELTA_POSITION\020\001\022\026\n" +
+      "\022ENEMY_DELTA_HEALTH\020\002\022\030\n\024ENEMY_DELTA_IS_" +
+      "ALIVE\020\004*\224\001\n\nUdpChannel\022\032\n\026UDP_CHANNEL_UN" +
+      "RELIABLE\020\000\022$\n UDP_CHANNEL_UNRELIABLE_SEQ" +
+      "UENCED\020\001\022\"\n\036UDP_CHANNEL_RELIABLE_UNORDER" +
+      "ED\020\002\022 \n\034UDP_CHANNEL_RELIABLE_ORDERED\020\003b\006" +
+      "proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -56630,331 +64937,343 @@ public final class Message {
     internal_static_lawnmower_SceneInfo_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_SceneInfo_descriptor,
-        new java.lang.String[] { "SceneId", "Width", "Height", "TickRate", "StateSyncRate", });
+        new java.lang.String[] { "SceneId", "Width", "Height", "TickRate", "StateSyncRate", "PositionScale", });
     internal_static_lawnmower_C2S_Login_descriptor =
       getDescriptor().getMessageTypes().get(3);
     internal_static_lawnmower_C2S_Login_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_C2S_Login_descriptor,
-        new java.lang.String[] { "PlayerName", });
+        new java.lang.String[] { "PlayerName", "Capabilities", });
     internal_static_lawnmower_S2C_LoginResult_descriptor =
       getDescriptor().getMessageTypes().get(4);
     internal_static_lawnmower_S2C_LoginResult_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_S2C_LoginResult_descriptor,
         new java.lang.String[] { "Success", "PlayerId", "MessageLogin", "SessionToken", });
-    internal_static_lawnmower_C2S_Heartbeat_descriptor =
+    internal_static_lawnmower_C2S_InterestArea_descriptor =
       getDescriptor().getMessageTypes().get(5);
+    internal_static_lawnmower_C2S_InterestArea_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_lawnmower_C2S_InterestArea_descriptor,
+        new java.lang.String[] { "MinX", "MinY", "MaxX", "MaxY", });
+    internal_static_lawnmower_C2S_Heartbeat_descriptor =
+      getDescriptor().getMessageTypes().get(6);
     internal_static_lawnmower_C2S_Heartbeat_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_C2S_Heartbeat_descriptor,
         new java.lang.String[] { "Timestamp", });
     internal_static_lawnmower_S2C_Heartbeat_descriptor =
-      getDescriptor().getMessageTypes().get(6);
+      getDescriptor().getMessageTypes().get(7);
     internal_static_lawnmower_S2C_Heartbeat_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_S2C_Heartbeat_descriptor,
         new java.lang.String[] { "Timestamp", "OnlinePlayers", });
     internal_static_lawnmower_C2S_ReconnectRequest_descriptor =
-      getDescriptor().getMessageTypes().get(7);
+      getDescriptor().getMessageTypes().get(8);
     internal_static_lawnmower_C2S_ReconnectRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_C2S_ReconnectRequest_descriptor,
-        new java.lang.String[] { "PlayerId", "RoomId", "SessionToken", "LastInputSeq", "LastServerTick", });
+        new java.lang.String[] { "PlayerId", "RoomId", "SessionToken", "LastInputSeq", "LastServerTick", "Capabilities", });
     internal_static_lawnmower_S2C_ReconnectAck_descriptor =
-      getDescriptor().getMessageTypes().get(8);
+      getDescriptor().getMessageTypes().get(9);
     internal_static_lawnmower_S2C_ReconnectAck_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_S2C_ReconnectAck_descriptor,
-        new java.lang.String[] { "Success", "Message", "PlayerId", "RoomId", "ServerTick", "IsPlaying", "IsPaused", "SessionToken", });
+        new java.lang.String[] { "Success", "Message", "PlayerId", "RoomId", "ServerTick", "IsPlaying", "IsPaused", "SessionToken", "CatchUp", "RemovedEnemyIds", "RemovedItemIds", });
     internal_static_lawnmower_RoomInfo_descriptor =
-      getDescriptor().getMessageTypes().get(9);
+      getDescriptor().getMessageTypes().get(10);
     internal_static_lawnmower_RoomInfo_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_RoomInfo_descriptor,
         new java.lang.String[] { "RoomId", "RoomName", "CurrentPlayers", "MaxPlayers", "IsPlaying", "HostName", });
     internal_static_lawnmower_PlayerInfo_descriptor =
-      getDescriptor().getMessageTypes().get(10);
+      getDescriptor().getMessageTypes().get(11);
     internal_static_lawnmower_PlayerInfo_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_PlayerInfo_descriptor,
         new java.lang.String[] { "PlayerId", "PlayerName", "IsReady", "IsHost", });
     internal_static_lawnmower_C2S_CreateRoom_descriptor =
-      getDescriptor().getMessageTypes().get(11);
+      getDescriptor().getMessageTypes().get(12);
     internal_static_lawnmower_C2S_CreateRoom_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_C2S_CreateRoom_descriptor,
         new java.lang.String[] { "RoomName", "MaxPlayers", });
     internal_static_lawnmower_C2S_GetRoomList_descriptor =
-      getDescriptor().getMessageTypes().get(12);
+      getDescriptor().getMessageTypes().get(13);
     internal_static_lawnmower_C2S_GetRoomList_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_C2S_GetRoomList_descriptor,
         new java.lang.String[] { });
     internal_static_lawnmower_C2S_JoinRoom_descriptor =
-      getDescriptor().getMessageTypes().get(13);
+      getDescriptor().getMessageTypes().get(14);
     internal_static_lawnmower_C2S_JoinRoom_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_C2S_JoinRoom_descriptor,
         new java.lang.String[] { "RoomId", });
     internal_static_lawnmower_C2S_LeaveRoom_descriptor =
-      getDescriptor().getMessageTypes().get(14);
+      getDescriptor().getMessageTypes().get(15);
     internal_static_lawnmower_C2S_LeaveRoom_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_C2S_LeaveRoom_descriptor,
         new java.lang.String[] { });
     internal_static_lawnmower_C2S_SetReady_descriptor =
-      getDescriptor().getMessageTypes().get(15);
+      getDescriptor().getMessageTypes().get(16);
     internal_static_lawnmower_C2S_SetReady_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_C2S_SetReady_descriptor,
         new java.lang.String[] { "IsReady", });
     internal_static_lawnmower_C2S_StartGame_descriptor =
-      getDescriptor().getMessageTypes().get(16);
+      getDescriptor().getMessageTypes().get(17);
     internal_static_lawnmower_C2S_StartGame_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_C2S_StartGame_descriptor,
         new java.lang.String[] { });
     internal_static_lawnmower_S2C_CreateRoomResult_descriptor =
-      getDescriptor().getMessageTypes().get(17);
+      getDescriptor().getMessageTypes().get(18);
     internal_static_lawnmower_S2C_CreateRoomResult_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_S2C_CreateRoomResult_descriptor,
         new java.lang.String[] { "Success", "RoomId", "MessageCreate", });
     internal_static_lawnmower_S2C_RoomList_descriptor =
-      getDescriptor().getMessageTypes().get(18);
+      getDescriptor().getMessageTypes().get(19);
     internal_static_lawnmower_S2C_RoomList_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_S2C_RoomList_descriptor,
         new java.lang.String[] { "Rooms", });
     internal_static_lawnmower_S2C_JoinRoomResult_descriptor =
-      getDescriptor().getMessageTypes().get(19);
+      getDescriptor().getMessageTypes().get(20);
     internal_static_lawnmower_S2C_JoinRoomResult_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_S2C_JoinRoomResult_descriptor,
         new java.lang.String[] { "Success", "MessageJoin", });
     internal_static_lawnmower_S2C_LeaveRoomResult_descriptor =
-      getDescriptor().getMessageTypes().get(20);
+      getDescriptor().getMessageTypes().get(21);
     internal_static_lawnmower_S2C_LeaveRoomResult_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_S2C_LeaveRoomResult_descriptor,
         new java.lang.String[] { "Success", "MessageLeave", });
     internal_static_lawnmower_S2C_SetReadyResult_descriptor =
-      getDescriptor().getMessageTypes().get(21);
+      getDescriptor().getMessageTypes().get(22);
     internal_static_lawnmower_S2C_SetReadyResult_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_S2C_SetReadyResult_descriptor,
         new java.lang.String[] { "Success", "RoomId", "IsReady", "MessageReady", });
     internal_static_lawnmower_S2C_RoomUpdate_descriptor =
-      getDescriptor().getMessageTypes().get(22);
+      getDescriptor().getMessageTypes().get(23);
     internal_static_lawnmower_S2C_RoomUpdate_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_S2C_RoomUpdate_descriptor,
         new java.lang.String[] { "RoomId", "Players", });
     internal_static_lawnmower_S2C_GameStart_descriptor =
-      getDescriptor().getMessageTypes().get(23);
+      getDescriptor().getMessageTypes().get(24);
     internal_static_lawnmower_S2C_GameStart_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_S2C_GameStart_descriptor,
         new java.lang.String[] { "RoomId", "StartTime", "Success", "MessageStart", "Scene", });
     internal_static_lawnmower_PlayerState_descriptor =
-      getDescriptor().getMessageTypes().get(24);
+      getDescriptor().getMessageTypes().get(25);
     internal_static_lawnmower_PlayerState_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_PlayerState_descriptor,
         new java.lang.String[] { "PlayerId", "Position", "Rotation", "Health", "MaxHealth", "Level", "Exp", "ExpToNext", "IsAlive", "Attack", "IsFriendly", "RoleId", "CriticalHitRate", "HasBuff", "BuffId", "AttackSpeed", "MoveSpeed", "LastProcessedInputSeq", });
     internal_static_lawnmower_UpgradeEffect_descriptor =
-      getDescriptor().getMessageTypes().get(25);
+      getDescriptor().getMessageTypes().get(26);
     internal_static_lawnmower_UpgradeEffect_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_UpgradeEffect_descriptor,
         new java.lang.String[] { "Type", "Level", "Value", });
     internal_static_lawnmower_UpgradeOption_descriptor =
-      getDescriptor().getMessageTypes().get(26);
+      getDescriptor().getMessageTypes().get(27);
     internal_static_lawnmower_UpgradeOption_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_UpgradeOption_descriptor,
         new java.lang.String[] { "OptionIndex", "Effects", });
     internal_static_lawnmower_Projectile_descriptor =
-      getDescriptor().getMessageTypes().get(27);
+      getDescriptor().getMessageTypes().get(28);
     internal_static_lawnmower_Projectile_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_Projectile_descriptor,
         new java.lang.String[] { "Speed", "HasBuff", "BuffId", "IsFriendly", "Damage", });
     internal_static_lawnmower_ProjectileState_descriptor =
-      getDescriptor().getMessageTypes().get(28);
+      getDescriptor().getMessageTypes().get(29);
     internal_static_lawnmower_ProjectileState_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_ProjectileState_descriptor,
         new java.lang.String[] { "ProjectileId", "OwnerPlayerId", "Position", "Rotation", "TtlMs", "Projectile", });
     internal_static_lawnmower_ProjectileDespawn_descriptor =
-      getDescriptor().getMessageTypes().get(29);
+      getDescriptor().getMessageTypes().get(30);
     internal_static_lawnmower_ProjectileDespawn_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_ProjectileDespawn_descriptor,
         new java.lang.String[] { "ProjectileId", "Reason", "HitEnemyId", "Position", });
     internal_static_lawnmower_EnemyState_descriptor =
-      getDescriptor().getMessageTypes().get(30);
+      getDescriptor().getMessageTypes().get(31);
     internal_static_lawnmower_EnemyState_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_EnemyState_descriptor,
         new java.lang.String[] { "EnemyId", "TypeId", "Position", "Health", "MaxHealth", "IsAlive", "WaveId", "IsFriendly", });
     internal_static_lawnmower_ItemState_descriptor =
-      getDescriptor().getMessageTypes().get(31);
+      getDescriptor().getMessageTypes().get(32);
     internal_static_lawnmower_ItemState_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_ItemState_descriptor,
         new java.lang.String[] { "ItemId", "TypeId", "Position", "IsPicked", });
     internal_static_lawnmower_PlayerStateDelta_descriptor =
-      getDescriptor().getMessageTypes().get(32);
+      getDescriptor().getMessageTypes().get(33);
     internal_static_lawnmower_PlayerStateDelta_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_PlayerStateDelta_descriptor,
-        new java.lang.String[] { "PlayerId", "ChangedMask", "Position", "Rotation", "IsAlive", "LastProcessedInputSeq", "Rotation", "IsAlive", "LastProcessedInputSeq", });
+        new java.lang.String[] { "PlayerId", "ChangedMask", "Position", "Rotation", "IsAlive", "LastProcessedInputSeq", "PositionQ", "Rotation", "IsAlive", "LastProcessedInputSeq", });
     internal_static_lawnmower_EnemyStateDelta_descriptor =
-      getDescriptor().getMessageTypes().get(33);
+      getDescriptor().getMessageTypes().get(34);
     internal_static_lawnmower_EnemyStateDelta_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_EnemyStateDelta_descriptor,
-        new java.lang.String[] { "EnemyId", "ChangedMask", "Position", "Health", "IsAlive", "Health", "IsAlive", });
+        new java.lang.String[] { "EnemyId", "ChangedMask", "Position", "Health", "IsAlive", "PositionQ", "Health", "IsAlive", });
     internal_static_lawnmower_ItemStateDelta_descriptor =
-      getDescriptor().getMessageTypes().get(34);
+      getDescriptor().getMessageTypes().get(35);
     internal_static_lawnmower_ItemStateDelta_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_ItemStateDelta_descriptor,
-        new java.lang.String[] { "ItemId", "ChangedMask", "Position", "IsPicked", "TypeId", "IsPicked", "TypeId", });
+        new java.lang.String[] { "ItemId", "ChangedMask", "Position", "IsPicked", "TypeId", "PositionQ", "IsPicked", "TypeId", });
     internal_static_lawnmower_S2C_GameStateDeltaSync_descriptor =
-      getDescriptor().getMessageTypes().get(35);
+      getDescriptor().getMessageTypes().get(36);
     internal_static_lawnmower_S2C_GameStateDeltaSync_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_S2C_GameStateDeltaSync_descriptor,
-        new java.lang.String[] { "SyncTime", "RoomId", "Players", "Enemies", "Items", });
+        new java.lang.String[] { "SyncTime", "RoomId", "Players", "Enemies", "Items", "BaselineTick", "EnteredEnemies", "LeftEnemyIds", "EnteredItems", "LeftItemIds", });
     internal_static_lawnmower_C2S_PlayerInput_descriptor =
-      getDescriptor().getMessageTypes().get(36);
+      getDescriptor().getMessageTypes().get(37);
     internal_static_lawnmower_C2S_PlayerInput_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_C2S_PlayerInput_descriptor,
         new java.lang.String[] { "PlayerId", "MoveDirection", "IsAttacking", "InputTime", "InputSeq", "DeltaMs", "SessionToken", });
     internal_static_lawnmower_S2C_GameStateSync_descriptor =
-      getDescriptor().getMessageTypes().get(37);
+      getDescriptor().getMessageTypes().get(38);
     internal_static_lawnmower_S2C_GameStateSync_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_S2C_GameStateSync_descriptor,
-        new java.lang.String[] { "SyncTime", "Players", "Enemies", "Items", "RoomId", "IsFullSnapshot", });
+        new java.lang.String[] { "SyncTime", "Players", "Enemies", "Items", "RoomId", "IsFullSnapshot", "PartIndex", "PartCount", "BaselineTick", "RemovedEnemyIds", "RemovedItemIds", "CatchUp", });
     internal_static_lawnmower_S2C_ProjectileSpawn_descriptor =
-      getDescriptor().getMessageTypes().get(38);
+      getDescriptor().getMessageTypes().get(39);
     internal_static_lawnmower_S2C_ProjectileSpawn_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_S2C_ProjectileSpawn_descriptor,
         new java.lang.String[] { "SyncTime", "RoomId", "Projectiles", });
     internal_static_lawnmower_S2C_ProjectileDespawn_descriptor =
-      getDescriptor().getMessageTypes().get(39);
+      getDescriptor().getMessageTypes().get(40);
     internal_static_lawnmower_S2C_ProjectileDespawn_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_S2C_ProjectileDespawn_descriptor,
         new java.lang.String[] { "SyncTime", "RoomId", "Projectiles", });
     internal_static_lawnmower_EnemyAttackStateDelta_descriptor =
-      getDescriptor().getMessageTypes().get(40);
+      getDescriptor().getMessageTypes().get(41);
     internal_static_lawnmower_EnemyAttackStateDelta_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_EnemyAttackStateDelta_descriptor,
         new java.lang.String[] { "EnemyId", "IsAttacking", "TargetPlayerId", });
     internal_static_lawnmower_S2C_EnemyAttackStateSync_descriptor =
-      getDescriptor().getMessageTypes().get(41);
+      getDescriptor().getMessageTypes().get(42);
     internal_static_lawnmower_S2C_EnemyAttackStateSync_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_S2C_EnemyAttackStateSync_descriptor,
         new java.lang.String[] { "SyncTime", "RoomId", "Enemies", });
     internal_static_lawnmower_S2C_PlayerHurt_descriptor =
-      getDescriptor().getMessageTypes().get(42);
+      getDescriptor().getMessageTypes().get(43);
     internal_static_lawnmower_S2C_PlayerHurt_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_S2C_PlayerHurt_descriptor,
         new java.lang.String[] { "PlayerId", "Damage", "RemainingHealth", "SourceId", });
     internal_static_lawnmower_S2C_EnemyDied_descriptor =
-      getDescriptor().getMessageTypes().get(43);
+      getDescriptor().getMessageTypes().get(44);
     internal_static_lawnmower_S2C_EnemyDied_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_S2C_EnemyDied_descriptor,
         new java.lang.String[] { "EnemyId", "KillerPlayerId", "WaveId", "Position", });
     internal_static_lawnmower_S2C_PlayerLevelUp_descriptor =
-      getDescriptor().getMessageTypes().get(44);
+      getDescriptor().getMessageTypes().get(45);
     internal_static_lawnmower_S2C_PlayerLevelUp_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_S2C_PlayerLevelUp_descriptor,
         new java.lang.String[] { "PlayerId", "NewLevel", "ExpToNext", });
+    internal_static_lawnmower_S2C_TickEventBundle_descriptor =
+      getDescriptor().getMessageTypes().get(46);
+    internal_static_lawnmower_S2C_TickEventBundle_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_lawnmower_S2C_TickEventBundle_descriptor,
+        new java.lang.String[] { "SyncTime", "RoomId", "ProjectileSpawn", "ProjectileDespawn", "DroppedItem", "EnemyAttackState", "PlayerHurts", "EnemyDieds", "LevelUps", });
     internal_static_lawnmower_S2C_UpgradeRequest_descriptor =
-      getDescriptor().getMessageTypes().get(45);
+      getDescriptor().getMessageTypes().get(47);
     internal_static_lawnmower_S2C_UpgradeRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_S2C_UpgradeRequest_descriptor,
         new java.lang.String[] { "RoomId", "PlayerId", "Reason", });
     internal_static_lawnmower_C2S_UpgradeRequestAck_descriptor =
-      getDescriptor().getMessageTypes().get(46);
+      getDescriptor().getMessageTypes().get(48);
     internal_static_lawnmower_C2S_UpgradeRequestAck_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_C2S_UpgradeRequestAck_descriptor,
         new java.lang.String[] { "RoomId", "PlayerId", });
     internal_static_lawnmower_S2C_UpgradeOptions_descriptor =
-      getDescriptor().getMessageTypes().get(47);
+      getDescriptor().getMessageTypes().get(49);
     internal_static_lawnmower_S2C_UpgradeOptions_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_S2C_UpgradeOptions_descriptor,
         new java.lang.String[] { "RoomId", "PlayerId", "Reason", "Options", "RefreshRemaining", });
     internal_static_lawnmower_C2S_UpgradeOptionsAck_descriptor =
-      getDescriptor().getMessageTypes().get(48);
+      getDescriptor().getMessageTypes().get(50);
     internal_static_lawnmower_C2S_UpgradeOptionsAck_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_C2S_UpgradeOptionsAck_descriptor,
         new java.lang.String[] { "RoomId", "PlayerId", });
     internal_static_lawnmower_C2S_UpgradeSelect_descriptor =
-      getDescriptor().getMessageTypes().get(49);
+      getDescriptor().getMessageTypes().get(51);
     internal_static_lawnmower_C2S_UpgradeSelect_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_C2S_UpgradeSelect_descriptor,
         new java.lang.String[] { "RoomId", "PlayerId", "OptionIndex", });
     internal_static_lawnmower_S2C_UpgradeSelectAck_descriptor =
-      getDescriptor().getMessageTypes().get(50);
+      getDescriptor().getMessageTypes().get(52);
     internal_static_lawnmower_S2C_UpgradeSelectAck_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_S2C_UpgradeSelectAck_descriptor,
         new java.lang.String[] { "RoomId", "PlayerId", "OptionIndex", });
     internal_static_lawnmower_C2S_UpgradeRefreshRequest_descriptor =
-      getDescriptor().getMessageTypes().get(51);
+      getDescriptor().getMessageTypes().get(53);
     internal_static_lawnmower_C2S_UpgradeRefreshRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_C2S_UpgradeRefreshRequest_descriptor,
         new java.lang.String[] { "RoomId", "PlayerId", });
     internal_static_lawnmower_S2C_DroppedItem_descriptor =
-      getDescriptor().getMessageTypes().get(52);
+      getDescriptor().getMessageTypes().get(54);
     internal_static_lawnmower_S2C_DroppedItem_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_S2C_DroppedItem_descriptor,
         new java.lang.String[] { "Items", "SourceEnemyId", "WaveId", "SyncTime", "RoomId", });
     internal_static_lawnmower_PlayerScore_descriptor =
-      getDescriptor().getMessageTypes().get(53);
+      getDescriptor().getMessageTypes().get(55);
     internal_static_lawnmower_PlayerScore_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_PlayerScore_descriptor,
         new java.lang.String[] { "PlayerId", "PlayerName", "FinalLevel", "KillCount", "DamageDealt", });
     internal_static_lawnmower_S2C_GameOver_descriptor =
-      getDescriptor().getMessageTypes().get(54);
+      getDescriptor().getMessageTypes().get(56);
     internal_static_lawnmower_S2C_GameOver_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_S2C_GameOver_descriptor,
         new java.lang.String[] { "Victory", "SurviveTime", "Scores", });
     internal_static_lawnmower_EnemyConfig_descriptor =
-      getDescriptor().getMessageTypes().get(55);
+      getDescriptor().getMessageTypes().get(57);
     internal_static_lawnmower_EnemyConfig_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_EnemyConfig_descriptor,
         new java.lang.String[] { "TypeId", "Name", "TextureId", "WalkAnimId", "DieAnimId", "MaxHealth", "Speed", "Damage", "ExpReward", });
     internal_static_lawnmower_Packet_descriptor =
-      getDescriptor().getMessageTypes().get(56);
+      getDescriptor().getMessageTypes().get(58);
     internal_static_lawnmower_Packet_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lawnmower_Packet_descriptor,
-        new java.lang.String[] { "MsgType", "Payload", });
+        new java.lang.String[] { "MsgType", "Payload", "Channel", "Seq", "Ack", "AckBits", "ChannelSeq", "Epoch", "FragmentId", "FragmentIndex", "FragmentCount", "AppliedTick", "BaselineResync", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
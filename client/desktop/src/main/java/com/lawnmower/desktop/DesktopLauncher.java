@@ -4,20 +4,31 @@ import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3WindowAdapter;
 import com.lawnmower.Main;
+import com.lawnmower.metrics.jfr.FlightRecording;
+import com.lawnmower.network.JitterBufferEstimator;
+import com.lawnmower.network.LinkProfile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.FileDescriptor;
 import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.PrintStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
 
 public class DesktopLauncher {
     private static final Logger log = LoggerFactory.getLogger(DesktopLauncher.class);
+    private static final long DEFAULT_METRICS_PERIOD_MS = 5_000L;
+    private static final long DEFAULT_JFR_MAX_AGE_MINUTES = 10L;
+    private static final Path DEFAULT_HITCH_DIR = Path.of("logs", "hitches");
+    private static final long DEFAULT_HITCH_THRESHOLD_MS = 100L;
 
     public static void main(String[] args) {
         forceUtf8Console();
         Main game = new Main();
+        applyLaunchOptions(game, args);
         Lwjgl3ApplicationConfiguration config = new Lwjgl3ApplicationConfiguration();
         config.setTitle("植物大战僵尸-ROGUELIKE");
         config.setWindowedMode(1000, 563);
@@ -34,6 +45,115 @@ public class DesktopLauncher {
         new Lwjgl3Application(game, config);
     }
 
+    /**
+     * 启动参数：
+     * <pre>
+     *   --record &lt;file&gt;        录制本次会话收到的数据包
+     *   --replay &lt;file&gt;        回放录制文件，不连接服务器
+     *   --replay-speed &lt;x&gt;     回放倍速（默认 1，0 表示不等待）
+     *   --link &lt;profile&gt;      本地网络模拟，预设名（见 netsim/link-profiles.properties）或 latency=75,loss=0.05 形式
+     *   --metrics &lt;file&gt;       周期性把指标快照追加写入 CSV 文件
+     *   --metrics-period &lt;ms&gt;  指标快照周期（默认 5000）
+     *   --jfr &lt;file&gt;           连续 JFR 录制（default 配置 + 客户端自定义事件），退出时写出最近一段
+     *   --jfr-max-age &lt;min&gt;    JFR 保留的最近时长（默认 10 分钟）
+     *   --hitch-threshold &lt;ms&gt; 帧间隔超过该值时写出卡顿报告（默认 100，0 关闭）
+     *   --hitch-dir &lt;dir&gt;       卡顿报告目录（默认 logs/hitches）
+     *   --jitter-percentile &lt;p&gt; 插值缓冲覆盖的快照到达间隔分位数（默认 0.95，取值 0~1）
+     * </pre>
+     */
+    private static void applyLaunchOptions(Main game, String[] args) {
+        Path recordPath = null;
+        Path replayPath = null;
+        float replaySpeed = 1f;
+        Path metricsPath = null;
+        long metricsPeriodMs = DEFAULT_METRICS_PERIOD_MS;
+        Path jfrPath = null;
+        long jfrMaxAgeMinutes = DEFAULT_JFR_MAX_AGE_MINUTES;
+        Path hitchDir = DEFAULT_HITCH_DIR;
+        long hitchThresholdMs = DEFAULT_HITCH_THRESHOLD_MS;
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (i + 1 >= args.length) {
+                log.warn("Ignoring launch option without value: {}", arg);
+                break;
+            }
+            switch (arg) {
+                case "--record" -> recordPath = Path.of(args[++i]);
+                case "--replay" -> replayPath = Path.of(args[++i]);
+                case "--replay-speed" -> {
+                    String value = args[++i];
+                    try {
+                        replaySpeed = Float.parseFloat(value);
+                    } catch (NumberFormatException e) {
+                        log.warn("Invalid --replay-speed {}, using 1", value);
+                    }
+                }
+                case "--link" -> {
+                    String value = args[++i];
+                    try {
+                        game.configureLinkProfile(LinkProfile.resolveNamed(value));
+                    } catch (IOException | IllegalArgumentException e) {
+                        log.warn("Invalid --link {}: {}", value, e.getMessage());
+                    }
+                }
+                case "--metrics" -> metricsPath = Path.of(args[++i]);
+                case "--metrics-period" -> {
+                    String value = args[++i];
+                    try {
+                        metricsPeriodMs = Math.max(100L, Long.parseLong(value));
+                    } catch (NumberFormatException e) {
+                        log.warn("Invalid --metrics-period {}, using {}", value, DEFAULT_METRICS_PERIOD_MS);
+                    }
+                }
+                case "--jfr" -> jfrPath = Path.of(args[++i]);
+                case "--jfr-max-age" -> {
+                    String value = args[++i];
+                    try {
+                        jfrMaxAgeMinutes = Math.max(1L, Long.parseLong(value));
+                    } catch (NumberFormatException e) {
+                        log.warn("Invalid --jfr-max-age {}, using {}", value, DEFAULT_JFR_MAX_AGE_MINUTES);
+                    }
+                }
+                case "--hitch-dir" -> hitchDir = Path.of(args[++i]);
+                case "--jitter-percentile" -> {
+                    String value = args[++i];
+                    float percentile = Float.NaN;
+                    try {
+                        percentile = Float.parseFloat(value);
+                    } catch (NumberFormatException ignored) {
+                    }
+                    if (percentile > 0f && percentile < 1f) {
+                        game.configureJitterPercentile(percentile);
+                    } else {
+                        log.warn("Invalid --jitter-percentile {}, using {}", value,
+                                JitterBufferEstimator.DEFAULT_PERCENTILE);
+                    }
+                }
+                case "--hitch-threshold" -> {
+                    String value = args[++i];
+                    try {
+                        hitchThresholdMs = Long.parseLong(value);
+                    } catch (NumberFormatException e) {
+                        log.warn("Invalid --hitch-threshold {}, using {}", value, DEFAULT_HITCH_THRESHOLD_MS);
+                    }
+                }
+                default -> log.warn("Unknown launch option: {}", arg);
+            }
+        }
+        if (replayPath != null) {
+            game.configureReplay(replayPath, replaySpeed);
+        } else if (recordPath != null) {
+            game.configureRecording(recordPath);
+        }
+        if (metricsPath != null) {
+            game.configureMetricsSnapshot(metricsPath, metricsPeriodMs);
+        }
+        game.configureHitchRecorder(hitchDir, hitchThresholdMs);
+        if (jfrPath != null) {
+            FlightRecording.start(jfrPath, Duration.ofMinutes(jfrMaxAgeMinutes));
+        }
+    }
+
     private static void forceUtf8Console() {
         try {
             System.setProperty("sun.stdout.encoding", "UTF-8");
@@ -0,0 +1,209 @@
+package com.lawnmower.headless;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 单轮模拟的帧耗时 / 分配 / GC 采样器。
+ * <p>
+ * 帧耗时按纳秒记录到预分配数组中，结束时排序取分位数；
+ * 分配量取自 com.sun.management.ThreadMXBean 的线程累计分配字节数（仅统计渲染线程在 beginFrame..endFrame 之间的部分）；
+ * GC 停顿通过 GarbageCollectorMXBean 的通知收集，覆盖采样区间内所有收集器。
+ */
+final class FrameProfiler implements NotificationListener {
+
+    private final long[] frameNanos;
+    private final com.sun.management.ThreadMXBean threadBean;
+    private final boolean allocationSupported;
+    private final List<NotificationEmitter> emitters = new ArrayList<>();
+    private final AtomicLong gcCount = new AtomicLong();
+    private final AtomicLong gcTotalMs = new AtomicLong();
+    private final AtomicLong gcMaxMs = new AtomicLong();
+
+    private int frames;
+    private long frameStartNanos;
+    private long frameAllocStartBytes;
+    private long networkStartNanos;
+    private long networkAllocStartBytes;
+    private long networkNanos;
+    private long allocBytes;
+    private long maxQueueSize;
+    private long packets;
+    private long packetBytes;
+    private boolean active;
+
+    FrameProfiler(int capacity) {
+        this.frameNanos = new long[Math.max(1, capacity)];
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean sunBean
+                && sunBean.isThreadAllocatedMemorySupported()) {
+            sunBean.setThreadAllocatedMemoryEnabled(true);
+            this.threadBean = sunBean;
+            this.allocationSupported = true;
+        } else {
+            this.threadBean = null;
+            this.allocationSupported = false;
+        }
+    }
+
+    /**
+     * 开始采样（预热结束后调用），此前的帧不计入统计
+     */
+    void start() {
+        frames = 0;
+        allocBytes = 0L;
+        networkNanos = 0L;
+        maxQueueSize = 0L;
+        packets = 0L;
+        packetBytes = 0L;
+        gcCount.set(0L);
+        gcTotalMs.set(0L);
+        gcMaxMs.set(0L);
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (gc instanceof NotificationEmitter emitter) {
+                emitter.addNotificationListener(this, null, null);
+                emitters.add(emitter);
+            }
+        }
+        active = true;
+    }
+
+    void stop() {
+        if (!active) {
+            return;
+        }
+        active = false;
+        for (NotificationEmitter emitter : emitters) {
+            try {
+                emitter.removeNotificationListener(this);
+            } catch (Exception ignored) {
+                // 监听器已被移除
+            }
+        }
+        emitters.clear();
+    }
+
+    boolean isActive() {
+        return active;
+    }
+
+    /**
+     * 线上由网络线程承担的工作（解析、增量预合并）单独计时，不计入帧耗时；分配量计入每帧分配
+     */
+    void beginNetwork() {
+        networkAllocStartBytes = currentThreadAllocatedBytes();
+        networkStartNanos = System.nanoTime();
+    }
+
+    void endNetwork() {
+        long elapsed = System.nanoTime() - networkStartNanos;
+        if (!active) {
+            return;
+        }
+        networkNanos += elapsed;
+        allocBytes += currentThreadAllocatedBytes() - networkAllocStartBytes;
+    }
+
+    /**
+     * 帧耗时与分配量只统计 beginFrame..endFrame 之间，合成服务器产包等客户端之外的开销放在区间外
+     */
+    void beginFrame() {
+        frameAllocStartBytes = currentThreadAllocatedBytes();
+        frameStartNanos = System.nanoTime();
+    }
+
+    void endFrame(int queueSize) {
+        long elapsed = System.nanoTime() - frameStartNanos;
+        if (!active) {
+            return;
+        }
+        allocBytes += currentThreadAllocatedBytes() - frameAllocStartBytes;
+        if (frames < frameNanos.length) {
+            frameNanos[frames++] = elapsed;
+        }
+        if (queueSize > maxQueueSize) {
+            maxQueueSize = queueSize;
+        }
+    }
+
+    void recordPacket(int bytes) {
+        if (!active) {
+            return;
+        }
+        packets++;
+        packetBytes += bytes;
+    }
+
+    @Override
+    public void handleNotification(Notification notification, Object handback) {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            return;
+        }
+        GarbageCollectionNotificationInfo info =
+                GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        long duration = info.getGcInfo().getDuration();
+        gcCount.incrementAndGet();
+        gcTotalMs.addAndGet(duration);
+        gcMaxMs.accumulateAndGet(duration, Math::max);
+    }
+
+    Result result(int enemyCount) {
+        long[] sorted = Arrays.copyOf(frameNanos, frames);
+        Arrays.sort(sorted);
+        long total = 0L;
+        for (long value : sorted) {
+            total += value;
+        }
+        double mean = frames == 0 ? 0.0 : (double) total / frames;
+        return new Result(
+                enemyCount,
+                frames,
+                nanosToMs(percentile(sorted, 0.50)),
+                nanosToMs(percentile(sorted, 0.99)),
+                nanosToMs(frames == 0 ? 0L : sorted[frames - 1]),
+                mean / 1_000_000.0,
+                frames == 0 ? 0.0 : (double) networkNanos / frames / 1_000_000.0,
+                allocationSupported && frames > 0 ? allocBytes / frames : -1L,
+                gcCount.get(),
+                gcTotalMs.get(),
+                gcMaxMs.get(),
+                packets,
+                packetBytes,
+                maxQueueSize);
+    }
+
+    private long currentThreadAllocatedBytes() {
+        return allocationSupported ? threadBean.getCurrentThreadAllocatedBytes() : 0L;
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0L;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    private static double nanosToMs(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * 单轮结果，networkMeanMs 为每帧平均的网络线程工作耗时，allocBytesPerFrame 为 -1 表示当前 JVM 不支持线程分配统计
+     */
+    record Result(int enemies, int frames, double p50Ms, double p99Ms, double maxMs, double meanMs,
+                  double networkMeanMs,
+                  long allocBytesPerFrame, long gcCount, long gcTotalMs, long gcMaxMs,
+                  long packets, long packetBytes, long maxQueueSize) {
+    }
+}
@@ -0,0 +1,62 @@
+package com.lawnmower.headless;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * 无窗口环境下运行 core 逻辑所需的 Gdx 全局对象（Gdx.app / Gdx.files / Gdx.gl）。
+ * 供 headless 压测与 benchmarks 模块共用。
+ */
+public final class HeadlessEnvironment {
+
+    private HeadlessEnvironment() {
+    }
+
+    /**
+     * 若当前进程还没有 Gdx 应用，则启动一个不调用 render 的空 HeadlessApplication，并装上空 GL
+     */
+    public static synchronized void ensureInitialized() {
+        if (Gdx.app == null) {
+            HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+            config.updatesPerSecond = -1;
+            new HeadlessApplication(new ApplicationAdapter() { }, config);
+            Gdx.app.setLogLevel(Application.LOG_ERROR);
+        }
+        installNoopGl();
+    }
+
+    /**
+     * headless 后端不提供 GL 实现，纹理 / 图集加载仍会调用 GL；这里装一个全部返回默认值的空实现，
+     * 只跳过真正的显存上传，资源解析与区域计算照常进行
+     */
+    public static void installNoopGl() {
+        if (Gdx.gl != null) {
+            return;
+        }
+        GL20 gl = (GL20) Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class<?>[]{GL20.class},
+                (proxy, method, args) -> {
+                    Class<?> type = method.getReturnType();
+                    if (type == boolean.class) {
+                        return false;
+                    }
+                    if (type == int.class) {
+                        return 0;
+                    }
+                    if (type == float.class) {
+                        return 0f;
+                    }
+                    if (type == String.class) {
+                        return "";
+                    }
+                    return null;
+                });
+        Gdx.gl = gl;
+        Gdx.gl20 = gl;
+    }
+}
@@ -0,0 +1,50 @@
+package com.lawnmower.headless;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.lawnmower.Main;
+import com.lawnmower.network.LinkShaper;
+import lawnmower.Message;
+
+/**
+ * 不连接服务器的 Main：GameScreen 发出的输入和全量同步请求直接交给合成服务器处理
+ */
+final class HeadlessGame extends Main {
+
+    private final SyntheticServerFeed feed;
+    private final LinkShaper uplink;
+
+    /**
+     * @param uplink 上行链路整形器，为 null 时输入直接交给合成服务器
+     */
+    HeadlessGame(SyntheticServerFeed feed, LinkShaper uplink) {
+        this.feed = feed;
+        this.uplink = uplink;
+        setPlayerId(SyntheticServerFeed.SELF_PLAYER_ID);
+    }
+
+    @Override
+    public boolean trySendPlayerInput(Message.C2S_PlayerInput input) {
+        if (input == null) {
+            return false;
+        }
+        if (uplink == null) {
+            feed.onClientInput(input);
+        } else {
+            uplink.submit(input.toByteArray(), this::deliverShapedInput);
+        }
+        return true;
+    }
+
+    private void deliverShapedInput(byte[] data) {
+        try {
+            feed.onClientInput(Message.C2S_PlayerInput.parseFrom(data));
+        } catch (InvalidProtocolBufferException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void requestFullGameStateSync(String reason) {
+        feed.requestFullSync();
+    }
+}
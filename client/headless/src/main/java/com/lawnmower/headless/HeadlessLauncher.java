@@ -0,0 +1,26 @@
+package com.lawnmower.headless;
+
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+/**
+ * 无窗口、无服务器的客户端性能压测入口。
+ * 使用 libGDX headless 后端驱动 GameScreen 的世界状态逻辑，输入为合成的同步流。
+ */
+public class HeadlessLauncher {
+
+    public static void main(String[] args) {
+        SimulationOptions options;
+        try {
+            options = SimulationOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+            return;
+        }
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        // 帧循环由 SimulationBenchmark 自己驱动，headless 主循环只负责托管 Gdx 环境
+        config.updatesPerSecond = -1;
+        new HeadlessApplication(new SimulationBenchmark(options), config);
+    }
+}
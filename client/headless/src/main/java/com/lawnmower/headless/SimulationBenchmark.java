@@ -0,0 +1,261 @@
+package com.lawnmower.headless;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.Vector2;
+import com.lawnmower.network.LinkProfile;
+import com.lawnmower.network.LinkShaper;
+import com.lawnmower.network.PacketHandler;
+import com.lawnmower.network.WorldStateModel;
+import com.lawnmower.screens.GameScreen;
+import lawnmower.Message;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * 依次按不同僵尸数量运行一轮模拟：合成服务器产出的数据包走与线上相同的解析与分发路径，
+ * GameScreen 每帧执行预测、插值、射弹推进与渲染队列构建（不提交 GL 绘制），最后输出帧耗时报告。
+ */
+final class SimulationBenchmark extends ApplicationAdapter {
+
+    private static final Logger log = LoggerFactory.getLogger(SimulationBenchmark.class);
+
+    private final SimulationOptions options;
+    private final List<FrameProfiler.Result> results = new ArrayList<>();
+    private final List<byte[]> inbound = new ArrayList<>();
+    private final List<byte[]> shapedInbound = new ArrayList<>();
+    private final List<Received> received = new ArrayList<>();
+    private final List<String> linkStats = new ArrayList<>();
+    private final Vector2 moveDir = new Vector2();
+    /** 运行中的异常；非空时 Gdx 环境关闭后以非零状态退出，脚本和 CI 才能发现压测没跑完 */
+    private Exception failure;
+
+    SimulationBenchmark(SimulationOptions options) {
+        this.options = options;
+    }
+
+    @Override
+    public void create() {
+        Gdx.app.setLogLevel(options.verbose ? Application.LOG_DEBUG : Application.LOG_ERROR);
+        HeadlessEnvironment.installNoopGl();
+        try {
+            LinkProfile link = options.linkProfile == null ? null : LinkProfile.resolveNamed(options.linkProfile);
+            for (int enemyCount : options.enemyCounts) {
+                results.add(runScenario(enemyCount, link));
+            }
+            String report = formatReport();
+            System.out.println(report);
+            if (options.reportPath != null) {
+                Path path = Path.of(options.reportPath);
+                if (path.getParent() != null) {
+                    Files.createDirectories(path.getParent());
+                }
+                Files.writeString(path, report, StandardCharsets.UTF_8);
+            }
+        } catch (Exception e) {
+            failure = e;
+            log.error("Headless simulation failed", e);
+        } finally {
+            Gdx.app.exit();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        // headless 主循环在 exit 后调用 dispose，此时 Gdx 环境已停止
+        if (failure != null) {
+            System.exit(1);
+        }
+    }
+
+    private FrameProfiler.Result runScenario(int enemyCount, LinkProfile link) throws IOException {
+        SyntheticServerFeed feed = new SyntheticServerFeed(enemyCount, options.remotePlayers,
+                options.syncRateHz, options.projectilesPerSecond, options.deathsPerSecond,
+                options.seed);
+        // 同步走 UDP（可丢可乱），事件走 TCP（保序、丢包变成重传延迟），输入走 UDP 上行
+        Downlink downlink = link == null ? null : new Downlink(
+                new LinkShaper(link, LinkShaper.Delivery.DATAGRAM, options.seed),
+                new LinkShaper(link, LinkShaper.Delivery.STREAM, options.seed + 1));
+        LinkShaper uplink = link == null ? null : new LinkShaper(link, LinkShaper.Delivery.DATAGRAM, options.seed + 2);
+        HeadlessGame game = new HeadlessGame(feed, uplink);
+        GameScreen screen = new GameScreen(game);
+        screen.expectFullGameStateSync("headless_start");
+        FrameProfiler profiler = new FrameProfiler(options.frames);
+
+        float delta = 1f / options.fps;
+        long frameIntervalNanos = 1_000_000_000L / options.fps;
+        int totalFrames = options.warmupFrames + options.frames;
+        long nextFrameNanos = System.nanoTime();
+        try {
+            for (int frame = 0; frame < totalFrames; frame++) {
+                if (frame == options.warmupFrames) {
+                    profiler.start();
+                }
+                // 按真实时间步进，保证服务器时间、插值延迟与客户端时钟的关系与线上一致
+                long wait = nextFrameNanos - System.nanoTime();
+                if (wait > 0L) {
+                    LockSupport.parkNanos(wait);
+                }
+                nextFrameNanos += frameIntervalNanos;
+
+                // 合成服务器产包和链路整形不属于客户端开销，放在计时与分配统计区间之外
+                List<byte[]> arrived = collectInbound(feed, downlink, uplink);
+                profiler.beginNetwork();
+                receiveInbound(arrived, game, profiler);
+                profiler.endNetwork();
+                profiler.beginFrame();
+                deliverInbound(screen);
+                scriptInput(frame, delta);
+                int queued = screen.simulateFrame(delta, moveDir, frame % 30 < 10);
+                profiler.endFrame(queued);
+            }
+        } finally {
+            profiler.stop();
+            screen.dispose();
+        }
+        if (downlink != null) {
+            linkStats.add(String.format(Locale.ROOT,
+                    "  enemies=%d link=%s sync: sent=%d dropped=%d dup=%d reordered=%d, events: sent=%d retransmitted=%d, input: sent=%d dropped=%d",
+                    enemyCount, link, downlink.sync.getSubmittedCount(), downlink.sync.getDroppedCount(),
+                    downlink.sync.getDuplicatedCount(), downlink.sync.getReorderedCount(),
+                    downlink.events.getSubmittedCount(), downlink.events.getDroppedCount(),
+                    uplink.getSubmittedCount(), uplink.getDroppedCount()));
+        }
+        return profiler.result(enemyCount);
+    }
+
+    /**
+     * 推进合成服务器和链路整形，返回本帧到达客户端的数据包；列表在下一次调用前有效
+     */
+    private List<byte[]> collectInbound(SyntheticServerFeed feed, Downlink downlink, LinkShaper uplink)
+            throws IOException {
+        long nowNanos = System.nanoTime();
+        if (uplink != null) {
+            uplink.drainDue(nowNanos);
+        }
+        inbound.clear();
+        shapedInbound.clear();
+        feed.poll(System.currentTimeMillis(), inbound);
+        List<byte[]> arrived = inbound;
+        if (downlink != null) {
+            for (byte[] bytes : inbound) {
+                downlink.submit(bytes, shapedInbound::add);
+            }
+            downlink.sync.drainDue(nowNanos);
+            downlink.events.drainDue(nowNanos);
+            arrived = shapedInbound;
+        }
+        return arrived;
+    }
+
+    /**
+     * 线上网络线程的工作：解析数据包，增量与 {@link com.lawnmower.Main#handleNetworkMessage} 一样先预合并
+     */
+    private void receiveInbound(List<byte[]> arrived, HeadlessGame game, FrameProfiler profiler)
+            throws IOException {
+        received.clear();
+        for (byte[] bytes : arrived) {
+            profiler.recordPacket(bytes.length);
+            Message.Packet packet = Message.Packet.parseFrom(bytes);
+            Object message = PacketHandler.parsePayload(packet);
+            if (message == null) {
+                continue;
+            }
+            WorldStateModel.PreparedDelta prepared = packet.getMsgType() == Message.MessageType.MSG_S2C_GAME_STATE_DELTA_SYNC
+                    ? game.prepareDelta((Message.S2C_GameStateDeltaSync) message)
+                    : null;
+            received.add(new Received(packet.getMsgType(), message, prepared));
+        }
+    }
+
+    /**
+     * 渲染线程的工作：按到达顺序应用
+     */
+    private void deliverInbound(GameScreen screen) {
+        for (Received r : received) {
+            switch (r.type()) {
+                case MSG_S2C_GAME_STATE_SYNC:
+                    screen.onGameStateReceived((Message.S2C_GameStateSync) r.message());
+                    break;
+                case MSG_S2C_GAME_STATE_DELTA_SYNC:
+                    screen.onGameStateDeltaReceived((Message.S2C_GameStateDeltaSync) r.message(), r.prepared());
+                    break;
+                default:
+                    screen.onGameEvent(r.type(), r.message());
+                    break;
+            }
+        }
+    }
+
+    /**
+     * 每 2 秒换一次方向的八方向移动，覆盖起步、转向与停止
+     */
+    private void scriptInput(int frame, float delta) {
+        int segment = (int) (frame * delta / 2f);
+        if (segment % 5 == 4) {
+            moveDir.setZero();
+            return;
+        }
+        float angle = (segment * 135f) % 360f;
+        moveDir.set(1f, 0f).setAngleDeg(angle);
+    }
+
+    private String formatReport() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT,
+                "headless simulation: sync=%dHz fps=%d frames=%d warmup=%d projectiles/s=%d deaths/s=%d remotes=%d seed=%d%n",
+                options.syncRateHz, options.fps, options.frames, options.warmupFrames,
+                options.projectilesPerSecond, options.deathsPerSecond, options.remotePlayers, options.seed));
+        if (options.linkProfile != null) {
+            sb.append("link: ").append(options.linkProfile).append(System.lineSeparator());
+        }
+        sb.append(String.format(Locale.ROOT, "%8s %8s %9s %9s %9s %9s %9s %12s %6s %8s %8s %8s %10s %7s%n",
+                "enemies", "frames", "p50(ms)", "p99(ms)", "max(ms)", "mean(ms)", "net(ms)", "alloc/frame",
+                "gc", "gcSum", "gcMax", "packets", "bytes", "queue"));
+        for (FrameProfiler.Result r : results) {
+            sb.append(String.format(Locale.ROOT, "%8d %8d %9.3f %9.3f %9.3f %9.3f %9.3f %12s %6d %8d %8d %8d %10d %7d%n",
+                    r.enemies(), r.frames(), r.p50Ms(), r.p99Ms(), r.maxMs(), r.meanMs(), r.networkMeanMs(),
+                    r.allocBytesPerFrame() < 0 ? "n/a" : Long.toString(r.allocBytesPerFrame()),
+                    r.gcCount(), r.gcTotalMs(), r.gcMaxMs(), r.packets(), r.packetBytes(),
+                    r.maxQueueSize()));
+        }
+        for (String line : linkStats) {
+            sb.append(line).append(System.lineSeparator());
+        }
+        return sb.toString();
+    }
+
+    private record Received(Message.MessageType type, Object message, WorldStateModel.PreparedDelta prepared) {
+    }
+
+    /**
+     * 下行链路：状态同步按 UDP 整形，其余消息按 TCP 整形
+     */
+    private static final class Downlink {
+        final LinkShaper sync;
+        final LinkShaper events;
+
+        Downlink(LinkShaper sync, LinkShaper events) {
+            this.sync = sync;
+            this.events = events;
+        }
+
+        void submit(byte[] bytes, Consumer<byte[]> target) throws IOException {
+            Message.MessageType type = Message.Packet.parseFrom(bytes).getMsgType();
+            boolean isState = type == Message.MessageType.MSG_S2C_GAME_STATE_SYNC
+                    || type == Message.MessageType.MSG_S2C_GAME_STATE_DELTA_SYNC;
+            (isState ? sync : events).submit(bytes, target);
+        }
+    }
+}
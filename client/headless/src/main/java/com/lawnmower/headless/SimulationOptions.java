@@ -0,0 +1,103 @@
+package com.lawnmower.headless;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * headless 压测参数，全部可通过命令行覆盖：
+ * <pre>
+ *   --enemies 100,1000,5000    每个场景的僵尸数量（逗号分隔，依次运行）
+ *   --sync-rate 30             服务器状态同步频率（次/秒）
+ *   --fps 60                   模拟帧率
+ *   --frames 600               每个场景的采样帧数
+ *   --warmup 180               每个场景的预热帧数（不计入统计）
+ *   --projectiles-per-sec 24   每秒发射的豌豆数量
+ *   --deaths-per-sec 6         每秒死亡（并重生）的僵尸数量
+ *   --remote-players 3         远端玩家数量
+ *   --seed 42                  随机种子
+ *   --link wan150              本地网络模拟：预设名或 latency=75,jitter=15,loss=0.05 形式（默认不整形）
+ *   --report build/headless-report.txt  额外把报告写入文件
+ *   --verbose                  保留 GameScreen 的日志输出
+ * </pre>
+ */
+final class SimulationOptions {
+
+    final List<Integer> enemyCounts = new ArrayList<>(List.of(100, 1000, 5000));
+    int syncRateHz = 30;
+    int fps = 60;
+    int frames = 600;
+    int warmupFrames = 180;
+    int projectilesPerSecond = 24;
+    int deathsPerSecond = 6;
+    int remotePlayers = 3;
+    long seed = 42L;
+    String linkProfile;
+    String reportPath;
+    boolean verbose = false;
+
+    static SimulationOptions parse(String[] args) {
+        SimulationOptions options = new SimulationOptions();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+                case "--enemies":
+                    options.enemyCounts.clear();
+                    for (String part : requireValue(args, ++i, arg).split(",")) {
+                        if (!part.isBlank()) {
+                            options.enemyCounts.add(Integer.parseInt(part.trim()));
+                        }
+                    }
+                    break;
+                case "--sync-rate":
+                    options.syncRateHz = Integer.parseInt(requireValue(args, ++i, arg));
+                    break;
+                case "--fps":
+                    options.fps = Integer.parseInt(requireValue(args, ++i, arg));
+                    break;
+                case "--frames":
+                    options.frames = Integer.parseInt(requireValue(args, ++i, arg));
+                    break;
+                case "--warmup":
+                    options.warmupFrames = Integer.parseInt(requireValue(args, ++i, arg));
+                    break;
+                case "--projectiles-per-sec":
+                    options.projectilesPerSecond = Integer.parseInt(requireValue(args, ++i, arg));
+                    break;
+                case "--deaths-per-sec":
+                    options.deathsPerSecond = Integer.parseInt(requireValue(args, ++i, arg));
+                    break;
+                case "--remote-players":
+                    options.remotePlayers = Integer.parseInt(requireValue(args, ++i, arg));
+                    break;
+                case "--seed":
+                    options.seed = Long.parseLong(requireValue(args, ++i, arg));
+                    break;
+                case "--link":
+                    options.linkProfile = requireValue(args, ++i, arg);
+                    break;
+                case "--report":
+                    options.reportPath = requireValue(args, ++i, arg);
+                    break;
+                case "--verbose":
+                    options.verbose = true;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+        if (options.enemyCounts.isEmpty()) {
+            throw new IllegalArgumentException("--enemies requires at least one count");
+        }
+        if (options.syncRateHz <= 0 || options.fps <= 0 || options.frames <= 0) {
+            throw new IllegalArgumentException("--sync-rate, --fps and --frames must be positive");
+        }
+        return options;
+    }
+
+    private static String requireValue(String[] args, int index, String option) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + option);
+        }
+        return args[index];
+    }
+}
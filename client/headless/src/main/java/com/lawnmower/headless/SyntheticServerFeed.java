@@ -0,0 +1,416 @@
+package com.lawnmower.headless;
+
+import com.google.protobuf.MessageLite;
+import lawnmower.Message;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 合成服务器：按固定同步频率推进一个简化的对局（僵尸向本地玩家聚拢、远端玩家绕圈、豌豆发射/命中、僵尸死亡后重生），
+ * 并产出与真实服务器格式一致的 Packet 字节流（全量 S2C_GameStateSync、S2C_GameStateDeltaSync、射弹与死亡事件）。
+ * 本地玩家的输入会被"服务器"应用并在下一次同步中通过 last_processed_input_seq 确认，用于驱动客户端的回滚重放。
+ */
+final class SyntheticServerFeed {
+
+    static final int SELF_PLAYER_ID = 1;
+    static final int ROOM_ID = 1;
+
+    private static final float WORLD_WIDTH = 1280f;
+    private static final float WORLD_HEIGHT = 720f;
+    private static final float PLAYER_SPEED = 200f;
+    private static final float ENEMY_SPEED = 40f;
+    private static final float REMOTE_ORBIT_RADIUS = 140f;
+    private static final float PROJECTILE_SPEED = 200f;
+    private static final int PROJECTILE_TTL_MS = 1500;
+    private static final long PROJECTILE_HIT_DELAY_MS = 600L;
+    private static final int ENEMY_TYPE_ID = 1;
+    private static final int ENEMY_MAX_HEALTH = 100;
+    private static final long INPUT_UPLINK_DELAY_MS = 20L;
+
+    private final Random random;
+    private final int enemyCount;
+    private final int remotePlayerCount;
+    private final long tickIntervalMs;
+    private final float tickSeconds;
+    private final float projectilesPerTick;
+    private final float deathsPerTick;
+
+    private final int[] enemyIds;
+    private final float[] enemyX;
+    private final float[] enemyY;
+    private final int[] enemyHealth;
+    private final boolean[] enemyHealthChanged;
+    private final float[] remoteAngle;
+
+    private final ArrayDeque<PendingInput> pendingInputs = new ArrayDeque<>();
+    private final ArrayDeque<PendingDespawn> pendingDespawns = new ArrayDeque<>();
+    private final List<Integer> respawnedSlots = new ArrayList<>();
+    private final List<Integer> diedSlots = new ArrayList<>();
+
+    private float selfX = WORLD_WIDTH / 2f;
+    private float selfY = WORLD_HEIGHT / 2f;
+    private int lastProcessedInputSeq = 0;
+    private int nextEnemyId = 1;
+    private int nextProjectileId = 1;
+    private long tick = 0L;
+    private long nextTickMs = -1L;
+    private float projectileBudget = 0f;
+    private float deathBudget = 0f;
+    private boolean fullSyncRequested = true;
+
+    private long packetsProduced = 0L;
+    private long bytesProduced = 0L;
+
+    SyntheticServerFeed(int enemyCount, int remotePlayerCount, int syncRateHz,
+                        int projectilesPerSecond, int deathsPerSecond, long seed) {
+        this.random = new Random(seed);
+        this.enemyCount = Math.max(0, enemyCount);
+        this.remotePlayerCount = Math.max(0, remotePlayerCount);
+        this.tickIntervalMs = Math.max(1L, 1000L / syncRateHz);
+        this.tickSeconds = tickIntervalMs / 1000f;
+        this.projectilesPerTick = projectilesPerSecond * tickSeconds;
+        this.deathsPerTick = Math.min(deathsPerSecond * tickSeconds, this.enemyCount);
+        this.enemyIds = new int[this.enemyCount];
+        this.enemyX = new float[this.enemyCount];
+        this.enemyY = new float[this.enemyCount];
+        this.enemyHealth = new int[this.enemyCount];
+        this.enemyHealthChanged = new boolean[this.enemyCount];
+        this.remoteAngle = new float[this.remotePlayerCount];
+        for (int i = 0; i < this.enemyCount; i++) {
+            spawnEnemy(i);
+        }
+        for (int i = 0; i < this.remotePlayerCount; i++) {
+            remoteAngle[i] = (float) (i * Math.PI * 2.0 / Math.max(1, this.remotePlayerCount));
+        }
+    }
+
+    /**
+     * 客户端输入上行：模拟一段上行延迟后由下一次 tick 应用
+     */
+    void onClientInput(Message.C2S_PlayerInput input) {
+        pendingInputs.addLast(new PendingInput(input, System.currentTimeMillis() + INPUT_UPLINK_DELAY_MS));
+    }
+
+    void requestFullSync() {
+        fullSyncRequested = true;
+    }
+
+    long getPacketsProduced() {
+        return packetsProduced;
+    }
+
+    long getBytesProduced() {
+        return bytesProduced;
+    }
+
+    /**
+     * 推进到 nowMs，把期间到期的所有 tick 产生的数据包追加到 out
+     */
+    void poll(long nowMs, List<byte[]> out) {
+        if (nextTickMs < 0L) {
+            nextTickMs = nowMs;
+        }
+        while (nowMs >= nextTickMs) {
+            step(nextTickMs, out);
+            nextTickMs += tickIntervalMs;
+        }
+    }
+
+    private void step(long serverTimeMs, List<byte[]> out) {
+        tick++;
+        applyDueInputs(serverTimeMs);
+        moveEnemies();
+        for (int i = 0; i < remotePlayerCount; i++) {
+            remoteAngle[i] += tickSeconds * 0.9f;
+        }
+        Message.Timestamp syncTime = Message.Timestamp.newBuilder()
+                .setServerTime(serverTimeMs)
+                .setTick((int) tick)
+                .build();
+
+        killEnemies(syncTime, out);
+        if (fullSyncRequested) {
+            fullSyncRequested = false;
+            respawnedSlots.clear();
+            out.add(encode(Message.MessageType.MSG_S2C_GAME_STATE_SYNC, buildFullSync(syncTime)));
+        } else {
+            if (!respawnedSlots.isEmpty()) {
+                out.add(encode(Message.MessageType.MSG_S2C_GAME_STATE_SYNC, buildSpawnSync(syncTime)));
+                respawnedSlots.clear();
+            }
+            out.add(encode(Message.MessageType.MSG_S2C_GAME_STATE_DELTA_SYNC, buildDelta(syncTime)));
+        }
+        emitProjectiles(syncTime, serverTimeMs, out);
+    }
+
+    private void applyDueInputs(long serverTimeMs) {
+        while (!pendingInputs.isEmpty() && pendingInputs.peekFirst().dueMs <= serverTimeMs) {
+            Message.C2S_PlayerInput input = pendingInputs.pollFirst().input;
+            if (Integer.compareUnsigned(input.getInputSeq(), lastProcessedInputSeq) <= 0) {
+                continue;
+            }
+            float seconds = input.getDeltaMs() / 1000f;
+            if (input.hasMoveDirection()) {
+                selfX = clamp(selfX + input.getMoveDirection().getX() * PLAYER_SPEED * seconds, 32f, WORLD_WIDTH - 32f);
+                selfY = clamp(selfY + input.getMoveDirection().getY() * PLAYER_SPEED * seconds, 32f, WORLD_HEIGHT - 32f);
+            }
+            lastProcessedInputSeq = input.getInputSeq();
+        }
+    }
+
+    private void moveEnemies() {
+        float step = ENEMY_SPEED * tickSeconds;
+        for (int i = 0; i < enemyCount; i++) {
+            float dx = selfX - enemyX[i];
+            float dy = selfY - enemyY[i];
+            float len = (float) Math.sqrt(dx * dx + dy * dy);
+            if (len > 24f) {
+                enemyX[i] += dx / len * step + (random.nextFloat() - 0.5f) * step * 0.5f;
+                enemyY[i] += dy / len * step + (random.nextFloat() - 0.5f) * step * 0.5f;
+            }
+        }
+    }
+
+    private void killEnemies(Message.Timestamp syncTime, List<byte[]> out) {
+        diedSlots.clear();
+        deathBudget += deathsPerTick;
+        while (deathBudget >= 1f && enemyCount > 0) {
+            deathBudget -= 1f;
+            int slot = random.nextInt(enemyCount);
+            Message.S2C_EnemyDied died = Message.S2C_EnemyDied.newBuilder()
+                    .setEnemyId(enemyIds[slot])
+                    .setKillerPlayerId(SELF_PLAYER_ID)
+                    .setWaveId(1)
+                    .setPosition(vector(enemyX[slot], enemyY[slot]))
+                    .build();
+            out.add(encode(Message.MessageType.MSG_S2C_ENEMY_DIED, died));
+            diedSlots.add(slot);
+        }
+        for (int i = 0; i < enemyCount; i++) {
+            if (random.nextInt(20) == 0) {
+                enemyHealth[i] = Math.max(1, enemyHealth[i] - 5);
+                enemyHealthChanged[i] = true;
+            }
+        }
+    }
+
+    private Message.S2C_GameStateSync buildFullSync(Message.Timestamp syncTime) {
+        for (int slot : diedSlots) {
+            spawnEnemy(slot);
+        }
+        diedSlots.clear();
+        Message.S2C_GameStateSync.Builder builder = Message.S2C_GameStateSync.newBuilder()
+                .setSyncTime(syncTime)
+                .setRoomId(ROOM_ID)
+                .setIsFullSnapshot(true);
+        appendPlayers(builder);
+        for (int i = 0; i < enemyCount; i++) {
+            builder.addEnemies(enemyState(i));
+            enemyHealthChanged[i] = false;
+        }
+        return builder.build();
+    }
+
+    private Message.S2C_GameStateSync buildSpawnSync(Message.Timestamp syncTime) {
+        Message.S2C_GameStateSync.Builder builder = Message.S2C_GameStateSync.newBuilder()
+                .setSyncTime(syncTime)
+                .setRoomId(ROOM_ID)
+                .setIsFullSnapshot(false);
+        for (int slot : respawnedSlots) {
+            builder.addEnemies(enemyState(slot));
+        }
+        return builder.build();
+    }
+
+    private Message.S2C_GameStateDeltaSync buildDelta(Message.Timestamp syncTime) {
+        Message.S2C_GameStateDeltaSync.Builder builder = Message.S2C_GameStateDeltaSync.newBuilder()
+                .setSyncTime(syncTime)
+                .setRoomId(ROOM_ID);
+        int playerMask = Message.PlayerDeltaMask.PLAYER_DELTA_POSITION_VALUE
+                | Message.PlayerDeltaMask.PLAYER_DELTA_ROTATION_VALUE
+                | Message.PlayerDeltaMask.PLAYER_DELTA_LAST_PROCESSED_INPUT_SEQ_VALUE;
+        builder.addPlayers(Message.PlayerStateDelta.newBuilder()
+                .setPlayerId(SELF_PLAYER_ID)
+                .setChangedMask(playerMask)
+                .setPosition(vector(selfX, selfY))
+                .setRotation(0f)
+                .setLastProcessedInputSeq(lastProcessedInputSeq));
+        for (int i = 0; i < remotePlayerCount; i++) {
+            builder.addPlayers(Message.PlayerStateDelta.newBuilder()
+                    .setPlayerId(SELF_PLAYER_ID + 1 + i)
+                    .setChangedMask(Message.PlayerDeltaMask.PLAYER_DELTA_POSITION_VALUE
+                            | Message.PlayerDeltaMask.PLAYER_DELTA_ROTATION_VALUE)
+                    .setPosition(vector(remoteX(i), remoteY(i)))
+                    .setRotation((float) Math.toDegrees(remoteAngle[i]) + 90f));
+        }
+        for (int i = 0; i < enemyCount; i++) {
+            boolean died = diedSlots.contains(i);
+            Message.EnemyStateDelta.Builder enemy = Message.EnemyStateDelta.newBuilder()
+                    .setEnemyId(enemyIds[i]);
+            int mask = Message.EnemyDeltaMask.ENEMY_DELTA_POSITION_VALUE;
+            enemy.setPosition(vector(enemyX[i], enemyY[i]));
+            if (died) {
+                mask |= Message.EnemyDeltaMask.ENEMY_DELTA_IS_ALIVE_VALUE;
+                enemy.setIsAlive(false);
+            } else if (enemyHealthChanged[i]) {
+                mask |= Message.EnemyDeltaMask.ENEMY_DELTA_HEALTH_VALUE;
+                enemy.setHealth(enemyHealth[i]);
+            }
+            enemyHealthChanged[i] = false;
+            builder.addEnemies(enemy.setChangedMask(mask));
+        }
+        // 死亡的槽位在下一次同步中以新 ID 重生，新 ID 通过非全量 GameStateSync 下发
+        for (int slot : diedSlots) {
+            spawnEnemy(slot);
+            respawnedSlots.add(slot);
+        }
+        return builder.build();
+    }
+
+    private void appendPlayers(Message.S2C_GameStateSync.Builder builder) {
+        builder.addPlayers(playerState(SELF_PLAYER_ID, selfX, selfY, 0f, lastProcessedInputSeq));
+        for (int i = 0; i < remotePlayerCount; i++) {
+            builder.addPlayers(playerState(SELF_PLAYER_ID + 1 + i, remoteX(i), remoteY(i),
+                    (float) Math.toDegrees(remoteAngle[i]) + 90f, 0));
+        }
+    }
+
+    private void emitProjectiles(Message.Timestamp syncTime, long serverTimeMs, List<byte[]> out) {
+        projectileBudget += projectilesPerTick;
+        if (projectileBudget >= 1f && enemyCount > 0) {
+            Message.S2C_ProjectileSpawn.Builder spawn = Message.S2C_ProjectileSpawn.newBuilder()
+                    .setSyncTime(syncTime)
+                    .setRoomId(ROOM_ID);
+            while (projectileBudget >= 1f) {
+                projectileBudget -= 1f;
+                int shooter = remotePlayerCount == 0 ? 0 : random.nextInt(remotePlayerCount + 1);
+                float originX = shooter == 0 ? selfX : remoteX(shooter - 1);
+                float originY = shooter == 0 ? selfY : remoteY(shooter - 1);
+                int target = random.nextInt(enemyCount);
+                float rotation = (float) Math.toDegrees(Math.atan2(enemyY[target] - originY, enemyX[target] - originX));
+                int projectileId = nextProjectileId++;
+                spawn.addProjectiles(Message.ProjectileState.newBuilder()
+                        .setProjectileId(projectileId)
+                        .setOwnerPlayerId(SELF_PLAYER_ID + shooter)
+                        .setPosition(vector(originX, originY))
+                        .setRotation(rotation)
+                        .setTtlMs(PROJECTILE_TTL_MS)
+                        .setProjectile(Message.Projectile.newBuilder()
+                                .setSpeed((int) PROJECTILE_SPEED)
+                                .setDamage(10)
+                                .setIsFriendly(true)));
+                if (random.nextBoolean()) {
+                    pendingDespawns.addLast(new PendingDespawn(projectileId, enemyIds[target],
+                            serverTimeMs + PROJECTILE_HIT_DELAY_MS));
+                }
+            }
+            out.add(encode(Message.MessageType.MSG_S2C_PROJECTILE_SPAWN, spawn.build()));
+        }
+        if (!pendingDespawns.isEmpty() && pendingDespawns.peekFirst().dueMs <= serverTimeMs) {
+            Message.S2C_ProjectileDespawn.Builder despawn = Message.S2C_ProjectileDespawn.newBuilder()
+                    .setSyncTime(syncTime)
+                    .setRoomId(ROOM_ID);
+            while (!pendingDespawns.isEmpty() && pendingDespawns.peekFirst().dueMs <= serverTimeMs) {
+                PendingDespawn pending = pendingDespawns.pollFirst();
+                despawn.addProjectiles(Message.ProjectileDespawn.newBuilder()
+                        .setProjectileId(pending.projectileId)
+                        .setReason(Message.ProjectileDespawnReason.PROJECTILE_DESPAWN_HIT)
+                        .setHitEnemyId(pending.enemyId));
+            }
+            out.add(encode(Message.MessageType.MSG_S2C_PROJECTILE_DESPAWN, despawn.build()));
+        }
+    }
+
+    private void spawnEnemy(int slot) {
+        enemyIds[slot] = nextEnemyId++;
+        // 从地图四条边随机刷新
+        if (random.nextBoolean()) {
+            enemyX[slot] = random.nextBoolean() ? 16f : WORLD_WIDTH - 16f;
+            enemyY[slot] = random.nextFloat() * WORLD_HEIGHT;
+        } else {
+            enemyX[slot] = random.nextFloat() * WORLD_WIDTH;
+            enemyY[slot] = random.nextBoolean() ? 16f : WORLD_HEIGHT - 16f;
+        }
+        enemyHealth[slot] = ENEMY_MAX_HEALTH;
+        enemyHealthChanged[slot] = false;
+    }
+
+    private Message.EnemyState enemyState(int slot) {
+        return Message.EnemyState.newBuilder()
+                .setEnemyId(enemyIds[slot])
+                .setTypeId(ENEMY_TYPE_ID)
+                .setPosition(vector(enemyX[slot], enemyY[slot]))
+                .setHealth(enemyHealth[slot])
+                .setMaxHealth(ENEMY_MAX_HEALTH)
+                .setIsAlive(true)
+                .setWaveId(1)
+                .build();
+    }
+
+    private static Message.PlayerState playerState(int playerId, float x, float y, float rotation, int lastSeq) {
+        return Message.PlayerState.newBuilder()
+                .setPlayerId(playerId)
+                .setPosition(vector(x, y))
+                .setRotation(rotation)
+                .setHealth(100)
+                .setMaxHealth(100)
+                .setLevel(1)
+                .setIsAlive(true)
+                .setIsFriendly(true)
+                .setMoveSpeed(PLAYER_SPEED)
+                .setLastProcessedInputSeq(lastSeq)
+                .build();
+    }
+
+    private float remoteX(int index) {
+        return selfX + (float) Math.cos(remoteAngle[index]) * REMOTE_ORBIT_RADIUS;
+    }
+
+    private float remoteY(int index) {
+        return selfY + (float) Math.sin(remoteAngle[index]) * REMOTE_ORBIT_RADIUS;
+    }
+
+    private byte[] encode(Message.MessageType type, MessageLite payload) {
+        byte[] bytes = Message.Packet.newBuilder()
+                .setMsgType(type)
+                .setPayload(payload.toByteString())
+                .build()
+                .toByteArray();
+        packetsProduced++;
+        bytesProduced += bytes.length;
+        return bytes;
+    }
+
+    private static Message.Vector2 vector(float x, float y) {
+        return Message.Vector2.newBuilder().setX(x).setY(y).build();
+    }
+
+    private static float clamp(float value, float min, float max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private static final class PendingInput {
+        final Message.C2S_PlayerInput input;
+        final long dueMs;
+
+        PendingInput(Message.C2S_PlayerInput input, long dueMs) {
+            this.input = input;
+            this.dueMs = dueMs;
+        }
+    }
+
+    private static final class PendingDespawn {
+        final int projectileId;
+        final int enemyId;
+        final long dueMs;
+
+        PendingDespawn(int projectileId, int enemyId, long dueMs) {
+            this.projectileId = projectileId;
+            this.enemyId = enemyId;
+            this.dueMs = dueMs;
+        }
+    }
+}
@@ -0,0 +1,466 @@
+package com.lawnmower.loadtest;
+
+import com.lawnmower.network.InputPacketTemplate;
+import com.lawnmower.network.PacketHandler;
+import com.lawnmower.network.TcpClient;
+import com.lawnmower.network.UdpClient;
+import lawnmower.Message;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Locale;
+
+/**
+ * 一个模拟玩家：登录 → 建房/加房 → 准备 → 开始 → 以固定频率发送脚本化输入。
+ * <p>
+ * 不持有线程，所有收发都在所属 {@link BotWorker} 线程的 {@link #tick(long)} 里以非阻塞轮询完成，
+ * 因此几个线程就能驱动数百个机器人。只有建立 TCP 连接是阻塞的，由启动线程在交给 worker 之前完成。
+ */
+final class Bot {
+
+    enum Phase {
+        LOGGING_IN,
+        /** 房主：等待建房结果；成员：等待房主把 room_id 写入 RoomGroup */
+        ENTERING_ROOM,
+        /** 已发出加入请求，等待 S2C_JoinRoomResult */
+        JOINING,
+        /** 已在房间内：房主等人齐且全部准备，成员等待 S2C_GameStart */
+        IN_ROOM,
+        PLAYING,
+        FINISHED,
+        FAILED
+    }
+
+    /** 大厅阶段（登录到开局）超过该时长仍未开局视为失败，通常意味着服务器已到达房间/连接上限 */
+    private static final long LOBBY_TIMEOUT_NANOS = 30_000_000_000L;
+    private static final long HEARTBEAT_INTERVAL_NANOS = 1_000_000_000L;
+    /** 单次 tick 最多处理的下行包，防止某个机器人的积压饿死同线程的其它机器人 */
+    private static final int MAX_PACKETS_PER_TICK = 64;
+    /** 输入发送时间的环形缓冲，容量需覆盖一个 RTT 内发出的输入数 */
+    private static final int INPUT_HISTORY = 256;
+    private static final int INPUT_HISTORY_MASK = INPUT_HISTORY - 1;
+
+    final int index;
+    final String name;
+    final RoomGroup group;
+    final boolean host;
+
+    private final LoadTestOptions options;
+    private final TcpClient tcpClient;
+    private UdpClient udpClient;
+    private InputPacketTemplate inputTemplate;
+
+    final LatencyHistogram rtt = new LatencyHistogram();
+    final LatencyHistogram syncInterval = new LatencyHistogram();
+    final LatencyHistogram ackLatency = new LatencyHistogram();
+
+    private volatile Phase phase = Phase.LOGGING_IN;
+    private volatile String failure;
+    private int playerId;
+    private String sessionToken = "";
+    private long phaseStartNanos;
+
+    // 心跳：TCP 保序，回包按发送顺序一一对应
+    private final ArrayDeque<Long> heartbeatSentNanos = new ArrayDeque<>();
+    private long nextHeartbeatNanos;
+
+    // 输入
+    private final long inputIntervalNanos;
+    private final long[] inputSentNanos = new long[INPUT_HISTORY];
+    private long nextInputNanos;
+    private long lastInputNanos;
+    private int inputSeq;
+    private int lastAckedSeq;
+    private long lastSyncNanos;
+
+    long inputsSent;
+    long inputSendFailures;
+    long syncsReceived;
+    long packetsReceived;
+
+    Bot(int index, RoomGroup group, boolean host, LoadTestOptions options, TcpClient tcpClient) {
+        this.index = index;
+        this.name = "bot-" + index;
+        this.group = group;
+        this.host = host;
+        this.options = options;
+        this.tcpClient = tcpClient;
+        this.inputIntervalNanos = 1_000_000_000L / options.inputRateHz;
+    }
+
+    Phase getPhase() {
+        return phase;
+    }
+
+    String getFailure() {
+        return failure;
+    }
+
+    /**
+     * 由 worker 线程在接管该机器人时调用：发出登录请求
+     */
+    void begin(long nowNanos) {
+        phaseStartNanos = nowNanos;
+        nextHeartbeatNanos = nowNanos;
+        try {
+            Message.C2S_Login login = Message.C2S_Login.newBuilder()
+                    .setPlayerName(name)
+                    .build();
+            tcpClient.sendPacket(Message.MessageType.MSG_C2S_LOGIN, login);
+        } catch (IOException e) {
+            fail("login send: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 推进一步：处理已到达的下行包、按需发心跳和输入
+     * @return 下一次需要被调度的时间（nanoTime）
+     */
+    long tick(long nowNanos) {
+        if (isTerminal()) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            drainTcp(nowNanos);
+            drainUdp(nowNanos);
+            if (isTerminal()) {
+                return Long.MAX_VALUE;
+            }
+            if (phase != Phase.PLAYING) {
+                advanceLobby(nowNanos);
+            }
+            if (nowNanos >= nextHeartbeatNanos) {
+                sendHeartbeat(nowNanos);
+            }
+            if (phase == Phase.PLAYING && nowNanos >= nextInputNanos) {
+                sendInput(nowNanos);
+            }
+        } catch (IOException e) {
+            fail(phase.name().toLowerCase(Locale.ROOT) + ": " + e.getMessage());
+            return Long.MAX_VALUE;
+        }
+        long next = nextHeartbeatNanos;
+        if (phase == Phase.PLAYING) {
+            next = Math.min(next, nextInputNanos);
+        }
+        return next;
+    }
+
+    boolean isTerminal() {
+        Phase current = phase;
+        return current == Phase.FINISHED || current == Phase.FAILED;
+    }
+
+    /**
+     * 压测结束：正常关闭连接，未开局的机器人计为失败
+     */
+    void shutdown() {
+        if (!isTerminal()) {
+            if (phase == Phase.PLAYING) {
+                phase = Phase.FINISHED;
+            } else {
+                failure = "not started (" + phase.name().toLowerCase(Locale.ROOT) + ")";
+                phase = Phase.FAILED;
+            }
+        }
+        closeQuietly();
+    }
+
+    private void drainTcp(long nowNanos) throws IOException {
+        for (int i = 0; i < MAX_PACKETS_PER_TICK; i++) {
+            Message.Packet packet = tcpClient.pollPacket();
+            if (packet == null) {
+                return;
+            }
+            handlePacket(packet, nowNanos);
+            if (isTerminal()) {
+                return;
+            }
+        }
+    }
+
+    private void drainUdp(long nowNanos) throws IOException {
+        UdpClient client = udpClient;
+        if (client == null) {
+            return;
+        }
+        for (int i = 0; i < MAX_PACKETS_PER_TICK; i++) {
+            Message.Packet packet = client.pollPacket();
+            if (packet == null) {
+                return;
+            }
+            handlePacket(packet, nowNanos);
+        }
+    }
+
+    private void handlePacket(Message.Packet packet, long nowNanos) throws IOException {
+        packetsReceived++;
+        Object message = PacketHandler.parsePayload(packet);
+        if (message == null) {
+            return;
+        }
+        switch (packet.getMsgType()) {
+            case MSG_S2C_LOGIN_RESULT:
+                onLoginResult((Message.S2C_LoginResult) message, nowNanos);
+                break;
+            case MSG_S2C_HEARTBEAT:
+                Long sent = heartbeatSentNanos.pollFirst();
+                if (sent != null) {
+                    rtt.recordNanos(nowNanos - sent);
+                }
+                break;
+            case MSG_S2C_CREATE_ROOM_RESULT:
+                onCreateRoomResult((Message.S2C_CreateRoomResult) message, nowNanos);
+                break;
+            case MSG_S2C_JOIN_ROOM_RESULT:
+                onJoinRoomResult((Message.S2C_JoinRoomResult) message, nowNanos);
+                break;
+            case MSG_S2C_SET_READY_RESULT:
+                Message.S2C_SetReadyResult ready = (Message.S2C_SetReadyResult) message;
+                if (!ready.getSuccess()) {
+                    fail("set ready: " + ready.getMessageReady());
+                }
+                break;
+            case MSG_S2C_ROOM_UPDATE:
+                onRoomUpdate((Message.S2C_RoomUpdate) message);
+                break;
+            case MSG_S2C_GAME_START:
+                onGameStart((Message.S2C_GameStart) message, nowNanos);
+                break;
+            case MSG_S2C_GAME_STATE_SYNC:
+                onSync(nowNanos);
+                for (Message.PlayerState state : ((Message.S2C_GameStateSync) message).getPlayersList()) {
+                    if (state.getPlayerId() == playerId) {
+                        onInputAcked(state.getLastProcessedInputSeq(), nowNanos);
+                    }
+                }
+                break;
+            case MSG_S2C_GAME_STATE_DELTA_SYNC:
+                onSync(nowNanos);
+                for (Message.PlayerStateDelta delta : ((Message.S2C_GameStateDeltaSync) message).getPlayersList()) {
+                    if (delta.getPlayerId() == playerId && delta.hasLastProcessedInputSeq()) {
+                        onInputAcked(delta.getLastProcessedInputSeq(), nowNanos);
+                    }
+                }
+                break;
+            case MSG_S2C_UPGRADE_REQUEST:
+                Message.S2C_UpgradeRequest request = (Message.S2C_UpgradeRequest) message;
+                if (request.getPlayerId() == playerId) {
+                    tcpClient.sendUpgradeRequestAck(request.getRoomId(), playerId);
+                }
+                break;
+            case MSG_S2C_UPGRADE_OPTIONS:
+                // 升级期间房间暂停，机器人总是立即选第一项，避免卡住整个房间
+                Message.S2C_UpgradeOptions upgrade = (Message.S2C_UpgradeOptions) message;
+                if (upgrade.getPlayerId() == playerId) {
+                    tcpClient.sendUpgradeOptionsAck(upgrade.getRoomId(), playerId);
+                    tcpClient.sendUpgradeSelect(upgrade.getRoomId(), playerId, 0);
+                }
+                break;
+            case MSG_S2C_GAME_OVER:
+                phase = Phase.FINISHED;
+                closeQuietly();
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void onLoginResult(Message.S2C_LoginResult result, long nowNanos) throws IOException {
+        if (phase != Phase.LOGGING_IN) {
+            return;
+        }
+        if (!result.getSuccess()) {
+            fail("login: " + result.getMessageLogin());
+            return;
+        }
+        playerId = result.getPlayerId();
+        sessionToken = result.getSessionToken();
+        enterPhase(Phase.ENTERING_ROOM, nowNanos);
+        if (host) {
+            tcpClient.sendCreateRoom(group.roomName, group.size);
+        }
+    }
+
+    private void onCreateRoomResult(Message.S2C_CreateRoomResult result, long nowNanos) throws IOException {
+        if (!host || phase != Phase.ENTERING_ROOM) {
+            return;
+        }
+        if (!result.getSuccess()) {
+            group.markFailed();
+            fail("create room: " + result.getMessageCreate());
+            return;
+        }
+        group.setRoomId(result.getRoomId());
+        enterPhase(Phase.IN_ROOM, nowNanos);
+        if (group.size == 1) {
+            tcpClient.sendStartGame();
+        }
+    }
+
+    private void onJoinRoomResult(Message.S2C_JoinRoomResult result, long nowNanos) throws IOException {
+        if (phase != Phase.JOINING) {
+            return;
+        }
+        if (!result.getSuccess()) {
+            fail("join room: " + result.getMessageJoin());
+            return;
+        }
+        enterPhase(Phase.IN_ROOM, nowNanos);
+        tcpClient.sendSetReady(true);
+    }
+
+    /**
+     * 房主在人齐且其余人全部准备后开局
+     */
+    private void onRoomUpdate(Message.S2C_RoomUpdate update) throws IOException {
+        if (!host || phase != Phase.IN_ROOM || update.getPlayersCount() < group.size) {
+            return;
+        }
+        for (Message.PlayerInfo player : update.getPlayersList()) {
+            if (!player.getIsHost() && !player.getIsReady()) {
+                return;
+            }
+        }
+        tcpClient.sendStartGame();
+    }
+
+    private void onGameStart(Message.S2C_GameStart start, long nowNanos) throws IOException {
+        if (phase != Phase.IN_ROOM) {
+            return;
+        }
+        if (!start.getSuccess()) {
+            // 失败只回给发起者：通常是有人的准备状态还没广播到，等下一次 RoomUpdate 再试
+            return;
+        }
+        UdpClient client = new UdpClient();
+        client.startPolled(options.host, options.udpPort);
+        udpClient = client;
+        inputTemplate = new InputPacketTemplate(playerId, sessionToken);
+        enterPhase(Phase.PLAYING, nowNanos);
+        lastInputNanos = nowNanos;
+        // 错开各机器人的发送相位，避免所有输入挤在同一毫秒
+        nextInputNanos = nowNanos + (index * 7_919L * 1_000L) % inputIntervalNanos;
+        // seq 0 的 hello 包让服务器登记 UDP 端点
+        Message.C2S_PlayerInput hello = Message.C2S_PlayerInput.newBuilder()
+                .setPlayerId(playerId)
+                .setSessionToken(sessionToken)
+                .build();
+        client.sendPlayerInput(inputTemplate, hello);
+    }
+
+    private void advanceLobby(long nowNanos) throws IOException {
+        if (nowNanos - phaseStartNanos > LOBBY_TIMEOUT_NANOS) {
+            fail("timeout in " + phase.name().toLowerCase(Locale.ROOT));
+            return;
+        }
+        if (phase != Phase.ENTERING_ROOM || host) {
+            return;
+        }
+        if (group.isFailed()) {
+            fail("room creation failed");
+            return;
+        }
+        int roomId = group.getRoomId();
+        if (roomId > 0) {
+            tcpClient.sendJoinRoom(roomId);
+            enterPhase(Phase.JOINING, nowNanos);
+        }
+    }
+
+    private void sendHeartbeat(long nowNanos) throws IOException {
+        Message.C2S_Heartbeat heartbeat = Message.C2S_Heartbeat.newBuilder()
+                .setTimestamp(System.currentTimeMillis())
+                .build();
+        tcpClient.sendPacket(Message.MessageType.MSG_C2S_HEARTBEAT, heartbeat);
+        heartbeatSentNanos.addLast(nowNanos);
+        nextHeartbeatNanos = nowNanos + HEARTBEAT_INTERVAL_NANOS;
+    }
+
+    /**
+     * 脚本化输入：以机器人编号决定初始方向，每 2 秒转 90°，半数时间攻击
+     */
+    private void sendInput(long nowNanos) throws IOException {
+        int seq = ++inputSeq;
+        long elapsedMs = (nowNanos - phaseStartNanos) / 1_000_000L;
+        int quarter = (int) ((elapsedMs / 2_000L + index) & 3);
+        float dx = quarter == 0 ? 1f : quarter == 2 ? -1f : 0f;
+        float dy = quarter == 1 ? 1f : quarter == 3 ? -1f : 0f;
+        Message.C2S_PlayerInput input = Message.C2S_PlayerInput.newBuilder()
+                .setPlayerId(playerId)
+                .setMoveDirection(Message.Vector2.newBuilder().setX(dx).setY(dy))
+                .setIsAttacking((elapsedMs / 1_000L & 1L) == 0L)
+                .setInputSeq(seq)
+                .setDeltaMs((int) ((nowNanos - lastInputNanos) / 1_000_000L))
+                .setSessionToken(sessionToken)
+                .build();
+        inputSentNanos[seq & INPUT_HISTORY_MASK] = nowNanos;
+        lastInputNanos = nowNanos;
+        if (sessionToken.isBlank() || !udpClient.sendPlayerInput(inputTemplate, input)) {
+            // 与 Main.trySendPlayerInput 一致：UDP 不可用时回落到 TCP
+            inputSendFailures++;
+            tcpClient.sendPlayerInput(input);
+        }
+        inputsSent++;
+        nextInputNanos += inputIntervalNanos;
+        if (nextInputNanos < nowNanos - inputIntervalNanos) {
+            // worker 落后超过一个周期时不补发，压测机自身过载不应变成对服务器的突发流量
+            nextInputNanos = nowNanos + inputIntervalNanos;
+        }
+    }
+
+    private void onSync(long nowNanos) {
+        syncsReceived++;
+        if (lastSyncNanos != 0L) {
+            syncInterval.recordNanos(nowNanos - lastSyncNanos);
+        }
+        lastSyncNanos = nowNanos;
+    }
+
+    /**
+     * 只统计新确认的最大序号：从发出该输入到服务器回报已处理的时间
+     */
+    private void onInputAcked(int seq, long nowNanos) {
+        if (seq <= lastAckedSeq || seq > inputSeq) {
+            return;
+        }
+        lastAckedSeq = seq;
+        if (inputSeq - seq < INPUT_HISTORY) {
+            ackLatency.recordNanos(nowNanos - inputSentNanos[seq & INPUT_HISTORY_MASK]);
+        }
+    }
+
+    private void enterPhase(Phase next, long nowNanos) {
+        phase = next;
+        phaseStartNanos = nowNanos;
+    }
+
+    /**
+     * TCP 连接未建立、从未交给 worker 的机器人
+     */
+    void failBeforeStart(String reason) {
+        failure = reason;
+        phase = Phase.FAILED;
+    }
+
+    private void fail(String reason) {
+        if (isTerminal()) {
+            return;
+        }
+        failure = reason;
+        phase = Phase.FAILED;
+        closeQuietly();
+    }
+
+    private void closeQuietly() {
+        if (udpClient != null) {
+            udpClient.stop();
+            udpClient = null;
+        }
+        try {
+            tcpClient.close();
+        } catch (IOException ignored) {
+            // 服务器可能已先断开
+        }
+    }
+}
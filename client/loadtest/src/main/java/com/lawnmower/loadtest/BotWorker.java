@@ -0,0 +1,99 @@
+package com.lawnmower.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 单个 worker 线程轮流推进分配给它的机器人。
+ * <p>
+ * 机器人由启动线程建好连接后通过 {@link #add(Bot)} 移交，之后只在本线程访问；
+ * 停止时也由本线程关闭全部机器人，主线程 join 之后再读统计数据。
+ */
+final class BotWorker implements Runnable {
+
+    /** 两轮之间最长休眠，决定下行包的处理及时性（也就是 RTT/确认延迟的测量粒度） */
+    private static final long MAX_PARK_NANOS = 1_000_000L;
+
+    private final Queue<Bot> incoming = new ConcurrentLinkedQueue<>();
+    private final List<Bot> bots = new ArrayList<>();
+    private final Thread thread;
+    private volatile boolean running = true;
+    /** 实际调度时间晚于应调度时间的最大值，用来判断压测机本身是否已成为瓶颈 */
+    private long maxLagNanos;
+
+    BotWorker(int index) {
+        this.thread = new Thread(this, "loadtest-worker-" + index);
+        this.thread.setDaemon(true);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    void add(Bot bot) {
+        incoming.add(bot);
+        LockSupport.unpark(thread);
+    }
+
+    void stopAndJoin() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(thread);
+        thread.join();
+    }
+
+    /**
+     * 仅在 {@link #stopAndJoin()} 之后调用
+     */
+    List<Bot> getBots() {
+        return bots;
+    }
+
+    long getMaxLagNanos() {
+        return maxLagNanos;
+    }
+
+    @Override
+    public void run() {
+        long[] due = new long[0];
+        while (running) {
+            Bot added;
+            while ((added = incoming.poll()) != null) {
+                added.begin(System.nanoTime());
+                bots.add(added);
+            }
+            if (due.length < bots.size()) {
+                due = new long[Math.max(16, bots.size() * 2)];
+            }
+            long now = System.nanoTime();
+            long next = now + MAX_PARK_NANOS;
+            for (int i = 0; i < bots.size(); i++) {
+                Bot bot = bots.get(i);
+                if (bot.isTerminal()) {
+                    continue;
+                }
+                if (due[i] != 0L && now - due[i] > maxLagNanos) {
+                    maxLagNanos = now - due[i];
+                }
+                // 即使还没到期也要 tick：下行包随时可能到达
+                due[i] = bot.tick(now);
+                if (due[i] < next) {
+                    next = due[i];
+                }
+                now = System.nanoTime();
+            }
+            long wait = next - System.nanoTime();
+            if (wait > 0L) {
+                LockSupport.parkNanos(wait);
+            }
+        }
+        while (incoming.peek() != null) {
+            bots.add(incoming.poll());
+        }
+        for (Bot bot : bots) {
+            bot.shutdown();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.lawnmower.loadtest;
+
+import com.lawnmower.metrics.LogLinearBuckets;
+
+import java.util.Locale;
+
+/**
+ * 延迟直方图（微秒），与客户端指标共用 {@link LogLinearBuckets} 的分桶。
+ * <p>
+ * 每个机器人各持有几份，只由所属 worker 线程写入；报告时在主线程合并，因此不做同步。
+ * 固定约 8KB，数百个机器人同时采样也不会产生分配。
+ */
+final class LatencyHistogram {
+
+    private static final int BUCKET_COUNT = LogLinearBuckets.BUCKET_COUNT;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long total;
+    private long maxMicros;
+    private long sumMicros;
+
+    void recordNanos(long nanos) {
+        record(Math.max(0L, nanos / 1_000L));
+    }
+
+    void record(long micros) {
+        counts[LogLinearBuckets.bucketOf(micros)]++;
+        total++;
+        sumMicros += micros;
+        if (micros > maxMicros) {
+            maxMicros = micros;
+        }
+    }
+
+    void merge(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] += other.counts[i];
+        }
+        total += other.total;
+        sumMicros += other.sumMicros;
+        maxMicros = Math.max(maxMicros, other.maxMicros);
+    }
+
+    long count() {
+        return total;
+    }
+
+    long maxMicros() {
+        return maxMicros;
+    }
+
+    double meanMicros() {
+        return total == 0L ? 0.0 : (double) sumMicros / total;
+    }
+
+    /**
+     * @param quantile 0~1
+     * @return 该分位所在桶的上界（微秒），无样本时返回 0
+     */
+    long percentileMicros(double quantile) {
+        if (total == 0L) {
+            return 0L;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(quantile * total));
+        long seen = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(maxMicros, LogLinearBuckets.upperBoundOf(i));
+            }
+        }
+        return maxMicros;
+    }
+
+    /**
+     * 形如 {@code p50 1.2 / p90 3.4 / p99 8.0 / max 12.5 ms (n=1234)}
+     */
+    String summary() {
+        if (total == 0L) {
+            return "n/a (n=0)";
+        }
+        return String.format(Locale.ROOT, "p50 %.1f / p90 %.1f / p99 %.1f / max %.1f ms (n=%d)",
+                percentileMicros(0.50) / 1000.0, percentileMicros(0.90) / 1000.0,
+                percentileMicros(0.99) / 1000.0, maxMicros / 1000.0, total);
+    }
+}
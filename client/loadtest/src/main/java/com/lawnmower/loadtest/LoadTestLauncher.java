@@ -0,0 +1,125 @@
+package com.lawnmower.loadtest;
+
+import com.lawnmower.network.TcpClient;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 服务器压测入口：按房间分组启动大量无界面机器人，复用客户端的 TcpClient/UdpClient/Message，
+ * 走完整的登录、建房/加房、准备、开局流程后以固定频率发送输入，最后输出逐机器人的延迟分位报告。
+ * <p>
+ * 用法：./gradlew :loadtest:run --args="--host 127.0.0.1 --bots 400 --room-size 4 --threads 4"
+ */
+public final class LoadTestLauncher {
+
+    private static final long PROGRESS_INTERVAL_MS = 5_000L;
+
+    private LoadTestLauncher() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options;
+        try {
+            options = LoadTestOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        List<BotWorker> workers = new ArrayList<>(options.threads);
+        for (int i = 0; i < options.threads; i++) {
+            BotWorker worker = new BotWorker(i);
+            worker.start();
+            workers.add(worker);
+        }
+
+        List<Bot> allBots = new ArrayList<>(options.bots);
+        List<Bot> unconnected = new ArrayList<>();
+        long startMs = System.currentTimeMillis();
+        long lastProgressMs = startMs;
+        RoomGroup group = null;
+        for (int i = 0; i < options.bots; i++) {
+            // 同一房间的机器人连续编号，并按房间轮询分配 worker，让每个线程负载的房间数大致相同
+            boolean host = i % options.roomSize == 0;
+            if (host) {
+                int groupIndex = i / options.roomSize;
+                group = new RoomGroup(groupIndex, Math.min(options.roomSize, options.bots - i));
+            }
+            long dueMs = startMs + (long) options.rampSeconds * 1_000L * i / options.bots;
+            long waitMs = dueMs - System.currentTimeMillis();
+            if (waitMs > 0L) {
+                Thread.sleep(waitMs);
+            }
+
+            TcpClient tcpClient = new TcpClient();
+            Bot bot = new Bot(i, group, host, options, tcpClient);
+            allBots.add(bot);
+            try {
+                tcpClient.connect(options.host, options.tcpPort);
+            } catch (IOException e) {
+                if (host) {
+                    group.markFailed();
+                }
+                bot.failBeforeStart("connect: " + e.getMessage());
+                unconnected.add(bot);
+                continue;
+            }
+            workers.get(group.index % workers.size()).add(bot);
+
+            long nowMs = System.currentTimeMillis();
+            if (nowMs - lastProgressMs >= PROGRESS_INTERVAL_MS) {
+                printProgress(allBots, nowMs - startMs);
+                lastProgressMs = nowMs;
+            }
+        }
+
+        long endMs = System.currentTimeMillis() + options.durationSeconds * 1_000L;
+        while (true) {
+            long nowMs = System.currentTimeMillis();
+            if (nowMs >= endMs) {
+                break;
+            }
+            Thread.sleep(Math.min(PROGRESS_INTERVAL_MS, endMs - nowMs));
+            printProgress(allBots, System.currentTimeMillis() - startMs);
+        }
+
+        long maxLagNanos = 0L;
+        List<Bot> finished = new ArrayList<>(unconnected);
+        for (BotWorker worker : workers) {
+            worker.stopAndJoin();
+            finished.addAll(worker.getBots());
+            maxLagNanos = Math.max(maxLagNanos, worker.getMaxLagNanos());
+        }
+
+        String report = LoadTestReport.format(options, finished, maxLagNanos);
+        System.out.println(report);
+        if (options.reportPath != null) {
+            Path path = Path.of(options.reportPath);
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Files.writeString(path, LoadTestReport.format(options, finished, maxLagNanos, 0), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void printProgress(List<Bot> bots, long elapsedMs) {
+        Map<Bot.Phase, Integer> counts = new EnumMap<>(Bot.Phase.class);
+        for (Bot bot : bots) {
+            counts.merge(bot.getPhase(), 1, Integer::sum);
+        }
+        StringBuilder sb = new StringBuilder(String.format(Locale.ROOT, "[%5.1fs] bots=%d", elapsedMs / 1000.0, bots.size()));
+        for (Map.Entry<Bot.Phase, Integer> entry : counts.entrySet()) {
+            sb.append(' ').append(entry.getKey().name().toLowerCase(Locale.ROOT)).append('=').append(entry.getValue());
+        }
+        System.out.println(sb);
+    }
+}
@@ -0,0 +1,92 @@
+package com.lawnmower.loadtest;
+
+import com.lawnmower.Config;
+
+/**
+ * 压测参数，全部可通过命令行覆盖：
+ * <pre>
+ *   --host 192.168.1.12        服务器地址（默认 Config.SERVER_HOST）
+ *   --port 7777                TCP 端口
+ *   --udp-port 7778            UDP 端口
+ *   --bots 200                 机器人总数
+ *   --room-size 4              每个房间的人数（第一个机器人建房，其余加入）
+ *   --threads 4                驱动机器人的 worker 线程数
+ *   --input-rate 60            每个机器人每秒发送的 C2S_PlayerInput 数量
+ *   --ramp 10                  在多少秒内把所有机器人依次连上（避免瞬间建连打满 accept 队列）
+ *   --duration 60              全部机器人开始后持续压测的秒数
+ *   --top 20                   控制台列出 RTT p99 最差的机器人数量（0 表示全部）
+ *   --report build/loadtest-report.txt  额外把完整的逐机器人报告写入文件
+ * </pre>
+ */
+final class LoadTestOptions {
+
+    String host = Config.SERVER_HOST;
+    int tcpPort = Config.SERVER_PORT;
+    int udpPort = Config.SERVER_UDP_PORT;
+    int bots = 200;
+    int roomSize = 4;
+    int threads = 4;
+    int inputRateHz = 60;
+    int rampSeconds = 10;
+    int durationSeconds = 60;
+    int top = 20;
+    String reportPath;
+
+    static LoadTestOptions parse(String[] args) {
+        LoadTestOptions options = new LoadTestOptions();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+                case "--host":
+                    options.host = requireValue(args, ++i, arg);
+                    break;
+                case "--port":
+                    options.tcpPort = Integer.parseInt(requireValue(args, ++i, arg));
+                    break;
+                case "--udp-port":
+                    options.udpPort = Integer.parseInt(requireValue(args, ++i, arg));
+                    break;
+                case "--bots":
+                    options.bots = Integer.parseInt(requireValue(args, ++i, arg));
+                    break;
+                case "--room-size":
+                    options.roomSize = Integer.parseInt(requireValue(args, ++i, arg));
+                    break;
+                case "--threads":
+                    options.threads = Integer.parseInt(requireValue(args, ++i, arg));
+                    break;
+                case "--input-rate":
+                    options.inputRateHz = Integer.parseInt(requireValue(args, ++i, arg));
+                    break;
+                case "--ramp":
+                    options.rampSeconds = Integer.parseInt(requireValue(args, ++i, arg));
+                    break;
+                case "--duration":
+                    options.durationSeconds = Integer.parseInt(requireValue(args, ++i, arg));
+                    break;
+                case "--top":
+                    options.top = Integer.parseInt(requireValue(args, ++i, arg));
+                    break;
+                case "--report":
+                    options.reportPath = requireValue(args, ++i, arg);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+        if (options.bots <= 0 || options.roomSize <= 0 || options.threads <= 0) {
+            throw new IllegalArgumentException("--bots, --room-size and --threads must be positive");
+        }
+        if (options.inputRateHz <= 0 || options.durationSeconds <= 0 || options.rampSeconds < 0) {
+            throw new IllegalArgumentException("--input-rate and --duration must be positive, --ramp non-negative");
+        }
+        return options;
+    }
+
+    private static String requireValue(String[] args, int index, String option) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + option);
+        }
+        return args[index];
+    }
+}
@@ -0,0 +1,89 @@
+package com.lawnmower.loadtest;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 压测报告：汇总分位、失败原因分布，以及按 RTT p99 从差到好排列的逐机器人明细
+ */
+final class LoadTestReport {
+
+    private LoadTestReport() {
+    }
+
+    static String format(LoadTestOptions options, List<Bot> bots, long maxWorkerLagNanos) {
+        return format(options, bots, maxWorkerLagNanos, options.top);
+    }
+
+    /**
+     * @param top 明细只列 RTT p99 最差的前 N 个，0 表示全部
+     */
+    static String format(LoadTestOptions options, List<Bot> bots, long maxWorkerLagNanos, int top) {
+        StringBuilder sb = new StringBuilder();
+        String nl = System.lineSeparator();
+        sb.append(String.format(Locale.ROOT,
+                "load test: %s tcp=%d udp=%d bots=%d room-size=%d threads=%d input=%dHz ramp=%ds duration=%ds%n",
+                options.host, options.tcpPort, options.udpPort, options.bots, options.roomSize,
+                options.threads, options.inputRateHz, options.rampSeconds, options.durationSeconds));
+
+        LatencyHistogram rtt = new LatencyHistogram();
+        LatencyHistogram syncInterval = new LatencyHistogram();
+        LatencyHistogram ackLatency = new LatencyHistogram();
+        Map<String, Integer> failures = new TreeMap<>();
+        int played = 0;
+        long inputs = 0L;
+        long fallbacks = 0L;
+        long syncs = 0L;
+        for (Bot bot : bots) {
+            rtt.merge(bot.rtt);
+            syncInterval.merge(bot.syncInterval);
+            ackLatency.merge(bot.ackLatency);
+            inputs += bot.inputsSent;
+            fallbacks += bot.inputSendFailures;
+            syncs += bot.syncsReceived;
+            if (bot.getPhase() == Bot.Phase.FAILED) {
+                failures.merge(bot.getFailure(), 1, Integer::sum);
+            } else {
+                played++;
+            }
+        }
+        int rooms = (options.bots + options.roomSize - 1) / options.roomSize;
+        sb.append(String.format(Locale.ROOT,
+                "played: %d/%d bots in %d rooms, inputs=%d (tcp fallback %d), syncs=%d, worker max lag=%.1fms%n",
+                played, bots.size(), rooms, inputs, fallbacks, syncs, maxWorkerLagNanos / 1_000_000.0));
+        sb.append("rtt:           ").append(rtt.summary()).append(nl);
+        sb.append("sync interval: ").append(syncInterval.summary()).append(nl);
+        sb.append("input ack:     ").append(ackLatency.summary()).append(nl);
+        if (!failures.isEmpty()) {
+            sb.append("failures:").append(nl);
+            for (Map.Entry<String, Integer> entry : failures.entrySet()) {
+                sb.append(String.format(Locale.ROOT, "  %5d  %s%n", entry.getValue(), entry.getKey()));
+            }
+        }
+
+        List<Bot> sorted = new ArrayList<>(bots);
+        sorted.sort(Comparator.comparingLong((Bot bot) -> bot.rtt.percentileMicros(0.99)).reversed());
+        int limit = top <= 0 ? sorted.size() : Math.min(top, sorted.size());
+        sb.append(String.format(Locale.ROOT, "%-9s %6s %9s %8s %8s %8s %9s %9s %9s %9s %9s %9s  %s%n",
+                "bot", "room", "phase", "inputs", "syncs", "rtt n", "rtt p50", "rtt p99",
+                "sync p50", "sync p99", "ack p50", "ack p99", "failure"));
+        for (int i = 0; i < limit; i++) {
+            Bot bot = sorted.get(i);
+            sb.append(String.format(Locale.ROOT, "%-9s %6d %9s %8d %8d %8d %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f  %s%n",
+                    bot.name, bot.group.getRoomId(), bot.getPhase().name().toLowerCase(Locale.ROOT),
+                    bot.inputsSent, bot.syncsReceived, bot.rtt.count(),
+                    bot.rtt.percentileMicros(0.50) / 1000.0, bot.rtt.percentileMicros(0.99) / 1000.0,
+                    bot.syncInterval.percentileMicros(0.50) / 1000.0, bot.syncInterval.percentileMicros(0.99) / 1000.0,
+                    bot.ackLatency.percentileMicros(0.50) / 1000.0, bot.ackLatency.percentileMicros(0.99) / 1000.0,
+                    bot.getFailure() == null ? "" : bot.getFailure()));
+        }
+        if (limit < sorted.size()) {
+            sb.append(String.format(Locale.ROOT, "... %d more (use --top 0 or --report for all)%n", sorted.size() - limit));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,39 @@
+package com.lawnmower.loadtest;
+
+/**
+ * 一组共用同一个房间的机器人：第一个机器人建房，建房成功后把 room_id 写在这里，其余机器人据此加入。
+ * 同组机器人可能分布在不同 worker 线程上，因此 roomId 为 volatile。
+ */
+final class RoomGroup {
+
+    final int index;
+    final String roomName;
+    final int size;
+    private volatile int roomId;
+    private volatile boolean failed;
+
+    RoomGroup(int index, int size) {
+        this.index = index;
+        this.roomName = "load-" + index;
+        this.size = size;
+    }
+
+    int getRoomId() {
+        return roomId;
+    }
+
+    void setRoomId(int roomId) {
+        this.roomId = roomId;
+    }
+
+    /**
+     * 建房失败后同组其余机器人不再等待
+     */
+    boolean isFailed() {
+        return failed;
+    }
+
+    void markFailed() {
+        this.failed = true;
+    }
+}
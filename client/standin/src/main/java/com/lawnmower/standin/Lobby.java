@@ -0,0 +1,259 @@
+package com.lawnmower.standin;
+
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
+import lawnmower.Message;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 房间管理，规则与 C++ RoomManager 一致：建房者为房主、满员或已开局不可加入、
+ * 房主之外全部准备后才能开局、房主离开时顺延给下一位。
+ * <p>
+ * 所有方法在 Netty IO 线程上调用，用一把锁保护；房间广播在锁内发出，Netty 写出本身是异步的。
+ */
+final class Lobby {
+
+    private static final Logger log = LoggerFactory.getLogger(Lobby.class);
+
+    private final StandInOptions options;
+    private final EventLoopGroup simGroup;
+    private final Map<Integer, Room> rooms = new LinkedHashMap<>();
+    private final Map<Integer, Room> playerRoom = new HashMap<>();
+    private volatile Channel udpChannel;
+    private int nextRoomId = 1;
+
+    Lobby(StandInOptions options, EventLoopGroup simGroup) {
+        this.options = options;
+        this.simGroup = simGroup;
+    }
+
+    void setUdpChannel(Channel udpChannel) {
+        this.udpChannel = udpChannel;
+    }
+
+    synchronized Message.S2C_CreateRoomResult createRoom(TcpSessionHandler session, Message.C2S_CreateRoom request) {
+        Message.S2C_CreateRoomResult.Builder result = Message.S2C_CreateRoomResult.newBuilder();
+        if (playerRoom.containsKey(session.getPlayerId())) {
+            return result.setSuccess(false).setMessageCreate("请先离开当前房间").build();
+        }
+        int roomId = nextRoomId++;
+        int maxPlayers = request.getMaxPlayers() == 0
+                ? options.maxPlayersPerRoom
+                : Math.max(1, Math.min(request.getMaxPlayers(), options.maxPlayersPerRoom));
+        String name = request.getRoomName().isEmpty() ? "房间" + roomId : request.getRoomName();
+        Room room = new Room(roomId, name, maxPlayers);
+        room.members.add(new Member(session, true));
+        rooms.put(roomId, room);
+        playerRoom.put(session.getPlayerId(), room);
+        broadcastRoomUpdate(room);
+        log.info("玩家 {} 创建房间 {}", session.getPlayerId(), roomId);
+        return result.setSuccess(true).setRoomId(roomId).setMessageCreate("房间创建成功").build();
+    }
+
+    synchronized Message.S2C_JoinRoomResult joinRoom(TcpSessionHandler session, int roomId) {
+        Message.S2C_JoinRoomResult.Builder result = Message.S2C_JoinRoomResult.newBuilder();
+        if (playerRoom.containsKey(session.getPlayerId())) {
+            return result.setSuccess(false).setMessageJoin("已在房间中").build();
+        }
+        Room room = rooms.get(roomId);
+        if (room == null) {
+            return result.setSuccess(false).setMessageJoin("房间不存在").build();
+        }
+        if (room.simulation != null) {
+            return result.setSuccess(false).setMessageJoin("房间已开始游戏").build();
+        }
+        if (room.members.size() >= room.maxPlayers) {
+            return result.setSuccess(false).setMessageJoin("房间已满").build();
+        }
+        room.members.add(new Member(session, false));
+        playerRoom.put(session.getPlayerId(), room);
+        broadcastRoomUpdate(room);
+        log.info("玩家 {} 加入房间 {}", session.getPlayerId(), roomId);
+        return result.setSuccess(true).setMessageJoin("加入房间成功").build();
+    }
+
+    synchronized Message.S2C_LeaveRoomResult leaveRoom(int playerId) {
+        Message.S2C_LeaveRoomResult.Builder result = Message.S2C_LeaveRoomResult.newBuilder();
+        if (!detach(playerId)) {
+            return result.setSuccess(false).setMessageLeave("玩家未在任何房间").build();
+        }
+        return result.setSuccess(true).setMessageLeave("已离开房间").build();
+    }
+
+    synchronized Message.S2C_SetReadyResult setReady(int playerId, boolean ready) {
+        Message.S2C_SetReadyResult.Builder result = Message.S2C_SetReadyResult.newBuilder();
+        Room room = playerRoom.get(playerId);
+        if (room == null) {
+            return result.setSuccess(false).setMessageReady("玩家未在房间").build();
+        }
+        result.setRoomId(room.roomId);
+        if (room.simulation != null) {
+            return result.setSuccess(false).setIsReady(false).setMessageReady("房间已在游戏中").build();
+        }
+        Member member = room.find(playerId);
+        member.ready = ready;
+        broadcastRoomUpdate(room);
+        return result.setSuccess(true).setIsReady(ready).setMessageReady(ready ? "已准备" : "已取消准备").build();
+    }
+
+    /**
+     * 成功时向全房间广播 S2C_GameStart 并启动房间模拟，失败只回给发起者
+     */
+    synchronized void startGame(TcpSessionHandler session) {
+        Message.S2C_GameStart.Builder result = Message.S2C_GameStart.newBuilder();
+        Room room = playerRoom.get(session.getPlayerId());
+        if (room == null) {
+            session.send(Message.MessageType.MSG_S2C_GAME_START,
+                    result.setSuccess(false).setMessageStart("玩家未在房间中").build());
+            return;
+        }
+        result.setRoomId(room.roomId);
+        String error = null;
+        if (!room.find(session.getPlayerId()).host) {
+            error = "只有房主可以开始游戏";
+        } else if (room.simulation != null) {
+            error = "房间已在游戏中";
+        } else {
+            for (Member member : room.members) {
+                if (!member.host && !member.ready) {
+                    error = "存在未准备的玩家";
+                    break;
+                }
+            }
+        }
+        if (error != null) {
+            session.send(Message.MessageType.MSG_S2C_GAME_START, result.setSuccess(false).setMessageStart(error).build());
+            return;
+        }
+
+        List<TcpSessionHandler> players = new ArrayList<>(room.members.size());
+        for (Member member : room.members) {
+            member.ready = false;
+            players.add(member.session);
+        }
+        RoomSimulation simulation = new RoomSimulation(room.roomId, options, simGroup.next(), udpChannel, players);
+        room.simulation = simulation;
+        Message.S2C_GameStart start = result
+                .setSuccess(true)
+                .setStartTime(System.currentTimeMillis())
+                .setMessageStart("游戏开始")
+                .setScene(simulation.sceneInfo())
+                .build();
+        for (TcpSessionHandler player : players) {
+            player.send(Message.MessageType.MSG_S2C_GAME_START, start);
+        }
+        simulation.start();
+        log.info("房间 {} 游戏开始，玩家 {} 人", room.roomId, players.size());
+    }
+
+    synchronized Message.S2C_RoomList roomList() {
+        Message.S2C_RoomList.Builder list = Message.S2C_RoomList.newBuilder();
+        for (Room room : rooms.values()) {
+            Message.RoomInfo.Builder info = list.addRoomsBuilder()
+                    .setRoomId(room.roomId)
+                    .setRoomName(room.name)
+                    .setCurrentPlayers(room.members.size())
+                    .setMaxPlayers(room.maxPlayers)
+                    .setIsPlaying(room.simulation != null);
+            for (Member member : room.members) {
+                if (member.host) {
+                    info.setHostName(member.session.getPlayerName());
+                }
+            }
+        }
+        return list.build();
+    }
+
+    /**
+     * @return 玩家所在且已开局房间的模拟，否则 null
+     */
+    synchronized RoomSimulation simulationOf(int playerId) {
+        Room room = playerRoom.get(playerId);
+        return room == null ? null : room.simulation;
+    }
+
+    synchronized void onDisconnect(int playerId) {
+        detach(playerId);
+    }
+
+    private boolean detach(int playerId) {
+        Room room = playerRoom.remove(playerId);
+        if (room == null) {
+            return false;
+        }
+        Member member = room.find(playerId);
+        room.members.remove(member);
+        if (room.simulation != null) {
+            room.simulation.removePlayer(playerId);
+        }
+        if (room.members.isEmpty()) {
+            if (room.simulation != null) {
+                room.simulation.stop();
+            }
+            rooms.remove(room.roomId);
+            log.info("房间 {} 已解散", room.roomId);
+            return true;
+        }
+        if (member.host) {
+            room.members.get(0).host = true;
+        }
+        broadcastRoomUpdate(room);
+        return true;
+    }
+
+    private static void broadcastRoomUpdate(Room room) {
+        Message.S2C_RoomUpdate.Builder update = Message.S2C_RoomUpdate.newBuilder().setRoomId(room.roomId);
+        for (Member member : room.members) {
+            update.addPlayersBuilder()
+                    .setPlayerId(member.session.getPlayerId())
+                    .setPlayerName(member.session.getPlayerName())
+                    .setIsReady(member.ready)
+                    .setIsHost(member.host);
+        }
+        Message.S2C_RoomUpdate built = update.build();
+        for (Member member : room.members) {
+            member.session.send(Message.MessageType.MSG_S2C_ROOM_UPDATE, built);
+        }
+    }
+
+    private static final class Room {
+        final int roomId;
+        final String name;
+        final int maxPlayers;
+        final List<Member> members = new ArrayList<>();
+        RoomSimulation simulation;
+
+        Room(int roomId, String name, int maxPlayers) {
+            this.roomId = roomId;
+            this.name = name;
+            this.maxPlayers = maxPlayers;
+        }
+
+        Member find(int playerId) {
+            for (Member member : members) {
+                if (member.session.getPlayerId() == playerId) {
+                    return member;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final class Member {
+        final TcpSessionHandler session;
+        boolean host;
+        boolean ready;
+
+        Member(TcpSessionHandler session, boolean host) {
+            this.session = session;
+            this.host = host;
+        }
+    }
+}
@@ -0,0 +1,748 @@
+package com.lawnmower.standin;
+
+import com.google.protobuf.MessageLite;
+import com.lawnmower.network.InterestArea;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
+import io.netty.channel.socket.DatagramPacket;
+import io.netty.util.concurrent.ScheduledFuture;
+import lawnmower.Message;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 单个房间的合成游戏逻辑：僵尸从地图边缘刷出并追向最近的玩家，攻击中的玩家向最近的僵尸发射豌豆，
+ * 命中扣血、打死后广播死亡。玩家不会受伤，对局不会结束，便于长时间压测。
+ * <p>
+ * 同步节奏与 C++ GameManager 相同：开局先经 TCP 发全量快照，之后按 sync-rate 发增量，
+ * 已登记 UDP 端点的玩家走 UDP，其余走 TCP；射弹、死亡等事件始终走 TCP。
+ * 上报过关注区域（{@link InterestArea}）的玩家只收区域内的僵尸：快照按区域过滤，增量按接收方单独构造，
+ * 附带进出区域的僵尸。这类增量全部走 TCP：替身服务器没有 UDP 可靠层，进出事件丢失或与后续增量乱序就对不上。
+ * <p>
+ * 所有状态只在绑定的 sim EventLoop 上读写，外部调用通过 execute 投递。
+ */
+final class RoomSimulation {
+
+    /** 单个数据报上限，超过则改走 TCP（与正式服全量快照不走 UDP 的理由相同：避免 IP 分片丢包） */
+    private static final int MAX_DATAGRAM_BYTES = 60_000;
+    private static final float POSITION_EPSILON = 0.01f;
+    private static final float SPAWN_RADIUS = 120f;
+    private static final float ENEMY_STOP_DISTANCE = 30f;
+    private static final float PROJECTILE_SPEED = 200f;
+    private static final float PROJECTILE_TTL_SECONDS = 2.5f;
+    private static final float PROJECTILE_HIT_RADIUS = 26f;
+    private static final int MAX_SHOTS_PER_TICK = 4;
+    /** 单条输入最多推进的时长，防止客户端上报异常 delta_ms 造成瞬移 */
+    private static final int MAX_INPUT_DELTA_MS = 100;
+    private static final float WAVE_INTERVAL_SECONDS = 20f;
+    /** 僵尸走出关注区域这么远才算离开，避免在边界上反复进出 */
+    private static final float INTEREST_LEAVE_SLACK = 64f;
+
+    // 与 game_config 的默认职业/敌人类型保持一致
+    private static final int PLAYER_MAX_HEALTH = 100;
+    private static final int PLAYER_ATTACK = 10;
+    private static final int PLAYER_ATTACK_SPEED = 2;
+    private static final float PLAYER_MOVE_SPEED = 200f;
+    private static final int PLAYER_CRIT_RATE = 50;
+    private static final int EXP_TO_NEXT = 100;
+    private static final int[] ENEMY_HEALTH = {30, 60, 120, 80};
+    private static final float[] ENEMY_SPEED = {60f, 50f, 40f, 100f};
+
+    private final int roomId;
+    private final StandInOptions options;
+    private final EventLoop loop;
+    private final Channel udpChannel;
+    private final SplittableRandom random;
+    private final int ticksPerSync;
+    private final int syncsPerFullSnapshot;
+
+    private final Map<Integer, SimPlayer> players = new LinkedHashMap<>();
+    private final Map<Integer, Enemy> enemies = new LinkedHashMap<>();
+    private final List<Projectile> projectiles = new ArrayList<>();
+    private final List<Enemy> diedSinceSync = new ArrayList<>();
+
+    // 本 tick 产生的事件，tick 末尾合并发送
+    private final List<Message.ProjectileState> spawnedThisTick = new ArrayList<>();
+    private final List<Message.ProjectileDespawn> despawnedThisTick = new ArrayList<>();
+
+    private ScheduledFuture<?> tickFuture;
+    private long tick;
+    private long syncCount;
+    private float spawnAccumulator;
+    private int nextEnemyId = 1;
+    private int nextProjectileId = 1;
+
+    RoomSimulation(int roomId, StandInOptions options, EventLoop loop, Channel udpChannel,
+                   List<TcpSessionHandler> sessions) {
+        this.roomId = roomId;
+        this.options = options;
+        this.loop = loop;
+        this.udpChannel = udpChannel;
+        this.random = new SplittableRandom(options.seed ^ roomId);
+        this.ticksPerSync = Math.max(1, options.tickRate / options.syncRate);
+        this.syncsPerFullSnapshot = options.fullSyncSeconds * options.syncRate;
+        placePlayers(sessions);
+    }
+
+    Message.SceneInfo sceneInfo() {
+        return Message.SceneInfo.newBuilder()
+                .setSceneId(roomId)
+                .setWidth(options.mapWidth)
+                .setHeight(options.mapHeight)
+                .setTickRate(options.tickRate)
+                .setStateSyncRate(options.syncRate)
+                .build();
+    }
+
+    void start() {
+        long periodNanos = 1_000_000_000L / options.tickRate;
+        loop.execute(() -> {
+            sendFullSnapshot();
+            tickFuture = loop.scheduleAtFixedRate(this::tick, periodNanos, periodNanos, TimeUnit.NANOSECONDS);
+        });
+    }
+
+    void stop() {
+        loop.execute(() -> {
+            if (tickFuture != null) {
+                tickFuture.cancel(false);
+                tickFuture = null;
+            }
+        });
+    }
+
+    void removePlayer(int playerId) {
+        loop.execute(() -> players.remove(playerId));
+    }
+
+    /**
+     * 玩家上报关注区域；首次上报后下一次同步先发按区域过滤的快照，替换客户端手里的全部僵尸
+     */
+    void setInterestArea(int playerId, InterestArea area) {
+        loop.execute(() -> {
+            SimPlayer player = players.get(playerId);
+            if (player == null) {
+                return;
+            }
+            if (player.interest == null) {
+                player.interestSnapshotPending = true;
+            }
+            player.interest = area;
+        });
+    }
+
+    /**
+     * @param sender UDP 来源地址，经 TCP 兜底到达的输入传 null
+     */
+    void submitInput(int playerId, Message.C2S_PlayerInput input, InetSocketAddress sender) {
+        loop.execute(() -> {
+            SimPlayer player = players.get(playerId);
+            if (player == null) {
+                return;
+            }
+            if (sender != null) {
+                player.endpoint = sender;
+            }
+            int seq = input.getInputSeq();
+            if (seq == 0) {
+                // UDP hello：只登记端点
+                return;
+            }
+            if (Integer.compareUnsigned(seq, player.lastReceivedSeq) <= 0) {
+                return;
+            }
+            player.lastReceivedSeq = seq;
+            player.pendingInputs.addLast(input);
+        });
+    }
+
+    private void placePlayers(List<TcpSessionHandler> sessions) {
+        float centerX = options.mapWidth * 0.5f;
+        float centerY = options.mapHeight * 0.5f;
+        for (int i = 0; i < sessions.size(); i++) {
+            float angle = (float) (2.0 * Math.PI * i / sessions.size());
+            SimPlayer player = new SimPlayer(sessions.get(i));
+            player.x = clampX(centerX + (float) Math.cos(angle) * SPAWN_RADIUS);
+            player.y = clampY(centerY + (float) Math.sin(angle) * SPAWN_RADIUS);
+            player.rotation = (float) Math.toDegrees(angle);
+            player.markSynced();
+            players.put(player.playerId, player);
+        }
+    }
+
+    private void tick() {
+        tick++;
+        float dt = 1f / options.tickRate;
+        for (SimPlayer player : players.values()) {
+            applyInputs(player, dt);
+            fire(player, dt);
+        }
+        spawnEnemies(dt);
+        moveEnemies(dt);
+        advanceProjectiles(dt);
+        flushEvents();
+        if (tick % ticksPerSync == 0) {
+            syncCount++;
+            if (syncsPerFullSnapshot > 0 && syncCount % syncsPerFullSnapshot == 0) {
+                sendFullSnapshot();
+            } else {
+                sendDelta();
+            }
+        }
+    }
+
+    private void applyInputs(SimPlayer player, float dt) {
+        Message.C2S_PlayerInput input;
+        while ((input = player.pendingInputs.pollFirst()) != null) {
+            player.attacking = input.getIsAttacking();
+            player.lastProcessedSeq = input.getInputSeq();
+            float dx = input.getMoveDirection().getX();
+            float dy = input.getMoveDirection().getY();
+            float len = (float) Math.sqrt(dx * dx + dy * dy);
+            if (len < 1e-3f) {
+                continue;
+            }
+            float seconds = input.getDeltaMs() > 0
+                    ? Math.min(input.getDeltaMs(), MAX_INPUT_DELTA_MS) / 1000f
+                    : dt;
+            float step = PLAYER_MOVE_SPEED * seconds / Math.max(1f, len);
+            player.x = clampX(player.x + dx * step);
+            player.y = clampY(player.y + dy * step);
+            player.rotation = (float) Math.toDegrees(Math.atan2(dy, dx));
+        }
+    }
+
+    private void fire(SimPlayer player, float dt) {
+        if (!player.attacking || options.fireRate <= 0f) {
+            player.fireCooldown = Math.max(0f, player.fireCooldown - dt);
+            return;
+        }
+        player.fireCooldown -= dt;
+        int shots = 0;
+        while (player.fireCooldown <= 0f && shots < MAX_SHOTS_PER_TICK) {
+            player.fireCooldown += 1f / options.fireRate;
+            shots++;
+            Enemy target = nearestEnemy(player.x, player.y);
+            float angle = target == null
+                    ? player.rotation
+                    : (float) Math.toDegrees(Math.atan2(target.y - player.y, target.x - player.x));
+            Projectile projectile = new Projectile(nextProjectileId++, player.playerId, player.x, player.y, angle,
+                    target == null ? 0 : target.enemyId);
+            projectiles.add(projectile);
+            spawnedThisTick.add(Message.ProjectileState.newBuilder()
+                    .setProjectileId(projectile.projectileId)
+                    .setOwnerPlayerId(player.playerId)
+                    .setPosition(vector(projectile.x, projectile.y))
+                    .setRotation(angle)
+                    .setTtlMs((int) (PROJECTILE_TTL_SECONDS * 1000f))
+                    .setProjectile(Message.Projectile.newBuilder()
+                            .setSpeed((int) PROJECTILE_SPEED)
+                            .setIsFriendly(true)
+                            .setDamage(PLAYER_ATTACK))
+                    .build());
+        }
+        if (player.fireCooldown < 0f) {
+            // 上限截断后不累积欠账，避免卡顿恢复时一次性补射
+            player.fireCooldown = 0f;
+        }
+    }
+
+    private void spawnEnemies(float dt) {
+        spawnAccumulator += options.spawnPerSecond * dt;
+        while (spawnAccumulator >= 1f) {
+            spawnAccumulator -= 1f;
+            if (enemies.size() >= options.maxEnemies) {
+                spawnAccumulator = 0f;
+                return;
+            }
+            int typeIndex = random.nextInt(ENEMY_HEALTH.length);
+            Enemy enemy = new Enemy(nextEnemyId++, typeIndex + 1, ENEMY_HEALTH[typeIndex], ENEMY_SPEED[typeIndex]);
+            enemy.waveId = 1 + (int) (tick / (options.tickRate * WAVE_INTERVAL_SECONDS));
+            switch (random.nextInt(4)) {
+                case 0:
+                    enemy.x = 0f;
+                    enemy.y = random.nextInt(options.mapHeight);
+                    break;
+                case 1:
+                    enemy.x = options.mapWidth;
+                    enemy.y = random.nextInt(options.mapHeight);
+                    break;
+                case 2:
+                    enemy.x = random.nextInt(options.mapWidth);
+                    enemy.y = 0f;
+                    break;
+                default:
+                    enemy.x = random.nextInt(options.mapWidth);
+                    enemy.y = options.mapHeight;
+                    break;
+            }
+            enemy.spawned = true;
+            enemies.put(enemy.enemyId, enemy);
+        }
+    }
+
+    private void moveEnemies(float dt) {
+        if (players.isEmpty()) {
+            return;
+        }
+        for (Enemy enemy : enemies.values()) {
+            SimPlayer target = null;
+            float best = Float.MAX_VALUE;
+            for (SimPlayer player : players.values()) {
+                float d = dist2(enemy.x, enemy.y, player.x, player.y);
+                if (d < best) {
+                    best = d;
+                    target = player;
+                }
+            }
+            float distance = (float) Math.sqrt(best);
+            if (target == null || distance <= ENEMY_STOP_DISTANCE) {
+                continue;
+            }
+            float step = Math.min(enemy.speed * dt, distance - ENEMY_STOP_DISTANCE);
+            enemy.x += (target.x - enemy.x) / distance * step;
+            enemy.y += (target.y - enemy.y) / distance * step;
+        }
+    }
+
+    private void advanceProjectiles(float dt) {
+        Iterator<Projectile> it = projectiles.iterator();
+        while (it.hasNext()) {
+            Projectile projectile = it.next();
+            projectile.x += projectile.vx * dt;
+            projectile.y += projectile.vy * dt;
+            projectile.ttl -= dt;
+            Enemy target = projectile.targetEnemyId == 0 ? null : enemies.get(projectile.targetEnemyId);
+            Message.ProjectileDespawnReason reason = null;
+            if (target != null && dist2(projectile.x, projectile.y, target.x, target.y)
+                    <= PROJECTILE_HIT_RADIUS * PROJECTILE_HIT_RADIUS) {
+                reason = Message.ProjectileDespawnReason.PROJECTILE_DESPAWN_HIT;
+                hitEnemy(target, projectile);
+            } else if (projectile.x < 0f || projectile.y < 0f
+                    || projectile.x > options.mapWidth || projectile.y > options.mapHeight) {
+                reason = Message.ProjectileDespawnReason.PROJECTILE_DESPAWN_OUT_OF_BOUNDS;
+            } else if (projectile.ttl <= 0f) {
+                reason = Message.ProjectileDespawnReason.PROJECTILE_DESPAWN_EXPIRED;
+            }
+            if (reason == null) {
+                continue;
+            }
+            it.remove();
+            despawnedThisTick.add(Message.ProjectileDespawn.newBuilder()
+                    .setProjectileId(projectile.projectileId)
+                    .setReason(reason)
+                    .setHitEnemyId(reason == Message.ProjectileDespawnReason.PROJECTILE_DESPAWN_HIT
+                            ? projectile.targetEnemyId : 0)
+                    .setPosition(vector(projectile.x, projectile.y))
+                    .build());
+        }
+    }
+
+    private void hitEnemy(Enemy enemy, Projectile projectile) {
+        enemy.health -= PLAYER_ATTACK;
+        enemy.healthDirty = true;
+        if (enemy.health > 0) {
+            return;
+        }
+        enemies.remove(enemy.enemyId);
+        diedSinceSync.add(enemy);
+        broadcastTcp(Message.MessageType.MSG_S2C_ENEMY_DIED, Message.S2C_EnemyDied.newBuilder()
+                .setEnemyId(enemy.enemyId)
+                .setKillerPlayerId(projectile.ownerPlayerId)
+                .setWaveId(enemy.waveId)
+                .setPosition(vector(enemy.x, enemy.y))
+                .build());
+    }
+
+    private void flushEvents() {
+        if (!spawnedThisTick.isEmpty()) {
+            broadcastTcp(Message.MessageType.MSG_S2C_PROJECTILE_SPAWN, Message.S2C_ProjectileSpawn.newBuilder()
+                    .setSyncTime(syncTime())
+                    .setRoomId(roomId)
+                    .addAllProjectiles(spawnedThisTick)
+                    .build());
+            spawnedThisTick.clear();
+        }
+        if (!despawnedThisTick.isEmpty()) {
+            broadcastTcp(Message.MessageType.MSG_S2C_PROJECTILE_DESPAWN, Message.S2C_ProjectileDespawn.newBuilder()
+                    .setSyncTime(syncTime())
+                    .setRoomId(roomId)
+                    .addAllProjectiles(despawnedThisTick)
+                    .build());
+            despawnedThisTick.clear();
+        }
+    }
+
+    private void sendFullSnapshot() {
+        Message.S2C_GameStateSync.Builder sync = Message.S2C_GameStateSync.newBuilder()
+                .setSyncTime(syncTime())
+                .setRoomId(roomId)
+                .setIsFullSnapshot(true);
+        for (SimPlayer player : players.values()) {
+            sync.addPlayers(player.toState());
+            player.markSynced();
+        }
+        for (Enemy enemy : enemies.values()) {
+            sync.addEnemies(enemy.toState());
+            enemy.markSynced();
+        }
+        diedSinceSync.clear();
+        Message.Packet packet = Message.Packet.newBuilder()
+                .setMsgType(Message.MessageType.MSG_S2C_GAME_STATE_SYNC)
+                .setPayload(sync.build().toByteString())
+                .build();
+        for (SimPlayer player : players.values()) {
+            if (player.interest != null) {
+                sendInterestSnapshot(player);
+            } else {
+                player.session.send(packet);
+            }
+        }
+    }
+
+    /**
+     * 按玩家的关注区域过滤的全量快照（玩家始终全部下发），同时重置该玩家持有的僵尸集合
+     */
+    private void sendInterestSnapshot(SimPlayer player) {
+        Message.S2C_GameStateSync.Builder sync = Message.S2C_GameStateSync.newBuilder()
+                .setSyncTime(syncTime())
+                .setRoomId(roomId)
+                .setIsFullSnapshot(true);
+        for (SimPlayer other : players.values()) {
+            sync.addPlayers(other.toState());
+        }
+        player.visibleEnemies.clear();
+        for (Enemy enemy : enemies.values()) {
+            if (player.interest.contains(enemy.x, enemy.y)) {
+                sync.addEnemies(enemy.toState());
+                player.visibleEnemies.add(enemy.enemyId);
+            }
+        }
+        player.interestSnapshotPending = false;
+        player.session.send(Message.MessageType.MSG_S2C_GAME_STATE_SYNC, sync.build());
+    }
+
+    private void sendDelta() {
+        Message.S2C_GameStateDeltaSync.Builder delta = Message.S2C_GameStateDeltaSync.newBuilder()
+                .setSyncTime(syncTime())
+                .setRoomId(roomId);
+        for (SimPlayer player : players.values()) {
+            int mask = 0;
+            Message.PlayerStateDelta.Builder out = Message.PlayerStateDelta.newBuilder().setPlayerId(player.playerId);
+            if (Math.abs(player.x - player.syncedX) > POSITION_EPSILON
+                    || Math.abs(player.y - player.syncedY) > POSITION_EPSILON) {
+                mask |= Message.PlayerDeltaMask.PLAYER_DELTA_POSITION_VALUE;
+                out.setPosition(vector(player.x, player.y));
+            }
+            if (player.rotation != player.syncedRotation) {
+                mask |= Message.PlayerDeltaMask.PLAYER_DELTA_ROTATION_VALUE;
+                out.setRotation(player.rotation);
+            }
+            if (player.lastProcessedSeq != player.syncedSeq) {
+                mask |= Message.PlayerDeltaMask.PLAYER_DELTA_LAST_PROCESSED_INPUT_SEQ_VALUE;
+                out.setLastProcessedInputSeq(player.lastProcessedSeq);
+            }
+            if (mask != 0) {
+                delta.addPlayers(out.setChangedMask(mask));
+                player.markSynced();
+            }
+        }
+        // 新刷出的僵尸需要 type_id 等完整字段，同 C++ 的 force_sync 一样放进非全量 GameStateSync 走 TCP
+        Message.S2C_GameStateSync.Builder spawned = null;
+        List<Message.EnemyStateDelta> enemyDeltas = new ArrayList<>();
+        for (Enemy enemy : enemies.values()) {
+            if (enemy.spawned) {
+                if (spawned == null) {
+                    spawned = Message.S2C_GameStateSync.newBuilder()
+                            .setSyncTime(delta.getSyncTime())
+                            .setRoomId(roomId)
+                            .setIsFullSnapshot(false);
+                }
+                spawned.addEnemies(enemy.toState());
+                enemy.markSynced();
+                continue;
+            }
+            int mask = 0;
+            Message.EnemyStateDelta.Builder out = Message.EnemyStateDelta.newBuilder().setEnemyId(enemy.enemyId);
+            if (Math.abs(enemy.x - enemy.syncedX) > POSITION_EPSILON
+                    || Math.abs(enemy.y - enemy.syncedY) > POSITION_EPSILON) {
+                mask |= Message.EnemyDeltaMask.ENEMY_DELTA_POSITION_VALUE;
+                out.setPosition(vector(enemy.x, enemy.y));
+            }
+            if (enemy.healthDirty) {
+                mask |= Message.EnemyDeltaMask.ENEMY_DELTA_HEALTH_VALUE;
+                out.setHealth(enemy.health);
+            }
+            if (mask != 0) {
+                enemyDeltas.add(out.setChangedMask(mask).build());
+                enemy.markSynced();
+            }
+        }
+        for (Enemy enemy : diedSinceSync) {
+            enemyDeltas.add(Message.EnemyStateDelta.newBuilder()
+                    .setEnemyId(enemy.enemyId)
+                    .setChangedMask(Message.EnemyDeltaMask.ENEMY_DELTA_IS_ALIVE_VALUE
+                            | Message.EnemyDeltaMask.ENEMY_DELTA_HEALTH_VALUE)
+                    .setHealth(0)
+                    .setIsAlive(false)
+                    .build());
+        }
+        diedSinceSync.clear();
+
+        Message.Packet spawnedPacket = spawned == null ? null : Message.Packet.newBuilder()
+                .setMsgType(Message.MessageType.MSG_S2C_GAME_STATE_SYNC)
+                .setPayload(spawned.build().toByteString())
+                .build();
+        Message.Packet deltaPacket = null;
+        byte[] deltaBytes = null;
+        if (delta.getPlayersCount() > 0 || !enemyDeltas.isEmpty()) {
+            deltaPacket = Message.Packet.newBuilder()
+                    .setMsgType(Message.MessageType.MSG_S2C_GAME_STATE_DELTA_SYNC)
+                    .setPayload(delta.clone().addAllEnemies(enemyDeltas).build().toByteString())
+                    .build();
+            deltaBytes = deltaPacket.toByteArray();
+        }
+        for (SimPlayer player : players.values()) {
+            if (player.interest == null) {
+                if (spawnedPacket != null) {
+                    player.session.send(spawnedPacket);
+                }
+                if (deltaPacket != null) {
+                    sendState(player, deltaPacket, deltaBytes);
+                }
+            } else if (player.interestSnapshotPending) {
+                sendInterestSnapshot(player);
+            } else {
+                sendInterestDelta(player, delta, enemyDeltas);
+            }
+        }
+    }
+
+    /**
+     * 按玩家关注区域构造增量：先找出离开（走出区域或已死亡）的僵尸，只保留仍持有的僵尸的字段增量，
+     * 再把新进入区域的僵尸（含新刷出的）按完整状态放进 entered
+     */
+    private void sendInterestDelta(SimPlayer player, Message.S2C_GameStateDeltaSync.Builder roomDelta,
+                                   List<Message.EnemyStateDelta> enemyDeltas) {
+        List<Integer> left = new ArrayList<>();
+        Iterator<Integer> visible = player.visibleEnemies.iterator();
+        while (visible.hasNext()) {
+            int enemyId = visible.next();
+            Enemy enemy = enemies.get(enemyId);
+            if (enemy == null || !player.interest.containsWithSlack(enemy.x, enemy.y, INTEREST_LEAVE_SLACK)) {
+                visible.remove();
+                left.add(enemyId);
+            }
+        }
+        Message.S2C_GameStateDeltaSync.Builder delta = roomDelta.clone();
+        for (Message.EnemyStateDelta enemyDelta : enemyDeltas) {
+            if (player.visibleEnemies.contains(enemyDelta.getEnemyId())) {
+                delta.addEnemies(enemyDelta);
+            }
+        }
+        List<Message.EnemyState> entered = new ArrayList<>();
+        for (Enemy enemy : enemies.values()) {
+            if (!player.visibleEnemies.contains(enemy.enemyId) && player.interest.contains(enemy.x, enemy.y)) {
+                entered.add(enemy.toState());
+                player.visibleEnemies.add(enemy.enemyId);
+            }
+        }
+        boolean membershipChanged = !entered.isEmpty() || !left.isEmpty();
+        if (delta.getPlayersCount() == 0 && delta.getEnemiesCount() == 0 && !membershipChanged) {
+            return;
+        }
+        if (membershipChanged) {
+            delta.addAllEnteredEnemies(entered).addAllLeftEnemyIds(left);
+        }
+        player.session.send(Message.MessageType.MSG_S2C_GAME_STATE_DELTA_SYNC, delta.build());
+    }
+
+    /**
+     * 增量优先走 UDP；超过单个数据报或没有 UDP 端点时走 TCP
+     */
+    private void sendState(SimPlayer player, Message.Packet packet, byte[] bytes) {
+        if (player.endpoint != null && bytes.length <= MAX_DATAGRAM_BYTES) {
+            udpChannel.writeAndFlush(new DatagramPacket(Unpooled.wrappedBuffer(bytes), player.endpoint),
+                    udpChannel.voidPromise());
+        } else {
+            player.session.send(packet);
+        }
+    }
+
+    private void broadcastTcp(Message.MessageType type, MessageLite payload) {
+        Message.Packet packet = Message.Packet.newBuilder()
+                .setMsgType(type)
+                .setPayload(payload.toByteString())
+                .build();
+        for (SimPlayer player : players.values()) {
+            player.session.send(packet);
+        }
+    }
+
+    private Enemy nearestEnemy(float x, float y) {
+        Enemy nearest = null;
+        float best = Float.MAX_VALUE;
+        for (Enemy enemy : enemies.values()) {
+            float d = dist2(x, y, enemy.x, enemy.y);
+            if (d < best) {
+                best = d;
+                nearest = enemy;
+            }
+        }
+        return nearest;
+    }
+
+    private Message.Timestamp syncTime() {
+        return Message.Timestamp.newBuilder()
+                .setServerTime(System.currentTimeMillis())
+                .setTick((int) tick)
+                .build();
+    }
+
+    private float clampX(float x) {
+        return Math.max(0f, Math.min(options.mapWidth, x));
+    }
+
+    private float clampY(float y) {
+        return Math.max(0f, Math.min(options.mapHeight, y));
+    }
+
+    private static float dist2(float ax, float ay, float bx, float by) {
+        float dx = ax - bx;
+        float dy = ay - by;
+        return dx * dx + dy * dy;
+    }
+
+    private static Message.Vector2 vector(float x, float y) {
+        return Message.Vector2.newBuilder().setX(x).setY(y).build();
+    }
+
+    private static final class SimPlayer {
+        final int playerId;
+        final TcpSessionHandler session;
+        final ArrayDeque<Message.C2S_PlayerInput> pendingInputs = new ArrayDeque<>();
+        // 客户端当前持有的僵尸（只在上报过关注区域后维护）
+        final Set<Integer> visibleEnemies = new HashSet<>();
+        InetSocketAddress endpoint;
+        InterestArea interest;
+        boolean interestSnapshotPending;
+        float x;
+        float y;
+        float rotation;
+        boolean attacking;
+        float fireCooldown;
+        int lastReceivedSeq;
+        int lastProcessedSeq;
+        float syncedX;
+        float syncedY;
+        float syncedRotation;
+        int syncedSeq;
+
+        SimPlayer(TcpSessionHandler session) {
+            this.playerId = session.getPlayerId();
+            this.session = session;
+        }
+
+        void markSynced() {
+            syncedX = x;
+            syncedY = y;
+            syncedRotation = rotation;
+            syncedSeq = lastProcessedSeq;
+        }
+
+        Message.PlayerState toState() {
+            return Message.PlayerState.newBuilder()
+                    .setPlayerId(playerId)
+                    .setPosition(vector(x, y))
+                    .setRotation(rotation)
+                    .setHealth(PLAYER_MAX_HEALTH)
+                    .setMaxHealth(PLAYER_MAX_HEALTH)
+                    .setLevel(1)
+                    .setExpToNext(EXP_TO_NEXT)
+                    .setIsAlive(true)
+                    .setAttack(PLAYER_ATTACK)
+                    .setIsFriendly(true)
+                    .setRoleId(1)
+                    .setCriticalHitRate(PLAYER_CRIT_RATE)
+                    .setAttackSpeed(PLAYER_ATTACK_SPEED)
+                    .setMoveSpeed(PLAYER_MOVE_SPEED)
+                    .setLastProcessedInputSeq(lastProcessedSeq)
+                    .build();
+        }
+    }
+
+    private static final class Enemy {
+        final int enemyId;
+        final int typeId;
+        final int maxHealth;
+        final float speed;
+        int health;
+        int waveId;
+        float x;
+        float y;
+        float syncedX;
+        float syncedY;
+        boolean spawned;
+        boolean healthDirty;
+
+        Enemy(int enemyId, int typeId, int maxHealth, float speed) {
+            this.enemyId = enemyId;
+            this.typeId = typeId;
+            this.maxHealth = maxHealth;
+            this.health = maxHealth;
+            this.speed = speed;
+        }
+
+        void markSynced() {
+            syncedX = x;
+            syncedY = y;
+            spawned = false;
+            healthDirty = false;
+        }
+
+        Message.EnemyState toState() {
+            return Message.EnemyState.newBuilder()
+                    .setEnemyId(enemyId)
+                    .setTypeId(typeId)
+                    .setPosition(vector(x, y))
+                    .setHealth(health)
+                    .setMaxHealth(maxHealth)
+                    .setIsAlive(true)
+                    .setWaveId(waveId)
+                    .build();
+        }
+    }
+
+    private static final class Projectile {
+        final int projectileId;
+        final int ownerPlayerId;
+        final int targetEnemyId;
+        final float vx;
+        final float vy;
+        float x;
+        float y;
+        float ttl = PROJECTILE_TTL_SECONDS;
+
+        Projectile(int projectileId, int ownerPlayerId, float x, float y, float angleDegrees, int targetEnemyId) {
+            this.projectileId = projectileId;
+            this.ownerPlayerId = ownerPlayerId;
+            this.targetEnemyId = targetEnemyId;
+            this.x = x;
+            this.y = y;
+            double radians = Math.toRadians(angleDegrees);
+            this.vx = (float) Math.cos(radians) * PROJECTILE_SPEED;
+            this.vy = (float) Math.sin(radians) * PROJECTILE_SPEED;
+        }
+    }
+}
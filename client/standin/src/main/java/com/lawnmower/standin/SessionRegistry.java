@@ -0,0 +1,50 @@
+package com.lawnmower.standin;
+
+import java.security.SecureRandom;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 已登录会话：分配 player_id、签发 session_token，并供 UDP 入口按 player_id 找回会话做令牌校验
+ */
+final class SessionRegistry {
+
+    private final AtomicInteger nextPlayerId = new AtomicInteger(1);
+    private final Map<Integer, TcpSessionHandler> sessions = new ConcurrentHashMap<>();
+    private final SecureRandom random = new SecureRandom();
+
+    int allocatePlayerId() {
+        return nextPlayerId.getAndIncrement();
+    }
+
+    String generateToken() {
+        byte[] bytes = new byte[16];
+        random.nextBytes(bytes);
+        return HexFormat.of().formatHex(bytes);
+    }
+
+    void register(int playerId, TcpSessionHandler session) {
+        sessions.put(playerId, session);
+    }
+
+    void unregister(int playerId, TcpSessionHandler session) {
+        sessions.remove(playerId, session);
+    }
+
+    /**
+     * @return 令牌匹配的会话，否则 null
+     */
+    TcpSessionHandler verify(int playerId, String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        TcpSessionHandler session = sessions.get(playerId);
+        return session != null && token.equals(session.getSessionToken()) ? session : null;
+    }
+
+    int onlineCount() {
+        return sessions.size();
+    }
+}
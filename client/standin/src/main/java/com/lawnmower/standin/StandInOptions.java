@@ -0,0 +1,108 @@
+package com.lawnmower.standin;
+
+import com.lawnmower.Config;
+
+/**
+ * 替身服务器参数，全部可通过命令行覆盖：
+ * <pre>
+ *   --port 7777                  TCP 端口（默认 Config.SERVER_PORT）
+ *   --udp-port 7778              UDP 端口（默认 Config.SERVER_UDP_PORT）
+ *   --max-players 4              单房间人数上限
+ *   --tick-rate 60               逻辑帧率
+ *   --sync-rate 30               状态同步频率（次/秒）
+ *   --full-sync-seconds 0        每隔多少秒额外发一次全量快照（0 表示只在开局发）
+ *   --max-enemies 300            同时存活僵尸上限（正式服 max_enemies_alive 只有个位数，这里按压测需要放开）
+ *   --spawn-per-second 40        每秒刷怪数
+ *   --fire-rate 2                攻击中的玩家每秒发射的豌豆数
+ *   --map 1280x720               地图尺寸
+ *   --sim-threads 2              运行房间逻辑的线程数
+ *   --seed 42                    随机种子，固定后刷怪位置/类型可复现
+ * </pre>
+ */
+final class StandInOptions {
+
+    int tcpPort = Config.SERVER_PORT;
+    int udpPort = Config.SERVER_UDP_PORT;
+    int maxPlayersPerRoom = 4;
+    int tickRate = 60;
+    int syncRate = 30;
+    int fullSyncSeconds = 0;
+    int maxEnemies = 300;
+    float spawnPerSecond = 40f;
+    float fireRate = 2f;
+    int mapWidth = 1280;
+    int mapHeight = 720;
+    int simThreads = 2;
+    long seed = 42L;
+
+    static StandInOptions parse(String[] args) {
+        StandInOptions options = new StandInOptions();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+                case "--port":
+                    options.tcpPort = Integer.parseInt(requireValue(args, ++i, arg));
+                    break;
+                case "--udp-port":
+                    options.udpPort = Integer.parseInt(requireValue(args, ++i, arg));
+                    break;
+                case "--max-players":
+                    options.maxPlayersPerRoom = Integer.parseInt(requireValue(args, ++i, arg));
+                    break;
+                case "--tick-rate":
+                    options.tickRate = Integer.parseInt(requireValue(args, ++i, arg));
+                    break;
+                case "--sync-rate":
+                    options.syncRate = Integer.parseInt(requireValue(args, ++i, arg));
+                    break;
+                case "--full-sync-seconds":
+                    options.fullSyncSeconds = Integer.parseInt(requireValue(args, ++i, arg));
+                    break;
+                case "--max-enemies":
+                    options.maxEnemies = Integer.parseInt(requireValue(args, ++i, arg));
+                    break;
+                case "--spawn-per-second":
+                    options.spawnPerSecond = Float.parseFloat(requireValue(args, ++i, arg));
+                    break;
+                case "--fire-rate":
+                    options.fireRate = Float.parseFloat(requireValue(args, ++i, arg));
+                    break;
+                case "--map": {
+                    String value = requireValue(args, ++i, arg);
+                    int sep = value.indexOf('x');
+                    if (sep <= 0) {
+                        throw new IllegalArgumentException("--map expects <width>x<height>, got " + value);
+                    }
+                    options.mapWidth = Integer.parseInt(value.substring(0, sep));
+                    options.mapHeight = Integer.parseInt(value.substring(sep + 1));
+                    break;
+                }
+                case "--sim-threads":
+                    options.simThreads = Integer.parseInt(requireValue(args, ++i, arg));
+                    break;
+                case "--seed":
+                    options.seed = Long.parseLong(requireValue(args, ++i, arg));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+        if (options.tickRate <= 0 || options.syncRate <= 0 || options.syncRate > options.tickRate) {
+            throw new IllegalArgumentException("--tick-rate must be positive and --sync-rate within (0, tick-rate]");
+        }
+        if (options.maxPlayersPerRoom <= 0 || options.simThreads <= 0 || options.maxEnemies < 0) {
+            throw new IllegalArgumentException("--max-players and --sim-threads must be positive, --max-enemies non-negative");
+        }
+        if (options.mapWidth <= 0 || options.mapHeight <= 0) {
+            throw new IllegalArgumentException("--map dimensions must be positive");
+        }
+        return options;
+    }
+
+    private static String requireValue(String[] args, int index, String option) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + option);
+        }
+        return args[index];
+    }
+}
@@ -0,0 +1,117 @@
+package com.lawnmower.standin;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+import io.netty.handler.codec.LengthFieldPrepender;
+import io.netty.handler.codec.protobuf.ProtobufDecoder;
+import io.netty.handler.codec.protobuf.ProtobufEncoder;
+import lawnmower.Message;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 本地替身服务器：用 Netty 实现 message.proto 的大厅与同步协议，行为对齐 C++ 服务器，
+ * 让客户端开发和性能测试不依赖真实服务器。
+ * <ul>
+ *     <li>TCP：4 字节大端长度 + Packet，处理登录、心跳、房间、开局与兜底输入，下发事件与全量快照</li>
+ *     <li>UDP：接收带 session_token 的 C2S_PlayerInput 并登记端点，下发增量同步</li>
+ * </ul>
+ * 房间逻辑（刷怪、移动、射弹、同步）在独立的 sim 线程组上运行，僵尸数量和刷怪速率可以远超正式配置。
+ * <p>
+ * 用法：./gradlew :standin:run --args="--max-enemies 2000 --spawn-per-second 200"
+ */
+public final class StandInServer {
+
+    private static final Logger log = LoggerFactory.getLogger(StandInServer.class);
+    /** 与 C++ 服务器 kMaxPacketSize 一致 */
+    private static final int MAX_FRAME_BYTES = 1024 * 1024;
+    private static final int UDP_SOCKET_BUFFER_BYTES = 256 * 1024;
+
+    private final StandInOptions options;
+    private final EventLoopGroup bossGroup = new NioEventLoopGroup(1);
+    private final EventLoopGroup ioGroup = new NioEventLoopGroup();
+    private final EventLoopGroup simGroup;
+    private final SessionRegistry sessions = new SessionRegistry();
+    private Lobby lobby;
+    private Channel tcpChannel;
+    private Channel udpChannel;
+
+    StandInServer(StandInOptions options) {
+        this.options = options;
+        this.simGroup = new DefaultEventLoopGroup(options.simThreads);
+    }
+
+    public static void main(String[] args) throws Exception {
+        StandInOptions options;
+        try {
+            options = StandInOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+            return;
+        }
+        StandInServer server = new StandInServer(options);
+        Runtime.getRuntime().addShutdownHook(new Thread(server::stop, "standin-shutdown"));
+        server.start();
+        server.tcpChannel.closeFuture().sync();
+    }
+
+    void start() throws InterruptedException {
+        lobby = new Lobby(options, simGroup);
+        udpChannel = new Bootstrap()
+                .group(ioGroup)
+                .channel(NioDatagramChannel.class)
+                .option(ChannelOption.SO_RCVBUF, UDP_SOCKET_BUFFER_BYTES)
+                .option(ChannelOption.SO_SNDBUF, UDP_SOCKET_BUFFER_BYTES)
+                .handler(new UdpInputHandler(sessions, lobby))
+                .bind(options.udpPort)
+                .sync()
+                .channel();
+        lobby.setUdpChannel(udpChannel);
+
+        tcpChannel = new ServerBootstrap()
+                .group(bossGroup, ioGroup)
+                .channel(NioServerSocketChannel.class)
+                .childOption(ChannelOption.TCP_NODELAY, true)
+                .childHandler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel ch) {
+                        ChannelPipeline pipeline = ch.pipeline();
+                        pipeline.addLast(new LengthFieldBasedFrameDecoder(MAX_FRAME_BYTES, 0, 4, 0, 4));
+                        pipeline.addLast(new ProtobufDecoder(Message.Packet.getDefaultInstance()));
+                        pipeline.addLast(new LengthFieldPrepender(4));
+                        pipeline.addLast(new ProtobufEncoder());
+                        pipeline.addLast(new TcpSessionHandler(lobby, sessions));
+                    }
+                })
+                .bind(options.tcpPort)
+                .sync()
+                .channel();
+        log.info("Stand-in server listening on tcp {} / udp {} (tick={}Hz sync={}Hz maxEnemies={} spawn={}/s)",
+                options.tcpPort, options.udpPort, options.tickRate, options.syncRate,
+                options.maxEnemies, options.spawnPerSecond);
+    }
+
+    void stop() {
+        if (tcpChannel != null) {
+            tcpChannel.close();
+        }
+        if (udpChannel != null) {
+            udpChannel.close();
+        }
+        bossGroup.shutdownGracefully();
+        ioGroup.shutdownGracefully();
+        simGroup.shutdownGracefully();
+    }
+}
@@ -0,0 +1,219 @@
+package com.lawnmower.standin;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.MessageLite;
+import com.lawnmower.network.InterestArea;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import lawnmower.Message;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 每个 TCP 连接一个实例，对应 C++ 的 TcpSession：按 msg_type 分发到大厅或房间模拟
+ */
+final class TcpSessionHandler extends SimpleChannelInboundHandler<Message.Packet> {
+
+    private static final Logger log = LoggerFactory.getLogger(TcpSessionHandler.class);
+
+    private final Lobby lobby;
+    private final SessionRegistry sessions;
+    private Channel channel;
+    private volatile int playerId;
+    private volatile String playerName = "";
+    private volatile String sessionToken = "";
+
+    TcpSessionHandler(Lobby lobby, SessionRegistry sessions) {
+        this.lobby = lobby;
+        this.sessions = sessions;
+    }
+
+    int getPlayerId() {
+        return playerId;
+    }
+
+    String getPlayerName() {
+        return playerName;
+    }
+
+    String getSessionToken() {
+        return sessionToken;
+    }
+
+    /**
+     * 可在任意线程调用，Netty 负责切回 IO 线程写出
+     */
+    void send(Message.MessageType type, MessageLite payload) {
+        send(Message.Packet.newBuilder()
+                .setMsgType(type)
+                .setPayload(payload.toByteString())
+                .build());
+    }
+
+    void send(Message.Packet packet) {
+        Channel ch = channel;
+        if (ch != null && ch.isActive()) {
+            ch.writeAndFlush(packet, ch.voidPromise());
+        }
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) throws Exception {
+        channel = ctx.channel();
+        super.channelActive(ctx);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        int id = playerId;
+        if (id != 0) {
+            sessions.unregister(id, this);
+            lobby.onDisconnect(id);
+            log.info("[session] close player_id={}", id);
+        }
+        super.channelInactive(ctx);
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+        log.warn("TCP session error (player_id={}): {}", playerId, cause.getMessage());
+        ctx.close();
+    }
+
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, Message.Packet packet) {
+        try {
+            handlePacket(ctx, packet);
+        } catch (InvalidProtocolBufferException e) {
+            log.warn("Failed to parse {} payload from player {}: {}", packet.getMsgType(), playerId, e.getMessage());
+        }
+    }
+
+    private void handlePacket(ChannelHandlerContext ctx, Message.Packet packet) throws InvalidProtocolBufferException {
+        switch (packet.getMsgType()) {
+            case MSG_C2S_INTEREST_AREA:
+                handleInterestArea(InterestArea.from(Message.C2S_InterestArea.parseFrom(packet.getPayload())));
+                break;
+            case MSG_C2S_LOGIN:
+                handleLogin(Message.C2S_Login.parseFrom(packet.getPayload()));
+                break;
+            case MSG_C2S_HEARTBEAT:
+                send(Message.MessageType.MSG_S2C_HEARTBEAT, Message.S2C_Heartbeat.newBuilder()
+                        .setTimestamp(System.currentTimeMillis())
+                        .setOnlinePlayers(sessions.onlineCount())
+                        .build());
+                break;
+            case MSG_C2S_RECONNECT_REQUEST:
+                // 替身服务器不保留断线玩家，客户端收到失败后回到主菜单重新登录
+                send(Message.MessageType.MSG_S2C_RECONNECT_ACK, Message.S2C_ReconnectAck.newBuilder()
+                        .setSuccess(false)
+                        .setMessage("reconnect not supported by stand-in server")
+                        .build());
+                break;
+            case MSG_C2S_CREATE_ROOM: {
+                Message.C2S_CreateRoom request = Message.C2S_CreateRoom.parseFrom(packet.getPayload());
+                Message.S2C_CreateRoomResult result = playerId == 0
+                        ? Message.S2C_CreateRoomResult.newBuilder().setSuccess(false).setMessageCreate("请先登录").build()
+                        : lobby.createRoom(this, request);
+                send(Message.MessageType.MSG_S2C_CREATE_ROOM_RESULT, result);
+                break;
+            }
+            case MSG_C2S_GET_ROOM_LIST:
+                send(Message.MessageType.MSG_S2C_ROOM_LIST,
+                        playerId == 0 ? Message.S2C_RoomList.getDefaultInstance() : lobby.roomList());
+                break;
+            case MSG_C2S_JOIN_ROOM: {
+                Message.C2S_JoinRoom request = Message.C2S_JoinRoom.parseFrom(packet.getPayload());
+                Message.S2C_JoinRoomResult result = playerId == 0
+                        ? Message.S2C_JoinRoomResult.newBuilder().setSuccess(false).setMessageJoin("请先登录").build()
+                        : lobby.joinRoom(this, request.getRoomId());
+                send(Message.MessageType.MSG_S2C_JOIN_ROOM_RESULT, result);
+                break;
+            }
+            case MSG_C2S_LEAVE_ROOM: {
+                Message.S2C_LeaveRoomResult result = playerId == 0
+                        ? Message.S2C_LeaveRoomResult.newBuilder().setSuccess(false).setMessageLeave("请先登录").build()
+                        : lobby.leaveRoom(playerId);
+                send(Message.MessageType.MSG_S2C_LEAVE_ROOM_RESULT, result);
+                break;
+            }
+            case MSG_C2S_SET_READY: {
+                Message.C2S_SetReady request = Message.C2S_SetReady.parseFrom(packet.getPayload());
+                Message.S2C_SetReadyResult result = playerId == 0
+                        ? Message.S2C_SetReadyResult.newBuilder().setSuccess(false).setMessageReady("请先登录").build()
+                        : lobby.setReady(playerId, request.getIsReady());
+                send(Message.MessageType.MSG_S2C_SET_READY_RESULT, result);
+                break;
+            }
+            case MSG_C2S_START_GAME:
+                if (playerId != 0) {
+                    lobby.startGame(this);
+                }
+                break;
+            case MSG_C2S_PLAYER_INPUT:
+                handlePlayerInput(Message.C2S_PlayerInput.parseFrom(packet.getPayload()));
+                break;
+            case MSG_C2S_REQUEST_QUIT:
+                ctx.close();
+                break;
+            case MSG_C2S_UPGRADE_REQUEST_ACK:
+            case MSG_C2S_UPGRADE_OPTIONS_ACK:
+            case MSG_C2S_UPGRADE_SELECT:
+            case MSG_C2S_UPGRADE_REFRESH_REQUEST:
+                // 替身服务器不发起升级流程，回执直接忽略
+                break;
+            default:
+                log.debug("Unhandled message type {} from player {}", packet.getMsgType(), playerId);
+                break;
+        }
+    }
+
+    private void handleLogin(Message.C2S_Login login) {
+        if (playerId != 0) {
+            send(Message.MessageType.MSG_S2C_LOGIN_RESULT, Message.S2C_LoginResult.newBuilder()
+                    .setSuccess(false)
+                    .setPlayerId(playerId)
+                    .setMessageLogin("重复登录")
+                    .build());
+            return;
+        }
+        int id = sessions.allocatePlayerId();
+        playerName = login.getPlayerName().isEmpty() ? "玩家" + id : login.getPlayerName();
+        sessionToken = sessions.generateToken();
+        playerId = id;
+        sessions.register(id, this);
+        send(Message.MessageType.MSG_S2C_LOGIN_RESULT, Message.S2C_LoginResult.newBuilder()
+                .setSuccess(true)
+                .setPlayerId(id)
+                .setMessageLogin("login success")
+                .setSessionToken(sessionToken)
+                .build());
+        log.info("玩家登录: {} (id={})", playerName, id);
+    }
+
+    private void handleInterestArea(InterestArea area) {
+        if (playerId == 0) {
+            return;
+        }
+        RoomSimulation simulation = lobby.simulationOf(playerId);
+        if (simulation != null) {
+            simulation.setInterestArea(playerId, area);
+            log.debug("Player {} interest area {}", playerId, area);
+        }
+    }
+
+    private void handlePlayerInput(Message.C2S_PlayerInput input) {
+        if (playerId == 0) {
+            return;
+        }
+        if (!input.getSessionToken().isEmpty() && !input.getSessionToken().equals(sessionToken)) {
+            log.debug("Player {} TCP input token mismatch", playerId);
+            return;
+        }
+        RoomSimulation simulation = lobby.simulationOf(playerId);
+        if (simulation != null) {
+            simulation.submitInput(playerId, input, null);
+        }
+    }
+}
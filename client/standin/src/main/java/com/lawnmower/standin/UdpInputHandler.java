@@ -0,0 +1,62 @@
+package com.lawnmower.standin;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.socket.DatagramPacket;
+import lawnmower.Message;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * UDP 入口，对应 C++ 的 UdpServer::HandlePlayerInput：校验 session_token 后把输入交给房间模拟，
+ * 同时登记发送端地址，之后该玩家的增量同步走这个端点
+ */
+final class UdpInputHandler extends SimpleChannelInboundHandler<DatagramPacket> {
+
+    private static final Logger log = LoggerFactory.getLogger(UdpInputHandler.class);
+
+    private final SessionRegistry sessions;
+    private final Lobby lobby;
+
+    UdpInputHandler(SessionRegistry sessions, Lobby lobby) {
+        this.sessions = sessions;
+        this.lobby = lobby;
+    }
+
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, DatagramPacket datagram) {
+        ByteBuf content = datagram.content();
+        Message.C2S_PlayerInput input;
+        try {
+            Message.Packet packet = Message.Packet.parseFrom(ByteBufUtil.getBytes(content));
+            if (packet.getMsgType() != Message.MessageType.MSG_C2S_PLAYER_INPUT) {
+                log.debug("UDP unhandled message type {}", packet.getMsgType());
+                return;
+            }
+            input = Message.C2S_PlayerInput.parseFrom(packet.getPayload());
+        } catch (InvalidProtocolBufferException e) {
+            log.debug("UDP parse failed ({} bytes): {}", content.readableBytes(), e.getMessage());
+            return;
+        }
+        int playerId = input.getPlayerId();
+        if (playerId == 0 || sessions.verify(playerId, input.getSessionToken()) == null) {
+            log.debug("UDP input token check failed player_id={}", playerId);
+            return;
+        }
+        RoomSimulation simulation = lobby.simulationOf(playerId);
+        if (simulation == null) {
+            log.debug("UDP input: player {} not in a running room", playerId);
+            return;
+        }
+        simulation.submitInput(playerId, input, datagram.sender());
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+        // UDP 通道上的单个错误（如 ICMP 不可达）不应关闭整个监听
+        log.debug("UDP error: {}", cause.getMessage());
+    }
+}
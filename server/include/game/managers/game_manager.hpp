@@ -62,6 +62,13 @@ class GameManager {
   [[nodiscard]] bool HandlePlayerInput(uint32_t player_id,
                                        const lawnmower::C2S_PlayerInput& input,
                                        uint32_t* room_id);
+  // 客户端发现漏收同步：按其确认的 since_tick 补发追帧同步（优先 UDP 可靠通道），
+  // 超出续传窗口时补发全量
+  void HandleBaselineResync(uint32_t player_id, uint32_t since_tick);
+  // 客户端上报关注区域（相机视野外扩边距）：此后只向其下发区域内的敌人与道具，
+  // 首次上报后的下一次同步先补发按区域过滤的全量
+  void HandleInterestArea(uint32_t player_id,
+                          const lawnmower::C2S_InterestArea& area);
   [[nodiscard]] bool HandleUpgradeRequestAck(
       uint32_t player_id, const lawnmower::C2S_UpgradeRequestAck& request);
   [[nodiscard]] bool HandleUpgradeOptionsAck(
@@ -84,8 +91,13 @@ class GameManager {
     uint64_t server_tick = 0;  // 服务器当前tick
     bool is_paused = false;    // 是否暂停
     std::string player_name;   // 玩家名
+    bool resumed = false;      // 是否走增量续传（否则需补发全量快照）
+    lawnmower::S2C_GameStateSync catch_up;    // 增量续传的变化实体
+    std::vector<uint32_t> removed_enemy_ids;  // 续传窗口内已移除的敌人
+    std::vector<uint32_t> removed_item_ids;   // 续传窗口内已移除的道具
   };
-  // 重连后恢复玩家状态（重置输入基线等）
+  // 重连后恢复玩家状态（重置输入基线等）；last_server_tick 在续传窗口内时
+  // 同时构造增量续传数据，out->resumed 为 false 时调用方需补发全量快照
   [[nodiscard]] bool TryReconnectPlayer(uint32_t player_id, uint32_t room_id,
                                         uint32_t last_input_seq,
                                         uint32_t last_server_tick,
@@ -102,6 +114,19 @@ class GameManager {
     float move_speed = 200.0f;
   };
 
+  // 区域订阅：客户端上报的关注区域与其当前持有的实体
+  struct InterestState {
+    bool enabled = false;     // 是否按区域下发（上报过 C2S_InterestArea）
+    bool needs_full = false;  // 下次同步补发按区域过滤的全量
+    float min_x = 0.0f;
+    float min_y = 0.0f;
+    float max_x = 0.0f;
+    float max_y = 0.0f;
+    std::unordered_set<uint32_t> enemy_ids;  // 客户端持有的敌人
+    std::unordered_set<uint32_t> item_ids;   // 客户端持有的道具
+    uint64_t last_sync_tick = 0;  // 发给该玩家的上一次同步的tick（增量基线）
+  };
+
   // 玩家运行时状态
   struct PlayerRuntime {
     lawnmower::PlayerState state;  // 玩家状态
@@ -132,6 +157,7 @@ class GameManager {
     std::chrono::steady_clock::time_point disconnected_at;  // 断线时间
     bool low_freq_dirty = false;  // 低频/全量同步字段变化标记
     bool dirty = false;           // 高频同步字段变化标记
+    InterestState interest;       // 区域订阅
     struct HistoryEntry {
       uint64_t tick = 0;                      // 逻辑帧编号
       lawnmower::Vector2 position;            // 位置
@@ -165,6 +191,7 @@ class GameManager {
     uint32_t force_sync_left =
         0;  // 强制同步计数(即使没dirty也要同步几次，确保新生成/死亡被客户端看到)
     bool dirty = false;  // 是否有状态变动
+    uint64_t last_changed_tick = 0;  // 最近一次变动的逻辑帧（重连续传用）
   };
 
   struct ProjectileRuntime {
@@ -197,6 +224,22 @@ class GameManager {
     uint32_t last_sync_type_id = 0;    // delta 同步基线类型
     uint32_t force_sync_left = 0;     // 强制同步次数（用于新生成道具首包）
     bool dirty = false;               // 是否需要同步
+    uint64_t last_changed_tick = 0;   // 最近一次变动的逻辑帧（重连续传用）
+  };
+
+  // 按关注区域为单个玩家构造的同步
+  struct InterestPayload {
+    uint32_t player_id = 0;
+    lawnmower::S2C_GameStateSync sync;
+    lawnmower::S2C_GameStateDeltaSync delta;
+    bool sends_sync = false;
+    bool sends_delta = false;
+  };
+
+  // 已移除实体记录（重连续传时告知客户端删除）
+  struct RemovedEntity {
+    uint64_t tick = 0;  // 移除时的逻辑帧
+    uint32_t id = 0;    // 实体ID
   };
 
   // 单帧性能采样
@@ -250,6 +293,9 @@ class GameManager {
     uint32_t next_enemy_id = 1;                       // 下一个生成敌人的自增id
     uint32_t next_projectile_id = 1;  // 下一个生成的射弹的自增id
     uint32_t next_item_id = 1;        // 下一个生成的道具自增id
+    std::deque<RemovedEntity> removed_enemies;  // 续传窗口内移除的敌人
+    std::deque<RemovedEntity> removed_items;    // 续传窗口内移除的道具
+    uint32_t position_scale = 0;  // 增量定点坐标精度（刻度/像素），0 为浮点
     uint32_t wave_id = 0;             // 当前波次编号
     double elapsed = 0.0;             // 场景累计运行时间
     double spawn_elapsed = 0.0;       // 距上次刷怪的累计时间
@@ -268,6 +314,7 @@ class GameManager {
     double sync_accumulator = 0.0;   // 同步计时器累积,到达间隔则发送同步
     double sync_idle_elapsed = 0.0;  // 低活跃累计时间
     double full_sync_elapsed = 0.0;  // 距离上次全量同步的累计时间
+    uint64_t last_sync_tick = 0;  // 上次房间同步的tick，作为下一次同步的基线
     std::chrono::steady_clock::time_point last_tick_time;  // 上一次tick的时间点
     std::chrono::steady_clock::time_point next_tick_time;  // 下一帧调度时间点
     std::chrono::duration<double> tick_interval;           // 逻辑帧固定间隔
@@ -290,6 +337,8 @@ class GameManager {
       10.0f;  // 避免精确落在边界导致 clamp 抖动
   static constexpr uint32_t kEnemySpawnForceSyncCount =
       6;  // 新刷怪多发几次，降低 UDP 丢包影响
+  static constexpr float kInterestLeaveSlack =
+      64.0f;  // 实体走出关注区域这么远才算离开，避免在边界上反复进出
   static uint32_t NextRng(uint32_t* state);
   static float NextRngUnitFloat(uint32_t* state);
 
@@ -322,6 +371,34 @@ class GameManager {
                        bool low_freq);
   void MarkEnemyDirty(Scene& scene, uint32_t enemy_id, EnemyRuntime& runtime);
   void MarkItemDirty(Scene& scene, uint32_t item_id, ItemRuntime& runtime);
+  // 记录实体移除并裁剪超出续传窗口的旧记录
+  static void RecordRemovedEntity(const Scene& scene,
+                                  std::deque<RemovedEntity>* removed,
+                                  uint32_t entity_id);
+  // 构造自 since_tick 以来的增量续传数据；超出续传窗口时返回 false
+  [[nodiscard]] bool BuildResumeStateLocked(uint32_t room_id,
+                                            const Scene& scene,
+                                            uint64_t since_tick,
+                                            ReconnectSnapshot* out);
+  // 构造发给单个客户端的追帧同步（catch_up，基线为其确认的 since_tick）
+  [[nodiscard]] bool BuildBaselineCatchUpLocked(
+      uint32_t room_id, const Scene& scene, uint64_t since_tick,
+      lawnmower::S2C_GameStateSync* out);
+  // 按玩家关注区域构造全量快照（玩家始终全部包含），并重置其持有的实体集合
+  void BuildInterestFullSyncLocked(uint32_t room_id, const Scene& scene,
+                                   PlayerRuntime& runtime,
+                                   lawnmower::S2C_GameStateSync* out);
+  // 由本次房间同步为订阅了区域的玩家构造各自的同步：只保留其持有实体的变化，
+  // 附带进入区域（完整状态）与离开区域 / 已移除的实体
+  void BuildInterestPayloadsLocked(
+      uint32_t room_id, Scene& scene, bool force_full_sync,
+      const lawnmower::S2C_GameStateSync& sync, bool sends_sync,
+      const lawnmower::S2C_GameStateDeltaSync& delta, bool sends_delta,
+      std::vector<InterestPayload>* out);
+  static bool InsideInterest(const InterestState& interest, float x, float y,
+                             float slack);
+  static void FillItemState(const ItemRuntime& item,
+                            lawnmower::ItemState* out);
   std::size_t GetPredictionHistoryLimit(const Scene& scene) const;
   void RecordPlayerHistoryLocked(Scene& scene);
   static void FillPlayerHighFreq(const PlayerRuntime& runtime,
@@ -367,6 +444,10 @@ class GameManager {
   [[nodiscard]] bool ShouldRescheduleTick(
       uint32_t room_id, const std::shared_ptr<asio::steady_timer>& timer) const;
   void StopGameLoop(uint32_t room_id);
+  // 升级流程的下行消息（选项 / 选择确认 / 后续请求）：与首个升级请求同一通道，
+  // 启用 UDP 可靠层的客户端走可靠有序通道，其余走 TCP
+  void SendUpgradeToRoom(uint32_t room_id, lawnmower::MessageType type,
+                         const google::protobuf::Message& message);
   lawnmower::Vector2 ClampToMap(const SceneConfig& cfg, float x, float y) const;
 
   mutable std::mutex mutex_;
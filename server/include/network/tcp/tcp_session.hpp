@@ -31,6 +31,10 @@ class TcpSession : public std::enable_shared_from_this<TcpSession> {
   static bool VerifyToken(uint32_t player_id, std::string_view token);
   static void RevokeToken(uint32_t player_id);
   static void SetPacketDebugLogStride(uint32_t stride);
+  // 登录 / 重连时客户端声明的能力位（lawnmower::ClientCapability 按位或）
+  uint32_t client_capabilities() const { return client_capabilities_; }
+  // 登录 / 重连时确定；会话经 RoomManager 加入房间之后才会被其它线程取到
+  uint32_t player_id() const { return player_id_; }
 
  private:
   static std::string GenerateToken();
@@ -64,6 +68,7 @@ class TcpSession : public std::enable_shared_from_this<TcpSession> {
   void HandleUpgradeOptionsAck(const std::string& payload);
   void HandleUpgradeSelect(const std::string& payload);
   void HandleUpgradeRefreshRequest(const std::string& payload);
+  void HandleInterestArea(const std::string& payload);
   bool SendFullSyncToRoom(
       uint32_t room_id, const std::vector<std::weak_ptr<TcpSession>>& sessions,
       uint32_t state_sync_rate);
@@ -77,6 +82,7 @@ class TcpSession : public std::enable_shared_from_this<TcpSession> {
   uint32_t player_id_ = 0;
   std::string player_name_;
   std::string session_token_;
+  std::atomic<uint32_t> client_capabilities_{0};
   static std::atomic<uint32_t> next_player_id_;
   static std::atomic<uint32_t> active_sessions_;  // 原子变量用于存储活跃会话
   static std::unordered_map<uint32_t, std::string>
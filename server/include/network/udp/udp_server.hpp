@@ -2,19 +2,28 @@
 
 #include <array>
 #include <asio.hpp>
+#include <atomic>
 #include <chrono>
 #include <cstdint>
+#include <deque>
+#include <google/protobuf/message.h>
+#include <map>
 #include <memory>
 #include <mutex>
 #include <string>
 #include <unordered_map>
+#include <unordered_set>
 #include <vector>
 
 #include "message.pb.h"
 
 using udp = asio::ip::udp;
 
-// 轻量 UDP 通道：收集客户端输入、广播状态同步
+// 轻量 UDP 通道：收集客户端输入、广播状态同步。
+// 客户端的数据报带可靠层头部（Packet.seq 非 0）时，状态同步按 unreliable-sequenced 下发，
+// 并可通过 SendReliable 走可靠有序通道：按客户端回的 ack / ack_bits 选择性重传未确认的消息。
+// 对这类客户端，超过 MTU 的数据报做应用层分片，过大的全量快照按接收方优先级拆成多个部分。
+// 客户端在每个上行数据报里确认已连续应用到的同步 tick（applied_tick），发现漏收时请求按该 tick 追帧
 class UdpServer {
  public:
   UdpServer(asio::io_context& io, uint16_t port);
@@ -22,33 +31,120 @@ class UdpServer {
   // 开始异步接收（需与 io_context.run() 同步驱动）
   void Start();
 
-  // 广播游戏状态到指定房间的已登记终端
-  std::size_t BroadcastState(uint32_t room_id,
-                             const lawnmower::S2C_GameStateSync& sync);
+  // 广播游戏状态到指定房间的已登记终端；excluded 中的玩家跳过（按关注区域单独下发）
+  std::size_t BroadcastState(
+      uint32_t room_id, const lawnmower::S2C_GameStateSync& sync,
+      const std::unordered_set<uint32_t>& excluded = {});
   // 广播游戏状态增量到指定房间的已登记终端
   std::size_t BroadcastDeltaState(
-      uint32_t room_id, const lawnmower::S2C_GameStateDeltaSync& sync);
+      uint32_t room_id, const lawnmower::S2C_GameStateDeltaSync& sync,
+      const std::unordered_set<uint32_t>& excluded = {});
+  // 通过 unreliable-sequenced 通道发给指定玩家（与房间广播共用序号）。
+  // 玩家没有已登记端点、或未启用可靠层且超过单个数据报时返回 false，调用方应改走 TCP
+  bool SendSequenced(uint32_t player_id, lawnmower::MessageType type,
+                     const google::protobuf::Message& message);
+  // 通过可靠有序通道发送给指定玩家（按需重传，直到客户端确认）。
+  // 玩家没有启用可靠层的已登记端点、或未确认积压过多时返回 false，调用方应改走 TCP
+  bool SendReliable(uint32_t player_id, lawnmower::MessageType type,
+                    const google::protobuf::Message& message);
+  // 玩家最近确认的同步 tick；没有启用可靠层的已登记端点或尚未确认时返回 0
+  [[nodiscard]] uint32_t AppliedTick(uint32_t player_id) const;
 
  private:
+  using Clock = std::chrono::steady_clock;
+
+  // 已发出、等待确认的可靠消息；body 为不含可靠层头部的 Packet
+  struct PendingReliable {
+    uint32_t channel_seq = 0;
+    std::shared_ptr<const std::string> body;
+    Clock::time_point first_sent;
+    Clock::time_point last_sent;
+    uint32_t transmissions = 0;
+  };
+
+  // 按 seq 取模记录最近发出的数据报，收到 ack 时找回对应的可靠消息
+  struct SentDatagram {
+    uint32_t seq = 0;
+    uint32_t channel_seq = 0;
+    bool reliable = false;
+    bool retransmit = false;
+    Clock::time_point sent_at;
+  };
+
+  static constexpr std::size_t kSentHistory = 1024;
+
+  struct ReliableState {
+    uint32_t epoch = 0;
+    uint32_t next_seq = 1;
+    uint32_t next_ordered_seq = 1;
+    uint32_t next_sequenced_seq = 1;
+    std::deque<PendingReliable> pending;  // channel_seq 递增
+    std::vector<SentDatagram> sent = std::vector<SentDatagram>(kSentHistory);
+    bool has_rtt = false;
+    double srtt_ms = 0.0;
+    double rttvar_ms = 0.0;
+  };
+
   struct EndpointInfo {
     udp::endpoint endpoint;
     uint32_t room_id = 0;
-    std::chrono::steady_clock::time_point last_seen;
+    Clock::time_point last_seen;
+    bool reliable = false;  // 客户端数据报带可靠层头部
+    ReliableState rel;
+    uint32_t applied_tick = 0;      // 客户端确认的同步 tick
+    Clock::time_point last_resync;  // 上次受理追帧请求的时间
+  };
+
+  // 一次广播的单个目标；header 为空表示客户端未启用可靠层，只发 body
+  struct SendTarget {
+    udp::endpoint endpoint;
+    uint32_t player_id = 0;
+    std::shared_ptr<const std::string> header;
   };
 
   void DoReceive();
   void HandlePacket(const lawnmower::Packet& packet, const udp::endpoint& from);
   void HandlePlayerInput(const lawnmower::Packet& packet,
                          const udp::endpoint& from);
+  void HandleAck(const lawnmower::Packet& packet, const udp::endpoint& from);
+  void ProcessAck(ReliableState& rel, const lawnmower::Packet& packet,
+                  Clock::time_point now);
+  void ResetReliableState(ReliableState& rel);
+  // 记录上行数据报里的 applied_tick；需要补发追帧同步时返回 true（已限频）
+  bool RecordAppliedTick(EndpointInfo& info, const lawnmower::Packet& packet,
+                         Clock::time_point now);
+  // 调用方持有 mutex_
+  void SchedulePendingRetransmit();
+  void ArmRetransmitTimer();
+  void RetransmitDue();
+  std::shared_ptr<const std::string> NextHeader(ReliableState& rel,
+                                                lawnmower::UdpChannel channel,
+                                                uint32_t channel_seq,
+                                                bool reliable, bool retransmit,
+                                                Clock::time_point now);
+  std::size_t BroadcastSequenced(
+      uint32_t room_id, const std::shared_ptr<const std::string>& body,
+      const std::unordered_set<uint32_t>& excluded);
+  void SendPacket(const std::shared_ptr<const std::string>& data,
+                  const udp::endpoint& to);
   void SendPacket(const std::shared_ptr<const std::string>& data,
+                  const std::shared_ptr<const std::string>& header,
                   const udp::endpoint& to);
-  std::vector<udp::endpoint> EndpointsForRoom(uint32_t room_id);
+  void SendFragmented(const std::string& body, const std::string& header,
+                      const udp::endpoint& to);
+  std::vector<SendTarget> TargetsForRoom(
+      uint32_t room_id, const std::unordered_set<uint32_t>& excluded = {});
 
   asio::io_context& io_context_;
   udp::socket socket_;
   std::array<char, 64 * 1024> recv_buffer_{};
   udp::endpoint remote_endpoint_;
+  asio::steady_timer retransmit_timer_;
 
   mutable std::mutex mutex_;
+  bool retransmit_armed_ = false;  // 有未确认消息时重传定时器在跑
   std::unordered_map<uint32_t, EndpointInfo> player_endpoints_;
+  // 端点 -> 玩家；独立 ack 不带 player_id，按来源端点找回状态
+  std::map<udp::endpoint, uint32_t> endpoint_players_;
+  std::atomic<uint32_t> next_fragment_id_{1};
 };
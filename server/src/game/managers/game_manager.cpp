@@ -34,6 +34,9 @@ constexpr float kDirectionEpsilonSq =
 constexpr float kMaxDirectionLengthSq = 1.21f;    // 方向向量长度平方的上限
 constexpr float kDeltaPositionEpsilon = 1e-4f;    // delta 位置/朝向变化阈值
 constexpr uint32_t kFullSyncIntervalTicks = 180;  // 全量同步时间间隔
+constexpr uint32_t kResumeHistorySeconds = 10;    // 重连增量续传窗口
+constexpr uint32_t kPositionScale = 8;  // 增量定点坐标精度：1/8 像素
+constexpr uint32_t kPositionQuantMax = 0xFFFF;  // 每轴 16 位
 constexpr uint32_t kUpgradeOptionCount = 3;       // 升级选项数量
 constexpr const char* kPerfRootDir = "server_metrics";  // 性能数据根目录
 constexpr uint64_t kItemLogIntervalSeconds = 2;         // 道具日志输出间隔
@@ -164,6 +167,40 @@ double ComputePercentile(std::vector<double> values, double percentile) {
   return values[index];
 }
 
+// 重连增量续传窗口对应的 tick 数
+uint64_t ResumeWindowTicks(uint32_t tick_rate) {
+  return static_cast<uint64_t>(std::max<uint32_t>(1, tick_rate)) *
+         kResumeHistorySeconds;
+}
+
+// 坐标按 scale 定点化后打包成 position_q：低 16 位 x、高 16 位 y
+uint32_t QuantizePosition(float x, float y, uint32_t scale) {
+  const auto quantize = [scale](float value) {
+    const long q = std::lround(static_cast<double>(value) * scale);
+    return static_cast<uint32_t>(
+        std::clamp<long>(q, 0, static_cast<long>(kPositionQuantMax)));
+  };
+  return quantize(x) | (quantize(y) << 16);
+}
+
+// 房间内所有客户端都声明了定点坐标能力、且场景尺寸放得进 16 位时才启用
+uint32_t NegotiatePositionScale(const RoomManager::RoomSnapshot& snapshot,
+                                uint32_t width, uint32_t height) {
+  if (static_cast<uint64_t>(std::max(width, height)) * kPositionScale >
+      kPositionQuantMax) {
+    return 0;
+  }
+  for (const auto& player : snapshot.players) {
+    const auto session = player.session.lock();
+    if (!session ||
+        (session->client_capabilities() &
+         lawnmower::CLIENT_CAP_QUANTIZED_POSITION) == 0) {
+      return 0;
+    }
+  }
+  return kPositionScale;
+}
+
 // 填充同步时间
 void FillSyncTiming(uint32_t room_id, uint64_t tick,
                     lawnmower::S2C_GameStateSync* sync) {
@@ -245,13 +282,42 @@ void SendDeltaToSessions(std::span<const std::weak_ptr<TcpSession>> sessions,
   SendFramedToSessions(sessions, packet);
 }
 
+// 房间会话中去掉 excluded 里的玩家
+std::vector<std::weak_ptr<TcpSession>> ExcludeSessions(
+    std::span<const std::weak_ptr<TcpSession>> sessions,
+    const std::unordered_set<uint32_t>& excluded) {
+  if (excluded.empty()) {
+    return {sessions.begin(), sessions.end()};
+  }
+  std::vector<std::weak_ptr<TcpSession>> remaining;
+  remaining.reserve(sessions.size());
+  for (const auto& weak_session : sessions) {
+    const auto session = weak_session.lock();
+    if (session && excluded.count(session->player_id()) == 0) {
+      remaining.push_back(weak_session);
+    }
+  }
+  return remaining;
+}
+
+std::shared_ptr<TcpSession> FindSession(
+    std::span<const std::weak_ptr<TcpSession>> sessions, uint32_t player_id) {
+  for (const auto& weak_session : sessions) {
+    auto session = weak_session.lock();
+    if (session && session->player_id() == player_id) {
+      return session;
+    }
+  }
+  return nullptr;
+}
+
+// 同步 / 增量里是否有实体；空的不下发
 template <typename T>
-void BroadcastToRoom(uint32_t room_id, lawnmower::MessageType type,
-                     const T& message) {
-  const auto sessions = RoomManager::Instance().GetRoomSessions(room_id);
-  const auto packet = BuildFramedPacket(type, message);
-  SendFramedToSessions(sessions, packet);
+bool HasSyncEntities(const T& sync) {
+  return sync.players_size() > 0 || sync.enemies_size() > 0 ||
+         sync.items_size() > 0;
 }
+
 }  // namespace
 
 // 简单的伪随机数生成器, state 是随机数种子指针
@@ -405,15 +471,296 @@ void GameManager::MarkPlayerDirty(Scene& scene, uint32_t player_id,
 void GameManager::MarkEnemyDirty(Scene& scene, uint32_t enemy_id,
                                  EnemyRuntime& runtime) {
   runtime.dirty = true;
+  runtime.last_changed_tick = scene.tick;
   scene.dirty_enemy_ids.insert(enemy_id);
 }
 
 void GameManager::MarkItemDirty(Scene& scene, uint32_t item_id,
                                 ItemRuntime& runtime) {
   runtime.dirty = true;
+  runtime.last_changed_tick = scene.tick;
   scene.dirty_item_ids.insert(item_id);
 }
 
+void GameManager::RecordRemovedEntity(const Scene& scene,
+                                      std::deque<RemovedEntity>* removed,
+                                      uint32_t entity_id) {
+  if (removed == nullptr) {
+    return;
+  }
+  removed->push_back(RemovedEntity{scene.tick, entity_id});
+  const uint64_t window_ticks = ResumeWindowTicks(scene.config.tick_rate);
+  while (!removed->empty() &&
+         removed->front().tick + window_ticks < scene.tick) {
+    removed->pop_front();
+  }
+}
+
+bool GameManager::BuildResumeStateLocked(uint32_t room_id, const Scene& scene,
+                                         uint64_t since_tick,
+                                         ReconnectSnapshot* out) {
+  if (out == nullptr) {
+    return false;
+  }
+  const uint64_t window_ticks = ResumeWindowTicks(scene.config.tick_rate);
+  // 客户端尚未收到过状态、tick 来自上一局，或断线超过窗口（移除记录已裁剪）时只能全量
+  if (since_tick == 0 || since_tick > scene.tick ||
+      scene.tick - since_tick > window_ticks) {
+    return false;
+  }
+
+  lawnmower::S2C_GameStateSync& sync = out->catch_up;
+  sync.Clear();
+  FillSyncTiming(room_id, scene.tick, &sync);
+  sync.set_is_full_snapshot(false);
+  // 玩家数量很少，全部下发，顺带带回 last_processed_input_seq 供客户端重放未确认输入
+  for (const auto& [_, runtime] : scene.players) {
+    auto* player_state = sync.add_players();
+    *player_state = runtime.state;
+    player_state->set_last_processed_input_seq(runtime.last_input_seq);
+  }
+  // 同一 tick 内的变动可能晚于客户端看到的那次同步，边界按 >= 处理
+  for (const auto& [_, runtime] : scene.enemies) {
+    if (runtime.last_changed_tick >= since_tick) {
+      *sync.add_enemies() = runtime.state;
+    }
+  }
+  for (const auto& [_, item] : scene.items) {
+    if (item.is_picked || item.last_changed_tick < since_tick) {
+      continue;
+    }
+    auto* item_state = sync.add_items();
+    item_state->set_item_id(item.item_id);
+    item_state->set_type_id(item.type_id);
+    item_state->set_is_picked(item.is_picked);
+    item_state->mutable_position()->set_x(item.x);
+    item_state->mutable_position()->set_y(item.y);
+  }
+
+  out->removed_enemy_ids.clear();
+  out->removed_item_ids.clear();
+  for (const auto& removed : scene.removed_enemies) {
+    if (removed.tick >= since_tick) {
+      out->removed_enemy_ids.push_back(removed.id);
+    }
+  }
+  for (const auto& removed : scene.removed_items) {
+    if (removed.tick >= since_tick) {
+      out->removed_item_ids.push_back(removed.id);
+    }
+  }
+  // 已拾取但尚未从表中清理的道具，对客户端而言同样是移除
+  for (const auto& [_, item] : scene.items) {
+    if (item.is_picked && item.last_changed_tick >= since_tick) {
+      out->removed_item_ids.push_back(item.item_id);
+    }
+  }
+  return true;
+}
+
+// 增量字段都是绝对值：客户端的状态在 since_tick 之前连续，补上此后变化的实体和移除记录即可对齐
+bool GameManager::BuildBaselineCatchUpLocked(
+    uint32_t room_id, const Scene& scene, uint64_t since_tick,
+    lawnmower::S2C_GameStateSync* out) {
+  if (out == nullptr) {
+    return false;
+  }
+  ReconnectSnapshot resume;
+  if (!BuildResumeStateLocked(room_id, scene, since_tick, &resume)) {
+    return false;
+  }
+  *out = std::move(resume.catch_up);
+  out->set_catch_up(true);
+  out->set_baseline_tick(static_cast<uint32_t>(since_tick));
+  out->mutable_removed_enemy_ids()->Add(resume.removed_enemy_ids.begin(),
+                                        resume.removed_enemy_ids.end());
+  out->mutable_removed_item_ids()->Add(resume.removed_item_ids.begin(),
+                                       resume.removed_item_ids.end());
+  return true;
+}
+
+bool GameManager::InsideInterest(const InterestState& interest, float x,
+                                 float y, float slack) {
+  return x >= interest.min_x - slack && x <= interest.max_x + slack &&
+         y >= interest.min_y - slack && y <= interest.max_y + slack;
+}
+
+void GameManager::FillItemState(const ItemRuntime& item,
+                                lawnmower::ItemState* out) {
+  if (out == nullptr) {
+    return;
+  }
+  out->set_item_id(item.item_id);
+  out->set_type_id(item.type_id);
+  out->set_is_picked(item.is_picked);
+  out->mutable_position()->set_x(item.x);
+  out->mutable_position()->set_y(item.y);
+}
+
+void GameManager::BuildInterestFullSyncLocked(
+    uint32_t room_id, const Scene& scene, PlayerRuntime& runtime,
+    lawnmower::S2C_GameStateSync* out) {
+  if (out == nullptr) {
+    return;
+  }
+  InterestState& interest = runtime.interest;
+  interest.enemy_ids.clear();
+  interest.item_ids.clear();
+  FillSyncTiming(room_id, scene.tick, out);
+  out->set_is_full_snapshot(true);
+  out->mutable_players()->Reserve(static_cast<int>(scene.players.size()));
+  for (const auto& [_, player] : scene.players) {
+    auto* player_state = out->add_players();
+    *player_state = player.state;
+    player_state->set_last_processed_input_seq(player.last_input_seq);
+  }
+  for (const auto& [enemy_id, enemy] : scene.enemies) {
+    const auto& position = enemy.state.position();
+    if (!InsideInterest(interest, position.x(), position.y(), 0.0f)) {
+      continue;
+    }
+    *out->add_enemies() = enemy.state;
+    interest.enemy_ids.insert(enemy_id);
+  }
+  for (const auto& [item_id, item] : scene.items) {
+    if (item.is_picked || !InsideInterest(interest, item.x, item.y, 0.0f)) {
+      continue;
+    }
+    FillItemState(item, out->add_items());
+    interest.item_ids.insert(item_id);
+  }
+  interest.needs_full = false;
+  interest.last_sync_tick = scene.tick;
+}
+
+void GameManager::BuildInterestPayloadsLocked(
+    uint32_t room_id, Scene& scene, bool force_full_sync,
+    const lawnmower::S2C_GameStateSync& sync, bool sends_sync,
+    const lawnmower::S2C_GameStateDeltaSync& delta, bool sends_delta,
+    std::vector<InterestPayload>* out) {
+  if (out == nullptr) {
+    return;
+  }
+  for (auto& [player_id, runtime] : scene.players) {
+    InterestState& interest = runtime.interest;
+    if (!interest.enabled || !runtime.is_connected) {
+      continue;
+    }
+    InterestPayload payload;
+    payload.player_id = player_id;
+    if (force_full_sync || interest.needs_full) {
+      BuildInterestFullSyncLocked(room_id, scene, runtime, &payload.sync);
+      payload.sends_sync = true;
+      out->push_back(std::move(payload));
+      continue;
+    }
+
+    // 先移除离开区域或已从场景移除的实体，之后只保留客户端仍持有的实体的变化
+    auto& left_enemy_ids = *payload.delta.mutable_left_enemy_ids();
+    for (auto it = interest.enemy_ids.begin();
+         it != interest.enemy_ids.end();) {
+      const auto enemy_it = scene.enemies.find(*it);
+      const bool keep =
+          enemy_it != scene.enemies.end() &&
+          InsideInterest(interest, enemy_it->second.state.position().x(),
+                         enemy_it->second.state.position().y(),
+                         kInterestLeaveSlack);
+      if (keep) {
+        ++it;
+        continue;
+      }
+      left_enemy_ids.Add(*it);
+      it = interest.enemy_ids.erase(it);
+    }
+    auto& left_item_ids = *payload.delta.mutable_left_item_ids();
+    for (auto it = interest.item_ids.begin(); it != interest.item_ids.end();) {
+      const auto item_it = scene.items.find(*it);
+      const bool keep = item_it != scene.items.end() &&
+                        !item_it->second.is_picked &&
+                        InsideInterest(interest, item_it->second.x,
+                                       item_it->second.y, kInterestLeaveSlack);
+      if (keep) {
+        ++it;
+        continue;
+      }
+      left_item_ids.Add(*it);
+      it = interest.item_ids.erase(it);
+    }
+
+    if (sends_delta) {
+      *payload.delta.mutable_players() = delta.players();
+      for (const auto& enemy : delta.enemies()) {
+        if (interest.enemy_ids.count(enemy.enemy_id()) > 0) {
+          *payload.delta.add_enemies() = enemy;
+        }
+      }
+      for (const auto& item : delta.items()) {
+        if (interest.item_ids.count(item.item_id()) > 0) {
+          *payload.delta.add_items() = item;
+        }
+      }
+    }
+    if (sends_sync) {
+      // 非全量房间同步：低频字段变化的玩家与新刷敌人的强制同步
+      *payload.sync.mutable_players() = sync.players();
+      for (const auto& enemy : sync.enemies()) {
+        if (interest.enemy_ids.count(enemy.enemy_id()) > 0) {
+          *payload.sync.add_enemies() = enemy;
+        }
+      }
+      for (const auto& item : sync.items()) {
+        if (interest.item_ids.count(item.item_id()) > 0) {
+          *payload.sync.add_items() = item;
+        }
+      }
+    }
+
+    // 再加入进入区域的实体（完整状态），新刷出的敌人也经此下发
+    for (const auto& [enemy_id, enemy] : scene.enemies) {
+      if (interest.enemy_ids.count(enemy_id) > 0) {
+        continue;
+      }
+      const auto& position = enemy.state.position();
+      if (!InsideInterest(interest, position.x(), position.y(), 0.0f)) {
+        continue;
+      }
+      *payload.delta.add_entered_enemies() = enemy.state;
+      interest.enemy_ids.insert(enemy_id);
+    }
+    for (const auto& [item_id, item] : scene.items) {
+      if (item.is_picked || interest.item_ids.count(item_id) > 0 ||
+          !InsideInterest(interest, item.x, item.y, 0.0f)) {
+        continue;
+      }
+      FillItemState(item, payload.delta.add_entered_items());
+      interest.item_ids.insert(item_id);
+    }
+
+    payload.sends_sync = HasSyncEntities(payload.sync);
+    payload.sends_delta = HasSyncEntities(payload.delta) ||
+                          payload.delta.entered_enemies_size() > 0 ||
+                          payload.delta.left_enemy_ids_size() > 0 ||
+                          payload.delta.entered_items_size() > 0 ||
+                          payload.delta.left_item_ids_size() > 0;
+    if (!payload.sends_sync && !payload.sends_delta) {
+      continue;
+    }
+    // 基线按玩家单独推进：进出事件依赖前一次同步，漏收时客户端据此请求追帧
+    const auto baseline = static_cast<uint32_t>(interest.last_sync_tick);
+    if (payload.sends_sync) {
+      FillSyncTiming(room_id, scene.tick, &payload.sync);
+      payload.sync.set_is_full_snapshot(false);
+      payload.sync.set_baseline_tick(baseline);
+    }
+    if (payload.sends_delta) {
+      FillDeltaTiming(room_id, scene.tick, &payload.delta);
+      payload.delta.set_baseline_tick(baseline);
+    }
+    interest.last_sync_tick = scene.tick;
+    out->push_back(std::move(payload));
+  }
+}
+
 void GameManager::BuildSyncPayloadsLocked(
     uint32_t room_id, Scene& scene, bool force_full_sync,
     const std::unordered_set<uint32_t>& dirty_player_ids,
@@ -553,7 +900,12 @@ void GameManager::BuildSyncPayloadsLocked(
       out->set_player_id(runtime.state.player_id());
       out->set_changed_mask(changed_mask);
       if ((changed_mask & lawnmower::PLAYER_DELTA_POSITION) != 0) {
-        *out->mutable_position() = position;
+        if (scene.position_scale > 0) {
+          out->set_position_q(QuantizePosition(position.x(), position.y(),
+                                               scene.position_scale));
+        } else {
+          *out->mutable_position() = position;
+        }
       }
       if ((changed_mask & lawnmower::PLAYER_DELTA_ROTATION) != 0) {
         out->set_rotation(runtime.state.rotation());
@@ -624,7 +976,12 @@ void GameManager::BuildSyncPayloadsLocked(
       out->set_enemy_id(enemy.state.enemy_id());
       out->set_changed_mask(changed_mask);
       if ((changed_mask & lawnmower::ENEMY_DELTA_POSITION) != 0) {
-        *out->mutable_position() = position;
+        if (scene.position_scale > 0) {
+          out->set_position_q(QuantizePosition(position.x(), position.y(),
+                                               scene.position_scale));
+        } else {
+          *out->mutable_position() = position;
+        }
       }
       if ((changed_mask & lawnmower::ENEMY_DELTA_HEALTH) != 0) {
         out->set_health(enemy.state.health());
@@ -679,8 +1036,13 @@ void GameManager::BuildSyncPayloadsLocked(
       out->set_item_id(item.item_id);
       out->set_changed_mask(changed_mask);
       if ((changed_mask & lawnmower::ITEM_DELTA_POSITION) != 0) {
-        out->mutable_position()->set_x(item.x);
-        out->mutable_position()->set_y(item.y);
+        if (scene.position_scale > 0) {
+          out->set_position_q(
+              QuantizePosition(item.x, item.y, scene.position_scale));
+        } else {
+          out->mutable_position()->set_x(item.x);
+          out->mutable_position()->set_y(item.y);
+        }
       }
       if ((changed_mask & lawnmower::ITEM_DELTA_IS_PICKED) != 0) {
         out->set_is_picked(item.is_picked);
@@ -710,6 +1072,7 @@ void GameManager::BuildSyncPayloadsLocked(
       if (item_it == scene.items.end()) {
         continue;
       }
+      RecordRemovedEntity(scene, &scene.removed_items, item_id);
       scene.item_pool.push_back(std::move(item_it->second));
       scene.items.erase(item_it);
       scene.dirty_item_ids.erase(item_id);
@@ -1125,6 +1488,35 @@ void GameManager::StopGameLoop(uint32_t room_id) {
   // 锁内摘掉timer,锁外cansel,避免死锁并正确停止循环
 }
 
+// 升级流程的下行消息：与首个升级请求（随 tick 事件发送）判定条件相同，保证同一流程只走一个通道。
+// 可靠 UDP 发送失败（无已登记端点或积压过多）时与其余客户端一样走 TCP
+void GameManager::SendUpgradeToRoom(uint32_t room_id,
+                                    lawnmower::MessageType type,
+                                    const google::protobuf::Message& message) {
+  constexpr uint32_t kReliableUpgradeCaps =
+      lawnmower::CLIENT_CAP_TICK_EVENT_BUNDLE |
+      lawnmower::CLIENT_CAP_RELIABLE_UDP;
+  const auto sessions = RoomManager::Instance().GetRoomSessions(room_id);
+  std::vector<std::weak_ptr<TcpSession>> tcp_sessions;
+  tcp_sessions.reserve(sessions.size());
+  for (const auto& weak_session : sessions) {
+    const auto session = weak_session.lock();
+    if (!session) {
+      continue;
+    }
+    if (udp_server_ != nullptr &&
+        (session->client_capabilities() & kReliableUpgradeCaps) ==
+            kReliableUpgradeCaps &&
+        udp_server_->SendReliable(session->player_id(), type, message)) {
+      continue;
+    }
+    tcp_sessions.push_back(weak_session);
+  }
+  if (!tcp_sessions.empty()) {
+    SendFramedToSessions(tcp_sessions, BuildFramedPacket(type, message));
+  }
+}
+
 // 将坐标限制在地图边界内
 lawnmower::Vector2 GameManager::ClampToMap(const SceneConfig& cfg, float x,
                                            float y) const {
@@ -1263,6 +1655,8 @@ lawnmower::SceneInfo GameManager::CreateScene(
 
   Scene scene;
   scene.config = BuildDefaultConfig();  // 构建默认配置
+  scene.position_scale = NegotiatePositionScale(
+      snapshot, scene.config.width, scene.config.height);
   scene.next_enemy_id = 1;
   scene.next_projectile_id = 1;
   scene.next_item_id = 1;
@@ -1383,6 +1777,7 @@ lawnmower::SceneInfo GameManager::CreateScene(
   scene_info.set_tick_rate(scenes_[snapshot.room_id].config.tick_rate);
   scene_info.set_state_sync_rate(
       scenes_[snapshot.room_id].config.state_sync_rate);
+  scene_info.set_position_scale(scenes_[snapshot.room_id].position_scale);
 
   spdlog::info("创建场景: room_id={}, players={}", snapshot.room_id,
                snapshot.players.size());
@@ -1534,6 +1929,11 @@ void GameManager::ProcessSceneTick(uint32_t room_id,
   uint32_t perf_sync_items_size = 0;
   uint64_t event_tick = 0;
   uint32_t event_wave_id = 0;
+  // 周期全量时改发给已确认基线的玩家的追帧同步
+  std::vector<std::pair<uint32_t, lawnmower::S2C_GameStateSync>>
+      baseline_catch_ups;
+  // 订阅了关注区域的玩家各自的同步，这些玩家不再收房间广播
+  std::vector<InterestPayload> interest_payloads;
 
   {
     std::lock_guard<std::mutex> lock(mutex_);  // 互斥锁
@@ -1778,6 +2178,38 @@ void GameManager::ProcessSceneTick(uint32_t room_id,
                                 scene.dirty_item_ids, &sync, &delta,
                                 &built_sync, &built_delta,
                                 &perf_delta_items_size, &perf_sync_items_size);
+        // 只有实际下发的同步推进基线，空的增量不发送
+        const bool sends_sync = built_sync && HasSyncEntities(sync);
+        const bool sends_delta = built_delta && HasSyncEntities(delta);
+        if (sends_sync || sends_delta) {
+          const auto baseline = static_cast<uint32_t>(scene.last_sync_tick);
+          if (sends_sync && !sync.is_full_snapshot()) {
+            sync.set_baseline_tick(baseline);
+          }
+          if (sends_delta) {
+            delta.set_baseline_tick(baseline);
+          }
+          scene.last_sync_tick = scene.tick;
+        }
+        BuildInterestPayloadsLocked(room_id, scene, force_full_sync, sync,
+                                    sends_sync, delta, sends_delta,
+                                    &interest_payloads);
+        if (force_full_sync && sends_sync && udp_server_ != nullptr) {
+          for (const auto& [player_id, runtime] : scene.players) {
+            if (runtime.interest.enabled) {
+              continue;  // 已按区域补发全量
+            }
+            const uint32_t applied_tick = udp_server_->AppliedTick(player_id);
+            if (applied_tick == 0) {
+              continue;
+            }
+            lawnmower::S2C_GameStateSync catch_up;
+            if (BuildBaselineCatchUpLocked(room_id, scene, applied_tick,
+                                           &catch_up)) {
+              baseline_catch_ups.emplace_back(player_id, std::move(catch_up));
+            }
+          }
+        }
       }
 
       const auto perf_end = std::chrono::steady_clock::now();
@@ -1908,12 +2340,75 @@ void GameManager::ProcessSceneTick(uint32_t room_id,
       !player_hurts.empty() || has_enemy_attack_state || !enemy_dieds.empty() ||
       !level_ups.empty() || game_over.has_value() ||
       upgrade_request.has_value()) {
+    const bool has_tick_events =
+        has_projectile_spawn || has_projectile_despawn || has_dropped_items ||
+        has_enemy_attack_state || !player_hurts.empty() ||
+        !enemy_dieds.empty() || !level_ups.empty();
+    // 声明了合包能力的客户端每 tick 只收一个包，首次需要时构建一次供全房间复用。
+    // 同时启用了 UDP 可靠层的客户端，事件包和升级请求走可靠有序 UDP 通道，
+    // 不与 TCP 上的其它消息排队（无已登记端点或积压过多时仍走 TCP）
+    std::optional<lawnmower::S2C_TickEventBundle> event_bundle;
     const auto sessions = RoomManager::Instance().GetRoomSessions(room_id);
     for (const auto& weak_session : sessions) {
       auto session = weak_session.lock();
       if (!session) {
         continue;
       }
+      if ((session->client_capabilities() &
+           lawnmower::CLIENT_CAP_TICK_EVENT_BUNDLE) != 0) {
+        const bool reliable_udp =
+            udp_server_ != nullptr && (session->client_capabilities() &
+                                       lawnmower::CLIENT_CAP_RELIABLE_UDP) != 0;
+        const auto send_event = [&](lawnmower::MessageType type,
+                                    const google::protobuf::Message& message) {
+          if (!reliable_udp ||
+              !udp_server_->SendReliable(session->player_id(), type, message)) {
+            session->SendProto(type, message);
+          }
+        };
+        if (has_tick_events) {
+          if (!event_bundle.has_value()) {
+            event_bundle.emplace();
+            event_bundle->set_room_id(room_id);
+            event_bundle->mutable_sync_time()->set_server_time(
+                event_now_count);
+            event_bundle->mutable_sync_time()->set_tick(
+                static_cast<uint32_t>(event_tick));
+            if (has_projectile_spawn) {
+              *event_bundle->mutable_projectile_spawn() = projectile_spawn_msg;
+            }
+            if (has_projectile_despawn) {
+              *event_bundle->mutable_projectile_despawn() =
+                  projectile_despawn_msg;
+            }
+            if (has_dropped_items) {
+              *event_bundle->mutable_dropped_item() = dropped_item_msg;
+            }
+            if (has_enemy_attack_state) {
+              *event_bundle->mutable_enemy_attack_state() =
+                  enemy_attack_state_msg;
+            }
+            event_bundle->mutable_player_hurts()->Add(player_hurts.begin(),
+                                                      player_hurts.end());
+            event_bundle->mutable_enemy_dieds()->Add(enemy_dieds.begin(),
+                                                     enemy_dieds.end());
+            event_bundle->mutable_level_ups()->Add(level_ups.begin(),
+                                                   level_ups.end());
+          }
+          send_event(lawnmower::MessageType::MSG_S2C_TICK_EVENT_BUNDLE,
+                     *event_bundle);
+        }
+        if (upgrade_request.has_value()) {
+          send_event(lawnmower::MessageType::MSG_S2C_UPGRADE_REQUEST,
+                     *upgrade_request);
+        }
+        // GameOver 之后紧跟 TCP 上的 ROOM_UPDATE，仍走 TCP 保证先后顺序
+        if (game_over.has_value()) {
+          session->SendProto(lawnmower::MessageType::MSG_S2C_GAME_OVER,
+                             *game_over);
+        }
+        continue;
+      }
       if (has_projectile_spawn) {
         session->SendProto(lawnmower::MessageType::MSG_S2C_PROJECTILE_SPAWN,
                            projectile_spawn_msg);
@@ -1964,14 +2459,10 @@ void GameManager::ProcessSceneTick(uint32_t room_id,
                         perf_elapsed_seconds);
   }
 
-  const bool has_sync_payload =
-      built_sync && (sync.players_size() > 0 || sync.enemies_size() > 0 ||
-                     sync.items_size() > 0);
-  const bool has_delta_payload =
-      built_delta && (delta.players_size() > 0 || delta.enemies_size() > 0 ||
-                      delta.items_size() > 0);
+  const bool has_sync_payload = built_sync && HasSyncEntities(sync);
+  const bool has_delta_payload = built_delta && HasSyncEntities(delta);
 
-  if (!has_sync_payload && !has_delta_payload) {
+  if (!has_sync_payload && !has_delta_payload && interest_payloads.empty()) {
     return;
   }
 
@@ -1985,14 +2476,49 @@ void GameManager::ProcessSceneTick(uint32_t room_id,
     return sessions;
   };
 
+  // 订阅了关注区域的玩家：增量走 UDP（与房间广播共用 sequenced 通道），
+  // 全量快照、同 tick 已发增量的变化集合以及没有 UDP 端点时走 TCP
+  std::unordered_set<uint32_t> interest_players;
+  for (const auto& payload : interest_payloads) {
+    interest_players.insert(payload.player_id);
+    const auto session = FindSession(get_sessions(), payload.player_id);
+    if (payload.sends_delta) {
+      const bool sent_udp =
+          udp_server_ != nullptr &&
+          udp_server_->SendSequenced(
+              payload.player_id,
+              lawnmower::MessageType::MSG_S2C_GAME_STATE_DELTA_SYNC,
+              payload.delta);
+      if (!sent_udp && session) {
+        session->SendProto(
+            lawnmower::MessageType::MSG_S2C_GAME_STATE_DELTA_SYNC,
+            payload.delta);
+      }
+    }
+    if (payload.sends_sync) {
+      const bool allow_udp =
+          !payload.sync.is_full_snapshot() && !payload.sends_delta;
+      const bool sent_udp =
+          allow_udp && udp_server_ != nullptr &&
+          udp_server_->SendSequenced(
+              payload.player_id,
+              lawnmower::MessageType::MSG_S2C_GAME_STATE_SYNC, payload.sync);
+      if (!sent_udp && session) {
+        session->SendProto(lawnmower::MessageType::MSG_S2C_GAME_STATE_SYNC,
+                           payload.sync);
+      }
+    }
+  }
+
   // 优先尝试 UDP 发送增量；若无 UDP 则走 TCP 兜底。
   if (has_delta_payload) {
     bool delta_sent_udp = false;
     if (udp_server_ != nullptr) {
-      delta_sent_udp = udp_server_->BroadcastDeltaState(room_id, delta) > 0;
+      delta_sent_udp = udp_server_->BroadcastDeltaState(room_id, delta,
+                                                        interest_players) > 0;
     }
     if (!delta_sent_udp) {
-      const auto& targets = get_sessions();
+      const auto targets = ExcludeSessions(get_sessions(), interest_players);
       if (!targets.empty()) {
         SendDeltaToSessions(targets, delta);
       } else {
@@ -2007,10 +2533,20 @@ void GameManager::ProcessSceneTick(uint32_t room_id,
     // 若已发送增量，同一 tick 不再走 UDP，避免客户端判重丢包。
     const bool allow_udp_sync = !force_full_sync && !has_delta_payload;
     if (allow_udp_sync && udp_server_ != nullptr) {
-      sync_sent_udp = udp_server_->BroadcastState(room_id, sync) > 0;
+      sync_sent_udp =
+          udp_server_->BroadcastState(room_id, sync, interest_players) > 0;
+    }
+    // 已按确认基线补发追帧同步的玩家不再收这份全量快照
+    std::unordered_set<uint32_t> excluded = interest_players;
+    for (const auto& [player_id, catch_up] : baseline_catch_ups) {
+      if (udp_server_->SendReliable(
+              player_id, lawnmower::MessageType::MSG_S2C_GAME_STATE_SYNC,
+              catch_up)) {
+        excluded.insert(player_id);
+      }
     }
     if (!sync_sent_udp) {
-      const auto& targets = get_sessions();
+      const auto targets = ExcludeSessions(get_sessions(), excluded);
       if (!targets.empty()) {
         SendSyncToSessions(targets, sync);
       } else {
@@ -2020,6 +2556,95 @@ void GameManager::ProcessSceneTick(uint32_t room_id,
   }
 }
 
+void GameManager::HandleBaselineResync(uint32_t player_id,
+                                       uint32_t since_tick) {
+  lawnmower::S2C_GameStateSync sync;
+  uint32_t room_id = 0;
+  bool caught_up = false;
+  {
+    std::lock_guard<std::mutex> lock(mutex_);
+    const auto mapping = player_scene_.find(player_id);
+    if (mapping == player_scene_.end()) {
+      return;
+    }
+    room_id = mapping->second;
+    const auto scene_it = scenes_.find(room_id);
+    if (scene_it == scenes_.end()) {
+      return;
+    }
+    Scene& scene = scene_it->second;
+    const auto player_it = scene.players.find(player_id);
+    if (player_it != scene.players.end() &&
+        player_it->second.interest.enabled) {
+      // 订阅了关注区域：进出状态无法按 tick 回溯，直接补发按区域过滤的全量
+      BuildInterestFullSyncLocked(room_id, scene, player_it->second, &sync);
+      sync.set_catch_up(true);
+      caught_up = true;
+    } else {
+      caught_up =
+          BuildBaselineCatchUpLocked(room_id, scene, since_tick, &sync);
+    }
+  }
+  if (!caught_up) {
+    // 未确认过基线、tick 来自上一局或超出续传窗口：补发全量，同样按追帧同步投递
+    if (!BuildFullState(room_id, &sync)) {
+      return;
+    }
+    sync.set_is_full_snapshot(true);
+    sync.set_catch_up(true);
+  }
+  spdlog::debug("追帧同步 player={} since_tick={} full={} enemies={}",
+                player_id, since_tick,
+                sync.is_full_snapshot() ? "true" : "false",
+                sync.enemies_size());
+  if (udp_server_ != nullptr &&
+      udp_server_->SendReliable(
+          player_id, lawnmower::MessageType::MSG_S2C_GAME_STATE_SYNC, sync)) {
+    return;
+  }
+  for (const auto& weak_session :
+       RoomManager::Instance().GetRoomSessions(room_id)) {
+    const auto session = weak_session.lock();
+    if (session && session->player_id() == player_id) {
+      session->SendProto(lawnmower::MessageType::MSG_S2C_GAME_STATE_SYNC,
+                         sync);
+      return;
+    }
+  }
+}
+
+void GameManager::HandleInterestArea(uint32_t player_id,
+                                     const lawnmower::C2S_InterestArea& area) {
+  if (!std::isfinite(area.min_x()) || !std::isfinite(area.min_y()) ||
+      !std::isfinite(area.max_x()) || !std::isfinite(area.max_y())) {
+    spdlog::debug("玩家 {} 上报的关注区域无效", player_id);
+    return;
+  }
+  std::lock_guard<std::mutex> lock(mutex_);
+  const auto mapping = player_scene_.find(player_id);
+  if (mapping == player_scene_.end()) {
+    return;
+  }
+  const auto scene_it = scenes_.find(mapping->second);
+  if (scene_it == scenes_.end()) {
+    return;
+  }
+  const auto player_it = scene_it->second.players.find(player_id);
+  if (player_it == scene_it->second.players.end()) {
+    return;
+  }
+  InterestState& interest = player_it->second.interest;
+  if (!interest.enabled) {
+    // 客户端手里还是房间全量，先补一份按区域过滤的全量再开始发进出
+    interest.enabled = true;
+    interest.needs_full = true;
+  }
+  interest.min_x = std::min(area.min_x(), area.max_x());
+  interest.min_y = std::min(area.min_y(), area.max_y());
+  interest.max_x = std::max(area.min_x(), area.max_x());
+  interest.max_y = std::max(area.min_y(), area.max_y());
+}
+
 // 操纵玩家输入：只入队，逻辑帧内处理
 bool GameManager::HandlePlayerInput(uint32_t player_id,
                                     const lawnmower::C2S_PlayerInput& input,
@@ -2303,8 +2928,8 @@ bool GameManager::HandleUpgradeRequestAck(
   }
 
   if (should_send) {
-    BroadcastToRoom(room_id, lawnmower::MessageType::MSG_S2C_UPGRADE_OPTIONS,
-                    options_msg);
+    SendUpgradeToRoom(room_id, lawnmower::MessageType::MSG_S2C_UPGRADE_OPTIONS,
+                      options_msg);
   }
   return should_send;
 }
@@ -2403,12 +3028,12 @@ bool GameManager::HandleUpgradeSelect(
   }
 
   if (should_send_ack) {
-    BroadcastToRoom(room_id, lawnmower::MessageType::MSG_S2C_UPGRADE_SELECT_ACK,
-                    ack);
+    SendUpgradeToRoom(room_id,
+                      lawnmower::MessageType::MSG_S2C_UPGRADE_SELECT_ACK, ack);
   }
   if (next_request.has_value()) {
-    BroadcastToRoom(room_id, lawnmower::MessageType::MSG_S2C_UPGRADE_REQUEST,
-                    *next_request);
+    SendUpgradeToRoom(room_id, lawnmower::MessageType::MSG_S2C_UPGRADE_REQUEST,
+                      *next_request);
   }
   if (should_resume) {
     lawnmower::S2C_GameStateSync full_sync;
@@ -2468,8 +3093,8 @@ bool GameManager::HandleUpgradeRefreshRequest(
   }
 
   if (request_msg.has_value()) {
-    BroadcastToRoom(room_id, lawnmower::MessageType::MSG_S2C_UPGRADE_REQUEST,
-                    *request_msg);
+    SendUpgradeToRoom(room_id, lawnmower::MessageType::MSG_S2C_UPGRADE_REQUEST,
+                      *request_msg);
     return true;
   }
   return false;
@@ -2555,23 +3180,40 @@ bool GameManager::TryReconnectPlayer(uint32_t player_id, uint32_t room_id,
   PlayerRuntime& runtime = player_it->second;
   runtime.is_connected = true;
   runtime.disconnected_at = {};
+  runtime.interest = {};  // 客户端重连后重新上报关注区域
   runtime.pending_inputs.clear();
   runtime.wants_attacking = false;
   runtime.has_attack_dir = false;
   runtime.attack_cooldown_seconds = 0.0;
-  runtime.last_input_seq = last_input_seq;
-  runtime.last_sync_input_seq = last_input_seq;
 
   out->room_id = mapping->second;
   out->server_tick = scene.tick;
   out->is_paused = scene.is_paused;
   out->player_name = runtime.player_name;
+  out->resumed =
+      BuildResumeStateLocked(mapping->second, scene, last_server_tick, out);
+
+  if (out->resumed) {
+    // 续传时客户端保留未确认输入并重发，已处理过的序号需继续丢弃，避免重复执行
+    runtime.last_input_seq = std::max(runtime.last_input_seq, last_input_seq);
+  } else {
+    runtime.last_input_seq = last_input_seq;
+  }
+  runtime.last_sync_input_seq = runtime.last_input_seq;
+  if (out->resumed) {
+    for (auto& player_state : *out->catch_up.mutable_players()) {
+      if (player_state.player_id() == player_id) {
+        player_state.set_last_processed_input_seq(runtime.last_input_seq);
+      }
+    }
+  }
 
   spdlog::info(
       "玩家 {} 重连成功 room={} last_input_seq={} client_tick={} "
-      "server_tick={}",
+      "server_tick={} resumed={} catch_up_enemies={} catch_up_items={}",
       player_id, out->room_id, last_input_seq, last_server_tick,
-      out->server_tick);
+      out->server_tick, out->resumed ? "true" : "false",
+      out->catch_up.enemies_size(), out->catch_up.items_size());
   return true;
 }
 
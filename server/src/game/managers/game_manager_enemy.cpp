@@ -251,6 +251,8 @@ void GameManager::ProcessEnemies(Scene& scene, double dt_seconds,
       if (enemy.force_sync_left == 0 &&
           enemy.dead_elapsed_seconds >= kEnemyDespawnDelaySeconds) {
         scene.dirty_enemy_ids.erase(enemy.state.enemy_id());
+        RecordRemovedEntity(scene, &scene.removed_enemies,
+                            enemy.state.enemy_id());
         scene.enemy_pool.push_back(std::move(enemy));
         it = scene.enemies.erase(it);
         continue;
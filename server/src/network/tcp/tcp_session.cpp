@@ -9,6 +9,7 @@
 #include <span>
 #include <spdlog/spdlog.h>
 #include <sstream>
+#include <utility>
 
 #include "game/managers/game_manager.hpp"
 #include "game/managers/room_manager.hpp"
@@ -325,6 +326,7 @@ void TcpSession::HandleLogin(const std::string& payload) {
   }
 
   player_id_ = next_player_id_.fetch_add(1);  // 原子加1
+  client_capabilities_ = login.capabilities();
   // 设置玩家名，若未输入玩家名则为玩家+id,否则则为玩家名
   player_name_ = login.player_name().empty()
                      ? ("玩家" + std::to_string(player_id_))
@@ -421,6 +423,7 @@ void TcpSession::HandleReconnectRequest(const std::string& payload) {
     return;
   }
 
+  bool resumed = false;
   if (is_playing) {
     GameManager::ReconnectSnapshot snapshot;
     if (!GameManager::Instance().TryReconnectPlayer(
@@ -438,6 +441,14 @@ void TcpSession::HandleReconnectRequest(const std::string& payload) {
     if (player_name.empty()) {
       player_name = snapshot.player_name;
     }
+    if (snapshot.resumed) {
+      resumed = true;
+      *ack.mutable_catch_up() = std::move(snapshot.catch_up);
+      ack.mutable_removed_enemy_ids()->Add(snapshot.removed_enemy_ids.begin(),
+                                           snapshot.removed_enemy_ids.end());
+      ack.mutable_removed_item_ids()->Add(snapshot.removed_item_ids.begin(),
+                                          snapshot.removed_item_ids.end());
+    }
   }
 
   ack.set_room_id(target_room_id);
@@ -452,6 +463,7 @@ void TcpSession::HandleReconnectRequest(const std::string& payload) {
   ack.set_session_token(token);
 
   player_id_ = request.player_id();
+  client_capabilities_ = request.capabilities();
   if (!player_name.empty()) {
     player_name_ = player_name;
   } else {
@@ -461,11 +473,13 @@ void TcpSession::HandleReconnectRequest(const std::string& payload) {
   ack.set_success(true);
   ack.set_message("reconnect success");
   SendProto(lawnmower::MessageType::MSG_S2C_RECONNECT_ACK, ack);
-  spdlog::info("[reconnect] success player_id={} room_id={} is_playing={}",
-               request.player_id(), target_room_id,
-               is_playing ? "true" : "false");
+  spdlog::info(
+      "[reconnect] success player_id={} room_id={} is_playing={} resumed={}",
+      request.player_id(), target_room_id, is_playing ? "true" : "false",
+      resumed ? "true" : "false");
 
-  if (is_playing) {
+  // 增量续传已随 ack 下发，超出续传窗口时才补发全量快照
+  if (is_playing && !resumed) {
     SendFullSyncToSession(target_room_id);
   }
 }
@@ -685,6 +699,18 @@ void TcpSession::HandleUpgradeRefreshRequest(const std::string& payload) {
   }
 }
 
+void TcpSession::HandleInterestArea(const std::string& payload) {
+  lawnmower::C2S_InterestArea area;
+  if (!ParsePayload(payload, &area, "解析关注区域失败")) {
+    return;
+  }
+  if (player_id_ == 0) {
+    spdlog::warn("未登录玩家上报关注区域");
+    return;
+  }
+  GameManager::Instance().HandleInterestArea(player_id_, area);
+}
+
 bool TcpSession::SendFullSyncToRoom(
     uint32_t room_id, const std::vector<std::weak_ptr<TcpSession>>& sessions,
     uint32_t state_sync_rate) {
@@ -797,6 +823,9 @@ void TcpSession::handle_packet(const lawnmower::Packet& packet) {
     case MessageType::MSG_C2S_UPGRADE_REFRESH_REQUEST:
       HandleUpgradeRefreshRequest(packet.payload());
       break;
+    case MessageType::MSG_C2S_INTEREST_AREA:
+      HandleInterestArea(packet.payload());
+      break;
     case MessageType::MSG_UNKNOWN:
     default:
       spdlog::warn("未知操作类型: {}", MessageTypeToString(packet.msg_type()));
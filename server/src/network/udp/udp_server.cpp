@@ -1,6 +1,7 @@
 #include "network/udp/udp_server.hpp"
 
 #include <algorithm>
+#include <cmath>
 #include <spdlog/spdlog.h>
 #include <string>
 
@@ -11,11 +12,138 @@
 namespace {
 constexpr std::chrono::seconds kEndpointTtl{10};
 constexpr int kUdpSocketBufferBytes = 256 * 1024;
+// 可靠层：重传检查间隔、RTO 取值范围（尚无 RTT 样本时用初值），未确认积压上限
+constexpr std::chrono::milliseconds kRetransmitTick{10};
+constexpr double kInitialRtoMs = 100.0;
+constexpr double kMinRtoMs = 30.0;
+constexpr double kMaxRtoMs = 1000.0;
+constexpr uint32_t kMaxRtoBackoffShift = 4;
+constexpr std::size_t kMaxPendingReliable = 256;
+constexpr int kAckBits = 32;
+// 同一玩家两次追帧同步的最小间隔，补发在途时客户端可能重复请求
+constexpr std::chrono::milliseconds kMinResyncInterval{200};
+// 应用层分片：单个数据报上限（常见路径 MTU 1280 减去 IP/UDP 头），每片负载，最多分片数（与客户端一致）
+constexpr std::size_t kMaxDatagramBytes = 1200;
+constexpr std::size_t kFragmentPayloadBytes = 1150;
+constexpr std::size_t kMaxFragments = 64;
+// 拆分快照时每部分的实体字节预算，留出 sync_time 等公共字段和可靠层头部的余量
+constexpr std::size_t kSnapshotPartBudget = 1050;
+
+// 同一 Packet 的两段序列化结果拼接等价于合并，可靠层头部单独序列化后追加在共享的 body 之后
+std::shared_ptr<const std::string> BuildHeader(lawnmower::UdpChannel channel,
+                                               uint32_t seq,
+                                               uint32_t channel_seq,
+                                               uint32_t epoch) {
+  lawnmower::Packet header;
+  header.set_channel(channel);
+  header.set_seq(seq);
+  header.set_channel_seq(channel_seq);
+  header.set_epoch(epoch);
+  return std::make_shared<std::string>(header.SerializeAsString());
+}
+
+// 按接收方重排并拆分全量快照：自己最先，其余玩家、敌人、道具按到自己的距离由近到远，
+// 依次装入不超过 kSnapshotPartBudget 的部分。每部分是独立可用的 S2C_GameStateSync，
+// 丢一个数据报只丢这部分实体，且离玩家最近的实体最先到达
+std::vector<lawnmower::S2C_GameStateSync> SplitSnapshot(
+    const lawnmower::S2C_GameStateSync& sync, uint32_t self_id) {
+  float self_x = 0.0F;
+  float self_y = 0.0F;
+  bool has_self = false;
+  for (const auto& player : sync.players()) {
+    if (player.player_id() == self_id) {
+      self_x = player.position().x();
+      self_y = player.position().y();
+      has_self = true;
+      break;
+    }
+  }
+  const auto distance2 = [&](const lawnmower::Vector2& position) {
+    if (!has_self) {
+      return 0.0F;
+    }
+    const float dx = position.x() - self_x;
+    const float dy = position.y() - self_y;
+    return dx * dx + dy * dy;
+  };
+
+  enum class Kind { kPlayer, kEnemy, kItem };
+  struct Entry {
+    Kind kind;
+    int index;
+    float priority;
+    std::size_t bytes;
+  };
+  std::vector<Entry> entries;
+  entries.reserve(static_cast<std::size_t>(
+      sync.players_size() + sync.enemies_size() + sync.items_size()));
+  // 每个重复字段元素额外约 3 字节（tag + 长度）
+  for (int i = 0; i < sync.players_size(); ++i) {
+    const auto& player = sync.players(i);
+    entries.push_back(Entry{
+        Kind::kPlayer, i,
+        player.player_id() == self_id ? -1.0F : distance2(player.position()),
+        player.ByteSizeLong() + 3});
+  }
+  for (int i = 0; i < sync.enemies_size(); ++i) {
+    const auto& enemy = sync.enemies(i);
+    entries.push_back(Entry{Kind::kEnemy, i, distance2(enemy.position()),
+                            enemy.ByteSizeLong() + 3});
+  }
+  for (int i = 0; i < sync.items_size(); ++i) {
+    const auto& item = sync.items(i);
+    entries.push_back(Entry{Kind::kItem, i, distance2(item.position()),
+                            item.ByteSizeLong() + 3});
+  }
+  std::stable_sort(entries.begin(), entries.end(),
+                   [](const Entry& a, const Entry& b) {
+                     return a.priority < b.priority;
+                   });
+
+  std::vector<lawnmower::S2C_GameStateSync> parts;
+  std::size_t used = 0;
+  const auto start_part = [&]() {
+    auto& part = parts.emplace_back();
+    if (sync.has_sync_time()) {
+      *part.mutable_sync_time() = sync.sync_time();
+    }
+    part.set_room_id(sync.room_id());
+    part.set_is_full_snapshot(sync.is_full_snapshot());
+    used = 0;
+  };
+  start_part();
+  for (const auto& entry : entries) {
+    if (used > 0 && used + entry.bytes > kSnapshotPartBudget) {
+      start_part();
+    }
+    auto& part = parts.back();
+    switch (entry.kind) {
+      case Kind::kPlayer:
+        *part.add_players() = sync.players(entry.index);
+        break;
+      case Kind::kEnemy:
+        *part.add_enemies() = sync.enemies(entry.index);
+        break;
+      case Kind::kItem:
+        *part.add_items() = sync.items(entry.index);
+        break;
+    }
+    used += entry.bytes;
+  }
+  const auto count = static_cast<uint32_t>(parts.size());
+  for (uint32_t i = 0; i < count; ++i) {
+    parts[i].set_part_index(i);
+    parts[i].set_part_count(count);
+  }
+  return parts;
+}
 }  // namespace
 
 // 构造
 UdpServer::UdpServer(asio::io_context& io, uint16_t port)
-    : io_context_(io), socket_(io_context_, udp::endpoint(udp::v4(), port)) {
+    : io_context_(io),
+      socket_(io_context_, udp::endpoint(udp::v4(), port)),
+      retransmit_timer_(io_context_) {
   asio::error_code ec;
   socket_.set_option(
       asio::socket_base::receive_buffer_size(kUdpSocketBufferBytes), ec);
@@ -58,6 +186,9 @@ void UdpServer::HandlePacket(const lawnmower::Packet& packet,
     case MessageType::MSG_C2S_PLAYER_INPUT:
       HandlePlayerInput(packet, from);
       break;
+    case MessageType::MSG_UDP_ACK:
+      HandleAck(packet, from);
+      break;
     default:
       spdlog::debug("UDP 收到未处理消息类型 {}",
                     static_cast<int>(packet.msg_type()));
@@ -91,26 +222,290 @@ void UdpServer::HandlePlayerInput(const lawnmower::Packet& packet,
     return;
   }
 
+  bool resync = false;
+  uint32_t resync_since = 0;
   {
     std::lock_guard<std::mutex> lock(mutex_);
-    player_endpoints_[player_id] =
-        EndpointInfo{from, *room_opt, std::chrono::steady_clock::now()};
+    const auto now = Clock::now();
+    auto [it, inserted] = player_endpoints_.try_emplace(player_id);
+    EndpointInfo& info = it->second;
+    if (inserted || info.endpoint != from) {
+      if (!inserted) {
+        // 端点变化（漫游 / 新 socket）：客户端的可靠层是新的，换 epoch 让双方从头对齐
+        endpoint_players_.erase(info.endpoint);
+        ResetReliableState(info.rel);
+      }
+      info.endpoint = from;
+      endpoint_players_[from] = player_id;
+    }
+    info.room_id = *room_opt;
+    info.last_seen = now;
+    info.reliable = packet.seq() != 0;
+    if (info.reliable) {
+      ProcessAck(info.rel, packet, now);
+    }
+    if (RecordAppliedTick(info, packet, now)) {
+      resync_since = info.applied_tick;
+      resync = true;
+    }
   }
 
   uint32_t room_id = 0;
   if (!GameManager::Instance().HandlePlayerInput(player_id, input, &room_id)) {
     spdlog::debug("UDP 输入: player {} 未被受理", player_id);
   }
+  if (resync) {
+    GameManager::Instance().HandleBaselineResync(player_id, resync_since);
+  }
 }
 
-// UDP广播
-std::size_t UdpServer::BroadcastState(
-    uint32_t room_id, const lawnmower::S2C_GameStateSync& sync) {
-  const auto targets = EndpointsForRoom(room_id);
-  if (targets.empty()) {
+// 客户端的独立 ack：不带 player_id，按来源端点找回可靠状态
+void UdpServer::HandleAck(const lawnmower::Packet& packet,
+                          const udp::endpoint& from) {
+  uint32_t player_id = 0;
+  uint32_t resync_since = 0;
+  {
+    std::lock_guard<std::mutex> lock(mutex_);
+    const auto owner = endpoint_players_.find(from);
+    if (owner == endpoint_players_.end()) {
+      spdlog::debug("UDP ack 来自未登记端点 {}:{}",
+                    from.address().to_string(), from.port());
+      return;
+    }
+    const auto it = player_endpoints_.find(owner->second);
+    if (it == player_endpoints_.end()) {
+      return;
+    }
+    const auto now = Clock::now();
+    it->second.last_seen = now;
+    ProcessAck(it->second.rel, packet, now);
+    if (RecordAppliedTick(it->second, packet, now)) {
+      player_id = owner->second;
+      resync_since = it->second.applied_tick;
+    }
+  }
+  if (player_id != 0) {
+    GameManager::Instance().HandleBaselineResync(player_id, resync_since);
+  }
+}
+
+bool UdpServer::RecordAppliedTick(EndpointInfo& info,
+                                  const lawnmower::Packet& packet,
+                                  Clock::time_point now) {
+  // 乱序到达时可能回退，按更早的 tick 追帧只是多带一些实体，不影响正确性；
+  // 0 表示客户端已丢弃基线（新对局 / 重置世界），不能沿用旧值
+  info.applied_tick = packet.applied_tick();
+  if (!packet.baseline_resync() ||
+      (now - info.last_resync) < kMinResyncInterval) {
+    return false;
+  }
+  info.last_resync = now;
+  return true;
+}
+
+uint32_t UdpServer::AppliedTick(uint32_t player_id) const {
+  std::lock_guard<std::mutex> lock(mutex_);
+  const auto it = player_endpoints_.find(player_id);
+  if (it == player_endpoints_.end() || !it->second.reliable ||
+      (Clock::now() - it->second.last_seen) > kEndpointTtl) {
     return 0;
   }
+  return it->second.applied_tick;
+}
+
+// ack 为客户端收到的最大 seq，ack_bits 的位 i 表示 ack - 1 - i；
+// 命中的可靠数据报对应的消息移出待重传队列，首发即被确认的用于更新 RTT
+void UdpServer::ProcessAck(ReliableState& rel, const lawnmower::Packet& packet,
+                           Clock::time_point now) {
+  const uint32_t ack = packet.ack();
+  if (ack == 0) {
+    return;
+  }
+  const uint32_t bits = packet.ack_bits();
+  for (int i = -1; i < kAckBits; ++i) {
+    if (i >= 0 && (bits & (1u << i)) == 0) {
+      continue;
+    }
+    const uint32_t seq = i < 0 ? ack : ack - 1 - static_cast<uint32_t>(i);
+    SentDatagram& slot = rel.sent[seq % kSentHistory];
+    if (slot.seq != seq || !slot.reliable) {
+      continue;
+    }
+    slot.reliable = false;
+    if (!slot.retransmit) {
+      const double rtt_ms =
+          std::chrono::duration<double, std::milli>(now - slot.sent_at)
+              .count();
+      if (!rel.has_rtt) {
+        rel.has_rtt = true;
+        rel.srtt_ms = rtt_ms;
+        rel.rttvar_ms = rtt_ms / 2.0;
+      } else {
+        rel.rttvar_ms =
+            0.75 * rel.rttvar_ms + 0.25 * std::abs(rel.srtt_ms - rtt_ms);
+        rel.srtt_ms = 0.875 * rel.srtt_ms + 0.125 * rtt_ms;
+      }
+    }
+    const auto pending = std::find_if(
+        rel.pending.begin(), rel.pending.end(),
+        [&slot](const PendingReliable& p) {
+          return p.channel_seq == slot.channel_seq;
+        });
+    if (pending != rel.pending.end()) {
+      rel.pending.erase(pending);
+    }
+  }
+}
+
+// 换 epoch：未确认的消息按原顺序从 1 重新编号并立即重发；seq 继续递增，
+// 在途的旧 ack 不会误确认新数据报
+void UdpServer::ResetReliableState(ReliableState& rel) {
+  ++rel.epoch;
+  for (SentDatagram& slot : rel.sent) {
+    slot.reliable = false;
+  }
+  uint32_t channel_seq = 1;
+  for (PendingReliable& pending : rel.pending) {
+    pending.channel_seq = channel_seq++;
+    pending.last_sent = Clock::time_point{};
+  }
+  rel.next_ordered_seq = channel_seq;
+  rel.next_sequenced_seq = 1;
+  rel.has_rtt = false;
+  if (!rel.pending.empty()) {
+    SchedulePendingRetransmit();
+  }
+}
+
+std::shared_ptr<const std::string> UdpServer::NextHeader(
+    ReliableState& rel, lawnmower::UdpChannel channel, uint32_t channel_seq,
+    bool reliable, bool retransmit, Clock::time_point now) {
+  if (rel.next_seq == 0) {
+    rel.next_seq = 1;  // 0 表示“未收到”，回绕时跳过
+  }
+  const uint32_t seq = rel.next_seq++;
+  rel.sent[seq % kSentHistory] =
+      SentDatagram{seq, channel_seq, reliable, retransmit, now};
+  return BuildHeader(channel, seq, channel_seq, rel.epoch);
+}
+
+bool UdpServer::SendReliable(uint32_t player_id, lawnmower::MessageType type,
+                             const google::protobuf::Message& message) {
+  lawnmower::Packet packet;
+  packet.set_msg_type(type);
+  packet.set_payload(message.SerializeAsString());
+  std::shared_ptr<const std::string> body =
+      std::make_shared<std::string>(packet.SerializeAsString());
+
+  std::shared_ptr<const std::string> header;
+  udp::endpoint to;
+  {
+    std::lock_guard<std::mutex> lock(mutex_);
+    const auto it = player_endpoints_.find(player_id);
+    if (it == player_endpoints_.end() || !it->second.reliable) {
+      return false;
+    }
+    const auto now = Clock::now();
+    if ((now - it->second.last_seen) > kEndpointTtl) {
+      return false;
+    }
+    ReliableState& rel = it->second.rel;
+    if (rel.pending.size() >= kMaxPendingReliable) {
+      spdlog::debug("UDP 可靠消息积压 {} 条，player {} 改走 TCP",
+                    rel.pending.size(), player_id);
+      return false;
+    }
+    PendingReliable pending;
+    pending.channel_seq = rel.next_ordered_seq++;
+    pending.body = body;
+    pending.first_sent = now;
+    pending.last_sent = now;
+    pending.transmissions = 1;
+    header = NextHeader(rel, lawnmower::UDP_CHANNEL_RELIABLE_ORDERED,
+                        pending.channel_seq, true, false, now);
+    rel.pending.push_back(std::move(pending));
+    to = it->second.endpoint;
+    SchedulePendingRetransmit();
+  }
+  SendPacket(body, header, to);
+  return true;
+}
+
+void UdpServer::SchedulePendingRetransmit() {
+  if (retransmit_armed_) {
+    return;
+  }
+  retransmit_armed_ = true;
+  // 定时器只在 io 线程上操作；SendReliable 可能来自游戏逻辑线程
+  asio::post(io_context_, [this]() { ArmRetransmitTimer(); });
+}
+
+void UdpServer::ArmRetransmitTimer() {
+  retransmit_timer_.expires_after(kRetransmitTick);
+  retransmit_timer_.async_wait([this](const asio::error_code& ec) {
+    if (ec == asio::error::operation_aborted) {
+      return;
+    }
+    RetransmitDue();
+  });
+}
 
+// 逐个检查未确认的可靠消息，超过 RTO（srtt + 4 * rttvar，按重传次数指数退避）的换新 seq 重发
+void UdpServer::RetransmitDue() {
+  struct Resend {
+    std::shared_ptr<const std::string> body;
+    std::shared_ptr<const std::string> header;
+    udp::endpoint to;
+  };
+  std::vector<Resend> resends;
+  bool any_pending = false;
+  {
+    std::lock_guard<std::mutex> lock(mutex_);
+    const auto now = Clock::now();
+    for (auto& [player_id, info] : player_endpoints_) {
+      ReliableState& rel = info.rel;
+      if (rel.pending.empty()) {
+        continue;
+      }
+      any_pending = true;
+      const double base_rto_ms =
+          rel.has_rtt ? rel.srtt_ms + 4.0 * rel.rttvar_ms : kInitialRtoMs;
+      for (PendingReliable& pending : rel.pending) {
+        const uint32_t shift =
+            std::min(pending.transmissions - 1, kMaxRtoBackoffShift);
+        const double rto_ms =
+            std::clamp(base_rto_ms * static_cast<double>(1u << shift),
+                       kMinRtoMs, kMaxRtoMs);
+        if (std::chrono::duration<double, std::milli>(now - pending.last_sent)
+                .count() < rto_ms) {
+          continue;
+        }
+        pending.last_sent = now;
+        ++pending.transmissions;
+        resends.push_back(Resend{
+            pending.body,
+            NextHeader(rel, lawnmower::UDP_CHANNEL_RELIABLE_ORDERED,
+                       pending.channel_seq, true, true, now),
+            info.endpoint});
+      }
+    }
+    retransmit_armed_ = any_pending;
+  }
+  if (spdlog::should_log(spdlog::level::debug) && !resends.empty()) {
+    spdlog::debug("UDP 可靠层重传 {} 个数据报", resends.size());
+  }
+  for (const auto& resend : resends) {
+    SendPacket(resend.body, resend.header, resend.to);
+  }
+  if (any_pending) {
+    ArmRetransmitTimer();
+  }
+}
+
+// UDP广播
+std::size_t UdpServer::BroadcastState(
+    uint32_t room_id, const lawnmower::S2C_GameStateSync& sync,
+    const std::unordered_set<uint32_t>& excluded) {
   lawnmower::Packet packet;
   packet.set_msg_type(lawnmower::MessageType::MSG_S2C_GAME_STATE_SYNC);
   packet.set_payload(sync.SerializeAsString());
@@ -118,25 +513,44 @@ std::size_t UdpServer::BroadcastState(
   std::shared_ptr<const std::string> data =
       std::make_shared<std::string>(packet.SerializeAsString());
 
-  if (spdlog::should_log(spdlog::level::debug)) {
-    spdlog::debug("UDP 广播房间 {} 状态，players={} enemies={}，目标端点 {}",
-                  room_id, sync.players_size(), sync.enemies_size(),
-                  targets.size());
-  }
-  for (const auto& endpoint : targets) {
-    SendPacket(data, endpoint);
+  if (data->size() <= kMaxDatagramBytes) {
+    const std::size_t sent = BroadcastSequenced(room_id, data, excluded);
+    if (sent > 0 && spdlog::should_log(spdlog::level::debug)) {
+      spdlog::debug("UDP 广播房间 {} 状态，players={} enemies={}，目标端点 {}",
+                    room_id, sync.players_size(), sync.enemies_size(), sent);
+    }
+    return sent;
   }
 
+  // 超过单个数据报：带可靠层头部的客户端按各自优先级拆分，各部分共用同一个
+  // sequenced 头部（同一 channel_seq）；旧客户端仍整包发送
+  const auto targets = TargetsForRoom(room_id, excluded);
+  std::size_t parts_sent = 0;
+  for (const auto& target : targets) {
+    if (!target.header) {
+      SendPacket(data, target.endpoint);
+      continue;
+    }
+    for (const auto& part : SplitSnapshot(sync, target.player_id)) {
+      lawnmower::Packet part_packet;
+      part_packet.set_msg_type(lawnmower::MessageType::MSG_S2C_GAME_STATE_SYNC);
+      part_packet.set_payload(part.SerializeAsString());
+      SendPacket(std::make_shared<std::string>(part_packet.SerializeAsString()),
+                 target.header, target.endpoint);
+      ++parts_sent;
+    }
+  }
+  if (!targets.empty() && spdlog::should_log(spdlog::level::debug)) {
+    spdlog::debug(
+        "UDP 广播房间 {} 状态 {} bytes，拆分为 {} 个部分，目标端点 {}", room_id,
+        data->size(), parts_sent, targets.size());
+  }
   return targets.size();
 }
 
 std::size_t UdpServer::BroadcastDeltaState(
-    uint32_t room_id, const lawnmower::S2C_GameStateDeltaSync& sync) {
-  const auto targets = EndpointsForRoom(room_id);
-  if (targets.empty()) {
-    return 0;
-  }
-
+    uint32_t room_id, const lawnmower::S2C_GameStateDeltaSync& sync,
+    const std::unordered_set<uint32_t>& excluded) {
   lawnmower::Packet packet;
   packet.set_msg_type(lawnmower::MessageType::MSG_S2C_GAME_STATE_DELTA_SYNC);
   packet.set_payload(sync.SerializeAsString());
@@ -144,49 +558,113 @@ std::size_t UdpServer::BroadcastDeltaState(
   std::shared_ptr<const std::string> data =
       std::make_shared<std::string>(packet.SerializeAsString());
 
-  if (spdlog::should_log(spdlog::level::debug)) {
+  const std::size_t sent = BroadcastSequenced(room_id, data, excluded);
+  if (sent > 0 && spdlog::should_log(spdlog::level::debug)) {
     spdlog::debug(
         "UDP 广播房间 {} 状态增量，players={} enemies={} items={}，目标端点 {}",
         room_id, sync.players_size(), sync.enemies_size(), sync.items_size(),
-        targets.size());
-  }
-  for (const auto& endpoint : targets) {
-    SendPacket(data, endpoint);
+        sent);
   }
+  return sent;
+}
 
+// 全量 / 增量同步共用一个 unreliable-sequenced 通道：客户端只接受比已收到的更新的一份
+std::size_t UdpServer::BroadcastSequenced(
+    uint32_t room_id, const std::shared_ptr<const std::string>& body,
+    const std::unordered_set<uint32_t>& excluded) {
+  const auto targets = TargetsForRoom(room_id, excluded);
+  for (const auto& target : targets) {
+    SendPacket(body, target.header, target.endpoint);
+  }
   return targets.size();
 }
 
-std::vector<udp::endpoint> UdpServer::EndpointsForRoom(uint32_t room_id) {
-  const auto now = std::chrono::steady_clock::now();
-  std::vector<udp::endpoint> endpoints;
+bool UdpServer::SendSequenced(uint32_t player_id, lawnmower::MessageType type,
+                              const google::protobuf::Message& message) {
+  lawnmower::Packet packet;
+  packet.set_msg_type(type);
+  packet.set_payload(message.SerializeAsString());
+  std::shared_ptr<const std::string> body =
+      std::make_shared<std::string>(packet.SerializeAsString());
+
+  std::shared_ptr<const std::string> header;
+  udp::endpoint to;
+  {
+    std::lock_guard<std::mutex> lock(mutex_);
+    const auto it = player_endpoints_.find(player_id);
+    if (it == player_endpoints_.end()) {
+      return false;
+    }
+    const auto now = Clock::now();
+    if ((now - it->second.last_seen) > kEndpointTtl) {
+      return false;
+    }
+    EndpointInfo& info = it->second;
+    if (info.reliable) {
+      header =
+          NextHeader(info.rel, lawnmower::UDP_CHANNEL_UNRELIABLE_SEQUENCED,
+                     info.rel.next_sequenced_seq++, false, false, now);
+    } else if (body->size() > kMaxDatagramBytes) {
+      return false;  // 旧客户端不做应用层分片
+    }
+    to = info.endpoint;
+  }
+  SendPacket(body, header, to);
+  return true;
+}
+
+std::vector<UdpServer::SendTarget> UdpServer::TargetsForRoom(
+    uint32_t room_id, const std::unordered_set<uint32_t>& excluded) {
+  const auto now = Clock::now();
+  std::vector<SendTarget> targets;
 
   std::lock_guard<std::mutex> lock(mutex_);
-  endpoints.reserve(player_endpoints_.size());
+  targets.reserve(player_endpoints_.size());
   for (auto it = player_endpoints_.begin(); it != player_endpoints_.end();) {
     const bool expired = (now - it->second.last_seen) > kEndpointTtl;
     if (expired) {
+      endpoint_players_.erase(it->second.endpoint);
       it = player_endpoints_.erase(it);
       continue;
     }
-    if (it->second.room_id == room_id) {
-      endpoints.push_back(it->second.endpoint);
+    EndpointInfo& info = it->second;
+    if (info.room_id == room_id && excluded.count(it->first) == 0) {
+      SendTarget target{info.endpoint, it->first, nullptr};
+      if (info.reliable) {
+        target.header =
+            NextHeader(info.rel, lawnmower::UDP_CHANNEL_UNRELIABLE_SEQUENCED,
+                       info.rel.next_sequenced_seq++, false, false, now);
+      }
+      targets.push_back(std::move(target));
     }
     ++it;
   }
 
-  return endpoints;
+  return targets;
+}
+
+void UdpServer::SendPacket(const std::shared_ptr<const std::string>& data,
+                           const udp::endpoint& to) {
+  SendPacket(data, nullptr, to);
 }
 
 void UdpServer::SendPacket(const std::shared_ptr<const std::string>& data,
+                           const std::shared_ptr<const std::string>& header,
                            const udp::endpoint& to) {
   if (!data || data->empty()) {
     return;
   }
+  if (header && data->size() + header->size() > kMaxDatagramBytes) {
+    SendFragmented(*data, *header, to);
+    return;
+  }
 
+  const std::array<asio::const_buffer, 2> buffers{
+      asio::buffer(*data),
+      header ? asio::buffer(*header) : asio::const_buffer()};
   socket_.async_send_to(
-      asio::buffer(*data), to,
-      [data, to](const asio::error_code& ec, std::size_t bytes) {
+      buffers, to,
+      [data, header, to](const asio::error_code& ec, std::size_t bytes) {
         if (ec == asio::error::operation_aborted) {
           return;
         }
@@ -202,3 +680,32 @@ void UdpServer::SendPacket(const std::shared_ptr<const std::string>& data,
         }
       });
 }
+
+// 把 body + header 拼成原数据报后切片发送；客户端收齐后按原数据报解析。
+// 分片本身不带可靠层头部，任一片丢失即整个数据报丢失，由可靠层重传或下一次同步覆盖
+void UdpServer::SendFragmented(const std::string& body,
+                               const std::string& header,
+                               const udp::endpoint& to) {
+  std::string whole;
+  whole.reserve(body.size() + header.size());
+  whole.append(body).append(header);
+  const std::size_t count =
+      (whole.size() + kFragmentPayloadBytes - 1) / kFragmentPayloadBytes;
+  if (count > kMaxFragments) {
+    spdlog::warn("UDP 数据报 {} bytes 超过分片上限，交由 IP 层分片",
+                 whole.size());
+    SendPacket(std::make_shared<std::string>(std::move(whole)), to);
+    return;
+  }
+  const uint32_t fragment_id = next_fragment_id_.fetch_add(1);
+  for (std::size_t i = 0; i < count; ++i) {
+    lawnmower::Packet fragment;
+    fragment.set_msg_type(lawnmower::MessageType::MSG_UDP_FRAGMENT);
+    fragment.set_payload(whole.substr(i * kFragmentPayloadBytes,
+                                      kFragmentPayloadBytes));
+    fragment.set_fragment_id(fragment_id);
+    fragment.set_fragment_index(static_cast<uint32_t>(i));
+    fragment.set_fragment_count(static_cast<uint32_t>(count));
+    SendPacket(std::make_shared<std::string>(fragment.SerializeAsString()), to);
+  }
+}